@@ -0,0 +1,84 @@
+package de.wwu.muggl.bench;
+
+import org.apache.log4j.Level;
+
+import de.wwu.muggl.configuration.Globals;
+import de.wwu.muggl.vm.Application;
+import de.wwu.muggl.vm.classfile.ClassFile;
+import de.wwu.muggl.vm.classfile.ClassFileException;
+import de.wwu.muggl.vm.classfile.structures.Method;
+import de.wwu.muggl.vm.initialization.InitializationException;
+import de.wwu.muggl.vm.loading.MugglClassLoader;
+
+/**
+ * Helpers shared by the benchmarks. The benchmarks are run with the directory of muggl-core as the
+ * working directory, so the system classes and the configuration are found just like in the tests.
+ * The classes executed are found on the class path of the benchmarks.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+final class BenchmarkSupport {
+	/**
+	 * The class path entries of the class loaders of the benchmarks.
+	 */
+	static final String[] CLASS_PATH_ENTRIES = new String[] { "./system-classes/", "./junit-res/" };
+
+	/**
+	 * Private constructor.
+	 */
+	private BenchmarkSupport() { }
+
+	/**
+	 * Reduce the logging to errors, so it does not distort the measurements.
+	 */
+	static void reduceLogging() {
+		Globals.getInst().changeLogLevel(Level.ERROR);
+		Globals.getInst().parserLogger.setLevel(Level.ERROR);
+		Globals.getInst().symbolicExecLogger.setLevel(Level.ERROR);
+	}
+
+	/**
+	 * Execute a method in a new application and wait for it to finish. Whether it is executed
+	 * concretely or symbolically depends on the options. The application is finalized afterwards,
+	 * dropping the initialized classes but keeping the parsed ones cached by the class loader.
+	 *
+	 * @param classLoader The class loader.
+	 * @param target The method, given as the qualified name of its class, a dot, its name and
+	 *        its descriptor, e.g. <code>test.papers.P2010.gcd(II)I</code>.
+	 * @param parameters The parameters of the method. They are not set if this is null.
+	 * @return The application after the execution.
+	 * @throws ClassFileException On fatal errors loading or parsing a class file.
+	 * @throws InitializationException If initialization of auxiliary classes fails.
+	 * @throws InterruptedException If waiting for the execution is interrupted.
+	 * @throws IllegalStateException If the execution did not finish successfully.
+	 */
+	static Application execute(MugglClassLoader classLoader, String target, Object[] parameters)
+			throws ClassFileException, InitializationException, InterruptedException {
+		int descriptorStart = target.indexOf('(');
+		int nameStart = target.lastIndexOf('.', descriptorStart);
+		String className = target.substring(0, nameStart);
+		String methodName = target.substring(nameStart + 1, descriptorStart);
+		String descriptor = target.substring(descriptorStart);
+
+		ClassFile classFile = classLoader.getClassAsClassFile(className);
+		Method method = classFile.getMethodByNameAndDescriptor(methodName, descriptor);
+		Application application = new Application(classLoader, classFile.getName(), method);
+		if (parameters != null) method.setPredefinedParameters(parameters);
+		application.start();
+
+		// Poll with the smaller delay, as it is included in the measurement.
+		while (!application.getExecutionFinished()) {
+			Thread.sleep(Globals.REDUCE_SAFETY_SLEEP_DELAY);
+		}
+		if (application.errorOccured()) {
+			String error = application.fetchError();
+			application.finalizeApplication();
+			throw new IllegalStateException("Execution of " + className + "." + methodName
+					+ " did not finish successfully. The reason is:\n" + error);
+		}
+		application.finalizeApplication();
+		return application;
+	}
+
+}
@@ -0,0 +1,119 @@
+package de.wwu.muggl.bench;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.wwu.muggl.vm.classfile.ClassFile;
+import de.wwu.muggl.vm.classfile.structures.Method;
+import de.wwu.muggl.vm.classfile.structures.attributes.AttributeCode;
+import de.wwu.muggl.vm.loading.MugglClassLoader;
+
+/**
+ * Benchmark of parsing class files. The bytes of the class are read once; each invocation parses
+ * them into a new ClassFile, so neither the file system nor the caches of the class loader are
+ * involved. As the code of methods is parsed when it is requested first, the class is parsed once
+ * without and once with the code of its methods.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ClassFileParsingBenchmark {
+	/**
+	 * The qualified name of the class to parse. It is looked up on the class path of the
+	 * benchmarks.
+	 */
+	@Param({
+		"java.lang.String",
+		"java.util.HashMap",
+		"java.util.concurrent.ConcurrentHashMap",
+		"test.papers.Paper200809"
+	})
+	public String className;
+
+	// The class loader the class files are parsed for.
+	private MugglClassLoader classLoader;
+	// The path and the bytes of the class.
+	private String path;
+	private byte[] bytes;
+
+	/**
+	 * Read the bytes of the class.
+	 *
+	 * @throws IOException If the class cannot be read.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		BenchmarkSupport.reduceLogging();
+		this.classLoader = new MugglClassLoader(BenchmarkSupport.CLASS_PATH_ENTRIES);
+		this.path = this.className.replace('.', '/') + ".class";
+		try (InputStream in = ClassLoader.getSystemResourceAsStream(this.path)) {
+			if (in == null) throw new IOException("Class " + this.className + " cannot be found.");
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				out.write(buffer, 0, read);
+			}
+			this.bytes = out.toByteArray();
+		}
+	}
+
+	/**
+	 * Parse the class.
+	 *
+	 * @return The parsed class.
+	 * @throws Exception If parsing fails.
+	 */
+	@Benchmark
+	public ClassFile parse() throws Exception {
+		return new ClassFile(this.classLoader, ByteBuffer.wrap(this.bytes), this.path);
+	}
+
+	/**
+	 * Parse the class and the code of its methods, including the attributes of the code.
+	 *
+	 * @return The parsed class.
+	 * @throws Exception If parsing fails.
+	 */
+	@Benchmark
+	public ClassFile parseWithCode() throws Exception {
+		ClassFile classFile = new ClassFile(this.classLoader, ByteBuffer.wrap(this.bytes), this.path);
+		for (Method method : classFile.getMethods()) {
+			AttributeCode codeAttribute = method.getCodeAttribute();
+			if (codeAttribute != null) codeAttribute.getCode();
+		}
+		return classFile;
+	}
+
+	/**
+	 * Close the class loader.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.classLoader.close();
+	}
+
+}
@@ -0,0 +1,106 @@
+package de.wwu.muggl.bench;
+
+import java.util.Stack;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.wwu.muggl.vm.OperandStack;
+
+/**
+ * Benchmark of the OperandStack against the synchronized java.util.Stack it replaced. It
+ * simulates the operand stack of a frame executing arithmetic: two values are pushed and replaced
+ * by their sum, up to the maximum depth, and the stack is emptied again. The values are outside
+ * of the cache of java.lang.Integer, so boxing them allocates. The java.util.Stack and the
+ * generic methods of the OperandStack box every value, while its typed methods do not.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class OperandStackBenchmark {
+	// The first value pushed, beyond the values cached by java.lang.Integer.
+	private static final int FIRST_VALUE = 1000;
+
+	/**
+	 * The maximum depth of the operand stack.
+	 */
+	@Param({ "4", "16" })
+	public int maxStack;
+
+	// The stacks, allocated once like the stack of a frame executing a loop.
+	private final Stack<Object> stack = new Stack<Object>();
+	private final OperandStack operandStack = new OperandStack(16);
+
+	/**
+	 * Compute on a java.util.Stack.
+	 *
+	 * @return The value left on the stack.
+	 */
+	@Benchmark
+	public int stack() {
+		for (int a = 0; a < this.maxStack; a++) {
+			this.stack.push(FIRST_VALUE + a);
+			this.stack.push(FIRST_VALUE);
+			this.stack.push((Integer) this.stack.pop() + (Integer) this.stack.pop());
+		}
+		int sum = 0;
+		while (!this.stack.isEmpty()) {
+			sum += (Integer) this.stack.pop();
+		}
+		return sum;
+	}
+
+	/**
+	 * Compute on an OperandStack using its generic methods, which box the values.
+	 *
+	 * @return The value left on the stack.
+	 */
+	@Benchmark
+	public int operandStackBoxed() {
+		for (int a = 0; a < this.maxStack; a++) {
+			this.operandStack.push(FIRST_VALUE + a);
+			this.operandStack.push(FIRST_VALUE);
+			this.operandStack.push((Integer) this.operandStack.pop() + (Integer) this.operandStack.pop());
+		}
+		int sum = 0;
+		while (!this.operandStack.isEmpty()) {
+			sum += (Integer) this.operandStack.pop();
+		}
+		return sum;
+	}
+
+	/**
+	 * Compute on an OperandStack using its typed methods, like the iadd instruction does.
+	 *
+	 * @return The value left on the stack.
+	 */
+	@Benchmark
+	public int operandStackTyped() {
+		for (int a = 0; a < this.maxStack; a++) {
+			this.operandStack.pushInt(FIRST_VALUE + a);
+			this.operandStack.pushInt(FIRST_VALUE);
+			this.operandStack.pushInt(this.operandStack.popInt() + this.operandStack.popInt());
+		}
+		int sum = 0;
+		while (!this.operandStack.isEmpty()) {
+			sum += this.operandStack.popInt();
+		}
+		return sum;
+	}
+
+}
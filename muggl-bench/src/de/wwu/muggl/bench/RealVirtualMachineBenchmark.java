@@ -0,0 +1,81 @@
+package de.wwu.muggl.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.wwu.muggl.configuration.Options;
+import de.wwu.muggl.vm.loading.MugglClassLoader;
+
+/**
+ * Benchmark of the concrete execution in the RealVirtualMachine. It executes methods of the
+ * binary test suite of muggl-core. The class loader is shared by all invocations of a trial, so
+ * the classes are parsed once only; the initialization of the classes and the execution are
+ * measured.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class RealVirtualMachineBenchmark {
+	/**
+	 * The method to execute.
+	 */
+	@Param({
+		"de.wwu.muggl.binaryTestSuite.StringHandling.StringHashCodeStable()Z",
+		"de.wwu.muggl.binaryTestSuite.ArrayListComponents.testArrayListGrow()I",
+		"de.wwu.muggl.binaryTestSuite.Boxing.boxint()Ljava/lang/String;",
+		"de.wwu.muggl.binaryTestSuite.HashMapTest.test_HashMap()Ljava/lang/String;"
+	})
+	public String target;
+
+	// The class loader shared by the invocations.
+	private MugglClassLoader classLoader;
+
+	/**
+	 * Set up the class loader and the options for the concrete execution.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		BenchmarkSupport.reduceLogging();
+		Options.getInst().symbolicMode = false;
+		this.classLoader = new MugglClassLoader(BenchmarkSupport.CLASS_PATH_ENTRIES);
+	}
+
+	/**
+	 * Execute the method.
+	 *
+	 * @return The object returned by the method.
+	 * @throws Exception If the execution fails.
+	 */
+	@Benchmark
+	public Object execute() throws Exception {
+		return BenchmarkSupport.execute(this.classLoader, this.target, null).getReturnedObject();
+	}
+
+	/**
+	 * Close the class loader.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.classLoader.close();
+	}
+
+}
@@ -0,0 +1,110 @@
+package de.wwu.muggl.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.wwu.muggl.solvers.SolverManager;
+import de.wwu.muggl.solvers.expressions.ConstraintExpression;
+import de.wwu.testtool.test.Constant;
+import de.wwu.testtool.test.DiplomaThesisProblems;
+import de.wwu.testtool.test.IneqType;
+import de.wwu.testtool.test.Variable;
+
+/**
+ * Benchmark of the solver managers on the random linear problems of the diploma thesis problems.
+ * Each invocation adds the constraints one by one and checks for a solution after each, as the
+ * symbolic execution does when descending into a branch, and then removes them again as when
+ * backtracking. The problems are generated with a fixed seed, so they are the same for each run.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SolverManagerBenchmark {
+	/**
+	 * The qualified name of the solver manager.
+	 */
+	@Param({
+		"de.wwu.testtool.solver.SolverManagerNew",
+		"de.wwu.muggl.solvers.jacop.JaCoPSolverManager"
+	})
+	public String solverManager;
+
+	/**
+	 * The type of the variables of the problem: INT for mixed integer linear arithmetic, DOUBLE
+	 * for linear arithmetic.
+	 */
+	@Param({ "INT", "DOUBLE" })
+	public Variable variableType;
+
+	/**
+	 * The number of constraints of the problem.
+	 */
+	@Param({ "20" })
+	public int constraintCount;
+
+	/**
+	 * The maximum number of variables in a constraint.
+	 */
+	@Param({ "6" })
+	public int constraintLength;
+
+	// The constraints of the problem.
+	private List<ConstraintExpression> constraints;
+
+	/**
+	 * Generate the problem.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		BenchmarkSupport.reduceLogging();
+		DiplomaThesisProblems problems = new DiplomaThesisProblems(this.constraintCount,
+				this.constraintLength, 2L);
+		this.constraints = problems.getRandomConstraintExpressionProblem(Constant.INT,
+				this.variableType, IneqType.WEAK);
+	}
+
+	/**
+	 * Solve the problem incrementally.
+	 *
+	 * @return The number of prefixes of the constraints that have a solution.
+	 * @throws Throwable If solving fails or the solver manager cannot be instantiated.
+	 */
+	@Benchmark
+	public int solve() throws Throwable {
+		SolverManager manager = (SolverManager) Class.forName(this.solverManager)
+				.getDeclaredConstructor().newInstance();
+		try {
+			int solvable = 0;
+			for (ConstraintExpression constraint : this.constraints) {
+				manager.addConstraint(constraint);
+				if (manager.hasSolution()) solvable++;
+			}
+			for (int a = 0; a < this.constraints.size(); a++) {
+				manager.removeConstraint();
+			}
+			return solvable;
+		} finally {
+			manager.shutdown();
+		}
+	}
+
+}
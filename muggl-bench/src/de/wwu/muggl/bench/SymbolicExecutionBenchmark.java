@@ -0,0 +1,123 @@
+package de.wwu.muggl.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.wwu.muggl.configuration.Options;
+import de.wwu.muggl.vm.Application;
+import de.wwu.muggl.vm.classfile.structures.UndefinedValue;
+import de.wwu.muggl.vm.impl.symbolic.SymbolicVirtualMachine;
+import de.wwu.muggl.vm.loading.MugglClassLoader;
+
+/**
+ * Benchmark of the symbolic execution, including the search, the solver and the generation of
+ * test cases. It explores the methods of the papers in the test sources of muggl-swt, with all
+ * parameters undefined. The execution time is limited by the options, so a search that does not
+ * finish is still measured reproducibly; the number of solutions found is returned to tell such
+ * runs apart.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SymbolicExecutionBenchmark {
+	/**
+	 * The method to explore.
+	 */
+	@Param({
+		"test.papers.P2010.gcd(II)I",
+		"test.papers.Paper200809.gcd2(II)I",
+		"test.papers.Paper200809.binSearch(I[I)I",
+		"test.papers.Paper200809.mergesort([I)V"
+	})
+	public String target;
+
+	/**
+	 * The search algorithm, as in the options: 1 for depth first, 2 for iterative deepening.
+	 */
+	@Param({ "1", "2" })
+	public int searchAlgorithm;
+
+	/**
+	 * The qualified name of the solver manager.
+	 */
+	@Param({ "de.wwu.muggl.solvers.jacop.JaCoPSolverManager" })
+	public String solverManager;
+
+	// The class loader shared by the invocations.
+	private MugglClassLoader classLoader;
+	// The number of parameters of the method.
+	private int numberOfParameters;
+
+	/**
+	 * Set up the class loader and the options for the symbolic execution. The test cases are
+	 * written to a temporary directory.
+	 *
+	 * @throws IOException If the temporary directory cannot be created.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		BenchmarkSupport.reduceLogging();
+		Options options = Options.getInst();
+		options.symbolicMode = true;
+		options.searchAlgorithm = this.searchAlgorithm;
+		options.solverManager = this.solverManager;
+		options.maximumExecutionTime = 30L;
+		options.metricsExportFile = "";
+		File directory = Files.createTempDirectory("muggl-bench").toFile();
+		directory.deleteOnExit();
+		options.testClassesDirectory = directory.getPath();
+		this.classLoader = new MugglClassLoader(BenchmarkSupport.CLASS_PATH_ENTRIES);
+
+		String parameterDescriptors = this.target.substring(this.target.indexOf('(') + 1,
+				this.target.indexOf(')'));
+		this.numberOfParameters = parameterDescriptors.replaceAll("\\[*(L[^;]*;|[BCDFIJSZ])", "P").length();
+	}
+
+	/**
+	 * Explore the method.
+	 *
+	 * @return The number of solutions found.
+	 * @throws Exception If the execution fails.
+	 */
+	@Benchmark
+	public long explore() throws Exception {
+		Object[] parameters = new Object[this.numberOfParameters];
+		for (int a = 0; a < parameters.length; a++) {
+			parameters[a] = new UndefinedValue();
+		}
+		Application application = BenchmarkSupport.execute(this.classLoader, this.target, parameters);
+		SymbolicVirtualMachine virtualMachine = (SymbolicVirtualMachine) application.getVirtualMachine();
+		return virtualMachine.getMetrics().counter("search.solutionsFound").get();
+	}
+
+	/**
+	 * Close the class loader.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.classLoader.close();
+	}
+
+}
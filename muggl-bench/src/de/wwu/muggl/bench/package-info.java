@@ -0,0 +1,7 @@
+/**
+ * Provides the JMH benchmarks of Muggl: parsing class files, the concrete and the symbolic
+ * execution, the solver managers and the operand stack. Run them with <code>gradle jmh</code>
+ * from the root project; the results are written to
+ * <code>muggl-bench/build/reports/jmh/results.json</code> for tracking regressions.
+ */
+package de.wwu.muggl.bench;
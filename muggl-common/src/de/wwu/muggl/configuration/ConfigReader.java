@@ -287,6 +287,8 @@ public class ConfigReader {
 				options.iterativeDeepeningStartingDepth = loadDefaultValues ? Integer.parseInt(defaultValue) : Integer.parseInt(value);
 			} else if (name.equals("iterativeDeepeningDeepnessIncrement")) {
 				options.iterativeDeepeningDeepnessIncrement = loadDefaultValues ? Integer.parseInt(defaultValue) : Integer.parseInt(value);
+			} else if (name.equals("iterativeDeepeningMaximumFrontierNodes")) {
+				options.iterativeDeepeningMaximumFrontierNodes = loadDefaultValues ? Integer.parseInt(defaultValue) : Integer.parseInt(value);
 			} else if (name.equals("doNotHaltOnNativeMethods")) {
 				options.doNotHaltOnNativeMethods = loadDefaultValues ? Boolean.parseBoolean(defaultValue) : Boolean.parseBoolean(value);
 			} else if (name.equals("assumeNativeReturnValuesToBeZeroNull")) {
@@ -319,6 +321,14 @@ public class ConfigReader {
 				}
 			} else if (name.equals("measureSymbolicExecutionTime")) {
 				options.measureSymbolicExecutionTime = loadDefaultValues ? Boolean.parseBoolean(defaultValue) : Boolean.parseBoolean(value);
+			} else if (name.equals("recordFlightRecorderEvents")) {
+				options.recordFlightRecorderEvents = loadDefaultValues ? Boolean.parseBoolean(defaultValue) : Boolean.parseBoolean(value);
+			} else if (name.equals("executionEventRingBufferSize")) {
+				options.executionEventRingBufferSize = loadDefaultValues ? Integer.parseInt(defaultValue) : Integer.parseInt(value);
+			} else if (name.equals("metricsExportFile")) {
+				options.metricsExportFile = loadDefaultValues ? defaultValue : value;
+			} else if (name.equals("metricsSamplingInterval")) {
+				options.metricsSamplingInterval = loadDefaultValues ? Integer.parseInt(defaultValue) : Integer.parseInt(value);
 			} else if (name.equals("hideDrivesAB")) {
 				options.hideDrivesAB = loadDefaultValues ? Boolean.parseBoolean(defaultValue) : Boolean.parseBoolean(value);
 			} else if (name.equals("doNotClearClassLoaderCache")) {
@@ -327,6 +337,8 @@ public class ConfigReader {
 				options.maximumClassLoaderCacheEntries = loadDefaultValues ? Long.parseLong(defaultValue) : Long.parseLong(value);
 			} else if (name.equals("maximumClassLoaderCacheByteSize")) {
 				options.maximumClassLoaderCacheBytes = loadDefaultValues ? Long.parseLong(defaultValue) : Long.parseLong(value);
+			} else if (name.equals("reuseUniverseSnapshot")) {
+				options.reuseUniverseSnapshot = loadDefaultValues ? Boolean.parseBoolean(defaultValue) : Boolean.parseBoolean(value);
 			} else if (name.equals("useDefUseCoverage")) {
 				options.useDUCoverage = loadDefaultValues ? Boolean.parseBoolean(defaultValue) : Boolean.parseBoolean(value);
 			} else if (name.equals("useControlFlowCoverage")) {
@@ -337,6 +349,8 @@ public class ConfigReader {
 				options.coverageAbortionCriteria = loadDefaultValues ? Integer.parseInt(defaultValue) : Integer.parseInt(value);
 			} else if (name.equals("eliminateSolutionsByCoverage")) {
 				options.eliminateSolutionsByCoverage = loadDefaultValues ? Integer.parseInt(defaultValue) : Integer.parseInt(value);
+			} else if (name.equals("eliminateSolutionsIncrementally")) {
+				options.eliminateSolutionsIncrementally = loadDefaultValues ? Boolean.parseBoolean(defaultValue) : Boolean.parseBoolean(value);
 			} else if (name.equals("numberOfRecentFiles")) {
 				options.numberOfRecentFiles = loadDefaultValues ? Integer.parseInt(defaultValue) : Integer.parseInt(value);
 			} else if (name.equals("classFileWriteAccess")) {
@@ -507,6 +521,7 @@ public class ConfigReader {
 			out.write(generateNewEntry("symbolicSearchAlgorithm", String.valueOf(options.searchAlgorithm), String.valueOf(Defaults.SEARCH_ALGORITHM)));
 			out.write(generateNewEntry("iterativeDeepeningStartingDepth", String.valueOf(options.iterativeDeepeningStartingDepth), String.valueOf(Defaults.ITERATIVE_DEEPENING_STARTING_DEPTH)));
 			out.write(generateNewEntry("iterativeDeepeningDeepnessIncrement", String.valueOf(options.iterativeDeepeningDeepnessIncrement), String.valueOf(Defaults.ITERATIVE_DEEPENING_DEEPNESS_INCREMENT)));
+			out.write(generateNewEntry("iterativeDeepeningMaximumFrontierNodes", String.valueOf(options.iterativeDeepeningMaximumFrontierNodes), String.valueOf(Defaults.ITERATIVE_DEEPENING_MAXIMUM_FRONTIER_NODES)));
 			out.write(generateNewEntry("doNotHaltOnNativeMethods", String.valueOf(options.doNotHaltOnNativeMethods), String.valueOf(Defaults.DO_NOT_HALT_ON_NATIVE_METHODS)));
 			out.write(generateNewEntry("assumeNativeReturnValuesToBeZeroNull", String.valueOf(options.assumeNativeReturnValuesToBeZeroNull), String.valueOf(Defaults.ASSUME_NATIVE_RETURN_VALUES_TO_BE_ZERO_NULL)));
 			out.write(generateNewEntry("forwardJavaPackageNativeInvocations", String.valueOf(options.forwardJavaPackageNativeInvoc), String.valueOf(Defaults.FORWARD_JAVA_PACKAGE_NATIVE_INVOC)));
@@ -521,15 +536,21 @@ public class ConfigReader {
 			out.write(generateNewEntry("maximumLogEntries", String.valueOf(options.maximumLogEntries), String.valueOf(Defaults.MAX_LOG_ENTRIES)));
 			out.write(generateNewEntry("htmlLogging", String.valueOf(options.getHtmlLogging()), String.valueOf(Defaults.HTML_LOGGING)));
 			out.write(generateNewEntry("measureSymbolicExecutionTime", String.valueOf(options.measureSymbolicExecutionTime), String.valueOf(Defaults.MEASURE_SYMBOLIC_EXECUTION_TIME)));
+			out.write(generateNewEntry("recordFlightRecorderEvents", String.valueOf(options.recordFlightRecorderEvents), String.valueOf(Defaults.RECORD_FLIGHT_RECORDER_EVENTS)));
+			out.write(generateNewEntry("executionEventRingBufferSize", String.valueOf(options.executionEventRingBufferSize), String.valueOf(Defaults.EXECUTION_EVENT_RING_BUFFER_SIZE)));
+			out.write(generateNewEntry("metricsExportFile", options.metricsExportFile, Defaults.METRICS_EXPORT_FILE));
+			out.write(generateNewEntry("metricsSamplingInterval", String.valueOf(options.metricsSamplingInterval), String.valueOf(Defaults.METRICS_SAMPLING_INTERVAL)));
 			out.write(generateNewEntry("hideDrivesAB", String.valueOf(options.hideDrivesAB), String.valueOf(Defaults.HIDE_DRIVES_AB)));
 			out.write(generateNewEntry("doNotClearClassLoaderCache", String.valueOf(options.doNotClearClassLoaderCache), String.valueOf(Defaults.DO_NOT_CLEAR_CLASSLOADER_CACHE)));
 			out.write(generateNewEntry("maximumClassLoaderCacheEntries", String.valueOf(options.maximumClassLoaderCacheEntries), String.valueOf(Defaults.MAX_CLASSLOADER_CACHE_ENTRIES)));
 			out.write(generateNewEntry("maximumClassLoaderCacheByteSize", String.valueOf(options.maximumClassLoaderCacheBytes), String.valueOf(Defaults.MAX_CLASSLOADER_CACHE_BYTES)));
+			out.write(generateNewEntry("reuseUniverseSnapshot", String.valueOf(options.reuseUniverseSnapshot), String.valueOf(Defaults.REUSE_UNIVERSE_SNAPSHOT)));
 			out.write(generateNewEntry("useDefUseCoverage", String.valueOf(options.useDUCoverage), String.valueOf(Defaults.USE_DU_COVERAGE)));
 			out.write(generateNewEntry("useControlFlowCoverage", String.valueOf(options.useCFCoverage), String.valueOf(Defaults.USE_CF_COVERAGE)));
 			out.write(generateNewEntry("coverageTracking", String.valueOf(options.coverageTracking), String.valueOf(Defaults.COVERAGE_TRACKING)));
 			out.write(generateNewEntry("coverageAbortionCriteria", String.valueOf(options.coverageAbortionCriteria), String.valueOf(Defaults.COVERAGE_ABORTION_CRITERIA)));
 			out.write(generateNewEntry("eliminateSolutionsByCoverage", String.valueOf(options.eliminateSolutionsByCoverage), String.valueOf(Defaults.ELIMINATE_SOLUTIONS_BY_COVERAGE)));
+			out.write(generateNewEntry("eliminateSolutionsIncrementally", String.valueOf(options.eliminateSolutionsIncrementally), String.valueOf(Defaults.ELIMINATE_SOLUTIONS_INCREMENTALLY)));
 			out.write(generateNewEntry("numberOfRecentFiles", String.valueOf(options.numberOfRecentFiles), String.valueOf(Defaults.NUMBER_OF_RECENT_FILES)));
 			out.write(generateNewArrayListEntry("recentFilesPaths", options.recentFilesPaths, ""));
 			out.write(generateNewEntry("rgb_fileInspection_ConstantClass", options.rgbFileInspConstantClass, Defaults.RGB_FILEINSP_CONSTANT_CLASS));
@@ -92,6 +92,10 @@ final class Defaults {
 	 * @see Options#iterativeDeepeningDeepnessIncrement
 	 */
 	public static final int ITERATIVE_DEEPENING_DEEPNESS_INCREMENT = 5;
+	/**
+	 * @see Options#iterativeDeepeningMaximumFrontierNodes
+	 */
+	public static final int ITERATIVE_DEEPENING_MAXIMUM_FRONTIER_NODES = 100000;
 	/**
 	 * @see Options#doNotHaltOnNativeMethods
 	 */
@@ -149,6 +153,22 @@ final class Defaults {
 	 * @see Options#measureSymbolicExecutionTime
 	 */
 	public static final boolean MEASURE_SYMBOLIC_EXECUTION_TIME = true;
+	/**
+	 * @see Options#recordFlightRecorderEvents
+	 */
+	public static final boolean RECORD_FLIGHT_RECORDER_EVENTS = false;
+	/**
+	 * @see Options#executionEventRingBufferSize
+	 */
+	public static final int EXECUTION_EVENT_RING_BUFFER_SIZE = 0;
+	/**
+	 * @see Options#metricsExportFile
+	 */
+	public static final String METRICS_EXPORT_FILE = "";
+	/**
+	 * @see Options#metricsSamplingInterval
+	 */
+	public static final int METRICS_SAMPLING_INTERVAL = 1000;
 	/**
 	 * @see Options#hideDrivesAB
 	 */
@@ -165,6 +185,10 @@ final class Defaults {
 	 * @see Options#maximumClassLoaderCacheBytes
 	 */
 	public static final long MAX_CLASSLOADER_CACHE_BYTES = 0L;
+	/**
+	 * @see Options#reuseUniverseSnapshot
+	 */
+	public static final boolean REUSE_UNIVERSE_SNAPSHOT = false;
 	/**
 	 * @see Options#useCFCoverage
 	 */
@@ -185,6 +209,10 @@ final class Defaults {
 	 * @see Options#eliminateSolutionsByCoverage
 	 */
 	public static final int ELIMINATE_SOLUTIONS_BY_COVERAGE = 3;
+	/**
+	 * @see Options#eliminateSolutionsIncrementally
+	 */
+	public static final boolean ELIMINATE_SOLUTIONS_INCREMENTALLY = false;
 	/**
 	 * @see Options#numberOfRecentFiles
 	 */
@@ -123,6 +123,7 @@ public final class Options {
 	 * 0: Breadth first.
 	 * 1: Depth first.
 	 * 2: Iterative deepening with a depth of iterativeDeepeningDepth.
+	 * 3: Best first, guided by the control flow and def-use coverage.
 	 */
 	public int searchAlgorithm;
 	/**
@@ -137,6 +138,12 @@ public final class Options {
 	 * @see de.wwu.muggl.symbolic.searchAlgorithms.iterativeDeepening.IterativeDeepeningSearchAlgorithm
 	 */
 	public int iterativeDeepeningDeepnessIncrement;
+	/**
+	 * The iterative deepening options are explained in the documentation of the search
+	 * algorithms' class.
+	 * @see de.wwu.muggl.symbolic.searchAlgorithms.iterativeDeepening.IterativeDeepeningSearchAlgorithm
+	 */
+	public int iterativeDeepeningMaximumFrontierNodes;
 
 	/**
 	 * This application does not offer native support directly. So the first choice is
@@ -245,6 +252,32 @@ public final class Options {
 	 * operations of the execution took in the total execution time.
 	 */
 	public boolean measureSymbolicExecutionTime;
+	/**
+	 * If this option is enabled, the events of the execution are recorded for the Java Flight
+	 * Recorder. They can then be inspected in a flight recording of the running application. The
+	 * events of single instructions are disabled by default in the recordings even if this option
+	 * is enabled, since they are very frequent.
+	 */
+	public boolean recordFlightRecorderEvents;
+	/**
+	 * The number of the most recent events of the execution kept in memory. They are logged if the
+	 * execution fails. It is rounded up to a power of two. Setting it to 0 disables keeping them.
+	 */
+	public int executionEventRingBufferSize;
+	/**
+	 * The file the metrics of each symbolic execution are appended to when it has finished, i.e.
+	 * counters such as the times measured, gauges such as the number of visited branches, and
+	 * histograms such as the solver latencies per type of choice point. If the file name ends with
+	 * ".csv", they are written as CSV, otherwise as one line of JSON per execution. If it is empty,
+	 * the metrics are not exported.
+	 */
+	public String metricsExportFile;
+	/**
+	 * The interval in milliseconds in which the metrics are sampled during a symbolic execution
+	 * whose metrics are exported. Setting it to 0 disables sampling, so only the final values are
+	 * exported.
+	 */
+	public int metricsSamplingInterval;
 
 	/**
 	 * On windows systems it might take some time to build the directory tree if floppy disk drives
@@ -278,8 +311,9 @@ public final class Options {
 	 * <li>0 disabled caching and</li>
 	 * <li>any other positive number is taken as the maximum number of cached classes.</li>
 	 * </ul>
-	 * When using a limitation, the class that has not been loaded for the longest time will be
-	 * dropped first. Please note that there is a slight overhead inherent to this.<br />
+	 * When using a limitation, classes are dropped depending on how recently and how frequently
+	 * they have been requested. Classes that have been initialized are never dropped, so the
+	 * limitation may be exceeded. Please note that there is a slight overhead inherent to this.<br />
 	 * <br />
 	 * The general recommendation is to keep the maximum disabled as long as you do not run into
 	 * memory problems. Be sure to adjust the memory provided to the system's JVM before changing
@@ -288,8 +322,8 @@ public final class Options {
 	public long maximumClassLoaderCacheEntries;
 	/**
 	 * Similarly to maximumClassLoaderCacheEntries, this setting is used to control the caching of
-	 * classes. Each class has a size in bytes it totally takes. If the maximum byte size is reached, the class that has not been loaded for the longest time will be
-	 * dropped first.<br /><br />
+	 * classes. Each class has a size in bytes it totally takes. If the maximum byte size is reached, classes are dropped as described for
+	 * maximumClassLoaderCacheEntries.<br /><br />
 	 * Please note that the byte length of a class file is connected to its memory footprint. However, the footprint will be about two to three times larger, depending on the class' structures. The value should be 1/4 or less of the actual available heap space for the system's JVM.<br />
 	 * <br />
 	 * If you have 512 MB of Heap space available  you should not set this value to anything greater than 128 MB (134217728 Bytes).<br />
@@ -299,6 +333,16 @@ public final class Options {
 	 * this setting.
 	 */
 	public long maximumClassLoaderCacheBytes;
+	/**
+	 * If enabled, the state of the universe after its genesis (initialized system classes, their
+	 * static fields, the interned strings and the system thread) is captured once per class loader
+	 * and restored for each further virtual machine instead of running the genesis again. Objects
+	 * of the captured universe are copied on their first modification, so every virtual machine
+	 * starts with the same state.<br />
+	 * <br />
+	 * This only has an effect on non-symbolic execution with an unlimited class loader cache.
+	 */
+	public boolean reuseUniverseSnapshot;
 
 	/**
 	 * Find def-use chains and check whether they are covered.
@@ -374,6 +418,12 @@ public final class Options {
 	 * <ol>
 	 */
 	public int eliminateSolutionsByCoverage;
+	/**
+	 * If enabled, the coverage of solutions is encoded for their elimination while they are found,
+	 * instead of when the test cases are generated. This only has an effect if test cases are
+	 * eliminated by their coverage contribution.
+	 */
+	public boolean eliminateSolutionsIncrementally;
 
 	/**
 	 * The number of recently opened files that is stored.
@@ -577,6 +627,7 @@ public final class Options {
 		this.searchAlgorithm = Defaults.SEARCH_ALGORITHM;
 		this.iterativeDeepeningStartingDepth = Defaults.ITERATIVE_DEEPENING_STARTING_DEPTH;
 		this.iterativeDeepeningDeepnessIncrement = Defaults.ITERATIVE_DEEPENING_DEEPNESS_INCREMENT;
+		this.iterativeDeepeningMaximumFrontierNodes = Defaults.ITERATIVE_DEEPENING_MAXIMUM_FRONTIER_NODES;
 		this.doNotHaltOnNativeMethods = Defaults.DO_NOT_HALT_ON_NATIVE_METHODS;
 		this.assumeNativeReturnValuesToBeZeroNull = Defaults.ASSUME_NATIVE_RETURN_VALUES_TO_BE_ZERO_NULL;
 		this.forwardJavaPackageNativeInvoc = Defaults.FORWARD_JAVA_PACKAGE_NATIVE_INVOC;
@@ -590,17 +641,25 @@ public final class Options {
 		this.testClassesName = Defaults.TEST_CLASSES_NAME;
 		this.maximumLogEntries = Defaults.MAX_LOG_ENTRIES;
 		this.measureSymbolicExecutionTime = Defaults.MEASURE_SYMBOLIC_EXECUTION_TIME;
+		// The following values cannot be changed via the GUI currently.
+		this.recordFlightRecorderEvents = Defaults.RECORD_FLIGHT_RECORDER_EVENTS;
+		this.executionEventRingBufferSize = Defaults.EXECUTION_EVENT_RING_BUFFER_SIZE;
+		this.metricsExportFile = Defaults.METRICS_EXPORT_FILE;
+		this.metricsSamplingInterval = Defaults.METRICS_SAMPLING_INTERVAL;
 		this.hideDrivesAB = Defaults.HIDE_DRIVES_AB;
 		this.doNotClearClassLoaderCache = Defaults.DO_NOT_CLEAR_CLASSLOADER_CACHE;
 		// The following value cannot be changed via the GUI currently.
 		this.maximumClassLoaderCacheEntries = Defaults.MAX_CLASSLOADER_CACHE_ENTRIES;
 		// The following value cannot be changed via the GUI currently.
 		this.maximumClassLoaderCacheBytes = Defaults.MAX_CLASSLOADER_CACHE_BYTES;
+		this.reuseUniverseSnapshot = Defaults.REUSE_UNIVERSE_SNAPSHOT;
 		this.useDUCoverage = Defaults.USE_DU_COVERAGE;
 		this.useCFCoverage = Defaults.USE_CF_COVERAGE;
 		this.coverageTracking = Defaults.COVERAGE_TRACKING;
 		this.coverageAbortionCriteria = Defaults.COVERAGE_ABORTION_CRITERIA;
 		this.eliminateSolutionsByCoverage = Defaults.ELIMINATE_SOLUTIONS_BY_COVERAGE;
+		// The following value cannot be changed via the GUI currently.
+		this.eliminateSolutionsIncrementally = Defaults.ELIMINATE_SOLUTIONS_INCREMENTALLY;
 		this.numberOfRecentFiles = Defaults.NUMBER_OF_RECENT_FILES;
 		this.recentFilesPaths = Defaults.RECENT_FILES_PATH;
 		this.rgbFileInspConstantClass = Defaults.RGB_FILEINSP_CONSTANT_CLASS;
@@ -0,0 +1,36 @@
+package de.wwu.muggl.binaryTestSuite;
+
+public class ArrayParameter {
+	public final static String METHOD_firstOrLength = "firstOrLength";
+	public final static String METHOD_clearNegatives = "clearNegatives";
+	public final static String METHOD_lengthIfPositive = "lengthIfPositive";
+
+	public static int firstOrLength(int[] values) {
+		if (values == null)
+			return -1;
+		if (values.length > 0 && values[0] > 5)
+			return values[0];
+		return values.length;
+	}
+
+	public static int clearNegatives(int[] values) {
+		if (values == null)
+			return -1;
+		int cleared = 0;
+		for (int i = 0; i < values.length; i++) {
+			if (values[i] < 0) {
+				values[i] = 0;
+				cleared++;
+			}
+		}
+		return cleared;
+	}
+
+	public static int lengthIfPositive(int n, int[] values) {
+		if (n <= 0)
+			return values == null ? -1 : 0;
+		if (values == null)
+			return -1;
+		return values.length;
+	}
+}
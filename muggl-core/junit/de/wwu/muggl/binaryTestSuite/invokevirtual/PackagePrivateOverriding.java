@@ -0,0 +1,31 @@
+package de.wwu.muggl.binaryTestSuite.invokevirtual;
+
+import de.wwu.muggl.binaryTestSuite.invokevirtual.otherpackage.PackagePrivateNotOverriding;
+
+/**
+ * A package-private method is only overridden by methods of the same package (JVMS §5.4.5).
+ * {@link PackagePrivateNotOverriding} declares a method of the same name in another package, which
+ * does not override it; its subclass {@link PackagePrivateOverridingAgain} is in this package
+ * again and overrides both.
+ *
+ * @author agent
+ *
+ */
+public class PackagePrivateOverriding {
+	public final static String METHOD_execute = "execute";
+
+	int value() {
+		return 1;
+	}
+
+	static int invokeValue(PackagePrivateOverriding object) {
+		return object.value();
+	}
+
+	public static int execute() {
+		return invokeValue(new PackagePrivateOverriding()) * 100
+				+ invokeValue(new PackagePrivateNotOverriding()) * 10
+				+ invokeValue(new PackagePrivateOverridingAgain());
+	}
+
+}
@@ -0,0 +1,19 @@
+package de.wwu.muggl.binaryTestSuite.invokevirtual;
+
+import de.wwu.muggl.binaryTestSuite.invokevirtual.otherpackage.PackagePrivateNotOverriding;
+
+/**
+ * Overrides the package-private method of {@link PackagePrivateOverriding}, as it is in the same
+ * package.
+ *
+ * @author agent
+ *
+ */
+public class PackagePrivateOverridingAgain extends PackagePrivateNotOverriding {
+
+	@Override
+	int value() {
+		return 3;
+	}
+
+}
@@ -0,0 +1,18 @@
+package de.wwu.muggl.binaryTestSuite.invokevirtual.otherpackage;
+
+import de.wwu.muggl.binaryTestSuite.invokevirtual.PackagePrivateOverriding;
+
+/**
+ * Declares a package-private method of the same name and descriptor as the one of
+ * {@link PackagePrivateOverriding}. It does not override it, as it is in another package.
+ *
+ * @author agent
+ *
+ */
+public class PackagePrivateNotOverriding extends PackagePrivateOverriding {
+
+	int value() {
+		return 2;
+	}
+
+}
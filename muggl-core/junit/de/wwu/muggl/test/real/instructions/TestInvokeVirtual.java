@@ -68,7 +68,16 @@ public class TestInvokeVirtual extends TestSkeleton {
 
 	}
 
-	
+	@Test
+	public final void testApplicationMugglVMInvokeVirtualPackagePrivate()
+			throws ClassFileException, InitializationException, InterruptedException {
+		assertEquals(113,
+				(int) TestVMNormalMethodRunnerHelper.runMethod(classLoader,
+						de.wwu.muggl.binaryTestSuite.invokevirtual.PackagePrivateOverriding.class.getCanonicalName(),
+						de.wwu.muggl.binaryTestSuite.invokevirtual.PackagePrivateOverriding.METHOD_execute,
+						MethodType.methodType(int.class), null));
+
+	}
 
 	@Test
 	@Ignore 
@@ -0,0 +1,187 @@
+package de.wwu.muggl.test.real.vm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import de.wwu.muggl.binaryTestSuite.doubleParameter.FunctionWithDoubleParameter;
+import de.wwu.muggl.configuration.Globals;
+import de.wwu.muggl.test.TestSkeleton;
+import de.wwu.muggl.vm.Application;
+import de.wwu.muggl.vm.classfile.ClassFile;
+import de.wwu.muggl.vm.classfile.structures.Method;
+import de.wwu.muggl.vm.loading.ClassCache;
+import de.wwu.muggl.vm.loading.MugglClassLoader;
+
+/**
+ * Checks that a bounded class cache evicts classes down to its maximum, admits classes to its
+ * main space by their frequency, and never evicts classes that have been initialized.
+ *
+ * @author agent
+ *
+ */
+public class TestClassCache extends TestSkeleton {
+	private static final String[] NAMES = { "java.util.ArrayList", "java.util.LinkedList",
+			"java.util.HashMap", "java.util.TreeMap", "java.util.HashSet", "java.util.TreeSet",
+			"java.util.ArrayDeque", "java.util.Vector", "java.util.Stack", "java.util.Hashtable",
+			"java.util.LinkedHashMap", "java.util.IdentityHashMap", "java.util.WeakHashMap",
+			"java.util.PriorityQueue", "java.util.BitSet", "java.util.Random" };
+
+	MugglClassLoader classLoader;
+	ClassFile[] classFiles;
+
+	@Before
+	public void setUp() throws Exception {
+		classLoader = new MugglClassLoader(mugglClassLoaderPaths);
+		classFiles = new ClassFile[NAMES.length];
+		for (int a = 0; a < NAMES.length; a++) {
+			classFiles[a] = classLoader.getClassAsClassFile(NAMES[a], true);
+			assertNull(classFiles[a].getInitializedClass());
+		}
+	}
+
+	@Test
+	public final void testEvictionToMaximumEntries() {
+		ClassCache cache = new ClassCache(4, 0);
+		for (ClassFile classFile : classFiles) {
+			assertSame(classFile, cache.putIfAbsent(classFile));
+			// The class just added is never evicted.
+			assertTrue(cache.contains(classFile.getName()));
+			assertTrue(cache.size() <= 4);
+		}
+		assertEquals(4, cache.size());
+		assertEquals(4, cache.getWeightedSize());
+		assertEquals(classFiles.length - 4, cache.getEvictionCount());
+	}
+
+	@Test
+	public final void testEvictionToMaximumBytes() {
+		long maximumBytes = 0;
+		for (int a = 0; a < 3; a++) {
+			maximumBytes += classFiles[a].getByteLength();
+		}
+		ClassCache cache = new ClassCache(-1, maximumBytes);
+		long bytes = 0;
+		for (ClassFile classFile : classFiles) {
+			cache.putIfAbsent(classFile);
+			bytes += classFile.getByteLength();
+		}
+		assertTrue(cache.getEvictionCount() > 0);
+		assertTrue(cache.getWeightedSize() <= maximumBytes);
+		long cachedBytes = 0;
+		for (ClassFile classFile : cache.values()) {
+			cachedBytes += classFile.getByteLength();
+		}
+		assertEquals(cache.getWeightedSize(), cachedBytes);
+		assertTrue(cachedBytes < bytes);
+
+		// Removing a class on request is not counted as an eviction.
+		long evictions = cache.getEvictionCount();
+		ClassFile removed = cache.remove(cache.values().iterator().next().getName());
+		assertNotNull(removed);
+		assertEquals(cachedBytes - removed.getByteLength(), cache.getWeightedSize());
+		assertEquals(evictions, cache.getEvictionCount());
+		cache.clear();
+		assertEquals(0, cache.size());
+		assertEquals(0, cache.getWeightedSize());
+	}
+
+	@Test
+	public final void testFrequentClassKept() {
+		ClassCache cache = new ClassCache(4, 0);
+		ClassFile frequent = classFiles[0];
+		cache.putIfAbsent(frequent);
+		for (int a = 0; a < 5; a++) {
+			assertSame(frequent, cache.get(frequent.getName()));
+		}
+		// Classes requested once do not displace the class requested frequently.
+		for (int a = 1; a < classFiles.length; a++) {
+			cache.putIfAbsent(classFiles[a]);
+		}
+		assertTrue(cache.contains(frequent.getName()));
+		assertEquals(4, cache.size());
+		assertEquals(5, cache.getHitCount());
+		assertNull(cache.get("java.util.Missing"));
+		assertEquals(1, cache.getMissCount());
+	}
+
+	@Test
+	public final void testInitializedClassesPinned() throws Exception {
+		// Running an application initializes the classes of the virtual machine. It is finalized
+		// afterwards, as that unloads the initialized classes.
+		ClassFile classFile = classLoader.getClassAsClassFile(
+				FunctionWithDoubleParameter.class.getCanonicalName(), true);
+		Method method = classFile.getMethodByNameAndDescriptor(
+				FunctionWithDoubleParameter.METHOD_calcWithDoubleParameters, "(DD)D");
+		method.setPredefinedParameters(new Object[] { 2.1, 1.1 });
+		Application application = new Application(classLoader, classFile.getName(), method);
+		ClassCache cache;
+		try {
+			application.start();
+			while (!application.getExecutionFinished()) {
+				Thread.sleep(Globals.SAFETY_SLEEP_DELAY);
+			}
+			assertFalse(application.errorOccured());
+			cache = assertInitializedClassesPinned(classLoader.getClassAsClassFile("java.lang.Object"),
+					classLoader.getClassAsClassFile("java.lang.String"));
+		} finally {
+			application.finalizeApplication();
+		}
+
+		// Once the classes are no longer initialized, they may be evicted again.
+		assertNull(classLoader.getClassAsClassFile("java.lang.Object").getInitializedClass());
+		long evictions = cache.getEvictionCount();
+		int size = cache.size();
+		cache.unpinClasses();
+		assertEquals(2, cache.size());
+		assertEquals(2, cache.getWeightedSize());
+		assertEquals(evictions + size - 2, cache.getEvictionCount());
+	}
+
+	private ClassCache assertInitializedClassesPinned(ClassFile... initialized) throws Exception {
+		List<ClassFile> added = new ArrayList<ClassFile>(Arrays.asList(initialized));
+		added.addAll(Arrays.asList(classFiles));
+		for (ClassFile classFile : initialized) {
+			assertNotNull(classFile.getInitializedClass());
+		}
+		int pinned = 0;
+		for (ClassFile classFile : added) {
+			if (classFile.getInitializedClass() != null) pinned++;
+		}
+		ClassFile last = classFiles[classFiles.length - 1];
+		assertNull(last.getInitializedClass());
+
+		ClassCache cache = new ClassCache(2, 0);
+		for (ClassFile classFile : added) {
+			cache.putIfAbsent(classFile);
+		}
+		for (ClassFile classFile : added) {
+			assertEquals(classFile.getInitializedClass() != null || classFile == last,
+					cache.contains(classFile.getName()));
+		}
+		// The cache exceeds its maximum by the class just added, as all others are pinned.
+		assertEquals(pinned + 1, cache.size());
+		assertEquals(pinned + 1, cache.getWeightedSize());
+		assertEquals(added.size() - pinned - 1, cache.getEvictionCount());
+
+		// Pinned classes stay cached when more classes are added.
+		cache.putIfAbsent(classLoader.getClassAsClassFile("java.util.Locale"));
+		assertEquals(pinned + 1, cache.size());
+		assertFalse(cache.contains(last.getName()));
+		for (ClassFile classFile : initialized) {
+			assertTrue(cache.contains(classFile.getName()));
+		}
+		return cache;
+	}
+
+}
@@ -0,0 +1,188 @@
+package de.wwu.muggl.test.real.vm;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import de.wwu.muggl.binaryTestSuite.ArrayParameter;
+import de.wwu.muggl.test.TestSkeleton;
+import de.wwu.muggl.vm.classfile.ClassFile;
+import de.wwu.muggl.vm.classfile.ClassFileInput;
+import de.wwu.muggl.vm.classfile.structures.Method;
+import de.wwu.muggl.vm.classfile.structures.attributes.AttributeCode;
+import de.wwu.muggl.vm.loading.MugglClassLoader;
+
+/**
+ * Checks that the input reads the data types of the class file format, that a class parsed from it
+ * is written back to the bytes it has been parsed from, and that deferred code is parsed once.
+ *
+ * @author agent
+ *
+ */
+public class TestClassFileInput extends TestSkeleton {
+	MugglClassLoader classLoader;
+
+	@Before
+	public void setUp() throws Exception {
+		classLoader = new MugglClassLoader(mugglClassLoaderPaths);
+	}
+
+	@Test
+	public final void testReadDataTypes() throws Exception {
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		DataOutputStream dos = new DataOutputStream(bos);
+		dos.writeByte(-2);
+		dos.writeByte(0xCA);
+		dos.writeShort(0xFEBA);
+		dos.writeInt(0xCAFEBABE);
+		dos.writeLong(Long.MIN_VALUE + 1);
+		dos.writeFloat(1.5f);
+		dos.writeDouble(-2.25);
+		dos.write(new byte[] { 1, 2, 3 });
+		dos.close();
+
+		ClassFileInput input = new ClassFileInput(ByteBuffer.wrap(bos.toByteArray()));
+		assertEquals(-2, input.readByte());
+		assertEquals(0xCA, input.readUnsignedByte());
+		assertEquals(0xFEBA, input.readUnsignedShort());
+		assertEquals(0xCAFEBABE, input.readInt());
+		assertEquals(Long.MIN_VALUE + 1, input.readLong());
+		assertEquals(1.5f, input.readFloat(), 0f);
+		assertEquals(-2.25, input.readDouble(), 0d);
+		input.skipBytes(1);
+		byte[] bytes = new byte[2];
+		input.readFully(bytes);
+		assertArrayEquals(new byte[] { 2, 3 }, bytes);
+		assertEquals(0, input.remaining());
+		try {
+			input.readByte();
+			fail("Reading beyond the end of the buffer should fail.");
+		} catch (EOFException e) {
+			// Expected.
+		}
+
+		// An input starting at a position reads from there without changing the buffer.
+		ClassFileInput shared = new ClassFileInput(input.getBuffer(), 4);
+		assertEquals(0xCAFEBABE, shared.readInt());
+		assertEquals(8, shared.getPosition());
+	}
+
+	@Test
+	public final void testReadFile() throws Exception {
+		// Small files are read into a heap buffer, large ones are mapped unless on Windows.
+		ByteBuffer small = readFile(ClassFileInput.MAPPING_THRESHOLD - 1);
+		assertTrue(small.hasArray());
+		ByteBuffer large = readFile(ClassFileInput.MAPPING_THRESHOLD);
+		if (!System.getProperty("os.name", "").startsWith("Windows")) {
+			assertTrue(large.isDirect());
+		} else {
+			assertTrue(large.hasArray());
+		}
+	}
+
+	private ByteBuffer readFile(int length) throws Exception {
+		byte[] bytes = new byte[length];
+		for (int a = 0; a < bytes.length; a++) {
+			bytes[a] = (byte) a;
+		}
+		File file = File.createTempFile("muggl", ".class");
+		try (FileOutputStream os = new FileOutputStream(file)) {
+			os.write(bytes);
+		}
+		try {
+			ByteBuffer buffer = ClassFileInput.readFile(file);
+			assertEquals(bytes.length, buffer.remaining());
+			byte[] read = new byte[bytes.length];
+			ClassFileInput.copy(buffer, 0, read);
+			assertArrayEquals(bytes, read);
+			return buffer;
+		} finally {
+			file.delete();
+		}
+	}
+
+	@Test
+	public final void testDeferredCodeParsedOnce() throws Exception {
+		ClassFile classFile = classLoader.getClassAsClassFile(ArrayParameter.class.getName());
+		List<Callable<short[]>> tasks = new ArrayList<Callable<short[]>>();
+		for (Method method : classFile.getMethods()) {
+			AttributeCode codeAttribute = method.getCodeAttribute();
+			if (codeAttribute == null) continue;
+			for (int a = 0; a < 4; a++) {
+				tasks.add(() -> {
+					// The attributes are parsed along with the code.
+					codeAttribute.getAttributes();
+					return codeAttribute.getCode();
+				});
+			}
+		}
+		assertTrue(tasks.size() > 0);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<short[]>> results = executor.invokeAll(tasks);
+			for (int a = 0; a < results.size(); a += 4) {
+				short[] code = results.get(a).get();
+				for (int b = 1; b < 4; b++) {
+					assertSame(code, results.get(a + b).get());
+				}
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public final void testRoundTrip() throws Exception {
+		byte[] bytes;
+		try (InputStream is = ArrayParameter.class.getResourceAsStream(
+				ArrayParameter.class.getSimpleName() + ".class")) {
+			ByteBuffer buffer = ClassFileInput.readStream(is, -1);
+			bytes = new byte[buffer.remaining()];
+			ClassFileInput.copy(buffer, 0, bytes);
+		}
+		ClassFile classFile = new ClassFile(classLoader, ByteBuffer.wrap(bytes),
+				ArrayParameter.class.getName().replace(".", "/"));
+		assertEquals(ArrayParameter.class.getName(), classFile.getName());
+		assertEquals(bytes.length, classFile.getByteLength());
+		assertArrayEquals(bytes, write(classFile));
+
+		// The written class is parsed to the same structures.
+		ClassFile reparsed = new ClassFile(classLoader, ByteBuffer.wrap(write(classFile)),
+				ArrayParameter.class.getName().replace(".", "/"));
+		assertEquals(classFile.getMethods().length, reparsed.getMethods().length);
+		for (int a = 0; a < classFile.getMethods().length; a++) {
+			Method method = classFile.getMethods()[a];
+			Method reparsedMethod = reparsed.getMethods()[a];
+			assertEquals(method.getFullName(), reparsedMethod.getFullName());
+			assertEquals(method.getInstructionsNumber(), reparsedMethod.getInstructionsNumber());
+		}
+	}
+
+	private byte[] write(ClassFile classFile) throws Exception {
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		try (DataOutputStream dos = new DataOutputStream(bos)) {
+			classFile.writeClass(dos);
+		}
+		return bos.toByteArray();
+	}
+
+}
@@ -0,0 +1,212 @@
+package de.wwu.muggl.test.real.vm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.WriteTrail;
+import de.wwu.muggl.test.TestSkeleton;
+import de.wwu.muggl.vm.classfile.ClassFile;
+import de.wwu.muggl.vm.classfile.structures.Field;
+import de.wwu.muggl.vm.initialization.FieldContainer;
+import de.wwu.muggl.vm.initialization.HeapJournal;
+import de.wwu.muggl.vm.loading.MugglClassLoader;
+
+/**
+ * Checks that a FieldContainer keeps fields set to null apart from fields never set, also when
+ * their raw values are saved and restored, that it stores fields without a slot in its layout,
+ * and that the stamps of its slots make a trail record each slot once until it is restored.
+ *
+ * @author agent
+ *
+ */
+public class TestFieldContainer extends TestSkeleton {
+	MugglClassLoader classLoader;
+	HeapJournal journal;
+	Container container;
+	// Fields of java.util.ArrayList: a reference and a primitive one.
+	Field elementData;
+	Field size;
+	// Fields of java.util.LinkedList, which have no slot in the layout of java.util.ArrayList.
+	Field first;
+	Field otherSize;
+
+	@Before
+	public void setUp() throws Exception {
+		classLoader = new MugglClassLoader(mugglClassLoaderPaths);
+		ClassFile arrayList = classLoader.getClassAsClassFile("java.util.ArrayList");
+		ClassFile linkedList = classLoader.getClassAsClassFile("java.util.LinkedList");
+		Field[] layout = arrayList.getInstanceFieldLayout();
+		linkedList.getInstanceFieldLayout();
+		elementData = getField(arrayList, "elementData");
+		size = getField(arrayList, "size");
+		first = getField(linkedList, "first");
+		otherSize = getField(linkedList, "size");
+		journal = new HeapJournal();
+		container = new Container(layout, journal);
+	}
+
+	@Test
+	public final void testNullValueRoundTrip() {
+		int slot = container.slotOf(elementData);
+		assertTrue(slot >= 0);
+
+		// Reading a reference field never set does not store a value.
+		assertNull(container.getField(elementData));
+		assertFalse(container.hasValueFor(elementData));
+		assertNull(container.getSlotValue(slot));
+
+		// Setting it to null does.
+		container.putField(elementData, null);
+		assertTrue(container.hasValueFor(elementData));
+		assertNull(container.getField(elementData));
+		assertEquals(1, container.getNumberOfValues());
+		Map<Field, Object> values = container.getValues();
+		assertTrue(values.containsKey(elementData));
+		assertNull(values.get(elementData));
+		assertNull(values.entrySet().iterator().next().getValue());
+
+		// The raw value keeps the difference when it is restored.
+		Object raw = container.getSlotValue(slot);
+		assertNotNull(raw);
+		container.putField(elementData, "value");
+		container.restoreSlotValue(slot, raw);
+		assertTrue(container.hasValueFor(elementData));
+		assertNull(container.getField(elementData));
+		container.restoreSlotValue(slot, null);
+		assertFalse(container.hasValueFor(elementData));
+
+		// Primitive fields are initialized to their default value when read.
+		assertEquals(Integer.valueOf(0), container.getField(size));
+		assertTrue(container.hasValueFor(size));
+	}
+
+	@Test
+	public final void testOtherFields() {
+		assertEquals(-1, container.slotOf(first));
+		assertEquals(-1, container.slotOf(otherSize));
+		assertFalse(container.hasValues());
+
+		assertNull(container.getField(first));
+		assertFalse(container.hasValueFor(first));
+		assertEquals(Integer.valueOf(0), container.getField(otherSize));
+		assertTrue(container.hasValueFor(otherSize));
+		container.putField(size, Integer.valueOf(3));
+
+		// Copies do not share the fields without a slot.
+		Container copy = container.copy();
+		assertTrue(container.hasEqualValues(copy));
+		copy.putField(otherSize, Integer.valueOf(5));
+		assertEquals(Integer.valueOf(0), container.getField(otherSize));
+		assertFalse(container.hasEqualValues(copy));
+
+		container.putField(first, null);
+		assertTrue(container.hasValueFor(first));
+		assertNull(container.getField(first));
+		assertEquals(3, container.getNumberOfValues());
+		assertEquals(3, container.getValues().entrySet().size());
+		int count = 0;
+		for (Map.Entry<Field, Object> entry : container.getValues().entrySet()) {
+			assertEquals(container.getValues().get(entry.getKey()), entry.getValue());
+			count++;
+		}
+		assertEquals(3, count);
+
+		// Rolling back the journal restores them.
+		journal.start();
+		container.putField(first, "value");
+		container.putField(otherSize, Integer.valueOf(5));
+		assertTrue(journal.rollback());
+		assertNull(container.getField(first));
+		assertTrue(container.hasValueFor(first));
+		assertEquals(Integer.valueOf(0), container.getField(otherSize));
+	}
+
+	@Test
+	public final void testTrailStamps() {
+		int slot = container.slotOf(size);
+		assertTrue(container.stampSlot(slot, 42));
+		assertFalse(container.stampSlot(slot, 42));
+		assertTrue(container.stampSlot(slot, 43));
+		// Copies are not stamped.
+		assertTrue(container.copy().stampSlot(slot, 43));
+		assertFalse(container.stampSlot(slot, 43));
+
+		// A trail records the first value of a slot only, and restores it.
+		container.putField(elementData, null);
+		WriteTrail trail = new WriteTrail();
+		for (int a = 1; a <= 3; a++) {
+			trail.recordField(container, size);
+			container.putField(size, Integer.valueOf(a));
+			trail.recordField(container, elementData);
+			container.putField(elementData, "value " + a);
+		}
+		trail.restore();
+		assertFalse(container.hasValueFor(size));
+		assertTrue(container.hasValueFor(elementData));
+		assertNull(container.getField(elementData));
+
+		// After restoring, the trail has a new stamp and records the slots again.
+		container.putField(size, Integer.valueOf(7));
+		trail.recordField(container, size);
+		container.putField(size, Integer.valueOf(8));
+		trail.restore();
+		assertEquals(Integer.valueOf(7), container.getField(size));
+
+		// Fields without a slot are recorded on every write.
+		container.putField(first, "first");
+		trail.recordField(container, first);
+		container.putField(first, "second");
+		trail.recordField(container, first);
+		container.putField(first, null);
+		trail.restore();
+		assertEquals("first", container.getField(first));
+	}
+
+	/**
+	 * Get a field declared by a class.
+	 */
+	private Field getField(ClassFile classFile, String name) {
+		for (Field field : classFile.getFields()) {
+			if (field.getName().equals(name)) return field;
+		}
+		throw new AssertionError("The field " + name + " has not been found.");
+	}
+
+	/**
+	 * Container for the fields of a layout, giving access to its protected methods.
+	 */
+	private static class Container extends FieldContainer implements Cloneable {
+
+		Container(Field[] layout, HeapJournal journal) {
+			super(layout, journal);
+		}
+
+		Container copy() {
+			try {
+				Container copy = (Container) clone();
+				copy.copyValues();
+				return copy;
+			} catch (CloneNotSupportedException e) {
+				throw new AssertionError(e);
+			}
+		}
+
+		Map<Field, Object> getValues() {
+			return getValueMap();
+		}
+
+		@Override
+		protected boolean hasEqualValues(FieldContainer other) {
+			return super.hasEqualValues(other);
+		}
+	}
+
+}
@@ -0,0 +1,140 @@
+package de.wwu.muggl.test.real.vm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import de.wwu.muggl.binaryTestSuite.Putfield;
+import de.wwu.muggl.test.TestSkeleton;
+import de.wwu.muggl.vm.classfile.ClassFile;
+import de.wwu.muggl.vm.classfile.structures.Field;
+import de.wwu.muggl.vm.initialization.FieldContainer;
+import de.wwu.muggl.vm.initialization.HeapJournal;
+import de.wwu.muggl.vm.loading.MugglClassLoader;
+
+/**
+ * Checks that a HeapJournal restores the values objects had when it was started, that it ignores
+ * objects created afterwards, and that it stops once its maximum number of objects is exceeded.
+ *
+ * @author agent
+ *
+ */
+public class TestHeapJournal extends TestSkeleton {
+	MugglClassLoader classLoader;
+	ClassFile classFile;
+	Field primitive;
+	Field prim2;
+
+	@Before
+	public void setUp() throws Exception {
+		classLoader = new MugglClassLoader(mugglClassLoaderPaths);
+		classFile = classLoader.getClassAsClassFile(Putfield.class.getCanonicalName());
+		primitive = classFile.getFieldByName("primitive");
+		prim2 = classFile.getFieldByName("prim2");
+	}
+
+	@Test
+	public final void testSnapshotMutateRestore() {
+		HeapJournal journal = new HeapJournal();
+		FieldContainer container = container(journal);
+		container.putField(primitive, 1);
+		container.putField(prim2, Boolean.TRUE);
+
+		journal.start();
+		container.putField(primitive, 2);
+		container.putField(primitive, 3);
+		container.putField(prim2, null);
+		assertEquals(1, journal.getNumberOfJournaledObjects());
+
+		assertTrue(journal.rollback());
+		assertEquals(1, container.getField(primitive));
+		assertEquals(Boolean.TRUE, container.getField(prim2));
+		assertEquals(0, journal.getNumberOfJournaledObjects());
+
+		// The journal can be rolled back again and again.
+		container.putField(primitive, 4);
+		assertTrue(journal.rollback());
+		assertEquals(1, container.getField(primitive));
+	}
+
+	@Test
+	public final void testObjectsCreatedLaterAreNotJournaled() {
+		HeapJournal journal = new HeapJournal();
+		journal.start();
+		FieldContainer container = container(journal);
+		container.putField(primitive, 1);
+		assertEquals(0, journal.getNumberOfJournaledObjects());
+		assertTrue(journal.rollback());
+		assertEquals(1, container.getField(primitive));
+	}
+
+	@Test
+	public final void testStopped() {
+		HeapJournal journal = new HeapJournal();
+		FieldContainer container = container(journal);
+		container.putField(primitive, 1);
+		assertFalse(journal.rollback());
+
+		journal.start();
+		journal.stop();
+		container.putField(primitive, 2);
+		assertFalse(journal.isActive());
+		assertFalse(journal.rollback());
+		assertEquals(2, container.getField(primitive));
+	}
+
+	@Test
+	public final void testBounded() {
+		HeapJournal journal = new HeapJournal(2);
+		FieldContainer first = container(journal);
+		FieldContainer second = container(journal);
+		FieldContainer third = container(journal);
+		journal.start();
+		first.putField(primitive, 1);
+		second.putField(primitive, 1);
+		assertEquals(2, journal.getNumberOfJournaledObjects());
+		third.putField(primitive, 1);
+
+		// The journal has stopped and leaves the heap as it is.
+		assertFalse(journal.isActive());
+		assertEquals(0, journal.getNumberOfJournaledObjects());
+		assertFalse(journal.rollback());
+		assertEquals(1, first.getField(primitive));
+
+		journal.start();
+		first.putField(primitive, 2);
+		assertTrue(journal.rollback());
+		assertEquals(1, first.getField(primitive));
+	}
+
+	@Test
+	public final void testJournalPerClassLoader() throws Exception {
+		MugglClassLoader otherClassLoader = new MugglClassLoader(mugglClassLoaderPaths);
+		assertNotSame(classLoader.getHeapJournal(), otherClassLoader.getHeapJournal());
+		FieldContainer container = container(classLoader.getHeapJournal());
+		FieldContainer otherContainer = container(otherClassLoader.getHeapJournal());
+		container.putField(primitive, 1);
+		otherContainer.putField(primitive, 1);
+
+		classLoader.getHeapJournal().start();
+		otherClassLoader.getHeapJournal().stop();
+		container.putField(primitive, 2);
+		otherContainer.putField(primitive, 2);
+		assertEquals(1, classLoader.getHeapJournal().getNumberOfJournaledObjects());
+		assertEquals(0, otherClassLoader.getHeapJournal().getNumberOfJournaledObjects());
+		assertTrue(classLoader.getHeapJournal().rollback());
+		assertEquals(1, container.getField(primitive));
+		assertEquals(2, otherContainer.getField(primitive));
+		classLoader.getHeapJournal().stop();
+	}
+
+	private FieldContainer container(HeapJournal journal) {
+		return new FieldContainer(classFile.getStaticFieldLayout(), journal) {
+		};
+	}
+
+}
@@ -0,0 +1,117 @@
+package de.wwu.muggl.test.real.vm;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.EmptyStackException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import de.wwu.muggl.test.TestSkeleton;
+import de.wwu.muggl.vm.OperandStack;
+
+/**
+ * Checks that values pushed unboxed and boxed onto an OperandStack can be read by the typed and
+ * the generic methods alike, and that the stack grows beyond its initial capacity.
+ * 
+ * @author agent
+ *
+ */
+public class TestOperandStack extends TestSkeleton {
+	OperandStack stack;
+
+	@Before
+	public void setUp() throws Exception {
+		stack = new OperandStack(2);
+	}
+
+	@Test
+	public final void testTypedRoundTrip() {
+		stack.pushInt(-7);
+		stack.pushLong(Long.MIN_VALUE);
+		stack.pushFloat(Float.NaN);
+		stack.pushDouble(-0.0d);
+		assertEquals(4, stack.size());
+		assertEquals(Double.doubleToRawLongBits(-0.0d), Double.doubleToRawLongBits(stack.popDouble()));
+		assertTrue(Float.isNaN(stack.popFloat()));
+		assertEquals(Long.MIN_VALUE, stack.popLong());
+		assertEquals(-7, stack.popInt());
+		assertTrue(stack.isEmpty());
+	}
+
+	@Test
+	public final void testMixedAccess() {
+		stack.pushInt(1);
+		stack.push(2);
+		stack.pushDouble(3.5d);
+		stack.push(null);
+		assertArrayEquals(new Object[] { 1, 2, 3.5d, null }, stack.toArray());
+		assertEquals("[1, 2, 3.5, null]", stack.toString());
+		assertNull(stack.pop());
+		assertEquals(Double.valueOf(3.5d), stack.peek());
+		assertEquals(Double.valueOf(3.5d), stack.pop());
+		assertEquals(2, stack.popInt());
+		assertEquals(Integer.valueOf(1), stack.pop());
+	}
+
+	@Test
+	public final void testPopIntWidens() {
+		stack.push(Boolean.TRUE);
+		stack.push(Short.valueOf((short) -3));
+		stack.push(Character.valueOf('a'));
+		stack.push(Byte.valueOf((byte) 4));
+		assertEquals(4, stack.popInt());
+		assertEquals('a', stack.popInt());
+		assertEquals(-3, stack.popInt());
+		assertEquals(1, stack.popInt());
+	}
+
+	@Test(expected = ClassCastException.class)
+	public final void testTypeMismatch() {
+		stack.pushInt(1);
+		stack.popLong();
+	}
+
+	@Test(expected = EmptyStackException.class)
+	public final void testPopEmpty() {
+		stack.popInt();
+	}
+
+	@Test
+	public final void testGrowth() {
+		for (int i = 0; i < 40; i++) {
+			if (i % 2 == 0) {
+				stack.pushInt(i);
+			} else {
+				stack.push(i);
+			}
+		}
+		assertEquals(40, stack.size());
+		assertEquals(Integer.valueOf(17), stack.get(17));
+		for (int i = 39; i >= 0; i--) {
+			assertEquals(i, stack.popInt());
+		}
+	}
+
+	@Test
+	public final void testSetAndEquals() {
+		OperandStack other = new OperandStack();
+		stack.pushLong(5L);
+		stack.push("a");
+		other.push(Long.valueOf(5L));
+		other.push("a");
+		assertEquals(other, stack);
+		assertEquals(other.hashCode(), stack.hashCode());
+
+		assertEquals(Long.valueOf(5L), stack.set(0, "b"));
+		assertEquals("b", stack.get(0));
+		assertTrue(!stack.equals(other));
+
+		stack.clear();
+		assertTrue(stack.empty());
+	}
+
+}
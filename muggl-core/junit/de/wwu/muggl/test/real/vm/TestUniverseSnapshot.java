@@ -0,0 +1,130 @@
+package de.wwu.muggl.test.real.vm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import de.wwu.muggl.binaryTestSuite.Putfield;
+import de.wwu.muggl.configuration.Globals;
+import de.wwu.muggl.configuration.Options;
+import de.wwu.muggl.test.TestSkeleton;
+import de.wwu.muggl.vm.Application;
+import de.wwu.muggl.vm.UniverseSnapshot;
+import de.wwu.muggl.vm.classfile.ClassFile;
+import de.wwu.muggl.vm.classfile.structures.Field;
+import de.wwu.muggl.vm.classfile.structures.Method;
+import de.wwu.muggl.vm.initialization.Arrayref;
+import de.wwu.muggl.vm.initialization.InitializedClass;
+import de.wwu.muggl.vm.loading.MugglClassLoader;
+
+/**
+ * Checks that the universe captured after the genesis of a virtual machine is restored for the
+ * next virtual machine using the same class loader, undoing modifications of the objects it holds.
+ *
+ * @author agent
+ *
+ */
+public class TestUniverseSnapshot extends TestSkeleton {
+	MugglClassLoader classLoader;
+	boolean reuseUniverseSnapshot;
+	boolean symbolicMode;
+
+	@Before
+	public void setUp() throws Exception {
+		reuseUniverseSnapshot = Options.getInst().reuseUniverseSnapshot;
+		symbolicMode = Options.getInst().symbolicMode;
+		Options.getInst().reuseUniverseSnapshot = true;
+		Options.getInst().symbolicMode = false;
+		classLoader = new MugglClassLoader(mugglClassLoaderPaths);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		Options.getInst().reuseUniverseSnapshot = reuseUniverseSnapshot;
+		Options.getInst().symbolicMode = symbolicMode;
+	}
+
+	@Test
+	public final void testSnapshotMutateRestore() throws Exception {
+		run();
+		UniverseSnapshot snapshot = classLoader.getUniverseSnapshot();
+		assertNotNull(snapshot);
+		assertTrue(classLoader.getHeapJournal().isActive());
+
+		// Modify a static field and an array of the captured universe.
+		ClassFile system = classLoader.getClassAsClassFile("java.lang.System");
+		InitializedClass initializedSystem = system.getInitializedClass();
+		Field out = system.getFieldByName("out");
+		Object outValue = initializedSystem.getField(out);
+		assertNotNull(outValue);
+		initializedSystem.putField(out, null);
+		Arrayref array = findCapturedArray(classLoader.getInitializedClassFileCache());
+		Object element = array.getElement(0);
+		array.restoreElement(0, null);
+		assertNull(initializedSystem.getField(out));
+		assertTrue(classLoader.getHeapJournal().getNumberOfJournaledObjects() >= 2);
+
+		// The next virtual machine restores the universe instead of running the genesis.
+		run();
+		assertSame(snapshot, classLoader.getUniverseSnapshot());
+		assertSame(initializedSystem, system.getInitializedClass());
+		assertSame(outValue, initializedSystem.getField(out));
+		assertSame(element, array.getElement(0));
+	}
+
+	@Test
+	public final void testStoppedJournalRunsGenesis() throws Exception {
+		run();
+		UniverseSnapshot snapshot = classLoader.getUniverseSnapshot();
+		assertNotNull(snapshot);
+
+		// Without the journal, the snapshot cannot be restored. The universe is captured anew.
+		classLoader.getHeapJournal().stop();
+		assertFalse(classLoader.getHeapJournal().rollback());
+		run();
+		assertNotNull(classLoader.getUniverseSnapshot());
+		assertNotSame(snapshot, classLoader.getUniverseSnapshot());
+		assertTrue(classLoader.getHeapJournal().isActive());
+		assertEquals(0, classLoader.getHeapJournal().getNumberOfJournaledObjects());
+	}
+
+	/**
+	 * Run a method of the binary test suite in a new application with the class loader.
+	 */
+	private void run() throws Exception {
+		ClassFile classFile = classLoader.getClassAsClassFile(Putfield.class.getName());
+		Method method = classFile.getMethodByNameAndDescriptor(Putfield.METHOD_testPutStaticNull, "()Z");
+		Application application = new Application(classLoader, classFile.getName(), method);
+		application.start();
+		while (!application.getExecutionFinished()) {
+			Thread.sleep(Globals.SAFETY_SLEEP_DELAY);
+		}
+		assertFalse(application.fetchError(), application.errorOccured());
+		assertEquals(1, application.getReturnedObject());
+	}
+
+	/**
+	 * Find an array with at least one element held by a static field of a captured class.
+	 */
+	private Arrayref findCapturedArray(Map<ClassFile, InitializedClass> initializedClasses) {
+		for (Map.Entry<ClassFile, InitializedClass> entry : initializedClasses.entrySet()) {
+			for (Field field : entry.getKey().getFields()) {
+				if (!field.isAccStatic()) continue;
+				Object value = entry.getValue().getField(field);
+				if (value instanceof Arrayref && ((Arrayref) value).length > 0) return (Arrayref) value;
+			}
+		}
+		throw new AssertionError("The captured universe holds no array.");
+	}
+
+}
@@ -0,0 +1,129 @@
+package de.wwu.muggl.test.symbolic;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.invoke.MethodType;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import de.wwu.muggl.binaryTestSuite.ArrayParameter;
+import de.wwu.muggl.binaryTestSuite.Putfield;
+import de.wwu.muggl.configuration.Options;
+import de.wwu.muggl.symbolic.searchAlgorithms.bestFirst.BestFirstSearchAlgorithm;
+import de.wwu.muggl.test.TestSkeletonSymbolic;
+import de.wwu.muggl.vm.impl.symbolic.SymbolicVirtualMachine;
+import de.wwu.muggl.vm.loading.MugglClassLoader;
+
+/**
+ * Checks that the best first search reaches the coverage required by the coverage abortion
+ * criteria, and that the solutions it finds on its way are among those of the depth first search
+ * exploring the whole search tree.
+ *
+ * @author agent
+ *
+ */
+public class TestBestFirstSearchAlgorithm extends TestSkeletonSymbolic {
+	MugglClassLoader classLoader;
+	int searchAlgorithm;
+	int coverageAbortionCriteria;
+	int coverageTracking;
+	int symbArrayInitNumberOfRunsTotal;
+	int eliminateSolutionsByCoverage;
+	String solverManager;
+
+	@Before
+	public void setUp() throws Exception {
+		classLoader = new MugglClassLoader(mugglClassLoaderPaths);
+		Options options = Options.getInst();
+		searchAlgorithm = options.searchAlgorithm;
+		coverageAbortionCriteria = options.coverageAbortionCriteria;
+		coverageTracking = options.coverageTracking;
+		symbArrayInitNumberOfRunsTotal = options.symbArrayInitNumberOfRunsTotal;
+		eliminateSolutionsByCoverage = options.eliminateSolutionsByCoverage;
+		solverManager = options.solverManager;
+		// Only track the coverage of the initial method, as the methods it invokes are not covered.
+		options.coverageTracking = 0;
+		options.symbArrayInitNumberOfRunsTotal = 3;
+		options.eliminateSolutionsByCoverage = 0;
+		options.solverManager = "de.wwu.testtool.solver.SolverManagerNew";
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		Options options = Options.getInst();
+		options.searchAlgorithm = searchAlgorithm;
+		options.coverageAbortionCriteria = coverageAbortionCriteria;
+		options.coverageTracking = coverageTracking;
+		options.symbArrayInitNumberOfRunsTotal = symbArrayInitNumberOfRunsTotal;
+		options.eliminateSolutionsByCoverage = eliminateSolutionsByCoverage;
+		options.solverManager = solverManager;
+		classLoader.close();
+	}
+
+	@Test
+	public final void testCoverageReachedPrimitiveParameter() throws Exception {
+		assertCoverageReached(Putfield.class.getCanonicalName(), Putfield.METHOD_testPutStaticInt,
+				MethodType.methodType(boolean.class, int.class));
+	}
+
+	@Test
+	public final void testCoverageReachedArrayParameter() throws Exception {
+		assertCoverageReached(ArrayParameter.class.getCanonicalName(),
+				ArrayParameter.METHOD_firstOrLength, MethodType.methodType(int.class, int[].class));
+	}
+
+	@Test
+	public final void testCoverageReachedArrayElementsWritten() throws Exception {
+		List<String> solutions = assertCoverageReached(ArrayParameter.class.getCanonicalName(),
+				ArrayParameter.METHOD_clearNegatives, MethodType.methodType(int.class, int[].class));
+		// Far fewer solutions than elements of the arrays generated are needed for the coverage.
+		assertTrue(solutions.size() < 10);
+	}
+
+	/**
+	 * Run a method by the best first search until the def-use chains of the method are covered,
+	 * and check that its solutions are among those of the depth first search.
+	 *
+	 * @return The solutions found by the best first search.
+	 */
+	private List<String> assertCoverageReached(String className, String methodName,
+			MethodType methodType) throws Exception {
+		// The depth first search explores the whole search tree without the abortion criteria.
+		Options options = Options.getInst();
+		options.searchAlgorithm = 1;
+		options.coverageAbortionCriteria = 0;
+		List<String> expected = TestVMSymbolicMethodRunnerHelper.runMethodSolutions(classLoader,
+				className, methodName, methodType);
+		assertFalse(expected.isEmpty());
+
+		// The best first search stops once all def-use chains are covered.
+		options.coverageAbortionCriteria = 2;
+		RecordingSearchAlgorithm algorithm = new RecordingSearchAlgorithm();
+		List<String> solutions = TestVMSymbolicMethodRunnerHelper.runMethodSolutions(classLoader,
+				className, methodName, methodType, algorithm);
+		assertFalse(solutions.isEmpty());
+		assertTrue(expected + " does not contain " + solutions, expected.containsAll(solutions));
+		assertNotNull(algorithm.vm);
+		assertTrue(algorithm.vm.getAbortionCriterionMatched());
+		return solutions;
+	}
+
+	/**
+	 * Records the virtual machine using it, to check whether it has met the abortion criteria.
+	 */
+	private static class RecordingSearchAlgorithm extends BestFirstSearchAlgorithm {
+		SymbolicVirtualMachine vm;
+
+		@Override
+		public boolean executingInstruction(SymbolicVirtualMachine vm) {
+			this.vm = vm;
+			return super.executingInstruction(vm);
+		}
+	}
+
+}
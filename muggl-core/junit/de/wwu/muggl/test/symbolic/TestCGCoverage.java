@@ -0,0 +1,152 @@
+package de.wwu.muggl.test.symbolic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+import java.util.Stack;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import de.wwu.muggl.binaryTestSuite.ArrayParameter;
+import de.wwu.muggl.configuration.Options;
+import de.wwu.muggl.solvers.expressions.BooleanConstant;
+import de.wwu.muggl.symbolic.flow.coverage.CGCoverage;
+import de.wwu.muggl.symbolic.flow.coverage.CGCoverageTrailElement;
+import de.wwu.muggl.symbolic.searchAlgorithms.SearchAlgorithm;
+import de.wwu.muggl.symbolic.searchAlgorithms.choice.ChoicePoint;
+import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.ConditionalJumpChoicePointDepthFirst;
+import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.DepthFirstSearchAlgorithm;
+import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.SwappableTrailElement;
+import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.TrailElement;
+import de.wwu.muggl.test.TestSkeletonSymbolic;
+import de.wwu.muggl.vm.Application;
+import de.wwu.muggl.vm.classfile.ClassFile;
+import de.wwu.muggl.vm.classfile.structures.Method;
+import de.wwu.muggl.vm.impl.symbolic.SymbolicFrame;
+import de.wwu.muggl.vm.impl.symbolic.SymbolicVirtualMachine;
+import de.wwu.muggl.vm.loading.MugglClassLoader;
+
+/**
+ * Checks that the trail elements recorded for newly covered control graph edges revert the current
+ * coverage, and the total coverage unless it has been committed, and that swapping them sets the
+ * coverage again.
+ *
+ * @author agent
+ *
+ */
+public class TestCGCoverage extends TestSkeletonSymbolic {
+	Application application;
+	CGCoverage coverage;
+	ChoicePoint choicePoint;
+	int[][] edges;
+	String solverManager;
+
+	@Before
+	public void setUp() throws Exception {
+		solverManager = Options.getInst().solverManager;
+		Options.getInst().solverManager = "de.wwu.testtool.solver.SolverManagerNew";
+		MugglClassLoader classLoader = new MugglClassLoader(mugglClassLoaderPaths);
+		ClassFile classFile = classLoader.getClassAsClassFile(ArrayParameter.class.getCanonicalName(), true);
+		Method method = classFile.getMethodByNameAndDescriptor(ArrayParameter.METHOD_firstOrLength, "([I)I");
+		application = new Application(classLoader, classFile.getName(), method);
+
+		// Newly covered edges are recorded in the trail of the current choice point.
+		final SearchAlgorithm searchAlgorithm = new DepthFirstSearchAlgorithm() {
+			@Override
+			public ChoicePoint getCurrentChoicePoint() {
+				return choicePoint;
+			}
+		};
+		SymbolicVirtualMachine vm = new SymbolicVirtualMachine(application, classLoader, classFile, method) {
+			@Override
+			public SearchAlgorithm getSearchAlgorithm() {
+				return searchAlgorithm;
+			}
+		};
+		SymbolicFrame frame = new SymbolicFrame(null, vm, method, classFile.getConstantPool(), new Object[] { null });
+		choicePoint = new ConditionalJumpChoicePointDepthFirst(frame, 0, 1, 2, BooleanConstant.TRUE);
+		coverage = new CGCoverage(vm, method);
+
+		// The first two edges in the order of their source and target pc.
+		edges = new int[2][];
+		int found = 0;
+		for (Map.Entry<Integer, Map<Integer, boolean[]>> entry : coverage.getControlGraphCoverage().entrySet()) {
+			for (Integer target : entry.getValue().keySet()) {
+				if (found < edges.length)
+					edges[found++] = new int[] { entry.getKey(), target };
+			}
+		}
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		application.finalizeApplication();
+		Options.getInst().solverManager = solverManager;
+	}
+
+	@Test
+	public final void testRestore() {
+		cover(edges[0]);
+		cover(edges[1]);
+		assertCovered(2, 2);
+		Stack<TrailElement> trail = choicePoint.getTrail();
+		assertEquals(2, trail.size());
+
+		((CGCoverageTrailElement) trail.pop()).restore();
+		assertCovered(1, 1);
+		((CGCoverageTrailElement) trail.pop()).restore();
+		assertCovered(0, 0);
+
+		// The last pc has been restored to the source of the edge, so it can be covered again.
+		coverage.updateCoverage(edges[0][1]);
+		assertCovered(1, 1);
+	}
+
+	@Test
+	public final void testRestoreCommitted() {
+		cover(edges[0]);
+		coverage.commit();
+		cover(edges[1]);
+		Stack<TrailElement> trail = choicePoint.getTrail();
+		((CGCoverageTrailElement) trail.pop()).restore();
+		((CGCoverageTrailElement) trail.pop()).restore();
+		// The total coverage of the edge covered before the commit is kept.
+		assertCovered(0, 1);
+		assertTrue(coverage.getCoverage()[0]);
+	}
+
+	@Test
+	public final void testSwap() {
+		cover(edges[0]);
+		SwappableTrailElement trailElement = (SwappableTrailElement) choicePoint.getTrail().peek();
+		trailElement.swap();
+		assertCovered(0, 0);
+		trailElement.swap();
+		assertCovered(1, 1);
+		trailElement.swap();
+		assertCovered(0, 0);
+	}
+
+	@Test
+	public final void testAlreadyCoveredEdge() {
+		cover(edges[0]);
+		cover(edges[0]);
+		// Covering an edge covered already does not record anything.
+		assertEquals(1, choicePoint.getTrail().size());
+		assertCovered(1, 1);
+	}
+
+	private void cover(int[] edge) {
+		coverage.revertLastPc(edge[0]);
+		coverage.updateCoverage(edge[1]);
+	}
+
+	private void assertCovered(long current, long total) {
+		assertEquals(current, coverage.getNumberOfCurrentlyCoveredCGEdges());
+		assertEquals(total, coverage.getNumberOfCoveredCGEdges());
+	}
+
+}
@@ -0,0 +1,201 @@
+package de.wwu.muggl.test.symbolic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.invoke.MethodType;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import de.wwu.muggl.binaryTestSuite.ArrayParameter;
+import de.wwu.muggl.configuration.Options;
+import de.wwu.muggl.instructions.interfaces.Instruction;
+import de.wwu.muggl.solvers.Solution;
+import de.wwu.muggl.solvers.SolverManager;
+import de.wwu.muggl.symbolic.searchAlgorithms.choice.ChoicePoint;
+import de.wwu.muggl.test.TestSkeletonSymbolic;
+import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.events.ExecutionEventListener;
+import de.wwu.muggl.vm.events.ExecutionEvents;
+import de.wwu.muggl.vm.events.RingBufferEventListener;
+import de.wwu.muggl.vm.loading.MugglClassLoader;
+
+/**
+ * Checks that no events are fired once the last listener has been unregistered, and that the ring
+ * buffer of recent events only keeps the most recent events when it wraps.
+ *
+ * @author agent
+ *
+ */
+public class TestExecutionEvents extends TestSkeletonSymbolic {
+	MugglClassLoader classLoader;
+	int searchAlgorithm;
+	int symbArrayInitNumberOfRunsTotal;
+	int eliminateSolutionsByCoverage;
+	int executionEventRingBufferSize;
+	String solverManager;
+
+	@Before
+	public void setUp() throws Exception {
+		classLoader = new MugglClassLoader(mugglClassLoaderPaths);
+		Options options = Options.getInst();
+		searchAlgorithm = options.searchAlgorithm;
+		symbArrayInitNumberOfRunsTotal = options.symbArrayInitNumberOfRunsTotal;
+		eliminateSolutionsByCoverage = options.eliminateSolutionsByCoverage;
+		executionEventRingBufferSize = options.executionEventRingBufferSize;
+		solverManager = options.solverManager;
+		options.searchAlgorithm = 1;
+		options.symbArrayInitNumberOfRunsTotal = 3;
+		options.eliminateSolutionsByCoverage = 0;
+		options.executionEventRingBufferSize = 0;
+		options.solverManager = "de.wwu.testtool.solver.SolverManagerNew";
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		Options options = Options.getInst();
+		options.searchAlgorithm = searchAlgorithm;
+		options.symbArrayInitNumberOfRunsTotal = symbArrayInitNumberOfRunsTotal;
+		options.eliminateSolutionsByCoverage = eliminateSolutionsByCoverage;
+		options.executionEventRingBufferSize = executionEventRingBufferSize;
+		options.solverManager = solverManager;
+		ExecutionEvents.configure();
+		classLoader.close();
+	}
+
+	@Test
+	public final void testDisabledFiresNoEvents() throws Exception {
+		CountingListener listener = new CountingListener();
+		ExecutionEvents.addListener(listener);
+		try {
+			assertTrue(ExecutionEvents.isEnabled());
+			assertFalse(runMethod().isEmpty());
+		} finally {
+			ExecutionEvents.removeListener(listener);
+		}
+		assertTrue(listener.instructions > 0);
+		assertTrue(listener.solverQueries > 0);
+
+		// Without any listener, events are disabled and the unregistered listener is not notified.
+		assertFalse(ExecutionEvents.isEnabled());
+		long total = listener.total;
+		assertFalse(runMethod().isEmpty());
+		assertFalse(ExecutionEvents.isEnabled());
+		assertNull(ExecutionEvents.getRingBuffer());
+		assertEquals(total, listener.total);
+	}
+
+	@Test
+	public final void testRingBufferWraps() throws Exception {
+		RingBufferEventListener ringBuffer = new RingBufferEventListener(3);
+		assertEquals(4, ringBuffer.getCapacity());
+		assertTrue(ringBuffer.getRecentEvents().isEmpty());
+		for (int a = 0; a < 10; a++) {
+			ringBuffer.solutionFound(new Solution(), Integer.valueOf(a));
+		}
+		assertEquals(10L, ringBuffer.getNumberOfEvents());
+		List<String> events = ringBuffer.getRecentEvents();
+		assertEquals(4, events.size());
+		for (int a = 0; a < 4; a++) {
+			assertTrue(events.get(a).startsWith("#" + (a + 6) + " "));
+			assertTrue(events.get(a).endsWith(" returning " + (a + 6)));
+		}
+
+		ringBuffer.clear();
+		assertEquals(0L, ringBuffer.getNumberOfEvents());
+		assertTrue(ringBuffer.getRecentEvents().isEmpty());
+	}
+
+	@Test
+	public final void testConfiguredRingBufferWraps() throws Exception {
+		Options.getInst().executionEventRingBufferSize = 8;
+		assertFalse(runMethod().isEmpty());
+		RingBufferEventListener ringBuffer = ExecutionEvents.getRingBuffer();
+		assertNotNull(ringBuffer);
+		assertTrue(ringBuffer.getNumberOfEvents() > 8L);
+		List<String> events = ringBuffer.getRecentEvents();
+		assertEquals(8, events.size());
+		assertTrue(events.get(7).startsWith("#" + (ringBuffer.getNumberOfEvents() - 1L) + " "));
+
+		// Without a ring buffer configured, it is unregistered again.
+		Options.getInst().executionEventRingBufferSize = 0;
+		ExecutionEvents.configure();
+		assertNull(ExecutionEvents.getRingBuffer());
+		assertFalse(ExecutionEvents.isEnabled());
+	}
+
+	private List<String> runMethod() throws Exception {
+		return TestVMSymbolicMethodRunnerHelper.runMethodSolutions(classLoader,
+				ArrayParameter.class.getCanonicalName(), ArrayParameter.METHOD_firstOrLength,
+				MethodType.methodType(int.class, int[].class));
+	}
+
+	/**
+	 * Counts the events it is notified of.
+	 */
+	private static class CountingListener implements ExecutionEventListener {
+		long instructions;
+		long solverQueries;
+		long total;
+
+		@Override
+		public void executingInstruction(Frame frame, int pc, Instruction instruction) {
+			this.instructions++;
+			this.total++;
+		}
+
+		@Override
+		public void framePushed(Frame frame) {
+			count();
+		}
+
+		@Override
+		public void frameEntered(Frame frame) {
+			count();
+		}
+
+		@Override
+		public void framePopped(Frame frame) {
+			count();
+		}
+
+		@Override
+		public void choicePointCreated(ChoicePoint choicePoint) {
+			count();
+		}
+
+		@Override
+		public void choicePointBacktracked(ChoicePoint choicePoint) {
+			count();
+		}
+
+		@Override
+		public void solverQueryStarted(SolverManager solverManager, boolean solutionRequested) {
+			this.solverQueries++;
+			this.total++;
+		}
+
+		@Override
+		public void solverQueryFinished(SolverManager solverManager, boolean solutionRequested,
+				boolean solvable, long nanos) {
+			this.solverQueries++;
+			this.total++;
+		}
+
+		@Override
+		public void solutionFound(Solution solution, Object returnValue) {
+			count();
+		}
+
+		private void count() {
+			this.total++;
+		}
+	}
+
+}
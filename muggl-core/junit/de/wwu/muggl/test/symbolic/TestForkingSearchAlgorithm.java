@@ -0,0 +1,76 @@
+package de.wwu.muggl.test.symbolic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.lang.invoke.MethodType;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import de.wwu.muggl.binaryTestSuite.ArrayParameter;
+import de.wwu.muggl.configuration.Options;
+import de.wwu.muggl.test.TestSkeletonSymbolic;
+import de.wwu.muggl.vm.loading.MugglClassLoader;
+
+/**
+ * Checks that the breadth first search finds the same solutions as the depth first search. Its
+ * states are suspended after each choice, so resuming them has to move across their siblings,
+ * restoring the array their parameter was set to and the elements written since.
+ *
+ * @author agent
+ *
+ */
+public class TestForkingSearchAlgorithm extends TestSkeletonSymbolic {
+	MugglClassLoader classLoader;
+	int searchAlgorithm;
+	int symbArrayInitNumberOfRunsTotal;
+	int eliminateSolutionsByCoverage;
+	String solverManager;
+
+	@Before
+	public void setUp() throws Exception {
+		classLoader = new MugglClassLoader(mugglClassLoaderPaths);
+		Options options = Options.getInst();
+		searchAlgorithm = options.searchAlgorithm;
+		symbArrayInitNumberOfRunsTotal = options.symbArrayInitNumberOfRunsTotal;
+		eliminateSolutionsByCoverage = options.eliminateSolutionsByCoverage;
+		solverManager = options.solverManager;
+		options.symbArrayInitNumberOfRunsTotal = 3;
+		options.eliminateSolutionsByCoverage = 0;
+		options.solverManager = "de.wwu.testtool.solver.SolverManagerNew";
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		Options options = Options.getInst();
+		options.searchAlgorithm = searchAlgorithm;
+		options.symbArrayInitNumberOfRunsTotal = symbArrayInitNumberOfRunsTotal;
+		options.eliminateSolutionsByCoverage = eliminateSolutionsByCoverage;
+		options.solverManager = solverManager;
+	}
+
+	@Test
+	public final void testBreadthFirstSearchArrayParameter() throws Exception {
+		List<String> expected = runMethod(1, ArrayParameter.METHOD_firstOrLength);
+		assertFalse(expected.isEmpty());
+		assertEquals(expected, runMethod(0, ArrayParameter.METHOD_firstOrLength));
+	}
+
+	@Test
+	public final void testBreadthFirstSearchArrayElementsWritten() throws Exception {
+		List<String> expected = runMethod(1, ArrayParameter.METHOD_clearNegatives);
+		assertFalse(expected.isEmpty());
+		assertEquals(expected, runMethod(0, ArrayParameter.METHOD_clearNegatives));
+	}
+
+	private List<String> runMethod(int searchAlgorithm, String methodName) throws Exception {
+		Options.getInst().searchAlgorithm = searchAlgorithm;
+		return TestVMSymbolicMethodRunnerHelper.runMethodSolutions(classLoader,
+				ArrayParameter.class.getCanonicalName(), methodName,
+				MethodType.methodType(int.class, int[].class));
+	}
+
+}
@@ -0,0 +1,185 @@
+package de.wwu.muggl.test.symbolic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import de.wwu.muggl.binaryTestSuite.ArrayParameter;
+import de.wwu.muggl.configuration.Options;
+import de.wwu.muggl.symbolic.searchAlgorithms.choice.ChoicePoint;
+import de.wwu.muggl.symbolic.searchAlgorithms.iterativeDeepening.IterativeDeepeningSearchAlgorithm;
+import de.wwu.muggl.test.TestSkeletonSymbolic;
+import de.wwu.muggl.vm.events.ExecutionEventListener;
+import de.wwu.muggl.vm.events.ExecutionEvents;
+import de.wwu.muggl.vm.impl.symbolic.SymbolicVirtualMachine;
+import de.wwu.muggl.vm.loading.MugglClassLoader;
+
+/**
+ * Checks that the iterative deepening search finds the same solutions as the depth first search.
+ * Starting at a depth of one and deepening by one, every run after the first replays the choices
+ * leading to the frontier nodes of the run before. If there are too many frontier nodes, the runs
+ * explore the search tree from its root instead.
+ * 
+ * @author agent
+ *
+ */
+public class TestIterativeDeepeningSearchAlgorithm extends TestSkeletonSymbolic {
+	MugglClassLoader classLoader;
+	int searchAlgorithm;
+	int iterativeDeepeningStartingDepth;
+	int iterativeDeepeningDeepnessIncrement;
+	int iterativeDeepeningMaximumFrontierNodes;
+	int symbArrayInitNumberOfRunsTotal;
+	int eliminateSolutionsByCoverage;
+	String solverManager;
+
+	@Before
+	public void setUp() throws Exception {
+		classLoader = new MugglClassLoader(mugglClassLoaderPaths);
+		Options options = Options.getInst();
+		searchAlgorithm = options.searchAlgorithm;
+		iterativeDeepeningStartingDepth = options.iterativeDeepeningStartingDepth;
+		iterativeDeepeningDeepnessIncrement = options.iterativeDeepeningDeepnessIncrement;
+		iterativeDeepeningMaximumFrontierNodes = options.iterativeDeepeningMaximumFrontierNodes;
+		symbArrayInitNumberOfRunsTotal = options.symbArrayInitNumberOfRunsTotal;
+		eliminateSolutionsByCoverage = options.eliminateSolutionsByCoverage;
+		solverManager = options.solverManager;
+		options.iterativeDeepeningStartingDepth = 1;
+		options.iterativeDeepeningDeepnessIncrement = 1;
+		options.iterativeDeepeningMaximumFrontierNodes = 100000;
+		options.symbArrayInitNumberOfRunsTotal = 3;
+		options.eliminateSolutionsByCoverage = 0;
+		options.solverManager = "de.wwu.testtool.solver.SolverManagerNew";
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		Options options = Options.getInst();
+		options.searchAlgorithm = searchAlgorithm;
+		options.iterativeDeepeningStartingDepth = iterativeDeepeningStartingDepth;
+		options.iterativeDeepeningDeepnessIncrement = iterativeDeepeningDeepnessIncrement;
+		options.iterativeDeepeningMaximumFrontierNodes = iterativeDeepeningMaximumFrontierNodes;
+		options.symbArrayInitNumberOfRunsTotal = symbArrayInitNumberOfRunsTotal;
+		options.eliminateSolutionsByCoverage = eliminateSolutionsByCoverage;
+		options.solverManager = solverManager;
+	}
+
+	@Test
+	public final void testFrontierReplayArrayParameter() throws Exception {
+		List<String> expected = runMethod(1, ArrayParameter.METHOD_firstOrLength);
+		assertFalse(expected.isEmpty());
+		assertEquals(expected, runMethod(2, ArrayParameter.METHOD_firstOrLength));
+	}
+
+	@Test
+	public final void testFrontierReplayArrayElementsWritten() throws Exception {
+		List<String> expected = runMethod(1, ArrayParameter.METHOD_clearNegatives);
+		assertFalse(expected.isEmpty());
+		assertEquals(expected, runMethod(2, ArrayParameter.METHOD_clearNegatives));
+	}
+
+	@Test
+	public final void testMaximumDepthReachedLoadingArray() throws Exception {
+		MethodType methodType = MethodType.methodType(int.class, int.class, int[].class);
+		List<String> expected = runMethod(1, ArrayParameter.METHOD_lengthIfPositive, methodType);
+		assertFalse(expected.isEmpty());
+		assertEquals(expected, runMethod(2, ArrayParameter.METHOD_lengthIfPositive, methodType));
+	}
+
+	@Test
+	public final void testFrontierBounded() throws Exception {
+		List<String> expected = runMethod(1, ArrayParameter.METHOD_firstOrLength);
+		assertFalse(expected.isEmpty());
+		Options.getInst().iterativeDeepeningMaximumFrontierNodes = 2;
+		assertEquals(expected, runMethod(2, ArrayParameter.METHOD_firstOrLength));
+		Options.getInst().iterativeDeepeningMaximumFrontierNodes = 0;
+		assertEquals(expected, runMethod(2, ArrayParameter.METHOD_firstOrLength));
+	}
+
+	@Test
+	public final void testRestartedMachineAloneUsesSearchAlgorithm() throws Exception {
+		CheckingSearchAlgorithm algorithm = new CheckingSearchAlgorithm();
+		TestVMSymbolicMethodRunnerHelper.runMethodSolutions(classLoader,
+				ArrayParameter.class.getCanonicalName(), ArrayParameter.METHOD_clearNegatives,
+				MethodType.methodType(int.class, int[].class), algorithm);
+		assertTrue(algorithm.machines.size() > 1);
+		assertEquals(Collections.emptyList(), algorithm.callsByReplacedMachines);
+	}
+
+	@Test
+	public final void testChoicePointsReportedOnce() throws Exception {
+		final Set<ChoicePoint> created = Collections
+				.newSetFromMap(new IdentityHashMap<ChoicePoint, Boolean>());
+		final List<ChoicePoint> reportedAgain = new ArrayList<ChoicePoint>();
+		ExecutionEventListener listener = new ExecutionEventListener() {
+			@Override
+			public void choicePointCreated(ChoicePoint choicePoint) {
+				if (!created.add(choicePoint)) reportedAgain.add(choicePoint);
+			}
+		};
+		ExecutionEvents.addListener(listener);
+		try {
+			assertFalse(runMethod(2, ArrayParameter.METHOD_clearNegatives).isEmpty());
+		} finally {
+			ExecutionEvents.removeListener(listener);
+		}
+		assertFalse(created.isEmpty());
+		assertEquals(Collections.emptyList(), reportedAgain);
+	}
+
+	private List<String> runMethod(int searchAlgorithm, String methodName) throws Exception {
+		return runMethod(searchAlgorithm, methodName, MethodType.methodType(int.class, int[].class));
+	}
+
+	private List<String> runMethod(int searchAlgorithm, String methodName, MethodType methodType)
+			throws Exception {
+		Options.getInst().searchAlgorithm = searchAlgorithm;
+		return TestVMSymbolicMethodRunnerHelper.runMethodSolutions(classLoader,
+				ArrayParameter.class.getCanonicalName(), methodName, methodType);
+	}
+
+	/**
+	 * Records calls made by virtual machines that have been replaced by a restart. Once replaced,
+	 * a virtual machine must neither track back nor report executed instructions, as the search
+	 * algorithm is used by its successor.
+	 */
+	private static class CheckingSearchAlgorithm extends IterativeDeepeningSearchAlgorithm {
+		final Set<SymbolicVirtualMachine> machines = Collections
+				.newSetFromMap(new IdentityHashMap<SymbolicVirtualMachine, Boolean>());
+		final List<String> callsByReplacedMachines = new ArrayList<String>();
+
+		CheckingSearchAlgorithm() {
+			super(1, 1);
+		}
+
+		@Override
+		public boolean trackBack(SymbolicVirtualMachine vm) {
+			check(vm, "trackBack");
+			return super.trackBack(vm);
+		}
+
+		@Override
+		public void instructionExecuted(SymbolicVirtualMachine vm) {
+			check(vm, "instructionExecuted");
+			super.instructionExecuted(vm);
+		}
+
+		private void check(SymbolicVirtualMachine vm, String call) {
+			this.machines.add(vm);
+			if (vm.getApplication().getVirtualMachine() != vm)
+				this.callsByReplacedMachines.add(call + " by machine " + this.machines.size());
+		}
+	}
+
+}
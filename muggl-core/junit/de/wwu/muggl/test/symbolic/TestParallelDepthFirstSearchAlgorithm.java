@@ -0,0 +1,84 @@
+package de.wwu.muggl.test.symbolic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.lang.invoke.MethodType;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import de.wwu.muggl.binaryTestSuite.ArrayParameter;
+import de.wwu.muggl.configuration.Options;
+import de.wwu.muggl.test.TestSkeletonSymbolic;
+import de.wwu.muggl.vm.loading.MugglClassLoader;
+
+/**
+ * Checks that the parallel depth first search finds the same solutions regardless of the number
+ * of workers. With more than one worker, subtrees are donated and explored by fresh virtual
+ * machines replaying the choices leading to them.
+ *
+ * @author agent
+ *
+ */
+public class TestParallelDepthFirstSearchAlgorithm extends TestSkeletonSymbolic {
+	MugglClassLoader classLoader;
+	int searchAlgorithm;
+	boolean enableSJVMMultithreading;
+	int numberOfSimultaneousThreads;
+	int symbArrayInitNumberOfRunsTotal;
+	int eliminateSolutionsByCoverage;
+	String solverManager;
+
+	@Before
+	public void setUp() throws Exception {
+		classLoader = new MugglClassLoader(mugglClassLoaderPaths);
+		Options options = Options.getInst();
+		searchAlgorithm = options.searchAlgorithm;
+		enableSJVMMultithreading = options.enableSJVMMultithreading;
+		numberOfSimultaneousThreads = options.numberOfSimultaneousThreads;
+		symbArrayInitNumberOfRunsTotal = options.symbArrayInitNumberOfRunsTotal;
+		eliminateSolutionsByCoverage = options.eliminateSolutionsByCoverage;
+		solverManager = options.solverManager;
+		options.searchAlgorithm = 1;
+		options.enableSJVMMultithreading = true;
+		options.symbArrayInitNumberOfRunsTotal = 3;
+		options.eliminateSolutionsByCoverage = 0;
+		options.solverManager = "de.wwu.testtool.solver.SolverManagerNew";
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		Options options = Options.getInst();
+		options.searchAlgorithm = searchAlgorithm;
+		options.enableSJVMMultithreading = enableSJVMMultithreading;
+		options.numberOfSimultaneousThreads = numberOfSimultaneousThreads;
+		options.symbArrayInitNumberOfRunsTotal = symbArrayInitNumberOfRunsTotal;
+		options.eliminateSolutionsByCoverage = eliminateSolutionsByCoverage;
+		options.solverManager = solverManager;
+	}
+
+	@Test
+	public final void testWorkersArrayParameter() throws Exception {
+		List<String> expected = runMethod(1, ArrayParameter.METHOD_firstOrLength);
+		assertFalse(expected.isEmpty());
+		assertEquals(expected, runMethod(4, ArrayParameter.METHOD_firstOrLength));
+	}
+
+	@Test
+	public final void testWorkersArrayElementsWritten() throws Exception {
+		List<String> expected = runMethod(1, ArrayParameter.METHOD_clearNegatives);
+		assertFalse(expected.isEmpty());
+		assertEquals(expected, runMethod(4, ArrayParameter.METHOD_clearNegatives));
+	}
+
+	private List<String> runMethod(int numberOfWorkers, String methodName) throws Exception {
+		Options.getInst().numberOfSimultaneousThreads = numberOfWorkers;
+		return TestVMSymbolicMethodRunnerHelper.runMethodSolutions(classLoader,
+				ArrayParameter.class.getCanonicalName(), methodName,
+				MethodType.methodType(int.class, int[].class));
+	}
+
+}
@@ -0,0 +1,138 @@
+package de.wwu.muggl.test.symbolic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import de.wwu.muggl.solvers.Solution;
+import de.wwu.muggl.solvers.expressions.BooleanConstant;
+import de.wwu.muggl.solvers.expressions.ConstraintExpression;
+import de.wwu.muggl.solvers.expressions.Expression;
+import de.wwu.muggl.solvers.expressions.GreaterThan;
+import de.wwu.muggl.solvers.expressions.IntConstant;
+import de.wwu.muggl.solvers.expressions.LessThan;
+import de.wwu.muggl.solvers.expressions.NumericVariable;
+import de.wwu.muggl.solvers.expressions.Or;
+import de.wwu.muggl.solvers.solver.constraints.ConstraintStack;
+import de.wwu.muggl.solvers.solver.tools.SubstitutionTable;
+import de.wwu.muggl.test.TestSkeleton;
+
+/**
+ * Checks that the solution cache of a constraint stack element answers lookups with the model of
+ * the parent system if, and only if, it satisfies the constraints added by the element.
+ *
+ * @author agent
+ *
+ */
+public class TestSolutionCache extends TestSkeleton {
+	SubstitutionTable substitutionTable;
+	ConstraintStack stack;
+	NumericVariable x;
+	Solution xIsTen;
+	// The lookups counted before a test, as registering a solution looks one up.
+	long hits;
+	long misses;
+
+	@Before
+	public void setUp() throws Exception {
+		substitutionTable = new SubstitutionTable();
+		stack = new ConstraintStack();
+		x = new NumericVariable("x", Expression.INT, false);
+		addConstraint(GreaterThan.newInstance(x, IntConstant.getInstance(0)));
+		xIsTen = new Solution();
+		xIsTen.addBinding(x, IntConstant.getInstance(10));
+		stack.setSolution(0, xIsTen);
+		hits = stack.getSolutionCacheHits();
+		misses = stack.getSolutionCacheMisses();
+	}
+
+	@Test
+	public final void testParentSolutionReused() {
+		addConstraint(GreaterThan.newInstance(x, IntConstant.getInstance(5)));
+		assertEquals(xIsTen, stack.getCachedSolution(0));
+		assertEquals(1, stack.getSolutionCacheHits() - hits);
+		assertEquals(0, stack.getSolutionCacheMisses() - misses);
+
+		// The parent solution has been cached for the element.
+		assertEquals(xIsTen, stack.getCachedSolution(0));
+		assertEquals(2, stack.getSolutionCacheHits() - hits);
+	}
+
+	@Test
+	public final void testParentSolutionNotSatisfying() {
+		addConstraint(GreaterThan.newInstance(x, IntConstant.getInstance(20)));
+		assertNull(stack.getCachedSolution(0));
+		assertEquals(0, stack.getSolutionCacheHits() - hits);
+		assertEquals(1, stack.getSolutionCacheMisses() - misses);
+
+		// A solution registered for the element takes precedence.
+		Solution xIsThirty = new Solution();
+		xIsThirty.addBinding(x, IntConstant.getInstance(30));
+		stack.setSolution(0, xIsThirty);
+		assertEquals(xIsThirty, stack.getCachedSolution(0));
+		assertEquals(1, stack.getSolutionCacheHits() - hits);
+	}
+
+	@Test
+	public final void testParentSolutionPerNodeSystem() {
+		addConstraint(Or.newInstance(GreaterThan.newInstance(x, IntConstant.getInstance(5)),
+				LessThan.newInstance(x, IntConstant.getInstance(-5))));
+		assertEquals(2, stack.getSystemCount());
+		assertEquals(xIsTen, stack.getCachedSolution(0));
+		assertNull(stack.getCachedSolution(1));
+		assertEquals(1, stack.getSolutionCacheHits() - hits);
+		assertEquals(1, stack.getSolutionCacheMisses() - misses);
+	}
+
+	@Test
+	public final void testCountersPerStack() {
+		ConstraintStack other = stack;
+		stack = new ConstraintStack();
+		addConstraint(GreaterThan.newInstance(x, IntConstant.getInstance(0)));
+		assertNull(stack.getCachedSolution(0));
+		assertEquals(misses, other.getSolutionCacheMisses());
+
+		// The lookups of removed elements are still counted.
+		stack.removeConstraint();
+		assertEquals(0, stack.getSolutionCacheHits());
+		assertEquals(1, stack.getSolutionCacheMisses());
+	}
+
+	@Test
+	public final void testContradictoryParent() {
+		stack.removeConstraint();
+		addConstraint(LessThan.newInstance(x, IntConstant.getInstance(0)));
+		stack.setSolution(0, Solution.NOSOLUTION);
+		addConstraint(GreaterThan.newInstance(x, IntConstant.getInstance(5)));
+		assertEquals(Solution.NOSOLUTION, stack.getCachedSolution(0));
+	}
+
+	@Test
+	public final void testPlaceholderExpression() {
+		// Solver managers only adding composed constraints push BooleanConstant.TRUE instead of the expression.
+		addPlaceholderConstraint(GreaterThan.newInstance(x, IntConstant.getInstance(20)));
+		assertNull(stack.getCachedSolution(0));
+		Solution xIsThirty = new Solution();
+		xIsThirty.addBinding(x, IntConstant.getInstance(30));
+		stack.setSolution(0, xIsThirty);
+
+		// The constraint is not dropped although the stack already contains the placeholder.
+		addPlaceholderConstraint(LessThan.newInstance(x, IntConstant.getInstance(25)));
+		assertNull(stack.getCachedSolution(0));
+	}
+
+	private void addConstraint(ConstraintExpression constraintExpression) {
+		stack.addConstraint(constraintExpression,
+				constraintExpression.convertToComposedConstraint(substitutionTable));
+		substitutionTable.signalStackElementAdded();
+	}
+
+	private void addPlaceholderConstraint(ConstraintExpression constraintExpression) {
+		stack.addConstraint(BooleanConstant.TRUE,
+				constraintExpression.convertToComposedConstraint(substitutionTable));
+		substitutionTable.signalStackElementAdded();
+	}
+
+}
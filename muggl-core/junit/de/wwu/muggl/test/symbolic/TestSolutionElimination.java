@@ -0,0 +1,144 @@
+package de.wwu.muggl.test.symbolic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import de.wwu.muggl.binaryTestSuite.ArrayParameter;
+import de.wwu.muggl.configuration.Options;
+import de.wwu.muggl.solvers.Solution;
+import de.wwu.muggl.solvers.expressions.IntConstant;
+import de.wwu.muggl.symbolic.testCases.SolutionProcessor;
+import de.wwu.muggl.symbolic.testCases.TestCaseSolution;
+import de.wwu.muggl.test.TestSkeletonSymbolic;
+import de.wwu.muggl.vm.Application;
+import de.wwu.muggl.vm.classfile.ClassFile;
+import de.wwu.muggl.vm.classfile.structures.Method;
+import de.wwu.muggl.vm.impl.symbolic.SymbolicVirtualMachine;
+import de.wwu.muggl.vm.loading.MugglClassLoader;
+
+/**
+ * Checks that the greedy elimination keeps the solutions covering the most yet uncovered def-use
+ * chains or control graph edges, drops those covering nothing or the same as an earlier one, and
+ * picks the same solutions if they are wrapped as they are found.
+ *
+ * @author agent
+ *
+ */
+public class TestSolutionElimination extends TestSkeletonSymbolic {
+	Application application;
+	Method method;
+	SolutionProcessor solutionProcessor;
+	String solverManager;
+	int eliminateSolutionsByCoverage;
+	boolean eliminateSolutionsIncrementally;
+
+	@Before
+	public void setUp() throws Exception {
+		Options options = Options.getInst();
+		solverManager = options.solverManager;
+		eliminateSolutionsByCoverage = options.eliminateSolutionsByCoverage;
+		eliminateSolutionsIncrementally = options.eliminateSolutionsIncrementally;
+		options.solverManager = "de.wwu.testtool.solver.SolverManagerNew";
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		if (application != null)
+			application.finalizeApplication();
+		Options options = Options.getInst();
+		options.solverManager = solverManager;
+		options.eliminateSolutionsByCoverage = eliminateSolutionsByCoverage;
+		options.eliminateSolutionsIncrementally = eliminateSolutionsIncrementally;
+	}
+
+	@Test
+	public final void testDefUseChains() throws Exception {
+		assertEquals(eliminateByDefUseChains(false), eliminateByDefUseChains(true));
+	}
+
+	@Test
+	public final void testControlGraphEdges() throws Exception {
+		assertEquals(eliminateByControlGraphEdges(false), eliminateByControlGraphEdges(true));
+	}
+
+	@Test
+	public final void testBothCriteria() throws Exception {
+		setUpSolutionProcessor(3, false);
+		// The def-use chains are covered first, then the remaining edges.
+		addSolution(0, new boolean[] { true, false }, new boolean[] { false, false, false });
+		addSolution(1, new boolean[] { true, false }, new boolean[] { true, true, false });
+		addSolution(2, new boolean[] { false, true }, new boolean[] { false, false, false });
+		addSolution(3, new boolean[] { false, false }, new boolean[] { false, false, true });
+		assertEquals("[1, 2, 3]", eliminate().toString());
+	}
+
+	private List<Integer> eliminateByDefUseChains(boolean incrementally) throws Exception {
+		setUpSolutionProcessor(1, incrementally);
+		addSolution(0, new boolean[] { true, true, false, false }, null);
+		addSolution(1, new boolean[] { false, false, true, true }, null);
+		addSolution(2, new boolean[] { true, true, true, false }, null);
+		// Covers nothing.
+		addSolution(3, new boolean[] { false, false, false, false }, null);
+		// Covers the same as the first solution.
+		addSolution(4, new boolean[] { true, true, false, false }, null);
+		List<Integer> kept = eliminate();
+		assertEquals("[2, 1]", kept.toString());
+		return kept;
+	}
+
+	private List<Integer> eliminateByControlGraphEdges(boolean incrementally) throws Exception {
+		setUpSolutionProcessor(2, incrementally);
+		addSolution(0, new boolean[] { true, true, true }, new boolean[] { true, false, true });
+		addSolution(1, new boolean[] { false, false, false }, new boolean[] { false, true, false });
+		addSolution(2, new boolean[] { false, false, false }, new boolean[] { true, false, false });
+		List<Integer> kept = eliminate();
+		assertEquals("[0, 1]", kept.toString());
+		return kept;
+	}
+
+	private void setUpSolutionProcessor(int eliminateSolutionsByCoverage, boolean incrementally)
+			throws Exception {
+		if (application != null)
+			application.finalizeApplication();
+		Options.getInst().eliminateSolutionsByCoverage = eliminateSolutionsByCoverage;
+		Options.getInst().eliminateSolutionsIncrementally = incrementally;
+		MugglClassLoader classLoader = new MugglClassLoader(mugglClassLoaderPaths);
+		ClassFile classFile = classLoader.getClassAsClassFile(ArrayParameter.class.getCanonicalName(), true);
+		method = classFile.getMethodByNameAndDescriptor(ArrayParameter.METHOD_firstOrLength, "([I)I");
+		application = new Application(classLoader, classFile.getName(), method);
+		solutionProcessor = ((SymbolicVirtualMachine) application.getVirtualMachine()).getSolutionProcessor();
+	}
+
+	private void addSolution(int returnValue, boolean[] dUCoverage, boolean[] cFCoverage) {
+		Map<Method, boolean[]> controlFlowCoverageMapping = new HashMap<Method, boolean[]>();
+		if (cFCoverage != null)
+			controlFlowCoverageMapping.put(method, cFCoverage);
+		// The return values tell the solutions apart.
+		solutionProcessor.addSolution(new Solution(), IntConstant.getInstance(returnValue), false,
+				controlFlowCoverageMapping, dUCoverage);
+	}
+
+	private List<Integer> eliminate() {
+		solutionProcessor.generateTestCases();
+		assertFalse(solutionProcessor.hasTestCaseGenerationFailed());
+		assertTrue(solutionProcessor.hasFinishedElimination());
+		List<Integer> kept = new ArrayList<Integer>();
+		TestCaseSolution solution = solutionProcessor.getFirstSolution();
+		while (solution != null) {
+			kept.add(((IntConstant) solution.getReturnValue()).getIntValue());
+			solution = solution.getSuccessor();
+		}
+		return kept;
+	}
+
+}
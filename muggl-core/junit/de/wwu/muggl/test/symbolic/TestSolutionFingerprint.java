@@ -0,0 +1,147 @@
+package de.wwu.muggl.test.symbolic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.HashMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import de.wwu.muggl.binaryTestSuite.ArrayParameter;
+import de.wwu.muggl.configuration.Options;
+import de.wwu.muggl.solvers.Solution;
+import de.wwu.muggl.solvers.expressions.Expression;
+import de.wwu.muggl.solvers.expressions.IntConstant;
+import de.wwu.muggl.solvers.expressions.NumericVariable;
+import de.wwu.muggl.symbolic.testCases.SolutionProcessor;
+import de.wwu.muggl.symbolic.testCases.TestCaseSolution;
+import de.wwu.muggl.test.TestSkeletonSymbolic;
+import de.wwu.muggl.vm.Application;
+import de.wwu.muggl.vm.classfile.ClassFile;
+import de.wwu.muggl.vm.classfile.structures.Method;
+import de.wwu.muggl.vm.impl.symbolic.SymbolicVirtualMachine;
+import de.wwu.muggl.vm.loading.MugglClassLoader;
+
+/**
+ * Checks that solutions equal to one found before are dropped on arrival, and that deleting the
+ * redundancy of a list of solutions keeps the first of any equal solutions. Also checks that
+ * solutions found in an earlier execution are passed on along with the current ones.
+ *
+ * @author agent
+ *
+ */
+public class TestSolutionFingerprint extends TestSkeletonSymbolic {
+	Application application;
+	Method method;
+	SolutionProcessor solutionProcessor;
+	NumericVariable x;
+	String solverManager;
+
+	@Before
+	public void setUp() throws Exception {
+		solverManager = Options.getInst().solverManager;
+		Options.getInst().solverManager = "de.wwu.testtool.solver.SolverManagerNew";
+		MugglClassLoader classLoader = new MugglClassLoader(mugglClassLoaderPaths);
+		ClassFile classFile = classLoader.getClassAsClassFile(ArrayParameter.class.getCanonicalName(), true);
+		method = classFile.getMethodByNameAndDescriptor(ArrayParameter.METHOD_firstOrLength, "([I)I");
+		application = new Application(classLoader, classFile.getName(), method);
+		solutionProcessor = ((SymbolicVirtualMachine) application.getVirtualMachine()).getSolutionProcessor();
+		x = new NumericVariable("x", Expression.INT, false);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		application.finalizeApplication();
+		Options.getInst().solverManager = solverManager;
+	}
+
+	@Test
+	public final void testDuplicateDroppedOnArrival() {
+		addSolution(1, 2, false);
+		addSolution(1, 2, false);
+		assertEquals(1, solutionProcessor.getNumberOfDuplicatesDropped());
+		assertFalse(solutionProcessor.getFirstSolution().hasSuccessor());
+
+		addSolution(2, 2, false);
+		assertEquals(1, solutionProcessor.getNumberOfDuplicatesDropped());
+		assertEquals(2, solutionProcessor.getFirstSolution().getNumberOfSolutions());
+	}
+
+	@Test
+	public final void testUncaughtExceptionNotDropped() {
+		addSolution(1, 2, false);
+		addSolution(1, 2, true);
+		assertEquals(0, solutionProcessor.getNumberOfDuplicatesDropped());
+		assertEquals(2, solutionProcessor.getFirstSolution().getNumberOfSolutions());
+	}
+
+	@Test
+	public final void testDeleteRedundancy() throws Exception {
+		TestCaseSolution first = newSolution(1, null);
+		TestCaseSolution second = newSolution(2, first);
+		TestCaseSolution third = newSolution(1, second);
+		assertEquals(first.getFingerprint(), third.getFingerprint());
+
+		third.deleteRedundancy(solutionProcessor);
+		assertSame(second, first.getSuccessor());
+		assertNull(second.getSuccessor());
+		assertNull(third.getPredecessor());
+	}
+
+	@Test
+	public final void testEarlierSolutionsIncluded() {
+		TestCaseSolution earlier = newSolution(1, null);
+		newSolution(2, earlier);
+		solutionProcessor.addFirstSolutionFoundEalier(earlier);
+		addSolution(3, 3, false);
+		assertEquals(1, solutionProcessor.getFirstSolution().getNumberOfSolutions());
+
+		// The solutions found earlier are linked in front of the current ones.
+		TestCaseSolution first = solutionProcessor.getFirstSolutionIncludingEarlierOnes();
+		assertSame(earlier, first);
+		assertSame(first, solutionProcessor.getFirstSolution());
+		assertEquals(3, first.getNumberOfSolutions());
+		assertSame(first, solutionProcessor.getFirstSolutionIncludingEarlierOnes());
+
+		addSolution(4, 4, false);
+		assertEquals(4, first.getNumberOfSolutions());
+	}
+
+	@Test
+	public final void testOnlyEarlierSolutionsIncluded() {
+		TestCaseSolution earlier = newSolution(1, null);
+		newSolution(2, earlier);
+		solutionProcessor.addFirstSolutionFoundEalier(earlier);
+		assertNull(solutionProcessor.getFirstSolution());
+		assertSame(earlier, solutionProcessor.getFirstSolutionIncludingEarlierOnes());
+
+		// Solutions found afterwards are appended to the solutions found earlier.
+		addSolution(3, 3, false);
+		assertSame(earlier, solutionProcessor.getFirstSolution());
+		assertEquals(3, earlier.getNumberOfSolutions());
+	}
+
+	private void addSolution(int value, int returnValue, boolean throwsAnUncaughtException) {
+		solutionProcessor.addSolution(bind(value), Integer.valueOf(returnValue), throwsAnUncaughtException,
+				new HashMap<Method, boolean[]>(), new boolean[0]);
+	}
+
+	private TestCaseSolution newSolution(int value, TestCaseSolution predecessor) {
+		if (predecessor == null)
+			return new TestCaseSolution(method, bind(value), Integer.valueOf(value), false, new Object[1],
+					new boolean[0], new HashMap<Method, boolean[]>());
+		return new TestCaseSolution(method, bind(value), Integer.valueOf(value), false, new Object[1],
+				new boolean[0], new HashMap<Method, boolean[]>(), predecessor);
+	}
+
+	private Solution bind(int value) {
+		Solution solution = new Solution();
+		solution.addBinding(x, IntConstant.getInstance(value));
+		return solution;
+	}
+
+}
@@ -0,0 +1,141 @@
+package de.wwu.muggl.test.symbolic;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import de.wwu.muggl.symbolic.searchAlgorithms.SearchAlgorithm;
+import de.wwu.muggl.symbolic.searchAlgorithms.choice.ChoicePoint;
+import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.StackToTrail;
+import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.StackWatermark;
+import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.TrailElement;
+import de.wwu.muggl.test.TestSkeleton;
+
+/**
+ * Checks that a StackToTrail adds a single watermark per choice point to the trail, and that
+ * restoring and swapping it brings back the items popped since.
+ * 
+ * @author agent
+ *
+ */
+public class TestStackWatermark extends TestSkeleton {
+	List<TrailElement> trail;
+	ChoicePoint currentChoicePoint;
+	StackToTrail stack;
+
+	@Before
+	public void setUp() throws Exception {
+		trail = new ArrayList<TrailElement>();
+		currentChoicePoint = null;
+		stack = new StackToTrail(false, (SearchAlgorithm) proxy(SearchAlgorithm.class));
+		stack.push(1);
+		stack.push(2);
+		stack.push(3);
+		currentChoicePoint = (ChoicePoint) proxy(ChoicePoint.class);
+	}
+
+	@Test
+	public final void testSingleWatermarkPerChoicePoint() {
+		stack.pop();
+		stack.push(4);
+		stack.pop();
+		stack.pop();
+		assertEquals(1, trail.size());
+		StackWatermark watermark = (StackWatermark) trail.get(0);
+		assertEquals(3, watermark.getHeight());
+		assertEquals(1, watermark.getLowWatermark());
+
+		currentChoicePoint = (ChoicePoint) proxy(ChoicePoint.class);
+		stack.push(5);
+		assertEquals(2, trail.size());
+		assertEquals(1, ((StackWatermark) trail.get(1)).getHeight());
+	}
+
+	@Test
+	public final void testRestore() {
+		stack.pop();
+		stack.pop();
+		stack.push(4);
+		stack.push(5);
+		stack.push(6);
+		((StackWatermark) trail.get(0)).restore();
+		assertArrayEquals(new Object[] { 1, 2, 3 }, stack.toArray());
+
+		// The next modification adds a new watermark.
+		stack.pop();
+		assertEquals(2, trail.size());
+	}
+
+	@Test
+	public final void testSwap() {
+		stack.pop();
+		stack.pop();
+		stack.push(4);
+		stack.push(5);
+		stack.push(6);
+		StackWatermark watermark = (StackWatermark) trail.get(0);
+		watermark.swap();
+		assertArrayEquals(new Object[] { 1, 2, 3 }, stack.toArray());
+		watermark.swap();
+		assertArrayEquals(new Object[] { 1, 4, 5, 6 }, stack.toArray());
+		watermark.swap();
+		assertArrayEquals(new Object[] { 1, 2, 3 }, stack.toArray());
+	}
+
+	@Test
+	public final void testRestoreUnboxed() {
+		stack.pushLong(4L);
+		stack.pushDouble(5.5d);
+		currentChoicePoint = (ChoicePoint) proxy(ChoicePoint.class);
+		assertEquals(5.5d, stack.popDouble(), 0d);
+		assertEquals(4L, stack.popLong());
+		stack.pushInt(6);
+		((StackWatermark) trail.get(1)).restore();
+		assertArrayEquals(new Object[] { 1, 2, 3, 4L, 5.5d }, stack.toArray());
+		assertEquals(5.5d, stack.popDouble(), 0d);
+	}
+
+	@Test
+	public final void testPushOnlyKeepsItems() {
+		stack.push(4);
+		StackWatermark watermark = (StackWatermark) trail.get(0);
+		assertEquals(3, watermark.getLowWatermark());
+		watermark.restore();
+		assertArrayEquals(new Object[] { 1, 2, 3 }, stack.toArray());
+		assertTrue(watermark.toString().contains("operand stack"));
+	}
+
+	/**
+	 * Implement the search algorithm or a choice point as far as the stack uses them.
+	 */
+	private Object proxy(Class<?> type) {
+		return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { type },
+				(proxy, method, args) -> {
+					switch (method.getName()) {
+					case "getCurrentChoicePoint":
+						return currentChoicePoint;
+					case "hasTrail":
+						return true;
+					case "addToTrail":
+						trail.add((TrailElement) args[0]);
+						return null;
+					case "hashCode":
+						return System.identityHashCode(proxy);
+					case "equals":
+						return proxy == args[0];
+					case "toString":
+						return type.getSimpleName();
+					default:
+						throw new UnsupportedOperationException(method.getName());
+					}
+				});
+	}
+
+}
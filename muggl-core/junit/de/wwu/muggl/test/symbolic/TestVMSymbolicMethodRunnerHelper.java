@@ -1,6 +1,26 @@
 package de.wwu.muggl.test.symbolic;
 
+import static org.junit.Assert.fail;
+
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import de.wwu.muggl.configuration.Globals;
+import de.wwu.muggl.configuration.Options;
+import de.wwu.muggl.symbolic.searchAlgorithms.SearchAlgorithm;
+import de.wwu.muggl.symbolic.testCases.SolutionProcessor;
+import de.wwu.muggl.symbolic.testCases.TestCaseSolution;
 import de.wwu.muggl.test.real.vm.TestVMNormalMethodRunnerHelper;
+import de.wwu.muggl.vm.Application;
+import de.wwu.muggl.vm.classfile.ClassFile;
+import de.wwu.muggl.vm.classfile.ClassFileException;
+import de.wwu.muggl.vm.classfile.structures.Method;
+import de.wwu.muggl.vm.impl.symbolic.SymbolicVirtualMachine;
+import de.wwu.muggl.vm.initialization.InitializationException;
+import de.wwu.muggl.vm.loading.MugglClassLoader;
 
 /**
  * This is what all symbolicVM tests depend upon.
@@ -10,4 +30,66 @@ import de.wwu.muggl.test.real.vm.TestVMNormalMethodRunnerHelper;
  */
 public class TestVMSymbolicMethodRunnerHelper extends TestVMNormalMethodRunnerHelper {
 
+	/**
+	 * Execute a method symbolically and collect the solutions found.
+	 * 
+	 * @return The parameters and return values of the solutions, sorted.
+	 */
+	public static List<String> runMethodSolutions(MugglClassLoader classLoader, final String classFileName,
+			final String methodName, final MethodType methodType)
+			throws ClassFileException, InitializationException, InterruptedException {
+		return runMethodSolutions(classLoader, classFileName, methodName, methodType, null);
+	}
+
+	/**
+	 * Execute a method symbolically with the supplied search algorithm and collect the solutions
+	 * found.
+	 * 
+	 * @param searchAlgorithm The search algorithm to use, or null to use the one set in the options.
+	 * @return The parameters and return values of the solutions, sorted.
+	 */
+	public static List<String> runMethodSolutions(MugglClassLoader classLoader, final String classFileName,
+			final String methodName, final MethodType methodType, SearchAlgorithm searchAlgorithm)
+			throws ClassFileException, InitializationException, InterruptedException {
+		Options.getInst().symbolicMode = true;
+
+		ClassFile classFile = classLoader.getClassAsClassFile(classFileName, true);
+
+		Method method = classFile.getMethodByNameAndDescriptor(methodName, methodType.toMethodDescriptorString());
+
+		Application application = new Application(classLoader, classFile.getName(), method);
+		if (searchAlgorithm != null) {
+			application.setVirtualMachine(new SymbolicVirtualMachine(searchAlgorithm,
+					(SymbolicVirtualMachine) application.getVirtualMachine()));
+		}
+		application.start();
+
+		while (!application.getExecutionFinished()) {
+			Thread.sleep(Globals.SAFETY_SLEEP_DELAY);
+		}
+
+		// Find out if execution finished successfully.
+		if (application.errorOccured()) {
+			fail("Execution did not finish successfully. The reason is:\n" + application.fetchError());
+		}
+
+		// The execution is marked as finished before the test cases are generated.
+		SolutionProcessor solutionProcessor = ((SymbolicVirtualMachine) application.getVirtualMachine())
+				.getSolutionProcessor();
+		while (!solutionProcessor.hasTestCaseGenerationFinished()
+				&& !solutionProcessor.hasTestCaseGenerationAborted()) {
+			Thread.sleep(Globals.SAFETY_SLEEP_DELAY);
+		}
+
+		List<String> solutions = new ArrayList<String>();
+		TestCaseSolution solution = solutionProcessor.getFirstSolution();
+		while (solution != null) {
+			solutions.add(Arrays.deepToString(solution.getParameters()) + " -> " + solution.getReturnValue());
+			solution = solution.getSuccessor();
+		}
+		application.finalizeApplication();
+		Collections.sort(solutions);
+		return solutions;
+	}
+
 }
@@ -0,0 +1,120 @@
+package de.wwu.muggl.test.symbolic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import de.wwu.muggl.binaryTestSuite.Putfield;
+import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.WriteTrail;
+import de.wwu.muggl.test.TestSkeleton;
+import de.wwu.muggl.vm.classfile.ClassFile;
+import de.wwu.muggl.vm.classfile.structures.Field;
+import de.wwu.muggl.vm.classfile.structures.Method;
+import de.wwu.muggl.vm.impl.symbolic.SymbolicFrame;
+import de.wwu.muggl.vm.initialization.FieldContainer;
+import de.wwu.muggl.vm.loading.MugglClassLoader;
+
+/**
+ * Checks that a WriteTrail records only the first write to each location, and that restoring or
+ * swapping it brings back the values written over.
+ * 
+ * @author agent
+ *
+ */
+public class TestWriteTrail extends TestSkeleton {
+	Field field;
+	FieldContainer container;
+	Method method;
+	SymbolicFrame frame;
+
+	@Before
+	public void setUp() throws Exception {
+		MugglClassLoader classLoader = new MugglClassLoader(mugglClassLoaderPaths);
+		ClassFile classFile = classLoader.getClassAsClassFile(Putfield.class.getCanonicalName(), true);
+		field = classFile.getFieldByName("primitive");
+		container = new FieldContainer(classFile.getStaticFieldLayout(),
+				classFile.getClassLoader().getHeapJournal()) {
+		};
+		container.putField(field, 1);
+		method = classFile.getMethodByNameAndDescriptor(Putfield.METHOD_testPutStaticInt, "(I)Z");
+		frame = new SymbolicFrame(null, null, method, classFile.getConstantPool(), new Object[] { 1 });
+		method.setGeneratedValue(0, 1);
+	}
+
+	@Test
+	public final void testRestore() {
+		WriteTrail trail = new WriteTrail();
+		write(trail, 2);
+		write(trail, 3);
+		// Generated values are recorded on every write.
+		assertEquals(4, trail.size());
+		trail.restore();
+		assertEquals(0, trail.size());
+		assertValues(1);
+	}
+
+	@Test
+	public final void testRecordAgainAfterRestore() {
+		WriteTrail trail = new WriteTrail();
+		write(trail, 2);
+		trail.restore();
+		write(trail, 3);
+		assertEquals(3, trail.size());
+		trail.restore();
+		assertValues(1);
+	}
+
+	@Test
+	public final void testSwap() {
+		WriteTrail trail = new WriteTrail();
+		write(trail, 2);
+		write(trail, 3);
+		trail.swap();
+		assertValues(1);
+		trail.swap();
+		assertValues(3);
+		trail.swap();
+		assertValues(1);
+	}
+
+	@Test
+	public final void testNestedSwap() {
+		WriteTrail outer = new WriteTrail();
+		write(outer, 2);
+		WriteTrail inner = new WriteTrail();
+		write(inner, 3);
+
+		// Revert both, innermost first, and reapply both, outermost first.
+		inner.swap();
+		assertValues(2);
+		outer.swap();
+		assertValues(1);
+		outer.swap();
+		assertValues(2);
+		inner.swap();
+		assertValues(3);
+		assertNotEquals(0, outer.size());
+	}
+
+	/**
+	 * Write a value to the field, the local variable and the generated value, recording them
+	 * first.
+	 */
+	private void write(WriteTrail trail, int value) {
+		trail.recordField(container, field);
+		container.putField(field, value);
+		trail.recordLocalVariable(frame, 0);
+		frame.setLocalVariable(0, value);
+		trail.recordGeneratedValue(method, 0);
+		method.setGeneratedValue(0, value);
+	}
+
+	private void assertValues(int value) {
+		assertEquals(value, container.getField(field));
+		assertEquals(value, frame.getLocalVariables()[0]);
+		assertEquals(value, method.getGeneratedValues()[0]);
+	}
+
+}
@@ -0,0 +1,184 @@
+package de.wwu.muggl.vm.loading;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeNoException;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import de.wwu.muggl.binaryTestSuite.ArrayParameter;
+import de.wwu.muggl.binaryTestSuite.Putfield;
+import de.wwu.muggl.test.TestSkeleton;
+import de.wwu.muggl.vm.classfile.ClassFile;
+
+/**
+ * Checks that a ClassPathIndex finds class files in the first root containing them, and that the
+ * jar files it opens are shared and closed once the last index or class loader using them has
+ * been released.
+ *
+ * @author agent
+ *
+ */
+public class TestClassPathIndex extends TestSkeleton {
+	private static final String NAME = Putfield.class.getName().replace(".", "/") + ".class";
+
+	MugglClassLoader classLoader;
+	File root;
+	File directory;
+	File jar;
+
+	@Before
+	public void setUp() throws Exception {
+		classLoader = new MugglClassLoader(mugglClassLoaderPaths);
+		root = Files.createTempDirectory("muggl").toFile();
+		directory = new File(root, "classes");
+		File classFile = new File(directory, NAME);
+		classFile.getParentFile().mkdirs();
+		try (InputStream is = Putfield.class.getResourceAsStream("Putfield.class")) {
+			Files.copy(is, classFile.toPath());
+		}
+		jar = new File(root, "classes.jar");
+		writeJar(jar, NAME);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		classLoader.close();
+		delete(root);
+	}
+
+	@Test
+	public final void testLookup() throws Exception {
+		ClassPathIndex index = new ClassPathIndex(Arrays.asList(directory,
+				new File(root, "missing.jar")));
+		assertEquals(1, index.size());
+		ClassFile classFile = index.load(classLoader, NAME);
+		assertNotNull(classFile);
+		assertEquals(Putfield.class.getName(), classFile.getName());
+		assertNull(index.load(classLoader, "de/wwu/muggl/binaryTestSuite/Missing.class"));
+		index.release();
+	}
+
+	@Test
+	public final void testPrecedence() throws Exception {
+		ClassPathIndex index = new ClassPathIndex(Arrays.asList(jar, directory));
+		assertTrue(index.load(classLoader, NAME).getFullPath().startsWith(jar.getPath() + "|"));
+		index.release();
+
+		index = new ClassPathIndex(Arrays.asList(directory, jar));
+		assertEquals(new File(directory, NAME).getPath(), index.load(classLoader, NAME).getFullPath());
+		index.release();
+	}
+
+	@Test
+	public final void testJarFileSharedAndClosed() throws Exception {
+		ClassPathIndex first = new ClassPathIndex(Arrays.asList(jar));
+		ClassPathIndex second = new ClassPathIndex(Arrays.asList(jar));
+
+		// Releasing an index again does not close the jar file used by the other one.
+		first.release();
+		first.release();
+		assertNotNull(second.load(classLoader, NAME));
+
+		second.release();
+		assertJarFileClosed(second);
+	}
+
+	@Test
+	public final void testModifiedJarFileReopened() throws Exception {
+		ClassPathIndex first = new ClassPathIndex(Arrays.asList(jar));
+		// Replace the jar file instead of writing to it, as it is open. Some systems forbid that.
+		File modifiedJar = new File(root, "modified.jar");
+		writeJar(modifiedJar, NAME, "de/wwu/muggl/binaryTestSuite/Copy.class");
+		// Zip files still open are shared by the JDK if their time of modification is unchanged.
+		modifiedJar.setLastModified(jar.lastModified() + 2000L);
+		try {
+			Files.move(modifiedJar.toPath(), jar.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			first.release();
+			assumeNoException(e);
+		}
+		ClassPathIndex second = new ClassPathIndex(Arrays.asList(jar));
+		assertEquals(1, first.size());
+		assertEquals(2, second.size());
+
+		// The replaced jar file stays open until the index using it has been released.
+		second.release();
+		assertNotNull(first.load(classLoader, NAME));
+		first.release();
+		assertJarFileClosed(first);
+	}
+
+	@Test
+	public final void testClassLoaderClosed() throws Exception {
+		ClassPathIndex index = new ClassPathIndex(Arrays.asList(jar));
+		MugglClassLoader jarClassLoader = new MugglClassLoader(new String[] { jar.getPath() });
+		assertTrue(jarClassLoader.getClassAsClassFile(Putfield.class.getName()).getFullPath()
+				.startsWith(jar.getPath() + "|"));
+
+		// Closing the class loader releases its use of the jar file.
+		jarClassLoader.close();
+		jarClassLoader.close();
+		index.release();
+		assertJarFileClosed(index);
+
+		// If it is used nonetheless, the class path is indexed again.
+		assertNotNull(jarClassLoader.getClassAsClassFile(ArrayParameter.class.getName()));
+		jarClassLoader.close();
+	}
+
+	/**
+	 * Write a jar file with copies of the class file under the given names.
+	 */
+	private void writeJar(File file, String... names) throws Exception {
+		byte[] bytes = Files.readAllBytes(new File(directory, NAME).toPath());
+		try (JarOutputStream jos = new JarOutputStream(new FileOutputStream(file))) {
+			for (String name : names) {
+				jos.putNextEntry(new JarEntry(name));
+				jos.write(bytes);
+				jos.closeEntry();
+			}
+		}
+	}
+
+	/**
+	 * Delete a file or a directory with its contents.
+	 */
+	private void delete(File file) {
+		File[] files = file.listFiles();
+		if (files != null) {
+			for (File child : files) {
+				delete(child);
+			}
+		}
+		file.delete();
+	}
+
+	/**
+	 * Check that the jar file of a released index has been closed.
+	 */
+	private void assertJarFileClosed(ClassPathIndex index) throws Exception {
+		try {
+			index.load(classLoader, NAME);
+			fail("The jar file has not been closed.");
+		} catch (IllegalStateException e) {
+			// The jar file has been closed.
+		}
+	}
+
+}
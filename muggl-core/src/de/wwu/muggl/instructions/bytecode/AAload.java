@@ -1,11 +1,10 @@
 package de.wwu.muggl.instructions.bytecode;
 
-import java.util.Stack;
-
 import de.wwu.muggl.instructions.general.Aload;
 import de.wwu.muggl.instructions.interfaces.Instruction;
 import de.wwu.muggl.instructions.typed.ReferenceInstruction;
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.classfile.ClassFile;
 import de.wwu.muggl.vm.exceptions.ExceptionHandler;
 import de.wwu.muggl.vm.exceptions.VmRuntimeException;
@@ -29,7 +28,7 @@ public class AAload extends Aload implements Instruction {
 	public void execute(Frame frame) throws ExecutionException {
 		try {
 			// Preparations.
-			Stack<Object> stack = frame.getOperandStack();
+			OperandStack stack = frame.getOperandStack();
 			int index = (Integer) stack.pop();
 
 			// Runtime exception: arrayref is null
@@ -1,12 +1,10 @@
 package de.wwu.muggl.instructions.bytecode;
 
-import java.util.Stack;
-
 import de.wwu.muggl.instructions.general.Astore;
 import de.wwu.muggl.instructions.interfaces.Instruction;
 import de.wwu.muggl.instructions.typed.ReferenceInstruction;
-import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.ArrayRestore;
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.classfile.ClassFile;
 import de.wwu.muggl.vm.exceptions.ExceptionHandler;
 import de.wwu.muggl.vm.exceptions.NoExceptionHandlerFoundException;
@@ -35,7 +33,7 @@ public class AAstore extends Astore implements Instruction {
 	public void execute(Frame frame) throws ExecutionException {
 		try {
 			// Preparations.
-			Stack<Object> stack = frame.getOperandStack();
+			OperandStack stack = frame.getOperandStack();
 			Object value = stack.pop();
 			int index = (Integer) stack.pop();
 
@@ -82,7 +80,7 @@ public class AAstore extends Astore implements Instruction {
 	public void executeSymbolically(Frame frame) throws NoExceptionHandlerFoundException, SymbolicExecutionException {
 		try {
 			// Preparations.
-			Stack<Object> stack = frame.getOperandStack();
+			OperandStack stack = frame.getOperandStack();
 			Object value = stack.pop();
 			int index = ((IntConstant) stack.pop()).getValue();
 
@@ -99,8 +97,7 @@ public class AAstore extends Astore implements Instruction {
 
 			// Save the current value, if necessary.
 			if (((SymbolicVirtualMachine) frame.getVm()).getSearchAlgorithm().savingArrayValues()) {
-				ArrayRestore arrayValue = new ArrayRestore(arrayref, index, value);
-				((SymbolicVirtualMachine) frame.getVm()).getSearchAlgorithm().saveArrayValue(arrayValue);
+				((SymbolicVirtualMachine) frame.getVm()).getSearchAlgorithm().saveArrayValue(arrayref, index);
 			}
 
 			// Set the value into the array and save it.
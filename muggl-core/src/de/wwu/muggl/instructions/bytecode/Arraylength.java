@@ -1,9 +1,8 @@
 package de.wwu.muggl.instructions.bytecode;
 
-import java.util.Stack;
-
 import de.wwu.muggl.instructions.interfaces.Instruction;
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.classfile.ClassFile;
 import de.wwu.muggl.vm.exceptions.ExceptionHandler;
 import de.wwu.muggl.vm.exceptions.NoExceptionHandlerFoundException;
@@ -30,7 +29,7 @@ public class Arraylength extends de.wwu.muggl.instructions.general.ArraylengthAb
 	@Override
 	public void execute(Frame frame) throws ExecutionException {
 		try {
-			Stack<Object> stack = frame.getOperandStack();
+			OperandStack stack = frame.getOperandStack();
 			Object stackTop = stack.pop();
 			// Unexpected exception: arrayref does not point to an array at all.
 			if (stackTop != null && !(stackTop instanceof Arrayref)) {
@@ -66,7 +65,7 @@ public class Arraylength extends de.wwu.muggl.instructions.general.ArraylengthAb
 	@Override
 	public void executeSymbolically(Frame frame) throws NoExceptionHandlerFoundException, SymbolicExecutionException {
 		try {
-			Stack<Object> stack = frame.getOperandStack();
+			OperandStack stack = frame.getOperandStack();
 			Object stackTop = stack.pop();
 			// Unexpected exception: arrayref does not point to an array at all.
 			if (stackTop != null && !(stackTop instanceof Arrayref)) {
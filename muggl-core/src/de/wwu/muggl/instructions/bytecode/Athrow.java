@@ -1,9 +1,8 @@
 package de.wwu.muggl.instructions.bytecode;
 
-import java.util.Stack;
-
 import de.wwu.muggl.instructions.interfaces.Instruction;
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.classfile.ClassFile;
 import de.wwu.muggl.vm.exceptions.ExceptionHandler;
 import de.wwu.muggl.vm.exceptions.NoExceptionHandlerFoundException;
@@ -36,7 +35,7 @@ public class Athrow extends de.wwu.muggl.instructions.general.AthrowAbstract imp
 	@Override
 	public void execute(Frame frame) throws ExecutionException {
 		try {
-			Stack<Object> stack = frame.getOperandStack();
+			OperandStack stack = frame.getOperandStack();
 			Objectref objectref = (Objectref) stack.pop();
 
 			// Runtime exception: objectref is null.
@@ -70,7 +69,7 @@ public class Athrow extends de.wwu.muggl.instructions.general.AthrowAbstract imp
 	@Override
 	public void executeSymbolically(Frame frame) throws NoExceptionHandlerFoundException, SymbolicExecutionException {
 		try {
-			Stack<Object> stack = frame.getOperandStack();
+			OperandStack stack = frame.getOperandStack();
 			Objectref objectref = (Objectref) stack.pop();
 
 			// Runtime exception: objectref is null.
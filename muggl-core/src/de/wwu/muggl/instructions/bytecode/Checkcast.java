@@ -1,13 +1,12 @@
 package de.wwu.muggl.instructions.bytecode;
 
-import java.util.Stack;
-
 import de.wwu.muggl.configuration.Globals;
 import de.wwu.muggl.instructions.InvalidInstructionInitialisationException;
 import de.wwu.muggl.instructions.general.CheckcastInstanceof;
 import de.wwu.muggl.instructions.interfaces.Instruction;
 import de.wwu.muggl.instructions.interfaces.control.JumpException;
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.classfile.structures.attributes.AttributeCode;
 import de.wwu.muggl.vm.classfile.structures.constants.ConstantClass;
 import de.wwu.muggl.vm.exceptions.ExceptionHandler;
@@ -45,7 +44,7 @@ public class Checkcast extends CheckcastInstanceof implements Instruction, JumpE
 	@Override
 	public void execute(Frame frame) throws ExecutionException {
 		try {
-			Stack<Object> stack = frame.getOperandStack();
+			OperandStack stack = frame.getOperandStack();
 			// there might be primitive types on the stack, such as java.lang.integer and not only ReferenceValues
 			// the contract and implementation with checkForAssignmentCompatibility says that you can pass an object, takes care.
 			Object objectref = stack.peek(); // Peek - the operand stack stays unchanged (or is discarded completely in case of a ClassCastException).
@@ -91,7 +90,7 @@ public class Checkcast extends CheckcastInstanceof implements Instruction, JumpE
 	@Override
 	public void executeSymbolically(Frame frame) throws NoExceptionHandlerFoundException, SymbolicExecutionException {
 		try {
-			Stack<Object> stack = frame.getOperandStack();
+			OperandStack stack = frame.getOperandStack();
 			ReferenceValue objectref = (ReferenceValue) stack.peek(); // Peek - the operand stack stays unchanged (or is discarded completely in case of a ClassCastException).
 			Object constant = frame.getConstantPool()[this.otherBytes[0] << ONE_BYTE | this.otherBytes[1]];
 
@@ -1,10 +1,9 @@
 package de.wwu.muggl.instructions.bytecode;
 
-import java.util.Stack;
-
 import de.wwu.muggl.instructions.general.Conversion;
 import de.wwu.muggl.instructions.interfaces.Instruction;
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.classfile.ClassFile;
 import de.wwu.muggl.vm.execution.ExecutionException;
 import de.wwu.muggl.solvers.expressions.Expression;
@@ -26,8 +25,8 @@ public class D2i extends Conversion implements Instruction {
 	 */
 	@Override
 	public void execute(Frame frame) throws ExecutionException {
-		Stack<Object> stack = frame.getOperandStack();
-		stack.push(((Double) stack.pop()).intValue());
+		OperandStack stack = frame.getOperandStack();
+		stack.pushInt((int) stack.popDouble());
 	}
 
 	/**
@@ -36,7 +35,7 @@ public class D2i extends Conversion implements Instruction {
 	 */
 	@Override
 	public void executeSymbolically(Frame frame) {
-		Stack<Object> stack = frame.getOperandStack();
+		OperandStack stack = frame.getOperandStack();
 		Term oldTerm = (Term) stack.pop();
 		Term newTerm = TypeCast.newInstance(oldTerm, oldTerm.getType(), Expression.INT);
 		stack.push(newTerm);
@@ -1,10 +1,9 @@
 package de.wwu.muggl.instructions.bytecode;
 
-import java.util.Stack;
-
 import de.wwu.muggl.instructions.general.Div;
 import de.wwu.muggl.instructions.interfaces.Instruction;
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.classfile.ClassFile;
 import de.wwu.muggl.vm.execution.ExecutionException;
 
@@ -23,10 +22,10 @@ public class DDiv extends Div implements Instruction {
 	 */
 	@Override
 	public void execute(Frame frame) throws ExecutionException {
-		Stack<Object> stack = frame.getOperandStack();
-		Double value2 = (Double) stack.pop();
-		Double value1 = (Double) stack.pop();
-		stack.push(value1 / value2);
+		OperandStack stack = frame.getOperandStack();
+		double value2 = stack.popDouble();
+		double value1 = stack.popDouble();
+		stack.pushDouble(value1 / value2);
 	}
 
 	/**
@@ -1,10 +1,9 @@
 package de.wwu.muggl.instructions.bytecode;
 
-import java.util.Stack;
-
 import de.wwu.muggl.instructions.general.Neg;
 import de.wwu.muggl.instructions.interfaces.Instruction;
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.classfile.ClassFile;
 import de.wwu.muggl.vm.execution.ExecutionException;
 import de.wwu.muggl.solvers.expressions.DoubleConstant;
@@ -25,8 +24,8 @@ public class DNeg extends Neg implements Instruction {
 	 */
 	@Override
 	public void execute(Frame frame) throws ExecutionException {
-		Stack<Object> stack = frame.getOperandStack();
-		stack.push((Double) stack.pop() * -1D);
+		OperandStack stack = frame.getOperandStack();
+		stack.pushDouble(stack.popDouble() * -1D);
 	}
 
 	/**
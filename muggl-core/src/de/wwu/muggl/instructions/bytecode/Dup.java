@@ -1,9 +1,8 @@
 package de.wwu.muggl.instructions.bytecode;
 
-import java.util.Stack;
-
 import de.wwu.muggl.instructions.interfaces.Instruction;
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.execution.ExecutionException;
 import de.wwu.muggl.vm.impl.symbolic.SymbolicExecutionException;
 
@@ -23,7 +22,7 @@ public class Dup extends de.wwu.muggl.instructions.general.Duplication implement
 	@Override
 	public void execute(Frame frame) throws ExecutionException {
 		try {
-			Stack<Object> stack = frame.getOperandStack();
+			OperandStack stack = frame.getOperandStack();
 			Object object = stack.peek();
 			if (checkCategory2(object))
 				throw new ExecutionException("The top value of the operand stack must not be a category 2 type when using " + getName() + ".");
@@ -41,7 +40,7 @@ public class Dup extends de.wwu.muggl.instructions.general.Duplication implement
 	@Override
 	public void executeSymbolically(Frame frame) throws SymbolicExecutionException {
 		try {
-			Stack<Object> stack = frame.getOperandStack();
+			OperandStack stack = frame.getOperandStack();
 			Object object = stack.peek();
 			if (checkCategory2(object))
 				throw new ExecutionException("The top value of the operand stack must not be a category 2 type when using " + getName() + ".");
@@ -1,11 +1,10 @@
 package de.wwu.muggl.instructions.bytecode;
 
-import java.util.Stack;
-
 import de.wwu.muggl.instructions.interfaces.Instruction;
 import de.wwu.muggl.instructions.interfaces.data.VariablyStackPop;
 import de.wwu.muggl.instructions.interfaces.data.VariablyStackPush;
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.classfile.ClassFile;
 import de.wwu.muggl.vm.execution.ExecutionException;
 import de.wwu.muggl.vm.impl.symbolic.SymbolicExecutionException;
@@ -27,7 +26,7 @@ public class Dup_x2 extends de.wwu.muggl.instructions.general.Duplication implem
 	@Override
 	public void execute(Frame frame) throws ExecutionException {
 		try {
-			Stack<Object> stack = frame.getOperandStack();
+			OperandStack stack = frame.getOperandStack();
 			Object value1 = stack.pop();
 			Object value2 = stack.pop();
 			if (!checkCategory2(value1) && checkCategory2(value2)) {
@@ -63,7 +62,7 @@ public class Dup_x2 extends de.wwu.muggl.instructions.general.Duplication implem
 	@Override
 	public void executeSymbolically(Frame frame) throws SymbolicExecutionException {
 		try {
-			Stack<Object> stack = frame.getOperandStack();
+			OperandStack stack = frame.getOperandStack();
 			Object value1 = stack.pop();
 			Object value2 = stack.pop();
 			if (!checkCategory2(value1) && checkCategory2(value2)) {
@@ -1,10 +1,9 @@
 package de.wwu.muggl.instructions.bytecode;
 
-import java.util.Stack;
-
 import de.wwu.muggl.instructions.general.Mul;
 import de.wwu.muggl.instructions.interfaces.Instruction;
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.classfile.ClassFile;
 import de.wwu.muggl.vm.execution.ExecutionException;
 
@@ -23,10 +22,10 @@ public class FMul extends Mul implements Instruction {
 	 */
 	@Override
 	public void execute(Frame frame) throws ExecutionException {
-		Stack<Object> stack = frame.getOperandStack();
-		Float value2 = (Float) stack.pop();
-		Float value1 = (Float) stack.pop();
-		stack.push(value1 * value2);
+		OperandStack stack = frame.getOperandStack();
+		float value2 = stack.popFloat();
+		float value1 = stack.popFloat();
+		stack.pushFloat(value1 * value2);
 	}
 
 	/**
@@ -1,11 +1,9 @@
 package de.wwu.muggl.instructions.bytecode;
 
-import java.util.Stack;
-
 import de.wwu.muggl.instructions.general.Add;
 import de.wwu.muggl.instructions.interfaces.Instruction;
 import de.wwu.muggl.vm.Frame;
-import de.wwu.muggl.vm.VmSymbols;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.classfile.ClassFile;
 import de.wwu.muggl.vm.execution.ExecutionException;
 
@@ -24,10 +22,10 @@ public class IAdd extends Add implements Instruction {
 	 */
 	@Override
 	public void execute(Frame frame) throws ExecutionException {
-		Stack<Object> stack = frame.getOperandStack();	
-		Integer value2 = (Integer) VmSymbols.wideningPrimConversion(stack.pop(), Integer.class); 
-		Integer value1 = (Integer) VmSymbols.wideningPrimConversion(stack.pop(), Integer.class); 
-		stack.push(value1 + value2);
+		OperandStack stack = frame.getOperandStack();
+		int value2 = stack.popInt();
+		int value1 = stack.popInt();
+		stack.pushInt(value1 + value2);
 	}
 
 	/**
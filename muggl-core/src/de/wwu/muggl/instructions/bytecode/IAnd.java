@@ -1,10 +1,9 @@
 package de.wwu.muggl.instructions.bytecode;
 
-import java.util.Stack;
-
 import de.wwu.muggl.instructions.general.And;
 import de.wwu.muggl.instructions.interfaces.Instruction;
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.classfile.ClassFile;
 
 /**
@@ -21,8 +20,8 @@ public class IAnd extends And implements Instruction {
 	 */
 	@Override
 	public void execute(Frame frame) {
-		Stack<Object> stack = frame.getOperandStack();
-		stack.push((Integer) stack.pop() & (Integer) stack.pop());
+		OperandStack stack = frame.getOperandStack();
+		stack.pushInt(stack.popInt() & stack.popInt());
 	}
 
 	/**
@@ -1,10 +1,9 @@
 package de.wwu.muggl.instructions.bytecode;
 
-import java.util.Stack;
-
 import de.wwu.muggl.instructions.general.Mul;
 import de.wwu.muggl.instructions.interfaces.Instruction;
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.classfile.ClassFile;
 
 /**
@@ -21,10 +20,10 @@ public class IMul extends Mul implements Instruction {
 	*/
 	@Override
 	public void execute(Frame frame) {
-		Stack<Object> stack = frame.getOperandStack();
-		Integer value2 = (Integer) stack.pop();
-		Integer value1 = (Integer) stack.pop();
-		stack.push(value1 * value2);
+		OperandStack stack = frame.getOperandStack();
+		int value2 = stack.popInt();
+		int value1 = stack.popInt();
+		stack.pushInt(value1 * value2);
 	}
 
 	/**
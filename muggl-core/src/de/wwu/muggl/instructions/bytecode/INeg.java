@@ -1,10 +1,9 @@
 package de.wwu.muggl.instructions.bytecode;
 
-import java.util.Stack;
-
 import de.wwu.muggl.instructions.general.Neg;
 import de.wwu.muggl.instructions.interfaces.Instruction;
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.classfile.ClassFile;
 import de.wwu.muggl.solvers.expressions.IntConstant;
 import de.wwu.muggl.solvers.expressions.NumericConstant;
@@ -23,8 +22,8 @@ public class INeg extends Neg implements Instruction {
 	*/
 	@Override
 	public void execute(Frame frame) {
-		Stack<Object> stack = frame.getOperandStack();
-		stack.push(0 - (Integer) stack.pop());
+		OperandStack stack = frame.getOperandStack();
+		stack.pushInt(0 - stack.popInt());
 	}
 
 	/**
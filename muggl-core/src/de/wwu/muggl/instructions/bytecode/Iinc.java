@@ -4,7 +4,6 @@ import de.wwu.muggl.instructions.InvalidInstructionInitialisationException;
 import de.wwu.muggl.instructions.interfaces.Instruction;
 import de.wwu.muggl.instructions.interfaces.LocalVariableAccess;
 import de.wwu.muggl.instructions.typed.IntegerInstruction;
-import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.Restore;
 import de.wwu.muggl.vm.Frame;
 import de.wwu.muggl.vm.classfile.structures.attributes.AttributeCode;
 import de.wwu.muggl.vm.exceptions.NoExceptionHandlerFoundException;
@@ -118,8 +117,7 @@ public class Iinc extends de.wwu.muggl.instructions.general.IntegerIncremenet im
 
 			// Save the current value, if necessary.
 			if (((SymbolicVirtualMachine) frame.getVm()).getSearchAlgorithm().savingLocalVariableValues()) {
-				Restore localVariableValue = new Restore(localVariable, term);
-				((SymbolicVirtualMachine) frame.getVm()).getSearchAlgorithm().saveLocalVariableValue(localVariableValue);
+				((SymbolicVirtualMachine) frame.getVm()).getSearchAlgorithm().saveLocalVariableValue(frame, localVariable);
 			}
 
 			// Store the new value.
@@ -1,7 +1,5 @@
 package de.wwu.muggl.instructions.bytecode;
 
-import java.util.Stack;
-
 import de.wwu.muggl.instructions.InvalidInstructionInitialisationException;
 import de.wwu.muggl.instructions.general.CheckcastInstanceof;
 import de.wwu.muggl.instructions.interfaces.Instruction;
@@ -9,6 +7,7 @@ import de.wwu.muggl.instructions.interfaces.control.JumpException;
 import de.wwu.muggl.instructions.interfaces.data.StackPop;
 import de.wwu.muggl.instructions.interfaces.data.StackPush;
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.classfile.ClassFile;
 import de.wwu.muggl.vm.classfile.structures.attributes.AttributeCode;
 import de.wwu.muggl.vm.classfile.structures.constants.ConstantClass;
@@ -45,7 +44,7 @@ public class Instanceof extends CheckcastInstanceof implements Instruction, Jump
 	@Override
 	public void execute(Frame frame) throws ExecutionException {
 		try {
-			Stack<Object> stack = frame.getOperandStack();
+			OperandStack stack = frame.getOperandStack();
 			ReferenceValue objectref = (ReferenceValue) stack.pop();
 			Object constant = frame.getConstantPool()[this.otherBytes[0] << ONE_BYTE | this.otherBytes[1]];
 
@@ -80,7 +79,7 @@ public class Instanceof extends CheckcastInstanceof implements Instruction, Jump
 	@Override
 	public void executeSymbolically(Frame frame) throws NoExceptionHandlerFoundException, SymbolicExecutionException {
 		try {
-			Stack<Object> stack = frame.getOperandStack();
+			OperandStack stack = frame.getOperandStack();
 			ReferenceValue objectref = (ReferenceValue) stack.pop();
 			Object constant = frame.getConstantPool()[this.otherBytes[0] << ONE_BYTE | this.otherBytes[1]];
 
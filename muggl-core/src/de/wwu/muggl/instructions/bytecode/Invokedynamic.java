@@ -1,12 +1,11 @@
 package de.wwu.muggl.instructions.bytecode;
 
-import java.util.Stack;
-
 import de.wwu.muggl.instructions.InvalidInstructionInitialisationException;
 import de.wwu.muggl.instructions.MethodResolutionError;
 import de.wwu.muggl.instructions.general.Invoke;
 import de.wwu.muggl.instructions.interfaces.Instruction;
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.VmSymbols;
 import de.wwu.muggl.vm.classfile.ClassFile;
 import de.wwu.muggl.vm.classfile.ClassFileException;
@@ -268,7 +267,7 @@ public class Invokedynamic extends Invoke implements Instruction {
 	protected void invoke(Frame frame, boolean symbolic) throws ClassFileException,
 			ExecutionException, VmRuntimeException {
 		// Preparations.
-		Stack<Object> stack = frame.getOperandStack();
+		OperandStack stack = frame.getOperandStack();
 		int index = this.otherBytes[0] << ONE_BYTE | this.otherBytes[1];
 		Constant constant = frame.getConstantPool()[index];
 
@@ -42,6 +42,15 @@ public class Invokeinterface extends Invoke implements Instruction {
 		super(code);
 	}
 
+	/**
+	 * Constructor for the quick version of this instruction.
+	 *
+	 * @param otherBytes The additional bytes of the replaced instruction.
+	 */
+	protected Invokeinterface(short[] otherBytes) {
+		super(otherBytes);
+	}
+
 	/**
 	 * Make sure the method is neither the instance initializer nor the static initializer. Check
 	 * that the third additional byte is zero. Set the object reference to invoke the method on as
@@ -112,11 +121,14 @@ public class Invokeinterface extends Invoke implements Instruction {
 	@Override
 	protected Method selectMethod(Frame frame, Method method, ClassFile methodClassFile, ClassFile objectrefClassFile)
 			throws ClassFileException, VmRuntimeException {
+		// Earlier selections are remembered by C.
+		Method selMethod = objectrefClassFile.getItableEntry(method);
+		if (selMethod != null) return selMethod;
 		boolean methodSelected = false;
 
 		// According to JVMs8 invokeinterface
 		// Step 1: in C
-		Method selMethod = objectrefClassFile.getMethodByNameAndDescriptorOrNull(method.getName(), method.getDescriptor());
+		selMethod = objectrefClassFile.getMethodByNameAndDescriptorOrNull(method.getName(), method.getDescriptor());
 
 		if (selMethod != null)
 			methodSelected = true;
@@ -201,6 +213,7 @@ public class Invokeinterface extends Invoke implements Instruction {
 					"The method " + method.getName() + " to be invoked with " + getName() + " must be public"));
 
 		// Return the selected method.
+		objectrefClassFile.putItableEntry(method, selMethod);
 		return selMethod;
 	}
 
@@ -43,6 +43,15 @@ public class Invokevirtual extends Invoke implements Instruction {
 		super(code);
 	}
 
+	/**
+	 * Constructor for the quick version of this instruction.
+	 *
+	 * @param otherBytes The additional bytes of the replaced instruction.
+	 */
+	protected Invokevirtual(short[] otherBytes) {
+		super(otherBytes);
+	}
+
 	/**
 	 * Make sure the method is neither the instance initializer nor the static initializer. Set the
 	 * object reference to invoke the method on as the first parameter and return its class file.
@@ -174,14 +183,18 @@ public class Invokevirtual extends Invoke implements Instruction {
 	@Override
 	protected Method selectMethod(final Frame frame, Method method, ClassFile methodClassFile,
 			final ClassFile objectrefClassFile) throws ClassFileException, VmRuntimeException {
-		Globals.getInst().execLogger.trace("invokevirtual.selectMethod " + method.getFullNameWithParameterTypesAndNames());
+		if (Globals.getInst().execLogger.isTraceEnabled())
+			Globals.getInst().execLogger.trace("invokevirtual.selectMethod " + method.getFullNameWithParameterTypesAndNames());
 		Method selectedMethod = null;
 		if (!method.isSignaturePolymorphic()) {
+			// The virtual method table of C already holds the result of steps 1 and 2.
+			selectedMethod = objectrefClassFile.selectVirtualMethod(method);
+
 			// 1. If C contains a declaration for an instance method m that
 			// overrides (§5.4.5) the resolved method, then m is the method
 			// to be invoked
-			selectedMethod = objectrefClassFile.getMethodByNameAndDescriptorOrNull(method.getName(),
-					method.getDescriptor());
+			if (selectedMethod == null)
+				selectedMethod = selectOverridingMethod(objectrefClassFile, method);
 
 			// 2. Otherwise, if C has a superclass, a search for a declaration
 			// of an instance method that overrides the resolved method
@@ -197,16 +210,17 @@ public class Invokevirtual extends Invoke implements Instruction {
 					classFile1 = frame.getVm().getClassLoader().getClassAsClassFile(
 							classFile1.getConstantPool()[classFile1.getSuperClass()].getStringValue());
 
-					selectedMethod = classFile1.getMethodByNameAndDescriptorOrNull(method.getName(),
-							method.getDescriptor());
+					selectedMethod = selectOverridingMethod(classFile1, method);
 
 					if (selectedMethod != null) {
-						Globals.getInst().execLogger.trace("Lookup of " + method.getName() + " in super class "
-								+ classFile1.getName() + " succeeded.");
+						if (Globals.getInst().execLogger.isTraceEnabled())
+							Globals.getInst().execLogger.trace("Lookup of " + method.getName() + " in super class "
+									+ classFile1.getName() + " succeeded.");
 						break;
 					} else {
-						Globals.getInst().execLogger.trace("Lookup of " + method.getName() + " in super class "
-								+ classFile1.getName() + " unsuccessfull. Trying its super classes.");
+						if (Globals.getInst().execLogger.isTraceEnabled())
+							Globals.getInst().execLogger.trace("Lookup of " + method.getName() + " in super class "
+									+ classFile1.getName() + " unsuccessfull. Trying its super classes.");
 					}
 				}
 			}
@@ -215,91 +229,133 @@ public class Invokevirtual extends Invoke implements Instruction {
 				checkAccess(frame, selectedMethod, objectrefClassFile);
 			} else {
 
-			// Otherwise, if there is exactly one maximally-specific method
-			// (§5.4.3.3) in the superinterfaces of C that matches the resolved
-			// method's name and descriptor and is not abstract , then it is
-			// the method to be invoked.
+				// Otherwise, if there is exactly one maximally-specific method
+				// (§5.4.3.3) in the superinterfaces of C that matches the resolved
+				// method's name and descriptor and is not abstract , then it is
+				// the method to be invoked. Earlier selections are remembered by C.
+				selectedMethod = objectrefClassFile.getItableEntry(method);
+				if (selectedMethod == null) {
+					selectedMethod = selectMethodInSuperInterfaces(frame, method, objectrefClassFile);
+					if (selectedMethod != null) objectrefClassFile.putItableEntry(method, selectedMethod);
+				}
+			}
+		} else {
+			throw new java.lang.invoke.WrongMethodTypeException("invokevirtual does not currently support signature polymorphism");
+		}
 
-			// Now on to interfaces
-			LinkedList<String> superInterfaces = new LinkedList<>();
-			LinkedList<String> exploreSuperClasses = new LinkedList<>();
+		// Has the method been selected?
+		if (selectedMethod == null)
+			throw new VmRuntimeException(frame.getVm().generateExc("java.lang.AbstractMethodError",
+					"Error while getting method " + method.getName() + " to be invoked with " + getName() + ""));
+		method = selectedMethod;
 
-			// add self as a starting class
-			exploreSuperClasses.add(objectrefClassFile.getName());
+		// Is it abstract?
+		if (method.isAccAbstract())
+			throw new VmRuntimeException(frame.getVm().generateExc("java.lang.AbstractMethodError",
+					"The method " + method.getName() + " to be invoked with " + getName() + " must not be abstract."));
 
-			// Trying the super interfaces recursively
-			// wanting to find the maximally-specific superinterface methods
-			// that match name and descriptor and that has neither its
-			// ACC_PRIVATE flag nor its ACC_STATIC flag set
+		// Return the selected method.
+		return method;
+	}
 
-			while (!superInterfaces.isEmpty() || !exploreSuperClasses.isEmpty()) {
+	/**
+	 * Get the method declared by a class that overrides (JVMS §5.4.5) the resolved method. The
+	 * resolved method itself is selected if it is declared by the class.
+	 *
+	 * @param classFile The class to search.
+	 * @param method The resolved method.
+	 * @return The overriding method; or null, if the class does not declare one.
+	 */
+	private Method selectOverridingMethod(ClassFile classFile, Method method) {
+		Method declaredMethod = classFile.getMethodByNameAndDescriptorOrNull(method.getName(),
+				method.getDescriptor());
+		if (declaredMethod == null || declaredMethod == method || declaredMethod.overrides(method))
+			return declaredMethod;
+		return null;
+	}
 
-				final int ifaces = superInterfaces.size();
-				for (int i = 0; i < ifaces; i++) {
-					ClassFile classFile1 = null;
-					try {
-						classFile1 = frame.getVm().getClassLoader().getClassAsClassFile(superInterfaces.pop());
-						selectedMethod = classFile1.getMethodByNameAndDescriptor(method.getName(), method.getDescriptor());
+	/**
+	 * Search the super interfaces of a class for the maximally-specific method matching the
+	 * name and the descriptor of the resolved method.
+	 *
+	 * @param frame The currently executed frame.
+	 * @param method The resolved method.
+	 * @param objectrefClassFile The {@link ClassFile} of the object reference to invoke the method
+	 *        on.
+	 * @return The selected method; or null, if none has been found.
+	 * @throws ClassFileException If a required class file cannot be loaded.
+	 */
+	private Method selectMethodInSuperInterfaces(final Frame frame, Method method,
+			final ClassFile objectrefClassFile) throws ClassFileException {
+		Method selectedMethod = null;
+		// Now on to interfaces
+		LinkedList<String> superInterfaces = new LinkedList<>();
+		LinkedList<String> exploreSuperClasses = new LinkedList<>();
+
+		// add self as a starting class
+		exploreSuperClasses.add(objectrefClassFile.getName());
+
+		// Trying the super interfaces recursively
+		// wanting to find the maximally-specific superinterface methods
+		// that match name and descriptor and that has neither its
+		// ACC_PRIVATE flag nor its ACC_STATIC flag set
+
+		while (!superInterfaces.isEmpty() || !exploreSuperClasses.isEmpty()) {
+
+			final int ifaces = superInterfaces.size();
+			for (int i = 0; i < ifaces; i++) {
+				ClassFile classFile1 = null;
+				try {
+					classFile1 = frame.getVm().getClassLoader().getClassAsClassFile(superInterfaces.pop());
+					selectedMethod = classFile1.getMethodByNameAndDescriptor(method.getName(), method.getDescriptor());
+					if (Globals.getInst().execLogger.isTraceEnabled())
 						Globals.getInst().execLogger.trace(
 								"Lookup of " + method.getName() + " in class " + classFile1.getName() + " succeeded.");
-						break;
-					} catch (MethodResolutionError e1) {
+					break;
+				} catch (MethodResolutionError e1) {
+					if (Globals.getInst().execLogger.isTraceEnabled())
 						Globals.getInst().execLogger.trace("Lookup of " + method.getName() + " in interface class "
 								+ classFile1.getClassName() + " unsuccessfull. Enqueueing its super class.");
-						if (classFile1.getSuperClass() != 0)
-							exploreSuperClasses
-									.add(classFile1.getConstantPool()[classFile1.getSuperClass()].getStringValue());
-						for (int iface : classFile1.getInterfaces()) {
-							superInterfaces.add(classFile1.getConstantPool()[iface].getStringValue());
-						}
+					if (classFile1.getSuperClass() != 0)
+						exploreSuperClasses
+								.add(classFile1.getConstantPool()[classFile1.getSuperClass()].getStringValue());
+					for (int iface : classFile1.getInterfaces()) {
+						superInterfaces.add(classFile1.getConstantPool()[iface].getStringValue());
 					}
 				}
-				if (selectedMethod != null)
-					break;
-
-				final int sClasses = exploreSuperClasses.size();
-				for (int i = 0; i < sClasses; i++) {
-					ClassFile classFile1 = null;
-					try {
-						classFile1 = frame.getVm().getClassLoader().getClassAsClassFile(exploreSuperClasses.pop());
-						selectedMethod = classFile1.getMethodByNameAndDescriptor(method.getName(), method.getDescriptor());
+			}
+			if (selectedMethod != null)
+				break;
+
+			final int sClasses = exploreSuperClasses.size();
+			for (int i = 0; i < sClasses; i++) {
+				ClassFile classFile1 = null;
+				try {
+					classFile1 = frame.getVm().getClassLoader().getClassAsClassFile(exploreSuperClasses.pop());
+					selectedMethod = classFile1.getMethodByNameAndDescriptor(method.getName(), method.getDescriptor());
+					if (Globals.getInst().execLogger.isTraceEnabled())
 						Globals.getInst().execLogger.trace(
 								"Lookup of " + method.getName() + " in class " + classFile1.getName() + " succeeded.");
-						break;
-					} catch (MethodResolutionError e1) {
+					break;
+				} catch (MethodResolutionError e1) {
+					if (Globals.getInst().execLogger.isTraceEnabled())
 						Globals.getInst().execLogger
 								.trace("Lookup of " + method.getDescriptor() + " in class " + classFile1.getClassName()
 										+ " unsuccessfull. Enqueueing its super class and interfaces.");
-						if (classFile1.getSuperClass() != 0)
-							exploreSuperClasses
-									.add(classFile1.getConstantPool()[classFile1.getSuperClass()].getStringValue());
-						for (int iface : classFile1.getInterfaces()) {
-							superInterfaces.add(classFile1.getConstantPool()[iface].getStringValue());
-						}
+					if (classFile1.getSuperClass() != 0)
+						exploreSuperClasses
+								.add(classFile1.getConstantPool()[classFile1.getSuperClass()].getStringValue());
+					for (int iface : classFile1.getInterfaces()) {
+						superInterfaces.add(classFile1.getConstantPool()[iface].getStringValue());
 					}
 				}
-
-				if (selectedMethod != null)
-					break;
-			}
 			}
-		} else {
-			throw new java.lang.invoke.WrongMethodTypeException("invokevirtual does not currently support signature polymorphism");
-		}
-
-		// Has the method been selected?
-		if (selectedMethod == null)
-			throw new VmRuntimeException(frame.getVm().generateExc("java.lang.AbstractMethodError",
-					"Error while getting method " + method.getName() + " to be invoked with " + getName() + ""));
-		method = selectedMethod;
 
-		// Is it abstract?
-		if (method.isAccAbstract())
-			throw new VmRuntimeException(frame.getVm().generateExc("java.lang.AbstractMethodError",
-					"The method " + method.getName() + " to be invoked with " + getName() + " must not be abstract."));
+			if (selectedMethod != null)
+				break;
+		}
 
-		// Return the selected method.
-		return method;
+		return selectedMethod;
 	}
 
 	/**
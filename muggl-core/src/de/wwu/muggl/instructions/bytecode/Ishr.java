@@ -1,10 +1,9 @@
 package de.wwu.muggl.instructions.bytecode;
 
-import java.util.Stack;
-
 import de.wwu.muggl.instructions.general.Shift;
 import de.wwu.muggl.instructions.interfaces.Instruction;
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.classfile.ClassFile;
 import de.wwu.muggl.vm.impl.symbolic.SymbolicExecutionException;
 import de.wwu.muggl.solvers.expressions.IntConstant;
@@ -25,10 +24,10 @@ public class Ishr extends Shift implements Instruction {
 	 */
 	@Override
 	public void execute(Frame frame) {
-		Stack<Object> stack = frame.getOperandStack();
-		Integer value2 = (Integer) stack.pop();
-		Integer value1 = (Integer) stack.pop();
-		stack.push(value1 >> value2);
+		OperandStack stack = frame.getOperandStack();
+		int value2 = stack.popInt();
+		int value1 = stack.popInt();
+		stack.pushInt(value1 >> value2);
 	}
 
 	/**
@@ -39,7 +38,7 @@ public class Ishr extends Shift implements Instruction {
 	 */
 	@Override
 	public void executeSymbolically(Frame frame) throws SymbolicExecutionException {
-		Stack<Object> stack = frame.getOperandStack();
+		OperandStack stack = frame.getOperandStack();
 		Term value2 = (Term) stack.pop();
 		Term value1 = (Term) stack.pop();
 
@@ -1,10 +1,9 @@
 package de.wwu.muggl.instructions.bytecode;
 
-import java.util.Stack;
-
 import de.wwu.muggl.instructions.general.CompareLong;
 import de.wwu.muggl.instructions.interfaces.Instruction;
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.impl.symbolic.SymbolicExecutionException;
 import de.wwu.muggl.vm.impl.symbolic.SymbolicVirtualMachine;
 import de.wwu.muggl.solvers.expressions.IntConstant;
@@ -26,15 +25,15 @@ public class LCmp extends CompareLong implements Instruction {
 	 */
 	@Override
 	public void execute(Frame frame) {
-		Stack<Object> stack = frame.getOperandStack();
-		Long value2 = (Long) stack.pop();
-		Long value1 = (Long) stack.pop();
+		OperandStack stack = frame.getOperandStack();
+		long value2 = stack.popLong();
+		long value1 = stack.popLong();
 		if (value1 > value2) {
-			stack.push(Integer.valueOf(1));
+			stack.pushInt(1);
 		} else if (value1 < value2) {
-			stack.push(Integer.valueOf(-1));
+			stack.pushInt(-1);
 		} else {
-			stack.push(Integer.valueOf(0));
+			stack.pushInt(0);
 		}
 	}
 
@@ -49,7 +48,7 @@ public class LCmp extends CompareLong implements Instruction {
 	public void executeSymbolically(Frame frame)
 			throws SymbolicExecutionException {
 		try {
-			Stack<Object> stack = frame.getOperandStack();
+			OperandStack stack = frame.getOperandStack();
 			Term term2 = (Term) stack.pop();
 			Term term1 = (Term) stack.pop();
 
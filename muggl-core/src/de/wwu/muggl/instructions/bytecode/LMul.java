@@ -1,10 +1,9 @@
 package de.wwu.muggl.instructions.bytecode;
 
-import java.util.Stack;
-
 import de.wwu.muggl.instructions.general.Mul;
 import de.wwu.muggl.instructions.interfaces.Instruction;
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.classfile.ClassFile;
 import de.wwu.muggl.vm.execution.ExecutionException;
 
@@ -23,10 +22,10 @@ public class LMul extends Mul implements Instruction {
 	 */
 	@Override
 	public void execute(Frame frame) throws ExecutionException {
-		Stack<Object> stack = frame.getOperandStack();
-		Long value2 = (Long) stack.pop();
-		Long value1 = (Long) stack.pop();
-		stack.push(value1 * value2);
+		OperandStack stack = frame.getOperandStack();
+		long value2 = stack.popLong();
+		long value1 = stack.popLong();
+		stack.pushLong(value1 * value2);
 	}
 
 	/**
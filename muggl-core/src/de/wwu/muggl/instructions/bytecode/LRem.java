@@ -1,10 +1,9 @@
 package de.wwu.muggl.instructions.bytecode;
 
-import java.util.Stack;
-
 import de.wwu.muggl.instructions.general.Rem;
 import de.wwu.muggl.instructions.interfaces.Instruction;
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.classfile.ClassFile;
 import de.wwu.muggl.vm.exceptions.ExceptionHandler;
 import de.wwu.muggl.vm.exceptions.VmRuntimeException;
@@ -26,13 +25,13 @@ public class LRem extends Rem implements Instruction {
 	@Override
 	public void execute(Frame frame) throws ExecutionException {
 		try {
-			Stack<Object> stack = frame.getOperandStack();
-			Long value2 = (Long) stack.pop();
-			Long value1 = (Long) stack.pop();
+			OperandStack stack = frame.getOperandStack();
+			long value2 = stack.popLong();
+			long value1 = stack.popLong();
 			if (value2 == 0) {
 				throw new VmRuntimeException(frame.getVm().generateExc("java.lang.ArithmeticException", "Divison by zero."));
 			}
-			stack.push(value1 % value2);
+			stack.pushLong(value1 % value2);
 		} catch (VmRuntimeException e) {
 			ExceptionHandler handler = new ExceptionHandler(frame, e);
 			try {
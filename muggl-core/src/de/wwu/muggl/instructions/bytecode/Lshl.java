@@ -1,10 +1,9 @@
 package de.wwu.muggl.instructions.bytecode;
 
-import java.util.Stack;
-
 import de.wwu.muggl.instructions.general.Shift;
 import de.wwu.muggl.instructions.interfaces.Instruction;
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.classfile.ClassFile;
 import de.wwu.muggl.vm.impl.symbolic.SymbolicExecutionException;
 import de.wwu.muggl.solvers.expressions.IntConstant;
@@ -26,10 +25,10 @@ public class Lshl extends Shift implements Instruction {
 	 */
 	@Override
 	public void execute(Frame frame) {
-		Stack<Object> stack = frame.getOperandStack();
-		Integer value2 = (Integer) stack.pop();
-		Long value1 = (Long) stack.pop();
-		stack.push(value1.longValue() << value2.intValue());
+		OperandStack stack = frame.getOperandStack();
+		int value2 = stack.popInt();
+		long value1 = stack.popLong();
+		stack.pushLong(value1 << value2);
 	}
 
 	/**
@@ -40,7 +39,7 @@ public class Lshl extends Shift implements Instruction {
 	 */
 	@Override
 	public void executeSymbolically(Frame frame) throws SymbolicExecutionException {
-		Stack<Object> stack = frame.getOperandStack();
+		OperandStack stack = frame.getOperandStack();
 		Term value2 = (Term) stack.pop();
 		Term value1 = (Term) stack.pop();
 
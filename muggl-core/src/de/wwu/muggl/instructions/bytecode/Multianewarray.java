@@ -1,11 +1,10 @@
 package de.wwu.muggl.instructions.bytecode;
 
-import java.util.Stack;
-
 import de.wwu.muggl.instructions.InvalidInstructionInitialisationException;
 import de.wwu.muggl.instructions.interfaces.Instruction;
 import de.wwu.muggl.instructions.interfaces.data.StackPop;
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.classfile.ClassFile;
 import de.wwu.muggl.vm.classfile.structures.attributes.AttributeCode;
 import de.wwu.muggl.vm.classfile.structures.constants.ConstantClass;
@@ -53,7 +52,7 @@ public class Multianewarray extends de.wwu.muggl.instructions.general.ObjectInit
 			// Get the dimensions and their length.
 			int dimensions = this.otherBytes[2];
 			int[] count = new int[dimensions];
-			Stack<Object> stack = frame.getOperandStack();
+			OperandStack stack = frame.getOperandStack();
 			for (int a = dimensions - 1; a >= 0; a--) {
 				count[a] = (Integer) stack.pop();
 				// Runtime Exception: count is less than zero.
@@ -88,7 +87,7 @@ public class Multianewarray extends de.wwu.muggl.instructions.general.ObjectInit
 			// Get the dimensions and their length.
 			int dimensions = this.otherBytes[2];
 			int[] count = new int[dimensions];
-			Stack<Object> stack = frame.getOperandStack();
+			OperandStack stack = frame.getOperandStack();
 			for (int a = dimensions - 1; a >= 0; a--) {
 				Term term = (Term) stack.pop();
 				if (term.isConstant()) {
@@ -1,9 +1,8 @@
 package de.wwu.muggl.instructions.bytecode;
 
-import java.util.Stack;
-
 import de.wwu.muggl.instructions.interfaces.Instruction;
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.classfile.ClassFile;
 import de.wwu.muggl.vm.execution.ExecutionException;
 import de.wwu.muggl.vm.impl.symbolic.SymbolicExecutionException;
@@ -24,7 +23,7 @@ public class Pop extends de.wwu.muggl.instructions.general.PopAbstract implement
 	@Override
 	public void execute(Frame frame) throws ExecutionException {
 		try {
-			Stack<Object> stack = frame.getOperandStack();
+			OperandStack stack = frame.getOperandStack();
 			Object value = stack.peek();
 			// Value must be a type of category 1.
 			if (checkCategory2(value))
@@ -45,7 +44,7 @@ public class Pop extends de.wwu.muggl.instructions.general.PopAbstract implement
 	@Override
 	public void executeSymbolically(Frame frame) throws SymbolicExecutionException {
 		try {
-			Stack<Object> stack = frame.getOperandStack();
+			OperandStack stack = frame.getOperandStack();
 			Object value = stack.peek();
 			// Value must be a type of category 1.
 			if (checkCategory2(value))
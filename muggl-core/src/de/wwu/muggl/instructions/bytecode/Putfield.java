@@ -1,13 +1,11 @@
 package de.wwu.muggl.instructions.bytecode;
 
-import java.util.Stack;
-
 import de.wwu.muggl.instructions.InvalidInstructionInitialisationException;
 import de.wwu.muggl.instructions.general.Put;
 import de.wwu.muggl.instructions.interfaces.Instruction;
 import de.wwu.muggl.instructions.typed.TypedInstruction;
-import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.InstanceFieldPut;
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.classfile.ClassFile;
 import de.wwu.muggl.vm.classfile.ClassFileException;
 import de.wwu.muggl.vm.classfile.structures.Field;
@@ -53,7 +51,7 @@ public class Putfield extends Put implements Instruction {
 	public void execute(Frame frame) throws ExecutionException {
 		try {
 			// Preparations.
-			Stack<Object> stack = frame.getOperandStack();
+			OperandStack stack = frame.getOperandStack();
 			Object value = stack.pop();
 			Objectref objectref = (Objectref) stack.pop();
 			Field field = fetchField(frame, objectref);
@@ -104,7 +102,7 @@ public class Putfield extends Put implements Instruction {
 	public void executeSymbolically(Frame frame) throws NoExceptionHandlerFoundException, SymbolicExecutionException {
 		try {
 			// Preparations.
-			Stack<Object> stack = frame.getOperandStack();
+			OperandStack stack = frame.getOperandStack();
 			Object value = stack.pop();
 			Objectref objectref = (Objectref) stack.pop();
 			Field field = fetchField(frame, objectref);
@@ -162,8 +160,7 @@ public class Putfield extends Put implements Instruction {
 
 			// Save the current value, if necessary.
 			if (((SymbolicVirtualMachine) frame.getVm()).getSearchAlgorithm().savingFieldValues()) {
-				InstanceFieldPut fieldValue = new InstanceFieldPut(objectref, field, objectref.getField(field));
-				((SymbolicVirtualMachine) frame.getVm()).getSearchAlgorithm().saveFieldValue(fieldValue);
+				((SymbolicVirtualMachine) frame.getVm()).getSearchAlgorithm().saveFieldValue(objectref, field);
 			}
 
 			// Finally assign the value.
@@ -4,7 +4,6 @@ import de.wwu.muggl.instructions.InvalidInstructionInitialisationException;
 import de.wwu.muggl.instructions.general.Put;
 import de.wwu.muggl.instructions.interfaces.Instruction;
 import de.wwu.muggl.instructions.typed.TypedInstruction;
-import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.StaticFieldPut;
 import de.wwu.muggl.vm.Frame;
 import de.wwu.muggl.vm.VmSymbols;
 import de.wwu.muggl.vm.classfile.ClassFile;
@@ -146,8 +145,7 @@ public class Putstatic extends Put implements Instruction {
 
 			// Save the current value, if necessary.
 			if (((SymbolicVirtualMachine) frame.getVm()).getSearchAlgorithm().savingFieldValues()) {
-				StaticFieldPut fieldValue = new StaticFieldPut(initializedClass, field, initializedClass.getField(field));
-				((SymbolicVirtualMachine) frame.getVm()).getSearchAlgorithm().saveFieldValue(fieldValue);
+				((SymbolicVirtualMachine) frame.getVm()).getSearchAlgorithm().saveFieldValue(initializedClass, field);
 			}
 
 			// Finally assign the value.
@@ -1,9 +1,8 @@
 package de.wwu.muggl.instructions.bytecode;
 
-import java.util.Stack;
-
 import de.wwu.muggl.instructions.interfaces.Instruction;
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.classfile.ClassFile;
 import de.wwu.muggl.vm.exceptions.NoExceptionHandlerFoundException;
 import de.wwu.muggl.vm.execution.ExecutionException;
@@ -25,7 +24,7 @@ public class Swap extends de.wwu.muggl.instructions.general.SwapAbstract impleme
 	 */
 	@Override
 	public void execute(Frame frame) throws ExecutionException {
-		Stack<Object> stack = frame.getOperandStack();
+		OperandStack stack = frame.getOperandStack();
 		Object value1 = stack.pop();
 		Object value2 = stack.pop();
 		if (!(checkCategory2(value1) || checkCategory2(value2))) {
@@ -51,7 +50,7 @@ public class Swap extends de.wwu.muggl.instructions.general.SwapAbstract impleme
 	@Override
 	public void executeSymbolically(Frame frame) throws NoExceptionHandlerFoundException,
 			SymbolicExecutionException {
-		Stack<Object> stack = frame.getOperandStack();
+		OperandStack stack = frame.getOperandStack();
 		Term value1 = (Term) stack.pop();
 		Term value2 = (Term) stack.pop();
 		if (!(checkCategory2Symbolically(value1) || checkCategory2Symbolically(value2))) {
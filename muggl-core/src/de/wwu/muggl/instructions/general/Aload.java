@@ -1,12 +1,11 @@
 package de.wwu.muggl.instructions.general;
 
-import java.util.Stack;
-
 import de.wwu.muggl.instructions.interfaces.control.JumpException;
 import de.wwu.muggl.instructions.interfaces.data.StackPop;
 import de.wwu.muggl.instructions.interfaces.data.StackPush;
 import de.wwu.muggl.instructions.typed.TypedInstruction;
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.classfile.ClassFile;
 import de.wwu.muggl.vm.exceptions.ExceptionHandler;
 import de.wwu.muggl.vm.exceptions.NoExceptionHandlerFoundException;
@@ -39,7 +38,7 @@ public abstract class Aload extends GeneralInstruction implements JumpException,
 	public void execute(Frame frame) throws ExecutionException {
 		try {
 			// Preparations.
-			Stack<Object> stack = frame.getOperandStack();
+			OperandStack stack = frame.getOperandStack();
 			int index = (Integer) stack.pop();
 			Object arrayrefObject = stack.pop();
 
@@ -90,7 +89,7 @@ public abstract class Aload extends GeneralInstruction implements JumpException,
 			SymbolicExecutionException {
 		try {
 			// Preparations.
-			Stack<Object> stack = frame.getOperandStack();
+			OperandStack stack = frame.getOperandStack();
 			int index = ((IntConstant) stack.pop()).getValue();
 			Object arrayrefObject  = stack.pop();
 
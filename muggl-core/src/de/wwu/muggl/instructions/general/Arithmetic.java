@@ -1,10 +1,9 @@
 package de.wwu.muggl.instructions.general;
 
-import java.util.Stack;
-
 import de.wwu.muggl.instructions.interfaces.data.StackPop;
 import de.wwu.muggl.instructions.interfaces.data.StackPush;
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.exceptions.NoExceptionHandlerFoundException;
 import de.wwu.muggl.vm.execution.ExecutionException;
 import de.wwu.muggl.vm.impl.symbolic.SymbolicExecutionException;
@@ -29,7 +28,7 @@ public abstract class Arithmetic extends GeneralInstruction implements StackPop,
 	 */
 	@Override
 	public void executeSymbolically(Frame frame) throws NoExceptionHandlerFoundException, SymbolicExecutionException {
-		Stack<Object> stack = frame.getOperandStack();
+		OperandStack stack = frame.getOperandStack();
 		Term element2 = (Term) stack.pop();
 		Term element1 = (Term) stack.pop();
 		try {
@@ -1,13 +1,11 @@
 package de.wwu.muggl.instructions.general;
 
-import java.util.Stack;
-
 import de.wwu.muggl.instructions.interfaces.control.JumpException;
 import de.wwu.muggl.instructions.interfaces.data.StackPop;
 import de.wwu.muggl.instructions.interfaces.data.VariableUsing;
 import de.wwu.muggl.instructions.typed.TypedInstruction;
-import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.ArrayRestore;
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.exceptions.ExceptionHandler;
 import de.wwu.muggl.vm.exceptions.NoExceptionHandlerFoundException;
 import de.wwu.muggl.vm.exceptions.VmRuntimeException;
@@ -42,7 +40,7 @@ public abstract class Astore extends GeneralInstruction implements JumpException
 	public void execute(Frame frame) throws ExecutionException {
 		try {
 			// Preparations.
-			Stack<Object> stack = frame.getOperandStack();
+			OperandStack stack = frame.getOperandStack();
 			Object value = stack.pop();
 			int index = (Integer) stack.pop();
 			Object arrayrefObject  = stack.pop();
@@ -92,7 +90,7 @@ public abstract class Astore extends GeneralInstruction implements JumpException
 	public void executeSymbolically(Frame frame) throws NoExceptionHandlerFoundException, SymbolicExecutionException {
 		try {
 			// Preparations.
-			Stack<Object> stack = frame.getOperandStack();
+			OperandStack stack = frame.getOperandStack();
 			Term value = (Term) stack.pop();
 			int index = ((IntConstant) stack.pop()).getValue();
 			Object arrayrefObject  = stack.pop();
@@ -110,9 +108,7 @@ public abstract class Astore extends GeneralInstruction implements JumpException
 
 			// Save the current value, if necessary.
 			if (((SymbolicVirtualMachine) frame.getVm()).getSearchAlgorithm().savingArrayValues()) {
-				Object oldValue = arrayref.getElement(index);
-				ArrayRestore arrayValue = new ArrayRestore(arrayref, index, oldValue);
-				((SymbolicVirtualMachine) frame.getVm()).getSearchAlgorithm().saveArrayValue(arrayValue);
+				((SymbolicVirtualMachine) frame.getVm()).getSearchAlgorithm().saveArrayValue(arrayref, index);
 			}
 
 			// Unexpected exception: The value is not of one of the required types.
@@ -1,8 +1,7 @@
 package de.wwu.muggl.instructions.general;
 
-import java.util.Stack;
-
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.classfile.ClassFile;
 import de.wwu.muggl.vm.impl.symbolic.SymbolicExecutionException;
 import de.wwu.muggl.vm.impl.symbolic.SymbolicVirtualMachine;
@@ -26,17 +25,17 @@ public abstract class CompareDouble extends CompareFp {
 	 */
 	@Override
 	public void execute(Frame frame) {
-		Stack<Object> stack = frame.getOperandStack();
-		Double value2 = (Double) stack.pop();
-		Double value1 = (Double) stack.pop();
-		if (value1.isNaN() || value2.isNaN()) {
+		OperandStack stack = frame.getOperandStack();
+		double value2 = stack.popDouble();
+		double value1 = stack.popDouble();
+		if (Double.isNaN(value1) || Double.isNaN(value2)) {
 			stack.push(getPushValueForNaN());
 		} else if (value1 > value2) {
-			stack.push(Integer.valueOf(1));
+			stack.pushInt(1);
 		} else if (value1 < value2) {
-			stack.push(Integer.valueOf(-1));
+			stack.pushInt(-1);
 		} else {
-			stack.push(Integer.valueOf(0));
+			stack.pushInt(0);
 		}
 	}
 
@@ -58,7 +57,7 @@ public abstract class CompareDouble extends CompareFp {
 	@Override
 	public void executeSymbolically(Frame frame) throws SymbolicExecutionException {
 		try {
-			Stack<Object> stack = frame.getOperandStack();
+			OperandStack stack = frame.getOperandStack();
 			Term term2 = (Term) stack.pop();
 			Term term1 = (Term) stack.pop();
 
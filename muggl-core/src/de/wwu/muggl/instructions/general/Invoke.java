@@ -1,7 +1,6 @@
 package de.wwu.muggl.instructions.general;
 
 import java.util.Arrays;
-import java.util.Stack;
 import java.util.stream.Collectors;
 
 import de.wwu.muggl.configuration.Globals;
@@ -13,6 +12,7 @@ import de.wwu.muggl.instructions.interfaces.data.StackPop;
 import de.wwu.muggl.instructions.interfaces.data.VariableDefining;
 import de.wwu.muggl.instructions.interfaces.data.VariableUsing;
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.VmSymbols;
 import de.wwu.muggl.vm.classfile.ClassFile;
 import de.wwu.muggl.vm.classfile.ClassFileException;
@@ -70,6 +70,18 @@ public abstract class Invoke extends GeneralInstructionWithOtherBytes implements
 		this.hasObjectrefParameter = 1;
 	}
 
+	/**
+	 * Constructor for quick versions of the instructions. They take over the additional bytes of
+	 * the instruction they replace.
+	 *
+	 * @param otherBytes The additional bytes of the replaced instruction.
+	 */
+	protected Invoke(short[] otherBytes) {
+		super();
+		this.otherBytes = otherBytes;
+		this.hasObjectrefParameter = 1;
+	}
+
 	/**
 	 * Execute the instruction.
 	 *
@@ -132,7 +144,6 @@ public abstract class Invoke extends GeneralInstructionWithOtherBytes implements
 	protected void invoke(Frame frame, boolean symbolic) throws ClassFileException,
 			ExecutionException, VmRuntimeException {
 		// Preparations.
-		Stack<Object> stack = frame.getOperandStack();
 		int index = this.otherBytes[0] << ONE_BYTE | this.otherBytes[1];
 		Constant constant = frame.getConstantPool()[index];
 
@@ -141,18 +152,53 @@ public abstract class Invoke extends GeneralInstructionWithOtherBytes implements
 		ClassFile methodClassFile = getMethodClassFile(constant, frame.getVm().getClassLoader());
 
 		// Try to resolve method from this class.
+		Method method = resolveMethod(frame, methodClassFile, nameAndType);
+
+		// Invoke it.
+		invoke(frame, symbolic, nameAndType, methodClassFile, method);
+	}
+
+	/**
+	 * Resolve the method referenced by this instruction.
+	 *
+	 * @param frame The currently executed frame.
+	 * @param methodClassFile The method's class file according to its name and descriptor.
+	 * @param nameAndType The name and the descriptor of the method.
+	 * @return The resolved method.
+	 * @throws VmRuntimeException If the method cannot be resolved.
+	 */
+	protected Method resolveMethod(Frame frame, ClassFile methodClassFile, String[] nameAndType)
+			throws VmRuntimeException {
 		ResolutionAlgorithms resolution = new ResolutionAlgorithms(frame.getVm().getClassLoader());
-		Method method;
 		try {
 			if (this.getName().contains("interface")) {
-				method = resolution.resolveMethodInterface(methodClassFile, nameAndType);
-			} else
-				method = resolution.resolveMethod(methodClassFile, nameAndType);
+				return resolution.resolveMethodInterface(methodClassFile, nameAndType);
+			}
+			return resolution.resolveMethod(methodClassFile, nameAndType);
 		} catch (ClassFileException e) {
 			throw new VmRuntimeException(frame.getVm().generateExc("java.lang.NoClassDefFoundError", e.getMessage()));
 		} catch (NoSuchMethodError e) {
 			throw new VmRuntimeException(frame.getVm().generateExc("java.lang.NoSuchMethodError", e.getMessage()));
 		}
+	}
+
+	/**
+	 * Invoke a resolved method. Quick versions of the instructions that already know the resolved
+	 * method start the invocation here.
+	 *
+	 * @param frame The currently executed frame.
+	 * @param symbolic Toggles whether the execution is symbolic, or not.
+	 * @param nameAndType The name and the descriptor of the method.
+	 * @param methodClassFile The method's class file according to its name and descriptor.
+	 * @param method The resolved method.
+	 * @throws ClassFileException On fatal errors loading or parsing a class file.
+	 * @throws ExecutionException In case of fatal problems during the execution.
+	 * @throws VmRuntimeException If runtime exceptions occur.
+	 */
+	protected void invoke(Frame frame, boolean symbolic, String[] nameAndType,
+			ClassFile methodClassFile, Method method) throws ClassFileException, ExecutionException,
+			VmRuntimeException {
+		OperandStack stack = frame.getOperandStack();
 
 		// Prepare the parameter's array.
 		int parameterCount = method.getNumberOfArguments();
@@ -401,7 +447,7 @@ public abstract class Invoke extends GeneralInstructionWithOtherBytes implements
 	 * @param method The native method.
 	 * @param symbolic Toggles whether a symbolic or a normal type is returned.
 	 */
-	public static void pushZeroOrNull(Stack<Object> stack, Method method, boolean symbolic) {
+	public static void pushZeroOrNull(OperandStack stack, Method method, boolean symbolic) {
 		if (method.isAccNative()) {
 			String type = method.getReturnType();
 			// Only process if the return type is not void.
@@ -142,8 +142,9 @@ public abstract class Load extends GeneralInstructionWithOtherBytes implements L
 
 						// Check if the generator allows a GeneratorChoicePoint to be created.
 						if (generator.allowsChoicePoint()) {
-							// Generate a GeneratorChoicePoint.
-							((SymbolicVirtualMachine) frame.getVm()).generateNewChoicePoint(this, generator, null);
+							// Generate a GeneratorChoicePoint. Do not continue if the search algorithm tracked back instead.
+							if (!((SymbolicVirtualMachine) frame.getVm()).generateNewChoicePoint(this, generator, null))
+								return;
 						} else {
 							// Simply provide a value.
 							if (generator.hasAnotherObject())  {
@@ -177,8 +178,9 @@ public abstract class Load extends GeneralInstructionWithOtherBytes implements L
 							throw new SymbolicExecutionException("Multidimensional arrays are not yet supported in symbolic execution mode.");
 						}
 
-						// Generate an ArrayInitializationChoicePoint.
-						((SymbolicVirtualMachine) frame.getVm()).generateNewChoicePoint(this, null, null);
+						// Generate an ArrayInitializationChoicePoint. Do not continue if the search algorithm tracked back instead.
+						if (!((SymbolicVirtualMachine) frame.getVm()).generateNewChoicePoint(this, null, null))
+							return;
 						
 						if (localVariables[localVariable] == null) {
 							frame.getMethod().setGeneratedValue(localVariable, null);
@@ -1,11 +1,10 @@
 package de.wwu.muggl.instructions.general;
 
-import java.util.Stack;
-
 import de.wwu.muggl.instructions.interfaces.data.StackPop;
 import de.wwu.muggl.instructions.interfaces.data.StackPush;
 import de.wwu.muggl.vm.Frame;
 import de.wwu.muggl.solvers.expressions.Term;
+import de.wwu.muggl.vm.OperandStack;
 
 /**
  * Abstract instruction with a concrete method for logic operations. Abstract instructions
@@ -23,7 +22,7 @@ public abstract class Logic extends GeneralInstruction implements StackPop, Stac
 	 */
 	@Override
 	public void executeSymbolically(Frame frame) {
-		Stack<Object> stack = frame.getOperandStack();
+		OperandStack stack = frame.getOperandStack();
 		Term term2 = Term.frameConstant(stack.pop());
 		Term term1 = Term.frameConstant(stack.pop());
 		stack.push(calculate(term1, term2));
@@ -1,11 +1,10 @@
 package de.wwu.muggl.instructions.general;
 
-import java.util.Stack;
-
 import de.wwu.muggl.instructions.interfaces.control.JumpNever;
 import de.wwu.muggl.instructions.interfaces.data.StackPop;
 import de.wwu.muggl.instructions.interfaces.data.StackPush;
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.impl.symbolic.SymbolicExecutionException;
 import de.wwu.muggl.solvers.expressions.Difference;
 import de.wwu.muggl.solvers.expressions.NumericConstant;
@@ -27,7 +26,7 @@ public abstract class Neg extends GeneralInstruction implements JumpNever, Stack
 	 */
 	@Override
 	public void executeSymbolically(Frame frame) throws SymbolicExecutionException {
-		Stack<Object> stack = frame.getOperandStack();
+		OperandStack stack = frame.getOperandStack();
 		Term term = (Term) stack.pop();
 		term = Difference.newInstance(getConstantZero(), term);
 		stack.push(term);
@@ -7,7 +7,6 @@ import de.wwu.muggl.instructions.interfaces.data.StackPop;
 import de.wwu.muggl.instructions.interfaces.data.VariableDefining;
 import de.wwu.muggl.instructions.interfaces.data.VariableUsing;
 import de.wwu.muggl.instructions.typed.TypedInstruction;
-import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.Restore;
 import de.wwu.muggl.vm.Frame;
 import de.wwu.muggl.vm.classfile.structures.attributes.AttributeCode;
 import de.wwu.muggl.vm.execution.ExecutionException;
@@ -110,8 +109,7 @@ public abstract class Store extends GeneralInstructionWithOtherBytes implements
 	public void executeSymbolically(Frame frame, int localVariable) throws SymbolicExecutionException {
 		// Save the current value, if necessary.
 		if (((SymbolicVirtualMachine) frame.getVm()).getSearchAlgorithm().savingLocalVariableValues()) {
-			Restore localVariableValue = new Restore(localVariable, frame.getLocalVariables()[localVariable]);
-			((SymbolicVirtualMachine) frame.getVm()).getSearchAlgorithm().saveLocalVariableValue(localVariableValue);
+			((SymbolicVirtualMachine) frame.getVm()).getSearchAlgorithm().saveLocalVariableValue(frame, localVariable);
 		}
 
 		// Store the value.
@@ -0,0 +1,77 @@
+package de.wwu.muggl.instructions.replaced.quick;
+
+import java.util.Arrays;
+
+import de.wwu.muggl.vm.classfile.ClassFile;
+import de.wwu.muggl.vm.classfile.structures.Method;
+
+/**
+ * Inline cache of a call site. It maps the classes of the receivers seen at the call site to the
+ * methods selected for them. Most call sites only ever see one class of receivers, so the first
+ * entry is checked first. Once more classes than can be cached have been seen, the call site is
+ * megamorphic and further receivers are not cached anymore; selection then falls back to the
+ * dispatch tables of the receiver's class.<br />
+ * <br />
+ * Instructions are shared by the threads of a virtual machine, so the entries are published
+ * safely: they are never changed, and adding an entry publishes a copy of them.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+final class InlineCache {
+	// The maximum number of receiver classes to cache.
+	private static final int MAX_ENTRIES = 4;
+
+	// The cached receiver classes and the methods selected for them.
+	private volatile Entry[] entries;
+
+	/**
+	 * Initialize an empty inline cache.
+	 */
+	InlineCache() {
+		this.entries = new Entry[0];
+	}
+
+	/**
+	 * Get the method selected for a class of receivers.
+	 *
+	 * @param receiver The class of the receiver.
+	 * @return The selected method; or null, if it is not cached.
+	 */
+	Method lookup(ClassFile receiver) {
+		for (Entry entry : this.entries) {
+			if (entry.receiver == receiver) return entry.target;
+		}
+		return null;
+	}
+
+	/**
+	 * Cache the method selected for a class of receivers. Nothing is cached if the call site is
+	 * megamorphic, or if the class has been cached by another thread in the meantime.
+	 *
+	 * @param receiver The class of the receiver.
+	 * @param target The selected method.
+	 */
+	synchronized void add(ClassFile receiver, Method target) {
+		Entry[] entries = this.entries;
+		if (entries.length < MAX_ENTRIES && lookup(receiver) == null) {
+			entries = Arrays.copyOf(entries, entries.length + 1);
+			entries[entries.length - 1] = new Entry(receiver, target);
+			this.entries = entries;
+		}
+	}
+
+	/**
+	 * A class of receivers and the method selected for it.
+	 */
+	private static final class Entry {
+		final ClassFile receiver;
+		final Method target;
+
+		Entry(ClassFile receiver, Method target) {
+			this.receiver = receiver;
+			this.target = target;
+		}
+	}
+
+}
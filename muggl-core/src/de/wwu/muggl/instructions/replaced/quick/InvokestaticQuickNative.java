@@ -1,7 +1,5 @@
 package de.wwu.muggl.instructions.replaced.quick;
 
-import java.util.Stack;
-
 import de.wwu.muggl.configuration.Globals;
 import de.wwu.muggl.configuration.Options;
 import de.wwu.muggl.instructions.bytecode.Invokestatic;
@@ -10,6 +8,7 @@ import de.wwu.muggl.instructions.replaced.QuickInstruction;
 import de.wwu.muggl.instructions.replaced.ReplacingInstruction;
 import de.wwu.muggl.instructions.replaced.replacer.InvokestaticReplacer;
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.classfile.ClassFile;
 import de.wwu.muggl.vm.classfile.structures.Method;
 import de.wwu.muggl.vm.classfile.structures.UndefinedValue;
@@ -106,7 +105,7 @@ public class InvokestaticQuickNative extends InvokestaticQuickAbstract {
 	 */
 	private void invokeStatic(Frame frame, boolean symbolic) throws ExecutionException, VmRuntimeException {
 		// Prepare the parameter's array.
-		Stack<Object> stack = frame.getOperandStack();
+		OperandStack stack = frame.getOperandStack();
 		if (stack.size() < super.parameterCount)
 			throw new ExecutionException("Error while executing instruction " + getName()
 					+ ": There are less elements on the stack than parameters needed.");
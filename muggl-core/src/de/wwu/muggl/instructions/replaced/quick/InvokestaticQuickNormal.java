@@ -1,12 +1,11 @@
 package de.wwu.muggl.instructions.replaced.quick;
 
-import java.util.Stack;
-
 import de.wwu.muggl.instructions.bytecode.Invokestatic;
 import de.wwu.muggl.instructions.replaced.QuickInstruction;
 import de.wwu.muggl.instructions.replaced.ReplacingInstruction;
 import de.wwu.muggl.instructions.replaced.replacer.InvokestaticReplacer;
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.classfile.structures.Method;
 import de.wwu.muggl.vm.exceptions.NoExceptionHandlerFoundException;
 import de.wwu.muggl.vm.execution.ExecutionException;
@@ -74,7 +73,7 @@ public class InvokestaticQuickNormal extends InvokestaticQuickAbstract {
 	 */
 	private void invokeStatic(Frame frame) throws ExecutionException {
 		// Prepare the parameter's array.
-		Stack<Object> stack = frame.getOperandStack();
+		OperandStack stack = frame.getOperandStack();
 		if (stack.size() < super.parameterCount)
 			throw new ExecutionException("Error while executing instruction " + getName()
 					+ ": There are less elements on the stack than parameters needed.");
@@ -0,0 +1,101 @@
+package de.wwu.muggl.instructions.replaced.quick;
+
+import de.wwu.muggl.instructions.bytecode.Invokevirtual;
+import de.wwu.muggl.instructions.replaced.QuickInstruction;
+import de.wwu.muggl.instructions.replaced.ReplacingInstruction;
+import de.wwu.muggl.instructions.replaced.replacer.InvokevirtualReplacer;
+import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.classfile.ClassFile;
+import de.wwu.muggl.vm.classfile.ClassFileException;
+import de.wwu.muggl.vm.classfile.structures.Method;
+import de.wwu.muggl.vm.exceptions.VmRuntimeException;
+import de.wwu.muggl.vm.execution.ExecutionException;
+
+/**
+ * {@link QuickInstruction} for <i>invokevirtual</i>. It uses the method resolved by the replacer
+ * and selects the method to invoke by an {@link InlineCache} keyed by the class of the receiver.
+ * Receivers not found in the cache are dispatched by the virtual method table of their class.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+public class InvokevirtualQuick extends Invokevirtual implements QuickInstruction {
+	// The replacing instruction.
+	private final ReplacingInstruction replacer;
+
+	// The resolved method and the information it has been resolved from.
+	private final String[] nameAndType;
+	private final ClassFile methodClassFile;
+	private final Method method;
+
+	// The inline cache of this call site.
+	private final InlineCache inlineCache;
+
+	/**
+	 * Construct an instance to replace {@link Invokevirtual}.
+	 *
+	 * @param replacer The {@link ReplacingInstruction} that constructs this.
+	 * @param otherBytes The additional bytes of the invokevirtual instruction replaced by this.
+	 * @param nameAndType The name and the descriptor of the method.
+	 * @param methodClassFile The method's class file according to its name and descriptor.
+	 * @param method The resolved method.
+	 */
+	public InvokevirtualQuick(InvokevirtualReplacer replacer, short[] otherBytes,
+			String[] nameAndType, ClassFile methodClassFile, Method method) {
+		super(otherBytes);
+		this.replacer = replacer;
+		this.nameAndType = nameAndType;
+		this.methodClassFile = methodClassFile;
+		this.method = method;
+		this.inlineCache = new InlineCache();
+	}
+
+	/**
+	 * Invoke the resolved method.
+	 *
+	 * @param frame The currently executed frame.
+	 * @param symbolic Toggles whether the execution is symbolic, or not.
+	 * @throws ClassFileException On fatal errors loading or parsing a class file.
+	 * @throws ExecutionException In case of fatal problems during the execution.
+	 * @throws VmRuntimeException If runtime exceptions occur.
+	 */
+	@Override
+	protected void invoke(Frame frame, boolean symbolic) throws ClassFileException,
+			ExecutionException, VmRuntimeException {
+		invoke(frame, symbolic, this.nameAndType, this.methodClassFile, this.method);
+	}
+
+	/**
+	 * Select the actual method for invocation. The inline cache is checked first.
+	 *
+	 * @param frame The currently executed frame.
+	 * @param method The resolved method.
+	 * @param methodClassFile The method's class file according to its name and descriptor.
+	 * @param objectrefClassFile The {@link ClassFile} of the object reference to invoke the method
+	 *        on.
+	 * @return The selected method.
+	 * @throws ClassFileException If a required class file cannot be loaded.
+	 * @throws VmRuntimeException If an unexpected condition it met and a runtime exception is
+	 *         thrown.
+	 */
+	@Override
+	protected Method selectMethod(Frame frame, Method method, ClassFile methodClassFile,
+			ClassFile objectrefClassFile) throws ClassFileException, VmRuntimeException {
+		Method selectedMethod = this.inlineCache.lookup(objectrefClassFile);
+		if (selectedMethod == null) {
+			selectedMethod = super.selectMethod(frame, method, methodClassFile, objectrefClassFile);
+			this.inlineCache.add(objectrefClassFile, selectedMethod);
+		}
+		return selectedMethod;
+	}
+
+	/**
+	 * Get the {@link ReplacingInstruction} that constructed this QuickInstruction.
+	 *
+	 * @return The ReplacingInstruction that constructed this QuickInstruction.
+	 */
+	public ReplacingInstruction getReplacer() {
+		return this.replacer;
+	}
+
+}
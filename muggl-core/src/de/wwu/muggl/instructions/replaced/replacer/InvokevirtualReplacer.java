@@ -0,0 +1,122 @@
+package de.wwu.muggl.instructions.replaced.replacer;
+
+import de.wwu.muggl.instructions.InvalidInstructionInitialisationException;
+import de.wwu.muggl.instructions.bytecode.Invokevirtual;
+import de.wwu.muggl.instructions.replaced.QuickInstruction;
+import de.wwu.muggl.instructions.replaced.ReplacingInstruction;
+import de.wwu.muggl.instructions.replaced.quick.InvokevirtualQuick;
+import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.classfile.ClassFile;
+import de.wwu.muggl.vm.classfile.ClassFileException;
+import de.wwu.muggl.vm.classfile.structures.Constant;
+import de.wwu.muggl.vm.classfile.structures.Method;
+import de.wwu.muggl.vm.classfile.structures.attributes.AttributeCode;
+import de.wwu.muggl.vm.exceptions.ExceptionHandler;
+import de.wwu.muggl.vm.exceptions.NoExceptionHandlerFoundException;
+import de.wwu.muggl.vm.exceptions.VmRuntimeException;
+import de.wwu.muggl.vm.execution.ExecutionException;
+import de.wwu.muggl.vm.impl.symbolic.SymbolicExecutionException;
+import de.wwu.muggl.vm.impl.symbolic.exceptions.SymbolicExceptionHandler;
+
+/**
+ * {@link ReplacingInstruction} for <i>invokevirtual</i>. Executed once, it will resolve the invoked
+ * method and replace itself with {@link InvokevirtualQuick}.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+public class InvokevirtualReplacer extends Invokevirtual implements ReplacingInstruction {
+
+	/**
+	 * Standard constructor. For the extraction of the other bytes, the attribute_code of the method
+	 * that the instruction belongs to is supplied as an argument.
+	 *
+	 * @param code The attribute_code of the method that the instruction belongs to.
+	 * @throws InvalidInstructionInitialisationException If the instruction could not be initialized
+	 *         successfully, most likely due to missing additional bytes. This might be caused by a
+	 *         corrupt class file, or a class file of a more recent version than can be handled.
+	 */
+	public InvokevirtualReplacer(AttributeCode code) throws InvalidInstructionInitialisationException {
+		super(code);
+	}
+
+	/**
+	 * Execute the instruction. First resolve the invoked method, then generate the quick
+	 * instruction and put it. Finally run the quick instruction for the first time.
+	 *
+	 * @param frame The currently executed frame.
+	 * @throws ExecutionException In case of fatal problems during the execution.
+	 */
+	@Override
+	public void execute(Frame frame) throws ExecutionException {
+		try {
+			prepareInvocation(frame).execute(frame);
+		} catch (VmRuntimeException e) {
+			ExceptionHandler handler = new ExceptionHandler(frame, e);
+			try {
+				handler.handleException();
+			} catch (ExecutionException e2) {
+				executionFailed(e2);
+			}
+		} catch (ClassFileException e) {
+			executionFailed(e);
+		} catch (ExecutionException e) {
+			executionFailed(e);
+		}
+	}
+
+	/**
+	 * Execute the instruction symbolically. First resolve the invoked method, then generate the
+	 * quick instruction and put it. Finally run the quick instruction for the first time.
+	 *
+	 * @param frame The currently executed frame.
+	 * @throws NoExceptionHandlerFoundException If no handler could be found.
+	 * @throws SymbolicExecutionException In case of fatal problems during the symbolic execution.
+	 */
+	@Override
+	public void executeSymbolically(Frame frame) throws NoExceptionHandlerFoundException,
+			SymbolicExecutionException {
+		try {
+			prepareInvocation(frame).executeSymbolically(frame);
+		} catch (VmRuntimeException e) {
+			SymbolicExceptionHandler handler = new SymbolicExceptionHandler(frame, e);
+			try {
+				handler.handleException();
+			} catch (ExecutionException e2) {
+				executionFailedSymbolically(e2);
+			}
+		} catch (ClassFileException e) {
+			executionFailedSymbolically(e);
+		} catch (ExecutionException e) {
+			executionFailedSymbolically(e);
+		}
+	}
+
+	/**
+	 * Resolve the invoked method, then generate the quick instruction and put it. Method
+	 * resolution does not depend on the receiver, so it has to be done only once per call site.
+	 *
+	 * @param frame The currently executed frame.
+	 * @return The prepared {@link QuickInstruction}.
+	 * @throws ClassFileException On fatal errors loading or parsing a class file.
+	 * @throws ExecutionException In case of fatal problems during the execution.
+	 * @throws VmRuntimeException If the method cannot be resolved.
+	 */
+	private QuickInstruction prepareInvocation(Frame frame) throws ClassFileException,
+			ExecutionException, VmRuntimeException {
+		int index = this.otherBytes[0] << ONE_BYTE | this.otherBytes[1];
+		Constant constant = frame.getConstantPool()[index];
+
+		// Get the name and the descriptor and resolve the method.
+		String[] nameAndType = getNameAndType(constant);
+		ClassFile methodClassFile = getMethodClassFile(constant, frame.getVm().getClassLoader());
+		Method method = resolveMethod(frame, methodClassFile, nameAndType);
+
+		// Set the quick instruction and return it.
+		QuickInstruction quick = new InvokevirtualQuick(this, this.otherBytes, nameAndType,
+				methodClassFile, method);
+		frame.getMethod().replaceInstruction(quick, frame.getVm().getPc());
+		return quick;
+	}
+
+}
@@ -1,8 +1,10 @@
 package de.wwu.muggl.symbolic.flow.coverage;
 
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 import de.wwu.muggl.configuration.Globals;
 import de.wwu.muggl.instructions.InvalidInstructionInitialisationException;
@@ -22,13 +24,21 @@ import de.wwu.muggl.vm.initialization.InitializationException;
 public class CGCoverage {
 	// Reference fields.
 	private SymbolicVirtualMachine vm;
+	private Method method;
 	private ControlGraph controlGraph;
 	
 	/*
-	 * Field for nodes and edges. The first boolean dimension is for the current, the second for the
-	 * total coverage.
+	 * Fields for nodes and edges. The edges are numbered in ascending order of the pc they come
+	 * from and the pc they go to. The edges of the node at pc are those from firstEdge[pc] to
+	 * firstEdge[pc + 1] - 1; edgeSources and edgeTargets hold the pc values of any edge.
 	 */
-	private Map<Integer, Map<Integer, boolean[]>> coveredEdges;
+	private int[] firstEdge;
+	private int[] edgeSources;
+	private int[] edgeTargets;
+
+	// Bit sets of the current and the total coverage of the edges.
+	private long[] currentCoverage;
+	private long[] totalCoverage;
 
 	// Cache for the number of edges.
 	private long numberOfEdges;
@@ -53,18 +63,10 @@ public class CGCoverage {
 		if (vm == null) throw new NullPointerException("The SymbolicalVirtualMachine supplied  must not be null.");
 		if (method == null) throw new NullPointerException("The supplied Method must not be null.");
 		this.vm = vm;
+		this.method = method;
 		try {
 			this.controlGraph = method.getControlGraph();
-			this.coveredEdges = new HashMap<Integer, Map<Integer, boolean[]>>();
-			Map<Integer, Set<Integer>> edges = this.controlGraph.getControlGraph();
-			for (Integer key : edges.keySet()) {
-				Map<Integer, boolean[]> coveredNodes = new HashMap<Integer, boolean[]>();
-				for (Integer node : edges.get(key)) {
-					boolean[] value = {false, false};
-					coveredNodes.put(node, value);
-				}
-				this.coveredEdges.put(key, coveredNodes);
-			}
+			indexEdges(this.controlGraph.getControlGraph());
 		} catch (InvalidInstructionInitialisationException e) {
 			/*
 			 * There is hardly any reason why this should happen. The Method should have been parsed
@@ -73,7 +75,8 @@ public class CGCoverage {
 			throw new InitializationException(
 					"Unexpected exception when initializing the coverage controller.");
 		}
-		this.numberOfEdges = -1L;
+		this.numberOfEdges = this.edgeTargets.length;
+		this.expectedNumberOfEdges = -1L;
 		
 		// Initialize to -1, meaning "before the execution started with the first instruction".
 		this.lastPc = -1;
@@ -83,6 +86,67 @@ public class CGCoverage {
 		this.committedTill = -1L;
 	}
 
+	/**
+	 * Number the edges of the control graph and allocate the coverage bit sets.
+	 *
+	 * @param edges The edges of the control graph.
+	 */
+	private void indexEdges(Map<Integer, Set<Integer>> edges) {
+		int numberOfNodes = 0;
+		int number = 0;
+		for (Map.Entry<Integer, Set<Integer>> entry : edges.entrySet()) {
+			numberOfNodes = Math.max(numberOfNodes, entry.getKey() + 1);
+			number += entry.getValue().size();
+		}
+
+		this.firstEdge = new int[numberOfNodes + 1];
+		this.edgeSources = new int[number];
+		this.edgeTargets = new int[number];
+		int edge = 0;
+		for (int pc = 0; pc < numberOfNodes; pc++) {
+			this.firstEdge[pc] = edge;
+			Set<Integer> targets = edges.get(pc);
+			if (targets != null) {
+				for (Integer target : new TreeSet<Integer>(targets)) {
+					this.edgeSources[edge] = pc;
+					this.edgeTargets[edge] = target;
+					edge++;
+				}
+			}
+		}
+		this.firstEdge[numberOfNodes] = edge;
+
+		this.currentCoverage = new long[(number + 63) >>> 6];
+		this.totalCoverage = new long[this.currentCoverage.length];
+	}
+
+	/**
+	 * Get the number of the edge between two nodes.
+	 *
+	 * @param lastPc The pc of the node the edge comes from.
+	 * @param pc The pc of the node the edge goes to.
+	 * @return The number of the edge; -1 if lastPc is no node and -2 if there is no such edge.
+	 */
+	private int getEdge(int lastPc, int pc) {
+		if (lastPc < 0 || lastPc >= this.firstEdge.length - 1
+				|| this.firstEdge[lastPc] == this.firstEdge[lastPc + 1])
+			return -1;
+		int edge = Arrays.binarySearch(this.edgeTargets, this.firstEdge[lastPc],
+				this.firstEdge[lastPc + 1], pc);
+		return edge < 0 ? -2 : edge;
+	}
+
+	/**
+	 * Check whether an edge is set in a coverage bit set.
+	 *
+	 * @param coverage The current or the total coverage.
+	 * @param edge The number of the edge.
+	 * @return true, if the edge is set; false otherwise.
+	 */
+	private static boolean isSet(long[] coverage, int edge) {
+		return (coverage[edge >>> 6] & (1L << edge)) != 0L;
+	}
+
 	/**
 	 * Update the coverage according to the instruction number.<br />
 	 * <br />
@@ -129,32 +193,30 @@ public class CGCoverage {
 					"Covering control flow graph edge between " + this.lastPc + " and " + pc + "."
 					);
 
-		// Get the potential edges.
-		Map<Integer, boolean[]> potentialEdges = this.coveredEdges.get(this.lastPc);
-		if (potentialEdges == null)
+		// Get the edge.
+		int edge = getEdge(this.lastPc, pc);
+		if (edge == -1)
 			throw new IllegalArgumentException(
 					"The last pc (" + this.lastPc + ") did not point to a node in the control graph."
 					);
-
-		// Check if the edge exists.
-		boolean[] covered = potentialEdges.get(pc);
-		if (covered == null)
+		if (edge == -2)
 			throw new IllegalArgumentException(
 					"There is no edge between last pc (" + this.lastPc + ") and pc (" + pc + ") in the control graph."
 					);
 
-		// Check if the value is already true. Only proceed if it is false at the moment.
-		if (!covered[0]) {
+		// Check if the edge is already covered. Only proceed if it is not at the moment.
+		int word = edge >>> 6;
+		long bit = 1L << edge;
+		if ((this.currentCoverage[word] & bit) == 0L) {
 			// It now is covered. Set that.
-			covered[0] = true;
-			covered[1] = true; // The overall coverage might already be true.
-			potentialEdges.put(pc, covered);
+			this.currentCoverage[word] |= bit;
+			this.totalCoverage[word] |= bit; // The overall coverage might already be set.
 
 			// Generate the CGCoverageTrailElement.
 			ChoicePoint choicePoint = this.vm.getSearchAlgorithm().getCurrentChoicePoint();
 			if (choicePoint != null && choicePoint.hasTrail()) {
 				CGCoverageTrailElement trailElement =
-					new CGCoverageTrailElement(this, this.nextTrailElement, this.lastPc, pc);
+					new CGCoverageTrailElement(this, this.nextTrailElement, edge);
 				this.nextTrailElement++;
 				choicePoint.addToTrail(trailElement);
 			}
@@ -171,22 +233,99 @@ public class CGCoverage {
 	 * the CGCoverageTrailElement.
 	 * 
 	 * @param number A number indicating how many elements have been confirmed to be covered, yet.
-	 * @param lastPc The last pc value.
-	 * @param pc The current pc.
+	 * @param edge The number of the edge.
 	 */
-	void revertCoverage(long number, int lastPc, int pc) {
-		Map<Integer, boolean[]> potentialEdges = this.coveredEdges.get(lastPc);
-		if (number > this.committedTill) {
-			// Just overwrite it.
-			potentialEdges.put(pc, new boolean[2]);
-		} else {
-			// Get the current coverage and revert just the current coverage.
-			boolean[] coverage = potentialEdges.get(pc);
-			coverage[0] = false;
-			potentialEdges.put(pc, coverage);
-		}
+	void revertCoverage(long number, int edge) {
+		int word = edge >>> 6;
+		long mask = ~(1L << edge);
+		this.currentCoverage[word] &= mask;
+		// Revert the total coverage as well unless it has been committed.
+		if (number > this.committedTill)
+			this.totalCoverage[word] &= mask;
 		// Set the lastPC;
-		this.lastPc = lastPc;
+		this.lastPc = this.edgeSources[edge];
+	}
+
+	/**
+	 * Set the coverage of an edge that has been reverted by {@link #revertCoverage(long, int)}
+	 * again. This happens if a suspended state of the execution is resumed.
+	 *
+	 * This method has package visibility only. It is intended to be used by the swap() method of
+	 * the CGCoverageTrailElement.
+	 *
+	 * @param edge The number of the edge.
+	 */
+	void reapplyCoverage(int edge) {
+		int word = edge >>> 6;
+		long bit = 1L << edge;
+		this.currentCoverage[word] |= bit;
+		this.totalCoverage[word] |= bit;
+	}
+
+	/**
+	 * Get the number of edges execution has to take from a node until it has taken an edge that is
+	 * not covered by any execution so far, or until it has reached an instruction with a def-use
+	 * chain that is not covered. The distance is found by a breadth first search on the edges of
+	 * the control graph.
+	 *
+	 * @param lastPc The pc of the node execution comes from; or -1, if execution starts at pc.
+	 * @param pc The pc of the node execution continues at.
+	 * @param dUCoverage The def-use chains coverage; or null, if it is not tracked.
+	 * @return The distance; or Integer.MAX_VALUE, if nothing uncovered can be reached.
+	 */
+	public int getDistanceToUncovered(int lastPc, int pc, DUCoverage dUCoverage) {
+		int numberOfNodes = this.firstEdge.length - 1;
+		int distance = 0;
+		if (lastPc >= 0) {
+			int edge = getEdge(lastPc, pc);
+			if (edge >= 0 && !isSet(this.totalCoverage, edge)) return 1;
+			distance = 1;
+		}
+		if (pc < 0 || pc >= numberOfNodes) return Integer.MAX_VALUE;
+
+		int[] distances = new int[numberOfNodes];
+		Arrays.fill(distances, -1);
+		int[] queue = new int[numberOfNodes];
+		int head = 0;
+		int tail = 0;
+		distances[pc] = distance;
+		queue[tail++] = pc;
+		while (head < tail) {
+			int node = queue[head++];
+			int nodeDistance = distances[node];
+			if (dUCoverage != null && dUCoverage.hasUncoveredChainAt(this.method, node))
+				return nodeDistance;
+			for (int edge = this.firstEdge[node]; edge < this.firstEdge[node + 1]; edge++) {
+				if (!isSet(this.totalCoverage, edge)) return nodeDistance + 1;
+				int target = this.edgeTargets[edge];
+				// Edges to the end of the method or to an uncaught exception have negative targets.
+				if (target >= 0 && target < numberOfNodes && distances[target] == -1) {
+					distances[target] = nodeDistance + 1;
+					queue[tail++] = target;
+				}
+			}
+		}
+		return Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Get the pc of the node an edge comes from.
+	 *
+	 * @param edge The number of the edge.
+	 * @return The pc of the node the edge comes from.
+	 */
+	int getEdgeSource(int edge) {
+		return this.edgeSources[edge];
+	}
+
+	/**
+	 * Get the pc of the node an edge goes to.
+	 *
+	 * @param edge The number of the edge.
+	 * @return The pc of the node the edge goes to.
+	 */
+	int getEdgeTarget(int edge) {
+		return this.edgeTargets[edge];
 	}
 
 	/**
@@ -215,18 +354,7 @@ public class CGCoverage {
 	 * @return true, if full coverage has been reached, false otherwise.
 	 */
 	public boolean isEverythingCovered() {
-		// Iterate through the HashMaps and check if every edge is covered.
-		Set<Integer> potentialEdgesKeyset = this.coveredEdges.keySet();
-		for (Integer key : potentialEdgesKeyset) {
-			Map<Integer, boolean[]> edges = this.coveredEdges.get(key);
-			Set<Integer> edgesKeyset = edges.keySet();
-			for (Integer key2 : edgesKeyset) {
-				if (!edges.get(key2)[1]) return false;
-			}
-		}
-
-		// If this point is reached, full coverage is guaranteed.
-		return true;
+		return getNumberOfCoveredCGEdges() == this.numberOfEdges;
 	}
 
 	/**
@@ -238,13 +366,8 @@ public class CGCoverage {
 	 */
 	public long getNumberOfCoveredCGEdges() {
 		long number = 0;
-		Set<Integer> potentialEdgesKeyset = this.coveredEdges.keySet();
-		for (Integer key : potentialEdgesKeyset) {
-			Map<Integer, boolean[]> edges = this.coveredEdges.get(key);
-			Set<Integer> edgesKeyset = edges.keySet();
-			for (Integer key2 : edgesKeyset) {
-				if (edges.get(key2)[1]) number++;
-			}
+		for (long word : this.totalCoverage) {
+			number += Long.bitCount(word);
 		}
 		return number;
 	}
@@ -256,36 +379,19 @@ public class CGCoverage {
 	 */
 	public long getNumberOfCurrentlyCoveredCGEdges() {
 		long number = 0;
-		Set<Integer> potentialEdgesKeyset = this.coveredEdges.keySet();
-		for (Integer key : potentialEdgesKeyset) {
-			Map<Integer, boolean[]> edges = this.coveredEdges.get(key);
-			Set<Integer> edgesKeyset = edges.keySet();
-			for (Integer key2 : edgesKeyset) {
-				if (edges.get(key2)[0]) number++;
-			}
+		for (long word : this.currentCoverage) {
+			number += Long.bitCount(word);
 		}
 		return number;
 	}
 
 	/**
-	 * Get the total number of control graph edges. The result of
-	 * this method will be cached.
+	 * Get the total number of control graph edges.
 	 *
 	 * @return The total of control graph edges.
 	 */
 	public long getNumberOfEdges() {
-		// Have a cached result?
-		if (this.numberOfEdges != -1)
-			return this.numberOfEdges;
-
-		// Calculate the number.
-		int number = 0;
-		Set<Integer> potentialEdgesKeyset = this.coveredEdges.keySet();
-		for (Integer key : potentialEdgesKeyset) {
-			number += this.coveredEdges.get(key).size();
-		}
-		this.numberOfEdges = number;
-		return number;
+		return this.numberOfEdges;
 	}
 
 	/**
@@ -314,13 +420,26 @@ public class CGCoverage {
 	 * Get the coverage of control graph edges. This will return a Map with Integer keys and a Map
 	 * objects. The Map objects have Integer keys and a two-dimensional boolean array. The first
 	 * Integer key represents the pc of the node the edge comes from. The second Integer key
-	 * represents the pc of the node the edge goes to. A value of true indicates that the
-	 * corresponding control graph edge is covered.
+	 * represents the pc of the node the edge goes to. The first boolean value indicates that the
+	 * corresponding control graph edge is currently covered, the second one that it is covered
+	 * in total.<br />
+	 * <br />
+	 * The Map is built on each invocation and does not reflect later changes of the coverage.
 	 * 
 	 * @return The coverage control graph edges.
 	 */
 	public Map<Integer, Map<Integer, boolean[]>> getControlGraphCoverage() {
-		return this.coveredEdges;
+		Map<Integer, Map<Integer, boolean[]>> coverage = new TreeMap<Integer, Map<Integer, boolean[]>>();
+		for (int edge = 0; edge < this.edgeTargets.length; edge++) {
+			Map<Integer, boolean[]> edges = coverage.get(this.edgeSources[edge]);
+			if (edges == null) {
+				edges = new TreeMap<Integer, boolean[]>();
+				coverage.put(this.edgeSources[edge], edges);
+			}
+			boolean[] value = {isSet(this.currentCoverage, edge), isSet(this.totalCoverage, edge)};
+			edges.put(this.edgeTargets[edge], value);
+		}
+		return coverage;
 	}
 
 	/**
@@ -332,27 +451,7 @@ public class CGCoverage {
 	 * @return An array of boolean values indicating which control flow edges have been covered.
 	 */
 	public boolean[] getCoverage() {
-		// First step: Allocate the array.
-		boolean[] coverage = new boolean[(int) getNumberOfEdges()];
-
-		// Second step: Fill the array.
-		int a = 0;
-		Set<Integer> potentialEdgesKeyset = this.coveredEdges.keySet();
-		for (Integer key : potentialEdgesKeyset) {
-			Map<Integer, boolean[]> edges = this.coveredEdges.get(key);
-			Set<Integer> edgesKeyset = edges.keySet();
-			for (Integer key2 : edgesKeyset) {
-				if (edges.get(key2)[1]) {
-					coverage[a] = true;
-				} else {
-					coverage[a] = false;
-				}
-				a++;
-			}
-		}
-
-		// Finished.
-		return coverage;
+		return toBooleanArray(this.totalCoverage);
 	}
 
 	/**
@@ -364,27 +463,21 @@ public class CGCoverage {
 	 * @return An array of boolean values indicating which control flow edges have been covered currently.
 	 */
 	public boolean[] getCurrentCoverage() {
-		// First step: Allocate the array.
-		boolean[] coverage = new boolean[(int) getNumberOfEdges()];
+		return toBooleanArray(this.currentCoverage);
+	}
 
-		// Second step: Fill the array.
-		int a = 0;
-		Set<Integer> potentialEdgesKeyset = this.coveredEdges.keySet();
-		for (Integer key : potentialEdgesKeyset) {
-			Map<Integer, boolean[]> edges = this.coveredEdges.get(key);
-			Set<Integer> edgesKeyset = edges.keySet();
-			for (Integer key2 : edgesKeyset) {
-				if (edges.get(key2)[0]) {
-					coverage[a] = true;
-				} else {
-					coverage[a] = false;
-				}
-				a++;
-			}
+	/**
+	 * Convert a coverage bit set to an array of boolean values in the order of the edge numbers.
+	 *
+	 * @param coverage The current or the total coverage.
+	 * @return An array of boolean values indicating which control flow edges are set.
+	 */
+	private boolean[] toBooleanArray(long[] coverage) {
+		boolean[] array = new boolean[this.edgeTargets.length];
+		for (int edge = 0; edge < array.length; edge++) {
+			array[edge] = isSet(coverage, edge);
 		}
-
-		// Finished.
-		return coverage;
+		return array;
 	}
 	
 	/**
@@ -421,9 +514,10 @@ public class CGCoverage {
 		if (showCurrentCoverage) edgesString += "Only the current coverage is shown.\n";
 		edgesString += "Instruction numbers include additional bytes.\n\n";
 		boolean firstOne = true;
-		Set<Integer> potentialEdgesKeyset = this.coveredEdges.keySet();
+		Map<Integer, Map<Integer, boolean[]>> coveredEdges = getControlGraphCoverage();
+		Set<Integer> potentialEdgesKeyset = coveredEdges.keySet();
 		for (Integer key : potentialEdgesKeyset) {
-			Map<Integer, boolean[]> edges = this.coveredEdges.get(key);
+			Map<Integer, boolean[]> edges = coveredEdges.get(key);
 			Set<Integer> edgesKeyset = edges.keySet();
 			for (Integer key2 : edgesKeyset) {
 				if (!firstOne) edgesString += "\n";
@@ -486,7 +580,8 @@ public class CGCoverage {
 			+ method.getFullNameWithParameterTypesAndNames() + ".\n";
 		if (showCurrentCoverage) edgesString += "Only the current coverage is shown.\n";
 		edgesString += "Instruction numbers include additional bytes.\n\n";
-		Set<Integer> potentialEdgesKeyset = this.coveredEdges.keySet();
+		Map<Integer, Map<Integer, boolean[]>> coveredEdges = getControlGraphCoverage();
+		Set<Integer> potentialEdgesKeyset = coveredEdges.keySet();
 		int lastInstruction = instructions.length - 1;
 		for (Integer key : potentialEdgesKeyset) {
 			// Add the current key.
@@ -497,7 +592,7 @@ public class CGCoverage {
 
 			// Add the edges.
 			int nextKey = key + 1 + instructions[key].getNumberOfOtherBytes();
-			Map<Integer, boolean[]> edges = this.coveredEdges.get(key);
+			Map<Integer, boolean[]> edges = coveredEdges.get(key);
 			Set<Integer> edgesKeyset = edges.keySet();
 			String normalEdge = "";
 			if (key != lastInstruction) normalEdge += "\n";
@@ -1,6 +1,6 @@
 package de.wwu.muggl.symbolic.flow.coverage;
 
-import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.TrailElement;
+import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.SwappableTrailElement;
 
 /**
  * The TrailElement is used for checking the coverage of control graph. Covered edges
@@ -9,26 +9,25 @@ import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.TrailElem
  * @author Tim Majchrzak
  * @version 1.0.0, 2009-03-28
  */
-public class CGCoverageTrailElement implements TrailElement {
+public class CGCoverageTrailElement implements SwappableTrailElement {
 	// Fields.
 	private CGCoverage cGCoverage;
 	private long number;
-	private int lastPc;
-	private int pc;
+	private int edge;
+	// Whether the coverage has been reverted by swapping.
+	private boolean reverted;
 
 	/**
-	 * Initialize with the ControlGraph object and the definition index to unset.
+	 * Initialize with the ControlGraph object and the edge to unset.
 	 *
-	 * @param cGCoverage The ControlGraphCoverage instance to unset the definition at.
+	 * @param cGCoverage The ControlGraphCoverage instance to unset the edge at.
 	 * @param number The number of the control graph trail element.
-	 * @param lastPc The pc executed last.
-	 * @param pc The currently executed pc.
+	 * @param edge The number of the covered edge.
 	 */
-	public CGCoverageTrailElement(CGCoverage cGCoverage,  long number, int lastPc, int pc) {
+	public CGCoverageTrailElement(CGCoverage cGCoverage,  long number, int edge) {
 		this.cGCoverage = cGCoverage;
 		this.number = number;
-		this.lastPc = lastPc;
-		this.pc = pc;
+		this.edge = edge;
 	}
 
 	/**
@@ -36,7 +35,20 @@ public class CGCoverageTrailElement implements TrailElement {
 	 * triggers the reverting of the coverage in the ControlGraph instance.
 	 */
 	public void restore() {
-		this.cGCoverage.revertCoverage(this.number, this.lastPc, this.pc);
+		this.cGCoverage.revertCoverage(this.number, this.edge);
+	}
+
+	/**
+	 * Called when suspending or resuming a state in the symbolic execution. This reverts the
+	 * coverage, or sets it again if it has been reverted by the last swap.
+	 */
+	public void swap() {
+		if (this.reverted) {
+			this.cGCoverage.reapplyCoverage(this.edge);
+		} else {
+			this.cGCoverage.revertCoverage(this.number, this.edge);
+		}
+		this.reverted = !this.reverted;
 	}
 
 	/**
@@ -47,8 +59,9 @@ public class CGCoverageTrailElement implements TrailElement {
 	 */
 	@Override
 	public String toString() {
-		return "Trail element that resets the control flow coverage between " + this.pc + " and "
-				+ this.lastPc + ".";
+		return "Trail element that resets the control flow coverage between "
+				+ this.cGCoverage.getEdgeTarget(this.edge) + " and "
+				+ this.cGCoverage.getEdgeSource(this.edge) + ".";
 	}
 
 }
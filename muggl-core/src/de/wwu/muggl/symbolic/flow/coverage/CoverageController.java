@@ -1,7 +1,9 @@
 package de.wwu.muggl.symbolic.flow.coverage;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.Map.Entry;
 
 import de.wwu.muggl.configuration.Options;
@@ -32,6 +34,11 @@ public class CoverageController {
 
 	// Field for the mapping.
 	private Map<Method, CGCoverage> cGCoverageMap;
+	// Methods whose control flow coverage is not tracked.
+	private Set<Method> untrackedMethods;
+	// The method coverage has been updated for lastly and its control flow coverage.
+	private Method lastMethod;
+	private CGCoverage lastCGCoverage;
 	// Field for the def-use chains coverage.
 	private DUCoverage dUCoverage;
 
@@ -54,6 +61,7 @@ public class CoverageController {
 		this.initialMethod = vm.getInitialMethod();
 		this.initialMethodClassFile = this.initialMethod.getClassFile();
 		this.cGCoverageMap = new HashMap<Method, CGCoverage>();
+		this.untrackedMethods = new HashSet<Method>();
 		Options options = Options.getInst();
 		this.whatIsCovered = null;
 
@@ -76,7 +84,15 @@ public class CoverageController {
 	 * @throws InitializationException In cases of non-recoverable initialization exceptions.
 	 */
 	public void updateCoverage(Method method, int pc) throws InitializationException {
-		CGCoverage cGCoverage = getCGCoverage(method);
+		// Consecutive instructions mostly belong to the same method.
+		CGCoverage cGCoverage;
+		if (method == this.lastMethod) {
+			cGCoverage = this.lastCGCoverage;
+		} else {
+			cGCoverage = getCGCoverage(method);
+			this.lastMethod = method;
+			this.lastCGCoverage = cGCoverage;
+		}
 		if (cGCoverage != null)
 			cGCoverage.updateCoverage(pc);
 		if (this.dUCoverage != null)
@@ -257,6 +273,27 @@ public class CoverageController {
 			this.dUCoverage.commit();
 	}
 
+	/**
+	 * Get the distance from a point of execution to the nearest control graph edge or def-use chain
+	 * that is not covered by any execution so far. It is measured in the control graph edges
+	 * execution has to take. Methods whose control flow coverage is not tracked only report
+	 * uncovered def-use chains at the supplied pc.
+	 *
+	 * @param method The method executed.
+	 * @param lastPc The pc of the instruction execution comes from; or -1, if execution starts at
+	 *        pc.
+	 * @param pc The pc of the instruction execution continues at.
+	 * @return The distance; or Integer.MAX_VALUE, if nothing uncovered can be reached.
+	 */
+	public int getDistanceToUncovered(Method method, int lastPc, int pc) {
+		CGCoverage cGCoverage = this.cGCoverageMap.get(method);
+		if (cGCoverage != null)
+			return cGCoverage.getDistanceToUncovered(lastPc, pc, this.dUCoverage);
+		if (this.dUCoverage != null && this.dUCoverage.hasUncoveredChainAt(method, pc))
+			return 0;
+		return Integer.MAX_VALUE;
+	}
+
 	/**
 	 * Get the mapping of methods to control flow coverage. Coverage is represented by an array of
 	 * boolean values indicating which control graph edges are currently covered. A value of true
@@ -370,7 +407,7 @@ public class CoverageController {
 		Options options = Options.getInst();
 
 		cGCoverage = this.cGCoverageMap.get(method);
-		if (cGCoverage == null && options.useCFCoverage) {
+		if (cGCoverage == null && options.useCFCoverage && !this.untrackedMethods.contains(method)) {
 			// Generate the ControlGraph if that is desired.
 			boolean tracking = false;
 			switch (options.coverageTracking) {
@@ -410,6 +447,8 @@ public class CoverageController {
 			if (tracking) {
 				cGCoverage = new CGCoverage(this.vm, method);
 				this.cGCoverageMap.put(method, cGCoverage);
+			} else {
+				this.untrackedMethods.add(method);
 			}
 		}
 
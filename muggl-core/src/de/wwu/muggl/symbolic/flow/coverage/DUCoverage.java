@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import de.wwu.muggl.configuration.Globals;
 import de.wwu.muggl.symbolic.flow.defUseChains.DefUseChain;
@@ -31,6 +32,10 @@ public class DUCoverage {
 	private Map<Method, List<List<Integer>>> methodDefMapping;
 	private Map<Method, List<List<Integer>>> methodUseMapping;
 
+	// The index of the first def-use chain and the number of def-use chains of each method.
+	private Map<Method, Integer> methodFirstChain;
+	private Map<Method, Integer> methodChains;
+
 	// Boolean arrays to keep track of the covered definitions and uses.
 	private boolean[] coveredDef;
 	private boolean[] coveredDefCurrentBranch;
@@ -61,6 +66,8 @@ public class DUCoverage {
 		// Initialize the maps.
 		this.methodDefMapping = new HashMap<Method, List<List<Integer>>>();
 		this.methodUseMapping = new HashMap<Method, List<List<Integer>>>();
+		this.methodFirstChain = new HashMap<Method, Integer>();
+		this.methodChains = new HashMap<Method, Integer>();
 		
 		// Fill the maps.
 		Map<Method, DefUseChains> defUseChainsMap = defUseChains.getDefUseChainsMapping();
@@ -70,6 +77,7 @@ public class DUCoverage {
 			List<List<Integer>> useMapping = new ArrayList<List<Integer>>();
 			this.methodDefMapping.put(method, defMapping);
 			this.methodUseMapping.put(method, useMapping);
+			this.methodFirstChain.put(method, Integer.valueOf(counter));
 			
 			// Set an empty mapping for each instruction number.
 			int number = method.getInstructionsNumber();
@@ -105,6 +113,7 @@ public class DUCoverage {
 				
 				counter++;
 			}
+			this.methodChains.put(method, Integer.valueOf(counter - this.methodFirstChain.get(method)));
 		}
 		this.totalDUChains = numberOfChains;
 		
@@ -225,6 +234,58 @@ public class DUCoverage {
 		}
 	}
 
+	/**
+	 * Set the coverage of a definition or usage that has been reverted by
+	 * {@link #revertCoverage(long, int, boolean)} again. This happens if a suspended state of the
+	 * execution is resumed.
+	 *
+	 * This method has package visibility only. It is intended to be used by the swap() method of
+	 * the {@link DUCoverageTrailElement}.
+	 *
+	 * @param coveredIndex The index of the definition to set.
+	 * @param defOrUse Indicates whether the definition or the usage is set. False means def, true
+	 *        means use.
+	 */
+	void reapplyCoverage(int coveredIndex, boolean defOrUse) {
+		if (defOrUse) {
+			this.coveredUseCurrentBranch[coveredIndex] = true;
+			this.coveredUse[coveredIndex] = true;
+		} else {
+			this.coveredDefCurrentBranch[coveredIndex] = true;
+			this.coveredDef[coveredIndex] = true;
+		}
+	}
+
+	/**
+	 * Check whether a definition or usage of a def-use chain that has not been covered by any
+	 * execution so far is found at an instruction.
+	 *
+	 * @param method The method.
+	 * @param pc The pc of the instruction.
+	 * @return true, if a definition or usage at the instruction is not covered; false otherwise.
+	 */
+	public boolean hasUncoveredChainAt(Method method, int pc) {
+		List<List<Integer>> defMapping = this.methodDefMapping.get(method);
+		if (defMapping != null && pc >= 0 && pc < defMapping.size()) {
+			List<Integer> defIndices = defMapping.get(pc);
+			if (defIndices != null) {
+				for (int index : defIndices) {
+					if (!this.coveredDef[index]) return true;
+				}
+			}
+		}
+		List<List<Integer>> useMapping = this.methodUseMapping.get(method);
+		if (useMapping != null && pc >= 0 && pc < useMapping.size()) {
+			List<Integer> useIndices = useMapping.get(pc);
+			if (useIndices != null) {
+				for (int index : useIndices) {
+					if (!this.coveredUse[index]) return true;
+				}
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Signalize that a solution has been saved any any total coverages can hence be kept and do not
 	 * need to be unset on backtracking.
@@ -306,6 +367,41 @@ public class DUCoverage {
 		return this.coveredUseCurrentBranch;
 	}
 	
+	/**
+	 * Get the index of the first def-use chain of a method in the arrays of boolean values
+	 * returned by {@link #getCoverage()} and {@link #getCurrentCoverage()}. The def-use chains of
+	 * a method have consecutive indices.
+	 *
+	 * @param method The method.
+	 * @return The index of its first def-use chain; or -1, if the method is not tracked.
+	 */
+	public int getFirstChainIndex(Method method) {
+		Integer index = this.methodFirstChain.get(method);
+		if (index == null) return -1;
+		return index.intValue();
+	}
+
+	/**
+	 * Get the number of def-use chains tracked for a method.
+	 *
+	 * @param method The method.
+	 * @return The number of its def-use chains; or 0, if the method is not tracked.
+	 */
+	public int getNumberOfChains(Method method) {
+		Integer number = this.methodChains.get(method);
+		if (number == null) return 0;
+		return number.intValue();
+	}
+
+	/**
+	 * Get the methods whose def-use chains are tracked.
+	 *
+	 * @return The set of tracked methods.
+	 */
+	public Set<Method> getTrackedMethods() {
+		return this.methodFirstChain.keySet();
+	}
+
 	/**
 	 * Get a String representation of the def-use chains coverage.
 	 *
@@ -1,6 +1,6 @@
 package de.wwu.muggl.symbolic.flow.coverage;
 
-import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.TrailElement;
+import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.SwappableTrailElement;
 
 /**
  * The TrailElement is used for checking the coverage of def-use chains. Definitions and usages
@@ -10,12 +10,14 @@ import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.TrailElem
  * @author Tim Majchrzak
  * @version 1.0.0, 2009-03-12
  */
-public class DUCoverageTrailElement implements TrailElement {
+public class DUCoverageTrailElement implements SwappableTrailElement {
 	// Data stored.
 	private DUCoverage dUCoverage;
 	private long number;
 	private int coveredIndex;
 	private boolean defOrUse;
+	// Whether the coverage has been reverted by swapping.
+	private boolean reverted;
 
 	/**
 	 * Initialize with the DUCoverage object and the definition index to unset.
@@ -41,6 +43,19 @@ public class DUCoverageTrailElement implements TrailElement {
 		this.dUCoverage.revertCoverage(this.number, this.coveredIndex, this.defOrUse);
 	}
 
+	/**
+	 * Called when suspending or resuming a state in the symbolic execution. This reverts the
+	 * coverage, or sets it again if it has been reverted by the last swap.
+	 */
+	public void swap() {
+		if (this.reverted) {
+			this.dUCoverage.reapplyCoverage(this.coveredIndex, this.defOrUse);
+		} else {
+			this.dUCoverage.revertCoverage(this.number, this.coveredIndex, this.defOrUse);
+		}
+		this.reverted = !this.reverted;
+	}
+
 	/**
 	 * Returns a suitable String representation of the trail element.
 	 *
@@ -145,6 +145,15 @@ public class GeneratorChoicePoint implements ChoicePoint {
 		return this.frame;
 	}
 
+	/**
+	 * Return the index into the local variable table the generated values are stored at.
+	 *
+	 * @return The index of the local variable.
+	 */
+	public int getLocalVariableIndex() {
+		return this.index;
+	}
+
 	/**
 	 * Return the pc of this ChoicePoint.
 	 *
@@ -0,0 +1,47 @@
+package de.wwu.muggl.symbolic.metrics;
+
+/**
+ * A counter of a {@link MetricsRegistry}. Its value only grows. A counter is meant to be updated
+ * by the thread of the virtual machine owning it only; other threads, such as the sampler of the
+ * registry, might read a slightly outdated value.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+public final class Counter {
+	// The current value.
+	private long value;
+
+	/**
+	 * Initialize the counter with a value of zero.
+	 */
+	Counter() {
+		this.value = 0L;
+	}
+
+	/**
+	 * Increase the counter by one.
+	 */
+	public void increment() {
+		this.value++;
+	}
+
+	/**
+	 * Increase the counter by the supplied increment.
+	 *
+	 * @param increment The increment.
+	 */
+	public void add(long increment) {
+		this.value += increment;
+	}
+
+	/**
+	 * Getter for the value of the counter.
+	 *
+	 * @return The value.
+	 */
+	public long get() {
+		return this.value;
+	}
+
+}
@@ -0,0 +1,161 @@
+package de.wwu.muggl.symbolic.metrics;
+
+/**
+ * A histogram of a {@link MetricsRegistry}, meant for latencies in nanoseconds and other
+ * non-negative values. Like HDR histograms, the buckets are log-linear: each power of two is split
+ * into 32 buckets of equal width. Hence, values up to 31 are counted exactly and all larger values
+ * with a relative error of less than 1/32, no matter how large they are. Recording a value costs a
+ * few shifts and an array access, and the memory needed is constant.<br />
+ * <br />
+ * Like counters, a histogram is meant to be updated by one thread only.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+public final class Histogram {
+	// The number of bits used for the buckets within a power of two.
+	private static final int SUB_BUCKET_BITS = 5;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	// Enough buckets for any non-negative long.
+	private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) << SUB_BUCKET_BITS;
+
+	// The buckets. They are allocated once the first value is recorded.
+	private long[] counts;
+	private long count;
+	private long sum;
+	private long min;
+	private long max;
+
+	/**
+	 * Initialize an empty histogram.
+	 */
+	Histogram() {
+		this.count = 0L;
+		this.sum = 0L;
+		this.min = Long.MAX_VALUE;
+		this.max = 0L;
+	}
+
+	/**
+	 * Get the index of the bucket a value is counted in.
+	 *
+	 * @param value The non-negative value.
+	 * @return The index of its bucket.
+	 */
+	static int getBucketIndex(long value) {
+		if (value < SUB_BUCKET_COUNT) return (int) value;
+		int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((value >>> shift) - SUB_BUCKET_COUNT);
+	}
+
+	/**
+	 * Get the highest value counted in a bucket.
+	 *
+	 * @param index The index of the bucket.
+	 * @return The highest value counted in it.
+	 */
+	static long getHighestValueOfBucket(int index) {
+		if (index < SUB_BUCKET_COUNT) return index;
+		int shift = (index >>> SUB_BUCKET_BITS) - 1;
+		long subBucket = (index & (SUB_BUCKET_COUNT - 1)) + SUB_BUCKET_COUNT;
+		return ((subBucket + 1L) << shift) - 1L;
+	}
+
+	/**
+	 * Record a value. Negative values are recorded as zero.
+	 *
+	 * @param value The value.
+	 */
+	public void record(long value) {
+		if (value < 0L) value = 0L;
+		if (this.counts == null) this.counts = new long[BUCKET_COUNT];
+		this.counts[getBucketIndex(value)]++;
+		this.count++;
+		this.sum += value;
+		if (value < this.min) this.min = value;
+		if (value > this.max) this.max = value;
+	}
+
+	/**
+	 * Add the values recorded by another histogram to this histogram.
+	 *
+	 * @param histogram The other histogram.
+	 */
+	void add(Histogram histogram) {
+		if (histogram.count == 0L) return;
+		if (this.counts == null) this.counts = new long[BUCKET_COUNT];
+		for (int a = 0; a < BUCKET_COUNT; a++) {
+			this.counts[a] += histogram.counts[a];
+		}
+		this.count += histogram.count;
+		this.sum += histogram.sum;
+		if (histogram.min < this.min) this.min = histogram.min;
+		if (histogram.max > this.max) this.max = histogram.max;
+	}
+
+	/**
+	 * Getter for the number of values recorded.
+	 *
+	 * @return The number of values recorded.
+	 */
+	public long getCount() {
+		return this.count;
+	}
+
+	/**
+	 * Getter for the sum of the values recorded.
+	 *
+	 * @return The sum of the values recorded.
+	 */
+	public long getSum() {
+		return this.sum;
+	}
+
+	/**
+	 * Getter for the smallest value recorded.
+	 *
+	 * @return The smallest value recorded, or 0 if no value has been recorded.
+	 */
+	public long getMin() {
+		return this.count == 0L ? 0L : this.min;
+	}
+
+	/**
+	 * Getter for the largest value recorded.
+	 *
+	 * @return The largest value recorded, or 0 if no value has been recorded.
+	 */
+	public long getMax() {
+		return this.max;
+	}
+
+	/**
+	 * Get the arithmetic mean of the values recorded.
+	 *
+	 * @return The mean, or 0 if no value has been recorded.
+	 */
+	public double getMean() {
+		return this.count == 0L ? 0.0 : (double) this.sum / this.count;
+	}
+
+	/**
+	 * Get the value below or at which the specified percentage of the values recorded lie. The
+	 * result is the highest value of the bucket the percentile falls in, but never more than the
+	 * largest value recorded.
+	 *
+	 * @param percentile The percentile, from 0 to 100.
+	 * @return The value at the percentile, or 0 if no value has been recorded.
+	 */
+	public long getValueAtPercentile(double percentile) {
+		if (this.count == 0L) return 0L;
+		long target = (long) Math.ceil(Math.min(Math.max(percentile, 0.0), 100.0) / 100.0 * this.count);
+		if (target < 1L) target = 1L;
+		long seen = 0L;
+		for (int a = 0; a < BUCKET_COUNT; a++) {
+			seen += this.counts[a];
+			if (seen >= target) return Math.min(getHighestValueOfBucket(a), this.max);
+		}
+		return this.max;
+	}
+
+}
@@ -0,0 +1,243 @@
+package de.wwu.muggl.symbolic.metrics;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import de.wwu.muggl.symbolic.metrics.MetricsRegistry.Sample;
+
+/**
+ * Exporter of the metrics of a {@link MetricsRegistry} at the end of a run. Runs are appended to
+ * the export file, so the metrics of many runs can be collected in one file and analyzed together.
+ * Two formats are supported:
+ * <ul>
+ * <li>JSON lines: Each run is written as one JSON object on a line of its own.</li>
+ * <li>CSV: Each run is written as rows of the columns listed in {@link #CSV_HEADER}. There is a
+ * row for each metric at the end of the run, and a row for each metric in each sample. The
+ * header is only written to new files.</li>
+ * </ul>
+ * For counters, the rate per second since the previous sample is added to the samples. This yields
+ * e.g. the branches visited per second.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+public final class MetricsExporter {
+	/**
+	 * The columns of the CSV format.
+	 */
+	public static final String CSV_HEADER =
+			"run,kind,metric,time,value,rate,count,sum,min,max,mean,p50,p90,p99,p999";
+
+	/**
+	 * Private constructor.
+	 */
+	private MetricsExporter() { }
+
+	/**
+	 * Append the metrics of a run to a file. If the name of the file ends with ".csv", the CSV
+	 * format is used, otherwise JSON lines.
+	 *
+	 * @param registry The registry of the run.
+	 * @param run The name of the run.
+	 * @param file The file to append to. It is created if it does not exist.
+	 * @throws IOException If writing the file fails.
+	 */
+	public static void export(MetricsRegistry registry, String run, File file) throws IOException {
+		boolean csv = file.getName().toLowerCase().endsWith(".csv");
+		boolean newFile = !file.exists() || file.length() == 0L;
+		File parent = file.getAbsoluteFile().getParentFile();
+		if (parent != null && !parent.exists()) parent.mkdirs();
+		try (Writer out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, true),
+				StandardCharsets.UTF_8))) {
+			if (csv) {
+				writeCsv(registry, run, out, newFile);
+			} else {
+				writeJson(registry, run, out);
+			}
+		}
+	}
+
+	/**
+	 * Write the metrics of a run as one line of JSON.
+	 *
+	 * @param registry The registry of the run.
+	 * @param run The name of the run.
+	 * @param out The writer to write to.
+	 * @throws IOException If writing fails.
+	 */
+	public static void writeJson(MetricsRegistry registry, String run, Writer out) throws IOException {
+		Map<String, Counter> counters = registry.getCounters();
+		StringBuilder json = new StringBuilder();
+		json.append("{\"run\":").append(quoteJson(run));
+		json.append(",\"startTime\":").append(registry.getStartTime());
+		json.append(",\"duration\":").append(System.currentTimeMillis() - registry.getStartTime());
+
+		json.append(",\"counters\":{");
+		boolean first = true;
+		for (Entry<String, Counter> entry : counters.entrySet()) {
+			if (!first) json.append(',');
+			json.append(quoteJson(entry.getKey())).append(':').append(entry.getValue().get());
+			first = false;
+		}
+
+		json.append("},\"gauges\":{");
+		first = true;
+		for (Entry<String, Long> entry : registry.getGaugeValues().entrySet()) {
+			if (!first) json.append(',');
+			json.append(quoteJson(entry.getKey())).append(':').append(entry.getValue());
+			first = false;
+		}
+
+		json.append("},\"histograms\":{");
+		first = true;
+		for (Entry<String, Histogram> entry : registry.getHistograms().entrySet()) {
+			Histogram histogram = entry.getValue();
+			if (!first) json.append(',');
+			json.append(quoteJson(entry.getKey())).append(":{\"count\":").append(histogram.getCount())
+					.append(",\"sum\":").append(histogram.getSum())
+					.append(",\"min\":").append(histogram.getMin())
+					.append(",\"max\":").append(histogram.getMax())
+					.append(",\"mean\":").append(histogram.getMean())
+					.append(",\"p50\":").append(histogram.getValueAtPercentile(50.0))
+					.append(",\"p90\":").append(histogram.getValueAtPercentile(90.0))
+					.append(",\"p99\":").append(histogram.getValueAtPercentile(99.0))
+					.append(",\"p999\":").append(histogram.getValueAtPercentile(99.9)).append('}');
+			first = false;
+		}
+
+		json.append("},\"samples\":[");
+		List<Sample> samples = registry.getSamples();
+		Sample previous = null;
+		for (Sample sample : samples) {
+			if (previous != null) json.append(',');
+			json.append("{\"time\":").append(sample.getTime()).append(",\"values\":{");
+			first = true;
+			for (Entry<String, Long> entry : sample.getValues().entrySet()) {
+				if (!first) json.append(',');
+				json.append(quoteJson(entry.getKey())).append(':').append(entry.getValue());
+				first = false;
+			}
+			json.append("},\"rates\":{");
+			first = true;
+			for (Entry<String, Long> entry : sample.getValues().entrySet()) {
+				if (!counters.containsKey(entry.getKey())) continue;
+				if (!first) json.append(',');
+				json.append(quoteJson(entry.getKey())).append(':')
+						.append(getRate(previous, sample, entry.getKey(), entry.getValue()));
+				first = false;
+			}
+			json.append("}}");
+			previous = sample;
+		}
+		json.append("]}");
+		out.write(json.toString());
+		out.write(System.lineSeparator());
+	}
+
+	/**
+	 * Write the metrics of a run as rows of CSV.
+	 *
+	 * @param registry The registry of the run.
+	 * @param run The name of the run.
+	 * @param out The writer to write to.
+	 * @param writeHeader If true, the header is written first.
+	 * @throws IOException If writing fails.
+	 */
+	public static void writeCsv(MetricsRegistry registry, String run, Writer out, boolean writeHeader)
+			throws IOException {
+		String newLine = System.lineSeparator();
+		String quotedRun = quoteCsv(run);
+		long duration = System.currentTimeMillis() - registry.getStartTime();
+		Map<String, Counter> counters = registry.getCounters();
+		if (writeHeader) out.write(CSV_HEADER + newLine);
+
+		for (Entry<String, Counter> entry : counters.entrySet()) {
+			out.write(quotedRun + ",counter," + quoteCsv(entry.getKey()) + "," + duration + ","
+					+ entry.getValue().get() + ",,,,,,,,,," + newLine);
+		}
+		for (Entry<String, Long> entry : registry.getGaugeValues().entrySet()) {
+			out.write(quotedRun + ",gauge," + quoteCsv(entry.getKey()) + "," + duration + ","
+					+ entry.getValue() + ",,,,,,,,,," + newLine);
+		}
+		for (Entry<String, Histogram> entry : registry.getHistograms().entrySet()) {
+			Histogram histogram = entry.getValue();
+			out.write(quotedRun + ",histogram," + quoteCsv(entry.getKey()) + "," + duration + ",,,"
+					+ histogram.getCount() + "," + histogram.getSum() + "," + histogram.getMin() + ","
+					+ histogram.getMax() + "," + histogram.getMean() + ","
+					+ histogram.getValueAtPercentile(50.0) + "," + histogram.getValueAtPercentile(90.0)
+					+ "," + histogram.getValueAtPercentile(99.0) + ","
+					+ histogram.getValueAtPercentile(99.9) + newLine);
+		}
+
+		Sample previous = null;
+		for (Sample sample : registry.getSamples()) {
+			for (Entry<String, Long> entry : sample.getValues().entrySet()) {
+				String rate = counters.containsKey(entry.getKey())
+						? String.valueOf(getRate(previous, sample, entry.getKey(), entry.getValue()))
+						: "";
+				out.write(quotedRun + ",sample," + quoteCsv(entry.getKey()) + "," + sample.getTime()
+						+ "," + entry.getValue() + "," + rate + ",,,,,,,,," + newLine);
+			}
+			previous = sample;
+		}
+	}
+
+	/**
+	 * Get the rate per second of a counter since the previous sample.
+	 *
+	 * @param previous The previous sample. May be null.
+	 * @param sample The sample.
+	 * @param name The name of the counter.
+	 * @param value The value of the counter in the sample.
+	 * @return The rate per second, or 0 if there is no previous sample or no time has passed.
+	 */
+	private static double getRate(Sample previous, Sample sample, String name, long value) {
+		if (previous == null || sample.getTime() <= previous.getTime()) return 0.0;
+		Long previousValue = previous.getValues().get(name);
+		long delta = value - (previousValue == null ? 0L : previousValue);
+		return delta * 1000.0 / (sample.getTime() - previous.getTime());
+	}
+
+	/**
+	 * Quote a string for JSON.
+	 *
+	 * @param string The string.
+	 * @return The quoted string.
+	 */
+	private static String quoteJson(String string) {
+		StringBuilder quoted = new StringBuilder(string.length() + 2).append('"');
+		for (int a = 0; a < string.length(); a++) {
+			char character = string.charAt(a);
+			if (character == '"' || character == '\\') {
+				quoted.append('\\').append(character);
+			} else if (character < 0x20) {
+				quoted.append(String.format("\\u%04x", (int) character));
+			} else {
+				quoted.append(character);
+			}
+		}
+		return quoted.append('"').toString();
+	}
+
+	/**
+	 * Quote a string for CSV, if needed.
+	 *
+	 * @param string The string.
+	 * @return The string, quoted if it contains separators, quotes or line breaks.
+	 */
+	private static String quoteCsv(String string) {
+		if (string.indexOf(',') == -1 && string.indexOf('"') == -1 && string.indexOf('\n') == -1
+				&& string.indexOf('\r') == -1)
+			return string;
+		return "\"" + string.replace("\"", "\"\"") + "\"";
+	}
+
+}
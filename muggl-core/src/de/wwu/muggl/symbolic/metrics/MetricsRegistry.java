@@ -0,0 +1,272 @@
+package de.wwu.muggl.symbolic.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.function.LongSupplier;
+
+/**
+ * Registry of the metrics of a symbolic execution. There are three kinds of metrics, each
+ * identified by a unique name:
+ * <ul>
+ * <li>{@link Counter}s, which only grow, e.g. the time spent on an activity or the number of
+ * branches visited.</li>
+ * <li>Gauges, which report a current value on demand, e.g. the length of the trail.</li>
+ * <li>{@link Histogram}s, which record the distribution of values, e.g. solver latencies.</li>
+ * </ul>
+ * The metrics are registered when they are first requested. The owner should keep the counters and
+ * histograms it updates frequently in fields rather than looking them up each time.<br />
+ * <br />
+ * While sampling is enabled, the counters, gauges and the number of values of the histograms are
+ * recorded periodically by a background thread, so their development over the run can be exported
+ * along with the final values.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+public class MetricsRegistry {
+	// The metrics, in the order of their registration.
+	private final Map<String, Counter> counters;
+	private final Map<String, LongSupplier> gauges;
+	private final Map<String, Histogram> histograms;
+
+	// Sampling.
+	private final long startTime;
+	private final List<Sample> samples;
+	private Timer sampler;
+
+	/**
+	 * The values of the metrics at a point in time.
+	 */
+	public static final class Sample {
+		private final long time;
+		private final Map<String, Long> values;
+
+		/**
+		 * Initialize the sample.
+		 *
+		 * @param time The time of the sample in milliseconds after the creation of the registry.
+		 * @param values The values of the metrics.
+		 */
+		Sample(long time, Map<String, Long> values) {
+			this.time = time;
+			this.values = values;
+		}
+
+		/**
+		 * Getter for the time of the sample.
+		 *
+		 * @return The time in milliseconds after the creation of the registry.
+		 */
+		public long getTime() {
+			return this.time;
+		}
+
+		/**
+		 * Getter for the values of the metrics. Histograms are represented by the number of values
+		 * recorded.
+		 *
+		 * @return The values, by the names of the metrics.
+		 */
+		public Map<String, Long> getValues() {
+			return this.values;
+		}
+	}
+
+	/**
+	 * Initialize an empty registry.
+	 */
+	public MetricsRegistry() {
+		this.counters = new LinkedHashMap<String, Counter>();
+		this.gauges = new LinkedHashMap<String, LongSupplier>();
+		this.histograms = new LinkedHashMap<String, Histogram>();
+		this.startTime = System.currentTimeMillis();
+		this.samples = new ArrayList<Sample>();
+	}
+
+	/**
+	 * Get the counter of the specified name. It is registered if there is none yet.
+	 *
+	 * @param name The name of the counter.
+	 * @return The counter.
+	 * @throws IllegalArgumentException If the name is used by a gauge or a histogram.
+	 */
+	public synchronized Counter counter(String name) {
+		Counter counter = this.counters.get(name);
+		if (counter == null) {
+			checkNameIsUnused(name);
+			counter = new Counter();
+			this.counters.put(name, counter);
+		}
+		return counter;
+	}
+
+	/**
+	 * Get the histogram of the specified name. It is registered if there is none yet.
+	 *
+	 * @param name The name of the histogram.
+	 * @return The histogram.
+	 * @throws IllegalArgumentException If the name is used by a counter or a gauge.
+	 */
+	public synchronized Histogram histogram(String name) {
+		Histogram histogram = this.histograms.get(name);
+		if (histogram == null) {
+			checkNameIsUnused(name);
+			histogram = new Histogram();
+			this.histograms.put(name, histogram);
+		}
+		return histogram;
+	}
+
+	/**
+	 * Register a gauge. A gauge registered earlier under the same name is replaced. The gauge
+	 * might be invoked by the thread sampling the metrics, so it must not rely on being invoked
+	 * by the thread of the virtual machine.
+	 *
+	 * @param name The name of the gauge.
+	 * @param gauge The supplier of the current value.
+	 * @throws IllegalArgumentException If the name is used by a counter or a histogram.
+	 */
+	public synchronized void registerGauge(String name, LongSupplier gauge) {
+		if (!this.gauges.containsKey(name)) checkNameIsUnused(name);
+		this.gauges.put(name, gauge);
+	}
+
+	/**
+	 * Check that a name is not used by any metric.
+	 *
+	 * @param name The name.
+	 * @throws IllegalArgumentException If the name is used.
+	 */
+	private void checkNameIsUnused(String name) {
+		if (this.counters.containsKey(name) || this.gauges.containsKey(name)
+				|| this.histograms.containsKey(name))
+			throw new IllegalArgumentException("There already is a metric of another kind named " + name + ".");
+	}
+
+	/**
+	 * Add the counters and histograms of another registry to the metrics of this registry, e.g.
+	 * those of a worker of a parallel execution or of a symbolic virtual machine succeeded by
+	 * another one. Gauges and samples are not imported, as they only reflect the other
+	 * registry's execution.
+	 *
+	 * @param registry The other registry.
+	 */
+	public void add(MetricsRegistry registry) {
+		Map<String, Long> otherCounters = new LinkedHashMap<String, Long>();
+		Map<String, Histogram> otherHistograms;
+		synchronized (registry) {
+			for (Entry<String, Counter> entry : registry.counters.entrySet()) {
+				otherCounters.put(entry.getKey(), entry.getValue().get());
+			}
+			otherHistograms = new LinkedHashMap<String, Histogram>(registry.histograms);
+		}
+		for (Entry<String, Long> entry : otherCounters.entrySet()) {
+			counter(entry.getKey()).add(entry.getValue());
+		}
+		for (Entry<String, Histogram> entry : otherHistograms.entrySet()) {
+			histogram(entry.getKey()).add(entry.getValue());
+		}
+	}
+
+	/**
+	 * Getter for the counters.
+	 *
+	 * @return A copy of the counters, by their names.
+	 */
+	public synchronized Map<String, Counter> getCounters() {
+		return new LinkedHashMap<String, Counter>(this.counters);
+	}
+
+	/**
+	 * Get the current values of the gauges.
+	 *
+	 * @return The values of the gauges, by their names.
+	 */
+	public synchronized Map<String, Long> getGaugeValues() {
+		Map<String, Long> values = new LinkedHashMap<String, Long>();
+		for (Entry<String, LongSupplier> entry : this.gauges.entrySet()) {
+			values.put(entry.getKey(), entry.getValue().getAsLong());
+		}
+		return values;
+	}
+
+	/**
+	 * Getter for the histograms.
+	 *
+	 * @return A copy of the histograms, by their names.
+	 */
+	public synchronized Map<String, Histogram> getHistograms() {
+		return new LinkedHashMap<String, Histogram>(this.histograms);
+	}
+
+	/**
+	 * Getter for the time the registry has been created at.
+	 *
+	 * @return The time in milliseconds since the epoch.
+	 */
+	public long getStartTime() {
+		return this.startTime;
+	}
+
+	/**
+	 * Record the current values of all metrics as a sample.
+	 */
+	public synchronized void sample() {
+		Map<String, Long> values = new LinkedHashMap<String, Long>();
+		for (Entry<String, Counter> entry : this.counters.entrySet()) {
+			values.put(entry.getKey(), entry.getValue().get());
+		}
+		values.putAll(getGaugeValues());
+		for (Entry<String, Histogram> entry : this.histograms.entrySet()) {
+			values.put(entry.getKey(), entry.getValue().getCount());
+		}
+		this.samples.add(new Sample(System.currentTimeMillis() - this.startTime, values));
+	}
+
+	/**
+	 * Getter for the samples recorded so far.
+	 *
+	 * @return The samples, oldest first.
+	 */
+	public synchronized List<Sample> getSamples() {
+		return Collections.unmodifiableList(new ArrayList<Sample>(this.samples));
+	}
+
+	/**
+	 * Start sampling the metrics periodically. A sample is recorded immediately. Sampling is
+	 * done by a daemon thread until {@link #stopSampling()} is invoked. If sampling has been
+	 * started already, nothing is done.
+	 *
+	 * @param interval The interval between two samples in milliseconds.
+	 * @throws IllegalArgumentException If the interval is not positive.
+	 */
+	public synchronized void startSampling(long interval) {
+		if (interval <= 0L) throw new IllegalArgumentException("The sampling interval must be positive.");
+		if (this.sampler != null) return;
+		this.sampler = new Timer("Metrics sampler", true);
+		this.sampler.scheduleAtFixedRate(new TimerTask() {
+			@Override
+			public void run() {
+				sample();
+			}
+		}, 0L, interval);
+	}
+
+	/**
+	 * Stop sampling the metrics periodically. A final sample is recorded. If sampling has not
+	 * been started, nothing is done.
+	 */
+	public synchronized void stopSampling() {
+		if (this.sampler == null) return;
+		this.sampler.cancel();
+		this.sampler = null;
+		sample();
+	}
+
+}
@@ -0,0 +1,5 @@
+/**
+ * Provides the metrics of the symbolic execution: counters, gauges and latency histograms that
+ * are sampled periodically and can be exported at the end of a run.
+ */
+package de.wwu.muggl.symbolic.metrics;
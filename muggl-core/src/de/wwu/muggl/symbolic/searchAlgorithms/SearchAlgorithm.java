@@ -5,13 +5,15 @@ import de.wwu.muggl.instructions.general.CompareFp;
 import de.wwu.muggl.instructions.general.GeneralInstructionWithOtherBytes;
 import de.wwu.muggl.instructions.general.Switch;
 import de.wwu.muggl.symbolic.generating.Generator;
+import de.wwu.muggl.symbolic.metrics.MetricsRegistry;
 import de.wwu.muggl.symbolic.searchAlgorithms.choice.ChoicePoint;
-import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.ArrayRestore;
-import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.FieldPut;
-import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.Restore;
+import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.classfile.structures.Field;
 import de.wwu.muggl.vm.execution.ConversionException;
 import de.wwu.muggl.vm.impl.symbolic.SymbolicExecutionException;
 import de.wwu.muggl.vm.impl.symbolic.SymbolicVirtualMachine;
+import de.wwu.muggl.vm.initialization.Arrayref;
+import de.wwu.muggl.vm.initialization.FieldContainer;
 import de.wwu.muggl.solvers.expressions.ConstraintExpression;
 import de.wwu.muggl.solvers.expressions.IntConstant;
 import de.wwu.muggl.solvers.expressions.Term;
@@ -162,10 +164,11 @@ public interface SearchAlgorithm {
 
 	/**
 	 * Store a field value for use by the search algorithm's tracking back
-	 * functionality.
-	 * @param valueRepresentation Either a InstanceFieldPut or a StaticfieldPut object.
+	 * functionality. It has to be invoked before the field is written.
+	 * @param container The InitializedClass or Objectref the field is written in.
+	 * @param field The field.
 	 */
-	void saveFieldValue(FieldPut valueRepresentation);
+	void saveFieldValue(FieldContainer container, Field field);
 
 	/**
 	 * Get the information whether this search algorithm requires a local
@@ -176,10 +179,11 @@ public interface SearchAlgorithm {
 
 	/**
 	 * Store a local variable value for use by the search algorithm's tracking back
-	 * functionality.
-	 * @param valueRepresentation A Restore object.
+	 * functionality. It has to be invoked before the local variable is written.
+	 * @param frame The frame.
+	 * @param index The index of the local variable.
 	 */
-	void saveLocalVariableValue(Restore valueRepresentation);
+	void saveLocalVariableValue(Frame frame, int index);
 
 	/**
 	 * Get the information whether this search algorithm requires an array
@@ -190,10 +194,11 @@ public interface SearchAlgorithm {
 
 	/**
 	 * Store a array value for use by the search algorithm's tracking back
-	 * functionality.
-	 * @param valueRepresentation An ArrayRestore object.
+	 * functionality. It has to be invoked before the array element is written.
+	 * @param arrayref The array.
+	 * @param index The index of the element.
 	 */
-	void saveArrayValue(ArrayRestore valueRepresentation);
+	void saveArrayValue(Arrayref arrayref, int index);
 
 	/**
 	 * Return statistical information about the execution. The information is
@@ -205,4 +210,13 @@ public interface SearchAlgorithm {
 	 * @return Statistical information about the execution.
 	 */
 	String[][] getStatisticalInformation();
+
+	/**
+	 * Register the metrics of this search algorithm with the metrics registry of a symbolic
+	 * virtual machine. This is done once the virtual machine is initialized. If the search
+	 * algorithm is used by several virtual machines in succession, it is invoked for each of them
+	 * and the metrics should be recorded to the latest registry.
+	 * @param metrics The metrics registry.
+	 */
+	void registerMetrics(MetricsRegistry metrics);
 }
@@ -0,0 +1,218 @@
+package de.wwu.muggl.symbolic.searchAlgorithms.bestFirst;
+
+import java.util.PriorityQueue;
+
+import de.wwu.muggl.symbolic.flow.coverage.CoverageController;
+import de.wwu.muggl.symbolic.searchAlgorithms.choice.ChoicePoint;
+import de.wwu.muggl.symbolic.searchAlgorithms.choice.conditionalJump.ConditionalJumpChoicePoint;
+import de.wwu.muggl.symbolic.searchAlgorithms.forking.ExecutionState;
+import de.wwu.muggl.symbolic.searchAlgorithms.forking.ForkingSearchAlgorithm;
+import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.impl.symbolic.SymbolicVirtualMachine;
+
+/**
+ * This class implements a best first search algorithm that is guided by the control flow and
+ * def-use coverage. Its aim is to reach the coverage required by the coverage abortion criteria
+ * with as few instructions executed as possible, rather than to visit every branch.<br />
+ * <br />
+ * Each state that is to be resumed later is scored by the distance from the point it continues
+ * at to the nearest control graph edge or def-use chain that is not covered by any execution so
+ * far, as reported by the {@link CoverageController}. The state with the lowest distance is
+ * resumed first; states with the same distance are resumed in the order they have been added.
+ * When a choice point is generated, the state continuing with its first choice is only suspended
+ * if another state is closer to something uncovered.<br />
+ * <br />
+ * As the coverage grows, distances only become outdated by getting larger. The state with the
+ * lowest distance is hence scored again before it is resumed. If another state has a lower
+ * distance now, it is put back and the next one is tried.<br />
+ * <br />
+ * Once the coverage abortion criteria are met, the virtual machine no longer tracks back. States
+ * are not suspended any more then, and the execution ends with the next solution found.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+public class BestFirstSearchAlgorithm extends ForkingSearchAlgorithm {
+	// The states to resume, ordered by their distance to something uncovered.
+	private PriorityQueue<ScoredState> states;
+	private long nextSequenceNumber;
+
+	// Statistical information.
+	private long statesScoredAgain;
+
+	/**
+	 * Instantiate the best first search algorithm.
+	 */
+	public BestFirstSearchAlgorithm() {
+		super();
+		this.states = new PriorityQueue<ScoredState>();
+		this.nextSequenceNumber = 0L;
+		this.statesScoredAgain = 0L;
+	}
+
+	/**
+	 * Score a state and add it.
+	 *
+	 * @param state The state.
+	 */
+	@Override
+	protected void addState(ExecutionState state) {
+		this.states.add(new ScoredState(state, getDistance(state), this.nextSequenceNumber++));
+	}
+
+	/**
+	 * Remove the state with the lowest distance to something uncovered. Its distance is computed
+	 * again first, as the coverage might have grown since it has been added.
+	 *
+	 * @return The state with the lowest distance; or null, if there are no more states.
+	 */
+	@Override
+	protected ExecutionState takeState() {
+		ScoredState best = this.states.poll();
+		while (best != null) {
+			int distance = getDistance(best.state);
+			ScoredState next = this.states.peek();
+			if (distance <= best.distance || next == null || distance <= next.distance)
+				return best.state;
+			best.distance = distance;
+			this.statesScoredAgain++;
+			this.states.add(best);
+			best = this.states.poll();
+		}
+		return null;
+	}
+
+	/**
+	 * Getter for the number of states that are to be resumed later.
+	 *
+	 * @return The number of states.
+	 */
+	@Override
+	protected int getNumberOfPendingStates() {
+		return this.states.size();
+	}
+
+	/**
+	 * Suspend a state that has just entered the first choice of its choice point if another state
+	 * is closer to something uncovered.
+	 *
+	 * @param state The state.
+	 * @param frame The frame executed.
+	 * @param pc The pc of the next instruction to execute.
+	 * @return true, if another state is closer to something uncovered, false otherwise.
+	 */
+	@Override
+	protected boolean shallSuspend(ExecutionState state, Frame frame, int pc) {
+		ScoredState best = this.states.peek();
+		if (best == null) return false;
+		return best.distance < getDistance(state.getChoicePoint(), frame, pc);
+	}
+
+	/**
+	 * Get the distance of a state to something uncovered. A suspended state continues at the pc it
+	 * has been suspended at. A state standing for the remaining choices of a conditional jump
+	 * continues at the instruction following the jump. For other choice points, the next choice
+	 * is not known in advance, so the distance is measured from the generating instruction.
+	 *
+	 * @param state The state.
+	 * @return The distance; or Integer.MAX_VALUE, if nothing uncovered can be reached.
+	 */
+	private int getDistance(ExecutionState state) {
+		ChoicePoint choicePoint = state.getChoicePoint();
+		if (state.isSuspended()) return getDistance(choicePoint, state.getFrame(), state.getPc());
+		Frame frame = choicePoint.getFrame();
+		if (choicePoint instanceof ConditionalJumpChoicePoint)
+			return getCoverageController(frame).getDistanceToUncovered(frame.getMethod(),
+					choicePoint.getPc(), choicePoint.getPcNext());
+		return getCoverageController(frame).getDistanceToUncovered(frame.getMethod(), -1,
+				choicePoint.getPc());
+	}
+
+	/**
+	 * Get the distance to something uncovered for execution continuing at a frame and pc after a
+	 * choice point. If the frame is that of the choice point, the edge from the generating
+	 * instruction is taken into account.
+	 *
+	 * @param choicePoint The choice point.
+	 * @param frame The frame execution continues with.
+	 * @param pc The pc execution continues at.
+	 * @return The distance; or Integer.MAX_VALUE, if nothing uncovered can be reached.
+	 */
+	private int getDistance(ChoicePoint choicePoint, Frame frame, int pc) {
+		int lastPc = frame == choicePoint.getFrame() ? choicePoint.getPc() : -1;
+		return getCoverageController(frame).getDistanceToUncovered(frame.getMethod(), lastPc, pc);
+	}
+
+	/**
+	 * Get the coverage controller of the virtual machine a frame is executed by.
+	 *
+	 * @param frame The frame.
+	 * @return The coverage controller.
+	 */
+	private static CoverageController getCoverageController(Frame frame) {
+		return ((SymbolicVirtualMachine) frame.getVm()).getCoverageController();
+	}
+
+	/**
+	 * Return a String representation of this search algorithms name.
+	 *
+	 * @return A String representation of this search algorithms name.
+	 */
+	@Override
+	public String getName() {
+		return "coverage guided best first";
+	}
+
+	/**
+	 * Return statistical information about the execution. In addition to the information of the
+	 * forking search, the number of states scored again before being resumed is supplied.
+	 *
+	 * @return Statistical information about the execution.
+	 */
+	@Override
+	public String[][] getStatisticalInformation() {
+		String[][] forkingStatistics = super.getStatisticalInformation();
+		String[][] statistics = new String[forkingStatistics.length + 1][];
+		System.arraycopy(forkingStatistics, 0, statistics, 0, forkingStatistics.length);
+		statistics[forkingStatistics.length] = new String[] {"Number of states scored again:\t\t\t",
+				Long.valueOf(this.statesScoredAgain).toString()};
+		return statistics;
+	}
+
+	/**
+	 * A state along with its distance to something uncovered and the number it has been added as.
+	 */
+	private static class ScoredState implements Comparable<ScoredState> {
+		// The state, its distance and its sequence number.
+		final ExecutionState state;
+		int distance;
+		final long sequenceNumber;
+
+		/**
+		 * Initialize the scored state.
+		 *
+		 * @param state The state.
+		 * @param distance The distance to something uncovered.
+		 * @param sequenceNumber The number the state has been added as.
+		 */
+		ScoredState(ExecutionState state, int distance, long sequenceNumber) {
+			this.state = state;
+			this.distance = distance;
+			this.sequenceNumber = sequenceNumber;
+		}
+
+		/**
+		 * Compare by the distance first, and by the sequence number for equal distances.
+		 *
+		 * @param other The scored state to compare to.
+		 * @return A negative integer, zero, or a positive integer as this scored state is to be
+		 *         resumed before, along with, or after the other one.
+		 */
+		@Override
+		public int compareTo(ScoredState other) {
+			if (this.distance != other.distance) return this.distance < other.distance ? -1 : 1;
+			return Long.compare(this.sequenceNumber, other.sequenceNumber);
+		}
+	}
+
+}
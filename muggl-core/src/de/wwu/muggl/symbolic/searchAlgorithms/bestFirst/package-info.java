@@ -0,0 +1,4 @@
+/**
+ * Provides the best first search algorithm implementation, which is guided by the coverage.
+ */
+package de.wwu.muggl.symbolic.searchAlgorithms.bestFirst;
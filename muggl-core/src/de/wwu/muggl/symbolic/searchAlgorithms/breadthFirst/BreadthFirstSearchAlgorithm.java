@@ -0,0 +1,93 @@
+package de.wwu.muggl.symbolic.searchAlgorithms.breadthFirst;
+
+import de.wwu.muggl.symbolic.searchAlgorithms.forking.ExecutionState;
+import de.wwu.muggl.symbolic.searchAlgorithms.forking.ForkingSearchAlgorithm;
+import de.wwu.muggl.symbolic.searchAlgorithms.support.EmptyFifoListException;
+import de.wwu.muggl.symbolic.searchAlgorithms.support.FifoList;
+import de.wwu.muggl.vm.Frame;
+
+/**
+ * This class implements the breadth first search algorithm. Every state is suspended as soon as
+ * it has entered a choice, and the states are resumed in the order they have been added. All
+ * choice points of a level of the search tree are hence visited before those of the next level.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+public class BreadthFirstSearchAlgorithm extends ForkingSearchAlgorithm {
+	// The states to resume.
+	private FifoList<ExecutionState> states;
+	private int numberOfPendingStates;
+
+	/**
+	 * Instantiate the breadth first search algorithm.
+	 */
+	public BreadthFirstSearchAlgorithm() {
+		super();
+		this.states = new FifoList<ExecutionState>();
+		this.numberOfPendingStates = 0;
+	}
+
+	/**
+	 * Add a state as the newest one.
+	 *
+	 * @param state The state.
+	 */
+	@Override
+	protected void addState(ExecutionState state) {
+		this.states.add(state);
+		this.numberOfPendingStates++;
+	}
+
+	/**
+	 * Remove the oldest state.
+	 *
+	 * @return The oldest state; or null, if there are no more states.
+	 */
+	@Override
+	protected ExecutionState takeState() {
+		if (this.states.isEmpty()) return null;
+		try {
+			ExecutionState state = this.states.get();
+			this.numberOfPendingStates--;
+			return state;
+		} catch (EmptyFifoListException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Getter for the number of states that are to be resumed later.
+	 *
+	 * @return The number of states.
+	 */
+	@Override
+	protected int getNumberOfPendingStates() {
+		return this.numberOfPendingStates;
+	}
+
+	/**
+	 * Every state is suspended, so the states of the next level are not continued before those of
+	 * the current level.
+	 *
+	 * @param state The state.
+	 * @param frame The frame executed.
+	 * @param pc The pc of the next instruction to execute.
+	 * @return true in any case.
+	 */
+	@Override
+	protected boolean shallSuspend(ExecutionState state, Frame frame, int pc) {
+		return true;
+	}
+
+	/**
+	 * Return a String representation of this search algorithms name.
+	 *
+	 * @return A String representation of this search algorithms name.
+	 */
+	@Override
+	public String getName() {
+		return "breadth first";
+	}
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Provides the breadth first search algorithm implementation.
+ */
+package de.wwu.muggl.symbolic.searchAlgorithms.breadthFirst;
@@ -317,12 +317,10 @@ public class ArrayInitializationChoicePoint implements ChoicePoint {
 				}
 			} else {
 				// Use the ArrayGenerator for this.
+				// Always use a new array, as suspended states of forking search algorithms might still
+				// refer to the former one.
 				int length = this.generator.provideNextArraysLength();
-				if (this.preparedArray == null) {
-					this.preparedArray = new ModifieableArrayref(this.referenceValue, length);
-				} else {
-					this.preparedArray.reset(length);
-				}
+				this.preparedArray = new ModifieableArrayref(this.referenceValue, length);
 			}
 
 			// Fill up the array with variables.
@@ -398,6 +396,16 @@ public class ArrayInitializationChoicePoint implements ChoicePoint {
 		return this.frame;
 	}
 
+	/**
+	 * Return the index into the local variable table the generated arrays are stored at.
+	 *
+	 * @return The index of the local variable; or -1, if the arrays are pushed onto the operand
+	 *         stack.
+	 */
+	public int getLocalVariableIndex() {
+		return this.index;
+	}
+
 	/**
 	 * Return the pc of this ChoicePoint.
 	 *
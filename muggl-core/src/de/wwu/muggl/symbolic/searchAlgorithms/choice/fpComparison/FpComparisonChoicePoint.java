@@ -127,7 +127,7 @@ public abstract class FpComparisonChoicePoint implements ChoicePoint {
 					throw new SymbolicExecutionException("The first term is neither less than, greater than or equal to the second one. This is impossible and hints to serious problems.");
 			}
 			// Save the execution time.
-			if (measureExecutionTime) ((SymbolicVirtualMachine) frame.getVm()).increaseTimeSolvingForChoicePointGeneration(System.nanoTime() - timeSolvingTemp);
+			if (measureExecutionTime) ((SymbolicVirtualMachine) frame.getVm()).increaseTimeSolvingForChoicePointGeneration(this, System.nanoTime() - timeSolvingTemp);
 		}
 	}
 
@@ -156,7 +156,7 @@ public abstract class SwitchingChoicePoint implements ChoicePoint {
 				throw new SymbolicExecutionException("Equations are violated. The term from stack cannot be fulfilled by any switch condition, including the default. This is impossible and hints to serious problems.");
 		}
 		// Save the execution time.
-		if (measureExecutionTime) ((SymbolicVirtualMachine) this.frame.getVm()).increaseTimeSolvingForChoicePointGeneration(System.nanoTime() - timeSolvingTemp);
+		if (measureExecutionTime) ((SymbolicVirtualMachine) this.frame.getVm()).increaseTimeSolvingForChoicePointGeneration(this, System.nanoTime() - timeSolvingTemp);
 	}
 
 	/**
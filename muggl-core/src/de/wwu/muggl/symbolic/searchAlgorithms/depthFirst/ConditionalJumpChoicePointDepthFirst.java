@@ -84,10 +84,10 @@ public class ConditionalJumpChoicePointDepthFirst extends ConditionalJumpChoiceP
 		try {
 			if (this.measureExecutionTime) this.timeSolvingTemp = System.nanoTime();
 			if (!solverManager.hasSolution()) {
-				if (this.measureExecutionTime) ((SymbolicVirtualMachine) frame.getVm()).increaseTimeSolvingForChoicePointGeneration(System.nanoTime() - this.timeSolvingTemp);
+				if (this.measureExecutionTime) ((SymbolicVirtualMachine) frame.getVm()).increaseTimeSolvingForChoicePointGeneration(this, System.nanoTime() - this.timeSolvingTemp);
 				tryTheNegatedConstraint(solverManager, constraintExpression);
 			} else {
-				if (this.measureExecutionTime) ((SymbolicVirtualMachine) frame.getVm()).increaseTimeSolvingForChoicePointGeneration(System.nanoTime() - this.timeSolvingTemp);
+				if (this.measureExecutionTime) ((SymbolicVirtualMachine) frame.getVm()).increaseTimeSolvingForChoicePointGeneration(this, System.nanoTime() - this.timeSolvingTemp);
 				// Set the pc to the jump target.
 				this.frame.getVm().setPC(pcWithJump);
 			}
@@ -114,15 +114,16 @@ public class ConditionalJumpChoicePointDepthFirst extends ConditionalJumpChoiceP
 			if (Globals.getInst().symbolicExecLogger.isTraceEnabled()) Globals.getInst().symbolicExecLogger.trace("Cannot proceed with the jumping branch since this would violate the current constraint system. Trying the non-jumping branch...");
 			// The expression is unsolvable. Is it at least possible to use the non-jumping branch?
 			solverManager.removeConstraint();
-			solverManager.addConstraint(constraintExpression.negate());
+			this.constraintExpression = constraintExpression.negate();
+			solverManager.addConstraint(this.constraintExpression);
 			if (this.measureExecutionTime) this.timeSolvingTemp = System.nanoTime();
 			if (solverManager.hasSolution()) {
-				if (this.measureExecutionTime) ((SymbolicVirtualMachine) this.frame.getVm()).increaseTimeSolvingForChoicePointGeneration(System.nanoTime() - this.timeSolvingTemp);
+				if (this.measureExecutionTime) ((SymbolicVirtualMachine) this.frame.getVm()).increaseTimeSolvingForChoicePointGeneration(this, System.nanoTime() - this.timeSolvingTemp);
 				// Use the non-jumping branch.
 				this.frame.getVm().setPC(this.pcNext);
 				this.alreadyVisitedNonJumpingBranch = true;
 			} else {
-				if (this.measureExecutionTime) ((SymbolicVirtualMachine) this.frame.getVm()).increaseTimeSolvingForChoicePointGeneration(System.nanoTime() - this.timeSolvingTemp);
+				if (this.measureExecutionTime) ((SymbolicVirtualMachine) this.frame.getVm()).increaseTimeSolvingForChoicePointGeneration(this, System.nanoTime() - this.timeSolvingTemp);
 				if (Globals.getInst().symbolicExecLogger.isTraceEnabled()) Globals.getInst().symbolicExecLogger.trace("Cannot proceed with the non-jumping branch either since this would violate the current constraint system. Tracking back...");
 				// Throw the appropriate Exception.
 				throw new EquationViolationException("Cannot continue with this choice point, since equations are violated.");
@@ -19,6 +19,8 @@ import de.wwu.muggl.symbolic.flow.coverage.CGCoverageTrailElement;
 import de.wwu.muggl.symbolic.flow.coverage.DUCoverageTrailElement;
 import de.wwu.muggl.symbolic.generating.Generator;
 import de.wwu.muggl.symbolic.generating.GeneratorChoicePoint;
+import de.wwu.muggl.symbolic.metrics.Histogram;
+import de.wwu.muggl.symbolic.metrics.MetricsRegistry;
 import de.wwu.muggl.symbolic.searchAlgorithms.SearchAlgorithm;
 import de.wwu.muggl.symbolic.searchAlgorithms.choice.ChoicePoint;
 import de.wwu.muggl.symbolic.searchAlgorithms.choice.EquationViolationException;
@@ -30,22 +32,18 @@ import de.wwu.muggl.symbolic.searchAlgorithms.choice.longComparison.LongComparis
 import de.wwu.muggl.symbolic.searchAlgorithms.choice.switching.LookupswitchChoicePoint;
 import de.wwu.muggl.symbolic.searchAlgorithms.choice.switching.SwitchingChoicePoint;
 import de.wwu.muggl.symbolic.searchAlgorithms.choice.switching.TableswitchChoicePoint;
-import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.ArrayRestore;
-import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.FieldPut;
 import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.FrameChange;
-import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.InstanceFieldPut;
-import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.Pop;
-import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.PopFromFrame;
-import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.Push;
-import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.Restore;
-import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.StaticFieldPut;
+import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.StackWatermark;
 import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.TrailElement;
-import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.VmPop;
-import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.VmPush;
+import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.WriteTrail;
+import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.classfile.structures.Field;
 import de.wwu.muggl.vm.execution.ConversionException;
 import de.wwu.muggl.vm.impl.symbolic.SymbolicExecutionException;
 import de.wwu.muggl.vm.impl.symbolic.SymbolicFrame;
 import de.wwu.muggl.vm.impl.symbolic.SymbolicVirtualMachine;
+import de.wwu.muggl.vm.initialization.Arrayref;
+import de.wwu.muggl.vm.initialization.FieldContainer;
 import de.wwu.muggl.solvers.exceptions.SolverUnableToDecideException;
 import de.wwu.muggl.solvers.exceptions.TimeoutException;
 import de.wwu.muggl.solvers.expressions.ConstraintExpression;
@@ -107,12 +105,40 @@ public class DepthFirstSearchAlgorithm implements SearchAlgorithm {
 	 * Temporary field to measure solving time.
 	 */
 	protected long timeSolvingTemp;
+	/**
+	 * The number of constraints checked by other virtual machines on behalf of this algorithm.
+	 */
+	protected long importedConstraintsChecked;
+	/**
+	 * The histogram of the number of choice points left when tracking back. It is null until the
+	 * metrics have been registered.
+	 */
+	protected Histogram backtrackingDepth;
+	/**
+	 * The histogram of the number of trail elements restored per choice point. It is null until
+	 * the metrics have been registered.
+	 */
+	protected Histogram restoredTrailElements;
+	/**
+	 * The histogram of the number of values restored per write trail. It is null until the metrics
+	 * have been registered.
+	 */
+	protected Histogram restoredWrites;
+	/**
+	 * The write trail the values of fields, array elements and local variables are recorded in.
+	 */
+	protected WriteTrail writeTrail;
+	/**
+	 * The choice point the write trail belongs to.
+	 */
+	protected ChoicePoint writeTrailChoicePoint;
 
 	/**
 	 * Instantiate the depth first search algorithm.
 	 */
 	public DepthFirstSearchAlgorithm() {
 		this.numberOfVisitedBranches = 0;
+		this.importedConstraintsChecked = 0;
 		this.measureExecutionTime = Options.getInst().measureSymbolicExecutionTime;
 	}
 
@@ -125,6 +151,23 @@ public class DepthFirstSearchAlgorithm implements SearchAlgorithm {
 		return this.currentChoicePoint;
 	}
 
+	/**
+	 * Register the number of visited branches and the length of the current trail as gauges, and
+	 * the histograms of the backtracking depth and of the trail elements restored. The rate of the
+	 * visited branches is reported by the samples of the registry.
+	 * @param metrics The metrics registry.
+	 */
+	public void registerMetrics(MetricsRegistry metrics) {
+		metrics.registerGauge("search.visitedBranches", () -> this.numberOfVisitedBranches);
+		metrics.registerGauge("search.trailLength", () -> {
+			ChoicePoint choicePoint = this.currentChoicePoint;
+			return choicePoint != null && choicePoint.hasTrail() ? choicePoint.getTrail().size() : 0L;
+		});
+		this.backtrackingDepth = metrics.histogram("backtracking.depth");
+		this.restoredTrailElements = metrics.histogram("backtracking.restoredTrailElements");
+		this.restoredWrites = metrics.histogram("backtracking.restoredWrites");
+	}
+
 	/**
 	 * Try to track back to the last ChoicePoint thats non jumping branch was not yet visited.
 	 *
@@ -142,7 +185,9 @@ public class DepthFirstSearchAlgorithm implements SearchAlgorithm {
 		SolverManager solverManager = vm.getSolverManager();
 
 		// Since the jump is executed first, find the newest ChoicePoint thats non jumping branch was not visited yet. Restore states while doing so.
-		while (!this.currentChoicePoint.hasAnotherChoice()) {
+		int depth = 0;
+		while (!hasAnotherChoice(this.currentChoicePoint)) {
+			depth++;
 			// First step: Use the trail of the last choice point to get back to the old state.
 			recoverState(vm);
 
@@ -157,66 +202,145 @@ public class DepthFirstSearchAlgorithm implements SearchAlgorithm {
 				return trackBackFailed(vm);
 			}
 		}
+		if (this.backtrackingDepth != null) this.backtrackingDepth.record(depth);
+
+		// Change to the next choice and recover the state of the choice point.
+		if (!switchToNextChoice(vm, true)) {
+			if (this.measureExecutionTime) vm.increaseTimeBacktracking(System.nanoTime() - this.timeBacktrackingTemp);
+			return trackBack(vm);
+		}
+
+		// Tracking back was successful.
+		if (Globals.getInst().symbolicExecLogger.isTraceEnabled())
+			Globals.getInst().symbolicExecLogger.trace("Tracking back was successful. Already visited " + (this.numberOfVisitedBranches - 1) + " branches.");
+		if (this.measureExecutionTime) vm.increaseTimeBacktracking(System.nanoTime() - this.timeBacktrackingTemp);
+		return true;
+	}
 
+	/**
+	 * Change the current choice point to its next choice. Its constraint is exchanged on the
+	 * constraint stack of the SolverManager, the state at the choice point is recovered and state
+	 * changes enforced by the choice point are applied.
+	 *
+	 * @param vm The currently executing SymbolicalVirtualMachine.
+	 * @param checkSolvability If set to true, the new constraint system is checked for a solution
+	 *        unless choices are replayed. Otherwise, it is assumed to be solvable.
+	 * @return true, if execution can be continued with the next choice; false, if switching to it
+	 *         failed or if its constraint system has no solution.
+	 */
+	protected boolean switchToNextChoice(SymbolicVirtualMachine vm, boolean checkSolvability) {
 		// Change to the next choice.
 		try {
-			this.currentChoicePoint.changeToNextChoice();
+			changeToNextChoice(this.currentChoicePoint);
 		} catch (MugglException e) {
-			if (this.measureExecutionTime) vm.increaseTimeBacktracking(System.nanoTime() - this.timeBacktrackingTemp);
 			if (Globals.getInst().symbolicExecLogger.isTraceEnabled())
 				Globals.getInst().symbolicExecLogger
 						.trace("Tracking back was successfull, but encountered an Exception when switching "
 								+ " to the next choice. Trying to track back further. The root cause it "
 								+ e.getClass().getName() + " (" + e.getMessage() + ")");
-
-			return trackBack(vm);
+			return false;
 		}
 
 		// Count up for the non-jumping branch.
-		this.numberOfVisitedBranches++;
+		countVisitedBranch();
 
 		// Perform operations specific to the constraint system.
 		if (this.currentChoicePoint.changesTheConstraintSystem()) {
 			// Remove the Constraint and get the new one.
+			SolverManager solverManager = vm.getSolverManager();
 			solverManager.removeConstraint();
 			solverManager.addConstraint(this.currentChoicePoint.getConstraintExpression());
 
 			// Check if the new branch can be visited at all, or if it causes an equation violation.
-			try {
-				// Try to solve the expression.
-				if (this.measureExecutionTime) this.timeSolvingTemp = System.nanoTime();
-				if (!solverManager.hasSolution()) {
-					if (this.measureExecutionTime) vm.increaseTimeSolvingForBacktracking(System.nanoTime() - this.timeSolvingTemp);
-					if (this.measureExecutionTime) vm.increaseTimeBacktracking(System.nanoTime() - this.timeBacktrackingTemp);
-					return trackBack(vm);
-				}
-				if (this.measureExecutionTime) vm.increaseTimeSolvingForBacktracking(System.nanoTime() - this.timeSolvingTemp);
-			} catch (SolverUnableToDecideException e) {
-				if (Globals.getInst().symbolicExecLogger.isTraceEnabled())
-					Globals.getInst().symbolicExecLogger.trace("Solving lead to a SolverUnableToDecideException with message: " + e.getMessage());
-				if (this.measureExecutionTime) vm.increaseTimeBacktracking(System.nanoTime() - this.timeBacktrackingTemp);
-				return trackBack(vm);
-			} catch (TimeoutException e) {
-				if (Globals.getInst().symbolicExecLogger.isTraceEnabled())
-					Globals.getInst().symbolicExecLogger.trace("Solving lead to a TimeoutException with message: " + e.getMessage());
-				if (this.measureExecutionTime) vm.increaseTimeBacktracking(System.nanoTime() - this.timeBacktrackingTemp);
-				return trackBack(vm);
-			}
+			if (checkSolvability && !isReplaying() && !hasSolution(vm)) return false;
 		}
 
 		// Found the choice point to continue, recover the state of it.
 		recoverState(vm);
 
 		// Does the choice point require any state specific changes beside those already done?
-		if (this.currentChoicePoint.enforcesStateChanges()) this.currentChoicePoint.applyStateChanges();
-
-		// Tracking back was successful.
-		if (Globals.getInst().symbolicExecLogger.isTraceEnabled())
-			Globals.getInst().symbolicExecLogger.trace("Tracking back was successful. Already visited " + (this.numberOfVisitedBranches - 1) + " branches.");
-		if (this.measureExecutionTime) vm.increaseTimeBacktracking(System.nanoTime() - this.timeBacktrackingTemp);
+		if (this.currentChoicePoint.enforcesStateChanges()) applyStateChanges(this.currentChoicePoint);
 		return true;
 	}
 
+	/**
+	 * Check whether the constraint system of the SolverManager has a solution after a choice has
+	 * been changed to. The time needed is accounted for as solving time for backtracking.
+	 *
+	 * @param vm The currently executing SymbolicalVirtualMachine.
+	 * @return true, if the constraint system has a solution; false, if it has none or if solving
+	 *         failed.
+	 */
+	protected boolean hasSolution(SymbolicVirtualMachine vm) {
+		try {
+			// Try to solve the expression.
+			if (this.measureExecutionTime) this.timeSolvingTemp = System.nanoTime();
+			boolean hasSolution = vm.getSolverManager().hasSolution();
+			if (this.measureExecutionTime) vm.increaseTimeSolvingForBacktracking(System.nanoTime() - this.timeSolvingTemp);
+			return hasSolution;
+		} catch (SolverUnableToDecideException e) {
+			if (Globals.getInst().symbolicExecLogger.isTraceEnabled())
+				Globals.getInst().symbolicExecLogger.trace("Solving lead to a SolverUnableToDecideException with message: " + e.getMessage());
+			return false;
+		} catch (TimeoutException e) {
+			if (Globals.getInst().symbolicExecLogger.isTraceEnabled())
+				Globals.getInst().symbolicExecLogger.trace("Solving lead to a TimeoutException with message: " + e.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * Check whether choices taken earlier are replayed to get back to a node of the search tree.
+	 * The branches replayed have been visited before, so they are neither counted as visited
+	 * branches again nor checked for a solution. This method is intended to be overridden by
+	 * inheriting algorithms that replay choices.
+	 *
+	 * @return true, if choices are replayed, false otherwise.
+	 */
+	protected boolean isReplaying() {
+		return false;
+	}
+
+	/**
+	 * Count a branch as visited, unless it is only replayed.
+	 */
+	private void countVisitedBranch() {
+		if (!isReplaying()) this.numberOfVisitedBranches++;
+	}
+
+	/**
+	 * Check whether a choice point offers another choice that is to be visited by this search
+	 * algorithm. This method is intended to be overridden by inheriting algorithms that do not
+	 * visit all choices of a choice point.
+	 *
+	 * @param choicePoint The choice point to check.
+	 * @return true, if the choice point has another choice to visit, false otherwise.
+	 */
+	protected boolean hasAnotherChoice(ChoicePoint choicePoint) {
+		return choicePoint.hasAnotherChoice();
+	}
+
+	/**
+	 * Change a choice point to its next choice. This method is intended to be overridden by
+	 * inheriting algorithms that need to keep track of the choices taken.
+	 *
+	 * @param choicePoint The choice point to change.
+	 * @throws MugglException If changing to the next choice fails.
+	 */
+	protected void changeToNextChoice(ChoicePoint choicePoint) throws MugglException {
+		choicePoint.changeToNextChoice();
+	}
+
+	/**
+	 * Apply the state changes of the current choice of a choice point. This method is intended to
+	 * be overridden by inheriting algorithms that need to record these changes.
+	 *
+	 * @param choicePoint The choice point.
+	 */
+	protected void applyStateChanges(ChoicePoint choicePoint) {
+		choicePoint.applyStateChanges();
+	}
+
 	/**
 	 * This method is called when tracking back failed. It will not change a thing, and just log
 	 * log that the execution ends here, then return false. This method is intended to be overridden
@@ -235,78 +359,26 @@ public class DepthFirstSearchAlgorithm implements SearchAlgorithm {
 	 * @param vm The currently executing SymbolicalVirtualMachine.
 	 */
 	public void recoverState(SymbolicVirtualMachine vm) {
-		// Get the current stacks.
-		StackToTrail<Object> operandStack = (StackToTrail<Object>) vm.getCurrentFrame().getOperandStack();
-		StackToTrail<Object> vmStack = (StackToTrail<Object>) vm.getStack();
-
-		// Set the StackToTrail instances to restoring mode. Otherwise the recovery will be added to the trail, which will lead to weird behavior.
-		operandStack.setRestoringMode(true);
-		vmStack.setRestoringMode(true);
-
 		// If the choice point has a trail, use it to recover the state.
 		if (this.currentChoicePoint.hasTrail()) {
 			Stack<TrailElement> trail = this.currentChoicePoint.getTrail();
+			if (this.restoredTrailElements != null) this.restoredTrailElements.record(trail.size());
 			// Empty the trail.
 			while (!trail.empty()) {
 				Object object = trail.pop();
 				// Decide about the action by checking the trail element's type.
-				if (object instanceof VmPush) {
-					VmPush vmPush = (VmPush) object;
-					object = vmPush.getObject();
-					vmStack.push(object);
-					if (vmPush.restoreStates()) {
-						// Restore states of the frame.
-						SymbolicFrame frame = (SymbolicFrame) object;
-						frame.setPc(vmPush.getPc());
-						frame.setMonitor(vmPush.getMonitor());
-					}
-				} else if (object instanceof VmPop) {
-					if (vm.getStack().isEmpty()) {
-						if (Globals.getInst().symbolicExecLogger.isEnabledFor(Level.WARN))
-							Globals.getInst().symbolicExecLogger.warn("Processing the trail lead to a request to "
-									+ "pop an element from the empty VM stack. It will be ignored and skipped. "
-									+ "However, this hints to a serious problem and should be checked.");
-					} else {
-						vm.getStack().pop();
-					}
+				if (object instanceof StackWatermark) {
+					// Restore the virtual machine stack or an operand stack in bulk.
+					((StackWatermark) object).restore();
 				} else if (object instanceof FrameChange) {
-					FrameChange frameChange = (FrameChange) object;
 					// There was a change in the frame. Put it as the (temporary) current Frame.
-					vm.setCurrentFrame(frameChange.getFrame());
-					// Disable the restoring mode for the last Frame's operand stack.
-					operandStack.setRestoringMode(false);
-					// Set the current operand stack accordingly.
-					operandStack = (StackToTrail<Object>) frameChange.getFrame().getOperandStack();
-					// Enable restoring mode for it.
-					operandStack.setRestoringMode(true);
-				} else if (object instanceof Push) {
-					vm.getCurrentFrame().getOperandStack().push(((Push) object).getObject());
-				} else if (object instanceof Pop) {
-					if (vm.getCurrentFrame().getOperandStack().isEmpty()) {
-						if (Globals.getInst().symbolicExecLogger.isEnabledFor(Level.WARN))
-							Globals.getInst().symbolicExecLogger.warn("Processing the trail lead to a request to "
-									+ "pop an element from an empty operand stack. It will be ignored and skipped. "
-									+ "However, this hints to a serious problem and should be checked.");
-					} else {
-						vm.getCurrentFrame().getOperandStack().pop();
-					}
-				} else if (object instanceof PopFromFrame) {
-					if (((PopFromFrame) object).getFrame().getOperandStack().isEmpty()) {
-						if (Globals.getInst().symbolicExecLogger.isEnabledFor(Level.WARN))
-							Globals.getInst().symbolicExecLogger.warn("Processing the trail lead to a request to "
-									+ "pop an element from an empty operand stack. It will be ignored and skipped. "
-									+ "However, this hints to a serious problem and should be checked.");
-					} else {
-						((PopFromFrame) object).getFrame().getOperandStack().pop();
-					}
-				} else if (object instanceof ArrayRestore) {
-					((ArrayRestore) object).restore();
-				} else if (object instanceof Restore) {
-					((Restore) object).restore(vm.getCurrentFrame());
-				} else if (object instanceof InstanceFieldPut) {
-					((InstanceFieldPut) object).restoreField();
-				} else if (object instanceof StaticFieldPut) {
-					((StaticFieldPut) object).restoreField();
+					vm.setCurrentFrame(((FrameChange) object).getFrame());
+				} else if (object instanceof WriteTrail) {
+					// Restore fields, array elements and local variables.
+					WriteTrail writeTrail = (WriteTrail) object;
+					if (this.restoredWrites != null) this.restoredWrites.record(writeTrail.size());
+					writeTrail.restore();
+					if (writeTrail == this.writeTrail) this.writeTrail = null;
 				} else if (object instanceof DUCoverageTrailElement) {
 					((DUCoverageTrailElement) object).restore();
 				} else if (object instanceof CGCoverageTrailElement) {
@@ -337,10 +409,6 @@ public class DepthFirstSearchAlgorithm implements SearchAlgorithm {
 		vm.setNextFrameIsAlreadyLoaded();
 		// If this tracking back is done while executing a Frame, also signalize to the vm to not continue executing it.
 		vm.setReturnFromCurrentExecution(true);
-
-		// Disable the restoring mode.
-		operandStack.setRestoringMode(false);
-		vmStack.setRestoringMode(false);
 	}
 
 	/**
@@ -378,10 +446,10 @@ public class DepthFirstSearchAlgorithm implements SearchAlgorithm {
 		}
 
 		// Apply the first value.
-		this.currentChoicePoint.applyStateChanges();
+		applyStateChanges(this.currentChoicePoint);
 
 		// Count up for the jumping branch.
-		this.numberOfVisitedBranches++;
+		countVisitedBranch();
 		if (this.measureExecutionTime) vm.increaseTimeChoicePointGeneration(System.nanoTime() - this.timeChoicePointGenerationTemp);
 	}
 	
@@ -403,10 +471,10 @@ public class DepthFirstSearchAlgorithm implements SearchAlgorithm {
 
 
 		// Apply the first value.
-		this.currentChoicePoint.applyStateChanges();
+		applyStateChanges(this.currentChoicePoint);
 
 		// Count up for the jumping branch.
-		this.numberOfVisitedBranches++;
+		countVisitedBranch();
 		if (this.measureExecutionTime) vm.increaseTimeChoicePointGeneration(System.nanoTime() - this.timeChoicePointGenerationTemp);
 	}
 	
@@ -433,7 +501,7 @@ public class DepthFirstSearchAlgorithm implements SearchAlgorithm {
 					this.currentChoicePoint);
 
 			// Count up for the jumping branch.
-			this.numberOfVisitedBranches++;
+			countVisitedBranch();
 			if (this.measureExecutionTime) vm.increaseTimeChoicePointGeneration(System.nanoTime() - this.timeChoicePointGenerationTemp);
 		} catch (EquationViolationException e) {
 			if (this.measureExecutionTime) vm.increaseTimeChoicePointGeneration(System.nanoTime() - this.timeChoicePointGenerationTemp);
@@ -466,10 +534,10 @@ public class DepthFirstSearchAlgorithm implements SearchAlgorithm {
 				this.currentChoicePoint);
 
 		// Apply the first value.
-		this.currentChoicePoint.applyStateChanges();
+		applyStateChanges(this.currentChoicePoint);
 
 		// Count up for the jumping branch.
-		this.numberOfVisitedBranches++;
+		countVisitedBranch();
 		if (this.measureExecutionTime) vm.increaseTimeChoicePointGeneration(System.nanoTime() - this.timeChoicePointGenerationTemp);
 	}
 
@@ -512,10 +580,10 @@ public class DepthFirstSearchAlgorithm implements SearchAlgorithm {
 		}
 
 		// Apply the first value.
-		this.currentChoicePoint.applyStateChanges();
+		applyStateChanges(this.currentChoicePoint);
 
 		// Count up for the jumping branch.
-		this.numberOfVisitedBranches++;
+		countVisitedBranch();
 		if (this.measureExecutionTime) vm.increaseTimeChoicePointGeneration(System.nanoTime() - this.timeChoicePointGenerationTemp);
 	}
 
@@ -569,10 +637,10 @@ public class DepthFirstSearchAlgorithm implements SearchAlgorithm {
 		((SwitchingChoicePoint)this.currentChoicePoint).init(); 
 
 		// Apply the first value.
-		this.currentChoicePoint.applyStateChanges();
+		applyStateChanges(this.currentChoicePoint);
 
 		// Count up for the jumping branch.
-		this.numberOfVisitedBranches++;
+		countVisitedBranch();
 		if (this.measureExecutionTime) vm.increaseTimeChoicePointGeneration(System.nanoTime() - this.timeChoicePointGenerationTemp);
 	}
 
@@ -596,11 +664,13 @@ public class DepthFirstSearchAlgorithm implements SearchAlgorithm {
 
 	/**
 	 * Store a field value for use by the seach algorithm's tracking back
-	 * functionality.
-	 * @param valueRepresentation Either a InstanceFieldPut or a StaticfieldPut object.
+	 * functionality. Only the first value per choice point is recorded.
+	 * @param container The InitializedClass or Objectref the field is written in.
+	 * @param field The field.
 	 */
-	public void saveFieldValue(FieldPut valueRepresentation) {
-		if (this.currentChoicePoint != null) this.currentChoicePoint.addToTrail(valueRepresentation);
+	public void saveFieldValue(FieldContainer container, Field field) {
+		WriteTrail writeTrail = getWriteTrail();
+		if (writeTrail != null) writeTrail.recordField(container, field);
 	}
 
 	/**
@@ -615,11 +685,13 @@ public class DepthFirstSearchAlgorithm implements SearchAlgorithm {
 
 	/**
 	 * Store a local varable value for use by the seach algorithm's tracking back
-	 * functionality.
-	 * @param valueRepresentation A Restore object.
+	 * functionality. Only the first value per choice point is recorded.
+	 * @param frame The frame.
+	 * @param index The index of the local variable.
 	 */
-	public void saveLocalVariableValue(Restore valueRepresentation) {
-		if (this.currentChoicePoint != null) this.currentChoicePoint.addToTrail(valueRepresentation);
+	public void saveLocalVariableValue(Frame frame, int index) {
+		WriteTrail writeTrail = getWriteTrail();
+		if (writeTrail != null) writeTrail.recordLocalVariable((SymbolicFrame) frame, index);
 	}
 
 	/**
@@ -634,11 +706,32 @@ public class DepthFirstSearchAlgorithm implements SearchAlgorithm {
 
 	/**
 	 * Store a array value for use by the seach algorithm's tracking back
-	 * functionality.
-	 * @param valueRepresentation An ArrayRestore object.
+	 * functionality. Only the first value per choice point is recorded.
+	 * @param arrayref The array.
+	 * @param index The index of the element.
 	 */
-	public void saveArrayValue(ArrayRestore valueRepresentation) {
-		if (this.currentChoicePoint != null) this.currentChoicePoint.addToTrail(valueRepresentation);
+	public void saveArrayValue(Arrayref arrayref, int index) {
+		WriteTrail writeTrail = getWriteTrail();
+		if (writeTrail != null) writeTrail.recordArrayElement(arrayref, index);
+	}
+
+	/**
+	 * Get the write trail of the current choice point. If no value has been recorded since the
+	 * choice point was set or its state was last recovered, a new write trail is added to its
+	 * trail.
+	 *
+	 * @return The write trail, or null if there is no choice point.
+	 */
+	protected WriteTrail getWriteTrail() {
+		ChoicePoint choicePoint = this.currentChoicePoint;
+		if (choicePoint == this.writeTrailChoicePoint && this.writeTrail != null) {
+			return this.writeTrail;
+		}
+		if (choicePoint == null) return null;
+		this.writeTrail = new WriteTrail();
+		this.writeTrailChoicePoint = choicePoint;
+		choicePoint.addToTrail(this.writeTrail);
+		return this.writeTrail;
 	}
 
 	/**
@@ -661,11 +754,23 @@ public class DepthFirstSearchAlgorithm implements SearchAlgorithm {
 		statistics[1][0] = "Number of constraints checked:\t\t\t";
 		if (this.currentChoicePoint != null) {
 			statistics[1][1] = Long.valueOf(((SymbolicVirtualMachine) this.currentChoicePoint
-					.getFrame().getVm()).getSolverManager().getTotalConstraintsChecked())
-					.toString();
+					.getFrame().getVm()).getNumberOfConstraintsChecked()
+					+ this.importedConstraintsChecked).toString();
 		} else {
-			statistics[1][1] = "0";
+			statistics[1][1] = Long.valueOf(this.importedConstraintsChecked).toString();
 		}
 		return statistics;
 	}
+
+	/**
+	 * Add statistical information gathered by another depth first search, e.g. by a worker of a
+	 * parallel execution that explored a part of the search tree on behalf of this algorithm.
+	 *
+	 * @param visitedBranches The number of branches visited.
+	 * @param constraintsChecked The number of constraints checked.
+	 */
+	public synchronized void importStatisticalInformation(long visitedBranches, long constraintsChecked) {
+		this.numberOfVisitedBranches += visitedBranches;
+		this.importedConstraintsChecked += constraintsChecked;
+	}
 }
@@ -1,34 +1,36 @@
 package de.wwu.muggl.symbolic.searchAlgorithms.depthFirst;
 
-import java.util.Stack;
+import java.util.Arrays;
 
 import de.wwu.muggl.symbolic.searchAlgorithms.SearchAlgorithm;
 import de.wwu.muggl.symbolic.searchAlgorithms.choice.ChoicePoint;
-import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.Pop;
-import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.Push;
-import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.VmPop;
-import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.VmPush;
+import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.StackWatermark;
+import de.wwu.muggl.vm.OperandStack;
 
 /**
- * The StackToTrail extends the java.util.Stack. Is overrides the functionality for push and pop. In
- * general, it will invoke the super method whenever the methods push() and pop() are invoked. If it
+ * The StackToTrail extends the OperandStack. Is overrides the functionality for push and pop. In
+ * general, it will invoke the super method whenever an item of any type is pushed or popped. If it
  * is not set to restoring mode, it will also add information to the trail of the current
  * ChoicePoint.<br />
  * <br />
- * The trail can be used to track back to a former state of the execution. Hence, when pushing an
- * item the command to pop will be added to the trail, and when popping an item the command to push
- * it will be added to the trail.
- *
- * @param <E> Used to make the StackToTrail generic.
+ * The trail can be used to track back to a former state of the execution. Rather than adding the
+ * command to pop for each pushed item and the command to push for each popped item, a single
+ * {@link StackWatermark} is added when the stack is first modified after the current ChoicePoint
+ * was set. Pushing only has to check that it exists. Popping saves the popped item in it if the
+ * stack drops below its low watermark for the first time. When tracking back, the stack is
+ * truncated to the low watermark and the saved items are copied back in bulk.
  *
  * @author Tim Majchrzak
  * @version 1.0.0, 2010-03-10
  */
-public class StackToTrail<E> extends Stack<E> {
+public class StackToTrail extends OperandStack {
 	// Fields.
 	private boolean isVmStack;
 	private SearchAlgorithm searchAlgorithm;
 	private boolean restoringMode;
+	// The ChoicePoint the stack has been modified under last, and its watermark of this stack.
+	private ChoicePoint watermarkChoicePoint;
+	private StackWatermark watermark;
 
 	/**
 	 * Initialize a new StackToTrail.
@@ -43,47 +45,93 @@ public class StackToTrail<E> extends Stack<E> {
 	}
 
 	/**
-	 * Push an item onto the stack. If there is a ChoicePoint set and this StackToTrail
-	 * is not in restoring mode, add the command to pop to the trail.
-	 * @param item The item to push onto the stack.
-	 * @return The supplied item.
+	 * Initialize a new StackToTrail for an operand stack of the supplied maximum depth.
+	 * @param isVmStack If set to true, this StackToTrail should be used as a virtual machine stack. It should be used as a operand stack otherwise.
+	 * @param searchAlgorithm The currently used search algorithm.
+	 * @param maxStack The maximum depth of the operand stack.
+	 */
+	public StackToTrail(boolean isVmStack, SearchAlgorithm searchAlgorithm, int maxStack) {
+		super(maxStack);
+		this.isVmStack = isVmStack;
+		this.searchAlgorithm = searchAlgorithm;
+		this.restoringMode = false;
+	}
+
+	/**
+	 * Reserve the slot for an item about to be pushed. If there is a ChoicePoint set and this
+	 * StackToTrail is not in restoring mode, make sure its watermark has been added to the trail.
+	 * @return The index of the slot.
 	 */
 	@Override
-	public E push(E item) {
+	protected int pushSlot() {
 		if (!this.restoringMode) {
-			ChoicePoint choicePoint = this.searchAlgorithm.getCurrentChoicePoint();
-			if (choicePoint != null && choicePoint.hasTrail()) {
-				if (this.isVmStack) {
-					choicePoint.addToTrail(new VmPop());
-				} else {
-					choicePoint.addToTrail(new Pop());
-				}
-			}
+			getWatermark();
 		}
 
-		return super.push(item);
+		return super.pushSlot();
 	}
 
 	/**
-	 * Pop an item from the stack. If there is a ChoicePoint set and this StackToTrail
-	 * is not in restoring mode, add the command to push this item to the trail.
-	 * @return The popped item.
+	 * Release the slot of an item about to be popped. If there is a ChoicePoint set and this
+	 * StackToTrail is not in restoring mode, save the item in the watermark if it is popped from
+	 * below the low watermark. Unboxed values are saved boxed.
+	 * @return The index of the slot.
 	 */
 	@Override
-	public synchronized E pop() {
-		E item = super.pop();
+	protected int popSlot() {
 		if (!this.restoringMode) {
-			ChoicePoint choicePoint = this.searchAlgorithm.getCurrentChoicePoint();
-			if (choicePoint != null && choicePoint.hasTrail()) {
-				if (this.isVmStack) {
-					choicePoint.addToTrail(new VmPush(item));
-				} else {
-					choicePoint.addToTrail(new Push(item));
-				}
+			StackWatermark watermark = getWatermark();
+			int index = super.popSlot();
+			if (watermark != null && index < watermark.getLowWatermark()) {
+				watermark.save(slot(index));
 			}
+			return index;
 		}
 
-		return item;
+		return super.popSlot();
+	}
+
+	/**
+	 * Get the watermark of this stack for the current ChoicePoint. If the stack has not been
+	 * modified since the ChoicePoint was set or the state was last recovered, a new watermark at
+	 * the current height is added to its trail.
+	 *
+	 * @return The watermark, or null if there is no ChoicePoint with a trail.
+	 */
+	private StackWatermark getWatermark() {
+		ChoicePoint choicePoint = this.searchAlgorithm.getCurrentChoicePoint();
+		if (choicePoint == this.watermarkChoicePoint && this.watermark != null) {
+			return this.watermark;
+		}
+		if (choicePoint == null || !choicePoint.hasTrail()) {
+			return null;
+		}
+		this.watermark = new StackWatermark(this, this.size, this.isVmStack);
+		this.watermarkChoicePoint = choicePoint;
+		choicePoint.addToTrail(this.watermark);
+		return this.watermark;
+	}
+
+	/**
+	 * Restore the stack to the state recorded by one of its watermarks. It is truncated to the low
+	 * watermark, and the saved items above are copied back. The next modification will add a new
+	 * watermark to the trail.
+	 *
+	 * @param watermark The watermark to restore.
+	 */
+	public void restore(StackWatermark watermark) {
+		int lowWatermark = watermark.getLowWatermark();
+		int height = watermark.getHeight();
+		if (this.size > lowWatermark) {
+			Arrays.fill(this.references, lowWatermark, this.size, null);
+		}
+		ensureCapacity(height);
+		watermark.copySlotsTo(this.references);
+		this.size = height;
+		if (this.watermark == watermark) {
+			this.watermark = null;
+			this.watermarkChoicePoint = null;
+		}
 	}
 
 	/**
@@ -100,13 +148,12 @@ public class StackToTrail<E> extends Stack<E> {
 	 * @param obj The object to check equality with.
 	 * @return true, if the three fields for the StackToTrail are equal and if the inherited stack
 	 *         is equal; false otherwise.
-	 * @see java.util.Vector#equals(java.lang.Object)
+	 * @see de.wwu.muggl.vm.OperandStack#equals(java.lang.Object)
 	 */
 	@Override
-	@SuppressWarnings("unchecked")
-	public synchronized boolean equals(Object obj) {
+	public boolean equals(Object obj) {
 		if (obj instanceof StackToTrail) {
-			StackToTrail<E> stack = (StackToTrail<E>) obj;
+			StackToTrail stack = (StackToTrail) obj;
 			if (stack.isVmStack == this.isVmStack && stack.searchAlgorithm == this.searchAlgorithm && stack.restoringMode == this.restoringMode) {
 				return super.equals(obj);
 			}
@@ -118,10 +165,10 @@ public class StackToTrail<E> extends Stack<E> {
 	 * Returns the hash code value for this stack.
 	 * 
 	 * @return The hash code value for this stack.
-	 * @see java.util.Vector#hashCode()
+	 * @see de.wwu.muggl.vm.OperandStack#hashCode()
 	 */
 	@Override
-	public synchronized int hashCode() {
+	public int hashCode() {
 		return super.hashCode();
 	}
 
@@ -0,0 +1,168 @@
+package de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements;
+
+import java.util.Arrays;
+
+import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.StackToTrail;
+import de.wwu.muggl.vm.impl.symbolic.SymbolicFrame;
+import de.wwu.muggl.vm.threading.Monitor;
+
+/**
+ * This TrailElement restores a StackToTrail to the state it had when it was first modified after
+ * a ChoicePoint was set. It is added to the trail once per stack and choice point, rather than
+ * adding one element per push and pop.<br />
+ * <br />
+ * It records the height of the stack when it was first modified, and its low watermark, i.e. the
+ * lowest height it has been popped to since. Slots below the low watermark have never been
+ * touched. Slots between the low watermark and the recorded height are saved when they are
+ * popped for the first time; later pushes may overwrite them, but they are not saved again. The
+ * stack is restored by truncating it to the low watermark and copying the saved slots back. If
+ * frames are saved from the virtual machine stack, their pc and monitor at the time they were
+ * popped are restored, too.<br />
+ * <br />
+ * Swapping the watermark saves the items above the low watermark before restoring the stack, so
+ * that swapping it again restores the stack to the state it has been swapped from.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+public class StackWatermark implements SwappableTrailElement {
+	// The stack, and its height to restore.
+	private final StackToTrail stack;
+	private int height;
+	// Whether the stack is a virtual machine stack.
+	private final boolean isVmStack;
+	// The lowest height the stack has been popped to.
+	private int lowWatermark;
+	// The saved slots, indexed by their positions in the stack. Allocated when the first is saved.
+	private Object[] slots;
+	// The pc and monitor of saved frames. Only used for virtual machine stacks.
+	private int[] pcs;
+	private Monitor[] monitors;
+
+	/**
+	 * Initialize the watermark of a stack that is about to be modified.
+	 *
+	 * @param stack The stack.
+	 * @param height The current height of the stack.
+	 * @param isVmStack true, if the stack is a virtual machine stack holding frames.
+	 */
+	public StackWatermark(StackToTrail stack, int height, boolean isVmStack) {
+		this.stack = stack;
+		this.height = height;
+		this.isVmStack = isVmStack;
+		this.lowWatermark = height;
+	}
+
+	/**
+	 * Getter for the height the stack is restored to.
+	 *
+	 * @return The height to restore.
+	 */
+	public int getHeight() {
+		return this.height;
+	}
+
+	/**
+	 * Getter for the lowest height the stack has been popped to.
+	 *
+	 * @return The low watermark.
+	 */
+	public int getLowWatermark() {
+		return this.lowWatermark;
+	}
+
+	/**
+	 * Save an item that has just been popped from the slot at the low watermark, lowering it by
+	 * one. The item has been untouched since the stack was first modified, so it is the one to be
+	 * restored.
+	 *
+	 * @param item The popped item.
+	 */
+	public void save(Object item) {
+		int index = --this.lowWatermark;
+		if (this.slots == null) this.slots = new Object[this.height];
+		this.slots[index] = item;
+		if (this.isVmStack && item instanceof SymbolicFrame) {
+			if (this.pcs == null) {
+				this.pcs = new int[this.height];
+				this.monitors = new Monitor[this.height];
+			}
+			SymbolicFrame frame = (SymbolicFrame) item;
+			this.pcs[index] = frame.getPc();
+			this.monitors[index] = frame.getMonitor();
+		}
+	}
+
+	/**
+	 * Copy the saved slots between the low watermark and the height to restore into an array.
+	 *
+	 * @param elementData The array holding the elements of the stack. It must be able to hold
+	 *        at least as many elements as the height to restore.
+	 */
+	public void copySlotsTo(Object[] elementData) {
+		if (this.slots != null)
+			System.arraycopy(this.slots, this.lowWatermark, elementData, this.lowWatermark,
+					this.height - this.lowWatermark);
+	}
+
+	/**
+	 * Restore the stack, and the pc and the monitor of saved frames.
+	 */
+	public void restore() {
+		this.stack.restore(this);
+		if (this.pcs != null) {
+			for (int index = this.lowWatermark; index < this.height; index++) {
+				if (this.slots[index] instanceof SymbolicFrame) {
+					SymbolicFrame frame = (SymbolicFrame) this.slots[index];
+					frame.setPc(this.pcs[index]);
+					frame.setMonitor(this.monitors[index]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Exchange the items above the low watermark with the saved ones. The current items, and the
+	 * pc and monitor of frames among them, are saved before the stack is restored.
+	 */
+	public void swap() {
+		int currentHeight = this.stack.size();
+		Object[] currentSlots = new Object[currentHeight];
+		int[] currentPcs = null;
+		Monitor[] currentMonitors = null;
+		for (int index = this.lowWatermark; index < currentHeight; index++) {
+			Object item = this.stack.get(index);
+			currentSlots[index] = item;
+			if (this.isVmStack && item instanceof SymbolicFrame) {
+				if (currentPcs == null) {
+					currentPcs = new int[currentHeight];
+					currentMonitors = new Monitor[currentHeight];
+				}
+				SymbolicFrame frame = (SymbolicFrame) item;
+				currentPcs[index] = frame.getPc();
+				currentMonitors[index] = frame.getMonitor();
+			}
+		}
+		restore();
+		this.height = currentHeight;
+		this.slots = currentSlots;
+		this.pcs = currentPcs;
+		this.monitors = currentMonitors;
+	}
+
+	/**
+	 * Returns a suitable String representation of the trail element.
+	 *
+	 * @return A String representation of the trail element.
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		String slotInfo = this.slots == null ? "[]" : Arrays.toString(
+				Arrays.copyOfRange(this.slots, this.lowWatermark, this.height));
+		return "Trail element that restores the " + (this.isVmStack ? "virtual machine" : "operand")
+				+ " stack to a height of " + this.height + ", keeping the " + this.lowWatermark
+				+ " lowest items and restoring the items above: " + slotInfo;
+	}
+
+}
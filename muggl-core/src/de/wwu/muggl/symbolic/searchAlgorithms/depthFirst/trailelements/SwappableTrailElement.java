@@ -0,0 +1,23 @@
+package de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements;
+
+/**
+ * A SwappableTrailElement can revert the changes it has recorded and reapply them later. Swapping
+ * exchanges the recorded state with the current one: swapping it once reverts the changes, and
+ * swapping it again reapplies them. Hence, the trail of a choice point can be reverted without
+ * losing the state it leads to, and that state can be resumed later without executing from the
+ * root again.<br />
+ * <br />
+ * The trail elements of a trail have to be swapped in reverse order to revert the changes, and
+ * in the order they have been added to reapply them.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+public interface SwappableTrailElement extends TrailElement {
+
+	/**
+	 * Exchange the recorded state with the current one.
+	 */
+	void swap();
+
+}
@@ -0,0 +1,276 @@
+package de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import de.wwu.muggl.vm.classfile.structures.Field;
+import de.wwu.muggl.vm.classfile.structures.Method;
+import de.wwu.muggl.vm.impl.symbolic.SymbolicFrame;
+import de.wwu.muggl.vm.initialization.Arrayref;
+import de.wwu.muggl.vm.initialization.FieldContainer;
+
+/**
+ * This TrailElement records the values of fields, array elements and local variables before they
+ * are written after a ChoicePoint has been set. It replaces one trail element per write by
+ * parallel arrays holding the kind of location, its target (the container of a field, the array
+ * or the frame), its slot or index, and its former value.<br />
+ * <br />
+ * Only the first write to each location is recorded, as restoring its value suffices to revert
+ * any later writes. To find out cheaply whether a location has been recorded, each trail has a
+ * unique stamp that the location is stamped with when it is recorded. Restoring the trail gives
+ * it a new stamp, so locations are recorded again when they are written afterwards.<br />
+ * <br />
+ * The values are restored in reverse order by a single loop switching on the kind of each entry.
+ * Fields without a slot in the layout of their container are rare; they are recorded on every
+ * write, along with the field. So are the values generated for the parameters of a method.
+ * Swapping the trail exchanges the recorded values with the current ones instead of discarding
+ * them, so that the writes can be reapplied by swapping it again.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+public class WriteTrail implements SwappableTrailElement {
+	// The source of unique stamps. Zero is never used, as it marks locations never recorded.
+	private static final AtomicInteger STAMPS = new AtomicInteger();
+
+	// The kinds of locations.
+	private static final byte FIELD_SLOT = 0;
+	private static final byte FIELD = 1;
+	private static final byte ARRAY_ELEMENT = 2;
+	private static final byte LOCAL_VARIABLE = 3;
+	private static final byte GENERATED_VALUE = 4;
+
+	// The initial number of entries.
+	private static final int INITIAL_CAPACITY = 16;
+
+	// The stamp of this trail.
+	private int stamp;
+
+	// The recorded entries.
+	private int size;
+	private byte[] kinds;
+	private Object[] targets;
+	private int[] slots;
+	private Object[] values;
+	// The fields of entries of the kind FIELD. Only initialized if needed.
+	private Field[] fields;
+	// Whether the trail has been swapped an odd number of times, i.e. its writes are reverted.
+	private boolean reverted;
+
+	/**
+	 * Initialize an empty trail with a new stamp.
+	 */
+	public WriteTrail() {
+		this.stamp = nextStamp();
+		this.kinds = new byte[INITIAL_CAPACITY];
+		this.targets = new Object[INITIAL_CAPACITY];
+		this.slots = new int[INITIAL_CAPACITY];
+		this.values = new Object[INITIAL_CAPACITY];
+	}
+
+	/**
+	 * Get a new stamp.
+	 *
+	 * @return A stamp that is not zero and has not been used before.
+	 */
+	private static int nextStamp() {
+		int stamp = STAMPS.incrementAndGet();
+		while (stamp == 0) {
+			stamp = STAMPS.incrementAndGet();
+		}
+		return stamp;
+	}
+
+	/**
+	 * Record the value of a field before it is written, unless it has been recorded already.
+	 *
+	 * @param container The InitializedClass or Objectref the field is written in.
+	 * @param field The field.
+	 */
+	public void recordField(FieldContainer container, Field field) {
+		int slot = container.slotOf(field);
+		if (slot == -1) {
+			int index = add(FIELD, container, -1, container.getField(field));
+			if (this.fields == null) this.fields = new Field[this.kinds.length];
+			this.fields[index] = field;
+		} else if (container.stampSlot(slot, this.stamp)) {
+			add(FIELD_SLOT, container, slot, container.getSlotValue(slot));
+		}
+	}
+
+	/**
+	 * Record the value of an array element before it is written, unless it has been recorded
+	 * already. Nothing is recorded if the index is out of bounds, as the write will fail.
+	 *
+	 * @param arrayref The array.
+	 * @param index The index of the element.
+	 */
+	public void recordArrayElement(Arrayref arrayref, int index) {
+		if (arrayref.stampElement(index, this.stamp)) {
+			add(ARRAY_ELEMENT, arrayref, index, arrayref.getElement(index));
+		}
+	}
+
+	/**
+	 * Record the value of a local variable before it is written, unless it has been recorded
+	 * already.
+	 *
+	 * @param frame The frame.
+	 * @param index The index of the local variable.
+	 */
+	public void recordLocalVariable(SymbolicFrame frame, int index) {
+		if (frame.stampLocalVariable(index, this.stamp)) {
+			add(LOCAL_VARIABLE, frame, index, frame.getLocalVariables()[index]);
+		}
+	}
+
+	/**
+	 * Record the value generated for a parameter of a method before it is set.
+	 *
+	 * @param method The method.
+	 * @param index The index of the parameter.
+	 */
+	public void recordGeneratedValue(Method method, int index) {
+		add(GENERATED_VALUE, method, index, method.getGeneratedValues()[index]);
+	}
+
+	/**
+	 * Add an entry.
+	 *
+	 * @param kind The kind of location.
+	 * @param target The container, array or frame.
+	 * @param slot The slot or index.
+	 * @param value The former value.
+	 * @return The index of the entry.
+	 */
+	private int add(byte kind, Object target, int slot, Object value) {
+		int index = this.size;
+		if (index == this.kinds.length) {
+			int capacity = index << 1;
+			this.kinds = Arrays.copyOf(this.kinds, capacity);
+			this.targets = Arrays.copyOf(this.targets, capacity);
+			this.slots = Arrays.copyOf(this.slots, capacity);
+			this.values = Arrays.copyOf(this.values, capacity);
+			if (this.fields != null) this.fields = Arrays.copyOf(this.fields, capacity);
+		}
+		this.kinds[index] = kind;
+		this.targets[index] = target;
+		this.slots[index] = slot;
+		this.values[index] = value;
+		this.size = index + 1;
+		return index;
+	}
+
+	/**
+	 * Restore the recorded values in reverse order. The trail is empty and has a new stamp
+	 * afterwards.
+	 */
+	public void restore() {
+		for (int index = this.size - 1; index >= 0; index--) {
+			Object target = this.targets[index];
+			int slot = this.slots[index];
+			Object value = this.values[index];
+			switch (this.kinds[index]) {
+				case FIELD_SLOT:
+					((FieldContainer) target).restoreSlotValue(slot, value);
+					break;
+				case FIELD:
+					((FieldContainer) target).putField(this.fields[index], value);
+					this.fields[index] = null;
+					break;
+				case ARRAY_ELEMENT:
+					((Arrayref) target).restoreElement(slot, value);
+					break;
+				case GENERATED_VALUE:
+					((Method) target).setGeneratedValue(slot, value);
+					break;
+				default:
+					((SymbolicFrame) target).setLocalVariable(slot, value);
+					break;
+			}
+			this.targets[index] = null;
+			this.values[index] = null;
+		}
+		this.size = 0;
+		this.stamp = nextStamp();
+	}
+
+	/**
+	 * Exchange the recorded values with the current ones. They are exchanged in reverse order if
+	 * the writes are reverted, and in the order they have been recorded if they are reapplied.
+	 * The trail gets a new stamp, as it does not record any further writes.
+	 */
+	public void swap() {
+		if (this.reverted) {
+			for (int index = 0; index < this.size; index++) {
+				swapEntry(index);
+			}
+		} else {
+			for (int index = this.size - 1; index >= 0; index--) {
+				swapEntry(index);
+			}
+		}
+		this.reverted = !this.reverted;
+		this.stamp = nextStamp();
+	}
+
+	/**
+	 * Exchange the recorded value of an entry with the current one.
+	 *
+	 * @param index The index of the entry.
+	 */
+	private void swapEntry(int index) {
+		Object target = this.targets[index];
+		int slot = this.slots[index];
+		Object value = this.values[index];
+		switch (this.kinds[index]) {
+			case FIELD_SLOT:
+				FieldContainer container = (FieldContainer) target;
+				this.values[index] = container.getSlotValue(slot);
+				container.restoreSlotValue(slot, value);
+				break;
+			case FIELD:
+				FieldContainer fieldContainer = (FieldContainer) target;
+				this.values[index] = fieldContainer.getField(this.fields[index]);
+				fieldContainer.putField(this.fields[index], value);
+				break;
+			case ARRAY_ELEMENT:
+				Arrayref arrayref = (Arrayref) target;
+				this.values[index] = arrayref.getElement(slot);
+				arrayref.restoreElement(slot, value);
+				break;
+			case GENERATED_VALUE:
+				Method method = (Method) target;
+				this.values[index] = method.getGeneratedValues()[slot];
+				method.setGeneratedValue(slot, value);
+				break;
+			default:
+				SymbolicFrame frame = (SymbolicFrame) target;
+				this.values[index] = frame.getLocalVariables()[slot];
+				frame.setLocalVariable(slot, value);
+				break;
+		}
+	}
+
+	/**
+	 * Getter for the number of recorded values.
+	 *
+	 * @return The number of recorded values.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Returns a suitable String representation of the trail element.
+	 *
+	 * @return A String representation of the trail element.
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "Trail element that restores " + this.size
+				+ " fields, array elements, local variables and generated values to their former values.";
+	}
+
+}
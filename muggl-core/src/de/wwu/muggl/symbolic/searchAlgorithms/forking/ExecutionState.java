@@ -0,0 +1,222 @@
+package de.wwu.muggl.symbolic.searchAlgorithms.forking;
+
+import java.util.Stack;
+
+import de.wwu.muggl.solvers.expressions.ConstraintExpression;
+import de.wwu.muggl.symbolic.searchAlgorithms.choice.ChoicePoint;
+import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.TrailElement;
+import de.wwu.muggl.vm.Frame;
+
+/**
+ * An ExecutionState is a node of the tree of states a {@link ForkingSearchAlgorithm} explores. It
+ * stands for one choice of a choice point and the execution that followed it, up to the next
+ * choice point or the point it has been suspended at. The root state stands for the execution
+ * before the first choice point.<br />
+ * <br />
+ * A state does not copy anything of the virtual machine. It holds the trail recorded while it was
+ * executed, and the constraint its choice added to the constraint stack of the SolverManager.
+ * Starting from the state of its parent, swapping the trail and pushing the constraint leads to
+ * the state; swapping it again and popping the constraint leads back. Forking at a choice point
+ * hence only requires a new object for each choice, and the trail of the state left. Sibling
+ * states share the states above them.<br />
+ * <br />
+ * A state whose choice has not been entered yet stands for the remaining choices of its choice
+ * point. Resuming it changes the choice point to its next choice.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+public class ExecutionState {
+	// The parent state and the choice point this state is a choice of.
+	private final ExecutionState parent;
+	private final ChoicePoint choicePoint;
+	private final int depth;
+
+	// Whether the choice has been entered, and the constraint it added.
+	private boolean entered;
+	private ConstraintExpression constraintExpression;
+
+	// The trail, while it is not the trail of the choice point.
+	private TrailElement[] trail;
+
+	// The frame and the pc to resume execution at, if the state is suspended.
+	private Frame frame;
+	private int pc;
+
+	/**
+	 * Initialize the root state.
+	 */
+	ExecutionState() {
+		this.parent = null;
+		this.choicePoint = null;
+		this.depth = 0;
+		this.entered = true;
+	}
+
+	/**
+	 * Initialize a state for a choice of a choice point that has not been entered yet.
+	 *
+	 * @param parent The state the choice point has been generated in.
+	 * @param choicePoint The choice point.
+	 */
+	ExecutionState(ExecutionState parent, ChoicePoint choicePoint) {
+		this.parent = parent;
+		this.choicePoint = choicePoint;
+		this.depth = parent.depth + 1;
+		this.entered = false;
+	}
+
+	/**
+	 * Mark that the current choice of the choice point has been entered.
+	 *
+	 * @param constraintExpression The constraint the choice added to the constraint stack; or null,
+	 *        if it did not change the constraint system.
+	 */
+	void enter(ConstraintExpression constraintExpression) {
+		this.entered = true;
+		this.constraintExpression = constraintExpression;
+	}
+
+	/**
+	 * Move the trail of the choice point to this state. This is done when the state is left, as the
+	 * choice point records the trail of its next choice afterwards. The trail is kept in the order
+	 * it has been recorded in.
+	 */
+	void detachTrail() {
+		if (this.choicePoint == null || !this.choicePoint.hasTrail()) return;
+		Stack<TrailElement> trail = this.choicePoint.getTrail();
+		if (trail.isEmpty()) return;
+		this.trail = trail.toArray(new TrailElement[trail.size()]);
+		trail.clear();
+	}
+
+	/**
+	 * Move the trail of this state back to the choice point, so that execution can be resumed and
+	 * recording continues on it.
+	 */
+	void attachTrail() {
+		if (this.trail == null) return;
+		Stack<TrailElement> trail = this.choicePoint.getTrail();
+		for (TrailElement element : this.trail) {
+			trail.push(element);
+		}
+		this.trail = null;
+	}
+
+	/**
+	 * Suspend this state. It can then be resumed at the supplied frame and pc.
+	 *
+	 * @param frame The frame executed when the state is suspended.
+	 * @param pc The pc of the next instruction to execute.
+	 */
+	void suspend(Frame frame, int pc) {
+		this.frame = frame;
+		this.pc = pc;
+	}
+
+	/**
+	 * Mark that this suspended state has been resumed.
+	 */
+	void resumed() {
+		this.frame = null;
+	}
+
+	/**
+	 * Getter for the parent state.
+	 *
+	 * @return The parent state; or null, if this is the root state.
+	 */
+	public ExecutionState getParent() {
+		return this.parent;
+	}
+
+	/**
+	 * Getter for the choice point this state is a choice of.
+	 *
+	 * @return The choice point; or null, if this is the root state.
+	 */
+	public ChoicePoint getChoicePoint() {
+		return this.choicePoint;
+	}
+
+	/**
+	 * Getter for the depth of this state in the tree of states. The root state has a depth of 0.
+	 *
+	 * @return The depth of this state.
+	 */
+	public int getDepth() {
+		return this.depth;
+	}
+
+	/**
+	 * Find out if the choice of this state has been entered. If it has not, the state stands for
+	 * the remaining choices of its choice point.
+	 *
+	 * @return true, if the choice has been entered, false otherwise.
+	 */
+	public boolean isEntered() {
+		return this.entered;
+	}
+
+	/**
+	 * Find out if this state has been suspended and can be resumed.
+	 *
+	 * @return true, if the state is suspended, false otherwise.
+	 */
+	public boolean isSuspended() {
+		return this.frame != null;
+	}
+
+	/**
+	 * Getter for the constraint the choice added to the constraint stack.
+	 *
+	 * @return The constraint; or null, if the choice has not been entered or if it did not change
+	 *         the constraint system.
+	 */
+	public ConstraintExpression getConstraintExpression() {
+		return this.constraintExpression;
+	}
+
+	/**
+	 * Getter for the trail of this state, while it is not the trail of its choice point.
+	 *
+	 * @return The trail in the order it has been recorded in; or null, if it is empty or if it is
+	 *         the trail of the choice point.
+	 */
+	TrailElement[] getTrail() {
+		return this.trail;
+	}
+
+	/**
+	 * Getter for the frame to resume execution at.
+	 *
+	 * @return The frame; or null, if the state is not suspended.
+	 */
+	public Frame getFrame() {
+		return this.frame;
+	}
+
+	/**
+	 * Getter for the pc to resume execution at.
+	 *
+	 * @return The pc. Only meaningful if the state is suspended.
+	 */
+	public int getPc() {
+		return this.pc;
+	}
+
+	/**
+	 * Get a String representation of this state.
+	 *
+	 * @return A String representation of this state.
+	 */
+	@Override
+	public String toString() {
+		if (this.choicePoint == null) return "Root execution state";
+		return "Execution state at depth " + this.depth + " for the "
+				+ (this.entered ? "entered" : "next") + " choice of the "
+				+ this.choicePoint.getChoicePointType() + " at pc " + this.choicePoint.getPc()
+				+ (isSuspended() ? ", suspended at pc " + this.pc : "");
+	}
+
+}
@@ -0,0 +1,592 @@
+package de.wwu.muggl.symbolic.searchAlgorithms.forking;
+
+import java.util.ArrayDeque;
+
+import org.apache.log4j.Level;
+
+import de.wwu.muggl.configuration.Globals;
+import de.wwu.muggl.configuration.MugglException;
+import de.wwu.muggl.instructions.bytecode.LCmp;
+import de.wwu.muggl.instructions.general.CompareFp;
+import de.wwu.muggl.instructions.general.GeneralInstructionWithOtherBytes;
+import de.wwu.muggl.instructions.general.Switch;
+import de.wwu.muggl.solvers.SolverManager;
+import de.wwu.muggl.symbolic.generating.Generator;
+import de.wwu.muggl.symbolic.generating.GeneratorChoicePoint;
+import de.wwu.muggl.symbolic.metrics.MetricsRegistry;
+import de.wwu.muggl.symbolic.searchAlgorithms.choice.ChoicePoint;
+import de.wwu.muggl.symbolic.searchAlgorithms.choice.array.ArrayInitializationChoicePoint;
+import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.DepthFirstSearchAlgorithm;
+import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.FrameChange;
+import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.SwappableTrailElement;
+import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.TrailElement;
+import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.WriteTrail;
+import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.execution.ConversionException;
+import de.wwu.muggl.vm.impl.symbolic.SymbolicExecutionException;
+import de.wwu.muggl.vm.impl.symbolic.SymbolicFrame;
+import de.wwu.muggl.vm.impl.symbolic.SymbolicVirtualMachine;
+import de.wwu.muggl.solvers.expressions.ConstraintExpression;
+import de.wwu.muggl.solvers.expressions.IntConstant;
+import de.wwu.muggl.solvers.expressions.Term;
+
+/**
+ * This abstract class is the base of search algorithms that do not follow the depth first order.
+ * It forks the execution at every choice point: the choice entered first is continued, while the
+ * remaining choices are handed to the inheriting algorithm as {@link ExecutionState}s. Before the
+ * first instruction after the choice point is executed, the inheriting algorithm may also suspend
+ * the continued state. Whenever execution cannot be continued, the state the inheriting algorithm
+ * selects next is resumed.<br />
+ * <br />
+ * Choice points are generated and their trails are recorded just like for the depth first search.
+ * Resuming a state does not copy the virtual machine. Instead, the trails of the states on the
+ * path from the state applied last up to the common ancestor with the resumed state are swapped
+ * to revert their changes, and those on the path down to the resumed state are swapped to reapply
+ * them. The constraints of these states are popped from and pushed to the constraint stack of the
+ * SolverManager alongside. Forking is hence constant in time, and the cost of resuming a state is
+ * bounded by the changes made since the common ancestor.<br />
+ * <br />
+ * Unlike for the depth first search, the local variable and the generated value written by the
+ * choices of array initialization and generator choice points are recorded in the trail. A state
+ * might be suspended right after entering such a choice, and its sibling states overwrite them
+ * when entering the next choices.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+public abstract class ForkingSearchAlgorithm extends DepthFirstSearchAlgorithm {
+	// The state executed and the deepest state whose changes are applied.
+	private ExecutionState currentState;
+	private ExecutionState appliedState;
+
+	// Whether a choice point has been generated by the instruction just executed.
+	private boolean forkPending;
+
+	// Statistical information.
+	private long statesSuspended;
+	private long statesResumed;
+
+	/**
+	 * Instantiate the forking search algorithm.
+	 */
+	public ForkingSearchAlgorithm() {
+		super();
+		this.currentState = new ExecutionState();
+		this.appliedState = this.currentState;
+		this.forkPending = false;
+		this.statesSuspended = 0L;
+		this.statesResumed = 0L;
+	}
+
+	/**
+	 * Add a state that is to be resumed later. It is either a state standing for the remaining
+	 * choices of a choice point, or a suspended state.
+	 *
+	 * @param state The state.
+	 */
+	protected abstract void addState(ExecutionState state);
+
+	/**
+	 * Remove the state that is to be resumed next.
+	 *
+	 * @return The state; or null, if there are no more states.
+	 */
+	protected abstract ExecutionState takeState();
+
+	/**
+	 * Getter for the number of states that are to be resumed later.
+	 *
+	 * @return The number of states.
+	 */
+	protected abstract int getNumberOfPendingStates();
+
+	/**
+	 * Decide whether a state that has just entered the first choice of its choice point is to be
+	 * suspended in favor of the state that is to be resumed next.
+	 *
+	 * @param state The state.
+	 * @param frame The frame executed.
+	 * @param pc The pc of the next instruction to execute.
+	 * @return true, if the state is to be suspended, false if its execution is to be continued.
+	 */
+	protected abstract boolean shallSuspend(ExecutionState state, Frame frame, int pc);
+
+	/**
+	 * Getter for the state currently executed.
+	 *
+	 * @return The state currently executed.
+	 */
+	public ExecutionState getCurrentState() {
+		return this.currentState;
+	}
+
+	/**
+	 * Register the metrics of the depth first search, and the number of pending, suspended and
+	 * resumed states as gauges.
+	 *
+	 * @param metrics The metrics registry.
+	 */
+	@Override
+	public void registerMetrics(MetricsRegistry metrics) {
+		super.registerMetrics(metrics);
+		metrics.registerGauge("search.pendingStates", () -> getNumberOfPendingStates());
+		metrics.registerGauge("search.suspendedStates", () -> this.statesSuspended);
+		metrics.registerGauge("search.resumedStates", () -> this.statesResumed);
+	}
+
+	/**
+	 * Leave the current state, as its execution cannot be continued, and resume the state the
+	 * inheriting algorithm selects next.
+	 *
+	 * @param vm The currently executing SymbolicalVirtualMachine.
+	 * @return true, if a state has been resumed and the execution can be continued, false, if
+	 *         there are no more states to resume and the execution should hence be stopped.
+	 */
+	@Override
+	public boolean trackBack(SymbolicVirtualMachine vm) {
+		if (this.measureExecutionTime) this.timeBacktrackingTemp = System.nanoTime();
+		// Only track back if there ever was a ChoicePoint generated at all. Otherwise, no tracking back is possible.
+		if (this.currentChoicePoint == null) return false;
+
+		this.forkPending = false;
+		detachTrail(this.currentState);
+		boolean resumed = resumeNextState(vm);
+		if (this.measureExecutionTime) vm.increaseTimeBacktracking(System.nanoTime() - this.timeBacktrackingTemp);
+		if (!resumed) return trackBackFailed(vm);
+
+		if (Globals.getInst().symbolicExecLogger.isTraceEnabled())
+			Globals.getInst().symbolicExecLogger.trace("Resumed the " + this.currentState + ". Already visited "
+					+ (this.numberOfVisitedBranches - 1) + " branches.");
+		return true;
+	}
+
+	/**
+	 * Suspend the current state if a choice point has been generated by the instruction executed
+	 * last and the inheriting algorithm wants it to be suspended. This is checked before the next
+	 * instruction is executed, as the generating instruction has to be finished first.
+	 *
+	 * @param vm The currently executing SymbolicalVirtualMachine.
+	 * @return true, if the current state has been suspended and another one has been resumed, so
+	 *         the instruction must not be executed; false, if execution continues.
+	 */
+	public boolean executingInstruction(SymbolicVirtualMachine vm) {
+		if (!this.forkPending) return false;
+		this.forkPending = false;
+		ExecutionState state = this.currentState;
+		Frame frame = vm.getCurrentFrame();
+		int pc = vm.getPc();
+		if (!shallSuspend(state, frame, pc)) return false;
+
+		if (this.measureExecutionTime) this.timeBacktrackingTemp = System.nanoTime();
+		detachTrail(state);
+		state.suspend(frame, pc);
+		this.statesSuspended++;
+		addState(state);
+		// At least the state just suspended can be resumed.
+		resumeNextState(vm);
+		if (this.measureExecutionTime) vm.increaseTimeBacktracking(System.nanoTime() - this.timeBacktrackingTemp);
+		return true;
+	}
+
+	/**
+	 * Resume the states selected by the inheriting algorithm until one of them can be resumed.
+	 *
+	 * @param vm The currently executing SymbolicalVirtualMachine.
+	 * @return true, if a state has been resumed, false, if there are no more states.
+	 */
+	private boolean resumeNextState(SymbolicVirtualMachine vm) {
+		ExecutionState state = takeState();
+		while (state != null) {
+			if (resume(vm, state)) return true;
+			state = takeState();
+		}
+		return false;
+	}
+
+	/**
+	 * Resume a state. A suspended state is continued where it has been suspended. For a state
+	 * that stands for the remaining choices of its choice point, the next of them is entered.
+	 *
+	 * @param vm The currently executing SymbolicalVirtualMachine.
+	 * @param state The state to resume.
+	 * @return true, if the state has been resumed, false, if none of its choices can be entered.
+	 */
+	private boolean resume(SymbolicVirtualMachine vm, ExecutionState state) {
+		if (!state.isEntered()) {
+			moveTo(vm, state.getParent());
+			return enterNextChoice(vm, state);
+		}
+
+		// Apply the changes of the state and continue recording them on the trail of its choice point.
+		moveTo(vm, state);
+		state.attachTrail();
+		ChoicePoint choicePoint = state.getChoicePoint();
+		this.currentChoicePoint = choicePoint;
+		this.currentState = state;
+
+		// Continue with the frame and the pc the state has been suspended at.
+		Frame frame = state.getFrame();
+		vm.setCurrentFrame(frame);
+		((SymbolicFrame) frame).resetExecutionFinishedNormally();
+		frame.setPc(state.getPc());
+		if (frame == choicePoint.getFrame())
+			vm.getCoverageController().revertPcTo(frame.getMethod(), choicePoint.getPc());
+		state.resumed();
+		this.statesResumed++;
+
+		// Signalize to the virtual machine that execution is to be resumed with the current Frame.
+		vm.setNextFrameIsAlreadyLoaded();
+		vm.setReturnFromCurrentExecution(true);
+		return true;
+	}
+
+	/**
+	 * Enter the next choice of the choice point of a state that has not been entered yet. The
+	 * changes of its parent state have to be applied. Choices whose constraint system has no
+	 * solution are skipped. If the choice point offers further choices, a new state standing for
+	 * them is added.
+	 *
+	 * @param vm The currently executing SymbolicalVirtualMachine.
+	 * @param state The state to enter.
+	 * @return true, if a choice has been entered, false, if none of the choices can be entered.
+	 */
+	private boolean enterNextChoice(SymbolicVirtualMachine vm, ExecutionState state) {
+		ChoicePoint choicePoint = state.getChoicePoint();
+		this.currentChoicePoint = choicePoint;
+		this.currentState = state;
+		SolverManager solverManager = vm.getSolverManager();
+		while (hasAnotherChoice(choicePoint)) {
+			// Change to the next choice.
+			try {
+				changeToNextChoice(choicePoint);
+			} catch (MugglException e) {
+				if (Globals.getInst().symbolicExecLogger.isTraceEnabled())
+					Globals.getInst().symbolicExecLogger.trace("Encountered an Exception when switching "
+							+ "to the next choice. Trying the choice after it. The root cause it "
+							+ e.getClass().getName() + " (" + e.getMessage() + ")");
+				continue;
+			}
+			this.numberOfVisitedBranches++;
+
+			// Add the constraint of the choice and check if the new branch can be visited at all.
+			ConstraintExpression constraintExpression = null;
+			if (choicePoint.changesTheConstraintSystem()) {
+				constraintExpression = choicePoint.getConstraintExpression();
+				solverManager.addConstraint(constraintExpression);
+				if (!hasSolution(vm)) {
+					solverManager.removeConstraint();
+					continue;
+				}
+			}
+
+			// Enter the choice. The trail of the choice point is empty, as the state left last has detached it.
+			state.enter(constraintExpression);
+			this.appliedState = state;
+			this.statesResumed++;
+			recoverState(vm);
+			if (choicePoint.enforcesStateChanges()) applyStateChanges(choicePoint);
+			if (hasAnotherChoice(choicePoint)) addState(new ExecutionState(state.getParent(), choicePoint));
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Detach the trail of a state that is left. If the write trail recorded last is part of it,
+	 * further writes are recorded on a new write trail, so they are not attributed to the state.
+	 *
+	 * @param state The state.
+	 */
+	private void detachTrail(ExecutionState state) {
+		state.detachTrail();
+		if (this.writeTrailChoicePoint == state.getChoicePoint()) this.writeTrail = null;
+	}
+
+	/**
+	 * Apply the state changes of the current choice of a choice point. The local variable and the
+	 * generated value written by array initialization and generator choice points are recorded in
+	 * the write trail of the choice point first, so that swapping the trail of the state entered
+	 * reverts and reapplies them.
+	 *
+	 * @param choicePoint The choice point.
+	 */
+	@Override
+	protected void applyStateChanges(ChoicePoint choicePoint) {
+		int index = -1;
+		if (choicePoint instanceof ArrayInitializationChoicePoint) {
+			index = ((ArrayInitializationChoicePoint) choicePoint).getLocalVariableIndex();
+		} else if (choicePoint instanceof GeneratorChoicePoint) {
+			index = ((GeneratorChoicePoint) choicePoint).getLocalVariableIndex();
+		}
+		if (index != -1) {
+			Frame frame = choicePoint.getFrame();
+			WriteTrail writeTrail = getWriteTrail();
+			writeTrail.recordLocalVariable((SymbolicFrame) frame, index);
+			writeTrail.recordGeneratedValue(frame.getMethod(), index);
+		}
+		choicePoint.applyStateChanges();
+	}
+
+	/**
+	 * Apply the changes of a state that has been entered, reverting those of states that are not
+	 * its ancestors.
+	 *
+	 * @param vm The currently executing SymbolicalVirtualMachine.
+	 * @param target The state to apply the changes of.
+	 */
+	private void moveTo(SymbolicVirtualMachine vm, ExecutionState target) {
+		SolverManager solverManager = vm.getSolverManager();
+		ExecutionState from = this.appliedState;
+		ExecutionState to = target;
+		ArrayDeque<ExecutionState> path = new ArrayDeque<ExecutionState>();
+
+		// Revert the changes up to the common ancestor, remembering the path down to the target.
+		while (from.getDepth() > to.getDepth()) {
+			revert(solverManager, from);
+			from = from.getParent();
+		}
+		while (to.getDepth() > from.getDepth()) {
+			path.push(to);
+			to = to.getParent();
+		}
+		while (from != to) {
+			revert(solverManager, from);
+			from = from.getParent();
+			path.push(to);
+			to = to.getParent();
+		}
+		if (this.backtrackingDepth != null) this.backtrackingDepth.record(path.size());
+
+		// Reapply the changes down to the target.
+		while (!path.isEmpty()) {
+			reapply(solverManager, path.pop());
+		}
+		this.appliedState = target;
+	}
+
+	/**
+	 * Revert the changes of a state by swapping its trail in reverse order and popping its
+	 * constraint.
+	 *
+	 * @param solverManager The SolverManager.
+	 * @param state The state.
+	 */
+	private void revert(SolverManager solverManager, ExecutionState state) {
+		TrailElement[] trail = state.getTrail();
+		if (trail != null) {
+			if (this.restoredTrailElements != null) this.restoredTrailElements.record(trail.length);
+			for (int a = trail.length - 1; a >= 0; a--) {
+				swap(trail[a]);
+			}
+		}
+		if (state.getConstraintExpression() != null) solverManager.removeConstraint();
+	}
+
+	/**
+	 * Reapply the changes of a state by pushing its constraint and swapping its trail in the order
+	 * it has been recorded in.
+	 *
+	 * @param solverManager The SolverManager.
+	 * @param state The state.
+	 */
+	private void reapply(SolverManager solverManager, ExecutionState state) {
+		if (state.getConstraintExpression() != null)
+			solverManager.addConstraint(state.getConstraintExpression());
+		TrailElement[] trail = state.getTrail();
+		if (trail != null) {
+			if (this.restoredTrailElements != null) this.restoredTrailElements.record(trail.length);
+			for (TrailElement element : trail) {
+				swap(element);
+			}
+		}
+	}
+
+	/**
+	 * Swap a trail element. Changes of the current frame are skipped, as the frame is set
+	 * explicitly whenever a state is resumed.
+	 *
+	 * @param element The trail element.
+	 */
+	private void swap(TrailElement element) {
+		if (element instanceof SwappableTrailElement) {
+			((SwappableTrailElement) element).swap();
+			// A swapped write trail must not record any further writes.
+			if (element == this.writeTrail) this.writeTrail = null;
+		} else if (!(element instanceof FrameChange)) {
+			if (Globals.getInst().symbolicExecLogger.isEnabledFor(Level.WARN))
+				Globals.getInst().symbolicExecLogger.warn(
+						"Found an unrecognized object on the trail when trying to swap "
+							+ "states. It will be ignored and skipped.");
+		}
+	}
+
+	/**
+	 * Generate a new choice point using the depth first implementation, then fork the current
+	 * state if it has been generated.
+	 *
+	 * @param vm The currently executing SymbolicalVirtualMachine.
+	 * @param localVariableIndex The index into the local variable table to store the generated
+	 *        array at.
+	 * @param generator A variable Generator. May be null to indicate no custom variable generator
+	 *        is used.
+	 * @throws ConversionException If converting the first provided object failed.
+	 * @throws SymbolicExecutionException If a type is encountered that no array can be created for.
+	 */
+	@Override
+	public void generateNewChoicePoint(SymbolicVirtualMachine vm, int localVariableIndex,
+			Generator generator) throws ConversionException, SymbolicExecutionException {
+		ChoicePoint parent = this.currentChoicePoint;
+		ExecutionState state = this.currentState;
+		super.generateNewChoicePoint(vm, localVariableIndex, generator);
+		choicePointGenerated(parent, state);
+	}
+
+	/**
+	 * Generate a new choice point using the depth first implementation, then fork the current
+	 * state if it has been generated.
+	 *
+	 * @param vm The currently executing SymbolicalVirtualMachine.
+	 * @param type A String representation of the type.
+	 * @throws SymbolicExecutionException If a type is encountered that no array can be created for.
+	 */
+	@Override
+	public void generateNewChoicePoint(SymbolicVirtualMachine vm, String type)
+			throws SymbolicExecutionException {
+		ChoicePoint parent = this.currentChoicePoint;
+		ExecutionState state = this.currentState;
+		super.generateNewChoicePoint(vm, type);
+		choicePointGenerated(parent, state);
+	}
+
+	/**
+	 * Generate a new choice point using the depth first implementation, then fork the current
+	 * state if it has been generated.
+	 *
+	 * @param vm The currently executing SymbolicalVirtualMachine.
+	 * @param instruction The Instruction generating the ChoicePoint.
+	 * @param constraintExpression The ConstraintExpression describing the choice at this
+	 *        conditional jump Instruction.
+	 */
+	@Override
+	public void generateNewChoicePoint(SymbolicVirtualMachine vm,
+			GeneralInstructionWithOtherBytes instruction, ConstraintExpression constraintExpression) {
+		ChoicePoint parent = this.currentChoicePoint;
+		ExecutionState state = this.currentState;
+		super.generateNewChoicePoint(vm, instruction, constraintExpression);
+		choicePointGenerated(parent, state);
+	}
+
+	/**
+	 * Generate a new choice point using the depth first implementation, then fork the current
+	 * state if it has been generated.
+	 *
+	 * @param vm The currently executing SymbolicalVirtualMachine.
+	 * @param instruction The Instruction generating the ChoicePoint.
+	 * @param leftTerm The term of long variables and constants of the left hand side of the
+	 *        comparison.
+	 * @param rightTerm The term of long variables and constants of the right hand side of the
+	 *        comparison.
+	 * @throws SymbolicExecutionException If an Exception is thrown during the choice point
+	 *         generation.
+	 */
+	@Override
+	public void generateNewChoicePoint(SymbolicVirtualMachine vm, LCmp instruction, Term leftTerm,
+			Term rightTerm) throws SymbolicExecutionException {
+		ChoicePoint parent = this.currentChoicePoint;
+		ExecutionState state = this.currentState;
+		super.generateNewChoicePoint(vm, instruction, leftTerm, rightTerm);
+		choicePointGenerated(parent, state);
+	}
+
+	/**
+	 * Generate a new choice point using the depth first implementation, then fork the current
+	 * state if it has been generated.
+	 *
+	 * @param vm The currently executing SymbolicalVirtualMachine.
+	 * @param instruction The Instruction generating the ChoicePoint.
+	 * @param less If set to true, the choice point will have the behaviour of dcmpl / fcmpl;
+	 *        otherwise, it will behave like dcmpg / fcmpg.
+	 * @param leftTerm The term of long variables and constants of the left hand side of the
+	 *        comparison.
+	 * @param rightTerm The term of long variables and constants of the right hand side of the
+	 *        comparison.
+	 * @throws SymbolicExecutionException If an Exception is thrown during the choice point
+	 *         generation.
+	 */
+	@Override
+	public void generateNewChoicePoint(SymbolicVirtualMachine vm, CompareFp instruction,
+			boolean less, Term leftTerm, Term rightTerm) throws SymbolicExecutionException {
+		ChoicePoint parent = this.currentChoicePoint;
+		ExecutionState state = this.currentState;
+		super.generateNewChoicePoint(vm, instruction, less, leftTerm, rightTerm);
+		choicePointGenerated(parent, state);
+	}
+
+	/**
+	 * Generate a new choice point using the depth first implementation, then fork the current
+	 * state if it has been generated.
+	 *
+	 * @param vm The currently executing SymbolicalVirtualMachine.
+	 * @param instruction The Instruction generating the ChoicePoint.
+	 * @param termFromStack The term term that was on top of the stack. Using the non symbolic
+	 *        execution, this would be the key for the switch.
+	 * @param keys The possible keys.
+	 * @param pcs The possible jump targets.
+	 * @param low The "low" boundary of the tableswitch instruction; or null, if the choice point is
+	 *        generated for a lookupswitch instruction.
+	 * @param high The "high" boundary of the tableswitch instruction; or null, if the choice point
+	 *        is generated for a lookupswitch instruction.
+	 * @throws SymbolicExecutionException If an Exception is thrown during the choice point
+	 *         generation.
+	 */
+	@Override
+	public void generateNewChoicePoint(SymbolicVirtualMachine vm, Switch instruction,
+			Term termFromStack, IntConstant[] keys, int[] pcs, IntConstant low, IntConstant high)
+			throws SymbolicExecutionException {
+		ChoicePoint parent = this.currentChoicePoint;
+		ExecutionState state = this.currentState;
+		super.generateNewChoicePoint(vm, instruction, termFromStack, keys, pcs, low, high);
+		choicePointGenerated(parent, state);
+	}
+
+	/**
+	 * Fork the current state at a choice point that might just have been generated. If the depth
+	 * first implementation tracked back instead of generating it, another state has been resumed
+	 * and nothing is done. Otherwise, the current state is left for a new state standing for the
+	 * choice entered, and a state standing for the remaining choices is added.
+	 *
+	 * @param parent The current choice point before the generation was attempted.
+	 * @param state The current state before the generation was attempted.
+	 */
+	private void choicePointGenerated(ChoicePoint parent, ExecutionState state) {
+		ChoicePoint choicePoint = this.currentChoicePoint;
+		if (choicePoint == null || choicePoint == parent || this.currentState != state) return;
+
+		detachTrail(state);
+		ExecutionState child = new ExecutionState(state, choicePoint);
+		child.enter(choicePoint.changesTheConstraintSystem() ? choicePoint.getConstraintExpression() : null);
+		this.currentState = child;
+		this.appliedState = child;
+		if (hasAnotherChoice(choicePoint)) addState(new ExecutionState(state, choicePoint));
+		this.forkPending = true;
+	}
+
+	/**
+	 * Return statistical information about the execution. In addition to the information of the
+	 * depth first search, the number of states suspended and resumed is supplied.
+	 *
+	 * @return Statistical information about the execution.
+	 */
+	@Override
+	public String[][] getStatisticalInformation() {
+		String[][] depthFirstStatistics = super.getStatisticalInformation();
+		String[][] statistics = new String[depthFirstStatistics.length + 2][];
+		System.arraycopy(depthFirstStatistics, 0, statistics, 0, depthFirstStatistics.length);
+		statistics[depthFirstStatistics.length] = new String[] {"Number of states suspended:\t\t\t",
+				Long.valueOf(this.statesSuspended).toString()};
+		statistics[depthFirstStatistics.length + 1] = new String[] {"Number of states resumed:\t\t\t",
+				Long.valueOf(this.statesResumed).toString()};
+		return statistics;
+	}
+
+}
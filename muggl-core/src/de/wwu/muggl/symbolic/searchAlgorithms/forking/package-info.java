@@ -0,0 +1,5 @@
+/**
+ * Provides forkable execution states, which allow search algorithms to suspend the execution at
+ * choice points and to resume it later in any order.
+ */
+package de.wwu.muggl.symbolic.searchAlgorithms.forking;
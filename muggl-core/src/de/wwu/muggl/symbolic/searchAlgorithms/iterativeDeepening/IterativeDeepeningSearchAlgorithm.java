@@ -1,12 +1,21 @@
 package de.wwu.muggl.symbolic.searchAlgorithms.iterativeDeepening;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import de.wwu.muggl.configuration.Globals;
+import de.wwu.muggl.configuration.MugglException;
+import de.wwu.muggl.configuration.Options;
 import de.wwu.muggl.instructions.bytecode.LCmp;
 import de.wwu.muggl.instructions.general.CompareFp;
 import de.wwu.muggl.instructions.general.GeneralInstructionWithOtherBytes;
 import de.wwu.muggl.instructions.general.Switch;
 import de.wwu.muggl.symbolic.generating.Generator;
+import de.wwu.muggl.symbolic.metrics.MetricsRegistry;
+import de.wwu.muggl.symbolic.searchAlgorithms.choice.ChoicePoint;
 import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.DepthFirstSearchAlgorithm;
+import de.wwu.muggl.symbolic.searchAlgorithms.support.ChoiceSequence;
 import de.wwu.muggl.vm.execution.ConversionException;
 import de.wwu.muggl.vm.impl.symbolic.SymbolicExecutionException;
 import de.wwu.muggl.vm.impl.symbolic.SymbolicVirtualMachine;
@@ -29,12 +38,31 @@ import de.wwu.muggl.solvers.expressions.Term;
  * predefined value. This will be done until the algorithm has either been
  * aborted, or there is no more deepening possible.<br />
  * <br />
+ * The nodes where the maximum depth was reached form the frontier of the
+ * search tree. They are remembered as {@link ChoiceSequence}s, in the order
+ * they were reached. After restarting, the tree above the frontier is not
+ * explored again. Execution continues straight to the first frontier node by
+ * replaying the recorded choices. They have been visited before, so they are
+ * neither counted nor checked with the solver. Once the subtree below a frontier node has
+ * been explored, tracking back stops at the level the next frontier node
+ * branches off at, and the choices leading to it are replayed from there.
+ * <br />
+ * <br />
+ * Remembering the frontier takes one int per level for each frontier node.
+ * Increasing the depth by the deepness increment multiplies the number of
+ * nodes up to the branching factor to the power of the increment, so small
+ * increments keep the frontier small. Frontier nodes of the last run are
+ * released as soon as they are resumed. At most a maximum number of frontier
+ * nodes are remembered in each run. Should more be reached, the frontier is
+ * dropped, and the next run explores the search tree from its root again.
+ * <br />
+ * <br />
  * In general, depth first can take too much time to find solutions as it
  * might branch too deep and wastes time without finding solutions.
- * Iterative deepening surely has an overhead, as with an increased depth
- * execution has to be redone for the already visited tree. However, it
- * combines the strength of breadth first to not get lost in deep branches
- * without solutions with the small memory footprint of depth first.
+ * Iterative deepening has an overhead, as with an increased depth execution
+ * has to be redone up to the frontier. However, it combines the strength of
+ * breadth first to not get lost in deep branches without solutions with the
+ * small memory footprint of depth first.
  *
  * @author Tim Majchrzak
  * @version 1.0.0, 2010-08-28
@@ -49,13 +77,40 @@ public class IterativeDeepeningSearchAlgorithm extends DepthFirstSearchAlgorithm
 	private long maximumDepthReached;
 	private long totalConstraintsCheckedYet;
 	private long totalConstraintsCheckedEarlierExecutions;
+	private final int maximumFrontierNodes;
+
+	// The number of changes to the next choice for the choice points on the current path.
+	private int[] choicesTaken;
+
+	// The frontier nodes reached in this run (null if there were too many), and those of the last
+	// run not resumed yet.
+	private List<ChoiceSequence> frontier;
+	private ChoiceSequence[] resumedFrontier;
+	private int nextFrontierNode;
+
+	// Choice points above this level lead to the frontier node resumed and are only replayed.
+	private int lowestOpenLevel;
+	private ChoiceSequence replayedFrontierNode;
+	private int pendingReplayLevel;
+	private long frontierNodesResumed;
 
 	/**
-	 * Instantiate the iterative deepening depth first search algorithm.
+	 * Instantiate the iterative deepening depth first search algorithm. The maximum number of
+	 * frontier nodes remembered is taken from the Options.
 	 * @param startingDepth The maximum depth to start with. Will be set to 1, if less than 1;
 	 * @param  deepnessIncrement The levels of depth used for incrementation. Will be set to 1, if less than 1;
 	 */
 	public IterativeDeepeningSearchAlgorithm(int startingDepth, int deepnessIncrement) {
+		this(startingDepth, deepnessIncrement, Options.getInst().iterativeDeepeningMaximumFrontierNodes);
+	}
+
+	/**
+	 * Instantiate the iterative deepening depth first search algorithm.
+	 * @param startingDepth The maximum depth to start with. Will be set to 1, if less than 1;
+	 * @param  deepnessIncrement The levels of depth used for incrementation. Will be set to 1, if less than 1;
+	 * @param maximumFrontierNodes The maximum number of frontier nodes remembered in a run. Will be set to 0, if less than 0;
+	 */
+	public IterativeDeepeningSearchAlgorithm(int startingDepth, int deepnessIncrement, int maximumFrontierNodes) {
 		super();
 		if (startingDepth < 1) startingDepth = 1;
 		this.maximumDepth = startingDepth;
@@ -67,15 +122,44 @@ public class IterativeDeepeningSearchAlgorithm extends DepthFirstSearchAlgorithm
 		this.maximumDepthReached = 1;
 		this.totalConstraintsCheckedYet = 0;
 		this.totalConstraintsCheckedEarlierExecutions = 0;
+		if (maximumFrontierNodes < 0) maximumFrontierNodes = 0;
+		this.maximumFrontierNodes = maximumFrontierNodes;
+		this.choicesTaken = new int[16];
+		this.frontier = new ArrayList<ChoiceSequence>();
+		this.resumedFrontier = new ChoiceSequence[0];
+		this.nextFrontierNode = 0;
+		this.lowestOpenLevel = 0;
+		this.replayedFrontierNode = null;
+		this.pendingReplayLevel = -1;
+		this.frontierNodesResumed = 0L;
+	}
+
+	/**
+	 * Register the metrics of the depth first search, the number of times the algorithm started
+	 * and the maximum search depth reached.
+	 * @param metrics The metrics registry.
+	 */
+	@Override
+	public void registerMetrics(MetricsRegistry metrics) {
+		super.registerMetrics(metrics);
+		metrics.registerGauge("search.timesStarted", () -> this.timesStarted);
+		metrics.registerGauge("search.maximumDepthReached", () -> this.maximumDepthReached);
+		metrics.registerGauge("search.frontierNodes", () -> {
+			List<ChoiceSequence> frontier = this.frontier;
+			return frontier == null ? 0 : frontier.size();
+		});
+		metrics.registerGauge("search.frontierNodesResumed", () -> this.frontierNodesResumed);
 	}
 
 	/**
 	 * Try to track back to the last ChoicePoint thats non jumping branch was not
 	 * yet visited.
 	 *
-	 * The Method is overriden for statistical purposes only. If a level of deepness
-	 * greater than the currently reached maximum depth has been reached, this will
-	 * be saved.
+	 * If a level of deepness greater than the currently reached maximum depth has
+	 * been reached, this will be saved. If there is no choice point at all, the
+	 * maximum depth might have been reached by the very first one. Execution is
+	 * then restarted with a greater maximum depth just like it is after visiting
+	 * all choice points.
 	 *
 	 * @param vm The currently executing SymbolicalVirtualMachine.
 	 * @return true, if tracking back was successful and the execution can be continued, false, if there was no possibility for tracking back and then execution should hence be stopped.
@@ -83,6 +167,7 @@ public class IterativeDeepeningSearchAlgorithm extends DepthFirstSearchAlgorithm
 	@Override
 	public boolean trackBack(SymbolicVirtualMachine vm) {
 		if (this.currentLevelOfDeepness > this.maximumDepthReached) this.maximumDepthReached = this.currentLevelOfDeepness;
+		if (this.currentChoicePoint == null) return trackBackFailed(vm);
 		return super.trackBack(vm);
 	}
 
@@ -94,7 +179,9 @@ public class IterativeDeepeningSearchAlgorithm extends DepthFirstSearchAlgorithm
 	 * However, if there was such an point, increase the maximum depth by the
 	 * deepness increment, increase the number of times started, reset the
 	 * number of visited branches in this run, and reset the execution so
-	 * it will begin from the very first Instruction again.
+	 * it will begin from the very first Instruction again. The frontier nodes
+	 * reached in this run will be resumed one after another. If there were too
+	 * many, the search tree is explored from its root instead.
 	 *
 	 * Make sure, everything is logged for the user information.
 	 *
@@ -125,6 +212,16 @@ public class IterativeDeepeningSearchAlgorithm extends DepthFirstSearchAlgorithm
 			this.currentChoicePoint = null;
 			this.currentLevelOfDeepness = 0;
 
+			// Resume the frontier nodes reached in this run, starting with the first one.
+			if (this.frontier == null) {
+				this.resumedFrontier = new ChoiceSequence[] {ChoiceSequence.ROOT};
+			} else {
+				this.resumedFrontier = this.frontier.toArray(new ChoiceSequence[this.frontier.size()]);
+			}
+			this.frontier = new ArrayList<ChoiceSequence>();
+			this.nextFrontierNode = 0;
+			startReplaying(takeNextFrontierNode());
+
 		    /*
 		     *  Set up a new symbolic virtual machine. This will make sure memory is released
 		     *  and the runtime stack of this application is not increasing with each start.
@@ -160,22 +257,194 @@ public class IterativeDeepeningSearchAlgorithm extends DepthFirstSearchAlgorithm
 	}
 
 	/**
-	 * Recover that state at the ChoicePoint currentChoicePoint. Just invoke the super
-	 * implementation for doing so, but decrease the current level of deepness before
-	 * doing so.
+	 * Choices are replayed until the frontier node resumed has been reached.
+	 *
+	 * @return true, if the frontier node resumed has not yet been reached, false otherwise.
+	 */
+	@Override
+	protected boolean isReplaying() {
+		return this.replayedFrontierNode != null;
+	}
+
+	/**
+	 * Only choice points below the frontier node resumed offer further choices. Above it, a
+	 * choice point only offers another choice if the next frontier node branches off from the
+	 * current path at its level.
+	 *
+	 * @param choicePoint The choice point to check.
+	 * @return true, if the choice point has another choice to visit, false otherwise.
+	 */
+	@Override
+	protected boolean hasAnotherChoice(ChoicePoint choicePoint) {
+		int level = (int) choicePoint.getNumber();
+		if (level >= this.lowestOpenLevel) return choicePoint.hasAnotherChoice();
+		if (this.nextFrontierNode >= this.resumedFrontier.length) return false;
+		return getBranchingLevel(this.resumedFrontier[this.nextFrontierNode]) == level;
+	}
+
+	/**
+	 * Change a choice point to its next choice and count that change.
+	 *
+	 * @param choicePoint The choice point to change.
+	 * @throws MugglException If changing to the next choice fails.
+	 */
+	@Override
+	protected void changeToNextChoice(ChoicePoint choicePoint) throws MugglException {
+		this.choicesTaken[(int) choicePoint.getNumber()]++;
+		super.changeToNextChoice(choicePoint);
+	}
+
+	/**
+	 * Change the current choice point to its next choice. Above the frontier node resumed, tracking
+	 * back has stopped at the level the next frontier node branches off at. The choice point is
+	 * then changed to the choice leading to it.
+	 *
 	 * @param vm The currently executing SymbolicalVirtualMachine.
+	 * @param checkSolvability If set to true, the new constraint system is checked for a solution.
+	 *        Otherwise, it is assumed to be solvable.
+	 * @return true, if execution can be continued with the next choice; false, if switching to it
+	 *         failed or if its constraint system has no solution.
 	 */
 	@Override
-	public void recoverState(SymbolicVirtualMachine vm) {
-		this.currentLevelOfDeepness--;
-		super.recoverState(vm);
+	protected boolean switchToNextChoice(SymbolicVirtualMachine vm, boolean checkSolvability) {
+		int level = (int) this.currentChoicePoint.getNumber();
+		if (level >= this.lowestOpenLevel) return super.switchToNextChoice(vm, checkSolvability);
+
+		startReplaying(takeNextFrontierNode());
+		replayChoices(vm, level);
+		return true;
+	}
+
+	/**
+	 * Get the level a frontier node branches off from the current path at, i.e. the first level
+	 * it takes another choice at.
+	 *
+	 * @param frontierNode The frontier node.
+	 * @return The level the frontier node branches off at.
+	 */
+	private int getBranchingLevel(ChoiceSequence frontierNode) {
+		int level = 0;
+		while (level < frontierNode.length() - 1
+				&& frontierNode.getChoice(level) == this.choicesTaken[level]) {
+			level++;
+		}
+		return level;
 	}
 
 	/**
-	 * Increase the current level of deepness by one. If it gets equal to the
-	 * maximum depth, execution does not continue but the trackback algorithm
-	 * is invoked. Otherwise the depth first implementation is used to generate
-	 * a new choice point.
+	 * Take the next frontier node to resume. It is released from the frontier of the last run, so
+	 * only the frontier nodes not resumed yet are kept in memory.
+	 *
+	 * @return The next frontier node to resume.
+	 */
+	private ChoiceSequence takeNextFrontierNode() {
+		ChoiceSequence frontierNode = this.resumedFrontier[this.nextFrontierNode];
+		this.resumedFrontier[this.nextFrontierNode++] = null;
+		return frontierNode;
+	}
+
+	/**
+	 * Start replaying the choices leading to a frontier node. Choice points above it are not
+	 * visited any further.
+	 *
+	 * @param frontierNode The frontier node.
+	 */
+	private void startReplaying(ChoiceSequence frontierNode) {
+		this.replayedFrontierNode = frontierNode.length() > 0 ? frontierNode : null;
+		this.lowestOpenLevel = frontierNode.length();
+		this.frontierNodesResumed++;
+		if (Globals.getInst().symbolicExecLogger.isTraceEnabled())
+			Globals.getInst().symbolicExecLogger.trace("Resuming the frontier node " + frontierNode + ".");
+	}
+
+	/**
+	 * Replay the choices recorded for a choice point generated by the instruction that has just
+	 * been executed. Replaying has to wait until the instruction has finished, as switching to
+	 * another choice recovers the state of the choice point just like tracking back does.
+	 *
+	 * @param vm The currently executing SymbolicalVirtualMachine.
+	 */
+	public void instructionExecuted(SymbolicVirtualMachine vm) {
+		if (this.pendingReplayLevel != -1) {
+			int level = this.pendingReplayLevel;
+			this.pendingReplayLevel = -1;
+			replayChoices(vm, level);
+		}
+	}
+
+	/**
+	 * Switch the current choice point to the choice recorded for its level by the frontier node
+	 * resumed. The choices have been visited in an earlier run already, so they are replayed.
+	 * Replaying ends once the choice point at the level of the frontier node has been switched.
+	 *
+	 * @param vm The currently executing SymbolicalVirtualMachine.
+	 * @param level The level of the current choice point.
+	 */
+	private void replayChoices(SymbolicVirtualMachine vm, int level) {
+		ChoiceSequence frontierNode = this.replayedFrontierNode;
+		for (int a = this.choicesTaken[level]; a < frontierNode.getChoice(level); a++) {
+			/*
+			 * Switching to a choice not leading to the frontier node might fail. It failed in the
+			 * earlier run as well, and the next choice was tried then, so just continue.
+			 */
+			super.switchToNextChoice(vm, true);
+		}
+		if (level == frontierNode.length() - 1) this.replayedFrontierNode = null;
+	}
+
+	/**
+	 * Check whether a choice point generated next would reach the maximum depth. If it would,
+	 * the current path is added to the frontier. Should this exceed the maximum number of
+	 * frontier nodes, the frontier is dropped.
+	 *
+	 * @return true, if the maximum depth is reached, false otherwise.
+	 */
+	private boolean reachesMaximumDepth() {
+		int pathLength = this.currentChoicePoint == null ? 0 : (int) this.currentChoicePoint.getNumber() + 1;
+		this.currentLevelOfDeepness = pathLength + 1;
+		if (this.currentLevelOfDeepness < this.maximumDepth) return false;
+
+		this.thereWereMorePossibilities = true;
+		if (this.frontier != null) {
+			if (this.frontier.size() < this.maximumFrontierNodes) {
+				this.frontier.add(new ChoiceSequence(this.choicesTaken, pathLength));
+			} else {
+				if (Globals.getInst().symbolicExecLogger.isDebugEnabled())
+					Globals.getInst().symbolicExecLogger.debug("More than " + this.maximumFrontierNodes
+							+ " frontier nodes have been reached. The next run will explore the search tree from its root.");
+				this.frontier = null;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Process a choice point that might just have been generated. If the depth first
+	 * implementation tracked back instead of generating it, nothing is done. Otherwise, its
+	 * changes to the next choice are counted from now on, and the choices recorded for its level
+	 * are replayed once the generating instruction has finished, if the frontier node resumed has
+	 * not yet been reached. As it is replayed, it has not been counted as a visited branch.
+	 *
+	 * @param parent The current choice point before the generation was attempted.
+	 */
+	private void choicePointGenerated(ChoicePoint parent) {
+		ChoicePoint choicePoint = this.currentChoicePoint;
+		if (choicePoint == null || choicePoint == parent || choicePoint.getParent() != parent)
+			return;
+
+		int level = (int) choicePoint.getNumber();
+		if (level >= this.choicesTaken.length)
+			this.choicesTaken = Arrays.copyOf(this.choicesTaken, this.choicesTaken.length * 2);
+		this.choicesTaken[level] = 0;
+
+		if (this.replayedFrontierNode != null) this.pendingReplayLevel = level;
+	}
+
+	/**
+	 * Check whether a new choice point would reach the maximum depth. Its level is the one below
+	 * the current choice point. If the maximum depth is reached, execution does not continue but
+	 * the trackback algorithm is invoked. Otherwise the depth first implementation is used to
+	 * generate a new choice point.
 	 *
 	 * @param vm The currently executing SymbolicalVirtualMachine.
 	 * @param localVariableIndex The index into the local variable table to store the generated
@@ -189,19 +458,42 @@ public class IterativeDeepeningSearchAlgorithm extends DepthFirstSearchAlgorithm
 	public void generateNewChoicePoint(
 			SymbolicVirtualMachine vm, int localVariableIndex, Generator generator
 			) throws ConversionException, SymbolicExecutionException {
-		this.currentLevelOfDeepness++;
-		if (this.currentLevelOfDeepness >= this.maximumDepth) {
-			this.thereWereMorePossibilities = true;
+		ChoicePoint parent = this.currentChoicePoint;
+		if (reachesMaximumDepth()) {
 			trackBack(vm);
 		} else {
 			super.generateNewChoicePoint(vm, localVariableIndex, generator);
+			choicePointGenerated(parent);
+		}
+	}
+
+	/**
+	 * Check whether a new choice point would reach the maximum depth. Its level is the one below
+	 * the current choice point. If the maximum depth is reached, execution does not continue but
+	 * the trackback algorithm is invoked. Otherwise the depth first implementation is used to
+	 * generate a new choice point.
+	 *
+	 * @param vm The currently executing SymbolicalVirtualMachine.
+	 * @param type A String representation of the type.
+	 * @throws SymbolicExecutionException If a type is encountered that no array can be created for.
+	 */
+	@Override
+	public void generateNewChoicePoint(SymbolicVirtualMachine vm, String type)
+			throws SymbolicExecutionException {
+		ChoicePoint parent = this.currentChoicePoint;
+		if (reachesMaximumDepth()) {
+			trackBack(vm);
+		} else {
+			super.generateNewChoicePoint(vm, type);
+			choicePointGenerated(parent);
 		}
 	}
 
 	/**
-	 * Increase the current level of deepness by one. If it gets equal to the maximum depth,
-	 * execution does not continue but the trackback algorithm is invoked. Otherwise the depth first
-	 * implementation is used to generate a new choice point.
+	 * Check whether a new choice point would reach the maximum depth. Its level is the one below
+	 * the current choice point. If the maximum depth is reached, execution does not continue but
+	 * the trackback algorithm is invoked. Otherwise the depth first implementation is used to
+	 * generate a new choice point.
 	 *
 	 * @param vm The currently executing SymbolicalVirtualMachine.
 	 * @param instruction The Instruction generating the ChoicePoint.
@@ -213,19 +505,20 @@ public class IterativeDeepeningSearchAlgorithm extends DepthFirstSearchAlgorithm
 	@Override
 	public void generateNewChoicePoint(SymbolicVirtualMachine vm,
 			GeneralInstructionWithOtherBytes instruction, ConstraintExpression constraintExpression) {
-		this.currentLevelOfDeepness++;
-		if (this.currentLevelOfDeepness >= this.maximumDepth) {
-			this.thereWereMorePossibilities = true;
+		ChoicePoint parent = this.currentChoicePoint;
+		if (reachesMaximumDepth()) {
 			trackBack(vm);
 		} else {
 			super.generateNewChoicePoint(vm, instruction, constraintExpression);
+			choicePointGenerated(parent);
 		}
 	}
 
 	/**
-	 * Increase the current level of deepness by one. If it gets equal to the maximum depth,
-	 * execution does not continue but the trackback algorithm is invoked. Otherwise the depth first
-	 * implementation is used to generate a new choice point.
+	 * Check whether a new choice point would reach the maximum depth. Its level is the one below
+	 * the current choice point. If the maximum depth is reached, execution does not continue but
+	 * the trackback algorithm is invoked. Otherwise the depth first implementation is used to
+	 * generate a new choice point.
 	 *
 	 * @param vm The currently executing SymbolicalVirtualMachine.
 	 * @param instruction The Instruction generating the ChoicePoint.
@@ -241,19 +534,20 @@ public class IterativeDeepeningSearchAlgorithm extends DepthFirstSearchAlgorithm
 	@Override
 	public void generateNewChoicePoint(SymbolicVirtualMachine vm, LCmp instruction,
 			Term leftTerm, Term rightTerm) throws SymbolicExecutionException {
-		this.currentLevelOfDeepness++;
-		if (this.currentLevelOfDeepness >= this.maximumDepth) {
-			this.thereWereMorePossibilities = true;
+		ChoicePoint parent = this.currentChoicePoint;
+		if (reachesMaximumDepth()) {
 			trackBack(vm);
 		} else {
 			super.generateNewChoicePoint(vm, instruction, leftTerm, rightTerm);
+			choicePointGenerated(parent);
 		}
 	}
 
 	/**
-	 * Increase the current level of deepness by one. If it gets equal to the maximum depth,
-	 * execution does not continue but the trackback algorithm is invoked. Otherwise the depth first
-	 * implementation is used to generate a new choice point.
+	 * Check whether a new choice point would reach the maximum depth. Its level is the one below
+	 * the current choice point. If the maximum depth is reached, execution does not continue but
+	 * the trackback algorithm is invoked. Otherwise the depth first implementation is used to
+	 * generate a new choice point.
 	 *
 	 * @param vm The currently executing SymbolicalVirtualMachine.
 	 * @param instruction The Instruction generating the ChoicePoint.
@@ -271,19 +565,20 @@ public class IterativeDeepeningSearchAlgorithm extends DepthFirstSearchAlgorithm
 	@Override
 	public void generateNewChoicePoint(SymbolicVirtualMachine vm, CompareFp instruction,
 			boolean less, Term leftTerm, Term rightTerm) throws SymbolicExecutionException {
-		this.currentLevelOfDeepness++;
-		if (this.currentLevelOfDeepness >= this.maximumDepth) {
-			this.thereWereMorePossibilities = true;
+		ChoicePoint parent = this.currentChoicePoint;
+		if (reachesMaximumDepth()) {
 			trackBack(vm);
 		} else {
 			super.generateNewChoicePoint(vm, instruction, less, leftTerm, rightTerm);
+			choicePointGenerated(parent);
 		}
 	}
 
 	/**
-	 * Increase the current level of deepness by one. If it gets equal to the maximum depth,
-	 * execution does not continue but the trackback algorithm is invoked. Otherwise the depth first
-	 * implementation is used to generate a new choice point.
+	 * Check whether a new choice point would reach the maximum depth. Its level is the one below
+	 * the current choice point. If the maximum depth is reached, execution does not continue but
+	 * the trackback algorithm is invoked. Otherwise the depth first implementation is used to
+	 * generate a new choice point.
 	 *
 	 * @param vm The currently executing SymbolicalVirtualMachine.
 	 * @param instruction The Instruction generating the ChoicePoint.
@@ -308,12 +603,12 @@ public class IterativeDeepeningSearchAlgorithm extends DepthFirstSearchAlgorithm
 	public void generateNewChoicePoint(SymbolicVirtualMachine vm, Switch instruction, Term termFromStack,
 			IntConstant[] keys, int[] pcs, IntConstant low, IntConstant high)
 			throws SymbolicExecutionException {
-		this.currentLevelOfDeepness++;
-		if (this.currentLevelOfDeepness >= this.maximumDepth) {
-			this.thereWereMorePossibilities = true;
+		ChoicePoint parent = this.currentChoicePoint;
+		if (reachesMaximumDepth()) {
 			trackBack(vm);
 		} else {
 			super.generateNewChoicePoint(vm, instruction, termFromStack, keys, pcs, low, high);
+			choicePointGenerated(parent);
 		}
 	}
 
@@ -342,7 +637,7 @@ public class IterativeDeepeningSearchAlgorithm extends DepthFirstSearchAlgorithm
 	 */
 	@Override
 	public String[][] getStatisticalInformation() {
-		String[][] statistics = new String[5][2];
+		String[][] statistics = new String[6][2];
 		statistics[0][0] = "Number of visited branches (this run):\t";
 		statistics[0][1] = Long.valueOf(this.numberOfVisitedBranches).toString();
 		statistics[1][0] = "Number of times started:\t\t\t\t\t";
@@ -358,6 +653,8 @@ public class IterativeDeepeningSearchAlgorithm extends DepthFirstSearchAlgorithm
 		}
 		statistics[4][0] = "# of constraints checked total:\t\t\t";
 		statistics[4][1] = Long.valueOf(this.totalConstraintsCheckedYet).toString();
+		statistics[5][0] = "Number of frontier nodes resumed:\t\t";
+		statistics[5][1] = Long.valueOf(this.frontierNodesResumed).toString();
 		return statistics;
 	}
 }
@@ -0,0 +1,370 @@
+package de.wwu.muggl.symbolic.searchAlgorithms.parallel;
+
+import java.util.Arrays;
+
+import de.wwu.muggl.configuration.Globals;
+import de.wwu.muggl.configuration.MugglException;
+import de.wwu.muggl.instructions.bytecode.LCmp;
+import de.wwu.muggl.instructions.general.CompareFp;
+import de.wwu.muggl.instructions.general.GeneralInstructionWithOtherBytes;
+import de.wwu.muggl.instructions.general.Switch;
+import de.wwu.muggl.symbolic.generating.Generator;
+import de.wwu.muggl.symbolic.searchAlgorithms.choice.ChoicePoint;
+import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.DepthFirstSearchAlgorithm;
+import de.wwu.muggl.symbolic.searchAlgorithms.support.ChoiceSequence;
+import de.wwu.muggl.vm.execution.ConversionException;
+import de.wwu.muggl.vm.impl.symbolic.SymbolicExecutionException;
+import de.wwu.muggl.vm.impl.symbolic.SymbolicVirtualMachine;
+import de.wwu.muggl.solvers.expressions.ConstraintExpression;
+import de.wwu.muggl.solvers.expressions.IntConstant;
+import de.wwu.muggl.solvers.expressions.Term;
+
+/**
+ * This class implements the depth first search algorithm used by a single worker of a parallel
+ * symbolic execution.<br />
+ * <br />
+ * Each worker explores the subtree of the search tree identified by a {@link ChoiceSequence}.
+ * Execution starts from the very first instruction. Until the root of the subtree has been
+ * reached, the algorithm replays: Whenever a choice point is generated on a level covered by the
+ * sequence, it is switched to the recorded choice as soon as the generating instruction has
+ * finished. The branches replayed have already been visited by the worker that donated the
+ * subtree, so they are neither counted nor checked by the solver. Choice points above the root of
+ * the subtree are treated as if they had no more choices, so the worker never leaves its subtree
+ * when tracking back.<br />
+ * <br />
+ * If the shared {@link SearchFrontier} is hungry, the worker donates the topmost part of its
+ * subtree it has not yet explored: the remaining choices of the topmost choice point that still
+ * offers another one. From then on, this choice point is treated as if it had no more choices.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+public class ParallelDepthFirstSearchAlgorithm extends DepthFirstSearchAlgorithm {
+	// The frontier shared by all workers.
+	private final SearchFrontier frontier;
+
+	// The subtree explored.
+	private final ChoiceSequence subtree;
+	private boolean replaying;
+	private int pendingReplayLevel;
+
+	// Choice points above this level are not visited any further.
+	private int lowestOpenLevel;
+
+	// The number of changes to the next choice for the choice points on the current path.
+	private int[] choicesTaken;
+
+	// Statistical information.
+	private long subtreesDonated;
+
+	/**
+	 * Instantiate the parallel depth first search algorithm.
+	 *
+	 * @param frontier The frontier shared by all workers.
+	 * @param subtree The choice sequence identifying the root of the subtree to explore.
+	 */
+	public ParallelDepthFirstSearchAlgorithm(SearchFrontier frontier, ChoiceSequence subtree) {
+		super();
+		this.frontier = frontier;
+		this.subtree = subtree;
+		this.replaying = subtree.length() > 0;
+		this.pendingReplayLevel = -1;
+		this.lowestOpenLevel = Math.max(0, subtree.length() - 1);
+		this.choicesTaken = new int[Math.max(16, subtree.length())];
+		this.subtreesDonated = 0L;
+	}
+
+	/**
+	 * Choices are replayed until the root of the subtree has been reached.
+	 *
+	 * @return true, if the root of the subtree has not yet been reached, false otherwise.
+	 */
+	@Override
+	protected boolean isReplaying() {
+		return this.replaying;
+	}
+
+	/**
+	 * Only choice points within the explored subtree that have not been donated offer further
+	 * choices.
+	 *
+	 * @param choicePoint The choice point to check.
+	 * @return true, if the choice point has another choice to visit, false otherwise.
+	 */
+	@Override
+	protected boolean hasAnotherChoice(ChoicePoint choicePoint) {
+		return choicePoint.getNumber() >= this.lowestOpenLevel && choicePoint.hasAnotherChoice();
+	}
+
+	/**
+	 * Change a choice point to its next choice and count that change.
+	 *
+	 * @param choicePoint The choice point to change.
+	 * @throws MugglException If changing to the next choice fails.
+	 */
+	@Override
+	protected void changeToNextChoice(ChoicePoint choicePoint) throws MugglException {
+		this.choicesTaken[(int) choicePoint.getNumber()]++;
+		super.changeToNextChoice(choicePoint);
+	}
+
+	/**
+	 * The subtree has been explored completely. Make sure the virtual machine does not continue
+	 * execution, as tracking back might have been started while executing an instruction.
+	 *
+	 * @param vm The currently executing SymbolicalVirtualMachine.
+	 * @return false in any case.
+	 */
+	@Override
+	protected boolean trackBackFailed(SymbolicVirtualMachine vm) {
+		if (Globals.getInst().symbolicExecLogger.isTraceEnabled())
+			Globals.getInst().symbolicExecLogger.trace("Finished exploring the subtree " + this.subtree
+					+ ". Visited " + this.numberOfVisitedBranches + " branches and donated "
+					+ this.subtreesDonated + " subtrees.");
+		vm.abortExecution();
+		return false;
+	}
+
+	/**
+	 * Generate a new choice point using the depth first implementation, then replay the recorded
+	 * choice or donate work if required.
+	 *
+	 * @param vm The currently executing SymbolicalVirtualMachine.
+	 * @param localVariableIndex The index into the local variable table to store the generated
+	 *        array at.
+	 * @param generator A variable Generator. May be null to indicate no custom variable generator
+	 *        is used.
+	 * @throws ConversionException If converting the first provided object failed.
+	 * @throws SymbolicExecutionException If a type is encountered that no array can be created for.
+	 */
+	@Override
+	public void generateNewChoicePoint(SymbolicVirtualMachine vm, int localVariableIndex,
+			Generator generator) throws ConversionException, SymbolicExecutionException {
+		ChoicePoint parent = this.currentChoicePoint;
+		super.generateNewChoicePoint(vm, localVariableIndex, generator);
+		choicePointGenerated(parent);
+	}
+
+	/**
+	 * Generate a new choice point using the depth first implementation, then replay the recorded
+	 * choice or donate work if required.
+	 *
+	 * @param vm The currently executing SymbolicalVirtualMachine.
+	 * @param type A String representation of the type.
+	 * @throws SymbolicExecutionException If a type is encountered that no array can be created for.
+	 */
+	@Override
+	public void generateNewChoicePoint(SymbolicVirtualMachine vm, String type)
+			throws SymbolicExecutionException {
+		ChoicePoint parent = this.currentChoicePoint;
+		super.generateNewChoicePoint(vm, type);
+		choicePointGenerated(parent);
+	}
+
+	/**
+	 * Generate a new choice point using the depth first implementation, then replay the recorded
+	 * choice or donate work if required.
+	 *
+	 * @param vm The currently executing SymbolicalVirtualMachine.
+	 * @param instruction The Instruction generating the ChoicePoint.
+	 * @param constraintExpression The ConstraintExpression describing the choice at this
+	 *        conditional jump Instruction.
+	 */
+	@Override
+	public void generateNewChoicePoint(SymbolicVirtualMachine vm,
+			GeneralInstructionWithOtherBytes instruction, ConstraintExpression constraintExpression) {
+		ChoicePoint parent = this.currentChoicePoint;
+		super.generateNewChoicePoint(vm, instruction, constraintExpression);
+		choicePointGenerated(parent);
+	}
+
+	/**
+	 * Generate a new choice point using the depth first implementation, then replay the recorded
+	 * choice or donate work if required.
+	 *
+	 * @param vm The currently executing SymbolicalVirtualMachine.
+	 * @param instruction The Instruction generating the ChoicePoint.
+	 * @param leftTerm The term of long variables and constants of the left hand side of the
+	 *        comparison.
+	 * @param rightTerm The term of long variables and constants of the right hand side of the
+	 *        comparison.
+	 * @throws SymbolicExecutionException If an Exception is thrown during the choice point
+	 *         generation.
+	 */
+	@Override
+	public void generateNewChoicePoint(SymbolicVirtualMachine vm, LCmp instruction, Term leftTerm,
+			Term rightTerm) throws SymbolicExecutionException {
+		ChoicePoint parent = this.currentChoicePoint;
+		super.generateNewChoicePoint(vm, instruction, leftTerm, rightTerm);
+		choicePointGenerated(parent);
+	}
+
+	/**
+	 * Generate a new choice point using the depth first implementation, then replay the recorded
+	 * choice or donate work if required.
+	 *
+	 * @param vm The currently executing SymbolicalVirtualMachine.
+	 * @param instruction The Instruction generating the ChoicePoint.
+	 * @param less If set to true, the choice point will have the behaviour of dcmpl / fcmpl;
+	 *        otherwise, it will behave like dcmpg / fcmpg.
+	 * @param leftTerm The term of long variables and constants of the left hand side of the
+	 *        comparison.
+	 * @param rightTerm The term of long variables and constants of the right hand side of the
+	 *        comparison.
+	 * @throws SymbolicExecutionException If an Exception is thrown during the choice point
+	 *         generation.
+	 */
+	@Override
+	public void generateNewChoicePoint(SymbolicVirtualMachine vm, CompareFp instruction,
+			boolean less, Term leftTerm, Term rightTerm) throws SymbolicExecutionException {
+		ChoicePoint parent = this.currentChoicePoint;
+		super.generateNewChoicePoint(vm, instruction, less, leftTerm, rightTerm);
+		choicePointGenerated(parent);
+	}
+
+	/**
+	 * Generate a new choice point using the depth first implementation, then replay the recorded
+	 * choice or donate work if required.
+	 *
+	 * @param vm The currently executing SymbolicalVirtualMachine.
+	 * @param instruction The Instruction generating the ChoicePoint.
+	 * @param termFromStack The term term that was on top of the stack. Using the non symbolic
+	 *        execution, this would be the key for the switch.
+	 * @param keys The possible keys.
+	 * @param pcs The possible jump targets.
+	 * @param low The "low" boundary of the tableswitch instruction; or null, if the choice point is
+	 *        generated for a lookupswitch instruction.
+	 * @param high The "high" boundary of the tableswitch instruction; or null, if the choice point
+	 *        is generated for a lookupswitch instruction.
+	 * @throws SymbolicExecutionException If an Exception is thrown during the choice point
+	 *         generation.
+	 */
+	@Override
+	public void generateNewChoicePoint(SymbolicVirtualMachine vm, Switch instruction,
+			Term termFromStack, IntConstant[] keys, int[] pcs, IntConstant low, IntConstant high)
+			throws SymbolicExecutionException {
+		ChoicePoint parent = this.currentChoicePoint;
+		super.generateNewChoicePoint(vm, instruction, termFromStack, keys, pcs, low, high);
+		choicePointGenerated(parent);
+	}
+
+	/**
+	 * Process a choice point that might just have been generated. If the depth first
+	 * implementation tracked back instead of generating it, nothing is done. Otherwise, the
+	 * choices recorded for its level are replayed once the generating instruction has finished,
+	 * if the root of the subtree has not yet been reached. If it has, work is donated should the
+	 * frontier be hungry.
+	 *
+	 * @param parent The current choice point before the generation was attempted.
+	 */
+	private void choicePointGenerated(ChoicePoint parent) {
+		ChoicePoint choicePoint = this.currentChoicePoint;
+		if (choicePoint == null || choicePoint == parent || choicePoint.getParent() != parent)
+			return;
+
+		int level = (int) choicePoint.getNumber();
+		if (level >= this.choicesTaken.length)
+			this.choicesTaken = Arrays.copyOf(this.choicesTaken, this.choicesTaken.length * 2);
+		this.choicesTaken[level] = 0;
+
+		if (this.replaying) {
+			this.pendingReplayLevel = level;
+		} else if (this.frontier.isHungry()) {
+			donateSubtree();
+		}
+	}
+
+	/**
+	 * Replay the choices recorded for a choice point generated by the instruction that has just
+	 * been executed. Replaying has to wait until the instruction has finished, as switching to
+	 * another choice recovers the state of the choice point just like tracking back does.
+	 *
+	 * @param vm The currently executing SymbolicalVirtualMachine.
+	 */
+	public void instructionExecuted(SymbolicVirtualMachine vm) {
+		if (this.pendingReplayLevel != -1) {
+			int level = this.pendingReplayLevel;
+			this.pendingReplayLevel = -1;
+			replayChoices(vm, level);
+		}
+	}
+
+	/**
+	 * Switch the current choice point to the choice recorded for its level. Choices leading to
+	 * the root of the subtree are replayed. The root choice itself has been donated before being
+	 * visited, so replaying ends with it: It is counted and solved as if tracking back to it.
+	 *
+	 * @param vm The currently executing SymbolicalVirtualMachine.
+	 * @param level The level of the current choice point.
+	 */
+	private void replayChoices(SymbolicVirtualMachine vm, int level) {
+		int choices = this.subtree.getChoice(level);
+		boolean isRoot = level == this.subtree.length() - 1;
+		for (int a = 0; a < choices; a++) {
+			if (isRoot && a == choices - 1) {
+				this.replaying = false;
+				// The donated choice cannot be visited. Continue with the remaining ones.
+				if (!switchToNextChoice(vm, true)) trackBack(vm);
+				return;
+			}
+			/*
+			 * Should switching fail, it failed for the donating worker as well. It then simply
+			 * tried the next choice, which is also recorded.
+			 */
+			switchToNextChoice(vm, true);
+		}
+	}
+
+	/**
+	 * Donate the remaining choices of the topmost choice point of the current path that still
+	 * offers another choice. They are offered to the frontier, and the choice point is not
+	 * visited any further by this algorithm.
+	 */
+	private void donateSubtree() {
+		ChoicePoint candidate = null;
+		for (ChoicePoint choicePoint = this.currentChoicePoint; choicePoint != null
+				&& choicePoint.getNumber() >= this.lowestOpenLevel; choicePoint = choicePoint.getParent()) {
+			if (choicePoint.hasAnotherChoice()) candidate = choicePoint;
+		}
+		if (candidate == null) return;
+
+		int level = (int) candidate.getNumber();
+		int[] choices = Arrays.copyOf(this.choicesTaken, level + 1);
+		choices[level]++;
+		this.lowestOpenLevel = level + 1;
+		this.subtreesDonated++;
+		ChoiceSequence donatedSubtree = new ChoiceSequence(choices);
+		this.frontier.offer(donatedSubtree);
+		if (Globals.getInst().symbolicExecLogger.isTraceEnabled())
+			Globals.getInst().symbolicExecLogger.trace("Donated the subtree " + donatedSubtree + ".");
+	}
+
+	/**
+	 * Getter for the number of branches visited.
+	 *
+	 * @return The number of branches visited.
+	 */
+	public long getNumberOfVisitedBranches() {
+		return this.numberOfVisitedBranches;
+	}
+
+	/**
+	 * Getter for the number of subtrees donated to the frontier.
+	 *
+	 * @return The number of subtrees donated.
+	 */
+	public long getSubtreesDonated() {
+		return this.subtreesDonated;
+	}
+
+	/**
+	 * Return a String representation of this search algorithms name.
+	 *
+	 * @return A String representation of this search algorithms name.
+	 */
+	@Override
+	public String getName() {
+		return "parallel depth first";
+	}
+
+}
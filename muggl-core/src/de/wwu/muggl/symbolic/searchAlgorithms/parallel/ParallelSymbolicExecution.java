@@ -0,0 +1,331 @@
+package de.wwu.muggl.symbolic.searchAlgorithms.parallel;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.apache.log4j.Level;
+
+import de.wwu.muggl.configuration.Globals;
+import de.wwu.muggl.instructions.InvalidInstructionInitialisationException;
+import de.wwu.muggl.symbolic.flow.coverage.DUCoverage;
+import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.DepthFirstSearchAlgorithm;
+import de.wwu.muggl.symbolic.searchAlgorithms.support.ChoiceSequence;
+import de.wwu.muggl.symbolic.testCases.SolutionProcessor;
+import de.wwu.muggl.symbolic.testCases.TestCaseSolution;
+import de.wwu.muggl.vm.classfile.ClassFile;
+import de.wwu.muggl.vm.classfile.ClassFileException;
+import de.wwu.muggl.vm.classfile.structures.Method;
+import de.wwu.muggl.vm.execution.ConversionException;
+import de.wwu.muggl.vm.execution.ExecutionException;
+import de.wwu.muggl.vm.impl.symbolic.SymbolicVirtualMachine;
+import de.wwu.muggl.vm.initialization.InitializationException;
+import de.wwu.muggl.vm.loading.MugglClassLoader;
+
+/**
+ * Coordinates the parallel symbolic execution on behalf of a symbolic virtual machine. A number
+ * of worker threads take subtrees of the search tree from a shared {@link SearchFrontier} and
+ * explore them using a {@link ParallelDepthFirstSearchAlgorithm}.<br />
+ * <br />
+ * Classes, their static fields and the variables generated for the initial method are part of
+ * the state of the class loader. Each subtree is therefore explored by a fresh symbolic virtual
+ * machine with a fresh class loader, which replays the choices leading to the root of the subtree
+ * from the very first instruction. Nothing is kept from one subtree to the next, so the solutions
+ * found do not depend on which worker explored which subtrees before. Once a subtree has been
+ * explored, the solutions found are imported into the solution processor of the coordinating
+ * virtual machine. Their coverage information is translated to the methods of the coordinating
+ * virtual machine's class loader on the fly.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+public class ParallelSymbolicExecution {
+	// The coordinating virtual machine.
+	private final SymbolicVirtualMachine vm;
+
+	// Fields for the workers.
+	private final int numberOfWorkers;
+	private final SearchFrontier frontier;
+	private volatile boolean aborted;
+	private Throwable failure;
+
+	// Methods of the workers' class loaders mapped to those of the coordinating one.
+	private final Map<Method, Method> methodMapping;
+
+	/**
+	 * Initialize the parallel execution.
+	 *
+	 * @param vm The coordinating symbolic virtual machine.
+	 * @param numberOfWorkers The number of workers to run simultaneously.
+	 * @throws IllegalArgumentException If numberOfWorkers is less than one.
+	 * @throws NullPointerException If vm is null.
+	 */
+	public ParallelSymbolicExecution(SymbolicVirtualMachine vm, int numberOfWorkers) {
+		if (vm == null) throw new NullPointerException("The SymbolicalVirtualMachine supplied must not be null.");
+		this.vm = vm;
+		this.numberOfWorkers = numberOfWorkers;
+		this.frontier = new SearchFrontier(numberOfWorkers);
+		this.aborted = false;
+		this.failure = null;
+		this.methodMapping = new HashMap<Method, Method>();
+	}
+
+	/**
+	 * Run the workers and wait for them to explore the search tree completely. Solutions found are
+	 * imported into the solution processor of the coordinating virtual machine.
+	 *
+	 * @throws ExecutionException If a worker failed with an ExecutionException or any unexpected
+	 *         exception.
+	 * @throws InterruptedException If the coordinating virtual machine is interrupted while waiting
+	 *         for the workers.
+	 * @throws InvalidInstructionInitialisationException If a worker failed with an
+	 *         InvalidInstructionInitialisationException.
+	 */
+	public void execute() throws ExecutionException, InterruptedException,
+			InvalidInstructionInitialisationException {
+		if (Globals.getInst().symbolicExecLogger.isInfoEnabled())
+			Globals.getInst().symbolicExecLogger.info("Starting the parallel symbolic execution with "
+					+ this.numberOfWorkers + " workers.");
+
+		// Start the workers.
+		Thread[] workers = new Thread[this.numberOfWorkers];
+		for (int a = 0; a < this.numberOfWorkers; a++) {
+			workers[a] = new Thread(new Worker(), "Muggl SJVM worker #" + a);
+			workers[a].start();
+		}
+
+		// Wait for them to finish.
+		try {
+			for (Thread worker : workers) {
+				worker.join();
+			}
+		} catch (InterruptedException e) {
+			abort();
+			for (Thread worker : workers) {
+				worker.join();
+			}
+			throw e;
+		}
+
+		if (Globals.getInst().symbolicExecLogger.isInfoEnabled())
+			Globals.getInst().symbolicExecLogger.info("The parallel symbolic execution finished. "
+					+ this.frontier.getSubtreesOffered() + " subtrees have been explored.");
+
+		// Did any worker fail?
+		if (this.failure != null) {
+			if (this.failure instanceof Error) throw (Error) this.failure;
+			if (this.failure instanceof ExecutionException) throw (ExecutionException) this.failure;
+			if (this.failure instanceof InvalidInstructionInitialisationException)
+				throw (InvalidInstructionInitialisationException) this.failure;
+			throw new ExecutionException("A worker of the parallel symbolic execution failed with a "
+					+ this.failure.getClass().getName() + ": " + this.failure.getMessage());
+		}
+	}
+
+	/**
+	 * Abort the parallel execution. Workers stop at the next instruction, subtrees not yet
+	 * explored are dropped.
+	 */
+	public void abort() {
+		this.aborted = true;
+		this.frontier.close();
+	}
+
+	/**
+	 * Check whether the parallel execution has been aborted.
+	 *
+	 * @return true, if the parallel execution has been aborted, false otherwise.
+	 */
+	public boolean isAborted() {
+		return this.aborted;
+	}
+
+	/**
+	 * Record the failure of a worker and abort the parallel execution. Only the first failure is
+	 * kept.
+	 *
+	 * @param throwable The cause of the failure.
+	 */
+	private synchronized void fail(Throwable throwable) {
+		if (this.failure == null) {
+			this.failure = throwable;
+			if (Globals.getInst().symbolicExecLogger.isEnabledFor(Level.ERROR))
+				Globals.getInst().symbolicExecLogger.error("A worker of the parallel symbolic execution failed with a "
+						+ throwable.getClass().getName() + ": " + throwable.getMessage());
+		}
+		abort();
+	}
+
+	/**
+	 * Import the results of a worker's virtual machine that has finished exploring its subtree.
+	 * The coverage of its solutions is translated to the methods of the coordinating virtual
+	 * machine.
+	 *
+	 * @param workerVm The worker's symbolic virtual machine.
+	 * @param searchAlgorithm The worker's search algorithm.
+	 * @throws ClassFileException If a class cannot be loaded by the coordinating class loader.
+	 */
+	private synchronized void importResults(SymbolicVirtualMachine workerVm,
+			ParallelDepthFirstSearchAlgorithm searchAlgorithm) throws ClassFileException {
+		SolutionProcessor solutionProcessor = this.vm.getSolutionProcessor();
+		DUCoverage workerDUCoverage = workerVm.getCoverageController().getDUCoverage();
+		TestCaseSolution solution = workerVm.getSolutionProcessor().getFirstSolution();
+		while (solution != null) {
+			solutionProcessor.importSolution(solution,
+					translateControlFlowCoverage(solution.getCFCoverageMap()),
+					translateDUCoverage(solution.getDUCoverage(), workerDUCoverage));
+			solution = solution.getSuccessor();
+		}
+
+		// Import statistical information.
+		this.vm.importExecutionStatistics(workerVm);
+		((DepthFirstSearchAlgorithm) this.vm.getSearchAlgorithm()).importStatisticalInformation(
+				searchAlgorithm.getNumberOfVisitedBranches(),
+				workerVm.getNumberOfConstraintsChecked());
+
+		// Did the worker match an abortion criterion?
+		if (workerVm.getAbortionCriterionMatched()) {
+			this.vm.setAbortionCriterionMatched(true);
+			this.vm.setAbortionCriterionMatchedMessage(workerVm.getAbortionCriterionMatchedMessage());
+			abort();
+		}
+	}
+
+	/**
+	 * Translate the control flow coverage of a worker's solution to the methods of the
+	 * coordinating virtual machine.
+	 *
+	 * @param controlFlowCoverageMapping The mapping of the worker's methods and arrays of boolean
+	 *        values indicating which control graph edges have been covered.
+	 * @return The translated mapping.
+	 * @throws ClassFileException If a class cannot be loaded by the coordinating class loader.
+	 */
+	private Map<Method, boolean[]> translateControlFlowCoverage(
+			Map<Method, boolean[]> controlFlowCoverageMapping) throws ClassFileException {
+		Map<Method, boolean[]> translated = new HashMap<Method, boolean[]>();
+		for (Entry<Method, boolean[]> entry : controlFlowCoverageMapping.entrySet()) {
+			translated.put(translateMethod(entry.getKey()), entry.getValue());
+		}
+		return translated;
+	}
+
+	/**
+	 * Translate the def-use coverage of a worker's solution to the def-use chains of the
+	 * coordinating virtual machine. The def-use chains of each method are the same in both, but
+	 * the methods might be ordered differently.
+	 *
+	 * @param dUCoverage An array of boolean values indicating which of the worker's def-use chains
+	 *        have been covered.
+	 * @param workerDUCoverage The worker's def-use coverage tracking. May be null.
+	 * @return The translated array of boolean values.
+	 * @throws ClassFileException If a class cannot be loaded by the coordinating class loader.
+	 */
+	private boolean[] translateDUCoverage(boolean[] dUCoverage, DUCoverage workerDUCoverage)
+			throws ClassFileException {
+		DUCoverage dUCoverageTracking = this.vm.getCoverageController().getDUCoverage();
+		if (workerDUCoverage == null || dUCoverageTracking == null) return dUCoverage;
+
+		boolean[] translated = new boolean[dUCoverageTracking.getCoverage().length];
+		for (Method method : workerDUCoverage.getTrackedMethods()) {
+			int index = dUCoverageTracking.getFirstChainIndex(translateMethod(method));
+			if (index == -1) continue;
+			System.arraycopy(dUCoverage, workerDUCoverage.getFirstChainIndex(method), translated,
+					index, workerDUCoverage.getNumberOfChains(method));
+		}
+		return translated;
+	}
+
+	/**
+	 * Get the method of the coordinating virtual machine's class loader that corresponds to a
+	 * method of a worker's class loader.
+	 *
+	 * @param method The worker's method.
+	 * @return The corresponding method; or the worker's method, if there is none.
+	 * @throws ClassFileException If the class cannot be loaded by the coordinating class loader.
+	 */
+	private Method translateMethod(Method method) throws ClassFileException {
+		Method translated = this.methodMapping.get(method);
+		if (translated == null) {
+			ClassFile classFile = this.vm.getClassLoader().getClassAsClassFile(
+					method.getClassFile().getName());
+			translated = classFile.getMethodByNameAndDescriptorOrNull(method.getName(),
+					method.getDescriptor());
+			if (translated == null) translated = method;
+			this.methodMapping.put(method, translated);
+		}
+		return translated;
+	}
+
+	/**
+	 * A worker takes subtrees from the frontier and explores them until the frontier is empty or
+	 * closed.
+	 */
+	private class Worker implements Runnable {
+
+		/**
+		 * Explore subtrees until there are no more.
+		 */
+		@Override
+		public void run() {
+			try {
+				ChoiceSequence subtree;
+				while ((subtree = ParallelSymbolicExecution.this.frontier.take()) != null) {
+					explore(subtree);
+				}
+			} catch (Throwable t) {
+				fail(t);
+			}
+		}
+
+		/**
+		 * Explore a subtree using a fresh class loader and a fresh symbolic virtual machine. The
+		 * class loader is released afterwards.
+		 *
+		 * @param subtree The choice sequence identifying the root of the subtree.
+		 * @throws ClassFileException If a class cannot be loaded.
+		 * @throws ConversionException If a predefined array parameter cannot be converted.
+		 * @throws ExecutionException On any fatal errors during execution.
+		 * @throws InitializationException If the symbolic virtual machine cannot be initialized.
+		 * @throws InvalidInstructionInitialisationException On any fatal problems with the parsing
+		 *         and the initialization of instructions.
+		 */
+		private void explore(ChoiceSequence subtree) throws ClassFileException, ConversionException,
+				ExecutionException, InitializationException, InvalidInstructionInitialisationException {
+			// Closing the class loader keeps the jar files open that the coordinating one uses.
+			try (MugglClassLoader classLoader = new MugglClassLoader(
+					ParallelSymbolicExecution.this.vm.getClassLoader().getClassPathEntries())) {
+				// Set up the initial method.
+				Method masterMethod = ParallelSymbolicExecution.this.vm.getInitialMethod();
+				ClassFile classFile = classLoader.getClassAsClassFile(
+						ParallelSymbolicExecution.this.vm.getClassFile().getName());
+				Method initialMethod = classFile.getMethodByNameAndDescriptor(
+						masterMethod.getName(), masterMethod.getDescriptor());
+				initialMethod.setPredefinedParameters(masterMethod.getPredefinedParameters());
+				for (int a = 0; a < masterMethod.getNumberOfArguments(); a++) {
+					initialMethod.setGeneratorProvider(a, masterMethod.getGeneratorProvider(a));
+					initialMethod.setArrayElementsGeneratorProvider(a,
+							masterMethod.getArrayElementsGeneratorProvider(a));
+				}
+
+				// Explore the subtree.
+				ParallelDepthFirstSearchAlgorithm searchAlgorithm = new ParallelDepthFirstSearchAlgorithm(
+						ParallelSymbolicExecution.this.frontier, subtree);
+				SymbolicVirtualMachine workerVm = new SymbolicVirtualMachine(
+						ParallelSymbolicExecution.this.vm, ParallelSymbolicExecution.this,
+						classLoader, classFile, initialMethod, searchAlgorithm);
+				try {
+					workerVm.executeAsParallelWorker();
+				} catch (InterruptedException e) {
+					/*
+					 * The parallel execution has been aborted. Solutions found so far are valid, so
+					 * they are imported nonetheless.
+					 */
+				}
+				importResults(workerVm, searchAlgorithm);
+				workerVm.shutdown();
+			}
+		}
+
+	}
+
+}
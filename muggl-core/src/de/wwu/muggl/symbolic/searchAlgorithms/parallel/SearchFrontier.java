@@ -0,0 +1,124 @@
+package de.wwu.muggl.symbolic.searchAlgorithms.parallel;
+
+import java.util.ArrayDeque;
+
+import de.wwu.muggl.symbolic.searchAlgorithms.support.ChoiceSequence;
+
+/**
+ * The SearchFrontier is shared by the workers of a parallel symbolic execution. It holds the roots
+ * of the subtrees of the search tree that have not yet been explored by any worker.<br />
+ * <br />
+ * Workers take a subtree from the frontier, explore it depth first and take the next one once
+ * they are finished. Idle workers make the frontier hungry. Working workers check this from time
+ * to time and donate the topmost unexplored part of their own subtree if it is. The exploration
+ * is finished when all workers wait for work and the frontier is empty.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+public class SearchFrontier {
+	// The roots of the unexplored subtrees.
+	private final ArrayDeque<ChoiceSequence> subtrees;
+
+	// Fields to keep track of the workers.
+	private final int numberOfWorkers;
+	private int waitingWorkers;
+	private volatile boolean hungry;
+	private boolean closed;
+
+	// Statistical information.
+	private long subtreesOffered;
+
+	/**
+	 * Initialize the frontier. It initially holds the root of the search tree.
+	 *
+	 * @param numberOfWorkers The number of workers that take work from this frontier.
+	 * @throws IllegalArgumentException If numberOfWorkers is less than one.
+	 */
+	public SearchFrontier(int numberOfWorkers) {
+		if (numberOfWorkers < 1)
+			throw new IllegalArgumentException("At least one worker is required.");
+		this.subtrees = new ArrayDeque<ChoiceSequence>();
+		this.subtrees.add(ChoiceSequence.ROOT);
+		this.numberOfWorkers = numberOfWorkers;
+		this.waitingWorkers = 0;
+		this.hungry = false;
+		this.closed = false;
+		this.subtreesOffered = 1L;
+	}
+
+	/**
+	 * Offer the root of an unexplored subtree. It will be taken by the next idle worker.
+	 *
+	 * @param subtree The choice sequence identifying the root of the subtree.
+	 */
+	public synchronized void offer(ChoiceSequence subtree) {
+		if (this.closed) return;
+		this.subtrees.addLast(subtree);
+		this.subtreesOffered++;
+		this.hungry = this.waitingWorkers > this.subtrees.size();
+		notifyAll();
+	}
+
+	/**
+	 * Take the root of an unexplored subtree. If there is none, wait until another worker offers
+	 * one. If all other workers wait as well, the search tree has been explored completely and
+	 * null is returned.
+	 *
+	 * @return The choice sequence identifying the root of the subtree; or null, if there is no more
+	 *         work or the frontier has been closed.
+	 * @throws InterruptedException If the worker is interrupted while waiting.
+	 */
+	public synchronized ChoiceSequence take() throws InterruptedException {
+		this.waitingWorkers++;
+		try {
+			while (this.subtrees.isEmpty() && !this.closed) {
+				if (this.waitingWorkers == this.numberOfWorkers) {
+					// Nobody is left who could offer work.
+					this.closed = true;
+					this.hungry = false;
+					notifyAll();
+					return null;
+				}
+				this.hungry = true;
+				wait();
+			}
+			if (this.closed) return null;
+			ChoiceSequence subtree = this.subtrees.pollFirst();
+			this.hungry = this.waitingWorkers - 1 > this.subtrees.size();
+			return subtree;
+		} finally {
+			this.waitingWorkers--;
+		}
+	}
+
+	/**
+	 * Check whether there are idle workers waiting for work. This method does not synchronize and
+	 * is cheap enough to be called on each new choice point.
+	 *
+	 * @return true, if there are more idle workers than subtrees available, false otherwise.
+	 */
+	public boolean isHungry() {
+		return this.hungry;
+	}
+
+	/**
+	 * Close the frontier. Subtrees not taken yet are dropped and waiting workers are released.
+	 */
+	public synchronized void close() {
+		this.closed = true;
+		this.hungry = false;
+		this.subtrees.clear();
+		notifyAll();
+	}
+
+	/**
+	 * Get the number of subtrees offered to this frontier, including the root of the search tree.
+	 *
+	 * @return The number of subtrees offered.
+	 */
+	public synchronized long getSubtreesOffered() {
+		return this.subtreesOffered;
+	}
+
+}
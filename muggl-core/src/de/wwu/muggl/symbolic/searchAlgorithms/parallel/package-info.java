@@ -0,0 +1,5 @@
+/**
+ * Provides the parallel depth first search, which lets several symbolic virtual machines explore
+ * disjoint subtrees of the search tree simultaneously.
+ */
+package de.wwu.muggl.symbolic.searchAlgorithms.parallel;
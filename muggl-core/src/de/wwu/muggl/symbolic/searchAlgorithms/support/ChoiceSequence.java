@@ -0,0 +1,78 @@
+package de.wwu.muggl.symbolic.searchAlgorithms.support;
+
+import java.util.Arrays;
+
+/**
+ * A ChoiceSequence identifies a node of the search tree by the choices taken on the path from its
+ * root. For each level of the search tree, it stores how often the choice point at this level was
+ * changed to its next choice. Since symbolic execution is deterministic, replaying these changes
+ * in a fresh symbolic virtual machine leads to the very same node. The parallel depth first search
+ * hands subtrees to its workers this way, and the iterative deepening search remembers the nodes
+ * it resumes after restarting.<br />
+ * <br />
+ * Choice sequences are immutable, so they can safely be handed from one thread to another.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+public final class ChoiceSequence {
+	/**
+	 * The sequence identifying the root of the search tree.
+	 */
+	public static final ChoiceSequence ROOT = new ChoiceSequence(new int[0]);
+
+	// The number of changes to the next choice per level.
+	private final int[] choices;
+
+	/**
+	 * Initialize the choice sequence. The supplied array is copied.
+	 *
+	 * @param choices The number of changes to the next choice for each level of the search tree.
+	 * @throws NullPointerException If choices is null.
+	 */
+	public ChoiceSequence(int[] choices) {
+		this.choices = choices.clone();
+	}
+
+	/**
+	 * Initialize the choice sequence with the first levels of the supplied array, which is copied.
+	 *
+	 * @param choices The number of changes to the next choice for each level of the search tree.
+	 * @param length The number of levels to copy.
+	 * @throws NullPointerException If choices is null.
+	 */
+	public ChoiceSequence(int[] choices, int length) {
+		this.choices = Arrays.copyOf(choices, length);
+	}
+
+	/**
+	 * Get the number of levels of the search tree this sequence describes.
+	 *
+	 * @return The length of this sequence.
+	 */
+	public int length() {
+		return this.choices.length;
+	}
+
+	/**
+	 * Get the number of changes to the next choice for the choice point at the specified level.
+	 *
+	 * @param level The level of the choice point, starting with 0 for the topmost one.
+	 * @return The number of changes to the next choice.
+	 * @throws ArrayIndexOutOfBoundsException If level is not within the bounds of this sequence.
+	 */
+	public int getChoice(int level) {
+		return this.choices[level];
+	}
+
+	/**
+	 * Get a String representation of this choice sequence.
+	 *
+	 * @return A String representation of this choice sequence.
+	 */
+	@Override
+	public String toString() {
+		return Arrays.toString(this.choices);
+	}
+
+}
@@ -64,4 +64,12 @@ public class FifoList<T> {
 		return oldestEntry.getElement();
 	}
 
+	/**
+	 * Check whether the list is empty.
+	 * @return true, if the list does not contain any elements, false otherwise.
+	 */
+	public boolean isEmpty() {
+		return this.oldestEntry == null;
+	}
+
 }
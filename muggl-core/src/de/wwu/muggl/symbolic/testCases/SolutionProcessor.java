@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
@@ -19,9 +20,11 @@ import de.wwu.muggl.common.TimeSupport;
 import de.wwu.muggl.configuration.Globals;
 import de.wwu.muggl.configuration.Options;
 import de.wwu.muggl.solvers.Solution;
+import de.wwu.muggl.solvers.SolverManager;
 import de.wwu.muggl.vm.classfile.ClassFileException;
 import de.wwu.muggl.vm.classfile.structures.Field;
 import de.wwu.muggl.vm.classfile.structures.Method;
+import de.wwu.muggl.vm.events.EventReportingSolverManager;
 import de.wwu.muggl.vm.execution.ExecutionAlgorithms;
 import de.wwu.muggl.vm.execution.ExecutionException;
 import de.wwu.muggl.vm.impl.symbolic.SymbolicExecutionException;
@@ -70,6 +73,13 @@ public class SolutionProcessor {
 	private TestCaseSolution firstSolutionFound;
 	private TestCaseSolution latestSolutionFound;
 
+	// The solutions found grouped by their fingerprints, used to drop duplicates on arrival.
+	private Map<Integer, List<TestCaseSolution>> solutionsByFingerprint;
+	private long numberOfDuplicatesDropped;
+
+	// The elimination of solutions, if solutions are prepared for it while they are found.
+	private TestCaseEliminationAlgorithms incrementalElimination;
+
 	// References to earlier found solutions data.
 	private TestCaseSolution firstSolutionFoundEalier;
 
@@ -114,6 +124,9 @@ public class SolutionProcessor {
 		this.interrupted = false;
 		this.firstSolutionFound = null;
 		this.latestSolutionFound = null;
+		this.solutionsByFingerprint = new HashMap<Integer, List<TestCaseSolution>>();
+		this.numberOfDuplicatesDropped = 0L;
+		this.incrementalElimination = createIncrementalElimination();
 		this.foundSolution = false;
 		this.newestSolutionNumber = -1;
 		this.doNotSaveTheNextSolution = false;
@@ -150,7 +163,8 @@ public class SolutionProcessor {
 
 	/**
 	 * Add a new Solution to the List of solutions and add a corresponding return value Object to
-	 * the list of return values.
+	 * the list of return values. If an equal solution, i.e. one with the same bindings and the same
+	 * return value, has been added before, the solution is dropped.
 	 *
 	 * @param solution The Solution to add.
 	 * @param returnValue The new return value.
@@ -180,24 +194,73 @@ public class SolutionProcessor {
 		}
 
 		// Add the solution.
-		if (this.latestSolutionFound == null) {
-			this.latestSolutionFound = new TestCaseSolution(
+		appendSolution(new TestCaseSolution(
 				this.initialMethod, solution, returnValue, throwsAnUncaughtException, prepareVariablesForTestCaseSolution(),
 				prepareDUCoverageForTestCaseSolution(dUCoverage), prepareControlFlowCoverageForTestCaseSolution(controlFlowCoverageMapping)
-				);
-		} else {
-			this.latestSolutionFound = new TestCaseSolution(
-					this.initialMethod, solution, returnValue, throwsAnUncaughtException, prepareVariablesForTestCaseSolution(),
-					prepareDUCoverageForTestCaseSolution(dUCoverage), prepareControlFlowCoverageForTestCaseSolution(controlFlowCoverageMapping),
-					this.latestSolutionFound
-					);
+				));
+	}
+
+	/**
+	 * Import a solution found by another symbolic virtual machine that explored a part of the
+	 * search tree on behalf of the virtual machine this SolutionProcessor belongs to. The
+	 * coverage information has to be expressed in terms of the methods and def-use chains known
+	 * to this SolutionProcessor already.
+	 *
+	 * @param solution The TestCaseSolution to import.
+	 * @param controlFlowCoverageMapping The mapping of methods and arrays of boolean values
+	 *        indicating which control graph edges have been covered.
+	 * @param dUCoverage An array of boolean values indicating which def-use chains have
+	 *        been covered.
+	 * @throws IllegalStateException If the method is invoked after test generation was started.
+	 */
+	public synchronized void importSolution(TestCaseSolution solution,
+			Map<Method, boolean[]> controlFlowCoverageMapping, boolean[] dUCoverage) {
+		if (this.testCaseGenerationStarted) {
+			throw new IllegalStateException("Test generation has started already. Cannot add any more solutions.");
+		}
+
+		// Add the solution.
+		appendSolution(new TestCaseSolution(
+				this.initialMethod, solution.getSolution(), solution.getReturnValue(),
+				solution.getThrowsAnUncaughtException(), solution.getVariables(), dUCoverage,
+				controlFlowCoverageMapping
+				));
+	}
+
+	/**
+	 * Append a solution to the list of solutions unless an equal solution has been found before.
+	 * Solutions are looked up by their fingerprint, so checking for duplicates does not depend on
+	 * the number of solutions found.
+	 *
+	 * @param testCaseSolution The solution to append.
+	 */
+	private void appendSolution(TestCaseSolution testCaseSolution) {
+		// Drop it if it is a duplicate.
+		if (testCaseSolution.findEqualSolution(this.solutionsByFingerprint) != null) {
+			this.numberOfDuplicatesDropped++;
+			if (Globals.getInst().symbolicExecLogger.isDebugEnabled())
+				Globals.getInst().symbolicExecLogger.debug("Dropped a solution equal to one found earlier.");
+			return;
+		}
+		testCaseSolution.addTo(this.solutionsByFingerprint);
+
+		// Link it.
+		if (this.latestSolutionFound != null) {
+			testCaseSolution.setPredecessor(this.latestSolutionFound);
+			this.latestSolutionFound.setSuccessor(testCaseSolution);
 		}
+		this.latestSolutionFound = testCaseSolution;
 
 		// Is it the first solution?
 		if (this.firstSolutionFound == null) {
 			this.firstSolutionFound = this.latestSolutionFound;
 		}
 
+		// Prepare it for the elimination.
+		if (this.incrementalElimination != null) {
+			this.incrementalElimination.prepareSolution(testCaseSolution);
+		}
+
 		// Mark that there was a solution found.
 		this.foundSolution = true;
 		this.newestSolutionNumber++;
@@ -346,7 +409,9 @@ public class SolutionProcessor {
 				throw new SymbolicExecutionException("No solutions have been found.");
 
 			// Are there both earlier found and current solutions?
-			if (this.firstSolutionFoundEalier != null && this.latestSolutionFound != null) {
+			boolean mergedEarlierSolutions = this.firstSolutionFoundEalier != null
+					&& this.latestSolutionFound != null;
+			if (mergedEarlierSolutions) {
 				// Merge solutions found earlier with the current solutions.
 				TestCaseSolution currentSolution = this.firstSolutionFoundEalier;
 				// Move to the last solution of the earlier found solutions.
@@ -373,12 +438,12 @@ public class SolutionProcessor {
 				return;
 			}
 
-			// Clear redundancy.
-			this.numberOfSolutionsWithRedundancy = this.firstSolutionFound.getNumberOfSolutions();
+			// Clear redundancy. Current solutions have been checked on arrival already.
+			this.numberOfSolutionsWithRedundancy = this.firstSolutionFound.getNumberOfSolutions()
+					+ this.numberOfDuplicatesDropped;
 
 			try {
-				// TODO: this is really slow. There should be the possibility to disable it. Probably a more efficient algorithm would be possible, too.
-				if (4.0 == Math.floor(3.0)) this.firstSolutionFound.deleteRedundancy(this);
+				if (mergedEarlierSolutions) this.firstSolutionFound.deleteRedundancy(this);
 			} catch (InterruptedException e) {
 				this.testCaseGenerationAborted = true;
 				if (Globals.getInst().symbolicExecLogger.isInfoEnabled())
@@ -395,9 +460,10 @@ public class SolutionProcessor {
 				try {
 					this.eliminationSolutionsDropped = 0L;
 					this.eliminationSolutionsKept = 0L;
-					testCaseElimination = new TestCaseEliminationAlgorithms(this, this.firstSolutionFound);
+					testCaseElimination = this.incrementalElimination != null ? this.incrementalElimination
+							: new TestCaseEliminationAlgorithms(this);
 					try {
-						this.firstSolutionFound = testCaseElimination.eliminateSolutions();
+						this.firstSolutionFound = testCaseElimination.eliminateSolutions(this.firstSolutionFound);
 					} catch (InterruptedException e) {
 						this.testCaseGenerationAborted = true;
 						if (Globals.getInst().symbolicExecLogger.isInfoEnabled())
@@ -901,7 +967,10 @@ public class SolutionProcessor {
 							+ " * Only instructions that generate choice points have been counted.");
 				}
 			fileContents.append("\r\n");
-			fileContents.append(" * Solver:                     " + this.vm.getSolverManager().getClass().getCanonicalName() + "\r\n");
+			SolverManager solverManager = this.vm.getSolverManager();
+			if (solverManager instanceof EventReportingSolverManager)
+				solverManager = ((EventReportingSolverManager) solverManager).getSolverManager();
+			fileContents.append(" * Solver:                     " + solverManager.getClass().getCanonicalName() + "\r\n");
 			if (this.vm.isFinalized() || this.vm.getAbortionCriterionMatched()) {
 				fileContents.append(" *\r\n"
 							 + " * Execution has been aborted before it was finished.");
@@ -1330,10 +1399,37 @@ public class SolutionProcessor {
 		}
 		this.firstSolutionFound = null;
 		this.latestSolutionFound = null;
+		this.solutionsByFingerprint.clear();
+		this.numberOfDuplicatesDropped = 0L;
+		this.incrementalElimination = createIncrementalElimination();
 		this.foundSolution = false;
 		this.newestSolutionNumber = -1;
 	}
 
+	/**
+	 * Create the elimination of solutions if solutions are to be eliminated by their coverage
+	 * and are to be prepared for it while they are found.
+	 *
+	 * @return The elimination of solutions, or null if solutions are not prepared for it.
+	 */
+	private TestCaseEliminationAlgorithms createIncrementalElimination() {
+		Options options = Options.getInst();
+		if (options.eliminateSolutionsByCoverage > 0 && options.eliminateSolutionsIncrementally) {
+			return new TestCaseEliminationAlgorithms(this);
+		}
+		return null;
+	}
+
+	/**
+	 * Get the number of solutions dropped on arrival because an equal solution had been found
+	 * before.
+	 *
+	 * @return The number of duplicate solutions dropped.
+	 */
+	public long getNumberOfDuplicatesDropped() {
+		return this.numberOfDuplicatesDropped;
+	}
+
 	/**
 	 * Getter for foundSolution.
 	 * @return true, if a solution has been found, false otherwise.
@@ -1358,6 +1454,31 @@ public class SolutionProcessor {
 		return this.firstSolutionFound;
 	}
 
+	/**
+	 * Get the first of the solutions found, including those added as found in an earlier
+	 * execution. Until test case generation starts, the latter are kept apart; they are linked in
+	 * front of the current solutions here, so a succeeding execution can add all of them at once.
+	 *
+	 * @return The first solution found, or null if no solution has been found.
+	 */
+	public TestCaseSolution getFirstSolutionIncludingEarlierOnes() {
+		if (this.firstSolutionFoundEalier != null) {
+			TestCaseSolution lastSolutionFoundEarlier = this.firstSolutionFoundEalier;
+			while (lastSolutionFoundEarlier.hasSuccessor()) {
+				lastSolutionFoundEarlier = lastSolutionFoundEarlier.getSuccessor();
+			}
+			if (this.firstSolutionFound == null) {
+				this.latestSolutionFound = lastSolutionFoundEarlier;
+			} else {
+				lastSolutionFoundEarlier.setSuccessor(this.firstSolutionFound);
+				this.firstSolutionFound.setPredecessor(lastSolutionFoundEarlier);
+			}
+			this.firstSolutionFound = this.firstSolutionFoundEalier;
+			this.firstSolutionFoundEalier = null;
+		}
+		return this.firstSolutionFound;
+	}
+
 	/**
 	 * Getter for the information whether test case generation has been started, or not.
 	 * @return true, if test case generation has been started; false otherwise.
@@ -1,10 +1,13 @@
 package de.wwu.muggl.symbolic.testCases;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.TreeSet;
+import java.util.PriorityQueue;
 import java.util.Map.Entry;
 
 import de.wwu.muggl.configuration.Options;
@@ -14,15 +17,40 @@ import de.wwu.muggl.vm.classfile.structures.Method;
  * This class encapsulates the functionality to eliminate solutions before test cases are generated.
  * It offers one method that works according to the currently set options.<br />
  * <br />
+ * The coverage of each solution is encoded as a bit set over all def-use chains and control graph
+ * edges. The def-use chains are numbered as in the coverage of the solutions. The edges of each
+ * method are numbered in the order methods are encountered, starting at the first word following
+ * the def-use chains. Solutions can be wrapped and encoded while they are found, so only the
+ * elimination itself is left when test cases are generated.<br />
+ * <br />
  * The class has package visibility only as it is meant to be utilized by the SolutionProcessor.
  *
  * @author Tim Majchrzak
  * @version 1.0.0, 2010-07-08
  */
 class TestCaseEliminationAlgorithms {
+	// The number of bits in a word of the coverage bit sets.
+	private static final int WORD_BITS = 64;
+
+	/**
+	 * The order solutions are picked in: by the number of yet uncovered def-use chains covered,
+	 * then by the number of yet uncovered control graph edges covered, and finally by their number.
+	 */
+	private static final Comparator<TestCaseSolutionEliminationWrap> ELIMINATION_ORDER =
+			new Comparator<TestCaseSolutionEliminationWrap>() {
+		public int compare(TestCaseSolutionEliminationWrap wrap1, TestCaseSolutionEliminationWrap wrap2) {
+			if (wrap1.getNumberOfCoveredDefUseChains() != wrap2.getNumberOfCoveredDefUseChains()) {
+				return wrap1.getNumberOfCoveredDefUseChains() > wrap2.getNumberOfCoveredDefUseChains() ? -1 : 1;
+			}
+			if (wrap1.getNumberOfCoveredControlGraphEdges() != wrap2.getNumberOfCoveredControlGraphEdges()) {
+				return wrap1.getNumberOfCoveredControlGraphEdges() > wrap2.getNumberOfCoveredControlGraphEdges() ? -1 : 1;
+			}
+			return wrap1.compareTo(wrap2);
+		}
+	};
+
 	// Fields.
 	private SolutionProcessor solutionProcessor;
-	private TestCaseSolution firstSolutionFound;
 	private TestCaseSolution newFirstSolutionFound;
 	private volatile boolean eliminationStarted;
 	private volatile boolean eliminationCompleted;
@@ -31,21 +59,59 @@ class TestCaseEliminationAlgorithms {
 	private long totalNumberOfDefUseChainsCovered;
 	private long totalNumberOfControlGraphEdgesCovered;
 
+	// The criteria to eliminate by.
+	private final boolean countDefUse;
+	private final boolean countControlFlow;
+
+	// The numbering of def-use chains and control graph edges.
+	private int numberOfDefUseChains;
+	private int firstControlFlowWord;
+	private int numberOfBits;
+	private final Map<Method, int[]> controlGraphEdgeOffsets;
+
+	// Solutions already wrapped.
+	private final Map<TestCaseSolution, TestCaseSolutionEliminationWrap> wrappedSolutions;
+
 	/**
-	 * Construct the elimination algorithm object.
+	 * Construct the elimination algorithm object. The criteria to eliminate by are taken from the
+	 * currently set options.
 	 *
 	 * @param solutionProcessor The SolutionProcessor utilizing the algorithm.
-	 * @param firstSolutionFound The first solution found, representation the first item in the chain.
 	 */
-	TestCaseEliminationAlgorithms(SolutionProcessor solutionProcessor, TestCaseSolution firstSolutionFound) {
+	TestCaseEliminationAlgorithms(SolutionProcessor solutionProcessor) {
 		this.solutionProcessor = solutionProcessor;
-		this.firstSolutionFound = firstSolutionFound;
 		this.eliminationStarted = false;
 		this.eliminationCompleted = false;
 		this.totalNumberOfDefUseChains = 0L;
 		this.totalNumberOfControlGraphEdges = 0L;
 		this.totalNumberOfDefUseChainsCovered = 0L;
 		this.totalNumberOfControlGraphEdgesCovered = 0L;
+		int eliminateSolutionsByCoverage = Options.getInst().eliminateSolutionsByCoverage;
+		this.countDefUse = eliminateSolutionsByCoverage == 1 || eliminateSolutionsByCoverage == 3;
+		this.countControlFlow = eliminateSolutionsByCoverage == 2 || eliminateSolutionsByCoverage == 3;
+		this.numberOfDefUseChains = -1;
+		this.firstControlFlowWord = 0;
+		this.numberOfBits = 0;
+		this.controlGraphEdgeOffsets = new HashMap<Method, int[]>();
+		this.wrappedSolutions = new IdentityHashMap<TestCaseSolution, TestCaseSolutionEliminationWrap>();
+	}
+
+	/**
+	 * Wrap a solution and encode its coverage before the elimination is started. This is meant to
+	 * be invoked while solutions are found, so the effort of encoding the coverage is spent while
+	 * the search is still running.
+	 *
+	 * If the coverage of the solution cannot be processed, the solution is not wrapped. The
+	 * problem will then be reported when eliminating solutions.
+	 *
+	 * @param solution The solution to wrap.
+	 */
+	void prepareSolution(TestCaseSolution solution) {
+		try {
+			wrapSolution(solution);
+		} catch (TestCaseEliminationException e) {
+			// Ignore it, wrapping will fail again on elimination.
+		}
 	}
 
 	/**
@@ -63,6 +129,12 @@ class TestCaseEliminationAlgorithms {
 	 * will continue to add those solutions that offer the coverage of yet not picked control flow edges, again
 	 * working in a "greedy" way until the set of solution picks all chains and edges.
 	 *
+	 * The solutions are kept in a priority queue ordered by the number of yet uncovered chains and edges
+	 * they cover. As these numbers only decrease when solutions are picked, they are recalculated only for
+	 * the head of the queue ("lazy greedy"). If they did not change, the solution is picked. Otherwise, it is
+	 * put back into the queue. Solutions covering nothing at all or just the same as an earlier solution are
+	 * dropped right away, as they would never be picked.
+	 *
 	 * Solutions not picked are discarded, as there will not be any reference to them.
 	 *
 	 * If either elimination by def-use chain or control flow coverage is disabled, only the other criterion
@@ -75,6 +147,7 @@ class TestCaseEliminationAlgorithms {
 	 * parameters and return values), this should be done before invoking this algorithm. There is no need to
 	 * do it after it was run as redundant solutions will not survive the elimination process anyway.
 	 *
+	 * @param firstSolutionFound The first solution found, representation the first item in the chain.
 	 * @return The (probably) new first item in the chain.
 	 * @throws IllegalStateException
 	 *             If this method is invoked while it its currently running.
@@ -83,7 +156,8 @@ class TestCaseEliminationAlgorithms {
 	 * @throws TestCaseEliminationException
 	 *             On fatal problems while eliminating the test cases.
 	 */
-	TestCaseSolution eliminateSolutions() throws InterruptedException, TestCaseEliminationException {
+	TestCaseSolution eliminateSolutions(TestCaseSolution firstSolutionFound) throws InterruptedException,
+			TestCaseEliminationException {
 		// Already running?
 		if (this.eliminationStarted) {
 			throw new IllegalStateException("Solution elimination is currently running.");
@@ -95,7 +169,7 @@ class TestCaseEliminationAlgorithms {
 
 		// Anything to do at all?
 		if (Options.getInst().eliminateSolutionsByCoverage == 0) {
-			return this.firstSolutionFound;
+			return firstSolutionFound;
 		}
 
 		// The new first solutions.
@@ -103,75 +177,88 @@ class TestCaseEliminationAlgorithms {
 		TestCaseSolution lastSolutionChained = null;
 
 		/*
-		 * First step: Put all solutions into a Set. This saves us from re-chaining while processing and
-		 * it helps processing subsets.
+		 * First step: Wrap all solutions. Drop those that do not cover anything, and those that cover
+		 * just the same as an earlier one.
 		 */
-		TreeSet<TestCaseSolutionEliminationWrap> solutionTreeSet = new TreeSet<TestCaseSolutionEliminationWrap>();
-		TestCaseSolution solution = this.firstSolutionFound;
+		List<TestCaseSolutionEliminationWrap> solutionWraps = new ArrayList<TestCaseSolutionEliminationWrap>();
+		List<TestCaseSolutionEliminationWrap> droppedSolutionWraps = new ArrayList<TestCaseSolutionEliminationWrap>();
+		Map<Integer, List<TestCaseSolutionEliminationWrap>> solutionWrapsByCoverage =
+				new HashMap<Integer, List<TestCaseSolutionEliminationWrap>>();
+		TestCaseSolution solution = firstSolutionFound;
 		long number = 0;
 		while (solution != null) {
-			// Add it.
-			solutionTreeSet.add(new TestCaseSolutionEliminationWrap(solution, number));
+			TestCaseSolutionEliminationWrap solutionWrap = wrapSolution(solution);
+			solutionWrap.setNumber(number);
+			if (solutionWrap.coversAnything() && addIfCoverageIsNew(solutionWrap, solutionWrapsByCoverage)) {
+				solutionWraps.add(solutionWrap);
+			} else {
+				droppedSolutionWraps.add(solutionWrap);
+				this.solutionProcessor.increaseEliminationSolutionsDropped();
+			}
 
 			// Get the next solution.
 			solution = solution.getSuccessor();
 			number++;
 		}
+		solutionWrapsByCoverage = null;
 
 		// Check if test case generation has been interrupted.
 		if (this.solutionProcessor.isInterrupted())
 			throw new InterruptedException("Interrupted");
 
 		// Second step: Determine the total possible coverage.
-		long[] maximumCoverageNumber = determineMaximumCoverageNumbers(solutionTreeSet);
+		long[] maximumCoverageNumber = determineMaximumCoverageNumbers(solutionWraps);
 		this.totalNumberOfDefUseChainsCovered = maximumCoverageNumber[0];
 		this.totalNumberOfControlGraphEdgesCovered = maximumCoverageNumber[1];
 
-		// Third step: Run the main loop.
+		// Third step: Put the solutions into the queue and run the main loop.
+		long[] coveredWords = new long[getNumberOfWords()];
+		PriorityQueue<TestCaseSolutionEliminationWrap> solutionQueue = new PriorityQueue<TestCaseSolutionEliminationWrap>(
+				Math.max(1, solutionWraps.size()), ELIMINATION_ORDER);
+		for (TestCaseSolutionEliminationWrap solutionWrap : solutionWraps) {
+			solutionWrap.updateNumbersOfCoveredChainsAndEdges(coveredWords, this.firstControlFlowWord);
+			solutionQueue.add(solutionWrap);
+		}
+		solutionWraps = null;
+
 		long totalNumberOfDefUseChainsCovered = 0L;
 		long totalNumberOfControlGraphEdgesCovered = 0L;
-		Options options = Options.getInst();
 		while (totalNumberOfDefUseChainsCovered < maximumCoverageNumber[0]
 				|| totalNumberOfControlGraphEdgesCovered < maximumCoverageNumber[1]) {
 			// Check if test case generation has been interrupted.
 			if (this.solutionProcessor.isInterrupted())
 				throw new InterruptedException("Interrupted");
 
-			// The best solution yet found in this pass.
-			TestCaseSolutionEliminationWrap bestSolution;
-
-			// First sub-step: Get the best solutions.
-			TreeSet<TestCaseSolutionEliminationWrap> bestSolutions;
-			// First use def-use coverage if it is not explicitly disabled or full coverage reached.
-			if (totalNumberOfDefUseChainsCovered == maximumCoverageNumber[0]
-					|| options.eliminateSolutionsByCoverage == 2) {
-				bestSolutions = getBestControlFlowCoveringSolutions(solutionTreeSet);
-			} else {
-				bestSolutions = getBestDefUseCoveringSolutions(solutionTreeSet);
-				/*
-				 * If there is more than one solution, get the ones that have the best control-flow coverage.
-				 * Of course, only do so if full control flow coverage has not been reached, yet.
-				 */
-				if (bestSolutions.size() > 1 && totalNumberOfControlGraphEdgesCovered < maximumCoverageNumber[1]) {
-					bestSolutions = getBestControlFlowCoveringSolutions(bestSolutions);
-				}
-			}
-
-			/*
-			 * Second sub-step: If there is more than one solution equally good, just pick the first one. There
-			 * is no real need to pick a random solution as there is no reason why any solution should be
-			 * "better" (or "worse") than the first one. Actually, this is not decidable at this point.
-			 */
-			if (bestSolutions.size() > 0) {
-				bestSolution = bestSolutions.first();
-			} else {
+			// First sub-step: Get the solution that covered most when its numbers were last updated.
+			TestCaseSolutionEliminationWrap bestSolution = solutionQueue.poll();
+			if (bestSolution == null) {
 				// This should not happen and hints to a bug in the algorithm.
 				throw new TestCaseEliminationException(
 					  "There were no more suitable solutions even though the possible coverage was not reached."
 					);
 			}
 
-			// Third sub-step: Chain the solution and remove it from the TreeSet.
+			/*
+			 * Second sub-step: Update its numbers. If it does not cover anything new any more, drop it. If
+			 * it covers less than before, put it back. Otherwise, no solution can cover more, and the
+			 * ones covering as much have a higher number.
+			 */
+			long numberOfDefUseChainsCovered = bestSolution.getNumberOfCoveredDefUseChains();
+			long numberOfControlGraphEdgesCovered = bestSolution.getNumberOfCoveredControlGraphEdges();
+			bestSolution.updateNumbersOfCoveredChainsAndEdges(coveredWords, this.firstControlFlowWord);
+			if (bestSolution.getNumberOfCoveredDefUseChains() == 0
+					&& bestSolution.getNumberOfCoveredControlGraphEdges() == 0) {
+				droppedSolutionWraps.add(bestSolution);
+				this.solutionProcessor.increaseEliminationSolutionsDropped();
+				continue;
+			}
+			if (bestSolution.getNumberOfCoveredDefUseChains() != numberOfDefUseChainsCovered
+					|| bestSolution.getNumberOfCoveredControlGraphEdges() != numberOfControlGraphEdgesCovered) {
+				solutionQueue.add(bestSolution);
+				continue;
+			}
+
+			// Third sub-step: Chain the solution.
 			if (newFirstSolution == null) {
 				newFirstSolution = bestSolution.getTestCaseSolution();
 				newFirstSolution.setPredecessor(null);
@@ -182,25 +269,22 @@ class TestCaseEliminationAlgorithms {
 				bestSolution.getTestCaseSolution().setPredecessor(lastSolutionChained);
 				lastSolutionChained = bestSolution.getTestCaseSolution();
 			}
-			solutionTreeSet.remove(bestSolution);
 
 			// Mark that another solution is kept.
 			this.solutionProcessor.increaseEliminationSolutionsKept();
 
-			/*
-			 * Fourth sub-step: Remove the now covered chains and edges.
-			 */
-			removeNowCoveredChainsAndEdges(bestSolution, solutionTreeSet);
+			// Fourth sub-step: Mark the now covered chains and edges.
+			bestSolution.addCoverageTo(coveredWords);
 			totalNumberOfDefUseChainsCovered += bestSolution.getNumberOfCoveredDefUseChains();
 			totalNumberOfControlGraphEdgesCovered += bestSolution.getNumberOfCoveredControlGraphEdges();
 		}
-		
+
 		// No solutions chained?
 		if (lastSolutionChained == null) {
 			// TODO: is this really what we want here?
 			this.eliminationCompleted = true;
-			this.newFirstSolutionFound = this.firstSolutionFound;
-			return this.firstSolutionFound;
+			this.newFirstSolutionFound = firstSolutionFound;
+			return firstSolutionFound;
 		}
 
 		// Fourth step: Close the now completed chain.
@@ -211,14 +295,18 @@ class TestCaseEliminationAlgorithms {
 			throw new InterruptedException("Interrupted");
 
 		// Fifth step: Unchain the not picked solutions. This will speed up garbage collection.
-		Iterator<TestCaseSolutionEliminationWrap> solutionIterator = solutionTreeSet.iterator();
-		while (solutionIterator.hasNext()) {
-			solution = solutionIterator.next().getTestCaseSolution();
+		for (TestCaseSolutionEliminationWrap solutionWrap : solutionQueue) {
+			droppedSolutionWraps.add(solutionWrap);
+			this.solutionProcessor.increaseEliminationSolutionsDropped();
+		}
+		for (TestCaseSolutionEliminationWrap solutionWrap : droppedSolutionWraps) {
+			solution = solutionWrap.getTestCaseSolution();
 			solution.setPredecessor(null);
 			solution.setSuccessor(null);
 		}
-		solutionIterator = null;
-		solutionTreeSet.clear();
+		droppedSolutionWraps.clear();
+		solutionQueue.clear();
+		this.wrappedSolutions.clear();
 
 		// Sixth step: Return the (new) first solution.
 		this.eliminationCompleted = true;
@@ -227,322 +315,147 @@ class TestCaseEliminationAlgorithms {
 	}
 
 	/**
-	 * Determine the maximum number of def-use chains and control flow edges that can be covered. While
-	 * doing so, each TestCaseSolutionEliminationWrap is augmented with the information how many yet
-	 * uncovered chains and edges could by covered by it.
-	 *
-	 * Solutions not covering any def-use chain or control graph edge will be removed. If only one of
-	 * these is tracked, solutions not covering anything of the criterion will be removed.
+	 * Get the wrapper of a solution, wrapping the solution and encoding its coverage if this has
+	 * not been done before. Def-use chains and control graph edges of methods not encountered
+	 * before are numbered on the fly.
 	 *
-	 * @param solutionTreeSet A TreeSet of solutions to process.
-	 * @return An array of long containing the maximum number of covered def-use chains and of control graph edges.
+	 * @param solution The solution to wrap.
+	 * @return The wrapped solution.
 	 * @throws TestCaseEliminationException If the number of chains/ edges for the same method is different in two solutions.
 	 */
-	private long[] determineMaximumCoverageNumbers(
-			TreeSet<TestCaseSolutionEliminationWrap> solutionTreeSet
-			) throws TestCaseEliminationException {
-		// Variables needed.
-		long maximumNumberOfDefUseChainsCovered = 0L;
-		long maximumNumberControlGraphEdgesCovered = 0L;
-		boolean[] combinedDUCoverage = new boolean[solutionTreeSet.first().getDUCoverage().length];
-		Map<Method, boolean[]> combinedControlFlowCoverageMapping = new HashMap<Method, boolean[]>();
-
-		// Options.
-		boolean countDefUse = false;
-		boolean countControlFlow = false;
-		switch (Options.getInst().eliminateSolutionsByCoverage) {
-			case 1:
-				countDefUse = true;
-				break;
-			case 2:
-				countControlFlow = true;
-				break;
-			case 3:
-				countDefUse = true;
-				countControlFlow = true;
-				break;
+	private synchronized TestCaseSolutionEliminationWrap wrapSolution(TestCaseSolution solution)
+			throws TestCaseEliminationException {
+		TestCaseSolutionEliminationWrap solutionWrap = this.wrappedSolutions.get(solution);
+		if (solutionWrap != null) return solutionWrap;
+
+		// Number the def-use chains with the first solution.
+		boolean[] dUCoverage = this.countDefUse ? solution.getDUCoverage() : null;
+		if (this.numberOfDefUseChains == -1) {
+			this.numberOfDefUseChains = dUCoverage == null ? 0 : dUCoverage.length;
+			this.firstControlFlowWord = (this.numberOfDefUseChains + WORD_BITS - 1) / WORD_BITS;
+			this.numberOfBits = this.firstControlFlowWord * WORD_BITS;
 		}
 
-		// Build new hash maps that have the coverage set to true if at least on solutions satisfies that coverage.
-		Iterator<TestCaseSolutionEliminationWrap> solutionIterator = solutionTreeSet.iterator();
-		while (solutionIterator.hasNext()) {
-			TestCaseSolutionEliminationWrap solution = solutionIterator.next();
-			long numberOfDefUseChainsCovered = 0L;
-			long numberControlGraphEdgesCovered = 0L;
-
-			// Iterate over all def-use chain coverages.
-			if (countDefUse) {
-				boolean[] dUCoverage = solution.getDUCoverage();
-				// Checking the length.
-				if (combinedDUCoverage.length != dUCoverage.length)
-					throw new TestCaseEliminationException(
-							"The def-use chain mapping is faulty and cannot be processed.");
-
-				// Merge it with the current coverage.
-				for (int a = 0; a < combinedDUCoverage.length; a++) {
-					combinedDUCoverage[a] = combinedDUCoverage[a] | dUCoverage[a];
-					if (dUCoverage[a])
-						numberOfDefUseChainsCovered++;
-				}
-					
+		// Set the bits of the covered def-use chains.
+		BitSet coverage = new BitSet(this.numberOfBits);
+		if (dUCoverage != null) {
+			// Checking the length.
+			if (dUCoverage.length != this.numberOfDefUseChains)
+				throw new TestCaseEliminationException(
+						"The def-use chain mapping is faulty and cannot be processed.");
+			for (int a = 0; a < dUCoverage.length; a++) {
+				if (dUCoverage[a]) coverage.set(a);
 			}
+		}
 
-			// Build new hash map that has the control flow coverage set to true if at least on solutions satisfies that coverage.
-			if (countControlFlow) {
-				Map<Method, boolean[]> controlFlowCoverageMapping = solution.getCFCoverageMap();
-				Set<Entry<Method, boolean[]>> controlFlowCoverageSet = controlFlowCoverageMapping.entrySet();
-				Iterator<Entry<Method, boolean[]>> controlFlowCoverageIterator = controlFlowCoverageSet.iterator();
-				while (controlFlowCoverageIterator.hasNext()) {
-					Entry<Method, boolean[]> entry = controlFlowCoverageIterator.next();
-					Method method = entry.getKey();
-					boolean[] controlFlowCoverage = entry.getValue();
-					boolean anythingCovered = false;
-
-					// Is the method already contained?
-					if (combinedControlFlowCoverageMapping.containsKey(method)) {
-						// Get it.
-						boolean[] combinedControlFlowCoverage = combinedControlFlowCoverageMapping.get(method);
-
-						// Checking the length.
-						if (combinedControlFlowCoverage.length != controlFlowCoverage.length)
-							throw new TestCaseEliminationException(
-									"The def-use chain mapping is faulty and cannot be processed.");
-
-						// Merge it with the current coverage.
-						for (int a = 0; a < combinedControlFlowCoverage.length; a++) {
-							combinedControlFlowCoverage[a] = combinedControlFlowCoverage[a] | controlFlowCoverage[a];
-							if (controlFlowCoverage[a]) {
-								anythingCovered = true;
-								numberControlGraphEdgesCovered++;
-							}
-						}
-					} else {
-						// Just clone the current coverage and put it.
-						boolean[] controlFlowCoverageCloned = new boolean[controlFlowCoverage.length];
-						for (int a = 0; a < controlFlowCoverage.length; a++) {
-							controlFlowCoverageCloned[a] = controlFlowCoverage[a];
-							if (controlFlowCoverage[a]) {
-								anythingCovered = true;
-								numberControlGraphEdgesCovered++;
-							}
-						}
-						combinedControlFlowCoverageMapping.put(method, controlFlowCoverageCloned);
-					}
-
-					// To make further processing faster, remove any method that is not covered at all.
-					if (!anythingCovered) {
-						controlFlowCoverageIterator.remove();
-					}
+		// Set the bits of the covered control graph edges.
+		Map<Method, boolean[]> controlFlowCoverageMapping = this.countControlFlow ? solution.getCFCoverageMap() : null;
+		if (controlFlowCoverageMapping != null) {
+			for (Entry<Method, boolean[]> entry : controlFlowCoverageMapping.entrySet()) {
+				boolean[] controlFlowCoverage = entry.getValue();
+				int[] offset = this.controlGraphEdgeOffsets.get(entry.getKey());
+				if (offset == null) {
+					// Number the edges of the method.
+					offset = new int[] {this.numberOfBits, controlFlowCoverage.length};
+					this.controlGraphEdgeOffsets.put(entry.getKey(), offset);
+					this.numberOfBits += controlFlowCoverage.length;
+				} else if (offset[1] != controlFlowCoverage.length) {
+					throw new TestCaseEliminationException(
+							"The control flow mapping is faulty and cannot be processed.");
+				}
+				for (int a = 0; a < controlFlowCoverage.length; a++) {
+					if (controlFlowCoverage[a]) coverage.set(offset[0] + a);
 				}
-			}
-
-			// Remove the solution if it does not cover anything.
-			if (numberOfDefUseChainsCovered == 0 && numberControlGraphEdgesCovered == 0) {
-				solutionIterator.remove();
-				this.solutionProcessor.increaseEliminationSolutionsDropped();
-			} else {
-				// Set the coverage numbers for the solution.
-				solution.setNumberOfCoveredDefUseChains(numberOfDefUseChainsCovered);
-				solution.setNumberOfCoveredControlGraphEdges(numberControlGraphEdgesCovered);
 			}
 		}
 
-		// Count all covered chains and edges.
-		long totalNumberOfDefUseChains = 0L;
-		long totalNumberOfControlGraphEdges = 0L;
-		if (countDefUse) {
-			for (boolean chain : combinedDUCoverage) {
-				if (chain) maximumNumberOfDefUseChainsCovered++;
-				totalNumberOfDefUseChains++;
-			}
+		// Only keep the non-empty words.
+		long[] words = coverage.toLongArray();
+		int nonEmptyWords = 0;
+		for (long word : words) {
+			if (word != 0L) nonEmptyWords++;
 		}
-
-		if (countControlFlow) {
-			Set<Method> combinedControlFlowCoverageSet = combinedControlFlowCoverageMapping.keySet();
-			for (Method method : combinedControlFlowCoverageSet) {
-				boolean[] combinedControlFlowCoverage = combinedControlFlowCoverageMapping.get(method);
-				for (boolean edge : combinedControlFlowCoverage) {
-					if (edge) maximumNumberControlGraphEdgesCovered++;
-					totalNumberOfControlGraphEdges++;
-				}
+		int[] coverageWordIndices = new int[nonEmptyWords];
+		long[] coverageWords = new long[nonEmptyWords];
+		nonEmptyWords = 0;
+		for (int a = 0; a < words.length; a++) {
+			if (words[a] != 0L) {
+				coverageWordIndices[nonEmptyWords] = a;
+				coverageWords[nonEmptyWords] = words[a];
+				nonEmptyWords++;
 			}
 		}
 
-		// Set the fields for the total def-use chains and control graph edges
-		this.totalNumberOfDefUseChains = totalNumberOfDefUseChains;
-		this.totalNumberOfControlGraphEdges = totalNumberOfControlGraphEdges;
-
-		// Return the results.
-		long[] maximumCoverage = {maximumNumberOfDefUseChainsCovered, maximumNumberControlGraphEdgesCovered};
-		return maximumCoverage;
+		solutionWrap = new TestCaseSolutionEliminationWrap(solution, coverageWordIndices, coverageWords);
+		this.wrappedSolutions.put(solution, solutionWrap);
+		return solutionWrap;
 	}
 
 	/**
-	 * Get the currently best solutions based on the def-use chain coverage. This method will return a Set of those
-	 * solutions that have the highest number of def-use chains not yet covered by the already picked solutions.
-	 * @param solutionTreeSet The Set of solutions to choose the beast ones from.
-	 * @return A Set of the best solutions based on the def-use coverage.
+	 * Add a wrapped solution to the wrapped solutions grouped by the hash codes of their coverage,
+	 * unless a solution with an equal coverage has been added before.
+	 *
+	 * @param solutionWrap The wrapped solution.
+	 * @param solutionWrapsByCoverage The wrapped solutions grouped by the hash codes of their coverage.
+	 * @return true, if the solution has been added, false if there is one with an equal coverage.
 	 */
-	private TreeSet<TestCaseSolutionEliminationWrap> getBestDefUseCoveringSolutions(
-			TreeSet<TestCaseSolutionEliminationWrap> solutionTreeSet) {
-		// TreeSet for the best solutions.
-		TreeSet<TestCaseSolutionEliminationWrap> bestSolutions = new TreeSet<TestCaseSolutionEliminationWrap>();
-
-		// Starting at zero.
-		long highestDefUseChainsCoverageCount = 0;
-		// Iterate through all solutions.
-		Iterator<TestCaseSolutionEliminationWrap> solutionIterator = solutionTreeSet.iterator();
-		while (solutionIterator.hasNext()) {
-			TestCaseSolutionEliminationWrap solution = solutionIterator.next();
-			// Better or equal to the yet best solution?
-			long defUseChainsCoverageCount = solution.getNumberOfCoveredDefUseChains();
-			if (defUseChainsCoverageCount >= highestDefUseChainsCoverageCount) {
-				// Is it even better?
-				if (defUseChainsCoverageCount > highestDefUseChainsCoverageCount) {
-					// Remove all solutions from the TreeSet.
-					bestSolutions.clear();
-
-					// Make this solutions the best one, yet.
-					highestDefUseChainsCoverageCount = defUseChainsCoverageCount;
-				}
-				// Add the found to the TreeSet of the best solutions.
-				bestSolutions.add(solution);
+	private boolean addIfCoverageIsNew(TestCaseSolutionEliminationWrap solutionWrap,
+			Map<Integer, List<TestCaseSolutionEliminationWrap>> solutionWrapsByCoverage) {
+		Integer coverageHashCode = Integer.valueOf(solutionWrap.getCoverageHashCode());
+		List<TestCaseSolutionEliminationWrap> sameHashCode = solutionWrapsByCoverage.get(coverageHashCode);
+		if (sameHashCode == null) {
+			sameHashCode = new ArrayList<TestCaseSolutionEliminationWrap>(1);
+			solutionWrapsByCoverage.put(coverageHashCode, sameHashCode);
+		} else {
+			for (TestCaseSolutionEliminationWrap other : sameHashCode) {
+				if (other.hasEqualCoverage(solutionWrap)) return false;
 			}
 		}
-
-		// Return the best solutions found.
-		return bestSolutions;
+		sameHashCode.add(solutionWrap);
+		return true;
 	}
 
 	/**
-	 * Get the currently best solutions based on the control graph edge coverage. This method will return a Set
-	 * of those solutions that have the highest number of control graph edges not yet covered by the already
-	 * picked solutions.
-	 * @param solutionTreeSet The Set of solutions to choose the beast ones from.
-	 * @return A Set of the best solutions based on the control graph coverage.
+	 * Get the number of words of the coverage bit sets.
+	 *
+	 * @return The number of words of the coverage bit sets.
 	 */
-	private TreeSet<TestCaseSolutionEliminationWrap> getBestControlFlowCoveringSolutions(
-			TreeSet<TestCaseSolutionEliminationWrap> solutionTreeSet) {
-		// TreeSet for the best solutions.
-		TreeSet<TestCaseSolutionEliminationWrap> bestSolutions = new TreeSet<TestCaseSolutionEliminationWrap>();
-
-		// Starting at zero.
-		long highestControlGraphEdgeCoverageCount = 0;
-		// Iterate through all solutions.
-		Iterator<TestCaseSolutionEliminationWrap> solutionIterator = solutionTreeSet.iterator();
-		while (solutionIterator.hasNext()) {
-			TestCaseSolutionEliminationWrap solution = solutionIterator.next();
-			// Better or equal to the yet best solution?
-			long controlGraphEdgeCoverageCount = solution.getNumberOfCoveredControlGraphEdges();
-			if (controlGraphEdgeCoverageCount >= highestControlGraphEdgeCoverageCount) {
-				// Is it even better?
-				if (controlGraphEdgeCoverageCount > highestControlGraphEdgeCoverageCount) {
-					// Remove all solutions from the TreeSet.
-					bestSolutions.clear();
-
-					// Make this solutions the best one, yet.
-					highestControlGraphEdgeCoverageCount = controlGraphEdgeCoverageCount;
-				}
-				// Add the found to the TreeSet of the best solutions.
-				bestSolutions.add(solution);
-			}
-		}
-
-		// Return the best solutions found.
-		return bestSolutions;
+	private int getNumberOfWords() {
+		return (this.numberOfBits + WORD_BITS - 1) / WORD_BITS;
 	}
 
 	/**
-	 * Remove the now covered def-use chains and control graph edges from the solutions not yet picked.
-	 *
-	 * Removing the chains and edges covered by the picked solution from any not yet picked solution is vital
-	 * to the algorithm and its greedy nature. Not yet picked solutions get less "attractive" with any
-	 * coverage already in the picked solutions set removed from them. Hence, by removing the covered chains
-	 * and edges the solution picked next will be the one with the most yet uncovered chains and/or edges.
-	 *
-	 * This method will delete any solution that has no more uncovered chains and edges left after beeing
-	 * processed. Especially with high numbers of solutions, this will speed up the overall process as the
-	 * number of solutions checked will not decrease by one with each iteration of the algorithm but much
-	 * faster ideally.
+	 * Determine the maximum number of def-use chains and control flow edges that can be covered by
+	 * the supplied solutions, as well as the total numbers of chains and edges.
 	 *
-	 * @param bestSolution The best solution chosen priorly to invoking this method.
-	 * @param solutionTreeSet The Set of not yet picked solutions.
+	 * @param solutionWraps The wrapped solutions.
+	 * @return An array of long containing the maximum number of covered def-use chains and of control graph edges.
 	 */
-	private void removeNowCoveredChainsAndEdges(TestCaseSolutionEliminationWrap bestSolution,
-			TreeSet<TestCaseSolutionEliminationWrap> solutionTreeSet) {
-		boolean[] dUCoverage = bestSolution.getDUCoverage();
-	
-		// Iterate over all other solutions.
-		for (TestCaseSolutionEliminationWrap solution : solutionTreeSet) {
-			boolean[] removingDUCoverage = solution.getDUCoverage();
-			long numberOfDefUseChainsNowCovered = 0L;
+	private long[] determineMaximumCoverageNumbers(List<TestCaseSolutionEliminationWrap> solutionWraps) {
+		// Combine the coverage of all solutions.
+		long[] coverableWords = new long[getNumberOfWords()];
+		for (TestCaseSolutionEliminationWrap solutionWrap : solutionWraps) {
+			solutionWrap.addCoverageTo(coverableWords);
+		}
 
-			for (int a = 0; a < dUCoverage.length; a++) {
-				// Set every element to false that is true in the chosen solution.
-				if (dUCoverage[a]) {
-					// Is it true currently?
-					if (removingDUCoverage[a]) {
-						// One more chain that was uncovered but is covered now.
-						numberOfDefUseChainsNowCovered++;
-					}
-
-					// Set it.
-					removingDUCoverage[a] = false;
-				}
+		// Count all covered chains and edges.
+		long maximumNumberOfDefUseChainsCovered = 0L;
+		long maximumNumberControlGraphEdgesCovered = 0L;
+		for (int a = 0; a < coverableWords.length; a++) {
+			if (a < this.firstControlFlowWord) {
+				maximumNumberOfDefUseChainsCovered += Long.bitCount(coverableWords[a]);
+			} else {
+				maximumNumberControlGraphEdgesCovered += Long.bitCount(coverableWords[a]);
 			}
-
-			// Reduce the number of uncovered chains the solution could cover.
-			solution.decreaseNumberOfCoveredDefUseChainsBy(numberOfDefUseChainsNowCovered);
 		}
 
-		// Iterate over all control-flow edges.
-		Map<Method, boolean[]> controlFlowCoverageMapping = bestSolution.getCFCoverageMap();
-		Set<Method> controlFlowCoverageSet = controlFlowCoverageMapping.keySet();
-		for (Method method : controlFlowCoverageSet) {
-			boolean[] controlFlowCoverage = controlFlowCoverageMapping.get(method);
-			// Iterate over all other solutions.
-			for (TestCaseSolutionEliminationWrap solution : solutionTreeSet) {
-				Map<Method, boolean[]> removingControlFlowCoverageMapping = solution.getCFCoverageMap();
-				long numberOfControlGraphEdgesNowCovered = 0L;
-
-				// Is the method contained?
-				if (removingControlFlowCoverageMapping.containsKey(method)) {
-					boolean[] removingControlFlowCoverage = removingControlFlowCoverageMapping.get(method);
-					boolean coverageLeft = false;
-					for (int a = 0; a < controlFlowCoverage.length; a++) {
-						// Set every element to false that is true in the chosen solution.
-						if (controlFlowCoverage[a]) {
-							// Is it true currently?
-							if (removingControlFlowCoverage[a]) {
-								// One more edge that was uncovered but is covered now.
-								numberOfControlGraphEdgesNowCovered++;
-							}
-
-							// Set it.
-							removingControlFlowCoverage[a] = false;
-						} else if (removingControlFlowCoverage[a]) {
-							// Note that there was a "true" left.
-							coverageLeft = true;
-						}
-					}
-
-					// Does the solution cover any yet uncovered edge at all?
-					if (!coverageLeft) {
-						// Remove it to make further processing faster.
-						removingControlFlowCoverageMapping.remove(method);
-					}
-				}
-
-				// Reduce the number of uncovered edges the solution could cover.
-				solution.decreaseNumberOfCoveredControlGraphEdges(numberOfControlGraphEdgesNowCovered);
+		// Set the fields for the total def-use chains and control graph edges
+		this.totalNumberOfDefUseChains = Math.max(0, this.numberOfDefUseChains);
+		this.totalNumberOfControlGraphEdges = this.numberOfBits - this.firstControlFlowWord * WORD_BITS;
 
-				// Check if that solution can be removed completely. This would speed up the further processing.
-				if (solution.getNumberOfCoveredDefUseChains() == 0
-						&& solution.getNumberOfCoveredControlGraphEdges() == 0) {
-					this.solutionProcessor.increaseEliminationSolutionsDropped();
-				}
-			}
-		}
+		// Return the results.
+		long[] maximumCoverage = {maximumNumberOfDefUseChainsCovered, maximumNumberControlGraphEdgesCovered};
+		return maximumCoverage;
 	}
 
 	/**
@@ -1,6 +1,9 @@
 package de.wwu.muggl.symbolic.testCases;
 
 import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -9,9 +12,11 @@ import org.apache.log4j.Level;
 import de.wwu.muggl.configuration.Globals;
 import de.wwu.muggl.solvers.Solution;
 import de.wwu.muggl.vm.classfile.structures.Method;
+import de.wwu.muggl.vm.classfile.structures.UndefinedValue;
 import de.wwu.muggl.vm.exceptions.NoExceptionHandlerFoundException;
 import de.wwu.muggl.vm.initialization.Arrayref;
 import de.wwu.muggl.vm.initialization.ObjectComparator;
+import de.wwu.muggl.vm.initialization.Objectref;
 import de.wwu.muggl.solvers.expressions.BooleanConstant;
 import de.wwu.muggl.solvers.expressions.Constant;
 import de.wwu.muggl.solvers.expressions.DoubleConstant;
@@ -47,6 +52,10 @@ public class TestCaseSolution {
 	private boolean[] dUCoverage;
 	private Map<Method, boolean[]> cFCoverageMapping;
 
+	// Cached fingerprint.
+	private int fingerprint;
+	private boolean hasFingerprint;
+
 	// Fields for chaining the solutions.
 	private TestCaseSolution predecessor;
 	private TestCaseSolution successor;
@@ -263,35 +272,30 @@ public class TestCaseSolution {
 			currentSolution = currentSolution.getPredecessor();
 		}
 
-		// Move through the whole list.
+		// Move through the whole list, looking up each solution by its fingerprint.
+		Map<Integer, List<TestCaseSolution>> solutionsByFingerprint =
+				new HashMap<Integer, List<TestCaseSolution>>();
 		long counter = 0L;
-		while (currentSolution.getSuccessor() != null) {
+		while (currentSolution != null) {
 			// Set the number for statistical reasons.
 			solutionProcessor.setDeletingRedudancySolutionCurrentlyProcessed(counter);
 
-			// Compare to any solution further in the list of solutions.
-			TestCaseSolution aSuccessingSolution = currentSolution.getSuccessor();
-			while (aSuccessingSolution != null) {
-				// Check for equality.
-				if (currentSolution.isEqualTo(aSuccessingSolution)) {
-					// Remove aSuccessingSolution from the list by removing the linking of it.
-					TestCaseSolution aSuccessingSolutionSuccessor = aSuccessingSolution.getSuccessor();
-					TestCaseSolution aSuccessingSolutionPredecessor = aSuccessingSolution.getPredecessor();
-					aSuccessingSolutionSuccessor.setPredecessor(aSuccessingSolutionPredecessor);
-					aSuccessingSolutionPredecessor.setSuccessor(aSuccessingSolutionSuccessor);
-					// For faster garbage collection remove further linking information from aSuccessingSolution.
-					aSuccessingSolution.setSuccessor(null);
-					aSuccessingSolution.setPredecessor(null);
-					// Set the successor as aSuccessingSolution.
-					aSuccessingSolution = aSuccessingSolutionSuccessor;
-				} else {
-					// Get the next solution in the list of solutions.
-					aSuccessingSolution = aSuccessingSolution.getSuccessor();
-				}
+			TestCaseSolution nextSolution = currentSolution.getSuccessor();
+			if (currentSolution.findEqualSolution(solutionsByFingerprint) != null) {
+				// Remove currentSolution from the list by removing the linking of it.
+				TestCaseSolution currentSolutionPredecessor = currentSolution.getPredecessor();
+				currentSolutionPredecessor.setSuccessor(nextSolution);
+				if (nextSolution != null)
+					nextSolution.setPredecessor(currentSolutionPredecessor);
+				// For faster garbage collection remove further linking information from currentSolution.
+				currentSolution.setSuccessor(null);
+				currentSolution.setPredecessor(null);
+			} else {
+				currentSolution.addTo(solutionsByFingerprint);
 			}
 
 			// Move one solution further.
-			currentSolution = currentSolution.getSuccessor();
+			currentSolution = nextSolution;
 			counter++;
 
 			// Check if test case generation has been interrupted.
@@ -300,12 +304,61 @@ public class TestCaseSolution {
 		}
 	}
 
+	/**
+	 * Get the fingerprint of this solution. It is a hash code of the bindings of the solution, the
+	 * return value and whether an uncaught exception was thrown, and it is equal for any two
+	 * solutions that are equal in the sense of {@link #isEqualTo(TestCaseSolution)}.
+	 *
+	 * @return The fingerprint of this solution.
+	 */
+	public int getFingerprint() {
+		if (!this.hasFingerprint) {
+			int hashCode = this.solution.hashCode();
+			hashCode = 31 * hashCode + returnValueHashCode(this.returnValue);
+			hashCode = 31 * hashCode + (this.throwsAnUncaughtException ? 1 : 0);
+			this.fingerprint = hashCode;
+			this.hasFingerprint = true;
+		}
+		return this.fingerprint;
+	}
+
+	/**
+	 * Find a solution equal to this one among solutions grouped by their fingerprints.
+	 *
+	 * @param solutionsByFingerprint The solutions grouped by their fingerprints.
+	 * @return An equal solution; or null, if there is none.
+	 */
+	TestCaseSolution findEqualSolution(Map<Integer, List<TestCaseSolution>> solutionsByFingerprint) {
+		List<TestCaseSolution> candidates = solutionsByFingerprint.get(getFingerprint());
+		if (candidates != null) {
+			for (TestCaseSolution candidate : candidates) {
+				if (candidate.isEqualTo(this)) return candidate;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Add this solution to solutions grouped by their fingerprints.
+	 *
+	 * @param solutionsByFingerprint The solutions grouped by their fingerprints.
+	 */
+	void addTo(Map<Integer, List<TestCaseSolution>> solutionsByFingerprint) {
+		List<TestCaseSolution> candidates = solutionsByFingerprint.get(getFingerprint());
+		if (candidates == null) {
+			// Almost always there is only one solution per fingerprint.
+			candidates = new ArrayList<TestCaseSolution>(1);
+			solutionsByFingerprint.put(getFingerprint(), candidates);
+		}
+		candidates.add(this);
+	}
+
 	/**
 	 * Compare this Solution to the one supplied.
 	 * @param solution The Solution to compare this one to.
 	 * @return true, if the solutions are equal, false otherwise.
 	 */
-	private boolean isEqualTo(TestCaseSolution solution) {
+	boolean isEqualTo(TestCaseSolution solution) {
 		// Solutions must have the same initial method.
 		if (this.initialMethod != solution.initialMethod) {
 			if (Globals.getInst().symbolicExecLogger.isEnabledFor(Level.WARN)) Globals.getInst().symbolicExecLogger.warn("Unexpected problem when comparing two solutions to delete redundancy: The solutions have different initial methods. This problem will be ignored, generated test cases might however be incompleted or even incorrect.");
@@ -313,7 +366,8 @@ public class TestCaseSolution {
 		}
 
 		// Compare the solutions.
-		if (!this.solution.equals(solution))
+		if (!this.solution.equals(solution.solution)
+				|| this.throwsAnUncaughtException != solution.throwsAnUncaughtException)
 			return false;
 
 		/* TODO: Can this be dropped?
@@ -343,7 +397,7 @@ public class TestCaseSolution {
 		} */
 
 		// Compare the return value. If this point has been reached, it should be equal as well.
-		if (!ObjectComparator.compareObjects(this.returnValue, solution.returnValue)) {
+		if (!returnValuesAreEqual(this.returnValue, solution.returnValue)) {
 			if (Globals.getInst().symbolicExecLogger.isEnabledFor(Level.WARN)) Globals.getInst().symbolicExecLogger.warn("Unexpected problem when comparing two solutions to delete redundancy: The solutions are equal but for their return value. Solutions with equal parameters should have the same return value. This problem will be ignored, generated test cases might however be incompleted or even incorrect.");
 			return false;
 		}
@@ -351,6 +405,57 @@ public class TestCaseSolution {
 		return true;
 	}
 
+	/**
+	 * Compare two return values. Other than {@link ObjectComparator#compareObjects(Object, Object)}
+	 * this also takes symbolic terms and undefined values into account, even as array elements.
+	 *
+	 * @param value1 The first return value.
+	 * @param value2 The second return value.
+	 * @return true, if the return values are equal, false otherwise.
+	 */
+	private static boolean returnValuesAreEqual(Object value1, Object value2) {
+		if (value1 == value2) return true;
+		if (value1 == null || value2 == null) return false;
+		if (value1 instanceof UndefinedValue || value2 instanceof UndefinedValue)
+			return value1 instanceof UndefinedValue && value2 instanceof UndefinedValue;
+		if (value1 instanceof Term || value2 instanceof Term)
+			return value1.equals(value2);
+		if (value1 instanceof Arrayref && value2 instanceof Arrayref) {
+			Arrayref arrayref1 = (Arrayref) value1;
+			Arrayref arrayref2 = (Arrayref) value2;
+			if (arrayref1.length != arrayref2.length) return false;
+			for (int a = 0; a < arrayref1.length; a++) {
+				if (!returnValuesAreEqual(arrayref1.getElement(a), arrayref2.getElement(a)))
+					return false;
+			}
+			return true;
+		}
+		return ObjectComparator.compareObjects(value1, value2);
+	}
+
+	/**
+	 * Get a hash code of a return value that is consistent with
+	 * {@link #returnValuesAreEqual(Object, Object)}.
+	 *
+	 * @param value The return value.
+	 * @return The hash code of the return value.
+	 */
+	private static int returnValueHashCode(Object value) {
+		if (value == null) return 0;
+		if (value instanceof UndefinedValue) return 1;
+		if (value instanceof Arrayref) {
+			Arrayref arrayref = (Arrayref) value;
+			int hashCode = arrayref.length;
+			for (int a = 0; a < arrayref.length; a++) {
+				hashCode = 31 * hashCode + returnValueHashCode(arrayref.getElement(a));
+			}
+			return hashCode;
+		}
+		// Object references are compared by their field values, so they are hashed by their class only.
+		if (value instanceof Objectref) return ((Objectref) value).getName().hashCode();
+		return value.hashCode();
+	}
+
 	/**
 	 * Return an array of Constant object reflecting the actual values to be inserted as the method's parameters for
 	 * this solution. Parameters not set will be initialized to the default value of the type. This is the appropriate
@@ -599,6 +704,15 @@ public class TestCaseSolution {
 		}
 	}
 
+	/**
+	 * Getter for the variables generated for the method when generating this solution.
+	 *
+	 * @return The variables generated for the method.
+	 */
+	public Object[] getVariables() {
+		return this.variables;
+	}
+
 	/**
 	 * Getter for the def-use coverage.
 	 *
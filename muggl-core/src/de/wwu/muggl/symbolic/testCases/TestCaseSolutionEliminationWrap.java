@@ -1,24 +1,20 @@
 package de.wwu.muggl.symbolic.testCases;
 
-import java.util.Map;
-
-import de.wwu.muggl.vm.classfile.structures.Method;
+import java.util.Arrays;
 
 /**
  * This class wraps a TestCaseSolution in order to ease the elimination process when
  * generating the final set test cases. It therefore contains a TestCaseSolution
- * and forwards the methods to get the def-use and control flow coverage mappings.
- * It introduced two additional fields. They are uses to store the number of def-use
- * chains and control graph edges which are covered by the solution wrapped. If
- * another solution was picked to be included in the final set of test cases, this
- * numbers can be decreased as they only have to reflect the number of yet uncovered
- * chains and edges, i.e. those, that are not covered by the already picked solution(s)
- * but are covered by the one wrapped here.<br />
+ * and its def-use and control flow coverage, encoded as a sparse bit set. Each
+ * def-use chain and each control graph edge known to the elimination algorithm has
+ * a global bit. Only the words of the bit set that have any bit set are stored,
+ * together with their indices.<br />
  * <br />
- * Keeping track of these numbers means some initial effort and decreasing them after
- * picking a solution is a rather slow process. However, finding the next suitable
- * solution is sped up greatly. This justifies the minor increase in memory needed
- * for these wrapper objects.<br />
+ * It introduced two additional fields. They are uses to store the number of def-use
+ * chains and control graph edges which are covered by the solution wrapped, but not by
+ * the solutions already picked. These numbers are only updated when the solution is
+ * about to be picked. As they can only decrease while further solutions are picked,
+ * they are upper bounds of the current numbers at any time.<br />
  * <br />
  * Note: this class has a natural ordering that is inconsistent with equals.<br />
  * <br />
@@ -35,14 +31,21 @@ class TestCaseSolutionEliminationWrap implements java.lang.Comparable<TestCaseSo
 	private long numberOfCoveredDefUseChains;
 	private long numberOfCoveredControlGraphEdges;
 
+	// The coverage as the indices of the non-empty words of the bit set and these words.
+	private final int[] coverageWordIndices;
+	private final long[] coverageWords;
+
 	/**
 	 * Construct the TestCaseSolutionEliminationWrap with the TestCaseSolution.
 	 * @param testCaseSolution The TestCaseSolutio to wrap.
-	 * @param number The number of the elimination wrapper as needed for the natural ordering.
+	 * @param coverageWordIndices The ascending indices of the non-empty words of the coverage bit set.
+	 * @param coverageWords The non-empty words of the coverage bit set.
 	 */
-	public TestCaseSolutionEliminationWrap(TestCaseSolution testCaseSolution, long number) {
+	public TestCaseSolutionEliminationWrap(TestCaseSolution testCaseSolution, int[] coverageWordIndices,
+			long[] coverageWords) {
 		this.testCaseSolution = testCaseSolution;
-		this.number = number;
+		this.coverageWordIndices = coverageWordIndices;
+		this.coverageWords = coverageWords;
 	}
 
 	/**
@@ -62,72 +65,95 @@ class TestCaseSolutionEliminationWrap implements java.lang.Comparable<TestCaseSo
 	}
 
 	/**
-	 * Getter for the number of def-use chains covered by the wrapped solution.
-	 * @return The number of def-use chains covered by the wrapped solution.
+	 * Setter for the number of this TestCaseSolutionEliminationWrap as needed for the natural
+	 * ordering.
+	 * @param number The number of the elimination wrapper.
 	 */
-	public long getNumberOfCoveredDefUseChains() {
-		return this.numberOfCoveredDefUseChains;
+	public void setNumber(long number) {
+		this.number = number;
 	}
 
 	/**
-	 * Setter for the number of yet uncovered def-use chains covered by the wrapped solution.
-	 * @param coveringUncoveredDefUseChains The number of yet uncovered def-use chains covered by the wrapped solution.
+	 * Getter for the number of yet uncovered def-use chains covered by the wrapped solution, as
+	 * last determined by {@link #updateNumbersOfCoveredChainsAndEdges(long[], int)}.
+	 * @return The number of def-use chains covered by the wrapped solution.
 	 */
-	public void setNumberOfCoveredDefUseChains(long coveringUncoveredDefUseChains) {
-		this.numberOfCoveredDefUseChains = coveringUncoveredDefUseChains;
+	public long getNumberOfCoveredDefUseChains() {
+		return this.numberOfCoveredDefUseChains;
 	}
 
 	/**
-	 * Decreases the number of yet uncovered def-use chains by the supplied value.
-	 * @param value The decrement.
+	 * Getter for the number of yet uncovered control graph edges covered by the wrapped solution,
+	 * as last determined by {@link #updateNumbersOfCoveredChainsAndEdges(long[], int)}.
+	 * @return The number of control graph edges covered by the wrapped solution.
 	 */
-	public void decreaseNumberOfCoveredDefUseChainsBy(long value) {
-		this.numberOfCoveredDefUseChains -= value;
+	public long getNumberOfCoveredControlGraphEdges() {
+		return this.numberOfCoveredControlGraphEdges;
 	}
 
 	/**
-	 * Getter for the number of control graph edges covered by the wrapped solution.
-	 * @return The number of control graph edges covered by the wrapped solution.
+	 * Find out whether the wrapped solution covers any def-use chain or control graph edge at all.
+	 * @return true, if the wrapped solution covers anything, false otherwise.
 	 */
-	public long getNumberOfCoveredControlGraphEdges() {
-		return this.numberOfCoveredControlGraphEdges;
+	public boolean coversAnything() {
+		return this.coverageWords.length > 0;
 	}
 
 	/**
-	 * Setter for the number of yet uncovered control graph edges covered by the wrapped solution.
-	 * @param coveringUncoveredControlGraphEdges The number of yet uncovered control graph edges covered by the wrapped solution.
+	 * Determine the numbers of def-use chains and control graph edges covered by the wrapped
+	 * solution but not by the supplied bit set.
+	 *
+	 * @param coveredWords The bit set of chains and edges already covered.
+	 * @param firstControlFlowWord The index of the first word of the bit sets that holds control
+	 *        graph edges. All words before hold def-use chains.
 	 */
-	public void setNumberOfCoveredControlGraphEdges(long coveringUncoveredControlGraphEdges) {
-		this.numberOfCoveredControlGraphEdges = coveringUncoveredControlGraphEdges;
+	public void updateNumbersOfCoveredChainsAndEdges(long[] coveredWords, int firstControlFlowWord) {
+		long numberOfDefUseChains = 0L;
+		long numberOfControlGraphEdges = 0L;
+		for (int a = 0; a < this.coverageWords.length; a++) {
+			int index = this.coverageWordIndices[a];
+			int uncovered = Long.bitCount(this.coverageWords[a] & ~coveredWords[index]);
+			if (index < firstControlFlowWord) {
+				numberOfDefUseChains += uncovered;
+			} else {
+				numberOfControlGraphEdges += uncovered;
+			}
+		}
+		this.numberOfCoveredDefUseChains = numberOfDefUseChains;
+		this.numberOfCoveredControlGraphEdges = numberOfControlGraphEdges;
 	}
 
 	/**
-	 * Decreases the number of yet uncovered control graph edges by the supplied value.
-	 * @param value The decrement.
+	 * Set the bits of the chains and edges covered by the wrapped solution in the supplied bit set.
+	 *
+	 * @param coveredWords The bit set to add the coverage of the wrapped solution to.
 	 */
-	public void decreaseNumberOfCoveredControlGraphEdges(long value) {
-		this.numberOfCoveredControlGraphEdges -= value;
+	public void addCoverageTo(long[] coveredWords) {
+		for (int a = 0; a < this.coverageWords.length; a++) {
+			coveredWords[this.coverageWordIndices[a]] |= this.coverageWords[a];
+		}
 	}
 
 	/**
-	 * Getter for the def-use coverage mapping. The request is simply forwarded to the
-	 * wrapped TestCaseSolution.
-	 * @return The mapping of methods and def-use coverage as an array of boolean values indicating which def-use chains have been covered.
+	 * Find out whether the wrapped solution covers exactly the same chains and edges as the one
+	 * wrapped by the supplied TestCaseSolutionEliminationWrap.
+	 *
+	 * @param wrap The other TestCaseSolutionEliminationWrap.
+	 * @return true, if both solutions have the same coverage, false otherwise.
 	 */
-	public boolean[] getDUCoverage() {
-		return this.testCaseSolution.getDUCoverage();
+	public boolean hasEqualCoverage(TestCaseSolutionEliminationWrap wrap) {
+		return Arrays.equals(this.coverageWordIndices, wrap.coverageWordIndices)
+				&& Arrays.equals(this.coverageWords, wrap.coverageWords);
 	}
 
 	/**
-	 * 
-	 * Getter for the control-flow coverage mapping. The request is simply forwarded to the wrapped
-	 * TestCaseSolution.
-	 * 
-	 * @return The mapping of methods and control flow coverage as an array of boolean values
-	 *         indicating which control graph edges have been covered.
+	 * Get a hash code of the coverage of the wrapped solution. Solutions with an equal coverage
+	 * have the same hash code.
+	 *
+	 * @return A hash code of the coverage.
 	 */
-	public Map<Method, boolean[]> getCFCoverageMap() {
-		return this.testCaseSolution.getCFCoverageMap();
+	public int getCoverageHashCode() {
+		return 31 * Arrays.hashCode(this.coverageWordIndices) + Arrays.hashCode(this.coverageWords);
 	}
 
 	/**
@@ -168,10 +194,10 @@ class TestCaseSolutionEliminationWrap implements java.lang.Comparable<TestCaseSo
 		}
 		return false;
 	}
-	
+
 	/**
 	 * Returns a hash code value for the object.
-	 * 
+	 *
      * @return  a hash code value for this object.
 	 * @see java.lang.Object#hashCode()
 	 */
@@ -26,6 +26,7 @@ import de.wwu.muggl.vm.loading.MugglClassLoader;
  */
 public class Application extends Thread {
 	private MugglClassLoader classLoader;
+	private boolean ownsClassLoader;
 	private VirtualMachine virtualMachine;
 	private boolean executionFinished = false;
 	private boolean vmHasChanged = false;
@@ -35,7 +36,7 @@ public class Application extends Thread {
 
 	/**
 	 * Basic constructor.
-	 * @param classLoader The main classLoader to use.
+	 * @param classLoader The main classLoader to use. It is not closed by the application.
 	 * @param initialClassName The class that is to be executed initially.
 	 * @param method The method that is to be executed initially. It must be a method of the class initialClassName.
 	 * @throws ClassFileException Thrown on fatal errors loading or parsing a class file.
@@ -63,7 +64,8 @@ public class Application extends Thread {
 	}
 
 	/**
-	 * Basic constructor for initialization without an existing class loader.
+	 * Basic constructor for initialization without an existing class loader. The class loader
+	 * created is closed when the application is cleaned up.
 	 * @param classPathEntries A String array of class path entries.
 	 * @param initialClassName The class that is to be executed initially.
 	 * @param initialMethodNumber The methods number in the class file that is to be executed first.
@@ -76,6 +78,7 @@ public class Application extends Thread {
 			int initialMethodNumber
 			) throws ClassFileException, InitializationException {
 		this.classLoader = new MugglClassLoader(classPathEntries);
+		this.ownsClassLoader = true;
 		ClassFile classFile = this.classLoader.getClassAsClassFile(initialClassName);
 		if (Options.getInst().symbolicMode) {
 			if (Options.getInst().logicMode) {
@@ -289,7 +292,8 @@ public class Application extends Thread {
 								+ StaticStringFormatter.formatByteValue(runtime.maxMemory())
 								+ ". " + forcedString  + "Cleaning up...");
 
-			// Remove any references.
+			// Release the class loader if it is not shared, and remove any references.
+			if (this.ownsClassLoader && this.classLoader != null) this.classLoader.close();
 			this.classLoader = null;
 			this.virtualMachine = null;
 
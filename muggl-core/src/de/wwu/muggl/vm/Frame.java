@@ -1,10 +1,9 @@
 package de.wwu.muggl.vm;
 
-import java.util.Stack;
-
 import de.wwu.muggl.vm.classfile.structures.Constant;
 import de.wwu.muggl.vm.classfile.structures.Method;
 import de.wwu.muggl.vm.classfile.structures.UndefinedValue;
+import de.wwu.muggl.vm.events.ExecutionEvents;
 import de.wwu.muggl.vm.execution.ExecutionException;
 import de.wwu.muggl.vm.threading.Monitor;
 
@@ -32,7 +31,7 @@ public class Frame {
 	/**
 	 * The operand stack of this frame.
 	 */
-	protected Stack<Object> operandStack;
+	protected OperandStack operandStack;
 	/**
 	 * A reference to the constant_pool of the class the method belong to.
 	 */
@@ -73,7 +72,7 @@ public class Frame {
 		this.invokedBy = invokedBy;
 		this.vm = vm;
 		this.method = method;
-		this.operandStack = new Stack<Object>();
+		this.operandStack = new OperandStack(method.getCodeAttribute().getMaxStack());
 		this.constantPool = constantPool;
 		this.localVariables = new Object[method.getCodeAttribute().getMaxLocals()];
 		if (invokedBy != null) this.hiddenFrame = invokedBy.hiddenFrame;
@@ -117,7 +116,7 @@ public class Frame {
 	 * Getter for the operand stack.
 	 * @return The operand stack.
 	 */
-	public Stack<Object> getOperandStack() {
+	public OperandStack getOperandStack() {
 		return this.operandStack;
 	}
 
@@ -125,7 +124,7 @@ public class Frame {
 	 * Setter for the operand stack.
 	 * @param operandStack The new operand stack.
 	 */
-	public void setOperandStack(Stack<Object> operandStack) {
+	public void setOperandStack(OperandStack operandStack) {
 		this.operandStack = operandStack;
 	}
 
@@ -231,6 +230,7 @@ public class Frame {
 			this.operandStack.pop();
 		}
 		this.active = false;
+		if (ExecutionEvents.isEnabled()) ExecutionEvents.framePopped(this);
 	}
 
 	/**
@@ -249,6 +249,7 @@ public class Frame {
 			this.operandStack.pop();
 		}
 		this.active = false;
+		if (ExecutionEvents.isEnabled()) ExecutionEvents.framePopped(this);
 	}
 
 	/**
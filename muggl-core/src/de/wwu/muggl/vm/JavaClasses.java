@@ -264,10 +264,7 @@ public final class JavaClasses {
 
 		public static Object get_vmtarget(Objectref mname) {
 			// assert(is_instance(mname), "wrong type");
-			if (mname.getSysfields().containsKey("vmtarget")) {
-				return (Object) mname.getSysfields().get("vmtarget");
-			} else
-				return null;
+			return mname.getSysfield("vmtarget");
 		}
 
 		/**
@@ -284,11 +281,7 @@ public final class JavaClasses {
 
 		public static Integer get_vmindex(Objectref mname) {
 			// assert(is_instance(mname), "wrong type");
-			if (mname.getSysfields().containsKey("vmindex")) {
-				return (Integer) mname.getSysfields().get("vmindex");
-			} else
-				return null;
-
+			return (Integer) mname.getSysfield("vmindex");
 		}
 
 		public static void set_vmindex(Objectref mname, int index) {
@@ -0,0 +1,392 @@
+package de.wwu.muggl.vm;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+/**
+ * The OperandStack is the stack used for the operand stacks of frames and, holding frames, for
+ * the virtual machine stack. Unlike java.util.Stack, it does not synchronize: Stacks are confined
+ * to the thread of the virtual machine using them.<br />
+ * <br />
+ * Slots are kept in two parallel arrays. References, including boxed values pushed by
+ * {@link #push(Object)}, are stored in an Object array. Values pushed by the typed methods for
+ * the four numeric computational types are stored unboxed in a long array, their slot in the
+ * Object array holding a marker of their type. Popping them with the typed methods of the same
+ * type hence neither boxes nor unboxes, so a chain of arithmetic instructions executed
+ * concretely does not allocate. The generic methods box unboxed values when they are read, as
+ * local variables, fields and arrays hold wrapper objects. The typed pop methods accept boxed
+ * values, too.<br />
+ * <br />
+ * Since the maximum depth of an operand stack is known from the code attribute of its method,
+ * the arrays can be allocated with the final size up front. They still grow if more elements are
+ * pushed.<br />
+ * <br />
+ * Pushes and pops of any type go through {@link #pushSlot()} and {@link #popSlot()}, which
+ * subclasses may extend to track the modifications of the stack.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+public class OperandStack {
+	// The default capacity.
+	private static final int DEFAULT_CAPACITY = 16;
+	// The markers of the slots holding unboxed values.
+	private static final Object INT_SLOT = new Object();
+	private static final Object LONG_SLOT = new Object();
+	private static final Object FLOAT_SLOT = new Object();
+	private static final Object DOUBLE_SLOT = new Object();
+
+	/**
+	 * The references, or the markers of the types of the unboxed values.
+	 */
+	protected Object[] references;
+	/**
+	 * The unboxed values. Floats and doubles are stored as their raw bits.
+	 */
+	protected long[] primitives;
+	/**
+	 * The number of items on the stack.
+	 */
+	protected int size;
+
+	/**
+	 * Initialize a new OperandStack with the default capacity.
+	 */
+	public OperandStack() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Initialize a new OperandStack for a method with the supplied max_stack.
+	 *
+	 * @param maxStack The maximum depth of the operand stack.
+	 */
+	public OperandStack(int maxStack) {
+		int capacity = Math.max(1, maxStack);
+		this.references = new Object[capacity];
+		this.primitives = new long[capacity];
+	}
+
+	/**
+	 * Reserve the slot on top of the stack for an item about to be pushed. The arrays grow if they
+	 * are full.
+	 *
+	 * @return The index of the slot.
+	 */
+	protected int pushSlot() {
+		if (this.size == this.references.length) ensureCapacity(this.size << 1);
+		return this.size++;
+	}
+
+	/**
+	 * Release the slot on top of the stack for an item about to be popped. The item is still
+	 * readable by {@link #slot(int)} until another item is pushed.
+	 *
+	 * @return The index of the slot.
+	 * @throws EmptyStackException If the stack is empty.
+	 */
+	protected int popSlot() {
+		if (this.size == 0) throw new EmptyStackException();
+		return --this.size;
+	}
+
+	/**
+	 * Make sure the arrays can hold the supplied number of items.
+	 *
+	 * @param capacity The number of items.
+	 */
+	protected void ensureCapacity(int capacity) {
+		if (this.references.length < capacity) {
+			this.references = Arrays.copyOf(this.references, capacity);
+			this.primitives = Arrays.copyOf(this.primitives, capacity);
+		}
+	}
+
+	/**
+	 * Get the item in a slot, boxing an unboxed value. The index is not checked against the
+	 * size of the stack.
+	 *
+	 * @param index The index of the slot.
+	 * @return The item.
+	 */
+	protected Object slot(int index) {
+		Object item = this.references[index];
+		if (item == INT_SLOT) return Integer.valueOf((int) this.primitives[index]);
+		if (item == LONG_SLOT) return Long.valueOf(this.primitives[index]);
+		if (item == FLOAT_SLOT) return Float.valueOf(Float.intBitsToFloat((int) this.primitives[index]));
+		if (item == DOUBLE_SLOT) return Double.valueOf(Double.longBitsToDouble(this.primitives[index]));
+		return item;
+	}
+
+	/**
+	 * Push an item onto the stack.
+	 *
+	 * @param item The item to push onto the stack.
+	 * @return The supplied item.
+	 */
+	public Object push(Object item) {
+		// The slot is reserved first, as it may replace the arrays.
+		int index = pushSlot();
+		this.references[index] = item;
+		return item;
+	}
+
+	/**
+	 * Pop an item from the stack. An unboxed value is boxed.
+	 *
+	 * @return The popped item.
+	 * @throws EmptyStackException If the stack is empty.
+	 */
+	public Object pop() {
+		int index = popSlot();
+		Object item = slot(index);
+		this.references[index] = null;
+		return item;
+	}
+
+	/**
+	 * Get the item on top of the stack without removing it. An unboxed value is boxed.
+	 *
+	 * @return The item on top of the stack.
+	 * @throws EmptyStackException If the stack is empty.
+	 */
+	public Object peek() {
+		if (this.size == 0) throw new EmptyStackException();
+		return slot(this.size - 1);
+	}
+
+	/**
+	 * Get the item at the specified position. Position 0 is the bottom of the stack. An unboxed
+	 * value is boxed.
+	 *
+	 * @param index The position of the item.
+	 * @return The item at the specified position.
+	 * @throws ArrayIndexOutOfBoundsException If the index is out of the bounds of this stack.
+	 */
+	public Object get(int index) {
+		if (index < 0 || index >= this.size) throw new ArrayIndexOutOfBoundsException(index);
+		return slot(index);
+	}
+
+	/**
+	 * Replace the item at the specified position. Position 0 is the bottom of the stack.
+	 *
+	 * @param index The position of the item.
+	 * @param item The new item.
+	 * @return The item previously at the specified position.
+	 * @throws ArrayIndexOutOfBoundsException If the index is out of the bounds of this stack.
+	 */
+	public Object set(int index, Object item) {
+		Object previous = get(index);
+		this.references[index] = item;
+		return previous;
+	}
+
+	/**
+	 * Check if the stack is empty.
+	 *
+	 * @return true, if the stack is empty, false otherwise.
+	 */
+	public boolean empty() {
+		return this.size == 0;
+	}
+
+	/**
+	 * Check if the stack is empty.
+	 *
+	 * @return true, if the stack is empty, false otherwise.
+	 */
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/**
+	 * Get the number of items on the stack.
+	 *
+	 * @return The number of items on the stack.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Remove all items from the stack.
+	 */
+	public void clear() {
+		while (this.size > 0) {
+			int index = popSlot();
+			this.references[index] = null;
+		}
+	}
+
+	/**
+	 * Get the items on the stack, from the bottom to the top. Unboxed values are boxed.
+	 *
+	 * @return A new array holding the items.
+	 */
+	public Object[] toArray() {
+		Object[] items = new Object[this.size];
+		for (int index = 0; index < this.size; index++) {
+			items[index] = slot(index);
+		}
+		return items;
+	}
+
+	/**
+	 * Push an int onto the stack without boxing it.
+	 *
+	 * @param value The int to push.
+	 */
+	public void pushInt(int value) {
+		int index = pushSlot();
+		this.references[index] = INT_SLOT;
+		this.primitives[index] = value;
+	}
+
+	/**
+	 * Pop an int from the stack. Boxed values of the types boolean, byte, char and short, which
+	 * are int values in terms of the virtual machine, are converted.
+	 *
+	 * @return The popped int.
+	 * @throws ClassCastException If the item on top of the stack is no int value.
+	 * @throws EmptyStackException If the stack is empty.
+	 */
+	public int popInt() {
+		int index = popSlot();
+		Object item = this.references[index];
+		if (item == INT_SLOT) return (int) this.primitives[index];
+		this.references[index] = null;
+		if (item instanceof Integer) return ((Integer) item).intValue();
+		return (Integer) VmSymbols.wideningPrimConversion(item, Integer.class);
+	}
+
+	/**
+	 * Push a long onto the stack without boxing it.
+	 *
+	 * @param value The long to push.
+	 */
+	public void pushLong(long value) {
+		int index = pushSlot();
+		this.references[index] = LONG_SLOT;
+		this.primitives[index] = value;
+	}
+
+	/**
+	 * Pop a long from the stack.
+	 *
+	 * @return The popped long.
+	 * @throws ClassCastException If the item on top of the stack is no long value.
+	 * @throws EmptyStackException If the stack is empty.
+	 */
+	public long popLong() {
+		int index = popSlot();
+		Object item = this.references[index];
+		if (item == LONG_SLOT) return this.primitives[index];
+		this.references[index] = null;
+		return ((Long) item).longValue();
+	}
+
+	/**
+	 * Push a float onto the stack without boxing it.
+	 *
+	 * @param value The float to push.
+	 */
+	public void pushFloat(float value) {
+		int index = pushSlot();
+		this.references[index] = FLOAT_SLOT;
+		this.primitives[index] = Float.floatToRawIntBits(value);
+	}
+
+	/**
+	 * Pop a float from the stack.
+	 *
+	 * @return The popped float.
+	 * @throws ClassCastException If the item on top of the stack is no float value.
+	 * @throws EmptyStackException If the stack is empty.
+	 */
+	public float popFloat() {
+		int index = popSlot();
+		Object item = this.references[index];
+		if (item == FLOAT_SLOT) return Float.intBitsToFloat((int) this.primitives[index]);
+		this.references[index] = null;
+		return ((Float) item).floatValue();
+	}
+
+	/**
+	 * Push a double onto the stack without boxing it.
+	 *
+	 * @param value The double to push.
+	 */
+	public void pushDouble(double value) {
+		int index = pushSlot();
+		this.references[index] = DOUBLE_SLOT;
+		this.primitives[index] = Double.doubleToRawLongBits(value);
+	}
+
+	/**
+	 * Pop a double from the stack.
+	 *
+	 * @return The popped double.
+	 * @throws ClassCastException If the item on top of the stack is no double value.
+	 * @throws EmptyStackException If the stack is empty.
+	 */
+	public double popDouble() {
+		int index = popSlot();
+		Object item = this.references[index];
+		if (item == DOUBLE_SLOT) return Double.longBitsToDouble(this.primitives[index]);
+		this.references[index] = null;
+		return ((Double) item).doubleValue();
+	}
+
+	/**
+	 * Indicates whether some other object is equal to this one. Stacks are equal if they hold
+	 * equal items in the same order, regardless of whether values are boxed.
+	 *
+	 * @param obj The object to check equality with.
+	 * @return true, if obj is an OperandStack holding equal items; false otherwise.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) return true;
+		if (!(obj instanceof OperandStack)) return false;
+		OperandStack stack = (OperandStack) obj;
+		if (stack.size != this.size) return false;
+		for (int index = 0; index < this.size; index++) {
+			Object item = slot(index);
+			Object other = stack.slot(index);
+			if (item == null ? other != null : !item.equals(other)) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the hash code value for this stack, computed from its items like that of a List.
+	 *
+	 * @return The hash code value for this stack.
+	 */
+	@Override
+	public int hashCode() {
+		int hashCode = 1;
+		for (int index = 0; index < this.size; index++) {
+			Object item = slot(index);
+			hashCode = 31 * hashCode + (item == null ? 0 : item.hashCode());
+		}
+		return hashCode;
+	}
+
+	/**
+	 * Returns a String representation of the items on the stack, from the bottom to the top.
+	 *
+	 * @return A String representation of the stack.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("[");
+		for (int index = 0; index < this.size; index++) {
+			if (index > 0) builder.append(", ");
+			builder.append(slot(index));
+		}
+		return builder.append(']').toString();
+	}
+
+}
@@ -63,6 +63,17 @@ public class SystemDictionary {
 
 	}
 
+	/**
+	 * Make a dictionary captured by a {@link UniverseSnapshot} the instance again.
+	 *
+	 * @param dictionary The captured dictionary.
+	 * @param vm The virtual machine it is restored for.
+	 */
+	static void restore(SystemDictionary dictionary, VirtualMachine vm) {
+		instance = dictionary;
+		instance.vm = vm;
+	}
+
 	public static boolean isInitialized() {
 		return instance != null;
 	}
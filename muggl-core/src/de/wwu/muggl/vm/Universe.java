@@ -100,6 +100,33 @@ public class Universe {
 		// _mirrors[T_ARRAY] = InstanceKlass.cast(_object_klass)->java_mirror();
 	}
 
+	/**
+	 * Get a copy of the basic type mirrors, indexed by the value of their {@link BasicType}.
+	 *
+	 * @return A copy of the basic type mirrors.
+	 */
+	static Objectref[] get_basic_type_mirrors() {
+		return _mirrors.clone();
+	}
+
+	/**
+	 * Restore basic type mirrors captured by {@link #get_basic_type_mirrors()}.
+	 *
+	 * @param mirrors The basic type mirrors, indexed by the value of their {@link BasicType}.
+	 */
+	static void restore_basic_type_mirrors(Objectref[] mirrors) {
+		System.arraycopy(mirrors, 0, _mirrors, 0, _mirrors.length);
+		_int_mirror = _mirrors[VmSymbols.BasicType.T_INT.value];
+		_float_mirror = _mirrors[VmSymbols.BasicType.T_FLOAT.value];
+		_double_mirror = _mirrors[VmSymbols.BasicType.T_DOUBLE.value];
+		_byte_mirror = _mirrors[VmSymbols.BasicType.T_BYTE.value];
+		_bool_mirror = _mirrors[VmSymbols.BasicType.T_BOOLEAN.value];
+		_char_mirror = _mirrors[VmSymbols.BasicType.T_CHAR.value];
+		_long_mirror = _mirrors[VmSymbols.BasicType.T_LONG.value];
+		_short_mirror = _mirrors[VmSymbols.BasicType.T_SHORT.value];
+		_void_mirror = _mirrors[VmSymbols.BasicType.T_VOID.value];
+	}
+
 	public static Objectref java_mirror(BasicType type) {
 		if (_int_mirror == null)
 			Globals.getInst().execLogger.warn("mirrors not initialized!");
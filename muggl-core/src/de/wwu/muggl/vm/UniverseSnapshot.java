@@ -0,0 +1,108 @@
+package de.wwu.muggl.vm;
+
+import java.util.Map;
+
+import de.wwu.muggl.configuration.Globals;
+import de.wwu.muggl.vm.classfile.ClassFile;
+import de.wwu.muggl.vm.initialization.InitializedClass;
+import de.wwu.muggl.vm.initialization.Objectref;
+import de.wwu.muggl.vm.initialization.strings.StringCache;
+import de.wwu.muggl.vm.loading.MugglClassLoader;
+
+/**
+ * Snapshot of the universe after its genesis. Setting up the universe (the system dictionary, the
+ * system classes, the thread groups and the main thread, and running
+ * <code>System.initializeSystemClass()</code>) takes a considerable share of the run time of short
+ * executions. If the universe is set up for virtual machines using the same class loader over and
+ * over again, it can instead be captured once and restored for any further virtual machine.<br />
+ * <br />
+ * Capturing records the initialized classes, the interned strings, the system dictionary and the
+ * objects the universe holds on to. The objects of the heap are not copied. Instead, the
+ * {@link de.wwu.muggl.vm.initialization.HeapJournal} of the class loader is started, which copies
+ * the fields of an object or the elements of an array on their first modification. Restoring rolls
+ * the journal back, drops classes initialized later on and makes the recorded objects the ones of
+ * the universe again. If too many objects have been modified in between, the journal has stopped
+ * and the snapshot cannot be restored any more; the universe is then set up from scratch and
+ * captured again.<br />
+ * <br />
+ * Snapshots are only taken for non-symbolic execution. The journal restores concrete values;
+ * the state of a symbolic execution (e.g. its constraints, choice points and trail) is not
+ * covered by it.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+public final class UniverseSnapshot {
+	// The class loader and the classes initialized at the time of capturing.
+	private final MugglClassLoader classLoader;
+	private final Map<ClassFile, InitializedClass> initializedClasses;
+	private final long classesInstantiated;
+
+	// The interned strings and the system dictionary.
+	private final StringCache stringCache;
+	private final SystemDictionary systemDictionary;
+
+	// Objects the universe holds on to.
+	private final Objectref[] basicTypeMirrors;
+	private final Objectref mainThreadGroup;
+	private final Objectref systemThreadGroup;
+	private final Objectref threadObj;
+
+	/**
+	 * Capture the universe of a virtual machine right after its genesis.
+	 *
+	 * @param vm The virtual machine.
+	 */
+	UniverseSnapshot(VirtualMachine vm) {
+		this.classLoader = vm.getClassLoader();
+		this.initializedClasses = this.classLoader.getInitializedClassFileCache();
+		this.classesInstantiated = this.classLoader.getClassesInstantiated();
+
+		this.stringCache = new StringCache(vm, vm.getStringCache());
+		this.systemDictionary = SystemDictionary.gI();
+
+		this.basicTypeMirrors = Universe.get_basic_type_mirrors();
+		this.mainThreadGroup = Universe.get_main_thread_group();
+		this.systemThreadGroup = Universe.get_system_thread_group();
+		this.threadObj = vm.get_threadObj();
+
+		this.classLoader.getHeapJournal().start();
+
+		if (Globals.getInst().execLogger.isDebugEnabled())
+			Globals.getInst().execLogger.debug("Captured the universe with "
+					+ this.initializedClasses.size() + " initialized classes.");
+	}
+
+	/**
+	 * Restore the universe for a virtual machine instead of running the genesis.
+	 *
+	 * @param vm The virtual machine. It has to use the class loader of the captured universe.
+	 * @return true, if the universe has been restored; false, if the heap journal has been stopped
+	 *         since capturing, so the genesis has to be run.
+	 * @throws IllegalArgumentException If the virtual machine uses another class loader.
+	 */
+	boolean restore(VirtualMachine vm) {
+		if (vm.getClassLoader() != this.classLoader)
+			throw new IllegalArgumentException(
+					"The universe can only be restored for virtual machines using the same class loader.");
+
+		int journaledObjects = this.classLoader.getHeapJournal().getNumberOfJournaledObjects();
+		if (!this.classLoader.getHeapJournal().rollback()) return false;
+		this.classLoader.restoreInitializedClassFileCache(this.initializedClasses);
+		this.classLoader.restoreInstantiationNumber(this.classesInstantiated);
+
+		vm.setStringCache(new StringCache(vm, this.stringCache));
+		SystemDictionary.restore(this.systemDictionary, vm);
+
+		Universe.restore_basic_type_mirrors(this.basicTypeMirrors);
+		Universe.set_main_thread_group(this.mainThreadGroup);
+		Universe.set_system_thread_group(this.systemThreadGroup);
+		vm.set_threadObj(this.threadObj);
+
+		if (Globals.getInst().execLogger.isDebugEnabled())
+			Globals.getInst().execLogger.debug("Restored the universe, rolling back "
+					+ journaledObjects + " modified objects.");
+		return true;
+	}
+
+}
@@ -3,10 +3,7 @@ package de.wwu.muggl.vm;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.lang.invoke.MethodType;
-import java.util.Arrays;
 import java.util.Hashtable;
-import java.util.Stack;
-import java.util.stream.Collectors;
 
 import de.wwu.muggl.vm.execution.NativeSunMiscVM;
 import org.apache.log4j.Level;
@@ -22,7 +19,9 @@ import de.wwu.muggl.vm.classfile.ClassFileException;
 import de.wwu.muggl.vm.classfile.Limitations;
 import de.wwu.muggl.vm.classfile.structures.Method;
 import de.wwu.muggl.vm.classfile.structures.UndefinedValue;
+import de.wwu.muggl.vm.events.ExecutionEvents;
 import de.wwu.muggl.vm.exceptions.NoExceptionHandlerFoundException;
+import de.wwu.muggl.vm.execution.ConversionException;
 import de.wwu.muggl.vm.execution.ExecutionException;
 import de.wwu.muggl.vm.execution.MugglToJavaConversion;
 import de.wwu.muggl.vm.impl.symbolic.SymbolicExecutionException;
@@ -91,7 +90,7 @@ public abstract class VirtualMachine extends Thread {
 	/**
 	 * The vm stack.
 	 */
-	protected Stack<Object> stack;
+	protected OperandStack stack;
 	private boolean errorOccured = false;
 	private String errorMessage;
 	/**
@@ -214,13 +213,14 @@ public abstract class VirtualMachine extends Thread {
 		this.throwableGenerator = new ThrowableGenerator(this);			
 		this.currentFrame = null;
 		this.stack = null;		
+		ExecutionEvents.configure();
 	}
 
 	/**
 	 * Getter for the virtual machine stack.
 	 * @return The virtual machine stack
 	 */
-	public Stack<Object> getStack() {
+	public OperandStack getStack() {
 		return this.stack;
 	}
 
@@ -233,71 +233,8 @@ public abstract class VirtualMachine extends Thread {
 		try {
 			Globals.getInst().vmIsInitialized = true;
 			Globals.getInst().execLogger.debug("Terminated VM initialization. Loading initMethod and initial Frame");
-			// Preparations for the initial frame.
-			Object[] predefinedParameters = this.initialMethod.getPredefinedParameters();
-			Object[] arguments = null;
-
-			int addOne = 0;
-			if (!this.initialMethod.isAccStatic()) addOne++;
-
-			if (predefinedParameters != null) {
-				arguments = new Object[predefinedParameters.length + addOne];
-				for (int a = 0; a < predefinedParameters.length; a++) {
-					// Check if predefined parameters have to be modified.
-					if (predefinedParameters[a] != null && predefinedParameters[a].getClass().isArray()) {
-						// If predefined parameters are arrays, they have to be converted to Arrayref objects.
-						MugglToJavaConversion conversion = new MugglToJavaConversion(this);
-						Arrayref arrayref = (Arrayref) conversion.toMuggl(predefinedParameters[a], true);
-						arguments[a + addOne] = arrayref;
-					} else if (this.initialMethod.isAccVarargs()
-							&& a == predefinedParameters.length - 1
-							&& predefinedParameters[a] != null
-							&& predefinedParameters[a] instanceof UndefinedValue) {
-						/*
-						 * The method may take variable arguments. If its last parameter is
-						 * undefined, pass an array of zero length.
-						 */
-						Objectref objectref = getAnObjectref(this.classLoader.getClassAsClassFile(
-										this.initialMethod.getParameterTypeAtIndex(a)));
-						Arrayref arrayref = new Arrayref(objectref, 0);
-						arguments[a + addOne] = arrayref;
-					} else {
-						// Just store the object.
-						arguments[a + addOne] = predefinedParameters[a];
-					}
-				}
-			} else {
-				arguments = new Object[1];
-			}
-			if (!this.initialMethod.isAccStatic()) arguments[0] = getAnObjectref(this.classFile);
-
-			// Create initial frame.
-			createAndPushFrame(null, this.initialMethod, arguments);
-			Frame visualStartingFrame = (Frame) this.stack.peek();
-
-			// class initialization nedded?, so you can conveniently call instance methods from MugglGUI and tests
-//			if (!this.initialMethod.getName().equals(VmSymbols.OBJECT_INITIALIZER_NAME) && !this.initialMethod.isAccStatic()) {			
-//				try {
-//					createAndPushFrame(null, this.classFile.getMethodByNameAndDescriptor(VmSymbols.OBJECT_INITIALIZER_NAME, "()V"), new Object[]{arguments[0]});
-//					
-//					if (Globals.getInst().execLogger.isDebugEnabled()) Globals.getInst().execLogger.debug("A class initializer (<init>-method) has been found for class " + this.classFile.getName() + ". It will be executed next.");
-//				} catch (MethodResolutionError e) {
-//					// This exception is expected, it just symbolizes there is no static initializer for this class.
-//					if (Globals.getInst().execLogger.isDebugEnabled()) Globals.getInst().execLogger.debug("There is no class initializer (<init>-method) for class " + this.classFile.getName() + ". Execution will start with method " + this.initialMethod.getName() + ".");
-//				}
-//			}
+			Frame visualStartingFrame = pushInitialFrames();
 
-			// Is there a static initializer for this class? If yes, it has to be pushed as a Frame either. Of course, do not do this if the method to be executed first is the static initializer itself.
-			if (!this.initialMethod.getName().equals(VmSymbols.CLASS_INITIALIZER_NAME)) {
-				try {
-					createAndPushFrame(null, this.classFile.getClinitMethod(), null);
-					if (Globals.getInst().execLogger.isDebugEnabled()) Globals.getInst().execLogger.debug("A static initializer (<clinit>-method) has been found for class " + this.classFile.getName() + ". It will be executed first.");
-				} catch (MethodResolutionError e) {
-					// This exception is expected, it just symbolizes there is no static initializer for this class.
-					if (Globals.getInst().execLogger.isDebugEnabled()) Globals.getInst().execLogger.debug("There is no static initializer (<clinit>-method) for class " + this.classFile.getName() + ". Execution will start with method " + this.initialMethod.getName() + ".");
-				}
-			}
-						
 			// Notify the Application.
 			this.application.newVMHasBeenInitialized();
 			// Start the execution
@@ -418,11 +355,93 @@ public abstract class VirtualMachine extends Thread {
 			if (Globals.getInst().execLogger.isEnabledFor(Level.ERROR))
 				Globals.getInst().execLogger.error("Fatal error during the execution, halting the virtual machine: " + this.errorMessage);
 		}
+		if (this.errorOccured) ExecutionEvents.logRecentEvents();
 		if (!this.finalized) this.application.executionHasFinished();
 		if (!this.errorOccured && Globals.getInst().execLogger.isInfoEnabled())
 			Globals.getInst().execLogger.info("Execution in the virtual machine finished successfully.");
 	}
 
+	/**
+	 * Push the frames execution starts with. These are the frame of the initial method, which is
+	 * supplied the predefined parameters, and the frame of the static initializer of its class (if
+	 * there is any). The static initializer will hence be executed first.
+	 *
+	 * @return The frame of the initial method. If step by step execution is enabled, there will be
+	 *         no stepping until this frame has been reached.
+	 * @throws ClassFileException If a class needed for the parameters cannot be loaded.
+	 * @throws ConversionException If a predefined array parameter cannot be converted.
+	 * @throws ExecutionException If pushing a frame fails.
+	 */
+	protected Frame pushInitialFrames() throws ClassFileException, ConversionException,
+			ExecutionException {
+		// Preparations for the initial frame.
+		Object[] predefinedParameters = this.initialMethod.getPredefinedParameters();
+		Object[] arguments = null;
+
+		int addOne = 0;
+		if (!this.initialMethod.isAccStatic()) addOne++;
+
+		if (predefinedParameters != null) {
+			arguments = new Object[predefinedParameters.length + addOne];
+			for (int a = 0; a < predefinedParameters.length; a++) {
+				// Check if predefined parameters have to be modified.
+				if (predefinedParameters[a] != null && predefinedParameters[a].getClass().isArray()) {
+					// If predefined parameters are arrays, they have to be converted to Arrayref objects.
+					MugglToJavaConversion conversion = new MugglToJavaConversion(this);
+					Arrayref arrayref = (Arrayref) conversion.toMuggl(predefinedParameters[a], true);
+					arguments[a + addOne] = arrayref;
+				} else if (this.initialMethod.isAccVarargs()
+						&& a == predefinedParameters.length - 1
+						&& predefinedParameters[a] != null
+						&& predefinedParameters[a] instanceof UndefinedValue) {
+					/*
+					 * The method may take variable arguments. If its last parameter is
+					 * undefined, pass an array of zero length.
+					 */
+					Objectref objectref = getAnObjectref(this.classLoader.getClassAsClassFile(
+									this.initialMethod.getParameterTypeAtIndex(a)));
+					Arrayref arrayref = new Arrayref(objectref, 0);
+					arguments[a + addOne] = arrayref;
+				} else {
+					// Just store the object.
+					arguments[a + addOne] = predefinedParameters[a];
+				}
+			}
+		} else {
+			arguments = new Object[1];
+		}
+		if (!this.initialMethod.isAccStatic()) arguments[0] = getAnObjectref(this.classFile);
+
+		// Create initial frame.
+		createAndPushFrame(null, this.initialMethod, arguments);
+		Frame visualStartingFrame = (Frame) this.stack.peek();
+
+		// class initialization nedded?, so you can conveniently call instance methods from MugglGUI and tests
+//			if (!this.initialMethod.getName().equals(VmSymbols.OBJECT_INITIALIZER_NAME) && !this.initialMethod.isAccStatic()) {			
+//				try {
+//					createAndPushFrame(null, this.classFile.getMethodByNameAndDescriptor(VmSymbols.OBJECT_INITIALIZER_NAME, "()V"), new Object[]{arguments[0]});
+//					
+//					if (Globals.getInst().execLogger.isDebugEnabled()) Globals.getInst().execLogger.debug("A class initializer (<init>-method) has been found for class " + this.classFile.getName() + ". It will be executed next.");
+//				} catch (MethodResolutionError e) {
+//					// This exception is expected, it just symbolizes there is no static initializer for this class.
+//					if (Globals.getInst().execLogger.isDebugEnabled()) Globals.getInst().execLogger.debug("There is no class initializer (<init>-method) for class " + this.classFile.getName() + ". Execution will start with method " + this.initialMethod.getName() + ".");
+//				}
+//			}
+
+		// Is there a static initializer for this class? If yes, it has to be pushed as a Frame either. Of course, do not do this if the method to be executed first is the static initializer itself.
+		if (!this.initialMethod.getName().equals(VmSymbols.CLASS_INITIALIZER_NAME)) {
+			try {
+				createAndPushFrame(null, this.classFile.getClinitMethod(), null);
+				if (Globals.getInst().execLogger.isDebugEnabled()) Globals.getInst().execLogger.debug("A static initializer (<clinit>-method) has been found for class " + this.classFile.getName() + ". It will be executed first.");
+			} catch (MethodResolutionError e) {
+				// This exception is expected, it just symbolizes there is no static initializer for this class.
+				if (Globals.getInst().execLogger.isDebugEnabled()) Globals.getInst().execLogger.debug("There is no static initializer (<clinit>-method) for class " + this.classFile.getName() + ". Execution will start with method " + this.initialMethod.getName() + ".");
+			}
+		}
+
+		return visualStartingFrame;
+	}
+
 	/**
 	 * Set up the system thread group and threads. Copied over from openjdk/hotspot/src/share/vm/runtime/thread.cpp
 	 * 
@@ -663,7 +682,7 @@ public abstract class VirtualMachine extends Thread {
 				} else {
 					frame = (Frame) object;
 				}
-				if (!frame.isHiddenFrame() && Globals.getInst()
+				if (Globals.getInst().execLogger.isTraceEnabled() && !frame.isHiddenFrame() && Globals.getInst()
 						.logBasedOnWhiteBlacklist(frame.getMethod().getPackageAndName()).orElse(true))
 					Globals.getInst().execLogger.trace("Continuing operation with the next frame ("
 							+ frame.getMethod().getPackageAndName() + "(" + frame.getMethod().getParameterTypesAndNames() + ")).");
@@ -696,13 +715,7 @@ public abstract class VirtualMachine extends Thread {
 		this.executedFrames++;
 		Method method = this.currentFrame.getMethod();
 		
-		if (!this.currentFrame.isHiddenFrame()
-				&& Globals.getInst().logBasedOnWhiteBlacklist(method.getPackageAndName()).orElse(true))
-			Globals.getInst().executionInstructionLogger.debug(
-					method.getFullNameWithParameterTypesAndNames()+ ":" + method.getReturnType() + " (op: " + this.currentFrame.getOperandStack()
-							+ ", localvar: [" + Arrays.stream(this.currentFrame.getLocalVariables())
-									.map(x -> (x == null)? "null": x.toString()).collect(Collectors.joining(", "))									
-							+ "] pc: " + this.pc + ")");
+		if (ExecutionEvents.isEnabled()) ExecutionEvents.frameEntered(this.currentFrame);
 
 		Instruction[] instructions = method.getInstructionsAndOtherBytes();
 		this.currentFrame.setActive(true);
@@ -758,11 +771,7 @@ public abstract class VirtualMachine extends Thread {
 			// Save the pc.
 			int pc = this.pc;
 
-			// avoid log pollution with certain filters
-			if (!currentFrame.isHiddenFrame() && Globals.getInst()
-					.logBasedOnWhiteBlacklist(this.currentFrame.method.getPackageAndName()).orElse(true))
-				Globals.getInst().executionInstructionLogger.trace(this.currentFrame.method.getPackageAndName()
-						+ " " + String.format("%1$2s", this.pc) + ": Executing " + instructions[this.pc].getNameWithOtherBytes());
+			if (ExecutionEvents.isEnabled()) ExecutionEvents.executingInstruction(this.currentFrame, pc, instructions[pc]);
 
 			// Execute the instruction.
 			executeInstruction(instructions[pc]);
@@ -1031,6 +1040,7 @@ public abstract class VirtualMachine extends Thread {
 			throws ExecutionException {
 		Frame frame = createFrame(invokedBy, method, arguments);
 		this.stack.push(frame);
+		if (ExecutionEvents.isEnabled()) ExecutionEvents.framePushed(frame);
 	}
 
 	/**
@@ -1154,8 +1164,8 @@ public abstract class VirtualMachine extends Thread {
 				// Stop it here, we are back!
 				if (frame.equals(savedFrame)) break;
 
-				if (!frame.getMethod().equals(method) && !frame.isHiddenFrame() && Globals.getInst()
-						.logBasedOnWhiteBlacklist(frame.getMethod().getPackageAndName()).orElse(true))
+				if (Globals.getInst().execLogger.isTraceEnabled() && !frame.getMethod().equals(method)
+						&& !frame.isHiddenFrame() && Globals.getInst().logBasedOnWhiteBlacklist(frame.getMethod().getPackageAndName()).orElse(true))
 					// if getParameterTypesAndNames outputs parameters null, it might also be that we're only re-entering a frame
 					// and parameter resolution isn't accurate
 					Globals.getInst().execLogger.trace("Continuing operation with the next frame ("
@@ -1350,6 +1360,26 @@ public abstract class VirtualMachine extends Thread {
 		return VirtualMachine.threadObj;
 	}
 
+	/**
+	 * Set the (muggl-java) objectref of the thread object belonging to this thread. This is only
+	 * meant to be used when restoring a {@link UniverseSnapshot}.
+	 *
+	 * @param threadObj The thread object.
+	 */
+	void set_threadObj(Objectref threadObj) {
+		VirtualMachine.threadObj = threadObj;
+	}
+
+	/**
+	 * Replace the string cache. This is only meant to be used when restoring a
+	 * {@link UniverseSnapshot}.
+	 *
+	 * @param stringCache The new string cache.
+	 */
+	void setStringCache(StringCache stringCache) {
+		this.stringCache = stringCache;
+	}
+
 	public Objectref getAndInitializeObjectref(InitializedClass class_klass) {
 		Objectref ret = getAnObjectref(class_klass.getClassFile());
 		try {
@@ -1418,8 +1448,16 @@ public abstract class VirtualMachine extends Thread {
 
 		// prepare a "parent" null frame for the universe genesis
 		if (!Options.getInst().symbolicMode) {
+			// Restore the universe of a prior genesis, if possible.
+			UniverseSnapshot snapshot = this.classLoader.getUniverseSnapshot();
+			if (snapshot != null && Options.getInst().reuseUniverseSnapshot && snapshot.restore(this)) {
+				this.universeSetupFinished = true;
+				return;
+			}
+			this.classLoader.setUniverseSnapshot(null);
+
 			if (this.stack == null) {
-				this.stack = new Stack<>();
+				this.stack = new OperandStack();
 			}
 			Frame frame = new Frame(this);
 			this.currentFrame = frame;
@@ -1427,7 +1465,13 @@ public abstract class VirtualMachine extends Thread {
 			Universe.genesis(this);
 			this.stack.clear();
 			setUpThreads();
+
+			// Capture the universe for further virtual machines.
+			if (Options.getInst().reuseUniverseSnapshot && this.classLoader.hasUnlimitedCache()) {
+				this.classLoader.setUniverseSnapshot(new UniverseSnapshot(this));
+			}
 		}else {
+			this.classLoader.setUniverseSnapshot(null);
 //			this.stack = new Stack<Object>();
 //			Frame frame = new Frame(this);
 //			this.currentFrame = frame;
@@ -1,15 +1,17 @@
 package de.wwu.muggl.vm.classfile;
 
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.EOFException;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.log4j.Level;
 
@@ -268,7 +270,7 @@ public class ClassFile {
 
 	// Field to hold information about the Class object;
 	private int					byteLength;
-	private byte[]				bytes;
+	private ByteBuffer			buffer;
 	private Class<?>			instanceOfClass;
 	private InitializedClass	initializedClass;
 	private Objectref			primitiveWrapper;
@@ -276,16 +278,27 @@ public class ClassFile {
 	// Other fields.
 	private MugglClassLoader	classLoader;
 	private boolean				readingData					= false;
-	private DataInputStream		dis;
+	private ClassFileInput		input;
 	private String				name;
 	private String				fullPath;
 	private long				loadingNumber;
 	
 	//the java/lang/class mirror
 	private Objectref mirrorJava;
+
+	// The field layouts. Computed when they are needed first.
+	private Field[]				instanceFieldLayout;
+	private Field[]				staticFieldLayout;
+
+	// Method lookup and dispatch tables. Computed when they are needed first, and published safely
+	// as classes are shared by the threads of a virtual machine.
+	private volatile HashMap<String, Method[]>	methodsByName;
+	private volatile Method[]			vtable;
+	private final ConcurrentHashMap<Method, Method>	itable = new ConcurrentHashMap<Method, Method>();
 		
 	/**
-	 * Constructor for reading a class from a File resource.
+	 * Constructor for reading a class from a File resource. Larger files are memory-mapped, see
+	 * {@link ClassFileInput#readFile(File)}.
 	 * 
 	 * @param classLoader The MugglClassLoader which loads this ClassFile.
 	 * @param file The file containing a class.
@@ -295,109 +308,114 @@ public class ClassFile {
 	 */
 	public ClassFile(MugglClassLoader classLoader, File file) throws ClassFileException,
 			FileNotFoundException, IOException {
-		this(classLoader, new FileInputStream(file), new FileInputStream(file), file.length(), file
-				.getPath());
+		this(classLoader, ClassFileInput.readFile(file), file.getPath());
 	}
 
 	/**
-	 * Constructor for reading a class from an InputStream. The stream is closed after that.
+	 * Constructor for reading a class from an InputStream. Only the first stream is read; both
+	 * streams are closed after that.
 	 * 
 	 * @param classLoader The MugglClassLoader which loads this ClassFile.
 	 * @param is The InputStream to read the class from.
-	 * @param is2 A second InputStream to read the class from (must not be identical, but a second
-	 *        instance!).
+	 * @param is2 A second InputStream of the class. It is not read any more.
 	 * @param byteLength The number of bytes this ClassFile consists of.
 	 * @param fullPath The full path of the class, also showing whether it belongs to a jar-archive.
 	 * @throws ClassFileException Thrown on fatal errors loading or parsing a class file.
 	 * @throws FileNotFoundException Thrown when a required file was not found.
 	 * @throws IOException Thrown on fatal problems reading or writing to the file system.
+	 * @deprecated The class is read only once now. Use
+	 *             {@link #ClassFile(MugglClassLoader, ByteBuffer, String)} instead.
 	 */
+	@Deprecated
 	public ClassFile(MugglClassLoader classLoader, InputStream is, InputStream is2,
 			long byteLength, String fullPath) throws ClassFileException, FileNotFoundException,
 			IOException {
-		try {
-			this.classLoader = classLoader;
-			if (!fullPath.toLowerCase().endsWith(".class")) {
-				fullPath += ".class";
-			}
-			if (Globals.getInst().logger.isInfoEnabled())
-				Globals.getInst().logger.info("Parsing class " + fullPath);
-			this.fullPath = fullPath;
-			this.loadingNumber = classLoader.getNextLoadingNumber();
-			this.readingData = true;
-			this.dis = new DataInputStream(is);
-			this.byteLength = (int) byteLength;
-			this.bytes = new byte[this.byteLength];
-			readClass();
-			this.readingData = false;
-			this.instanceOfClass = null;
-
-			// Now read the whole stream into an array of bytes.
-			this.dis.close();
-			is.close();
-			this.dis = new DataInputStream(is2);
-			int a = 0;
-			try {
-				while (this.dis.available() != 0) {
-					this.bytes[a] = this.dis.readByte();
-					a++;
-				}
-			} catch (ArrayIndexOutOfBoundsException e) {
-				throw new ClassFileException(
-						"The specified length of the class file does not reflectr the actual length of it.");
-			}
-			if (a < this.byteLength)
-				throw new ClassFileException(
-						"The specified length of the class file does not reflectr the actual length of it.");
-		} finally {
-			// Close the streams.
-			this.dis.close();
-			is2.close();
-		}
+		this(classLoader, readStreams(is, is2, byteLength), fullPath);
 	}
-	
+
+	/**
+	 * Constructor for reading a class from an InputStream without knowing its path. The path is
+	 * derived from the name of the class. Only the first stream is read; both streams are closed
+	 * after that.
+	 * 
+	 * @param classLoader The MugglClassLoader which loads this ClassFile.
+	 * @param is The InputStream to read the class from.
+	 * @param is2 A second InputStream of the class. It is not read any more.
+	 * @param byteLength The number of bytes this ClassFile consists of.
+	 * @throws ClassFileException Thrown on fatal errors loading or parsing a class file.
+	 * @throws FileNotFoundException Thrown when a required file was not found.
+	 * @throws IOException Thrown on fatal problems reading or writing to the file system.
+	 * @deprecated The class is read only once now. Use
+	 *             {@link #ClassFile(MugglClassLoader, ByteBuffer, String)} instead.
+	 */
+	@Deprecated
 	public ClassFile(MugglClassLoader classLoader, InputStream is, InputStream is2,
 			long byteLength) throws ClassFileException, FileNotFoundException,
 			IOException {
+		this(classLoader, is, is2, byteLength, "");
+	}
+
+	/**
+	 * Constructor for reading a class from a ByteBuffer. The class is parsed in a single pass from
+	 * the position of the buffer up to its limit, using absolute accesses only. The buffer is
+	 * neither copied nor changed, but it is kept: The code and its attributes are parsed when
+	 * they are requested first, and the bytes are needed to get the instance of Class. Hence, it must not be changed
+	 * afterwards.
+	 * 
+	 * @param classLoader The MugglClassLoader which loads this ClassFile.
+	 * @param buffer The buffer holding the class.
+	 * @param fullPath The full path of the class, also showing whether it belongs to a jar-archive.
+	 *        If it is empty, the path is derived from the name of the class.
+	 * @throws ClassFileException Thrown on fatal errors loading or parsing a class file.
+	 * @throws IOException Thrown if the class file ends unexpectedly.
+	 */
+	public ClassFile(MugglClassLoader classLoader, ByteBuffer buffer, String fullPath)
+			throws ClassFileException, IOException {
+		this.classLoader = classLoader;
+		if (!fullPath.toLowerCase().endsWith(".class")) {
+			fullPath += ".class";
+		}
+		if (Globals.getInst().logger.isInfoEnabled())
+			Globals.getInst().logger.info("Parsing class " + fullPath);
+		this.fullPath = fullPath;
+		this.loadingNumber = classLoader.getNextLoadingNumber();
+		this.buffer = buffer.slice().order(ByteOrder.BIG_ENDIAN);
+		this.byteLength = this.buffer.limit();
+		this.input = new ClassFileInput(this.buffer, 0);
+		this.readingData = true;
 		try {
-			this.classLoader = classLoader;
-			this.fullPath = "";
-			if (!fullPath.toLowerCase().endsWith(".class")) {
-				fullPath += ".class";
-			}
-			if (Globals.getInst().logger.isInfoEnabled())
-				Globals.getInst().logger.info("Parsing class " + fullPath);
-			
-			this.loadingNumber = classLoader.getNextLoadingNumber();
-			this.readingData = true;
-			this.dis = new DataInputStream(is);
-			this.byteLength = (int) byteLength;
-			this.bytes = new byte[this.byteLength];
 			readClass();
+		} finally {
 			this.readingData = false;
-			this.instanceOfClass = null;
+			this.input = null;
+		}
+		this.instanceOfClass = null;
+	}
 
-			// Now read the whole stream into an array of bytes.
-			this.dis.close();
-			is.close();
-			this.dis = new DataInputStream(is2);
-			int a = 0;
-			try {
-				while (this.dis.available() != 0) {
-					this.bytes[a] = this.dis.readByte();
-					a++;
-				}
-			} catch (ArrayIndexOutOfBoundsException e) {
-				throw new ClassFileException(
-						"The specified length of the class file does not reflectr the actual length of it.");
-			}
-			if (a < this.byteLength)
+	/**
+	 * Read a class from the first of two streams of it and close both of them.
+	 * 
+	 * @param is The InputStream to read the class from.
+	 * @param is2 The second InputStream of the class.
+	 * @param byteLength The number of bytes the class consists of.
+	 * @return A ByteBuffer holding the class.
+	 * @throws ClassFileException If the class does not consist of the specified number of bytes.
+	 * @throws IOException Thrown on fatal problems reading from the stream.
+	 */
+	private static ByteBuffer readStreams(InputStream is, InputStream is2, long byteLength)
+			throws ClassFileException, IOException {
+		try {
+			ByteBuffer buffer = ClassFileInput.readStream(is, byteLength);
+			if (buffer.remaining() != byteLength)
 				throw new ClassFileException(
-						"The specified length of the class file does not reflectr the actual length of it.");
+						"The specified length of the class file does not reflect the actual length of it.");
+			return buffer;
 		} finally {
-			// Close the streams.
-			this.dis.close();
-			is2.close();
+			try {
+				is.close();
+			} finally {
+				is2.close();
+			}
 		}
 	}
 
@@ -424,19 +442,18 @@ public class ClassFile {
 		String fullPath = file.getPath();
 
 		// File access.
-		FileInputStream is = new FileInputStream(file);
-		DataInputStream dis = new DataInputStream(is);
+		ClassFileInput input = new ClassFileInput(ClassFileInput.readFile(file));
 		try {
 			// Start parsing the file.
-			int magic = dis.readInt();
+			int magic = input.readInt();
 			if (magic != CAFEBABE) {
 				throw new ClassFileException("Invalid class file.");
 			}
 			// Skipping data not needed here.
-			dis.readUnsignedShort();
-			dis.readUnsignedShort();
+			input.readUnsignedShort();
+			input.readUnsignedShort();
 			// Minimal validation of the constant pool count.
-			int constantPoolCount = dis.readUnsignedShort();
+			int constantPoolCount = input.readUnsignedShort();
 			if (constantPoolCount < 1) {
 				throw new ClassFileException(
 						"Encountered a corrupt class file: The constant_pool_count cannot be less than one.");
@@ -454,46 +471,44 @@ public class ClassFile {
 			int[] index = new int[constantPoolCount];
 			String[] names = new String[constantPoolCount];
 			for (int a = 1; a < constantPoolCount; a++) {
-				short tag = dis.readByte();
+				short tag = input.readByte();
 				switch (tag) {
 					case CONSTANT_CLASS:
-						index[a] = dis.readUnsignedShort();
+						index[a] = input.readUnsignedShort();
 						break;
 					case CONSTANT_FIELDREF:
-						readSomeBytes(dis, 4);
+						input.skipBytes(4);
 						break;
 					case CONSTANT_METHODREF:
-						readSomeBytes(dis, 4);
+						input.skipBytes(4);
 						break;
 					case CONSTANT_INTERFACEMETHODREF:
-						readSomeBytes(dis, 4);
+						input.skipBytes(4);
 						break;
 					case CONSTANT_STRING:
-						readSomeBytes(dis, 2);
+						input.skipBytes(2);
 						break;
 					case CONSTANT_INTEGER:
-						readSomeBytes(dis, 4);
+						input.skipBytes(4);
 						break;
 					case CONSTANT_FLOAT:
-						readSomeBytes(dis, 4);
+						input.skipBytes(4);
 						break;
 					case CONSTANT_LONG:
-						readSomeBytes(dis, 8);
+						input.skipBytes(8);
 						a++; // Count up as it takes two slots.
 						break;
 					case CONSTANT_DOUBLE:
-						readSomeBytes(dis, 8);
+						input.skipBytes(8);
 						a++; // Count up as it takes two slots.
 						break;
 					case CONSTANT_NAMEANDTYPE:
-						readSomeBytes(dis, 4);
+						input.skipBytes(4);
 						break;
 					case CONSTANT_UTF8:
-						int length = dis.readUnsignedShort();
+						int length = input.readUnsignedShort();
 						byte[] bytes = new byte[length];
-						for (int b = 0; b < length; b++) {
-							bytes[b] = dis.readByte();
-						}
+						input.readFully(bytes);
 						names[a] = new String(bytes, "UTF8");
 						break;
 					default:
@@ -502,8 +517,8 @@ public class ClassFile {
 			}
 
 			// Skip another two bytes and get thisClass then.
-			dis.readUnsignedShort();
-			int thisClass = dis.readUnsignedShort();
+			input.readUnsignedShort();
+			int thisClass = input.readUnsignedShort();
 
 			// It is now possible to get the name.
 			String name = names[index[thisClass]];
@@ -532,28 +547,6 @@ public class ClassFile {
 		} catch (EOFException e) {
 			throw new ClassFileException(
 					"Unexpectedly uncountered the EOF - halting. The file is no valid class file.");
-		} finally {
-			// Closing open handlers.
-			try {
-				dis.close();
-			} finally {
-				is.close();
-			}
-		}
-	}
-
-	/**
-	 * Auxiliary methods to read and thereby skip an arbitrary number of bytes from an input stream.
-	 * 
-	 * @param dis The {@link DataInputStream} to read the bytes from.
-	 * @param numberOfBytes The number of bytes to read.
-	 * @throws EOFException If the input stream has unexpectedly reached the end.
-	 * @throws IOException On fatal problems reading from the file system
-	 */
-	private static void readSomeBytes(DataInputStream dis, int numberOfBytes) throws EOFException,
-			IOException {
-		for (int a = 0; a < numberOfBytes; a++) {
-			dis.readByte();
 		}
 	}
 
@@ -566,16 +559,16 @@ public class ClassFile {
 	 */
 	private void readClass() throws ClassFileException, IOException {
 		try {
-			// From now on read step by step, never setting the pointer in the DataInputStream back.
-			this.magic = this.dis.readInt();
+			// From now on read step by step, never setting the position of the input back.
+			this.magic = this.input.readInt();
 			if (Globals.getInst().parserLogger.isDebugEnabled())
 				Globals.getInst().parserLogger.debug("Parsing: Read magic: 0x"
 						+ Integer.toHexString(this.magic).toUpperCase());
 			if (this.magic != CAFEBABE) {
 				throw new ClassFileException("Invalid class file.");
 			}
-			this.minorVersion = this.dis.readUnsignedShort();
-			this.majorVersion = this.dis.readUnsignedShort();
+			this.minorVersion = this.input.readUnsignedShort();
+			this.majorVersion = this.input.readUnsignedShort();
 			Globals.getInst().parserLogger
 					.debug("Parsing: Read major_version:minor version " + this.majorVersion + ":" + this.minorVersion);
 
@@ -585,7 +578,7 @@ public class ClassFile {
 						"Unsupported major.minor version " + this.majorVersion + ":" + this.minorVersion);
 			}
 			
-			this.constantPoolCount = this.dis.readUnsignedShort();
+			this.constantPoolCount = this.input.readUnsignedShort();
 			if (Globals.getInst().parserLogger.isDebugEnabled())
 				Globals.getInst().parserLogger.debug("Parsing: Read constant_pool_count: "
 						+ this.constantPoolCount);
@@ -605,7 +598,7 @@ public class ClassFile {
 //				if (Globals.getInst().logger.isTraceEnabled())
 //					Globals.getInst().logger.trace("Parsing: Const #" + a);
 
-				byte tag = this.dis.readByte();
+				byte tag = this.input.readByte();
 				switch (tag) {
 					case CONSTANT_CLASS:
 						this.constantPool[a] = new ConstantClass(this);
@@ -740,13 +733,13 @@ public class ClassFile {
 			if (Globals.getInst().parserLogger.isDebugEnabled())
 				Globals.getInst().parserLogger.debug("Parsing: Verified constant_pool entries.");
 
-			this.accessFlags = this.dis.readUnsignedShort();
+			this.accessFlags = this.input.readUnsignedShort();
 			parseAccessFlags();
 			if (Globals.getInst().parserLogger.isDebugEnabled())
 				Globals.getInst().parserLogger.debug("Parsing: Read access_flags: " + this.accessFlags
 						+ " (" + getPrefix() + ")");
 
-			this.thisClass = this.dis.readUnsignedShort();
+			this.thisClass = this.input.readUnsignedShort();
 			if (Globals.getInst().parserLogger.isDebugEnabled())
 				Globals.getInst().parserLogger.debug("Parsing: Read this_class: " + this.thisClass + " ("
 						+ this.constantPool[this.thisClass].toString() + ")");
@@ -774,7 +767,7 @@ public class ClassFile {
 						+ " does not match the file name " + className + ".");
 
 			// Continue reading the class file.
-			this.superClass = this.dis.readUnsignedShort();
+			this.superClass = this.input.readUnsignedShort();
 			if (Globals.getInst().parserLogger.isDebugEnabled()) {
 				checkIndexIntoTheConstantPool(this.superClass, true);
 				String superClass = "no super class";
@@ -783,7 +776,7 @@ public class ClassFile {
 				Globals.getInst().parserLogger.debug("Parsing: Read super_class: " + this.superClass
 						+ " (" + superClass + ")");
 			}
-			this.interfacesCount = this.dis.readUnsignedShort();
+			this.interfacesCount = this.input.readUnsignedShort();
 			if (Globals.getInst().parserLogger.isDebugEnabled())
 				Globals.getInst().parserLogger.debug("Parsing: Read interfaces_count: "
 						+ this.interfacesCount);
@@ -798,7 +791,7 @@ public class ClassFile {
 			}
 			this.interfaces = new int[this.interfacesCount];
 			for (int a = 0; a < this.interfacesCount; a++) {
-				this.interfaces[a] = this.dis.readUnsignedShort();
+				this.interfaces[a] = this.input.readUnsignedShort();
 				checkIndexIntoTheConstantPool(this.interfaces[a], false);
 				if (this.constantPool[this.interfaces[a]].getTag() != CONSTANT_CLASS) {
 					throw new ClassFileException(
@@ -808,7 +801,7 @@ public class ClassFile {
 			}
 			if (Globals.getInst().parserLogger.isDebugEnabled())
 				Globals.getInst().parserLogger.debug("Parsing: Read the interfaces");
-			this.fieldsCount = this.dis.readUnsignedShort();
+			this.fieldsCount = this.input.readUnsignedShort();
 			if (Globals.getInst().parserLogger.isDebugEnabled())
 				Globals.getInst().parserLogger.debug("Parsing: Read fields_count: " + this.fieldsCount);
 			// Read the Fields. This is delegated to other classes.
@@ -827,7 +820,7 @@ public class ClassFile {
 			}
 			if (Globals.getInst().parserLogger.isDebugEnabled())
 				Globals.getInst().parserLogger.debug("Parsing: Read the fields");
-			this.methodsCount = this.dis.readUnsignedShort();
+			this.methodsCount = this.input.readUnsignedShort();
 			if (this.methodsCount < 0) {
 				throw new ClassFileException(
 						"Encountered a corrupt class file: methods_count must not be less than zero.");
@@ -850,59 +843,21 @@ public class ClassFile {
 			}
 			if (Globals.getInst().parserLogger.isDebugEnabled())
 				Globals.getInst().parserLogger.debug("Parsing: Read the methods");
-			this.attributeCount = this.dis.readUnsignedShort();
+			this.attributeCount = this.input.readUnsignedShort();
 			if (Globals.getInst().parserLogger.isDebugEnabled())
 				Globals.getInst().parserLogger.debug("Parsing: Read attributes_count: "
 						+ this.attributeCount);
-			// Read the methods. This is delegated to other classes.
-			this.attributes = new Attribute[this.attributeCount];
 			if (this.attributeCount < 0) {
 				throw new ClassFileException(
 						"Encountered a corrupt class file: attribute_count is less than zero.");
 			}
+			// Read the attributes.
+			this.attributes = new Attribute[this.attributeCount];
 			for (int a = 0; a < this.attributeCount; a++) {
-				int attributeNameIndex = this.dis.readUnsignedShort();
-				ConstantUtf8 constant = null;
-				if (attributeNameIndex >= this.constantPoolCount) {
-					throw new ClassFileException(
-							"Encountered a corrupt class file: Access to the constant pool entry #"
-									+ attributeNameIndex + " was requested. Yet, there are only "
-									+ this.constantPoolCount + " entries in total.");
-				}
-				try {
-					constant = (ConstantUtf8) this.constantPool[attributeNameIndex];
-				} catch (ClassCastException e) {
-					throw new ClassFileException("Parsing: Expected a ConstantUtf8 at "
-							+ attributeNameIndex
-							+ " in the constant_pool when reading the attributes, but got "
-							+ this.constantPool[attributeNameIndex].getClass().getName() + ".");
-				}
-				String attributeName = constant.getStringValue();
-				// Which Attribute is it?
-				if (attributeName.equals("SourceFile")) {
-					this.attributes[a] = new AttributeSourceFile(this, attributeNameIndex);
-				} else if (attributeName.equals("Deprecated")) {
-					this.attributes[a] = new AttributeDeprecated(this, attributeNameIndex);
-				} else if (attributeName.equals("InnerClasses")) {
-					this.attributes[a] = new AttributeInnerClasses(this, attributeNameIndex);
-				} else if (attributeName.equals("RuntimeVisibleAnnotations")) {
-					this.attributes[a] = new AttributeRuntimeVisibleAnnotations(this,
-							attributeNameIndex);
-				} else if (attributeName.equals("RuntimeInvisibleAnnotations")) {
-					this.attributes[a] = new AttributeRuntimeInvisibleAnnotations(this,
-							attributeNameIndex);
-				} else if (attributeName.equals("BootstrapMethods")) {
-					this.attributes[a] = new AttributeBootstrapMethods(this, attributeNameIndex);
-				} else {
-					if (Globals.getInst().parserLogger.isDebugEnabled())
-						Globals.getInst().parserLogger
-								.debug("Parsing: Encountered an unknown attribute \""
-										+ attributeName + "\"");
-					this.attributes[a] = new AttributeUnknownSkipped(this, attributeNameIndex);
-				}
-				if (Globals.getInst().parserLogger.isDebugEnabled())
-					Globals.getInst().parserLogger.debug("Parsing: Read the attributes");
+				this.attributes[a] = readAttribute();
 			}
+			if (Globals.getInst().parserLogger.isDebugEnabled())
+				Globals.getInst().parserLogger.debug("Parsing: Read the attributes");
 			Globals.getInst().parserLogger.debug("Parsing completed successfully for " + getName());
 		} catch (ClassFileException e) {
 			if (Globals.getInst().logger.isEnabledFor(Level.WARN))
@@ -941,6 +896,140 @@ public class ClassFile {
 		}
 	}
 
+	/**
+	 * Skip the attributes at the current position of the input. The attribute_name_index and the
+	 * attribute_length of each attribute are checked, so the attributes can later be parsed with
+	 * {@link #readDeferred(int, DeferredReader)} without reaching the end of the class file.
+	 * 
+	 * @param attributeCount The number of attributes.
+	 * @return The position of the first attribute.
+	 * @throws ClassFileException If an attribute_name_index is invalid or does not point to a
+	 *         CONSTANT_Utf8_info.
+	 * @throws IOException If the attributes exceed the class file.
+	 */
+	public int skipAttributes(int attributeCount) throws ClassFileException, IOException {
+		int position = this.input.getPosition();
+		for (int a = 0; a < attributeCount; a++) {
+			int attributeNameIndex = this.input.readUnsignedShort();
+			checkIndexIntoTheConstantPool(attributeNameIndex, false);
+			if (this.constantPool[attributeNameIndex].getTag() != CONSTANT_UTF8) {
+				throw new ClassFileException("Parsing: Expected a ConstantUtf8 at "
+						+ attributeNameIndex
+						+ " in the constant_pool when reading the attributes, but got "
+						+ this.constantPool[attributeNameIndex].getClass().getName() + ".");
+			}
+			int attributeLength = this.input.readInt();
+			if (attributeLength < 0) {
+				throw new ClassFileException(
+						"Encountered a corrupt class file: attribute_length of an attribute must not be less than zero.");
+			}
+			this.input.skipBytes(attributeLength);
+		}
+		return position;
+	}
+
+	/**
+	 * Read structures whose parsing was deferred. The input of this class is set to the specified
+	 * position for the reader, which may then parse as it would have while the class was read.
+	 * Readers are run one at a time, so a reader may check if the structures have been read by
+	 * another thread before.
+	 * 
+	 * @param <T> The type of the structures read.
+	 * @param position The position of the structures in the class file.
+	 * @param reader The reader.
+	 * @return The structures read.
+	 * @throws IllegalStateException If the structures are corrupt. The exception has the
+	 *         ClassFileException or the IOException as its cause.
+	 */
+	public synchronized <T> T readDeferred(int position, DeferredReader<T> reader) {
+		ClassFileInput input = this.input;
+		boolean readingData = this.readingData;
+		this.input = new ClassFileInput(this.buffer, position);
+		this.readingData = true;
+		try {
+			return reader.read();
+		} catch (ClassFileException | IOException e) {
+			if (Globals.getInst().logger.isEnabledFor(Level.WARN))
+				Globals.getInst().logger.warn("Parsing deferred structures of class " + this.name
+						+ " failed with reason " + e.getMessage());
+			throw new IllegalStateException("Parsing deferred structures of class " + this.name
+					+ " failed.", e);
+		} finally {
+			this.input = input;
+			this.readingData = readingData;
+		}
+	}
+
+	/**
+	 * Reader of structures whose parsing was deferred, see
+	 * {@link ClassFile#readDeferred(int, DeferredReader)}.
+	 * 
+	 * @param <T> The type of the structures read.
+	 */
+	public interface DeferredReader<T> {
+
+		/**
+		 * Read the structures from the input of the class.
+		 * 
+		 * @return The structures read.
+		 * @throws ClassFileException On fatal errors parsing the class file.
+		 * @throws IOException If the class file ends unexpectedly.
+		 */
+		T read() throws ClassFileException, IOException;
+
+	}
+
+	/**
+	 * Parse an attribute of the class at the position of the input.
+	 * 
+	 * @return The attribute.
+	 * @throws ClassFileException On fatal errors parsing the class file.
+	 * @throws IOException If the class file ends unexpectedly.
+	 */
+	private Attribute readAttribute() throws ClassFileException, IOException {
+		int attributeNameIndex = this.input.readUnsignedShort();
+		Attribute attribute;
+		ConstantUtf8 constant = null;
+		if (attributeNameIndex >= this.constantPoolCount) {
+			throw new ClassFileException(
+					"Encountered a corrupt class file: Access to the constant pool entry #"
+							+ attributeNameIndex + " was requested. Yet, there are only "
+							+ this.constantPoolCount + " entries in total.");
+		}
+		try {
+			constant = (ConstantUtf8) this.constantPool[attributeNameIndex];
+		} catch (ClassCastException e) {
+			throw new ClassFileException("Parsing: Expected a ConstantUtf8 at "
+					+ attributeNameIndex
+					+ " in the constant_pool when reading the attributes, but got "
+					+ this.constantPool[attributeNameIndex].getClass().getName() + ".");
+		}
+		String attributeName = constant.getStringValue();
+		// Which Attribute is it?
+		if (attributeName.equals("SourceFile")) {
+			attribute = new AttributeSourceFile(this, attributeNameIndex);
+		} else if (attributeName.equals("Deprecated")) {
+			attribute = new AttributeDeprecated(this, attributeNameIndex);
+		} else if (attributeName.equals("InnerClasses")) {
+			attribute = new AttributeInnerClasses(this, attributeNameIndex);
+		} else if (attributeName.equals("RuntimeVisibleAnnotations")) {
+			attribute = new AttributeRuntimeVisibleAnnotations(this,
+					attributeNameIndex);
+		} else if (attributeName.equals("RuntimeInvisibleAnnotations")) {
+			attribute = new AttributeRuntimeInvisibleAnnotations(this,
+					attributeNameIndex);
+		} else if (attributeName.equals("BootstrapMethods")) {
+			attribute = new AttributeBootstrapMethods(this, attributeNameIndex);
+		} else {
+			if (Globals.getInst().parserLogger.isDebugEnabled())
+				Globals.getInst().parserLogger
+						.debug("Parsing: Encountered an unknown attribute \""
+								+ attributeName + "\"");
+			attribute = new AttributeUnknownSkipped(this, attributeNameIndex);
+		}
+		return attribute;
+	}
+
 	/**
 	 * Write the class represented by this ClassFile to a DataOutputStream. Hence, this method can
 	 * be used to write it to a file.
@@ -988,8 +1077,9 @@ public class ClassFile {
 
 		// Write the attributes.
 		dos.writeShort(this.attributeCount);
+		Attribute[] attributes = getAttributes();
 		for (int a = 0; a < this.attributeCount; a++) {
-			this.attributes[a].writeToClassFile(dos);
+			attributes[a].writeToClassFile(dos);
 		}
 		if (Globals.getInst().logger.isInfoEnabled())
 			Globals.getInst().logger.info("Writing finished successfully.");
@@ -1315,9 +1405,10 @@ public class ClassFile {
 	public String getCanonicalName() {
 		// TODO local or anonymous classes should return null.
 		// First check if this class is an inner class.
-		for (int a = 0; a < this.attributes.length; a++) {
-			if (this.attributes[a] instanceof AttributeInnerClasses) {
-				InnerClass[] innerClasses = ((AttributeInnerClasses) this.attributes[a])
+		Attribute[] attributes = getAttributes();
+		for (int a = 0; a < attributes.length; a++) {
+			if (attributes[a] instanceof AttributeInnerClasses) {
+				InnerClass[] innerClasses = ((AttributeInnerClasses) attributes[a])
 						.getClasses();
 				for (int b = 0; b < innerClasses.length; b++) {
 					// Is this class is the inner class of another class?
@@ -1433,10 +1524,8 @@ public class ClassFile {
 	 * @throws MethodResolutionError If the method could not be found.
 	 */
 	public Method getMethodByNameAndDescriptor(String name, String descriptor) {
-		for (int a = 0; a < this.methodsCount; a++) {
-			if (this.methods[a].getName().equals(name)
-					&& this.methods[a].getDescriptor().equals(descriptor)) return this.methods[a];
-		}
+		Method method = getMethodByNameAndDescriptorOrNull(name, descriptor);
+		if (method != null) return method;
 		throw new MethodResolutionError("Method " + name + " could not be resolved for class "
 				+ getName() + ".");
 	}
@@ -1448,9 +1537,27 @@ public class ClassFile {
 	 * @return
 	 */
 	public Method getMethodByNameAndDescriptorOrNull(String name, String descriptor) {
-		for (int a = 0; a < this.methodsCount; a++) {
-			if (this.methods[a].getName().equals(name)
-					&& this.methods[a].getDescriptor().equals(descriptor)) return this.methods[a];
+		HashMap<String, Method[]> methodsByName = this.methodsByName;
+		if (methodsByName == null) {
+			methodsByName = new HashMap<String, Method[]>();
+			for (int a = 0; a < this.methodsCount; a++) {
+				Method[] overloads = methodsByName.get(this.methods[a].getName());
+				if (overloads == null) {
+					overloads = new Method[] {this.methods[a]};
+				} else {
+					overloads = Arrays.copyOf(overloads, overloads.length + 1);
+					overloads[overloads.length - 1] = this.methods[a];
+				}
+				methodsByName.put(this.methods[a].getName(), overloads);
+			}
+			this.methodsByName = methodsByName;
+		}
+
+		Method[] overloads = methodsByName.get(name);
+		if (overloads != null) {
+			for (Method method : overloads) {
+				if (method.getDescriptor().equals(descriptor)) return method;
+			}
 		}
 		return null;
 	}
@@ -1471,12 +1578,12 @@ public class ClassFile {
 	}
 
 	/**
-	 * Returns the DataInputStream if field readingData is true.
+	 * Returns the input if field readingData is true.
 	 * 
-	 * @return The DataInputStream or null, if it is already closed.
+	 * @return The input or null, if the class is not being read.
 	 */
-	public DataInputStream getDis() {
-		if (this.readingData) return this.dis;
+	public ClassFileInput getInput() {
+		if (this.readingData) return this.input;
 		return null;
 	}
 
@@ -1517,17 +1624,18 @@ public class ClassFile {
 	 * Get an instance of Class representing this ClassFile.
 	 * 
 	 * There is a caching mechanism for this method. When parsing a class into its representation by
-	 * this file, only its bytes are read into an array but no instance of Class is generated. If
-	 * this method is called for the first time, this is done. For the economic use of memory, this
-	 * instance is cached then and hence stored to a field. At the same time, the array of bytes is
-	 * discarded. It may not be used than anymore.
+	 * this file, its bytes are kept in a buffer but no instance of Class is generated. If this
+	 * method is called for the first time, this is done. For the economic use of memory, this
+	 * instance is cached then and hence stored to a field. The array of bytes required to define it
+	 * is created from the buffer only then.
 	 * 
 	 * @return An instance of Class representing this ClassFile.
 	 */
 	public Class<?> getInstanceOfClass() {
 		if (this.instanceOfClass == null) {
-			this.instanceOfClass = this.classLoader.defineClassFromClassFile(getName(), this.bytes);
-			this.bytes = null;
+			byte[] bytes = new byte[this.byteLength];
+			ClassFileInput.copy(this.buffer, 0, bytes);
+			this.instanceOfClass = this.classLoader.defineClassFromClassFile(getName(), bytes);
 		}
 		return this.instanceOfClass;
 	}
@@ -1689,7 +1797,7 @@ public class ClassFile {
 	}
 	
 	public AttributeBootstrapMethods getBootstrapMethods() {
-		return (AttributeBootstrapMethods) Arrays.stream(attributes).filter(x-> x instanceof AttributeBootstrapMethods).findFirst().orElse(null);
+		return (AttributeBootstrapMethods) Arrays.stream(getAttributes()).filter(x-> x instanceof AttributeBootstrapMethods).findFirst().orElse(null);
 	}
 
 	public Method getMethodByNameAndDescriptorOrNull(String objectInitializerName, MethodType methodType) {
@@ -1714,7 +1822,181 @@ public class ClassFile {
 	public void linkClass() {
 		// ensure that it is linked
 //		void InstanceKlass::link_class(TRAPS) {
-		
+		getInstanceFieldLayout();
+		getStaticFieldLayout();
+		getVtable();
+	}
+
+	/**
+	 * Get the virtual method table of this class. It starts with the table of the super class.
+	 * Methods of this class that override (JVMS §5.4.5) a method of the super class take its entry;
+	 * the other virtual methods are appended. A method declared in another package that is
+	 * package-private is not overridden, so a method of the same name and descriptor gets an entry
+	 * of its own. The index of its entry is set as the vtable index of each method. Interfaces have
+	 * the table of java.lang.Object; their own methods are dispatched through
+	 * {@link #getItableEntry(Method)}.<br />
+	 * <br />
+	 * The table is computed when it is requested for the first time. Threads computing it at the
+	 * same time compute the same table and vtable indices. It is published after the indices have
+	 * been set.
+	 *
+	 * @return The virtual method table.
+	 */
+	public Method[] getVtable() {
+		Method[] vtable = this.vtable;
+		if (vtable == null) {
+			Method[] superVtable = new Method[0];
+			try {
+				ClassFile superClassFile = getSuperClassFile();
+				if (superClassFile != null) superVtable = superClassFile.getVtable();
+			} catch (ClassFileException e) {
+				if (Globals.getInst().execLogger.isDebugEnabled())
+					Globals.getInst().execLogger.debug("Could not load the super class of " + getName()
+							+ " to compute its vtable: " + e.getMessage());
+			}
+
+			if (this.accInterface) {
+				for (int a = 0; a < this.methodsCount; a++) {
+					this.methods[a].setVtableIndex(Method.INVALID_VTABLE_INDEX);
+				}
+				vtable = superVtable;
+			} else {
+				vtable = Arrays.copyOf(superVtable, superVtable.length + this.methodsCount);
+				int length = superVtable.length;
+				for (int a = 0; a < this.methodsCount; a++) {
+					Method method = this.methods[a];
+					if (method.isAccStatic() || method.isAccPrivate() || method.isInitializer()) {
+						method.setVtableIndex(Method.NONVIRTUAL_VTABLE_INDEX);
+						continue;
+					}
+
+					// Does it override methods of a super class? It takes the entries of all of them.
+					int index = -1;
+					for (int b = 0; b < superVtable.length; b++) {
+						if (method.overrides(superVtable[b])) {
+							if (index == -1) index = b;
+							vtable[b] = method;
+						}
+					}
+					if (index == -1) {
+						index = length++;
+						vtable[index] = method;
+					}
+					method.setVtableIndex(index);
+				}
+				vtable = Arrays.copyOf(vtable, length);
+			}
+			this.vtable = vtable;
+		}
+		return vtable;
+	}
+
+	/**
+	 * Select the method to invoke on an instance of this class for a resolved method by looking
+	 * it up in the virtual method table.
+	 *
+	 * @param resolvedMethod The resolved method.
+	 * @return The selected method; or null, if it cannot be selected by the virtual method table.
+	 *         This is the case for methods of interfaces and for methods that are not virtual.
+	 */
+	public Method selectVirtualMethod(Method resolvedMethod) {
+		int index = resolvedMethod.vtable_index();
+		if (index < 0) return null;
+		Method[] vtable = getVtable();
+		if (index >= vtable.length) return null;
+		Method method = vtable[index];
+		if (method == resolvedMethod
+				|| (method.getName().equals(resolvedMethod.getName())
+						&& method.getDescriptor().equals(resolvedMethod.getDescriptor())))
+			return method;
+		return null;
+	}
+
+	/**
+	 * Get the method previously selected for invoking a resolved method on an instance of this
+	 * class if it could not be selected through the virtual method table.
+	 *
+	 * @param resolvedMethod The resolved method.
+	 * @return The selected method; or null, if no selection has been stored yet.
+	 */
+	public Method getItableEntry(Method resolvedMethod) {
+		return this.itable.get(resolvedMethod);
+	}
+
+	/**
+	 * Store the method selected for invoking a resolved method on an instance of this class.
+	 * Entries are added lazily when a method is selected for the first time.
+	 *
+	 * @param resolvedMethod The resolved method.
+	 * @param selectedMethod The selected method.
+	 */
+	public void putItableEntry(Method resolvedMethod, Method selectedMethod) {
+		this.itable.put(resolvedMethod, selectedMethod);
+	}
+
+	/**
+	 * Get the layout of the instance fields of this class. The layout starts with the layout of
+	 * the super class, followed by the instance fields declared by this class. Each field is
+	 * assigned its index in the layout as its slot, so an inherited field has the same slot in
+	 * the class that declares it and in all of its subclasses.<br />
+	 * <br />
+	 * The layout is computed when it is requested for the first time.
+	 *
+	 * @return The layout of the instance fields.
+	 */
+	public Field[] getInstanceFieldLayout() {
+		if (this.instanceFieldLayout == null) {
+			Field[] superLayout = new Field[0];
+			try {
+				ClassFile superClassFile = getSuperClassFile();
+				if (superClassFile != null) superLayout = superClassFile.getInstanceFieldLayout();
+			} catch (ClassFileException e) {
+				if (Globals.getInst().execLogger.isDebugEnabled())
+					Globals.getInst().execLogger.debug("Could not load the super class of " + getName()
+							+ " to compute its field layout: " + e.getMessage());
+			}
+
+			int count = 0;
+			for (int a = 0; a < this.fieldsCount; a++) {
+				if (!this.fields[a].isAccStatic()) count++;
+			}
+			Field[] layout = Arrays.copyOf(superLayout, superLayout.length + count);
+			int slot = superLayout.length;
+			for (int a = 0; a < this.fieldsCount; a++) {
+				if (!this.fields[a].isAccStatic()) {
+					this.fields[a].setSlot(slot);
+					layout[slot++] = this.fields[a];
+				}
+			}
+			this.instanceFieldLayout = layout;
+		}
+		return this.instanceFieldLayout;
+	}
+
+	/**
+	 * Get the layout of the static fields declared by this class. Each field is assigned its
+	 * index in the layout as its slot. The layout is computed when it is requested for the first
+	 * time.
+	 *
+	 * @return The layout of the static fields.
+	 */
+	public Field[] getStaticFieldLayout() {
+		if (this.staticFieldLayout == null) {
+			int count = 0;
+			for (int a = 0; a < this.fieldsCount; a++) {
+				if (this.fields[a].isAccStatic()) count++;
+			}
+			Field[] layout = new Field[count];
+			int slot = 0;
+			for (int a = 0; a < this.fieldsCount; a++) {
+				if (this.fields[a].isAccStatic()) {
+					this.fields[a].setSlot(slot);
+					layout[slot++] = this.fields[a];
+				}
+			}
+			this.staticFieldLayout = layout;
+		}
+		return this.staticFieldLayout;
 	}
 
 	/**
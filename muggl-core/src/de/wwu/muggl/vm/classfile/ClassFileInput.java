@@ -0,0 +1,261 @@
+package de.wwu.muggl.vm.classfile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Reads the data types of the class file format from a ByteBuffer holding a whole class file. In
+ * contrast to a DataInputStream, it keeps its own position and only uses absolute accesses to the
+ * buffer. Hence, the buffer may be shared: The parser of a ClassFile reads it in a single pass,
+ * while structures whose parsing was deferred can later be read from another instance starting at
+ * the position they were skipped at.<br />
+ * <br />
+ * The static methods read a class file into a ByteBuffer. Files of at least
+ * {@link #MAPPING_THRESHOLD} bytes are memory-mapped; smaller files and streams are read into a
+ * heap buffer, as mapping them would be more expensive than reading them. On Windows, files are
+ * never mapped: A mapped file stays locked there until the buffer is garbage collected, so class
+ * files could neither be replaced nor deleted while Muggl runs.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+public class ClassFileInput {
+	/**
+	 * The number of bytes from which on class files are memory-mapped rather than read.
+	 */
+	public static final int MAPPING_THRESHOLD = 16384;
+	// Whether files are mapped at all.
+	private static final boolean MAPPING_ENABLED =
+			!System.getProperty("os.name", "").startsWith("Windows");
+
+	// The buffer holding the class file, its limit and the current position.
+	private final ByteBuffer buffer;
+	private final int limit;
+	private int position;
+
+	/**
+	 * Initialize the input to start reading at the current position of the buffer.
+	 *
+	 * @param buffer The buffer holding the class file.
+	 */
+	public ClassFileInput(ByteBuffer buffer) {
+		this(buffer, buffer.position());
+	}
+
+	/**
+	 * Initialize the input to start reading at the specified position of the buffer.
+	 *
+	 * @param buffer The buffer holding the class file.
+	 * @param position The absolute position in the buffer to start reading at.
+	 */
+	public ClassFileInput(ByteBuffer buffer, int position) {
+		this.buffer = buffer;
+		this.limit = buffer.limit();
+		this.position = position;
+	}
+
+	/**
+	 * Read a file into a ByteBuffer. Files of at least {@link #MAPPING_THRESHOLD} bytes are
+	 * mapped into memory read-only, unless running on Windows.
+	 *
+	 * @param file The file to read.
+	 * @return A ByteBuffer holding the bytes of the file.
+	 * @throws IOException On fatal problems reading from the file system.
+	 */
+	public static ByteBuffer readFile(File file) throws IOException {
+		try (FileInputStream is = new FileInputStream(file); FileChannel channel = is.getChannel()) {
+			long size = channel.size();
+			if (size > Integer.MAX_VALUE)
+				throw new IOException("The file " + file.getPath() + " is too large to be a class file.");
+			if (MAPPING_ENABLED && size >= MAPPING_THRESHOLD) {
+				return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+			}
+			ByteBuffer buffer = ByteBuffer.allocate((int) size);
+			while (buffer.hasRemaining()) {
+				if (channel.read(buffer) == -1)
+					throw new EOFException("The file " + file.getPath() + " ended before " + size
+							+ " bytes were read.");
+			}
+			((Buffer) buffer).flip();
+			return buffer;
+		}
+	}
+
+	/**
+	 * Read an InputStream into a heap ByteBuffer. The stream is read until its end but not closed.
+	 *
+	 * @param is The InputStream to read.
+	 * @param sizeHint The expected number of bytes, or -1 if it is unknown.
+	 * @return A ByteBuffer holding the bytes of the stream.
+	 * @throws IOException On fatal problems reading from the stream.
+	 */
+	public static ByteBuffer readStream(InputStream is, long sizeHint) throws IOException {
+		int initialSize = sizeHint > 0 && sizeHint < Integer.MAX_VALUE ? (int) sizeHint : 8192;
+		ByteArrayOutputStream bos = new ByteArrayOutputStream(initialSize);
+		byte[] chunk = new byte[Math.min(initialSize, 8192)];
+		int read;
+		while ((read = is.read(chunk)) != -1) {
+			bos.write(chunk, 0, read);
+		}
+		return ByteBuffer.wrap(bos.toByteArray());
+	}
+
+	/**
+	 * Advance the position by the specified number of bytes.
+	 *
+	 * @param numberOfBytes The number of bytes to advance.
+	 * @return The position before advancing.
+	 * @throws EOFException If less bytes than requested remain.
+	 */
+	private int advance(int numberOfBytes) throws EOFException {
+		int position = this.position;
+		if (numberOfBytes < 0 || this.limit - position < numberOfBytes)
+			throw new EOFException("Unexpectedly encountered the end of the class file at position "
+					+ position + ".");
+		this.position = position + numberOfBytes;
+		return position;
+	}
+
+	/**
+	 * Read a signed byte.
+	 *
+	 * @return The byte.
+	 * @throws EOFException If the end of the class file has been reached.
+	 */
+	public byte readByte() throws EOFException {
+		return this.buffer.get(advance(1));
+	}
+
+	/**
+	 * Read an unsigned byte (u1).
+	 *
+	 * @return The byte as an int between 0 and 255.
+	 * @throws EOFException If the end of the class file has been reached.
+	 */
+	public int readUnsignedByte() throws EOFException {
+		return this.buffer.get(advance(1)) & 0xFF;
+	}
+
+	/**
+	 * Read an unsigned short (u2).
+	 *
+	 * @return The short as an int between 0 and 65535.
+	 * @throws EOFException If less than two bytes remain.
+	 */
+	public int readUnsignedShort() throws EOFException {
+		return this.buffer.getShort(advance(2)) & 0xFFFF;
+	}
+
+	/**
+	 * Read an int (u4).
+	 *
+	 * @return The int.
+	 * @throws EOFException If less than four bytes remain.
+	 */
+	public int readInt() throws EOFException {
+		return this.buffer.getInt(advance(4));
+	}
+
+	/**
+	 * Read a long.
+	 *
+	 * @return The long.
+	 * @throws EOFException If less than eight bytes remain.
+	 */
+	public long readLong() throws EOFException {
+		return this.buffer.getLong(advance(8));
+	}
+
+	/**
+	 * Read a float.
+	 *
+	 * @return The float.
+	 * @throws EOFException If less than four bytes remain.
+	 */
+	public float readFloat() throws EOFException {
+		return this.buffer.getFloat(advance(4));
+	}
+
+	/**
+	 * Read a double.
+	 *
+	 * @return The double.
+	 * @throws EOFException If less than eight bytes remain.
+	 */
+	public double readDouble() throws EOFException {
+		return this.buffer.getDouble(advance(8));
+	}
+
+	/**
+	 * Read bytes into the whole array.
+	 *
+	 * @param bytes The array to fill.
+	 * @throws EOFException If less bytes than the length of the array remain.
+	 */
+	public void readFully(byte[] bytes) throws EOFException {
+		copy(this.buffer, advance(bytes.length), bytes);
+	}
+
+	/**
+	 * Skip the specified number of bytes.
+	 *
+	 * @param numberOfBytes The number of bytes to skip.
+	 * @throws EOFException If less bytes than requested remain.
+	 */
+	public void skipBytes(int numberOfBytes) throws EOFException {
+		advance(numberOfBytes);
+	}
+
+	/**
+	 * Copy bytes from the absolute position of a buffer into an array, without changing the
+	 * position of the buffer.
+	 *
+	 * @param buffer The buffer.
+	 * @param position The absolute position in the buffer.
+	 * @param bytes The array to fill.
+	 */
+	public static void copy(ByteBuffer buffer, int position, byte[] bytes) {
+		if (buffer.hasArray()) {
+			System.arraycopy(buffer.array(), buffer.arrayOffset() + position, bytes, 0, bytes.length);
+		} else {
+			ByteBuffer view = buffer.duplicate();
+			((Buffer) view).position(position);
+			view.get(bytes);
+		}
+	}
+
+	/**
+	 * Getter for the buffer holding the class file.
+	 *
+	 * @return The buffer.
+	 */
+	public ByteBuffer getBuffer() {
+		return this.buffer;
+	}
+
+	/**
+	 * Getter for the current absolute position in the buffer.
+	 *
+	 * @return The position.
+	 */
+	public int getPosition() {
+		return this.position;
+	}
+
+	/**
+	 * Getter for the number of bytes between the position and the limit of the buffer.
+	 *
+	 * @return The number of remaining bytes.
+	 */
+	public int remaining() {
+		return this.limit - this.position;
+	}
+
+}
@@ -29,7 +29,7 @@ public abstract class Attribute extends ClassFileStructure {
 	 * @param classFile The ClassFile the attribute belongs to.
 	 * @param attributeNameIndex A reference to the constant_pool that points to the UTF8 representation of the attribute.
 	 * @throws ClassFileException If the attributeNameIndex is invalid.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 */
 	public Attribute(ClassFile classFile, int attributeNameIndex) throws ClassFileException, IOException {
 		super(classFile);
@@ -38,7 +38,7 @@ public abstract class Attribute extends ClassFileStructure {
 		if (classFile.getConstantPool()[this.attributeNameIndex].getTag() != ClassFile.CONSTANT_UTF8) {
 			throw new ClassFileException("Encountered a corrupt class file: attribute_name_index of an attribute should point to a CONSTANT_Utf8_info.");
 		}
-		this.attributeLength = classFile.getDis().readInt();
+		this.attributeLength = classFile.getInput().readInt();
 		if (this.attributeLength < 0) {
 			throw new ClassFileException("Encountered a corrupt class file: attribute_length of an attribute must not be less than zero.");
 		}
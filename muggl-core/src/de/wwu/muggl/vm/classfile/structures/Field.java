@@ -27,12 +27,15 @@ public class Field extends FieldMethod {
 	private boolean accTransient;
 	private boolean accEnum;
 
+	// The slot in the instance or static field layout of the class. -1 if none is assigned yet.
+	private int slot = -1;
+
 	/**
 	 * Basic constructor.
 	 *
 	 * @param classFile The ClassFile the Method belongs to.
 	 * @throws ClassFileException On unexpected fatal errors when parsing the class file.
-	 * @throws IOException On errors reading from the DataInputStream of the class.
+	 * @throws IOException On errors reading from the input of the class.
 	 */
 	public Field(ClassFile classFile) throws ClassFileException, IOException {
 		super(classFile);
@@ -50,13 +53,13 @@ public class Field extends FieldMethod {
 	/**
 	 * Parse the attribute number a. Only such attributes will be read that are of relevance
 	 * for fields. Other attributes will be skipped.
-	 * @param a The number of the attribute.
+	 * @return The attribute.
 	 * @throws ClassFileException Thrown on unexpected fatal errors when parsing the class file.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 */
 	@Override
-	protected void readAttribute(int a) throws ClassFileException, IOException {
-    	int attributeNameIndex = this.classFile.getDis().readUnsignedShort();
+	protected Attribute readAttribute() throws ClassFileException, IOException {
+    	int attributeNameIndex = this.classFile.getInput().readUnsignedShort();
     	checkIndexIntoTheConstantPool(attributeNameIndex);
     	ConstantUtf8 constant = null;
     	try {
@@ -68,22 +71,22 @@ public class Field extends FieldMethod {
     	String attributeName = constant.getStringValue();
     	// Which Attribute is it?
     	if (attributeName.equals("ConstantValue")) {
-    		this.attributes[a] = new AttributeConstantValue(this.classFile, attributeNameIndex);
+    		return new AttributeConstantValue(this.classFile, attributeNameIndex);
     	} else if (attributeName.equals("Synthetic")) {
-    		this.attributes[a] = new AttributeSynthetic(this.classFile, attributeNameIndex);
+    		return new AttributeSynthetic(this.classFile, attributeNameIndex);
     	} else if (attributeName.equals("Deprecated")) {
-    		this.attributes[a] = new AttributeDeprecated(this.classFile, attributeNameIndex);
+    		return new AttributeDeprecated(this.classFile, attributeNameIndex);
 		} else if (attributeName.equals("RuntimeVisibleAnnotations")) {
-			this.attributes[a] = new AttributeRuntimeVisibleAnnotations(this.classFile,	attributeNameIndex);
+			return new AttributeRuntimeVisibleAnnotations(this.classFile,	attributeNameIndex);
 		} else if (attributeName.equals("RuntimeInvisibleAnnotations")) {
-			this.attributes[a] = new AttributeRuntimeInvisibleAnnotations(this.classFile, attributeNameIndex);
+			return new AttributeRuntimeInvisibleAnnotations(this.classFile, attributeNameIndex);
 		} else if (attributeName.equals("Signature")) {
-			this.attributes[a] = new AttributeSignature(this.classFile, attributeNameIndex);
+			return new AttributeSignature(this.classFile, attributeNameIndex);
     	} else {
 			if (Globals.getInst().parserLogger.isDebugEnabled())
 				Globals.getInst().parserLogger.debug("Parsing: Encountered an unknown attribute \""
 						+ attributeName + "\"");
-			this.attributes[a] = new AttributeUnknownSkipped(this.classFile, attributeNameIndex);
+			return new AttributeUnknownSkipped(this.classFile, attributeNameIndex);
     	}
 	}
 
@@ -179,6 +182,28 @@ public class Field extends FieldMethod {
 		return this.accEnum;
 	}
 
+	/**
+	 * Get the slot of this field. Instance fields have their slot in the instance field layout
+	 * of the class, static fields in the static field layout.
+	 *
+	 * @return The slot of this field; or -1, if the layout has not been computed yet.
+	 * @see ClassFile#getInstanceFieldLayout()
+	 * @see ClassFile#getStaticFieldLayout()
+	 */
+	public int getSlot() {
+		return this.slot;
+	}
+
+	/**
+	 * Setter for the slot of this field. It is assigned when the field layout of the class is
+	 * computed.
+	 *
+	 * @param slot The slot of this field.
+	 */
+	public void setSlot(int slot) {
+		this.slot = slot;
+	}
+
 	/**
 	 * Build and return a String representation of the access flags.
 	 * @return A String representation of the access flags.
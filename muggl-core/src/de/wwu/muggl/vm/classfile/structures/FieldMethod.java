@@ -72,23 +72,23 @@ public abstract class FieldMethod extends ClassFileStructure  {
 	 *
 	 * @param classFile The ClassFile the Method belongs to.
 	 * @throws ClassFileException On unexpected fatal errors when parsing the class file.
-	 * @throws IOException On errors reading from the DataInputStream of the class.
+	 * @throws IOException On errors reading from the input of the class.
 	 */
 	public FieldMethod(ClassFile classFile) throws ClassFileException, IOException {
 		super(classFile);
 
-		this.accessFlags = classFile.getDis().readUnsignedShort();
-		this.nameIndex = classFile.getDis().readUnsignedShort();
+		this.accessFlags = classFile.getInput().readUnsignedShort();
+		this.nameIndex = classFile.getInput().readUnsignedShort();
 		checkIndexIntoTheConstantPool(this.nameIndex);
 		if (classFile.getConstantPool()[this.nameIndex].getTag() != ClassFile.CONSTANT_UTF8) {
 			throw new ClassFileException("Encountered a corrupt class file: name_index of a Field should point to a CONSTANT_Utf8_info.");
 		}
-		this.descriptorIndex = classFile.getDis().readUnsignedShort();
+		this.descriptorIndex = classFile.getInput().readUnsignedShort();
 		checkIndexIntoTheConstantPool(this.descriptorIndex);
 		if (classFile.getConstantPool()[this.descriptorIndex].getTag() != ClassFile.CONSTANT_UTF8) {
 			throw new ClassFileException("Encountered a corrupt class file: descriptor_index of a Field should point to a CONSTANT_Utf8_info.");
 		}
-		this.attributeCount = classFile.getDis().readUnsignedShort();
+		this.attributeCount = classFile.getInput().readUnsignedShort();
 		if (Globals.getInst().parserLogger.isTraceEnabled()) Globals.getInst().parserLogger.trace("Parsing: Reading the " + getFieldMethod() + " \"" + ((ConstantUtf8) this.classFile.getConstantPool()[this.nameIndex]).getStringValue() + "\" with " + this.attributeCount + " attributes");
 		if (this.attributeCount < 0) {
 			throw new ClassFileException("Encountered a corrupt class file: attribute_count of a " + getName() + " is less than zero.");
@@ -96,7 +96,7 @@ public abstract class FieldMethod extends ClassFileStructure  {
 		// Parse the attributes
 		this.attributes = new Attribute[this.attributeCount];
 		for (int a = 0; a < this.attributeCount; a++) {
-			readAttribute(a);
+			this.attributes[a] = readAttribute();
 		}
 
 		// Parse the flags.
@@ -185,13 +185,13 @@ public abstract class FieldMethod extends ClassFileStructure  {
 	}
 
 	/**
-	 * Abstract method for the parsing of the attributes, to be overridden by the concrete
+	 * Abstract method for the parsing of an attribute, to be overridden by the concrete
 	 * methods of the inheriting classes.
-	 * @param a The number of the attribute.
+	 * @return The attribute.
 	 * @throws ClassFileException Thrown on unexpected fatal errors when parsing the class file.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 */
-	protected abstract void readAttribute(int a) throws ClassFileException, IOException;
+	protected abstract Attribute readAttribute() throws ClassFileException, IOException;
 
 	/**
 	 * Abstract method to get a String representation of either "Field" or "Method", depending
@@ -72,13 +72,14 @@ public class Method extends FieldMethod {
 			GARBAGE_VTABLE_INDEX= -3, // not yet linked; no vtable layout yet
 			NONVIRTUAL_VTABLE_INDEX= -2; // there is no need for vtable dispatch
 	// 6330203 Note: Do not use -1, which was overloaded with many meanings.
+	private int vtableIndex = GARBAGE_VTABLE_INDEX;
 
 	/**
 	 * Basic constructor.
 	 *
 	 * @param classFile The ClassFile the Method belongs to.
 	 * @throws ClassFileException On unexpected fatal errors when parsing the class file.
-	 * @throws IOException On errors reading from the DataInputStream of the class.
+	 * @throws IOException On errors reading from the input of the class.
 	 */
 	public Method(ClassFile classFile) throws ClassFileException, IOException {
 		super(classFile);
@@ -97,13 +98,13 @@ public class Method extends FieldMethod {
 	/**
 	 * Parse the attribute number a. Only such attributes will be read that are of relevance
 	 * for fields. Other attributes will be skipped.
-	 * @param a The number of the attribute.
+	 * @return The attribute.
 	 * @throws ClassFileException Thrown on unexpected fatal errors when parsing the class file.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 */
 	@Override
-	protected void readAttribute(int a) throws ClassFileException, IOException {
-    	int attributeNameIndex = this.classFile.getDis().readUnsignedShort();
+	protected Attribute readAttribute() throws ClassFileException, IOException {
+    	int attributeNameIndex = this.classFile.getInput().readUnsignedShort();
     	checkIndexIntoTheConstantPool(attributeNameIndex);
     	ConstantUtf8 constant = null;
     	try {
@@ -115,30 +116,30 @@ public class Method extends FieldMethod {
     	// Which Attribute is it?
     	if (attributeName.equals("Code")) {
     		this.codeAttribute = new AttributeCode(this.classFile, attributeNameIndex);
-    		this.attributes[a] = this.codeAttribute;
+    		return this.codeAttribute;
     	} else if (attributeName.equals("Exceptions")) {
-    		this.attributes[a] = new AttributeExceptions(this.classFile, attributeNameIndex);
+    		return new AttributeExceptions(this.classFile, attributeNameIndex);
     	} else if (attributeName.equals("Synthetic")) {
-    		this.attributes[a] = new AttributeSynthetic(this.classFile, attributeNameIndex);
+    		return new AttributeSynthetic(this.classFile, attributeNameIndex);
     	} else if (attributeName.equals("Deprecated")) {
-    		this.attributes[a] = new AttributeDeprecated(this.classFile, attributeNameIndex);
+    		return new AttributeDeprecated(this.classFile, attributeNameIndex);
 		} else if (attributeName.equals("RuntimeVisibleAnnotations")) {
-			this.attributes[a] = new AttributeRuntimeVisibleAnnotations(this.classFile,
+			return new AttributeRuntimeVisibleAnnotations(this.classFile,
 					attributeNameIndex);
 		} else if (attributeName.equals("RuntimeInvisibleAnnotations")) {
-			this.attributes[a] = new AttributeRuntimeInvisibleAnnotations(this.classFile,
+			return new AttributeRuntimeInvisibleAnnotations(this.classFile,
 					attributeNameIndex);
 		} else if (attributeName.equals("RuntimeVisibleParameterAnnotations")) {
-			this.attributes[a] = new AttributeRuntimeVisibleParameterAnnotations(this.classFile,
+			return new AttributeRuntimeVisibleParameterAnnotations(this.classFile,
 					attributeNameIndex);
 		} else if (attributeName.equals("RuntimeInvisibleParameterAnnotations")) {
-			this.attributes[a] = new AttributeRuntimeInvisibleParameterAnnotations(this.classFile,
+			return new AttributeRuntimeInvisibleParameterAnnotations(this.classFile,
 					attributeNameIndex);
 		} else if (attributeName.equals("AnnotationDefault")) {
-			this.attributes[a] = new AttributeAnnotationDefault(this.classFile, attributeNameIndex);
+			return new AttributeAnnotationDefault(this.classFile, attributeNameIndex);
 		} else {
 	if (Globals.getInst().parserLogger.isDebugEnabled()) Globals.getInst().parserLogger.debug("Parsing: Encountered an unknown attribute \"" + attributeName + "\"");
-    		this.attributes[a] = new AttributeUnknownSkipped(this.classFile, attributeNameIndex);
+    		return new AttributeUnknownSkipped(this.classFile, attributeNameIndex);
     	}
 	}
 
@@ -353,8 +354,9 @@ public class Method extends FieldMethod {
 	 *         the initialization of instruction.
 	 */
 	public Instruction[] getInstructionsAndOtherBytes() throws InvalidInstructionInitialisationException {
-		if (this.codeAttribute != null) {
-			return this.codeAttribute.getInstructionsAndOtherBytes();
+		AttributeCode codeAttribute = getCodeAttribute();
+		if (codeAttribute != null) {
+			return codeAttribute.getInstructionsAndOtherBytes();
 		}
 		return null;
 	}
@@ -365,8 +367,9 @@ public class Method extends FieldMethod {
 	 * @throws InvalidInstructionInitialisationException Thrown when the parsing of the bytecode representation to instruction objects fails.
 	 */
 	public Instruction[] getInstructions() throws InvalidInstructionInitialisationException {
-		if (this.codeAttribute != null)	{
-			return this.codeAttribute.getInstructions();
+		AttributeCode codeAttribute = getCodeAttribute();
+		if (codeAttribute != null) {
+			return codeAttribute.getInstructions();
 		}
 		return null;
 	}
@@ -376,8 +379,9 @@ public class Method extends FieldMethod {
 	 * @return The number of instructions. Could be zero if this Method has no code at all.
 	 */
 	public int getInstructionsNumber() {
-		if (this.codeAttribute != null) {
-			return this.codeAttribute.getCodeLength();
+		AttributeCode codeAttribute = getCodeAttribute();
+		if (codeAttribute != null) {
+			return codeAttribute.getCodeLength();
 		}
 		return 0;
 	}
@@ -394,8 +398,9 @@ public class Method extends FieldMethod {
 	 * @see AttributeCode#replaceInstruction(QuickInstruction, int)
 	 */
 	public void replaceInstruction(QuickInstruction quick, int index) {
-		if (this.codeAttribute != null) {
-			this.codeAttribute.replaceInstruction(quick, index);
+		AttributeCode codeAttribute = getCodeAttribute();
+		if (codeAttribute != null) {
+			codeAttribute.replaceInstruction(quick, index);
 		}
 	}
 
@@ -628,10 +633,11 @@ public class Method extends FieldMethod {
 		if (this.parameterNames != null) return this.parameterNames;
 
 		// Only proceed if there is a code attribute!
-		if (this.codeAttribute != null) {
+		AttributeCode codeAttribute = getCodeAttribute();
+		if (codeAttribute != null) {
 			// Fetch the LocalVariableTable_attribute (if its exists).
 			AttributeLocalVariableTable attributeLocalVariableTable = null;
-			for (Attribute attribute : this.codeAttribute.getAttributes()) {
+			for (Attribute attribute : codeAttribute.getAttributes()) {
 				if (attribute instanceof AttributeLocalVariableTable) {
 					attributeLocalVariableTable = (AttributeLocalVariableTable) attribute;
 					break;
@@ -640,7 +646,7 @@ public class Method extends FieldMethod {
 
 			// Found it? Do not proceed otherwise.
 			if (attributeLocalVariableTable != null) {
-				this.parameterNames = new String[this.codeAttribute.getMaxLocals()];
+				this.parameterNames = new String[codeAttribute.getMaxLocals()];
 				// Use it to generate the array of parameter names.
 				int foundParameterNames = 0;
 				for (LocalVariableTable localVariableTable : attributeLocalVariableTable.getLocalVariableTable())
@@ -720,7 +726,7 @@ public class Method extends FieldMethod {
 	public void setVariable(int index, Variable variable) {
 		// Initialize the array, if needed.
 		if (this.variables == null) {
-			if (this.codeAttribute == null) {
+			if (getCodeAttribute() == null) {
 				throw new IllegalStateException("The method has no code!");
 			}
 			this.variables = new Variable[getNumberOfParameters()];
@@ -779,9 +785,10 @@ public class Method extends FieldMethod {
 	public String[] getDeclaredExceptions() {
 		// Check if there is an Exceptions attribute.
 		AttributeExceptions attributeExceptions = null;
-		for (int a = 0; a < this.attributes.length; a++) {
-			if (this.attributes[a] instanceof AttributeExceptions) {
-				attributeExceptions = (AttributeExceptions) this.attributes[a];
+		Attribute[] attributes = getAttributes();
+		for (int a = 0; a < attributes.length; a++) {
+			if (attributes[a] instanceof AttributeExceptions) {
+				attributeExceptions = (AttributeExceptions) attributes[a];
 				break;
 			}
 		}
@@ -985,7 +992,7 @@ public class Method extends FieldMethod {
 	 */
 	public Optional<Integer> getLineNumberForPC(final int pc) {
  
-		Optional<Attribute> attrib = Arrays.stream(attributes).filter(x -> x instanceof AttributeCode).findFirst();
+		Optional<Attribute> attrib = Arrays.stream(getAttributes()).filter(x -> x instanceof AttributeCode).findFirst();
 		if(attrib.isPresent()) {
 			Optional<Attribute> attribLNT =  Arrays.stream(((AttributeCode) attrib.get()).getAttributes())
 					.filter(x -> x instanceof AttributeLineNumberTable).findFirst();
@@ -1008,7 +1015,7 @@ public class Method extends FieldMethod {
 			// (getName().equalsIgnoreCase("invoke") || getName().equalsIgnoreCase("invokeExact"))
 			
 			// more extensive test for annotation, if for e.g. linktoVirtual
-			Optional<AttributeRuntimeVisibleAnnotations> annot = Arrays.stream(this.attributes).filter(i->i instanceof AttributeRuntimeVisibleAnnotations)
+			Optional<AttributeRuntimeVisibleAnnotations> annot = Arrays.stream(getAttributes()).filter(i->i instanceof AttributeRuntimeVisibleAnnotations)
 			.map(c->(AttributeRuntimeVisibleAnnotations)c).findFirst();
 			
 			if(annot.isPresent()) {
@@ -1064,7 +1071,7 @@ public class Method extends FieldMethod {
 	 * @return
 	 */
 	public boolean isCallerSensitive() {
-		for (Attribute attribute : attributes) {
+		for (Attribute attribute : getAttributes()) {
 			if (attribute instanceof AttributeRuntimeVisibleAnnotations) {
 				AttributeRuntimeVisibleAnnotations attr = (AttributeRuntimeVisibleAnnotations) attribute;
 				for (Annotation annot : attr.getAnnotations()) {
@@ -1107,9 +1114,47 @@ public class Method extends FieldMethod {
 		return isSignaturePolymorphic();
 	}
 
+	/**
+	 * Get the index of this method in the virtual method table of its class. The table is computed
+	 * if it has not been computed yet.
+	 *
+	 * @return The vtable index; or one of the negative sentinels, if the method is not dispatched
+	 *         through the virtual method table.
+	 * @see ClassFile#getVtable()
+	 */
 	public int vtable_index() {
-		// FIXME: implement
-		return 1;
+		if (this.vtableIndex == GARBAGE_VTABLE_INDEX) this.classFile.getVtable();
+		return this.vtableIndex;
+	}
+
+	/**
+	 * Setter for the vtable index. It is set when the virtual method table of the class is
+	 * computed.
+	 *
+	 * @param vtableIndex The vtable index.
+	 */
+	public void setVtableIndex(int vtableIndex) {
+		this.vtableIndex = vtableIndex;
+	}
+
+	/**
+	 * Check whether this method overrides a method declared in a super class of its class
+	 * (JVMS §5.4.5). It has to have the same name and descriptor and must not be private. The
+	 * other method has to be public or protected, or package-private and declared in the same
+	 * runtime package. Overriding a package-private method through an intermediate method that
+	 * overrides it is not checked here; the virtual method table takes care of it, as the
+	 * intermediate method has taken over the entry of the package-private one.
+	 *
+	 * @param method The method declared in a super class.
+	 * @return true, if this method overrides the method, false otherwise.
+	 */
+	public boolean overrides(Method method) {
+		if (isAccPrivate() || isAccStatic() || method.isAccPrivate() || method.isAccStatic()
+				|| !getName().equals(method.getName())
+				|| !getDescriptor().equals(method.getDescriptor()))
+			return false;
+		return method.isAccPublic() || method.isAccProtected()
+				|| getClassFile().getPackageName().equals(method.getClassFile().getPackageName());
 	}
 
 	public boolean can_be_statically_bound() {
@@ -1118,8 +1163,7 @@ public class Method extends FieldMethod {
 	}
 
 	public boolean has_vtable_index() {
-		// TODO Auto-generated method stub
-		return false;
+		return vtable_index() >= 0;
 	}
 
 	public int itable_index() {
@@ -28,7 +28,7 @@ public class AttributeBootstrapMethods extends Attribute {
 	 * @throws ClassFileException
 	 *             If the index is invalid.
 	 * @throws IOException
-	 *             Thrown on errors reading from the DataInputStream of the
+	 *             Thrown on errors reading from the input of the
 	 *             class.
 	 */
 	public AttributeBootstrapMethods(ClassFile classFile,
@@ -40,7 +40,7 @@ public class AttributeBootstrapMethods extends Attribute {
 			throw new ClassFileException(
 					"Encountered a corrupt class file: attribute_name_index of an attribute_bootstrapsMethods must be \"BootstrapMethods\".");
 		}
-		this.numBootstrapMethods = classFile.getDis().readUnsignedShort();
+		this.numBootstrapMethods = classFile.getInput().readUnsignedShort();
 
 		this.bootstrapMethods = new BootstrapMethod[numBootstrapMethods];
 
@@ -16,7 +16,14 @@ import de.wwu.muggl.vm.classfile.structures.constants.ConstantUtf8;
 import de.wwu.muggl.vm.classfile.support.BytecodeParser;
 
 /**
- * Representation of a attribute_code of a method of a class.
+ * Representation of a attribute_code of a method of a class.<br />
+ * <br />
+ * Most methods of the classes loaded are never executed, so the code and the attributes of this
+ * attribute, e.g. its attribute_line_number_table, are skipped while the class is read. They are
+ * parsed once they are requested first, by {@link ClassFile#readDeferred(int,
+ * de.wwu.muggl.vm.classfile.ClassFile.DeferredReader)} from the buffer the class file is kept in.
+ * Their bounds and the names of the attributes are checked while the class is read, so errors
+ * found when parsing them later should be rare. They are reported as an IllegalStateException.
  *
  * @author Tim Majchrzak
  * @version 1.0.0, 2010-03-18
@@ -26,11 +33,13 @@ public class AttributeCode extends Attribute {
 	private int maxStack;
 	private int maxLocals;
 	private int codeLength;
-	private short[] code;
 	private int exceptionTableLength;
 	private ExceptionTable[] exceptionTable;
 	private int attributeCount;
-	private Attribute[] attributes;
+
+	// The code and the attributes, once they have been parsed, and their position in the class file.
+	private volatile Body body;
+	private final int bodyPosition;
 
 	// The only other field.
 	private int codePosition;
@@ -42,43 +51,38 @@ public class AttributeCode extends Attribute {
 	 * @param classFile The ClassFile the attribute belongs to.
 	 * @param attributeNameIndex The index in the constant_pool that hold the attribute's name as a UTF8.
 	 * @throws ClassFileException Thrown when parsing of sub attributes fails or an invalid index into the constant pool is ecnountered.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 */
 	public AttributeCode(ClassFile classFile, int attributeNameIndex) throws ClassFileException, IOException {
 		super(classFile, attributeNameIndex);
 		if (!this.classFile.getConstantPool()[this.attributeNameIndex].getStringValue().equals("Code")) {
 			throw new ClassFileException("Encountered a corrupt class file: attribute_name_index of an attribute_code must be \"Code\".");
 		}
-		this.maxStack = classFile.getDis().readUnsignedShort();
+		this.maxStack = classFile.getInput().readUnsignedShort();
 		if (this.maxStack < 0) {
 			throw new ClassFileException("Encountered a corrupt class file: max_stack of an attribute_code must not be negative.");
 		}
 		if (this.maxStack > Limitations.MAX_MAX_STACK) {
 			throw new ClassFileException("Encountered a corrupt class file: max_stack of an attribute_code must be less or equal  than " + Limitations.MAX_MAX_STACK + ".");
 		}
-		this.maxLocals = classFile.getDis().readUnsignedShort();
+		this.maxLocals = classFile.getInput().readUnsignedShort();
 		if (this.maxLocals < 0) {
 			throw new ClassFileException("Encountered a corrupt class file: max_locals of an attribute_codemust not be negative.");
 		}
 		if (this.maxLocals > Limitations.MAX_MAX_LOCALS) {
 			throw new ClassFileException("Encountered a corrupt class file: max_locals of an attribute_code must be less or ewual than " + Limitations.MAX_MAX_LOCALS + ".");
 		}
-		this.codeLength = classFile.getDis().readInt();
+		this.codeLength = classFile.getInput().readInt();
 		if (this.codeLength <= 0) {
 			throw new ClassFileException("Encountered a corrupt class file: code_length of an attribute_code must be greater zero.");
 		}
 		if (this.codeLength >= Limitations.MAX_CODE_LENGTH) {
 			throw new ClassFileException("Encountered a corrupt class file: code_length of an attribute_code must be lessor equal  than " + Limitations.MAX_CODE_LENGTH + ".");
 		}
-		// Read the code.
-		this.code = new short[this.codeLength];
-		for (int a = 0; a < this.codeLength; a++) {
-			this.code[a] = classFile.getDis().readByte();
-			if (this.code[a] < 0) {
-				this.code[a] += Limitations.OPCODE_TO_OVERFLOW;
-			}
-		}
-		this.exceptionTableLength = classFile.getDis().readUnsignedShort();
+		// Skip the code. It is parsed when it is requested first.
+		this.bodyPosition = classFile.getInput().getPosition();
+		classFile.getInput().skipBytes(this.codeLength);
+		this.exceptionTableLength = classFile.getInput().readUnsignedShort();
 		if (this.exceptionTableLength < 0) {
 			throw new ClassFileException("Encountered a corrupt class file: An exception_table_length must not be negative.");
 		}
@@ -89,31 +93,64 @@ public class AttributeCode extends Attribute {
 			this.exceptionTable[a] = new ExceptionTable(this.classFile, this);
 		}
 
-		this.attributeCount = classFile.getDis().readUnsignedShort();
-		// This attribute might have attributes itself.
-		this.attributes = new Attribute[this.attributeCount];
+		this.attributeCount = classFile.getInput().readUnsignedShort();
+		// This attribute might have attributes itself. They are parsed along with the code.
+		classFile.skipAttributes(this.attributeCount);
+	}
+
+	/**
+	 * Get the code and the attributes, parsing them if they have not been requested yet.
+	 *
+	 * @return The code and the attributes.
+	 * @throws IllegalStateException If the code or the attributes are corrupt.
+	 */
+	private Body getBody() {
+		Body body = this.body;
+		if (body == null) {
+			body = this.classFile.readDeferred(this.bodyPosition, () -> {
+				if (this.body == null) this.body = readBody();
+				return this.body;
+			});
+		}
+		return body;
+	}
 
+	/**
+	 * Parse the code and the attributes from the input of the class, which is set to the start
+	 * of the code.
+	 *
+	 * @return The code and the attributes.
+	 * @throws ClassFileException Thrown when parsing of sub attributes fails or an invalid index into the constant pool is ecnountered.
+	 * @throws IOException Thrown on errors reading from the input of the class.
+	 */
+	private Body readBody() throws ClassFileException, IOException {
+		// Read the code.
+		short[] code = new short[this.codeLength];
+		for (int a = 0; a < this.codeLength; a++) {
+			code[a] = this.classFile.getInput().readByte();
+			if (code[a] < 0) {
+				code[a] += Limitations.OPCODE_TO_OVERFLOW;
+			}
+		}
+		// Skip the exception_table_length, the exception table and the attribute_count.
+		this.classFile.getInput().skipBytes(this.exceptionTableLength * 8 + 4);
+
+		Attribute[] attributes = new Attribute[this.attributeCount];
 		if (Globals.getInst().parserLogger.isTraceEnabled()) Globals.getInst().parserLogger.trace("Parsing: Reading the attribute_code with name \"" + ((ConstantUtf8) this.classFile.getConstantPool()[this.attributeNameIndex]).getValue() + "\" with " + this.attributeCount + " attributes");
         for (int a = 0; a < this.attributeCount; a++) {
-        	int subAttributeNameIndex = classFile.getDis().readUnsignedShort();
-        	checkIndexIntoTheConstantPool(subAttributeNameIndex);
-        	ConstantUtf8 constant = null;
-        	try {
-        		constant = (ConstantUtf8) this.classFile.getConstantPool()[subAttributeNameIndex];
-        	} catch (ClassCastException e) {
-        		throw new ClassFileException("Expected a ConstantUtf8 at " + subAttributeNameIndex + " in the constant_pool when reading the attributes, but got " + this.classFile.getConstantPool()[subAttributeNameIndex].getClass().getName() + ".");
-        	}
-        	String attributeName = constant.getStringValue();
+        	int subAttributeNameIndex = this.classFile.getInput().readUnsignedShort();
+        	String attributeName = this.classFile.getConstantPool()[subAttributeNameIndex].getStringValue();
         	// Which Attribute is it?
         	if (attributeName.equals("LineNumberTable")) {
-        		this.attributes[a] = new AttributeLineNumberTable(classFile, subAttributeNameIndex, this);
+        		attributes[a] = new AttributeLineNumberTable(this.classFile, subAttributeNameIndex, this);
         	} else if (attributeName.equals("LocalVariableTable")) {
-        		this.attributes[a] = new AttributeLocalVariableTable(classFile, subAttributeNameIndex, this);
+        		attributes[a] = new AttributeLocalVariableTable(this.classFile, subAttributeNameIndex, this);
         	} else {
         		if (Globals.getInst().parserLogger.isDebugEnabled()) Globals.getInst().parserLogger.debug("Parsing attribute_code: Encountered an unknown attribute \"" + attributeName + "\"");
-        		this.attributes[a] = new AttributeUnknownSkipped(classFile, subAttributeNameIndex);
+        		attributes[a] = new AttributeUnknownSkipped(this.classFile, subAttributeNameIndex);
         	}
         }
+		return new Body(code, attributes);
 	}
 
 	/**
@@ -129,8 +166,9 @@ public class AttributeCode extends Attribute {
 		dos.writeInt(this.codeLength);
 
 		// Write the code.
+		Body body = getBody();
 		for (int a = 0; a < this.codeLength; a++) {
-			short byteValue = this.code[a];
+			short byteValue = body.code[a];
 			if (byteValue > Limitations.OPCODE_OVERFLOW) byteValue -= Limitations.OPCODE_TO_OVERFLOW;
 			dos.writeByte(byteValue);
 		}
@@ -144,7 +182,7 @@ public class AttributeCode extends Attribute {
 		// Write the attributes.
 		dos.writeShort(this.attributeCount);
 		for (int a = 0; a < this.attributeCount; a++) {
-			this.attributes[a].writeToClassFile(dos);
+			body.attributes[a].writeToClassFile(dos);
 		}
 	}
 
@@ -170,10 +208,11 @@ public class AttributeCode extends Attribute {
 		// If instructions are requested for the first time, they are parsed and loaded.
 		if (this.instructions == null) {
 			try {
-				this.instructions = new Instruction[this.code.length];
-				for (this.codePosition = 0; this.codePosition < this.code.length; this.codePosition++) {
+				short[] code = getBody().code;
+				this.instructions = new Instruction[code.length];
+				for (this.codePosition = 0; this.codePosition < code.length; this.codePosition++) {
 					this.instructions[this.codePosition] =
-						BytecodeParser.parse(this.code[this.codePosition], this, this.codePosition);
+						BytecodeParser.parse(code[this.codePosition], this, this.codePosition);
 				}
 			} catch (InvalidInstructionInitialisationException e) {
 				// If anything goes wrong, reset the instructions array.
@@ -281,10 +320,11 @@ public class AttributeCode extends Attribute {
 	 */
 	public short getNextCodeByte() throws NoMoreCodeBytesException {
 		this.codePosition++;
-		if (this.codePosition >= this.code.length) {
+		short[] code = getBody().code;
+		if (this.codePosition >= code.length) {
 			throw new NoMoreCodeBytesException("Bytecode error: There are no more additional bytes.");
 		}
-		return this.code[this.codePosition];
+		return code[this.codePosition];
 	}
 
 	/**
@@ -298,12 +338,13 @@ public class AttributeCode extends Attribute {
 		if (number < 0) {
 			throw new NoMoreCodeBytesException("Parameter number must be greater than 0");
 		}
+		short[] code = getBody().code;
 		short[] bytes = new short[number];
 		for (int a = 1; a <= number; a++) {
-			if (this.codePosition + a >= this.code.length) {
+			if (this.codePosition + a >= code.length) {
 				throw new NoMoreCodeBytesException("Bytecode error: There are no more additional bytes.");
 			}
-			bytes[a - 1] = this.code[this.codePosition + a];
+			bytes[a - 1] = code[this.codePosition + a];
 		}
 		this.codePosition += number;
 
@@ -311,11 +352,13 @@ public class AttributeCode extends Attribute {
 	}
 
 	/**
-	 * Getter for the attributes.
+	 * Getter for the attributes. They are parsed along with the code if it has not been requested
+	 * yet.
 	 * @return The attributes as an array of Attribute objects.
+	 * @throws IllegalStateException If the code or the attributes are corrupt.
 	 */
 	public Attribute[] getAttributes() {
-		return this.attributes;
+		return getBody().attributes;
 	}
 
 	/**
@@ -327,11 +370,13 @@ public class AttributeCode extends Attribute {
 	}
 
 	/**
-	 * Getter for the code.
+	 * Getter for the code. It is parsed along with the attributes if it has not been requested
+	 * yet.
 	 * @return The code bytes as an array of short.
+	 * @throws IllegalStateException If the code or the attributes are corrupt.
 	 */
 	public short[] getCode() {
-		return this.code;
+		return getBody().code;
 	}
 
 	/**
@@ -374,4 +419,24 @@ public class AttributeCode extends Attribute {
 		return this.maxStack;
 	}
 
+	/**
+	 * The code and the attributes of an attribute_code. They are published together once both
+	 * have been parsed.
+	 */
+	private static final class Body {
+		final short[] code;
+		final Attribute[] attributes;
+
+		/**
+		 * Initialize the body.
+		 *
+		 * @param code The code bytes.
+		 * @param attributes The attributes.
+		 */
+		Body(short[] code, Attribute[] attributes) {
+			this.code = code;
+			this.attributes = attributes;
+		}
+	}
+
 }
@@ -27,7 +27,7 @@ public class AttributeConstantValue extends Attribute {
 	 * @param classFile The ClassFile the attribute belongs to.
 	 * @param attributeNameIndex The index in the constant_pool that hold the attribute's name as a UTF8.
 	 * @throws ClassFileException If the constant value is not either of type ConstantDouble, ConstantFloat, ConstantInteger, ConstantLong or ConstantString, indicating an error or a specfication violation in the class file. It also is If an invalid index into the constant pool is encountered.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 */
 	public AttributeConstantValue(ClassFile classFile, int attributeNameIndex) throws ClassFileException, IOException {
 		super(classFile, attributeNameIndex);
@@ -38,7 +38,7 @@ public class AttributeConstantValue extends Attribute {
 			throw new ClassFileException("Encountered a corrupt class file: attribute_length of an attribute_constant_value must be 2.");
 		}
 
-		this.constantvalueIndex = classFile.getDis().readUnsignedShort();
+		this.constantvalueIndex = classFile.getInput().readUnsignedShort();
 		checkIndexIntoTheConstantPool(this.constantvalueIndex);
 		// check if constantvalue_index has a valid value
 		if (!(
@@ -23,18 +23,18 @@ public class AttributeExceptions extends Attribute {
 	 * @param classFile The ClassFile the attribute belongs to.
 	 * @param attributeNameIndex The index in the constant_pool that hold the attribute's name as a UTF8.
 	 * @throws ClassFileException If the index is invalid.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 */
 	public AttributeExceptions(ClassFile classFile, int attributeNameIndex) throws ClassFileException, IOException {
 		super(classFile, attributeNameIndex);
 		if (!this.classFile.getConstantPool()[this.attributeNameIndex].getStringValue().equals("Exceptions")) {
 			throw new ClassFileException("Encountered a corrupt class file: attribute_name_index of an attribute_exception must be \"Exceptions\".");
 		}
-		this.numberOfExceptions = classFile.getDis().readUnsignedShort();
+		this.numberOfExceptions = classFile.getInput().readUnsignedShort();
 		if (this.numberOfExceptions < 0) throw new ClassFileException("Encountered a corrupt class file: number_of_exceptions of an attribute_exception must not be negative.");
 		this.exceptionIndexTable = new int[this.numberOfExceptions];
 		for (int a = 0; a < this.numberOfExceptions; a++) {
-			this.exceptionIndexTable[a] = classFile.getDis().readUnsignedShort();
+			this.exceptionIndexTable[a] = classFile.getInput().readUnsignedShort();
 			checkIndexIntoTheConstantPool(this.exceptionIndexTable[a]);
 			if (this.classFile.getConstantPool()[this.exceptionIndexTable[a]].getTag() != ClassFile.CONSTANT_CLASS) {
 				throw new ClassFileException("Encountered a corrupt class file: Each entry of the exception_index_table of an attribute_exception should point to a CONSTANT_Class_info.");
@@ -24,7 +24,7 @@ public class AttributeInnerClasses extends Attribute {
 	 * @param classFile The ClassFile the attribute belongs to.
 	 * @param attributeNameIndex The index in the constant_pool that hold the attribute's name as a UTF8.
 	 * @throws ClassFileException If the index is invalid.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 */
 	public AttributeInnerClasses(ClassFile classFile, int attributeNameIndex) throws ClassFileException, IOException {
 		super(classFile, attributeNameIndex);
@@ -32,7 +32,7 @@ public class AttributeInnerClasses extends Attribute {
 			throw new ClassFileException("Encountered a corrupt class file: attribute_name_index of an attribute_inner_classes must be \"InnerClasses\".");
 		}
 		if (Globals.getInst().parserLogger.isTraceEnabled()) Globals.getInst().parserLogger.trace("Parsing: Reading the Attribute \"InnerClasses\"");
-		this.numberOfClasses = classFile.getDis().readUnsignedShort();
+		this.numberOfClasses = classFile.getInput().readUnsignedShort();
 		if (this.numberOfClasses < 0) throw new ClassFileException("Encountered a corrupt class file: number_of_classes of an attribute_inner_classes must not be negative.");
 		this.classes = new InnerClass[this.numberOfClasses];
 		for (int a = 0; a < this.numberOfClasses; a++) {
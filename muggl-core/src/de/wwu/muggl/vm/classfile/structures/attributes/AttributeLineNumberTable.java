@@ -26,7 +26,7 @@ public class AttributeLineNumberTable extends Attribute {
 	 * @param attributeNameIndex The index in the constant_pool that hold the attribute's name as a UTF8.
 	 * @param code The attribute_code the exception_table belongs to.
 	 * @throws ClassFileException If the index is invalid or parsing of an line_number_table entry fails.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 */
 	public AttributeLineNumberTable(ClassFile classFile, int attributeNameIndex, AttributeCode code) throws ClassFileException, IOException {
 		super(classFile, attributeNameIndex);
@@ -34,7 +34,7 @@ public class AttributeLineNumberTable extends Attribute {
 			throw new ClassFileException("Encountered a corrupt class file: attribute_name_index of an attribute_line_number_table must be \"LineNumberTable\".");
 		}
 		if (Globals.getInst().parserLogger.isTraceEnabled()) Globals.getInst().parserLogger.trace("Parsing: Reading the Attribute \"LineNumberTable\"");
-		this.lineNumberTableLength = classFile.getDis().readUnsignedShort();
+		this.lineNumberTableLength = classFile.getInput().readUnsignedShort();
 		if (this.lineNumberTableLength < 0) throw new ClassFileException("Encountered a corrupt class file: line_number_table_length of an attribute_line_number_table must not be negative.");
 		this.lineNumberTable = new LineNumberTable[this.lineNumberTableLength];
 		for (int a = 0; a < this.lineNumberTableLength; a++) {
@@ -25,7 +25,7 @@ public class AttributeLocalVariableTable extends Attribute {
 	 * @param attributeNameIndex The index in the constant_pool that hold the attribute's name as a UTF8.
 	 * @param code The attribute_code the exception_table belongs to.
 	 * @throws ClassFileException If the index is invalid.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 */
 	public AttributeLocalVariableTable(ClassFile classFile, int attributeNameIndex, AttributeCode code) throws ClassFileException, IOException {
 		super(classFile, attributeNameIndex);
@@ -33,7 +33,7 @@ public class AttributeLocalVariableTable extends Attribute {
 			throw new ClassFileException("Encountered a corrupt class file: attribute_name_index of an attribute_local_variable_table must be \"LocalVariableTable\".");
 		}
 		if (Globals.getInst().parserLogger.isTraceEnabled()) Globals.getInst().parserLogger.trace("Parsing: Reading the Attribute \"LocalVariableTable\"");
-		this.localVariableTableLength = classFile.getDis().readUnsignedShort();
+		this.localVariableTableLength = classFile.getInput().readUnsignedShort();
 		if (this.localVariableTableLength < 0) throw new ClassFileException("Encountered a corrupt class file: local_variable_table_length of an attribute_local_variable_table must not be negative.");
 		this.localVariableTable = new LocalVariableTable[this.localVariableTableLength];
 		for (int a = 0; a < this.localVariableTableLength; a++) {
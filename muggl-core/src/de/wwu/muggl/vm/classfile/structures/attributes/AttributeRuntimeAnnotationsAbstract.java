@@ -29,7 +29,7 @@ public abstract class AttributeRuntimeAnnotationsAbstract extends Attribute {
 	 * @param nameUnderscores The name of this attribute with underscores.
 	 * @param nameCamelCase The name of this attribute in camel case.
 	 * @throws ClassFileException If the index is invalid.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 */
 	public AttributeRuntimeAnnotationsAbstract(ClassFile classFile, int attributeNameIndex,
 			String nameUnderscores, String nameCamelCase) throws ClassFileException, IOException {
@@ -43,7 +43,7 @@ public abstract class AttributeRuntimeAnnotationsAbstract extends Attribute {
 					"Encountered a corrupt class file: attribute_name_index of an "
 							+ this.nameUnderscores + " must be \"" + this.nameCamelCase + "\".");
 		}
-		this.numAnnotations = classFile.getDis().readUnsignedShort();
+		this.numAnnotations = classFile.getInput().readUnsignedShort();
 		this.annotations = new Annotation[this.numAnnotations];
 		for (int a = 0; a < this.numAnnotations; a++) {
 			this.annotations[a] = new Annotation(classFile);
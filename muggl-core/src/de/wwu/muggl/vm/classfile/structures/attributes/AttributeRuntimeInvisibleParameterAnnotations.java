@@ -20,7 +20,7 @@ public class AttributeRuntimeInvisibleParameterAnnotations extends AttributeRunt
 	 * @param attributeNameIndex The index in the constant_pool that hold the attribute's name as a
 	 *        UTF8.
 	 * @throws ClassFileException If the index is invalid.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 */
 	public AttributeRuntimeInvisibleParameterAnnotations(ClassFile classFile, int attributeNameIndex)
 			throws ClassFileException, IOException {
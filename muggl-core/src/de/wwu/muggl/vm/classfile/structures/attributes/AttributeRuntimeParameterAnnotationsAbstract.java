@@ -30,7 +30,7 @@ public abstract class AttributeRuntimeParameterAnnotationsAbstract extends Attri
 	 * @param nameUnderscores The name of this attribute with underscores.
 	 * @param nameCamelCase The name of this attribute in camel case.
 	 * @throws ClassFileException If the index is invalid.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 */
 	public AttributeRuntimeParameterAnnotationsAbstract(ClassFile classFile, int attributeNameIndex,
 			String nameUnderscores, String nameCamelCase) throws ClassFileException, IOException {
@@ -44,7 +44,7 @@ public abstract class AttributeRuntimeParameterAnnotationsAbstract extends Attri
 					"Encountered a corrupt class file: attribute_name_index of an "
 							+ this.nameUnderscores + " must be \"" + this.nameCamelCase + "\".");
 		}
-		this.numParameters = classFile.getDis().readUnsignedByte();
+		this.numParameters = classFile.getInput().readUnsignedByte();
 		this.parameterAnnotations = new ParameterAnnotation[this.numParameters];
 		for (int a = 0; a < this.numParameters; a++) {
 			this.parameterAnnotations[a] = new ParameterAnnotation(classFile);
@@ -18,7 +18,7 @@ public class AttributeSignature extends Attribute {
 		super(classFile, attributeNameIndex);
 		this.bytes = new byte[this.attributeLength];
 		for (int a = 0; a < this.attributeLength; a++) {
-			this.bytes[a] = classFile.getDis().readByte();
+			this.bytes[a] = classFile.getInput().readByte();
 		}
 		if (Globals.getInst().logger.isTraceEnabled()) Globals.getInst().logger.trace("Parsing: Read the byte of an unknown attribute");
 	}
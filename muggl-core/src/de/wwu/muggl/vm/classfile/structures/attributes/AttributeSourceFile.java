@@ -22,14 +22,14 @@ public class AttributeSourceFile extends Attribute {
 	 * @param classFile The ClassFile the attribute belongs to.
 	 * @param attributeNameIndex The index in the constant_pool that hold the attribute's name as a UTF8.
 	 * @throws ClassFileException If the index is invalid.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 */
 	public AttributeSourceFile(ClassFile classFile, int attributeNameIndex) throws ClassFileException, IOException {
 		super(classFile, attributeNameIndex);
 		if (!this.classFile.getConstantPool()[this.attributeNameIndex].getStringValue().equals("SourceFile")) {
 			throw new ClassFileException("Encountered a corrupt class file: attribute_name_index of an attribute_source_file must be \"SourceFile\".");
 		}
-		this.sourcefileIndex = classFile.getDis().readUnsignedShort();
+		this.sourcefileIndex = classFile.getInput().readUnsignedShort();
 		checkIndexIntoTheConstantPool(this.sourcefileIndex);
 		if (classFile.getConstantPool()[this.sourcefileIndex].getTag() != ClassFile.CONSTANT_UTF8) {
 			throw new ClassFileException("Encountered a corrupt class file: sourcefile_index of an attribute_source_file should point to a CONSTANT_Utf8_info.");
@@ -25,13 +25,13 @@ public class AttributeUnknownSkipped extends Attribute {
 	 * @param classFile The ClassFile the attribute belongs to.
 	 * @param attributeNameIndex The index in the constant_pool that hold the attribute's name as a UTF8.
 	 * @throws ClassFileException If the index is invalid.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 */
 	public AttributeUnknownSkipped(ClassFile classFile, int attributeNameIndex) throws ClassFileException, IOException {
 		super(classFile, attributeNameIndex);
 		this.bytes = new byte[this.attributeLength];
 		for (int a = 0; a < this.attributeLength; a++) {
-			this.bytes[a] = classFile.getDis().readByte();
+			this.bytes[a] = classFile.getInput().readByte();
 		}
 		if (Globals.getInst().parserLogger.isTraceEnabled()) Globals.getInst().parserLogger.trace("Parsing: Read the byte of an unknown attribute");
 	}
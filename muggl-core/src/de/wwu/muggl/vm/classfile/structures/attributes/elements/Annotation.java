@@ -23,19 +23,19 @@ public class Annotation extends ClassFileStructure {
 	 * Basic constructor.
 	 * 
 	 * @param classFile The ClassFile the local_variable_table belongs to.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 * @throws ClassFileException If any incorrect values are detected.
 	 */
 	public Annotation(ClassFile classFile) throws IOException, ClassFileException {
 		super(classFile);
 		
-		this.typeIndex = classFile.getDis().readUnsignedShort();
+		this.typeIndex = classFile.getInput().readUnsignedShort();
 		checkIndexIntoTheConstantPool(this.typeIndex);
 		if (this.classFile.getConstantPool()[this.typeIndex].getTag() != ClassFile.CONSTANT_UTF8) {
 			throw new ClassFileException(
 					"Encountered a corrupt class file: type_index of a annotation should point to a CONSTANT_Utf8_info.");
 		}
-		this.numElementValuePairs = classFile.getDis().readUnsignedShort();
+		this.numElementValuePairs = classFile.getInput().readUnsignedShort();
 		this.elementValuesPairs = new ElementValuePair[this.numElementValuePairs];
 		for (int a = 0; a < this.numElementValuePairs; a++) {
 			this.elementValuesPairs[a] = new ElementValuePair(classFile);
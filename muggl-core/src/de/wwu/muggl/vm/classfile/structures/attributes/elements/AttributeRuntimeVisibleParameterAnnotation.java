@@ -24,7 +24,7 @@ public class AttributeRuntimeVisibleParameterAnnotation extends Attribute {
 	 * @param classFile The ClassFile the attribute belongs to.
 	 * @param attributeNameIndex The index in the constant_pool that hold the attribute's name as a UTF8.
 	 * @throws ClassFileException If the index is invalid.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 */
 	public AttributeRuntimeVisibleParameterAnnotation(ClassFile classFile, int attributeNameIndex) throws ClassFileException, IOException {
 		super(classFile, attributeNameIndex);
@@ -32,7 +32,7 @@ public class AttributeRuntimeVisibleParameterAnnotation extends Attribute {
 		if (!this.classFile.getConstantPool()[this.attributeNameIndex].getStringValue().equals("RuntimeVisibleParameterAnnotations")) {
 			throw new ClassFileException("Encountered a corrupt class file: attribute_name_index of an attribute_runtime_visible_parameter_annotation must be \"RuntimeVisibleParameterAnnotations\".");
 		}
-		this.numParameters = classFile.getDis().readUnsignedByte();
+		this.numParameters = classFile.getInput().readUnsignedByte();
 		this.parameterAnnotations = new ParameterAnnotation[this.numParameters];
 		for (int a = 0; a < this.numParameters; a++) {
 			this.parameterAnnotations[a] = new ParameterAnnotation(classFile);
@@ -26,7 +26,7 @@ public class BootstrapMethod extends ClassFileStructure {
 	 * @param classFile
 	 *            The ClassFile the local_variable_table belongs to.
 	 * @throws IOException
-	 *             Thrown on errors reading from the DataInputStream of the
+	 *             Thrown on errors reading from the input of the
 	 *             class.
 	 * @throws ClassFileException
 	 *             If any incorrect values are detected.
@@ -35,12 +35,12 @@ public class BootstrapMethod extends ClassFileStructure {
 			throws IOException, ClassFileException {
 		super(classFile);
 
-		this.bootstrapMethodRef = classFile.getDis().readUnsignedShort();
-		this.numBootstrapArguments = classFile.getDis().readUnsignedShort();
+		this.bootstrapMethodRef = classFile.getInput().readUnsignedShort();
+		this.numBootstrapArguments = classFile.getInput().readUnsignedShort();
 		this.bootstrapArguments = new int[numBootstrapArguments];
 
 		for (int b = 0; b < numBootstrapArguments; b++) {
-			this.bootstrapArguments[b] = classFile.getDis().readUnsignedShort();
+			this.bootstrapArguments[b] = classFile.getInput().readUnsignedShort();
 		}
 
 		checkIndexIntoTheConstantPool(this.bootstrapMethodRef);
@@ -35,11 +35,11 @@ public abstract class ElementValue extends ClassFileStructure {
 	 * 
 	 * @param classFile The ClassFile the element_value belongs to.
 	 * @return The element value of the appropriate sub type.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 * @throws ClassFileException If any incorrect values are detected.
 	 */
 	public static ElementValue getElementValue(ClassFile classFile) throws IOException, ClassFileException {
-		char tag = (char) classFile.getDis().readUnsignedByte();
+		char tag = (char) classFile.getInput().readUnsignedByte();
 		
 		switch(tag) {
 			case 'B':
@@ -23,7 +23,7 @@ public class ElementValueAnnotation extends ElementValue {
 	 * 
 	 * @param classFile The ClassFile the element_value belongs to.
 	 * @param tag The tag of this element_value.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 * @throws ClassFileException If any incorrect values are detected.
 	 */
 	ElementValueAnnotation(ClassFile classFile, char tag) throws IOException, ClassFileException {
@@ -23,13 +23,13 @@ public class ElementValueArray extends ElementValue {
 	 * 
 	 * @param classFile The ClassFile the element_value belongs to.
 	 * @param tag The tag of this element_value.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 * @throws ClassFileException If any incorrect values are detected.
 	 */
 	ElementValueArray(ClassFile classFile, char tag) throws IOException, ClassFileException {
 		super(classFile, tag);
 		
-		this.numValues = classFile.getDis().readUnsignedShort();
+		this.numValues = classFile.getInput().readUnsignedShort();
 		this.elementValues = new ElementValue[this.numValues];
 		for (int a = 0; a < this.numValues; a++) {
 			this.elementValues[a] = ElementValue.getElementValue(classFile);
@@ -22,13 +22,13 @@ public class ElementValueClass extends ElementValue {
 	 * 
 	 * @param classFile The ClassFile the element_value belongs to.
 	 * @param tag The tag of this element_value.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 * @throws ClassFileException If any incorrect values are detected.
 	 */
 	ElementValueClass(ClassFile classFile, char tag) throws IOException, ClassFileException {
 		super(classFile, tag);
 		
-		this.classInfoIndex = classFile.getDis().readUnsignedShort();
+		this.classInfoIndex = classFile.getInput().readUnsignedShort();
 		checkIndexIntoTheConstantPool(this.classInfoIndex);
 		if (this.classFile.getConstantPool()[this.classInfoIndex].getTag() != ClassFile.CONSTANT_UTF8) {
 			throw new ClassFileException(
@@ -23,14 +23,14 @@ public class ElementValueEnum extends ElementValue {
 	 * 
 	 * @param classFile The ClassFile the element_value belongs to.
 	 * @param tag The tag of this element_value.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 * @throws ClassFileException If any incorrect values are detected.
 	 */
 	ElementValueEnum(ClassFile classFile, char tag) throws IOException, ClassFileException {
 		super(classFile, tag);
 		
-		this.typeNameIndex = classFile.getDis().readUnsignedShort();
-		this.constNameIndex = classFile.getDis().readUnsignedShort();
+		this.typeNameIndex = classFile.getInput().readUnsignedShort();
+		this.constNameIndex = classFile.getInput().readUnsignedShort();
 		checkIndexIntoTheConstantPool(this.typeNameIndex);
 		if (this.classFile.getConstantPool()[this.typeNameIndex].getTag() != ClassFile.CONSTANT_UTF8) {
 			throw new ClassFileException(
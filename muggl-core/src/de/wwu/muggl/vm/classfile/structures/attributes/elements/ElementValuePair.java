@@ -21,13 +21,13 @@ public class ElementValuePair extends ClassFileStructure {
 	 * Basic constructor.
 	 * 
 	 * @param classFile The ClassFile the local_variable_table belongs to.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 * @throws ClassFileException If any incorrect values are detected.
 	 */
 	public ElementValuePair(ClassFile classFile) throws IOException, ClassFileException {
 		super(classFile);
 		
-		this.elementNameIndex = classFile.getDis().readUnsignedShort();
+		this.elementNameIndex = classFile.getInput().readUnsignedShort();
 		checkIndexIntoTheConstantPool(this.elementNameIndex);
 		if (this.classFile.getConstantPool()[this.elementNameIndex].getTag() != ClassFile.CONSTANT_UTF8) {
 			throw new ClassFileException(
@@ -24,7 +24,7 @@ public class ElementValuePrimitive extends ElementValue {
 	 * @param classFile The ClassFile the element_value belongs to.
 	 * @param tag The tag of this element_value.
 	 * @param expected The expected primitive type in a String representation.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 * @throws ClassFileException If any incorrect values are detected.
 	 */
 	ElementValuePrimitive(ClassFile classFile, char tag, String expected) throws IOException,
@@ -32,7 +32,7 @@ public class ElementValuePrimitive extends ElementValue {
 		super(classFile, tag);
 
 		// Read and check.
-		this.constValueIndex = classFile.getDis().readUnsignedShort();
+		this.constValueIndex = classFile.getInput().readUnsignedShort();
 		checkIndexIntoTheConstantPool(this.constValueIndex);
 		if (!this.classFile.getConstantPool()[this.constValueIndex].getStructureName().equals(
 				expected)) {
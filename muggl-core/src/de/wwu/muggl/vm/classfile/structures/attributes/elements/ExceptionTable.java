@@ -26,21 +26,21 @@ public class ExceptionTable extends ClassFileStructure {
 	 * @param classFile The ClassFile the exception_table belongs to.
 	 * @param code The attribute_code the exception_table belongs to.
 	 * @throws ClassFileException If any incorrect values are detected.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 */
 	public ExceptionTable(ClassFile classFile, AttributeCode code) throws ClassFileException, IOException {
 		super(classFile);
-		this.startPc = classFile.getDis().readUnsignedShort();
+		this.startPc = classFile.getInput().readUnsignedShort();
 		if (this.startPc < 0) throw new ClassFileException("Encountered a corrupt class file: start_pc of an exception_table must not be less than zero.");
 		if (this.startPc >= code.getCodeLength()) throw new ClassFileException("Encountered a corrupt class file: start_pc of an exception_table must not exceed the code's length minus one (be a valid index into the code).");
-		this.endPc = classFile.getDis().readUnsignedShort();
+		this.endPc = classFile.getInput().readUnsignedShort();
 		if (this.endPc < 0) throw new ClassFileException("Encountered a corrupt class file: end_pc of an exception_table must not be less than zero.");
 		if (this.endPc > code.getCodeLength()) throw new ClassFileException("Encountered a corrupt class file: end_pc of an exception_table must not exceed the code's length.");
 		if (this.endPc <= this.startPc) throw new ClassFileException("Encountered a corrupt class file: start_pc must be less than end_pc for an exception_table.");
-		this.handlerPc = classFile.getDis().readUnsignedShort();
+		this.handlerPc = classFile.getInput().readUnsignedShort();
 		if (this.handlerPc < 0) throw new ClassFileException("Encountered a corrupt class file: handler_pc of an exception_table must not be less than zero.");
 		if (this.handlerPc >= code.getCodeLength()) throw new ClassFileException("Encountered a corrupt class file: handler_pc of an exception_table must not exceed the code's length minus one (be a valid index into the code).");
-		this.catchType = classFile.getDis().readUnsignedShort();
+		this.catchType = classFile.getInput().readUnsignedShort();
     	if (this.catchType >= this.classFile.getConstantPoolCount()) {
     		throw new ClassFileException("Encountered a corrupt class file: A catch_type index into the constant pool at position " + this.catchType + " was found. Yet, there are only " + this.classFile.getConstantPoolCount() + " entries in total.");
     	}
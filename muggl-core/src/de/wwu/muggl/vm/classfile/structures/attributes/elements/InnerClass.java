@@ -35,33 +35,33 @@ public class InnerClass extends ClassFileStructure {
 	/**
 	 * Basic constructor.
 	 * @param classFile The ClassFile the inner_class belongs to.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 * @throws ClassFileException Thrown on unexpected fatal errors when parsing the class file.
 	 */
 	public InnerClass(ClassFile classFile) throws IOException, ClassFileException {
 		super(classFile);
-		this.innerClassInfoIndex = classFile.getDis().readUnsignedShort();
+		this.innerClassInfoIndex = classFile.getInput().readUnsignedShort();
 		if (this.innerClassInfoIndex != 0) {
 			checkIndexIntoTheConstantPool(this.innerClassInfoIndex);
 			if (this.classFile.getConstantPool()[this.innerClassInfoIndex].getTag() != ClassFile.CONSTANT_CLASS) {
 				throw new ClassFileException("Encountered a corrupt class file: inner_classes_info_index of an inner class should point to a CONSTANT_Class_info.");
 			}
 		}
-		this.outerClassInfoIndex = classFile.getDis().readUnsignedShort();
+		this.outerClassInfoIndex = classFile.getInput().readUnsignedShort();
 		if (this.outerClassInfoIndex != 0) {
 			checkIndexIntoTheConstantPool(this.outerClassInfoIndex);
 			if (this.classFile.getConstantPool()[this.outerClassInfoIndex].getTag() != ClassFile.CONSTANT_CLASS) {
 				throw new ClassFileException("Encountered a corrupt class file: outer_classes_info_index of an inner class should point to a CONSTANT_Class_info.");
 			}
 		}
-		this.innerNameIndex = classFile.getDis().readUnsignedShort();
+		this.innerNameIndex = classFile.getInput().readUnsignedShort();
 			if (this.innerNameIndex != 0) {
 			checkIndexIntoTheConstantPool(this.innerNameIndex);
 			if (this.classFile.getConstantPool()[this.innerNameIndex].getTag() != ClassFile.CONSTANT_UTF8) {
 				throw new ClassFileException("Encountered a corrupt class file: inner_name_index of an inner class should point to a CONSTANT_Utf8_info.");
 			}
 		}
-		this.innerClassAccessFlags = classFile.getDis().readUnsignedShort();
+		this.innerClassAccessFlags = classFile.getInput().readUnsignedShort();
 		parseAccessFlags();
 		if (Globals.getInst().parserLogger.isTraceEnabled()) {
 			if (this.innerNameIndex != 0) {
@@ -24,14 +24,14 @@ public class LineNumberTable extends ClassFileStructure {
 	 * @param classFile The ClassFile the line_number_table belongs to.
 	 * @param code The attribute_code the exception_table belongs to.
 	 * @throws ClassFileException If start_pc or line_number have invalid values.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 */
 	public LineNumberTable(ClassFile classFile, AttributeCode code) throws IOException, ClassFileException {
 		super(classFile);
-		this.startPC = classFile.getDis().readUnsignedShort();
+		this.startPC = classFile.getInput().readUnsignedShort();
 		if (this.startPC < 0) throw new ClassFileException("Encountered a corrupt class file: start_pc of a line_number table must not be negative.");
 		if (this.startPC >= code.getCodeLength()) throw new ClassFileException("Encountered a corrupt class file: start_pc of a line_number table must be a valid index into the code.");
-		this.lineNumber = classFile.getDis().readUnsignedShort();
+		this.lineNumber = classFile.getInput().readUnsignedShort();
 		if (this.lineNumber < 0) throw new ClassFileException("Encountered a corrupt class file: line_number of a line_number table must not be negative.");
 		if (Globals.getInst().parserLogger.isTraceEnabled()) Globals.getInst().parserLogger.trace("Parsing: Read a line number entry");
 	}
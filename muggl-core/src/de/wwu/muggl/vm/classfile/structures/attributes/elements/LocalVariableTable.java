@@ -26,28 +26,28 @@ public class LocalVariableTable extends ClassFileStructure {
 	 * Basic constructor.
 	 * @param classFile The ClassFile the local_variable_table belongs to.
 	 * @param code The attribute_code the exception_table belongs to.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 * @throws ClassFileException If any incorrect values are detected.
 	 */
 	public LocalVariableTable(ClassFile classFile, AttributeCode code) throws IOException, ClassFileException {
 		super(classFile);
-		this.startPc = classFile.getDis().readUnsignedShort();
+		this.startPc = classFile.getInput().readUnsignedShort();
 		if (this.startPc < 0) throw new ClassFileException("Encountered a corrupt class file: start_pc of an local_variable_table must not be less than zero.");
 		if (this.startPc >= code.getCodeLength()) throw new ClassFileException("Encountered a corrupt class file: start_pc of an local_variable_table must not exceed the code's length minus one (be a valid index into the code).");
-		this.length = classFile.getDis().readUnsignedShort();
+		this.length = classFile.getInput().readUnsignedShort();
 		if (this.length < 0) throw new ClassFileException("Encountered a corrupt class file: length of an local_variable_table must not be less than zero.");
 		if (this.startPc + this.length > code.getCodeLength()) throw new ClassFileException("Encountered a corrupt class file: start_pc + length of an local_variable_table must not exceed the code's length.");
-		this.nameIndex = classFile.getDis().readUnsignedShort();
+		this.nameIndex = classFile.getInput().readUnsignedShort();
 		checkIndexIntoTheConstantPool(this.nameIndex);
 		if (classFile.getConstantPool()[this.nameIndex].getTag() != ClassFile.CONSTANT_UTF8) {
 			throw new ClassFileException("Encountered a corrupt class file: name_index of an local_variable_table should point to a CONSTANT_Utf8_info.");
 		}
-		this.descriptorIndex = classFile.getDis().readUnsignedShort();
+		this.descriptorIndex = classFile.getInput().readUnsignedShort();
 		checkIndexIntoTheConstantPool(this.descriptorIndex);
 		if (classFile.getConstantPool()[this.descriptorIndex].getTag() != ClassFile.CONSTANT_UTF8) {
 			throw new ClassFileException("Encountered a corrupt class file: descriptor_index of an local_variable_table should point to a CONSTANT_Utf8_info.");
 		}
-		this.index = classFile.getDis().readUnsignedShort();
+		this.index = classFile.getInput().readUnsignedShort();
 		if (Globals.getInst().parserLogger.isTraceEnabled()) Globals.getInst().parserLogger.trace("Parsing: Read a local variable table entry with name " + getName() + ".");
 	}
 
@@ -21,13 +21,13 @@ public class ParameterAnnotation extends ClassFileStructure {
 	 * Basic constructor.
 	 * 
 	 * @param classFile The ClassFile the local_variable_table belongs to.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 * @throws ClassFileException If any incorrect values are detected.
 	 */
 	public ParameterAnnotation(ClassFile classFile) throws IOException, ClassFileException {
 		super(classFile);
 		
-		this.numAnnotations = classFile.getDis().readUnsignedShort();
+		this.numAnnotations = classFile.getInput().readUnsignedShort();
 		this.annotations = new Annotation[this.numAnnotations];
 		for (int a = 0; a < this.numAnnotations; a++) {
 			this.annotations[a] = new Annotation(classFile);
@@ -21,11 +21,11 @@ public class ConstantClass extends Constant {
 	 * Basic constructor.
 	 * @param classFile The ClassFile the constant belongs to.
 	 * @throws ClassFileException If the attributeNameIndex is invalid.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 */
 	public ConstantClass(ClassFile classFile) throws ClassFileException, IOException {
 		super(classFile);
-		this.nameIndex = classFile.getDis().readUnsignedShort();
+		this.nameIndex = classFile.getInput().readUnsignedShort();
 		checkIndexIntoTheConstantPool(this.nameIndex);
 		if (Globals.getInst().parserLogger.isTraceEnabled()) Globals.getInst().parserLogger.trace("Parsing: Read new Constant: Class, name_index is " + getNameIndex());
 	}
@@ -19,11 +19,11 @@ public class ConstantDouble extends ConstantLongDouble {
 	/**
 	 * Basic constructor.
 	 * @param classFile The ClassFile the constant belongs to.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 */
 	public ConstantDouble(ClassFile classFile) throws IOException {
 		super(classFile);
-		this.value = classFile.getDis().readDouble();
+		this.value = classFile.getInput().readDouble();
 		if (Globals.getInst().parserLogger.isTraceEnabled()) Globals.getInst().parserLogger.trace("Parsing: Read new Constant: Double");
 	}
 
@@ -28,13 +28,13 @@ public abstract class ConstantFieldInterfaceMethod extends Constant {
 	 * Basic constructor.
 	 * @param classFile The ClassFile the constant belongs to.
 	 * @throws ClassFileException If the attributeNameIndex is invalid.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 */
 	public ConstantFieldInterfaceMethod(ClassFile classFile) throws ClassFileException, IOException {
 		super(classFile);
-		this.classIndex = classFile.getDis().readUnsignedShort();
+		this.classIndex = classFile.getInput().readUnsignedShort();
 		checkIndexIntoTheConstantPool(this.classIndex);
-		this.nameAndTypeIndex = classFile.getDis().readUnsignedShort();
+		this.nameAndTypeIndex = classFile.getInput().readUnsignedShort();
 		checkIndexIntoTheConstantPool(this.nameAndTypeIndex);
 	}
 
@@ -18,11 +18,11 @@ public class ConstantFloat extends ConstantIntegerFloat {
 	/**
 	 * Basic constructor.
 	 * @param classFile The ClassFile the constant belongs to.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 */
 	public ConstantFloat(ClassFile classFile) throws IOException {
 		super(classFile);
-		this.value = classFile.getDis().readFloat();
+		this.value = classFile.getInput().readFloat();
 		if (Globals.getInst().parserLogger.isTraceEnabled()) Globals.getInst().parserLogger.trace("Parsing: Read new Constant: Float");
 	}
 
@@ -18,7 +18,7 @@ public class ConstantInterfaceMethodref extends ConstantFieldInterfaceMethod {
 	 * Basic constructor.
 	 * @param classFile The ClassFile the constant belongs to.
 	 * @throws ClassFileException If the attributeNameIndex is invalid.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 */
 	public ConstantInterfaceMethodref(ClassFile classFile) throws ClassFileException, IOException {
 		super(classFile);
@@ -27,7 +27,7 @@ public class ConstantInvokeDynamic extends Constant {
 	 * @throws ClassFileException
 	 *             If the attributeNameIndex is invalid.
 	 * @throws IOException
-	 *             Thrown on errors reading from the DataInputStream of the
+	 *             Thrown on errors reading from the input of the
 	 *             class.
 	 */
 	public ConstantInvokeDynamic(ClassFile classFile)
@@ -35,9 +35,9 @@ public class ConstantInvokeDynamic extends Constant {
 		super(classFile);
 		// We should check if this points to an entry in the BootstrapMethods table,
 		// but it is probably not read by now.
-		this.bootstrapMethodAttrIndex = classFile.getDis().readUnsignedShort();
+		this.bootstrapMethodAttrIndex = classFile.getInput().readUnsignedShort();
 
-		this.nameAndTypeIndex = classFile.getDis().readUnsignedShort();
+		this.nameAndTypeIndex = classFile.getInput().readUnsignedShort();
 		checkIndexIntoTheConstantPool(this.nameAndTypeIndex);
 		if (Globals.getInst().parserLogger.isTraceEnabled())
 			Globals.getInst().parserLogger
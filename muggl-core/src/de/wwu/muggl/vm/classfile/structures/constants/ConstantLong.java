@@ -18,11 +18,11 @@ public class ConstantLong extends ConstantLongDouble {
 	/**
 	 * Basic constructor.
 	 * @param classFile The ClassFile the constant belongs to.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 */
 	public ConstantLong(ClassFile classFile) throws IOException {
 		super(classFile);
-		this.value = classFile.getDis().readLong();
+		this.value = classFile.getInput().readLong();
 		if (Globals.getInst().parserLogger.isTraceEnabled()) Globals.getInst().parserLogger.trace("Parsing: Read new Constant: Double");
 	}
 
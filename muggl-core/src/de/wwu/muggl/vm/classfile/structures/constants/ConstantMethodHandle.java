@@ -23,15 +23,15 @@ public class ConstantMethodHandle extends Constant {
 	 * @param classFile
 	 *            The ClassFile the constant belongs to.
 	 * @throws IOException
-	 *             Thrown on errors reading from the DataInputStream of the class.
+	 *             Thrown on errors reading from the input of the class.
 	 * @throws ClassFileException
 	 *             If the referenceIndex is invalid.
 	 */
 	public ConstantMethodHandle(ClassFile classFile) throws IOException, ClassFileException {
 		super(classFile);
 
-		this.referenceKind = ReferenceKind.valueOf(classFile.getDis().readByte());
-		this.referenceIndex = classFile.getDis().readUnsignedShort();
+		this.referenceKind = ReferenceKind.valueOf(classFile.getInput().readByte());
+		this.referenceIndex = classFile.getInput().readUnsignedShort();
 		checkIndexIntoTheConstantPool(this.referenceIndex);
 		if (Globals.getInst().parserLogger.isTraceEnabled())
 			Globals.getInst().parserLogger.trace("Parsing: Read new Constant: Method Handle, reference_kind is "
@@ -27,13 +27,13 @@ public class ConstantMethodType extends Constant {
 	 * @throws ClassFileException
 	 *             If the attributeNameIndex is invalid.
 	 * @throws IOException
-	 *             Thrown on errors reading from the DataInputStream of the
+	 *             Thrown on errors reading from the input of the
 	 *             class.
 	 */
 	public ConstantMethodType(ClassFile classFile)
 			throws ClassFileException, IOException {
 		super(classFile);
-		this.descriptorIndex = classFile.getDis().readUnsignedShort();
+		this.descriptorIndex = classFile.getInput().readUnsignedShort();
 		checkIndexIntoTheConstantPool(this.descriptorIndex);
 		if (Globals.getInst().parserLogger.isTraceEnabled())
 			Globals.getInst().parserLogger
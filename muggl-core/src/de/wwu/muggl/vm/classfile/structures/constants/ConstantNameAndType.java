@@ -22,13 +22,13 @@ public class ConstantNameAndType extends Constant {
 	 * Basic constructor.
 	 * @param classFile The ClassFile the constant belongs to.
 	 * @throws ClassFileException If the attributeNameIndex is invalid.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 */
 	public ConstantNameAndType(ClassFile classFile) throws ClassFileException, IOException {
 		super(classFile);
-		this.nameIndex = classFile.getDis().readUnsignedShort();
+		this.nameIndex = classFile.getInput().readUnsignedShort();
 		checkIndexIntoTheConstantPool(this.nameIndex);
-		this.descriptorIndex = classFile.getDis().readUnsignedShort();
+		this.descriptorIndex = classFile.getInput().readUnsignedShort();
 		checkIndexIntoTheConstantPool(this.descriptorIndex);
 		if (Globals.getInst().parserLogger.isTraceEnabled()) Globals.getInst().parserLogger.trace("Parsing: Read new Constant: NameAndType, name_index is " + getNameIndex() + ", descriptor_index is " + getDescriptorIndex());
 	}
@@ -21,11 +21,11 @@ public class ConstantString extends Constant {
 	 * Basic constructor.
 	 * @param classFile The ClassFile the constant belongs to.
 	 * @throws ClassFileException If the attributeNameIndex is invalid.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 */
 	public ConstantString(ClassFile classFile) throws ClassFileException, IOException {
 		super(classFile);
-		this.stringIndex = classFile.getDis().readUnsignedShort();
+		this.stringIndex = classFile.getInput().readUnsignedShort();
 		checkIndexIntoTheConstantPool(this.stringIndex);
 		if (Globals.getInst().parserLogger.isTraceEnabled()) Globals.getInst().parserLogger.trace("Parsing: Read new Constant: String, string_index is " + getStringIndex());
 	}
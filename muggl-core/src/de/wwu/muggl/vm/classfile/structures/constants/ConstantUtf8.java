@@ -5,9 +5,11 @@ import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+
 import de.wwu.muggl.configuration.Globals;
 import de.wwu.muggl.configuration.Options;
 import de.wwu.muggl.vm.classfile.ClassFile;
+import de.wwu.muggl.vm.classfile.ClassFileInput;
 import de.wwu.muggl.vm.classfile.ClassFileWriteAccessViolationException;
 import de.wwu.muggl.vm.classfile.structures.Constant;
 
@@ -19,26 +21,28 @@ import de.wwu.muggl.vm.classfile.structures.Constant;
  */
 public class ConstantUtf8 extends Constant {
 	private int length;
-	private byte[] bytes; // first two bytes indicate length
+	// The bytes are not copied, but read from the buffer of the class file when needed.
+	private ByteBuffer buffer;
+	private int offset;
+	// The decoded value. It is set when it is requested first.
+	private String value;
 
 	/**
-	 * Basic constructor.
+	 * Basic constructor. The bytes are only skipped; they are decoded when the value is requested
+	 * first.
 	 * @param classFile The ClassFile the constant belongs to.
-	 * @throws IOException Thrown on errors reading from the DataInputStream of the class.
+	 * @throws IOException Thrown on errors reading from the input of the class.
 	 */
 	public ConstantUtf8(ClassFile classFile) throws IOException {
 		super(classFile);
-		this.length = classFile.getDis().readUnsignedShort();
-		this.bytes = new byte[this.length+2];
-		// need to retain the length bytes for the decoding of inputbyte later 
-		byte[] bytes = ByteBuffer.allocate(Integer.BYTES).putInt(length).array();
-		this.bytes[0] = bytes[2];
-		this.bytes[1] = bytes[3];
-		for (int a = 2; a < this.length+2; a++) {
-			this.bytes[a] = classFile.getDis().readByte();
-		}
-		Globals.getInst().parserLogger
-				.trace("Parsing: Read new Constant: Utf8, bytes to String is \"" + getValue() + "\"");
+		ClassFileInput input = classFile.getInput();
+		this.length = input.readUnsignedShort();
+		this.buffer = input.getBuffer();
+		this.offset = input.getPosition();
+		input.skipBytes(this.length);
+		if (Globals.getInst().parserLogger.isTraceEnabled())
+			Globals.getInst().parserLogger
+					.trace("Parsing: Read new Constant: Utf8, bytes to String is \"" + getValue() + "\"");
 	}
 
 	/**
@@ -53,7 +57,7 @@ public class ConstantUtf8 extends Constant {
 	public void writeToClassFile(DataOutputStream dos) throws IOException {
 		super.writeToClassFile(dos);
 		dos.writeShort(this.length);
-		dos.write(this.bytes);
+		dos.write(getBytes());
 	}
 
 	/**
@@ -78,7 +82,9 @@ public class ConstantUtf8 extends Constant {
 	 * @return The bytes of this constant as an array of byte.
 	 */
 	public byte[] getBytes() {
-		return this.bytes;
+		byte[] bytes = new byte[this.length];
+		ClassFileInput.copy(this.buffer, this.offset, bytes);
+		return bytes;
 	}
 
 	/**
@@ -89,24 +95,52 @@ public class ConstantUtf8 extends Constant {
 	public void setBytes(byte[] bytes) throws ClassFileWriteAccessViolationException {
 		if (!Options.getInst().classFileWriteAccess)
 			throw new ClassFileWriteAccessViolationException("Write access is to class files is (currently) not allowed");
-		this.bytes = bytes;
+		this.buffer = ByteBuffer.wrap(bytes);
+		this.offset = 0;
+		this.length = bytes.length;
+		this.value = null;
 	}
 
 
 	/**
-	 * Get the value of the constant.
-	 * @return The constants value as a String.
+	 * Get the value of the constant. The bytes are decoded when it is requested first.
+	 * @return The constants value as a String, or null if the bytes are no valid modified UTF-8.
 	 */
 	@Override
 	public String getValue() {
-		try {
+		String value = this.value;
+		if (value == null) {
+			value = decode();
+			this.value = value;
+		}
+		return value;
+	}
 
-			ByteArrayInputStream bis = new ByteArrayInputStream(this.bytes);
-			DataInputStream dis = new DataInputStream(bis);
-			return DataInputStream.readUTF(dis);
-		} catch (IOException e) {
-			return null;
+	/**
+	 * Decode the bytes of this constant. Strings consisting of ASCII characters only, such as
+	 * the names and descriptors of most classes, fields and methods, are decoded directly.
+	 * Others are decoded as modified UTF-8 by the DataInputStream.
+	 * @return The decoded String, or null if the bytes are no valid modified UTF-8.
+	 */
+	private String decode() {
+		char[] chars = new char[this.length];
+		for (int a = 0; a < this.length; a++) {
+			byte b = this.buffer.get(this.offset + a);
+			if (b < 0) {
+				// Not ASCII. The DataInputStream needs the length in front of the bytes.
+				byte[] bytes = new byte[this.length + 2];
+				bytes[0] = (byte) (this.length >>> 8);
+				bytes[1] = (byte) this.length;
+				System.arraycopy(getBytes(), 0, bytes, 2, this.length);
+				try {
+					return DataInputStream.readUTF(new DataInputStream(new ByteArrayInputStream(bytes)));
+				} catch (IOException e) {
+					return null;
+				}
+			}
+			chars[a] = (char) b;
 		}
+		return new String(chars);
 	}
 
 	/**
@@ -5,7 +5,9 @@ import de.wwu.muggl.configuration.Options;
 import de.wwu.muggl.instructions.InvalidInstructionInitialisationException;
 import de.wwu.muggl.instructions.bytecode.*;
 import de.wwu.muggl.instructions.interfaces.Instruction;
+import de.wwu.muggl.instructions.replaced.replacer.InvokeinterfaceReplacer;
 import de.wwu.muggl.instructions.replaced.replacer.InvokestaticReplacer;
+import de.wwu.muggl.instructions.replaced.replacer.InvokevirtualReplacer;
 import de.wwu.muggl.instructions.replaced.replacer.Ldc2_wReplacer;
 import de.wwu.muggl.instructions.replaced.replacer.LdcReplacer;
 import de.wwu.muggl.instructions.replaced.replacer.Ldc_wReplacer;
@@ -239,10 +241,10 @@ public class BytecodeParser {
 				case 0xb3: return new Putstatic(code);
 				case 0xb4: return new Getfield(code);
 				case 0xb5: return new Putfield(code);
-				case 0xb6: return new Invokevirtual(code);
+				case 0xb6: return optimize ? new InvokevirtualReplacer(code) : new Invokevirtual(code);
 				case 0xb7: return new Invokespecial(code);
 				case 0xb8: return optimize ? new InvokestaticReplacer(code) : new Invokestatic(code);
-				case 0xb9: return new Invokeinterface(code);
+				case 0xb9: return optimize ? new InvokeinterfaceReplacer(code) : new Invokeinterface(code);
 				case 0xba: return new Invokedynamic(code);
 				case 0xbb: return new New(code);
 				case 0xbc: return new Newarray(code);
@@ -0,0 +1,163 @@
+package de.wwu.muggl.vm.events;
+
+import de.wwu.muggl.solvers.Solution;
+import de.wwu.muggl.solvers.SolverManager;
+import de.wwu.muggl.solvers.exceptions.SolverUnableToDecideException;
+import de.wwu.muggl.solvers.exceptions.TimeoutException;
+import de.wwu.muggl.solvers.expressions.ConstraintExpression;
+
+/**
+ * Solver manager forwarding everything to another solver manager, firing the events of solver
+ * queries around its hasSolution() and getSolution() methods. The events are only fired if any
+ * listener is registered with {@link ExecutionEvents}. They name the decorated solver manager.<br />
+ * <br />
+ * It also counts the constraints checked by hasSolution(). Unlike the deprecated counter of the
+ * solver managers, which might be shared by all their instances, the count belongs to this solver
+ * manager only.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+public class EventReportingSolverManager implements SolverManager {
+	// The decorated solver manager.
+	private final SolverManager solverManager;
+	private boolean shutDown;
+	private long constraintsChecked;
+
+	/**
+	 * Initialize the solver manager.
+	 *
+	 * @param solverManager The decorated solver manager.
+	 */
+	public EventReportingSolverManager(SolverManager solverManager) {
+		this.solverManager = solverManager;
+		this.shutDown = false;
+		this.constraintsChecked = 0L;
+	}
+
+	/**
+	 * Getter for the decorated solver manager.
+	 *
+	 * @return The decorated solver manager.
+	 */
+	public SolverManager getSolverManager() {
+		return this.solverManager;
+	}
+
+	/**
+	 * Add a constraint to the decorated solver manager.
+	 *
+	 * @param ce The new constraint.
+	 */
+	@Override
+	public void addConstraint(ConstraintExpression ce) {
+		this.solverManager.addConstraint(ce);
+	}
+
+	/**
+	 * Ask the decorated solver manager for a solution, firing the events of the query.
+	 *
+	 * @return A solution, or Solution.NOSOLUTION.
+	 * @throws SolverUnableToDecideException If the solvers are unable to decide.
+	 * @throws TimeoutException If the solvers reach their time limits.
+	 */
+	@Override
+	public Solution getSolution() throws SolverUnableToDecideException, TimeoutException {
+		if (!ExecutionEvents.isEnabled()) return this.solverManager.getSolution();
+
+		ExecutionEvents.solverQueryStarted(this.solverManager, true);
+		long start = System.nanoTime();
+		Solution solution = null;
+		try {
+			solution = this.solverManager.getSolution();
+			return solution;
+		} finally {
+			ExecutionEvents.solverQueryFinished(this.solverManager, true,
+					solution != null && solution != Solution.NOSOLUTION, System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Ask the decorated solver manager whether there is a solution, firing the events of the
+	 * query.
+	 *
+	 * @return true, if there is a solution, false otherwise.
+	 * @throws SolverUnableToDecideException If the solvers are unable to decide.
+	 * @throws TimeoutException If the solvers reach their time limits.
+	 */
+	@Override
+	public boolean hasSolution() throws SolverUnableToDecideException, TimeoutException {
+		this.constraintsChecked++;
+		if (!ExecutionEvents.isEnabled()) return this.solverManager.hasSolution();
+
+		ExecutionEvents.solverQueryStarted(this.solverManager, false);
+		long start = System.nanoTime();
+		boolean solvable = false;
+		try {
+			solvable = this.solverManager.hasSolution();
+			return solvable;
+		} finally {
+			ExecutionEvents.solverQueryFinished(this.solverManager, false, solvable, System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Remove the last constraint from the decorated solver manager.
+	 */
+	@Override
+	public void removeConstraint() {
+		this.solverManager.removeConstraint();
+	}
+
+	/**
+	 * Reset the decorated solver manager.
+	 */
+	@Override
+	public void reset() {
+		this.solverManager.reset();
+	}
+
+	/**
+	 * Shut the decorated solver manager down. It is only shut down once, even if this method is
+	 * invoked again.
+	 *
+	 * @throws Throwable Any exception thrown by the decorated solver manager.
+	 */
+	@Override
+	public void shutdown() throws Throwable {
+		if (!this.shutDown) {
+			this.shutDown = true;
+			this.solverManager.shutdown();
+		}
+	}
+
+	/**
+	 * Getter for the number of constraints checked by hasSolution() of this solver manager.
+	 *
+	 * @return The number of constraints checked.
+	 */
+	public long getNumberOfConstraintsChecked() {
+		return this.constraintsChecked;
+	}
+
+	/**
+	 * Getter for the total number of constraints checked by the decorated solver manager.
+	 *
+	 * @return The total number of constraints checked.
+	 */
+	@Override
+	@Deprecated
+	public long getTotalConstraintsChecked() {
+		return this.solverManager.getTotalConstraintsChecked();
+	}
+
+	/**
+	 * Reset the statistical counter of the decorated solver manager.
+	 */
+	@Override
+	@Deprecated
+	public void resetCounter() {
+		this.solverManager.resetCounter();
+	}
+
+}
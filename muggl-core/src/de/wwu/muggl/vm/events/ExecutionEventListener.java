@@ -0,0 +1,97 @@
+package de.wwu.muggl.vm.events;
+
+import de.wwu.muggl.instructions.interfaces.Instruction;
+import de.wwu.muggl.solvers.Solution;
+import de.wwu.muggl.solvers.SolverManager;
+import de.wwu.muggl.symbolic.searchAlgorithms.choice.ChoicePoint;
+import de.wwu.muggl.vm.Frame;
+
+/**
+ * Listener for the events of the execution. Listeners are registered with {@link ExecutionEvents}.
+ * All methods do nothing by default, so listeners only have to implement the events they are
+ * interested in.<br />
+ * <br />
+ * Events are fired by the thread of the virtual machine they occur in. If more than one virtual
+ * machine is executed at a time, listeners have to be thread-safe.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+public interface ExecutionEventListener {
+
+	/**
+	 * An instruction is about to be executed.
+	 *
+	 * @param frame The frame the instruction is executed in.
+	 * @param pc The pc of the instruction.
+	 * @param instruction The instruction.
+	 */
+	default void executingInstruction(Frame frame, int pc, Instruction instruction) { }
+
+	/**
+	 * A frame has been pushed onto the stack of a virtual machine.
+	 *
+	 * @param frame The pushed frame.
+	 */
+	default void framePushed(Frame frame) { }
+
+	/**
+	 * The execution of a frame starts or is continued.
+	 *
+	 * @param frame The executed frame.
+	 */
+	default void frameEntered(Frame frame) { }
+
+	/**
+	 * A frame has been left by returning from its method.
+	 *
+	 * @param frame The left frame.
+	 */
+	default void framePopped(Frame frame) { }
+
+	/**
+	 * A choice point has been created.
+	 *
+	 * @param choicePoint The new choice point.
+	 */
+	default void choicePointCreated(ChoicePoint choicePoint) { }
+
+	/**
+	 * The search has tracked back to a choice point and continues with its next choice.
+	 *
+	 * @param choicePoint The choice point tracked back to.
+	 */
+	default void choicePointBacktracked(ChoicePoint choicePoint) { }
+
+	/**
+	 * The solver manager has been asked whether the current constraint system has a solution, or
+	 * for a solution of it.
+	 *
+	 * @param solverManager The solver manager.
+	 * @param solutionRequested true, if a solution has been requested, false if it has only been
+	 *        asked whether there is any.
+	 */
+	default void solverQueryStarted(SolverManager solverManager, boolean solutionRequested) { }
+
+	/**
+	 * The solver manager has answered a query. Queries that failed with an exception are finished
+	 * as unsolvable.
+	 *
+	 * @param solverManager The solver manager.
+	 * @param solutionRequested true, if a solution has been requested, false if it has only been
+	 *        asked whether there is any.
+	 * @param solvable true, if the constraint system has a solution.
+	 * @param nanos The time the query took in nanoseconds.
+	 */
+	default void solverQueryFinished(SolverManager solverManager, boolean solutionRequested,
+			boolean solvable, long nanos) { }
+
+	/**
+	 * The search has found a solution.
+	 *
+	 * @param solution The solution of the constraint system.
+	 * @param returnValue The value returned or the exception thrown by the executed method.
+	 */
+	default void solutionFound(Solution solution, Object returnValue) { }
+
+}
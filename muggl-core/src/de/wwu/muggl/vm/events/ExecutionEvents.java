@@ -0,0 +1,294 @@
+package de.wwu.muggl.vm.events;
+
+import org.apache.log4j.Level;
+
+import de.wwu.muggl.configuration.Globals;
+import de.wwu.muggl.configuration.Options;
+import de.wwu.muggl.instructions.interfaces.Instruction;
+import de.wwu.muggl.solvers.Solution;
+import de.wwu.muggl.solvers.SolverManager;
+import de.wwu.muggl.symbolic.searchAlgorithms.choice.ChoicePoint;
+import de.wwu.muggl.vm.Frame;
+
+/**
+ * Dispatcher of the events of the execution to the registered {@link ExecutionEventListener}s.
+ * Firing an event is only worthwhile if any listener is registered. Hence, the places firing events
+ * check {@link #isEnabled()} first, so disabled events cost no more than reading a field. Any
+ * information the listeners need is only computed by them.<br />
+ * <br />
+ * Besides listeners registered explicitly, {@link #configure()} registers the listeners requested
+ * by the current options and logging levels: the logging of executed frames and instructions, the
+ * recording of events for the Java Flight Recorder, and the ring buffer of recent events. The
+ * listener for the Java Flight Recorder is loaded reflectively, so Muggl runs on Java runtimes
+ * without the Flight Recorder API as long as recording is not requested.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+public final class ExecutionEvents {
+	// The registered listeners. The array is replaced on any change and never modified.
+	private static volatile ExecutionEventListener[] listeners = new ExecutionEventListener[0];
+	private static volatile boolean enabled = false;
+
+	// Listeners registered by the configuration.
+	private static LoggingEventListener loggingListener = null;
+	private static ExecutionEventListener flightRecorderListener = null;
+	private static volatile RingBufferEventListener ringBufferListener = null;
+
+	// The listener for the Java Flight Recorder, which needs the jdk.jfr API.
+	private static final String FLIGHT_RECORDER_LISTENER = "de.wwu.muggl.vm.events.FlightRecorderEventListener";
+	private static boolean flightRecorderUnavailable = false;
+
+	/**
+	 * Private constructor.
+	 */
+	private ExecutionEvents() { }
+
+	/**
+	 * Find out whether any listener is registered. Events should only be fired if so.
+	 *
+	 * @return true, if any listener is registered, false otherwise.
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Register a listener. Registering a listener that is registered already has no effect.
+	 *
+	 * @param listener The listener.
+	 */
+	public static synchronized void addListener(ExecutionEventListener listener) {
+		for (ExecutionEventListener registered : listeners) {
+			if (registered == listener) return;
+		}
+		ExecutionEventListener[] newListeners = new ExecutionEventListener[listeners.length + 1];
+		System.arraycopy(listeners, 0, newListeners, 0, listeners.length);
+		newListeners[listeners.length] = listener;
+		listeners = newListeners;
+		enabled = true;
+	}
+
+	/**
+	 * Unregister a listener.
+	 *
+	 * @param listener The listener.
+	 */
+	public static synchronized void removeListener(ExecutionEventListener listener) {
+		for (int a = 0; a < listeners.length; a++) {
+			if (listeners[a] == listener) {
+				ExecutionEventListener[] newListeners = new ExecutionEventListener[listeners.length - 1];
+				System.arraycopy(listeners, 0, newListeners, 0, a);
+				System.arraycopy(listeners, a + 1, newListeners, a, newListeners.length - a);
+				listeners = newListeners;
+				enabled = newListeners.length > 0;
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Register or unregister the listeners requested by the current options and logging levels.
+	 * This is done whenever a virtual machine is initialized. The listeners are shared by all
+	 * virtual machines, so only changes of the options and logging levels since the last
+	 * configuration have any effect.
+	 */
+	public static synchronized void configure() {
+		Options options = Options.getInst();
+
+		// Logging of executed frames and instructions.
+		if (Globals.getInst().executionInstructionLogger.isDebugEnabled()) {
+			if (loggingListener == null) {
+				loggingListener = new LoggingEventListener();
+				addListener(loggingListener);
+			}
+		} else if (loggingListener != null) {
+			removeListener(loggingListener);
+			loggingListener = null;
+		}
+
+		// Events for the Java Flight Recorder.
+		if (options.recordFlightRecorderEvents) {
+			if (flightRecorderListener == null && !flightRecorderUnavailable) {
+				flightRecorderListener = createFlightRecorderListener();
+				if (flightRecorderListener != null) addListener(flightRecorderListener);
+			}
+		} else if (flightRecorderListener != null) {
+			removeListener(flightRecorderListener);
+			flightRecorderListener = null;
+		}
+
+		// Ring buffer of recent events.
+		int ringBufferSize = options.executionEventRingBufferSize;
+		RingBufferEventListener ringBuffer = ringBufferListener;
+		if (ringBuffer != null && ringBuffer.getCapacity() != RingBufferEventListener.roundCapacity(ringBufferSize)) {
+			removeListener(ringBuffer);
+			ringBufferListener = null;
+		}
+		if (ringBufferSize > 0 && ringBufferListener == null) {
+			ringBufferListener = new RingBufferEventListener(ringBufferSize);
+			addListener(ringBufferListener);
+		}
+	}
+
+	/**
+	 * Load and instantiate the listener for the Java Flight Recorder. If the Java runtime lacks
+	 * the Flight Recorder API, a warning is logged and no further attempts are made.
+	 *
+	 * @return The listener; or null, if the Flight Recorder API is not available.
+	 */
+	private static ExecutionEventListener createFlightRecorderListener() {
+		try {
+			Class.forName("jdk.jfr.Event");
+			return Class.forName(FLIGHT_RECORDER_LISTENER).asSubclass(ExecutionEventListener.class)
+					.getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException | LinkageError e) {
+			flightRecorderUnavailable = true;
+			if (Globals.getInst().execLogger.isEnabledFor(Level.WARN))
+				Globals.getInst().execLogger.warn("Events for the Java Flight Recorder cannot be "
+						+ "recorded, as the Java runtime lacks the Flight Recorder API: " + e.toString());
+			return null;
+		}
+	}
+
+	/**
+	 * Getter for the ring buffer of recent events registered by the configuration.
+	 *
+	 * @return The ring buffer, or null if recent events are not kept.
+	 */
+	public static RingBufferEventListener getRingBuffer() {
+		return ringBufferListener;
+	}
+
+	/**
+	 * Log the events kept by the ring buffer registered by the configuration, if there is one.
+	 * This is meant to be invoked if the execution failed.
+	 */
+	public static void logRecentEvents() {
+		RingBufferEventListener ringBuffer = ringBufferListener;
+		if (ringBuffer != null && Globals.getInst().execLogger.isInfoEnabled()) {
+			StringBuilder toLog = new StringBuilder("The most recent events of the execution were:");
+			for (String event : ringBuffer.getRecentEvents()) {
+				toLog.append("\n").append(event);
+			}
+			Globals.getInst().execLogger.info(toLog.toString());
+		}
+	}
+
+	/**
+	 * Fire the event that an instruction is about to be executed.
+	 *
+	 * @param frame The frame the instruction is executed in.
+	 * @param pc The pc of the instruction.
+	 * @param instruction The instruction.
+	 * @see ExecutionEventListener#executingInstruction(Frame, int, Instruction)
+	 */
+	public static void executingInstruction(Frame frame, int pc, Instruction instruction) {
+		for (ExecutionEventListener listener : listeners) {
+			listener.executingInstruction(frame, pc, instruction);
+		}
+	}
+
+	/**
+	 * Fire the event that a frame has been pushed.
+	 *
+	 * @param frame The pushed frame.
+	 * @see ExecutionEventListener#framePushed(Frame)
+	 */
+	public static void framePushed(Frame frame) {
+		for (ExecutionEventListener listener : listeners) {
+			listener.framePushed(frame);
+		}
+	}
+
+	/**
+	 * Fire the event that the execution of a frame starts or is continued.
+	 *
+	 * @param frame The executed frame.
+	 * @see ExecutionEventListener#frameEntered(Frame)
+	 */
+	public static void frameEntered(Frame frame) {
+		for (ExecutionEventListener listener : listeners) {
+			listener.frameEntered(frame);
+		}
+	}
+
+	/**
+	 * Fire the event that a frame has been left.
+	 *
+	 * @param frame The left frame.
+	 * @see ExecutionEventListener#framePopped(Frame)
+	 */
+	public static void framePopped(Frame frame) {
+		for (ExecutionEventListener listener : listeners) {
+			listener.framePopped(frame);
+		}
+	}
+
+	/**
+	 * Fire the event that a choice point has been created.
+	 *
+	 * @param choicePoint The new choice point.
+	 * @see ExecutionEventListener#choicePointCreated(ChoicePoint)
+	 */
+	public static void choicePointCreated(ChoicePoint choicePoint) {
+		for (ExecutionEventListener listener : listeners) {
+			listener.choicePointCreated(choicePoint);
+		}
+	}
+
+	/**
+	 * Fire the event that the search has tracked back to a choice point.
+	 *
+	 * @param choicePoint The choice point tracked back to.
+	 * @see ExecutionEventListener#choicePointBacktracked(ChoicePoint)
+	 */
+	public static void choicePointBacktracked(ChoicePoint choicePoint) {
+		for (ExecutionEventListener listener : listeners) {
+			listener.choicePointBacktracked(choicePoint);
+		}
+	}
+
+	/**
+	 * Fire the event that a solver query has been started.
+	 *
+	 * @param solverManager The solver manager.
+	 * @param solutionRequested true, if a solution has been requested.
+	 * @see ExecutionEventListener#solverQueryStarted(SolverManager, boolean)
+	 */
+	public static void solverQueryStarted(SolverManager solverManager, boolean solutionRequested) {
+		for (ExecutionEventListener listener : listeners) {
+			listener.solverQueryStarted(solverManager, solutionRequested);
+		}
+	}
+
+	/**
+	 * Fire the event that a solver query has been answered.
+	 *
+	 * @param solverManager The solver manager.
+	 * @param solutionRequested true, if a solution has been requested.
+	 * @param solvable true, if the constraint system has a solution.
+	 * @param nanos The time the query took in nanoseconds.
+	 * @see ExecutionEventListener#solverQueryFinished(SolverManager, boolean, boolean, long)
+	 */
+	public static void solverQueryFinished(SolverManager solverManager, boolean solutionRequested,
+			boolean solvable, long nanos) {
+		for (ExecutionEventListener listener : listeners) {
+			listener.solverQueryFinished(solverManager, solutionRequested, solvable, nanos);
+		}
+	}
+
+	/**
+	 * Fire the event that a solution has been found.
+	 *
+	 * @param solution The solution of the constraint system.
+	 * @param returnValue The value returned or the exception thrown by the executed method.
+	 * @see ExecutionEventListener#solutionFound(Solution, Object)
+	 */
+	public static void solutionFound(Solution solution, Object returnValue) {
+		for (ExecutionEventListener listener : listeners) {
+			listener.solutionFound(solution, returnValue);
+		}
+	}
+
+}
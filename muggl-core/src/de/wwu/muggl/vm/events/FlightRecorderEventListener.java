@@ -0,0 +1,275 @@
+package de.wwu.muggl.vm.events;
+
+import de.wwu.muggl.instructions.interfaces.Instruction;
+import de.wwu.muggl.solvers.Solution;
+import de.wwu.muggl.solvers.SolverManager;
+import de.wwu.muggl.symbolic.searchAlgorithms.choice.ChoicePoint;
+import de.wwu.muggl.vm.Frame;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Listener recording the events of the execution for the Java Flight Recorder. Events are only
+ * committed if they are enabled in the running recording, so there is little overhead if no
+ * recording is running. The events of single instructions are disabled by default; they have to be
+ * enabled in the settings of the recording explicitly.<br />
+ * <br />
+ * Recording requires a Java runtime with the Flight Recorder API, i.e. Java 11 or Java 8 update
+ * 262 or later. This class is only loaded reflectively by {@link ExecutionEvents}, and it is left
+ * out of the build if the JDK lacks the API.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+public class FlightRecorderEventListener implements ExecutionEventListener {
+	// The solver queries currently running, per thread.
+	private final ThreadLocal<SolverQueryEvent> solverQueries = new ThreadLocal<SolverQueryEvent>();
+
+	/**
+	 * Event of an instruction about to be executed.
+	 */
+	@Name("de.wwu.muggl.Instruction")
+	@Label("Instruction")
+	@Description("An instruction is about to be executed.")
+	@Category({"Muggl", "Execution"})
+	@Enabled(false)
+	@StackTrace(false)
+	static class InstructionEvent extends Event {
+		@Label("Method")
+		String method;
+		@Label("PC")
+		int pc;
+		@Label("Instruction")
+		String instruction;
+	}
+
+	/**
+	 * Event of a frame pushed, entered or popped.
+	 */
+	@Name("de.wwu.muggl.Frame")
+	@Label("Frame")
+	@Description("A frame has been pushed, its execution starts or is continued, or it has been popped.")
+	@Category({"Muggl", "Execution"})
+	@StackTrace(false)
+	static class FrameEvent extends Event {
+		@Label("Action")
+		String action;
+		@Label("Method")
+		String method;
+	}
+
+	/**
+	 * Event of a choice point created or tracked back to.
+	 */
+	@Name("de.wwu.muggl.ChoicePoint")
+	@Label("Choice Point")
+	@Description("A choice point has been created, or the search tracked back to it.")
+	@Category({"Muggl", "Search"})
+	@StackTrace(false)
+	static class ChoicePointEvent extends Event {
+		@Label("Action")
+		String action;
+		@Label("Number")
+		long number;
+		@Label("Type")
+		String type;
+		@Label("Method")
+		String method;
+		@Label("PC")
+		int pc;
+	}
+
+	/**
+	 * Event of a solver query. Its duration is the time the query took.
+	 */
+	@Name("de.wwu.muggl.SolverQuery")
+	@Label("Solver Query")
+	@Description("The solver manager has been asked for the solvability or a solution of a constraint system.")
+	@Category({"Muggl", "Search"})
+	@StackTrace(false)
+	static class SolverQueryEvent extends Event {
+		@Label("Solver Manager")
+		String solverManager;
+		@Label("Solution Requested")
+		boolean solutionRequested;
+		@Label("Solvable")
+		boolean solvable;
+	}
+
+	/**
+	 * Event of a solution found.
+	 */
+	@Name("de.wwu.muggl.Solution")
+	@Label("Solution")
+	@Description("The search has found a solution.")
+	@Category({"Muggl", "Search"})
+	@StackTrace(false)
+	static class SolutionEvent extends Event {
+		@Label("Solution")
+		String solution;
+		@Label("Return Value")
+		String returnValue;
+	}
+
+	/**
+	 * Commit an instruction event, if instruction events are enabled.
+	 *
+	 * @param frame The frame the instruction is executed in.
+	 * @param pc The pc of the instruction.
+	 * @param instruction The instruction.
+	 */
+	@Override
+	public void executingInstruction(Frame frame, int pc, Instruction instruction) {
+		InstructionEvent event = new InstructionEvent();
+		if (event.isEnabled()) {
+			event.method = frame.getMethod().getPackageAndName();
+			event.pc = pc;
+			event.instruction = instruction.getNameWithOtherBytes();
+			event.commit();
+		}
+	}
+
+	/**
+	 * Commit a frame event for the pushed frame.
+	 *
+	 * @param frame The pushed frame.
+	 */
+	@Override
+	public void framePushed(Frame frame) {
+		commitFrameEvent("pushed", frame);
+	}
+
+	/**
+	 * Commit a frame event for the executed frame.
+	 *
+	 * @param frame The executed frame.
+	 */
+	@Override
+	public void frameEntered(Frame frame) {
+		commitFrameEvent("entered", frame);
+	}
+
+	/**
+	 * Commit a frame event for the left frame.
+	 *
+	 * @param frame The left frame.
+	 */
+	@Override
+	public void framePopped(Frame frame) {
+		commitFrameEvent("popped", frame);
+	}
+
+	/**
+	 * Commit a frame event, if frame events are enabled.
+	 *
+	 * @param action What happened to the frame.
+	 * @param frame The frame.
+	 */
+	private void commitFrameEvent(String action, Frame frame) {
+		FrameEvent event = new FrameEvent();
+		if (event.isEnabled()) {
+			event.action = action;
+			event.method = frame.getMethod().getPackageAndName();
+			event.commit();
+		}
+	}
+
+	/**
+	 * Commit a choice point event for the new choice point.
+	 *
+	 * @param choicePoint The new choice point.
+	 */
+	@Override
+	public void choicePointCreated(ChoicePoint choicePoint) {
+		commitChoicePointEvent("created", choicePoint);
+	}
+
+	/**
+	 * Commit a choice point event for the choice point tracked back to.
+	 *
+	 * @param choicePoint The choice point tracked back to.
+	 */
+	@Override
+	public void choicePointBacktracked(ChoicePoint choicePoint) {
+		commitChoicePointEvent("backtracked", choicePoint);
+	}
+
+	/**
+	 * Commit a choice point event, if choice point events are enabled.
+	 *
+	 * @param action What happened to the choice point.
+	 * @param choicePoint The choice point.
+	 */
+	private void commitChoicePointEvent(String action, ChoicePoint choicePoint) {
+		ChoicePointEvent event = new ChoicePointEvent();
+		if (event.isEnabled()) {
+			event.action = action;
+			event.number = choicePoint.getNumber();
+			event.type = choicePoint.getChoicePointType();
+			event.method = choicePoint.getFrame().getMethod().getPackageAndName();
+			event.pc = choicePoint.getPc();
+			event.commit();
+		}
+	}
+
+	/**
+	 * Begin a solver query event. It is committed once the query has been answered.
+	 *
+	 * @param solverManager The solver manager.
+	 * @param solutionRequested true, if a solution has been requested.
+	 */
+	@Override
+	public void solverQueryStarted(SolverManager solverManager, boolean solutionRequested) {
+		SolverQueryEvent event = new SolverQueryEvent();
+		if (event.isEnabled()) {
+			event.begin();
+			this.solverQueries.set(event);
+		}
+	}
+
+	/**
+	 * Commit the solver query event begun when the query was started.
+	 *
+	 * @param solverManager The solver manager.
+	 * @param solutionRequested true, if a solution has been requested.
+	 * @param solvable true, if the constraint system has a solution.
+	 * @param nanos The time the query took in nanoseconds.
+	 */
+	@Override
+	public void solverQueryFinished(SolverManager solverManager, boolean solutionRequested,
+			boolean solvable, long nanos) {
+		SolverQueryEvent event = this.solverQueries.get();
+		if (event != null) {
+			this.solverQueries.remove();
+			event.end();
+			if (event.shouldCommit()) {
+				event.solverManager = solverManager.getClass().getName();
+				event.solutionRequested = solutionRequested;
+				event.solvable = solvable;
+				event.commit();
+			}
+		}
+	}
+
+	/**
+	 * Commit a solution event, if solution events are enabled.
+	 *
+	 * @param solution The solution of the constraint system.
+	 * @param returnValue The value returned or the exception thrown by the executed method.
+	 */
+	@Override
+	public void solutionFound(Solution solution, Object returnValue) {
+		SolutionEvent event = new SolutionEvent();
+		if (event.isEnabled()) {
+			event.solution = String.valueOf(solution);
+			event.returnValue = String.valueOf(returnValue);
+			event.commit();
+		}
+	}
+
+}
@@ -0,0 +1,63 @@
+package de.wwu.muggl.vm.events;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import de.wwu.muggl.configuration.Globals;
+import de.wwu.muggl.instructions.interfaces.Instruction;
+import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.classfile.structures.Method;
+
+/**
+ * Listener logging the executed frames and instructions to the execution instruction logger. Frames
+ * are logged at debug level, instructions at trace level. Hidden frames and methods excluded by the
+ * logging black list are not logged.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+public class LoggingEventListener implements ExecutionEventListener {
+
+	/**
+	 * Log the method, operand stack and local variables of the frame entered.
+	 *
+	 * @param frame The executed frame.
+	 */
+	@Override
+	public void frameEntered(Frame frame) {
+		Method method = frame.getMethod();
+		if (Globals.getInst().executionInstructionLogger.isDebugEnabled() && isLogged(frame))
+			Globals.getInst().executionInstructionLogger.debug(
+					method.getFullNameWithParameterTypesAndNames() + ":" + method.getReturnType() + " (op: " + frame.getOperandStack()
+							+ ", localvar: [" + Arrays.stream(frame.getLocalVariables())
+									.map(x -> (x == null) ? "null" : x.toString()).collect(Collectors.joining(", "))
+							+ "] pc: " + frame.getVm().getPc() + ")");
+	}
+
+	/**
+	 * Log the instruction about to be executed.
+	 *
+	 * @param frame The frame the instruction is executed in.
+	 * @param pc The pc of the instruction.
+	 * @param instruction The instruction.
+	 */
+	@Override
+	public void executingInstruction(Frame frame, int pc, Instruction instruction) {
+		if (Globals.getInst().executionInstructionLogger.isTraceEnabled() && isLogged(frame))
+			Globals.getInst().executionInstructionLogger.trace(frame.getMethod().getPackageAndName()
+					+ " " + String.format("%1$2s", pc) + ": Executing " + instruction.getNameWithOtherBytes());
+	}
+
+	/**
+	 * Check whether events of a frame are to be logged, i.e. if it is not hidden and its method is
+	 * not excluded by the logging black list.
+	 *
+	 * @param frame The frame.
+	 * @return true, if events of the frame are logged, false otherwise.
+	 */
+	private boolean isLogged(Frame frame) {
+		return !frame.isHiddenFrame()
+				&& Globals.getInst().logBasedOnWhiteBlacklist(frame.getMethod().getPackageAndName()).orElse(true);
+	}
+
+}
@@ -0,0 +1,295 @@
+package de.wwu.muggl.vm.events;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.wwu.muggl.instructions.interfaces.Instruction;
+import de.wwu.muggl.solvers.Solution;
+import de.wwu.muggl.solvers.SolverManager;
+import de.wwu.muggl.symbolic.searchAlgorithms.choice.ChoicePoint;
+import de.wwu.muggl.vm.Frame;
+
+/**
+ * Listener keeping the most recent events in a ring buffer of fixed size. Recording an event only
+ * stores its type, time and subjects. They are turned into text when the events are requested, e.g.
+ * to find out what happened before the execution failed.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+public class RingBufferEventListener implements ExecutionEventListener {
+
+	/**
+	 * The types of the recorded events.
+	 */
+	public enum EventType {
+		/** An instruction is about to be executed. */
+		INSTRUCTION,
+		/** A frame has been pushed. */
+		FRAME_PUSHED,
+		/** The execution of a frame starts or is continued. */
+		FRAME_ENTERED,
+		/** A frame has been left. */
+		FRAME_POPPED,
+		/** A choice point has been created. */
+		CHOICE_POINT_CREATED,
+		/** The search tracked back to a choice point. */
+		CHOICE_POINT_BACKTRACKED,
+		/** A solver query has been started. */
+		SOLVER_QUERY_STARTED,
+		/** A solver query has been answered. */
+		SOLVER_QUERY_FINISHED,
+		/** A solution has been found. */
+		SOLUTION_FOUND
+	}
+
+	// The buffer.
+	private final int mask;
+	private final EventType[] types;
+	private final long[] times;
+	private final Object[] subjects;
+	private final Object[] details;
+	private final long[] values;
+	private long numberOfEvents;
+
+	/**
+	 * Initialize the ring buffer.
+	 *
+	 * @param capacity The number of events kept. It is rounded up to a power of two.
+	 * @throws IllegalArgumentException If the capacity is less than one.
+	 */
+	public RingBufferEventListener(int capacity) {
+		if (capacity < 1) throw new IllegalArgumentException("The capacity must be at least one.");
+		int roundedCapacity = roundCapacity(capacity);
+		this.mask = roundedCapacity - 1;
+		this.types = new EventType[roundedCapacity];
+		this.times = new long[roundedCapacity];
+		this.subjects = new Object[roundedCapacity];
+		this.details = new Object[roundedCapacity];
+		this.values = new long[roundedCapacity];
+		this.numberOfEvents = 0L;
+	}
+
+	/**
+	 * Round a capacity up to the next power of two.
+	 *
+	 * @param capacity The capacity.
+	 * @return The rounded capacity.
+	 */
+	static int roundCapacity(int capacity) {
+		if (capacity <= 1) return 1;
+		return Integer.highestOneBit(capacity - 1) << 1;
+	}
+
+	/**
+	 * Getter for the number of events kept.
+	 *
+	 * @return The capacity of the ring buffer.
+	 */
+	public int getCapacity() {
+		return this.mask + 1;
+	}
+
+	/**
+	 * Getter for the number of events recorded in total, including those no longer kept.
+	 *
+	 * @return The number of events recorded.
+	 */
+	public synchronized long getNumberOfEvents() {
+		return this.numberOfEvents;
+	}
+
+	/**
+	 * Remove all events from the ring buffer.
+	 */
+	public synchronized void clear() {
+		for (int a = 0; a <= this.mask; a++) {
+			this.types[a] = null;
+			this.subjects[a] = null;
+			this.details[a] = null;
+		}
+		this.numberOfEvents = 0L;
+	}
+
+	/**
+	 * Record an event.
+	 *
+	 * @param type The type of the event.
+	 * @param subject The subject of the event.
+	 * @param detail Details of the event. May be null.
+	 * @param value A numerical value of the event.
+	 */
+	private synchronized void record(EventType type, Object subject, Object detail, long value) {
+		int index = (int) this.numberOfEvents & this.mask;
+		this.types[index] = type;
+		this.times[index] = System.nanoTime();
+		this.subjects[index] = subject;
+		this.details[index] = detail;
+		this.values[index] = value;
+		this.numberOfEvents++;
+	}
+
+	/**
+	 * Get the events kept, oldest first, as text.
+	 *
+	 * @return The events kept.
+	 */
+	public synchronized List<String> getRecentEvents() {
+		int kept = (int) Math.min(this.numberOfEvents, this.mask + 1);
+		List<String> events = new ArrayList<String>(kept);
+		for (long number = this.numberOfEvents - kept; number < this.numberOfEvents; number++) {
+			int index = (int) number & this.mask;
+			events.add("#" + number + " [" + this.times[index] + "] " + describe(this.types[index],
+					this.subjects[index], this.details[index], this.values[index]));
+		}
+		return events;
+	}
+
+	/**
+	 * Describe an event.
+	 *
+	 * @param type The type of the event.
+	 * @param subject The subject of the event.
+	 * @param detail Details of the event. May be null.
+	 * @param value A numerical value of the event.
+	 * @return The description of the event.
+	 */
+	private String describe(EventType type, Object subject, Object detail, long value) {
+		switch (type) {
+			case INSTRUCTION:
+				return "Executing " + ((Instruction) detail).getNameWithOtherBytes() + " at pc " + value
+						+ " of " + ((Frame) subject).getMethod().getPackageAndName();
+			case FRAME_PUSHED:
+				return "Pushed the frame of " + ((Frame) subject).getMethod().getPackageAndName();
+			case FRAME_ENTERED:
+				return "Entered the frame of " + ((Frame) subject).getMethod().getPackageAndName();
+			case FRAME_POPPED:
+				return "Popped the frame of " + ((Frame) subject).getMethod().getPackageAndName();
+			case CHOICE_POINT_CREATED:
+				return "Created choice point " + describe((ChoicePoint) subject);
+			case CHOICE_POINT_BACKTRACKED:
+				return "Tracked back to choice point " + describe((ChoicePoint) subject);
+			case SOLVER_QUERY_STARTED:
+				return "Started a solver query" + (value != 0L ? " for a solution" : "");
+			case SOLVER_QUERY_FINISHED:
+				return "Finished a solver query" + (detail != null ? " for a solution" : "") + " after "
+						+ (value >= 0L ? value : -value - 1L) + " ns: " + (value >= 0L ? "solvable" : "not solvable");
+			case SOLUTION_FOUND:
+				return "Found a solution: " + subject + " returning " + detail;
+			default:
+				return type.toString();
+		}
+	}
+
+	/**
+	 * Describe a choice point.
+	 *
+	 * @param choicePoint The choice point.
+	 * @return The description of the choice point.
+	 */
+	private String describe(ChoicePoint choicePoint) {
+		return "#" + choicePoint.getNumber() + " (" + choicePoint.getChoicePointType() + ") at pc "
+				+ choicePoint.getPc() + " of " + choicePoint.getFrame().getMethod().getPackageAndName();
+	}
+
+	/**
+	 * Record the instruction about to be executed.
+	 *
+	 * @param frame The frame the instruction is executed in.
+	 * @param pc The pc of the instruction.
+	 * @param instruction The instruction.
+	 */
+	@Override
+	public void executingInstruction(Frame frame, int pc, Instruction instruction) {
+		record(EventType.INSTRUCTION, frame, instruction, pc);
+	}
+
+	/**
+	 * Record that a frame has been pushed.
+	 *
+	 * @param frame The pushed frame.
+	 */
+	@Override
+	public void framePushed(Frame frame) {
+		record(EventType.FRAME_PUSHED, frame, null, 0L);
+	}
+
+	/**
+	 * Record that the execution of a frame starts or is continued.
+	 *
+	 * @param frame The executed frame.
+	 */
+	@Override
+	public void frameEntered(Frame frame) {
+		record(EventType.FRAME_ENTERED, frame, null, 0L);
+	}
+
+	/**
+	 * Record that a frame has been left.
+	 *
+	 * @param frame The left frame.
+	 */
+	@Override
+	public void framePopped(Frame frame) {
+		record(EventType.FRAME_POPPED, frame, null, 0L);
+	}
+
+	/**
+	 * Record the creation of a choice point.
+	 *
+	 * @param choicePoint The new choice point.
+	 */
+	@Override
+	public void choicePointCreated(ChoicePoint choicePoint) {
+		record(EventType.CHOICE_POINT_CREATED, choicePoint, null, 0L);
+	}
+
+	/**
+	 * Record that the search tracked back to a choice point.
+	 *
+	 * @param choicePoint The choice point tracked back to.
+	 */
+	@Override
+	public void choicePointBacktracked(ChoicePoint choicePoint) {
+		record(EventType.CHOICE_POINT_BACKTRACKED, choicePoint, null, 0L);
+	}
+
+	/**
+	 * Record the start of a solver query.
+	 *
+	 * @param solverManager The solver manager.
+	 * @param solutionRequested true, if a solution has been requested.
+	 */
+	@Override
+	public void solverQueryStarted(SolverManager solverManager, boolean solutionRequested) {
+		record(EventType.SOLVER_QUERY_STARTED, solverManager, null, solutionRequested ? 1L : 0L);
+	}
+
+	/**
+	 * Record that a solver query has been answered. The time it took is recorded as a negative
+	 * value if the constraint system is not solvable.
+	 *
+	 * @param solverManager The solver manager.
+	 * @param solutionRequested true, if a solution has been requested.
+	 * @param solvable true, if the constraint system has a solution.
+	 * @param nanos The time the query took in nanoseconds.
+	 */
+	@Override
+	public void solverQueryFinished(SolverManager solverManager, boolean solutionRequested,
+			boolean solvable, long nanos) {
+		record(EventType.SOLVER_QUERY_FINISHED, solverManager, solutionRequested ? Boolean.TRUE : null,
+				solvable ? nanos : -nanos - 1L);
+	}
+
+	/**
+	 * Record a solution found.
+	 *
+	 * @param solution The solution of the constraint system.
+	 * @param returnValue The value returned or the exception thrown by the executed method.
+	 */
+	@Override
+	public void solutionFound(Solution solution, Object returnValue) {
+		record(EventType.SOLUTION_FOUND, solution, returnValue, 0L);
+	}
+
+}
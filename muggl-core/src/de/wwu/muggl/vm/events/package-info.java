@@ -0,0 +1,6 @@
+/**
+ * Provides the events of the execution in the virtual machines and the search for solutions, and
+ * the listeners consuming them. Besides logging, the events can be recorded for the Java Flight
+ * Recorder or kept in a ring buffer of the most recent events.
+ */
+package de.wwu.muggl.vm.events;
@@ -14,20 +14,31 @@ import java.lang.invoke.MethodType;
  */
 public class NativeSunMiscVM extends NativeMethodProvider {
     private static final String handledClassFQ = sun.misc.VM.class.getCanonicalName();
-    private static ClassFile CLASS_VM = null;
-    private static ClassFile CLASS_VMPROPERTIESWRAPPER = null;
+    private static final String vmPropertiesWrapperFQ =
+            de.wwu.muggl.vm.execution.nativeWrapping.VMPropertiesWrapper.class.getCanonicalName();
 
+    /**
+     * Load the classes needed by the native methods with the supplied class loader and register the
+     * native methods. The classes are looked up by the class loader of the invoking frame's virtual
+     * machine, so this has to be done for any class loader executing sun.misc.VM, e.g. the one of
+     * each worker of a parallel symbolic execution.
+     *
+     * @param classLoader The class loader to load the classes with.
+     * @throws ClassFileException If a class cannot be loaded.
+     */
     public static void initialiseAndRegister(MugglClassLoader classLoader) throws ClassFileException {
-        CLASS_VM = classLoader.getClassAsClassFile(handledClassFQ);
-        CLASS_VMPROPERTIESWRAPPER = classLoader.getClassAsClassFile(
-                de.wwu.muggl.vm.execution.nativeWrapping.VMPropertiesWrapper.class.getCanonicalName());
+        classLoader.getClassAsClassFile(handledClassFQ);
+        classLoader.getClassAsClassFile(vmPropertiesWrapperFQ);
         registerNatives();
     }
 
-    public static void initialize(Frame frame) {
-        InitializedClass sunMiscVm = CLASS_VM.getTheInitializedClass(frame.getVm());
-        Field savedProps = CLASS_VM.getFieldByName("savedProps");
-        sunMiscVm.putField(savedProps, frame.getVm().getAnObjectref(CLASS_VMPROPERTIESWRAPPER));
+    public static void initialize(Frame frame) throws ClassFileException {
+        MugglClassLoader classLoader = frame.getVm().getClassLoader();
+        ClassFile classVm = classLoader.getClassAsClassFile(handledClassFQ);
+        InitializedClass sunMiscVm = classVm.getTheInitializedClass(frame.getVm());
+        Field savedProps = classVm.getFieldByName("savedProps");
+        sunMiscVm.putField(savedProps,
+                frame.getVm().getAnObjectref(classLoader.getClassAsClassFile(vmPropertiesWrapperFQ)));
     }
 
     public static void registerNatives() {
@@ -1,19 +1,18 @@
 package de.wwu.muggl.vm.execution;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
 import java.util.Hashtable;
-import java.util.Stack;
 
 import de.wwu.muggl.configuration.Globals;
 import de.wwu.muggl.instructions.FieldResolutionError;
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.Reflection;
 import de.wwu.muggl.vm.VmSymbols;
 import de.wwu.muggl.vm.JavaClasses.java_lang_Class;
@@ -101,7 +100,7 @@ public class NativeWrapper {
 			ReferenceValue invokingObjectref,
 			Object[] parameters
 			) throws ForwardingUnsuccessfulException, VmRuntimeException, ExecutionException {
-		Stack<Object> stack = frame.getOperandStack();
+		OperandStack stack = frame.getOperandStack();
 		MugglToJavaConversion conversion = new MugglToJavaConversion(frame.getVm());
 		
 		MethodHandle mh = null;
@@ -434,9 +433,7 @@ public class NativeWrapper {
 				byte[] classBytes = ((Arrayref)parameters[1]).getElements();
 				ClassFile CF = null;
 				try {
-					InputStream is= new ByteArrayInputStream(classBytes);
-					InputStream is2= new ByteArrayInputStream(classBytes);
-					CF = new ClassFile(frame.getVm().getClassLoader(), is, is2, classBytes.length);
+					CF = new ClassFile(frame.getVm().getClassLoader(), ByteBuffer.wrap(classBytes), "");
 				} catch (IOException | ClassFileException e) {
 					e.printStackTrace();
 				}
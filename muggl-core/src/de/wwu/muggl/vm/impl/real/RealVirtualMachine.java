@@ -1,9 +1,8 @@
 package de.wwu.muggl.vm.impl.real;
 
-import java.util.Stack;
-
 import de.wwu.muggl.instructions.interfaces.Instruction;
 import de.wwu.muggl.vm.Application;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.VirtualMachine;
 import de.wwu.muggl.vm.classfile.ClassFile;
 import de.wwu.muggl.vm.classfile.structures.Method;
@@ -22,7 +21,7 @@ import de.wwu.muggl.vm.loading.MugglClassLoader;
 public class RealVirtualMachine extends VirtualMachine {
 
 	/**
-	 * Basic constructor. It initializes the stack to a "normal" Stack instance.
+	 * Basic constructor. It initializes the stack to an OperandStack instance.
 	 *
 	 * @param application The application this virtual machine is used by.
 	 * @param classLoader The main classLoader to use.
@@ -34,7 +33,7 @@ public class RealVirtualMachine extends VirtualMachine {
 	public RealVirtualMachine(Application application, MugglClassLoader classLoader,
 			ClassFile classFile, Method initialMethod) throws InitializationException {
 		super(application, classLoader, classFile, initialMethod);
-		this.stack = new Stack<Object>();
+		this.stack = new OperandStack();
 	}
 
 	/**
@@ -4,9 +4,6 @@ import java.util.ArrayList;
 
 import de.wwu.muggl.configuration.Options;
 import de.wwu.muggl.instructions.InvalidInstructionInitialisationException;
-import de.wwu.muggl.symbolic.searchAlgorithms.choice.ChoicePoint;
-import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.StackToTrail;
-import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.PopFromFrame;
 import de.wwu.muggl.symbolic.structures.Loop;
 import de.wwu.muggl.vm.Frame;
 import de.wwu.muggl.vm.VmSymbols;
@@ -27,6 +24,8 @@ public class SymbolicFrame extends Frame {
 	private boolean loopsHaveBeenChecked;
 	private ArrayList<Loop> loops;
 	private boolean executionFinishedNormally;
+	// The stamps of the trails the local variables have last been saved to. Only initialized if needed.
+	private int[] localVariableTrailStamps;
 
 	/**
 	 * Constructor that simply invokes the super constructor, before initializing the class'
@@ -71,6 +70,25 @@ public class SymbolicFrame extends Frame {
 		this.loopsHaveBeenChecked = true;
 	}
 
+	/**
+	 * Stamp a local variable with the trail its value is about to be saved to. A search algorithm
+	 * saving the values of local variables before they are modified only needs to save the first
+	 * value per trail.
+	 *
+	 * @param index The index of the local variable.
+	 * @param stamp The stamp of the trail. Must not be zero.
+	 * @return true, if the local variable has not been stamped with this trail yet and its value
+	 *         has to be saved; false, if it has been saved already.
+	 */
+	public boolean stampLocalVariable(int index, int stamp) {
+		int length = getLocalVariables().length;
+		if (this.localVariableTrailStamps == null || this.localVariableTrailStamps.length != length)
+			this.localVariableTrailStamps = new int[length];
+		if (this.localVariableTrailStamps[index] == stamp) return false;
+		this.localVariableTrailStamps[index] = stamp;
+		return true;
+	}
+
 	/**
 	 * Mark that the execution finished normally and invoke the super implementation.
 	 */
@@ -92,18 +110,8 @@ public class SymbolicFrame extends Frame {
 	public void returnFromMethod(Object value) {
 		this.executionFinishedNormally = true;
 		if (this.invokedBy != null) {
-			StackToTrail<Object> operandStack = (StackToTrail<Object>) this.invokedBy.getOperandStack();
-			// Enable restoring mode to the pushed item will not be added as a pop trail element to the trail.
-			operandStack.setRestoringMode(true);
-			// Push the return value.
-			operandStack.push(value);
-			// Enable restoring mode.
-			operandStack.setRestoringMode(false);
-			// Add this item manually to the trail.
-			ChoicePoint choicePoint = ((SymbolicVirtualMachine) this.vm).getSearchAlgorithm()
-					.getCurrentChoicePoint();
-			if (choicePoint != null && choicePoint.hasTrail())
-				choicePoint.addToTrail(new PopFromFrame(this.invokedBy));
+			// Push the return value. The operand stack tracks it for the trail.
+			this.invokedBy.getOperandStack().push(value);
 		} else {
 			this.vm.getStack().push(value);
 		}
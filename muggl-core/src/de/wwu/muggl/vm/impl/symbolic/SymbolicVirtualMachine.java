@@ -1,7 +1,9 @@
 package de.wwu.muggl.vm.impl.symbolic;
 
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
 import java.util.Iterator;
-import java.util.Stack;
 
 import org.apache.log4j.Level;
 
@@ -16,28 +18,44 @@ import de.wwu.muggl.instructions.general.Load;
 import de.wwu.muggl.instructions.general.Switch;
 import de.wwu.muggl.instructions.interfaces.Instruction;
 import de.wwu.muggl.instructions.interfaces.control.JumpConditional;
+import de.wwu.muggl.solvers.Solution;
 import de.wwu.muggl.solvers.SolverManager;
 import de.wwu.muggl.symbolic.flow.coverage.CoverageController;
 import de.wwu.muggl.symbolic.generating.Generator;
+import de.wwu.muggl.symbolic.metrics.Counter;
+import de.wwu.muggl.symbolic.metrics.Histogram;
+import de.wwu.muggl.symbolic.metrics.MetricsExporter;
+import de.wwu.muggl.symbolic.metrics.MetricsRegistry;
 import de.wwu.muggl.symbolic.searchAlgorithms.SearchAlgorithm;
+import de.wwu.muggl.symbolic.searchAlgorithms.bestFirst.BestFirstSearchAlgorithm;
+import de.wwu.muggl.symbolic.searchAlgorithms.breadthFirst.BreadthFirstSearchAlgorithm;
 import de.wwu.muggl.symbolic.searchAlgorithms.choice.ChoicePoint;
 import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.DepthFirstSearchAlgorithm;
 import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.StackToTrail;
 import de.wwu.muggl.symbolic.searchAlgorithms.depthFirst.trailelements.FrameChange;
+import de.wwu.muggl.symbolic.searchAlgorithms.forking.ForkingSearchAlgorithm;
 import de.wwu.muggl.symbolic.searchAlgorithms.iterativeDeepening.IterativeDeepeningSearchAlgorithm;
+import de.wwu.muggl.symbolic.searchAlgorithms.parallel.ParallelDepthFirstSearchAlgorithm;
+import de.wwu.muggl.symbolic.searchAlgorithms.parallel.ParallelSymbolicExecution;
 import de.wwu.muggl.symbolic.structures.Loop;
 import de.wwu.muggl.symbolic.testCases.SolutionProcessor;
 import de.wwu.muggl.vm.Application;
 import de.wwu.muggl.vm.Frame;
+import de.wwu.muggl.vm.OperandStack;
 import de.wwu.muggl.vm.VirtualMachine;
 import de.wwu.muggl.vm.classfile.ClassFile;
+import de.wwu.muggl.vm.classfile.ClassFileException;
 import de.wwu.muggl.vm.classfile.Limitations;
 import de.wwu.muggl.vm.classfile.structures.Method;
 import de.wwu.muggl.vm.classfile.structures.UndefinedValue;
+import de.wwu.muggl.vm.events.EventReportingSolverManager;
+import de.wwu.muggl.vm.events.ExecutionEvents;
 import de.wwu.muggl.vm.exceptions.NoExceptionHandlerFoundException;
 import de.wwu.muggl.vm.execution.ConversionException;
 import de.wwu.muggl.vm.execution.ExecutionException;
+import de.wwu.muggl.vm.execution.NativeSunMiscVM;
 import de.wwu.muggl.vm.initialization.InitializationException;
+import de.wwu.muggl.vm.loading.ClassCache;
 import de.wwu.muggl.vm.loading.MugglClassLoader;
 import de.wwu.muggl.solvers.exceptions.SolverUnableToDecideException;
 import de.wwu.muggl.solvers.exceptions.TimeoutException;
@@ -55,7 +73,7 @@ import de.wwu.muggl.solvers.expressions.Term;
  */
 public class SymbolicVirtualMachine extends VirtualMachine {
 	// The Solver Manager.
-	private SolverManager			solverManager;
+	private EventReportingSolverManager	solverManager;
 
 	// The search algorithm.
 	private final SearchAlgorithm	searchAlgorithm;
@@ -69,21 +87,32 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 	private SolutionProcessor		solutionProcessor;
 	private boolean					doNotProcessSolutions;
 
-	// Fields for the execution time measured.
+	// Fields for the parallel execution.
+	private ParallelSymbolicExecution	parallelExecution;
+	private boolean					parallelWorker;
+
+	// Fields for search algorithms that fork the execution.
+	private boolean					forkingSearch;
+
+	// Fields for iterative deepening that resumes the frontier of the last run.
+	private boolean					iterativeDeepening;
+
+	// Fields for the execution time measured. The times are counters of the metrics.
 	private boolean					measureExecutionTime;
-	private long					timeExecutionInstruction;
-	private long					timeLoopDetection;
-	private long					timeCoverageChecking;
-	private long					timeChoicePointGeneration;
-	private long					timeBacktracking;
-	private long					timeSolvingChoicePoints;
-	private long					timeSolvingBacktracking;
-	private long					timeSolutionGeneration;
-	// Temporary fields for the time measuring.
-	private long					timeExecutionInstructionTemp;
-	private long					timeLoopDetectionTemp;
-	private long					timeCoverageCheckingTemp;
-	private long					timeSolutionGenerationTemp;
+	private final MetricsRegistry	metrics;
+	private final Counter			timeExecutionInstruction;
+	private final Counter			timeLoopDetection;
+	private final Counter			timeCoverageChecking;
+	private final Counter			timeChoicePointGeneration;
+	private final Counter			timeBacktracking;
+	private final Counter			timeSolvingChoicePoints;
+	private final Counter			timeSolvingBacktracking;
+	private final Counter			timeSolutionGeneration;
+	// Further metrics.
+	private final Histogram			solverLatencyBacktracking;
+	private final Counter			choicePointsGenerated;
+	private final Counter			backtracks;
+	private final Counter			solutionsFound;
 
 	// Fields for counting the instructions executed since the last solution was found.
 	private int						maximumInstructionsBeforeFindingANewSolution;
@@ -121,6 +150,41 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 			ClassFile classFile, Method initialMethod) throws InitializationException {
 		this(application, classLoader, classFile, initialMethod, selectSearchAlgorithm());
 		this.solutionProcessor = new SolutionProcessor(this, this.classLoader, this.initialMethod);
+
+		// Explore the search tree using worker threads? A single worker explores it just the same.
+		Options options = Options.getInst();
+		if (options.searchAlgorithm == 1 && options.enableSJVMMultithreading
+				&& options.numberOfSimultaneousThreads > 0) {
+			this.parallelExecution = new ParallelSymbolicExecution(this,
+					options.numberOfSimultaneousThreads);
+		}
+	}
+
+	/**
+	 * Special constructor for a worker of a parallel symbolic execution. The worker explores a
+	 * subtree of the search tree on behalf of the coordinating symbolic virtual machine, which
+	 * imports its solutions. The solutions are not processed by the worker itself.
+	 * 
+	 * @param coordinatingSVM The SymbolicalVirtualMachine that coordinates the parallel execution.
+	 * @param parallelExecution The parallel execution the worker belongs to.
+	 * @param classLoader The worker's own ClassLoader.
+	 * @param classFile The classFile to start execution with, loaded by the worker's ClassLoader.
+	 * @param initialMethod The Method to start execution with. This Method has to be a method of
+	 *        the supplied classFile.
+	 * @param searchAlgorithm The search algorithm used to explore the subtree.
+	 * @throws InitializationException If initialization of auxiliary classes fails.
+	 * @throws NullPointerException If coordinatingSVM is null.
+	 */
+	public SymbolicVirtualMachine(SymbolicVirtualMachine coordinatingSVM,
+			ParallelSymbolicExecution parallelExecution, MugglClassLoader classLoader,
+			ClassFile classFile, Method initialMethod,
+			ParallelDepthFirstSearchAlgorithm searchAlgorithm) throws InitializationException {
+		this(coordinatingSVM.getApplication(), classLoader, classFile, initialMethod,
+				searchAlgorithm);
+		this.solutionProcessor = new SolutionProcessor(this, this.classLoader, this.initialMethod);
+		this.parallelExecution = parallelExecution;
+		this.parallelWorker = true;
+		this.doNotProcessSolutions = true;
 	}
 
 	/**
@@ -143,20 +207,10 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 		
 		// Import outcomes of the former execution.
 		this.solutionProcessor.addFirstSolutionFoundEalier(succeededSVM.getSolutionProcessor()
-				.getFirstSolution());
+				.getFirstSolutionIncludingEarlierOnes());
 		this.executedFrames = succeededSVM.getExecutedFrames();
 		this.executedInstructions = succeededSVM.getExecutedInstructions();
-		if (Options.getInst().measureSymbolicExecutionTime) {
-			long[] executionTimes = succeededSVM.getNanoExecutionTimeInformation();
-			this.timeExecutionInstruction = executionTimes[0];
-			this.timeLoopDetection = executionTimes[1];
-			this.timeCoverageChecking = executionTimes[2];
-			this.timeChoicePointGeneration = executionTimes[3];
-			this.timeBacktracking = executionTimes[4];
-			this.timeSolvingChoicePoints = executionTimes[5];
-			this.timeSolvingBacktracking = executionTimes[6];
-			this.timeSolutionGeneration = executionTimes[7];
-		}
+		this.metrics.add(succeededSVM.getMetrics());
 	}
 
 	/**
@@ -177,8 +231,9 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 		super(application, classLoader, classFile, initialMethod);
 		Options options = Options.getInst();
 		try {
-			this.solverManager = (SolverManager) Class.forName(options.solverManager).newInstance();
-		} catch (InstantiationException e) {
+			this.solverManager = new EventReportingSolverManager((SolverManager) Class
+					.forName(options.solverManager).getDeclaredConstructor().newInstance());
+		} catch (InstantiationException | NoSuchMethodException | InvocationTargetException e) {
 			throw new InitializationException("Solver manager of class " + options.solverManager + " cannot be instantiated.");
 		} catch (IllegalAccessException e) {
 			throw new InitializationException("Solver manager of class " + options.solverManager + " cannot be accessed.");
@@ -188,18 +243,35 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 		this.searchAlgorithm = searchAlgorithm;
 		this.coverage = new CoverageController(this);
 		this.trackCoverage = options.useCFCoverage && options.useDUCoverage;
-		this.stack = new StackToTrail<Object>(true, this.searchAlgorithm);
+		this.stack = new StackToTrail(true, this.searchAlgorithm);
 		this.doNotTryToTrackBack = false;
 		this.doNotProcessSolutions = false;
+		this.parallelExecution = null;
+		this.parallelWorker = false;
+		this.forkingSearch = searchAlgorithm instanceof ForkingSearchAlgorithm;
+		this.iterativeDeepening = searchAlgorithm instanceof IterativeDeepeningSearchAlgorithm;
 		this.measureExecutionTime = options.measureSymbolicExecutionTime;
-		this.timeExecutionInstruction = 0;
-		this.timeLoopDetection = 0;
-		this.timeCoverageChecking = 0;
-		this.timeChoicePointGeneration = 0;
-		this.timeBacktracking = 0;
-		this.timeSolvingChoicePoints = 0;
-		this.timeSolvingBacktracking = 0;
-		this.timeSolutionGeneration = 0;
+		this.metrics = new MetricsRegistry();
+		this.timeExecutionInstruction = this.metrics.counter("time.instructionExecution");
+		this.timeLoopDetection = this.metrics.counter("time.loopDetection");
+		this.timeCoverageChecking = this.metrics.counter("time.coverageChecking");
+		this.timeChoicePointGeneration = this.metrics.counter("time.choicePointGeneration");
+		this.timeBacktracking = this.metrics.counter("time.backtracking");
+		this.timeSolvingChoicePoints = this.metrics.counter("time.solving.choicePointGeneration");
+		this.timeSolvingBacktracking = this.metrics.counter("time.solving.backtracking");
+		this.timeSolutionGeneration = this.metrics.counter("time.solutionGeneration");
+		this.solverLatencyBacktracking = this.metrics.histogram("solverLatency.backtracking");
+		this.choicePointsGenerated = this.metrics.counter("search.choicePointsGenerated");
+		this.backtracks = this.metrics.counter("search.backtracks");
+		this.solutionsFound = this.metrics.counter("search.solutionsFound");
+		this.metrics.registerGauge("execution.instructions", () -> this.executedInstructions);
+		this.metrics.registerGauge("execution.frames", () -> this.executedFrames);
+		ClassCache classCache = this.classLoader.getClassCache();
+		this.metrics.registerGauge("classCache.hits", classCache::getHitCount);
+		this.metrics.registerGauge("classCache.misses", classCache::getMissCount);
+		this.metrics.registerGauge("classCache.evictions", classCache::getEvictionCount);
+		this.metrics.registerGauge("classCache.size", classCache::size);
+		this.searchAlgorithm.registerMetrics(this.metrics);
 		this.instructionsExecutedSinceLastSolution = 0;
 		this.arraysGeneratorsUsed = 0L;
 		this.arraysGenerated = 0L;
@@ -217,17 +289,17 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 	 */
 	private static SearchAlgorithm selectSearchAlgorithm() {
 		SearchAlgorithm searchAlgorithm;
-		if (Options.getInst().searchAlgorithm == 2) {
+		if (Options.getInst().searchAlgorithm == 3) {
+			searchAlgorithm = new BestFirstSearchAlgorithm();
+		} else if (Options.getInst().searchAlgorithm == 2) {
 			searchAlgorithm = new IterativeDeepeningSearchAlgorithm(
 					Options.getInst().iterativeDeepeningStartingDepth,
-					Options.getInst().iterativeDeepeningDeepnessIncrement);
+					Options.getInst().iterativeDeepeningDeepnessIncrement,
+					Options.getInst().iterativeDeepeningMaximumFrontierNodes);
 		} else if (Options.getInst().searchAlgorithm == 1) {
 			searchAlgorithm = new DepthFirstSearchAlgorithm();
 		} else {
-			searchAlgorithm = new DepthFirstSearchAlgorithm();
-			if (Globals.getInst().symbolicExecLogger.isEnabledFor(Level.WARN))
-				Globals.getInst().symbolicExecLogger
-						.warn("The breadth first search algorithm is currently not implemented. Using depth first instead.");
+			searchAlgorithm = new BreadthFirstSearchAlgorithm();
 		}
 		if (Globals.getInst().symbolicExecLogger.isTraceEnabled())
 			Globals.getInst().symbolicExecLogger.trace("Using search algorithm: "
@@ -256,9 +328,21 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 	protected void runMainLoop(Frame visualStartingFrame) throws ExecutionException,
 			InterruptedException, InvalidInstructionInitialisationException {
 		boolean firstRun = true;
+		// Sample the metrics if they are to be exported.
+		Options options = Options.getInst();
+		if (!this.parallelWorker && options.metricsExportFile.length() > 0
+				&& options.metricsSamplingInterval > 0)
+			this.metrics.startSampling(options.metricsSamplingInterval);
+
 		// Symbolic loop - the end of the program flow is not necessarily the end of the execution.
 		while (true) {
 			try {
+				// Let the workers explore the search tree if execution is parallelized.
+				if (this.parallelExecution != null && !this.parallelWorker) {
+					this.parallelExecution.execute();
+					break;
+				}
+
 				// Run the program.
 				if (firstRun) {
 					super.runMainLoop(visualStartingFrame);
@@ -279,6 +363,9 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 				// containing the uncaught throwable as there is no returned value anyway.
 				this.returnedObject = e;
 			} catch (InterruptedException e) {
+				// Workers are aborted by the parallel execution and just stop.
+				if (this.parallelWorker) throw e;
+
 				// Mark that the actual execution has finished.
 				this.application.executionHasFinished();
 
@@ -313,14 +400,16 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 			if (this.solutionProcessor.getDoNotSaveTheNextSolution()) {
 				this.solutionProcessor.setDoNotSaveTheNextSolution(false);
 			} else {
-				if (this.measureExecutionTime) this.timeSolutionGenerationTemp = System.nanoTime();
+				long timeSolutionGenerationTemp = this.measureExecutionTime ? System.nanoTime() : 0L;
 				saveSolution();
 				if (this.measureExecutionTime)
-					this.timeSolutionGeneration += System.nanoTime()
-							- this.timeSolutionGenerationTemp;
+					this.timeSolutionGeneration.add(System.nanoTime() - timeSolutionGenerationTemp);
 			}
 			// Track back if desired and possible.
 			if (this.doNotTryToTrackBack || !this.searchAlgorithm.trackBack(this)) break;
+			this.backtracks.increment();
+			if (ExecutionEvents.isEnabled())
+				ExecutionEvents.choicePointBacktracked(this.searchAlgorithm.getCurrentChoicePoint());
 		}
 
 		/*
@@ -341,6 +430,26 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 			this.application.executionHasFinished();
 			// Generate the test cases.
 			this.solutionProcessor.generateTestCases();
+			exportMetrics();
+		}
+	}
+
+	/**
+	 * Stop sampling the metrics and append them to the export file, if one has been set.
+	 */
+	private void exportMetrics() {
+		this.metrics.stopSampling();
+		String exportFile = Options.getInst().metricsExportFile;
+		if (exportFile.length() == 0) return;
+		try {
+			MetricsExporter.export(this.metrics, this.initialMethod.getPackageAndName() + "@"
+					+ this.metrics.getStartTime(), new File(exportFile));
+			if (Globals.getInst().symbolicExecLogger.isDebugEnabled())
+				Globals.getInst().symbolicExecLogger.debug("Exported the metrics to " + exportFile + ".");
+		} catch (IOException e) {
+			if (Globals.getInst().symbolicExecLogger.isEnabledFor(Level.WARN))
+				Globals.getInst().symbolicExecLogger.warn("Exporting the metrics to " + exportFile
+						+ " failed with an IOException: " + e.getMessage());
 		}
 	}
 
@@ -360,10 +469,10 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 	protected void executeFrame(boolean allowStepping) throws ExecutionException,
 			InterruptedException, InvalidInstructionInitialisationException {
 		// Check this frame for loops.
-		if (this.measureExecutionTime) this.timeLoopDetectionTemp = System.nanoTime();
+		long timeLoopDetectionTemp = this.measureExecutionTime ? System.nanoTime() : 0L;
 		detectLoops();
 		if (this.measureExecutionTime)
-			this.timeLoopDetection += System.nanoTime() - this.timeLoopDetectionTemp;
+			this.timeLoopDetection.add(System.nanoTime() - timeLoopDetectionTemp);
 
 		// Invoke the super implementation.
 		super.executeFrame(allowStepping);
@@ -377,10 +486,16 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 	 */
 	@Override
 	protected void executeInstruction(Instruction instruction) throws ExecutionException {
+		// A search algorithm forking the execution might suspend the current state in favor of another one.
+		// Once no more tracking back is desired, the current state has to be finished.
+		if (this.forkingSearch && !this.doNotTryToTrackBack
+				&& ((ForkingSearchAlgorithm) this.searchAlgorithm).executingInstruction(this))
+			return;
+
 		// If the number of instructions before finding a new solution is limited, check them now.
 		// No need to do that if no more tracking back is desired.
 		if (!this.doNotTryToTrackBack && this.maximumInstructionsBeforeFindingANewSolution != -1) {
-			if (this.measureExecutionTime) this.timeExecutionInstructionTemp = System.nanoTime();
+			long timeExecutionInstructionTemp = this.measureExecutionTime ? System.nanoTime() : 0L;
 			if (!this.onlyCountChoicePointGeneratingInstructions)
 				this.instructionsExecutedSinceLastSolution++;
 			if (this.instructionsExecutedSinceLastSolution > this.maximumInstructionsBeforeFindingANewSolution) {
@@ -398,8 +513,7 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 				this.stack.clear();
 				this.doNotTryToTrackBack = true;
 				if (this.measureExecutionTime)
-					this.timeExecutionInstruction += System.nanoTime()
-							- this.timeExecutionInstructionTemp;
+					this.timeExecutionInstruction.add(System.nanoTime() - timeExecutionInstructionTemp);
 				return;
 			}
 		}
@@ -411,7 +525,7 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 
 		// Update the control-flow and def-use coverage.
 		if (this.trackCoverage) {
-			if (this.measureExecutionTime) this.timeCoverageCheckingTemp = System.nanoTime();
+			long timeCoverageCheckingTemp = this.measureExecutionTime ? System.nanoTime() : 0L;
 			method = this.currentFrame.getMethod();
 			try {
 				this.coverage.updateCoverage(method, this.pc);
@@ -423,17 +537,28 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 
 			// Finished updating.
 			if (this.measureExecutionTime)
-				this.timeCoverageChecking += System.nanoTime() - this.timeCoverageCheckingTemp;
+				this.timeCoverageChecking.add(System.nanoTime() - timeCoverageCheckingTemp);
 		}
 
 		// Execute the instruction.
-		if (this.measureExecutionTime) this.timeExecutionInstructionTemp = System.nanoTime();
+		long timeExecutionInstructionTemp = this.measureExecutionTime ? System.nanoTime() : 0L;
 		int oldpc = this.pc;
 		Frame oldFrame = this.currentFrame;
 		super.executedInstructions++;
 
 		// execute the instruction symbolically
 		instruction.executeSymbolically(this.currentFrame);
+		/*
+		 * Do not notify the search algorithm if the instruction aborted the execution. In
+		 * particular, iterative deepening might have restarted it in a new virtual machine that
+		 * is already running.
+		 */
+		if (!this.returnFromCurrentExecution) {
+			if (this.parallelWorker)
+				((ParallelDepthFirstSearchAlgorithm) this.searchAlgorithm).instructionExecuted(this);
+			else if (this.iterativeDeepening)
+				((IterativeDeepeningSearchAlgorithm) this.searchAlgorithm).instructionExecuted(this);
+		}
 		
 		// check if debug print mode is set -> print operand stack after instruction execution
 		if(Options.getInst().debugOperandStack) {
@@ -441,7 +566,9 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 			String className = method.getClassFile().getName();
 			String instructionName = instruction.getName();
 			Globals.getInst().execLogger.info("*** executed " + className+"#"+methodName +", pc="+pc+", instruction="+instructionName);
-			for(Object stackElement : this.currentFrame.getOperandStack()) {
+			OperandStack operandStack = this.currentFrame.getOperandStack();
+			for(int a = 0; a < operandStack.size(); a++) {
+				Object stackElement = operandStack.get(a);
 				String elementString = "null";
 				if(stackElement != null) {
 					elementString = stackElement.toString();
@@ -457,11 +584,11 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 		}
 		
 		if (this.measureExecutionTime)
-			this.timeExecutionInstruction += System.nanoTime() - this.timeExecutionInstructionTemp;
+			this.timeExecutionInstruction.add(System.nanoTime() - timeExecutionInstructionTemp);
 
 		// Further coverage checks.
 		if (this.trackCoverage) {
-			if (this.measureExecutionTime) this.timeCoverageCheckingTemp = System.nanoTime();
+			long timeCoverageCheckingTemp = this.measureExecutionTime ? System.nanoTime() : 0L;
 
 			// Update the coverage if the frame changed.
 			if (options.useCFCoverage) {
@@ -507,11 +634,11 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 
 			// Update the time needed for coverage checks.
 			if (this.measureExecutionTime)
-				this.timeCoverageChecking += System.nanoTime() - this.timeCoverageCheckingTemp;
+				this.timeCoverageChecking.add(System.nanoTime() - timeCoverageCheckingTemp);
 		}
 
 		// Check for loops.
-		if (this.measureExecutionTime) this.timeLoopDetectionTemp = System.nanoTime();
+		long timeLoopDetectionTemp = this.measureExecutionTime ? System.nanoTime() : 0L;
 		if (options.maximumLoopsToTake != -1 && !checkForLoops(instruction, oldpc)) {
 			// TODO: partially disabled if this.doNotTryToTrackBack is set to true? There must not
 			// be an endless looping after it is that, however, there must be no hard abortion
@@ -527,7 +654,7 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 			this.stack.clear();
 		}
 		if (this.measureExecutionTime)
-			this.timeLoopDetection += System.nanoTime() - this.timeLoopDetectionTemp;
+			this.timeLoopDetection.add(System.nanoTime() - timeLoopDetectionTemp);
 	}
 
 	/**
@@ -548,7 +675,10 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 			}
 
 			// Add the solutions.
-			this.solutionProcessor.addSolution(this.solverManager.getSolution(), returnValue,
+			Solution solution = this.solverManager.getSolution();
+			this.solutionsFound.increment();
+			if (ExecutionEvents.isEnabled()) ExecutionEvents.solutionFound(solution, returnValue);
+			this.solutionProcessor.addSolution(solution, returnValue,
 					this.threwAnUncaughtException, this.coverage.getCFCoverageMap(), this.coverage
 							.getDUCoverageAsBoolean());
 
@@ -585,7 +715,8 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 			throws ExecutionException {
 		SymbolicFrame frame = new SymbolicFrame(invokedBy, this, method, method.getClassFile()
 				.getConstantPool(), arguments);
-		frame.setOperandStack(new StackToTrail<Object>(false, this.searchAlgorithm));
+		frame.setOperandStack(new StackToTrail(false, this.searchAlgorithm, method
+				.getCodeAttribute().getMaxStack()));
 		return frame;
 	}
 
@@ -690,6 +821,7 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 			if (this.onlyCountChoicePointGeneratingInstructions)
 				this.instructionsExecutedSinceLastSolution++;
 		}
+		ChoicePoint previousChoicePoint = this.searchAlgorithm.getCurrentChoicePoint();
 
 		// Check if it is a suitable instruction.
 		if (instruction instanceof JumpConditional) { // Conditional jump found.
@@ -698,6 +830,7 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 			throw new SymbolicExecutionException(
 					"Only conditional jump instructions might attempt to generate a choice point using this method.");
 		}
+		countChoicePoint(previousChoicePoint);
 	}
 	
 	/**
@@ -707,10 +840,12 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 	 * @param generator A variable Generator. May be null to indicate no custom variable generator
 	 *        is used.
 	 * @param type A String representation of the type.
+	 * @return true, if a choice point has been generated; false, if the search algorithm tracked
+	 *         back instead, e.g. as it limits the depth.
 	 * @throws SymbolicExecutionException If the instruction supplied is no conditional jump, no
 	 *         load instruction or if an Exception is thrown during the choice point generation.
 	 */
-	public void generateNewChoicePoint(GeneralInstructionWithOtherBytes instruction,
+	public boolean generateNewChoicePoint(GeneralInstructionWithOtherBytes instruction,
 			Generator generator, String type)
 			throws SymbolicExecutionException {
 		// Counting the instructions before a new solution is found?
@@ -718,6 +853,7 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 			if (this.onlyCountChoicePointGeneratingInstructions)
 				this.instructionsExecutedSinceLastSolution++;
 		}
+		ChoicePoint previousChoicePoint = this.searchAlgorithm.getCurrentChoicePoint();
 
 		// Check if it is a suitable instruction.
 		if (instruction instanceof Load) {
@@ -735,6 +871,7 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 			throw new SymbolicExecutionException(
 					"Only loading instructions or newarray might attempt to generate a choice point using this method.");
 		}
+		return countChoicePoint(previousChoicePoint);
 	}
 
 	/**
@@ -755,9 +892,11 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 			if (this.onlyCountChoicePointGeneratingInstructions)
 				this.instructionsExecutedSinceLastSolution++;
 		}
+		ChoicePoint previousChoicePoint = this.searchAlgorithm.getCurrentChoicePoint();
 
 		// Create the choice point.
 		this.searchAlgorithm.generateNewChoicePoint(this, instruction, leftTerm, rightTerm);
+		countChoicePoint(previousChoicePoint);
 	}
 
 	/**
@@ -780,9 +919,11 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 			if (this.onlyCountChoicePointGeneratingInstructions)
 				this.instructionsExecutedSinceLastSolution++;
 		}
+		ChoicePoint previousChoicePoint = this.searchAlgorithm.getCurrentChoicePoint();
 
 		// Create the choice point.
 		this.searchAlgorithm.generateNewChoicePoint(this, instruction, less, leftTerm, rightTerm);
+		countChoicePoint(previousChoicePoint);
 	}
 
 	/**
@@ -811,10 +952,30 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 			if (this.onlyCountChoicePointGeneratingInstructions)
 				this.instructionsExecutedSinceLastSolution++;
 		}
+		ChoicePoint previousChoicePoint = this.searchAlgorithm.getCurrentChoicePoint();
 
 		// Create the choice point.
 		this.searchAlgorithm.generateNewChoicePoint(this, instruction, termFromStack, keys, pcs,
 				low, high);
+		countChoicePoint(previousChoicePoint);
+	}
+
+	/**
+	 * Count a choice point and fire the event that it has been created, if the search algorithm
+	 * generated a new one. Depending on the choices, it might not have done so. It might even have
+	 * tracked back instead, making an earlier choice point the current one; only a choice point
+	 * succeeding the previous one is new.
+	 *
+	 * @param previousChoicePoint The current choice point before the generation.
+	 * @return true, if a new choice point has been generated, false otherwise.
+	 */
+	private boolean countChoicePoint(ChoicePoint previousChoicePoint) {
+		ChoicePoint choicePoint = this.searchAlgorithm.getCurrentChoicePoint();
+		if (choicePoint == null || choicePoint == previousChoicePoint
+				|| choicePoint.getParent() != previousChoicePoint) return false;
+		this.choicePointsGenerated.increment();
+		if (ExecutionEvents.isEnabled()) ExecutionEvents.choicePointCreated(choicePoint);
+		return true;
 	}
 
 	/**
@@ -838,15 +999,17 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 	 * 
 	 * @param stack The new stack.
 	 */
-	public void setStack(Stack<Object> stack) {
+	public void setStack(OperandStack stack) {
 		this.stack = stack;
 	}
 
 	/**
-	 * Make sure the virtual machine will not continue execution.
+	 * Make sure the virtual machine will not continue execution. It will not track back either, as
+	 * the search algorithm might already be used by another virtual machine.
 	 */
 	public void abortExecution() {
 		this.returnFromCurrentExecution = true;
+		this.doNotTryToTrackBack = true;
 		this.nextFrameIsAlreadyLoaded = false;
 		this.stack.clear();
 		this.solutionProcessor.setDoNotSaveTheNextSolution(true);
@@ -876,6 +1039,57 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 		}
 	}
 
+	/**
+	 * Check whether this symbolic virtual machine has been interrupted. Workers of a parallel
+	 * execution are also interrupted if the parallel execution has been aborted.
+	 * 
+	 * @return true, if this symbolic virtual machine has been interrupted, false otherwise.
+	 * @see java.lang.Thread#isInterrupted()
+	 */
+	@Override
+	public boolean isInterrupted() {
+		return super.isInterrupted() || (this.parallelWorker && this.parallelExecution.isAborted());
+	}
+
+	/**
+	 * Explore the subtree of the search tree assigned to this worker of a parallel execution. The
+	 * worker runs in the calling thread. Universe genesis has already been performed by the
+	 * coordinating symbolic virtual machine. The native methods needing classes are registered for
+	 * the worker's class loader, though, as its classes are distinct from the coordinating one's.
+	 * 
+	 * @throws ClassFileException If a class needed for the initial frame cannot be loaded.
+	 * @throws ConversionException If a predefined array parameter cannot be converted.
+	 * @throws ExecutionException An ExecutionExeption is thrown on any fatal errors during
+	 *         execution.
+	 * @throws InterruptedException If the parallel execution has been aborted.
+	 * @throws InvalidInstructionInitialisationException Any fatal problems with the parsing and the
+	 *         initialization will lead to this exception.
+	 * @throws IllegalStateException If this symbolic virtual machine is no parallel worker.
+	 */
+	public void executeAsParallelWorker() throws ClassFileException, ConversionException,
+			ExecutionException, InterruptedException, InvalidInstructionInitialisationException {
+		if (!this.parallelWorker)
+			throw new IllegalStateException("Only workers of a parallel execution can be executed this way.");
+		NativeSunMiscVM.initialiseAndRegister(this.classLoader);
+		this.universeSetupFinished = true;
+		runMainLoop(pushInitialFrames());
+	}
+
+	/**
+	 * Add the statistical information and the metrics of a worker of a parallel execution to
+	 * those of this symbolic virtual machine.
+	 * 
+	 * @param worker The worker's SymbolicalVirtualMachine.
+	 */
+	public synchronized void importExecutionStatistics(SymbolicVirtualMachine worker) {
+		this.executedFrames += worker.getExecutedFrames();
+		this.executedInstructions += worker.getExecutedInstructions();
+		this.arraysGeneratorsUsed += worker.arraysGeneratorsUsed;
+		this.arraysGenerated += worker.arraysGenerated;
+		if (worker.maximumLoopsReached) this.maximumLoopsReached = true;
+		this.metrics.add(worker.metrics);
+	}
+
 	/**
 	 * Getter for the SolverManager.
 	 * 
@@ -885,6 +1099,17 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 		return this.solverManager;
 	}
 
+	/**
+	 * Getter for the number of constraints checked by the SolverManager of this
+	 * SymbolicalVirtualMachine. Other than the total number the SolverManager might supply, it
+	 * does not include the constraints checked by other symbolic virtual machines.
+	 * 
+	 * @return The number of constraints checked.
+	 */
+	public long getNumberOfConstraintsChecked() {
+		return this.solverManager.getNumberOfConstraintsChecked();
+	}
+
 	/**
 	 * Getter for the SolutionProcessor.
 	 * 
@@ -895,18 +1120,31 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 	}
 
 	/**
-	 * Finalize the SymbolicalVirtualMachine.
+	 * Shut down the SymbolicalVirtualMachine after execution has finished. Sampling the metrics is
+	 * stopped and the SolverManager is shut down. Statistical information and solutions are still
+	 * available afterwards. Shutting down again has no effect.
 	 */
-	@Override
-	public void finalize() {
+	public synchronized void shutdown() {
+		if (this.finalized) return;
+		this.finalized = true;
+		this.metrics.stopSampling();
 		try {
-			this.finalized = true;
-			this.solverManager.finalize();
+			this.solverManager.shutdown();
 		} catch (Throwable t) {
 			// Log it, but do nothing.
 			if (Globals.getInst().symbolicExecLogger.isEnabledFor(Level.WARN))
 				Globals.getInst().symbolicExecLogger
 						.warn("Shutting down the SolverManager failed.");
+		}
+	}
+
+	/**
+	 * Finalize the SymbolicalVirtualMachine.
+	 */
+	@Override
+	public void finalize() {
+		try {
+			shutdown();
 		} finally {
 			super.finalize();
 		}
@@ -931,27 +1169,23 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 	public long[] getExecutionTimeInformation() {
 		if (!this.measureExecutionTime) return new long[0];
 		long[] executionTime = {
-				(this.timeExecutionInstruction - this.timeChoicePointGeneration) / NANOS_MILLIS,
-				this.timeLoopDetection / NANOS_MILLIS, this.timeCoverageChecking / NANOS_MILLIS,
-				(this.timeChoicePointGeneration - this.timeSolvingChoicePoints) / NANOS_MILLIS,
-				(this.timeSolvingChoicePoints + this.timeSolvingBacktracking) / NANOS_MILLIS,
-				(this.timeBacktracking - this.timeSolvingBacktracking) / NANOS_MILLIS,
-				this.timeSolutionGeneration / NANOS_MILLIS };
+				(this.timeExecutionInstruction.get() - this.timeChoicePointGeneration.get()) / NANOS_MILLIS,
+				this.timeLoopDetection.get() / NANOS_MILLIS, this.timeCoverageChecking.get() / NANOS_MILLIS,
+				(this.timeChoicePointGeneration.get() - this.timeSolvingChoicePoints.get()) / NANOS_MILLIS,
+				(this.timeSolvingChoicePoints.get() + this.timeSolvingBacktracking.get()) / NANOS_MILLIS,
+				(this.timeBacktracking.get() - this.timeSolvingBacktracking.get()) / NANOS_MILLIS,
+				this.timeSolutionGeneration.get() / NANOS_MILLIS };
 		return executionTime;
 	}
 
 	/**
-	 * Return an array of long elements with the times of the execution measurement. There will be
-	 * no preprocessing of the elements, hence it is only meant for internal (private) use.
+	 * Getter for the metrics of the execution. Besides the times measured, they comprise the
+	 * latencies of the solver, the backtracking and the progress of the search.
 	 * 
-	 * @return An array of long elements with the times of the execution measurement.
+	 * @return The metrics of this symbolic virtual machine.
 	 */
-	private long[] getNanoExecutionTimeInformation() {
-		long[] executionTime = { this.timeExecutionInstruction, this.timeLoopDetection,
-				this.timeCoverageChecking, this.timeChoicePointGeneration,
-				this.timeSolvingChoicePoints, this.timeSolvingBacktracking, this.timeBacktracking,
-				this.timeSolutionGeneration };
-		return executionTime;
+	public MetricsRegistry getMetrics() {
+		return this.metrics;
 	}
 
 	/**
@@ -961,7 +1195,7 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 	 * @param increment The time needed for coverage checking.
 	 */
 	public void increaseTimeCoverageChecking(long increment) {
-		this.timeCoverageChecking += increment;
+		this.timeCoverageChecking.add(increment);
 	}
 
 	/**
@@ -971,7 +1205,7 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 	 * @param increment The time needed for a choice point generation.
 	 */
 	public void increaseTimeChoicePointGeneration(long increment) {
-		this.timeChoicePointGeneration += increment;
+		this.timeChoicePointGeneration.add(increment);
 	}
 
 	/**
@@ -980,17 +1214,20 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 	 * @param increment The time needed for a backtracking action.
 	 */
 	public void increaseTimeBacktracking(long increment) {
-		this.timeBacktracking += increment;
+		this.timeBacktracking.add(increment);
 	}
 
 	/**
 	 * Increase the time spent on solving for the generation of choice points by the supplied
-	 * increment.
+	 * increment. It is also recorded as a solver latency of the type of the choice point.
 	 * 
+	 * @param choicePoint The choice point being generated.
 	 * @param increment The time needed for a solving action.
 	 */
-	public void increaseTimeSolvingForChoicePointGeneration(long increment) {
-		this.timeSolvingChoicePoints += increment;
+	public void increaseTimeSolvingForChoicePointGeneration(ChoicePoint choicePoint, long increment) {
+		this.timeSolvingChoicePoints.add(increment);
+		this.metrics.histogram("solverLatency.choicePoint." + choicePoint.getClass().getSimpleName())
+				.record(increment);
 	}
 
 	/**
@@ -999,7 +1236,8 @@ public class SymbolicVirtualMachine extends VirtualMachine {
 	 * @param increment The time needed for a solving action.
 	 */
 	public void increaseTimeSolvingForBacktracking(long increment) {
-		this.timeSolvingBacktracking += increment;
+		this.timeSolvingBacktracking.add(increment);
+		this.solverLatencyBacktracking.record(increment);
 	}
 
 	/**
@@ -4,6 +4,7 @@ import de.wwu.muggl.vm.SystemDictionary;
 import de.wwu.muggl.vm.execution.ExecutionAlgorithms;
 import de.wwu.muggl.configuration.Globals;
 import de.wwu.muggl.solvers.expressions.Term;
+import de.wwu.muggl.vm.loading.MugglClassLoader;
 
 /**
  * This class represents a reference to an array. It stores information about
@@ -28,6 +29,15 @@ public class Arrayref implements ReferenceValue {
 	 */
 	protected Object[] elements;
 	private long instantiationNumber;
+	/**
+	 * The journal of the heap of this array, i.e. the one of the class loader of its type.
+	 */
+	protected final HeapJournal journal;
+	// The generation of the journal this array has been created or journaled in.
+	int generation;
+
+	// The stamps of the trails the elements have last been saved to. Only initialized if needed.
+	private int[] trailStamps;
 	
 	private Objectref mirrorJava;
 
@@ -40,8 +50,10 @@ public class Arrayref implements ReferenceValue {
 	 */
 	public Arrayref(ReferenceValue referenceValue, int length) {
 		this.referenceValue = referenceValue;
-		this.instantiationNumber = referenceValue.getInitializedClass().getClassFile()
-		.getClassLoader().getNextInstantiationNumber();
+		MugglClassLoader classLoader = referenceValue.getInitializedClass().getClassFile().getClassLoader();
+		this.journal = classLoader.getHeapJournal();
+		this.generation = this.journal.generation;
+		this.instantiationNumber = classLoader.getNextInstantiationNumber();
 		this.length = length;
 		if (referenceValue.isPrimitive()) {
 			// Primitive types will be represented in the java.lang wrapper classes.
@@ -91,8 +103,10 @@ public class Arrayref implements ReferenceValue {
 			int[] dimensionCount,
 			int dimension
 			) {
-		this.instantiationNumber = referenceValue.getInitializedClass().getClassFile()
-		.getClassLoader().getNextInstantiationNumber();
+		MugglClassLoader classLoader = referenceValue.getInitializedClass().getClassFile().getClassLoader();
+		this.journal = classLoader.getHeapJournal();
+		this.generation = this.journal.generation;
+		this.instantiationNumber = classLoader.getNextInstantiationNumber();
 		if (dimensionCount[0] == 0) {
 			this.referenceValue = referenceValue;
 			this.length = 0;
@@ -140,6 +154,37 @@ public class Arrayref implements ReferenceValue {
 		return this.elements[index];
 	}
 
+	/**
+	 * Stamp an element with the trail its value is about to be saved to. A search algorithm saving
+	 * the elements of arrays before they are modified only needs to save the first value per
+	 * trail.
+	 *
+	 * @param index The index of the element.
+	 * @param stamp The stamp of the trail. Must not be zero.
+	 * @return true, if the element has not been stamped with this trail yet and its value has to
+	 *         be saved; false, if it has been saved already or the index is out of bounds.
+	 */
+	public boolean stampElement(int index, int stamp) {
+		if (index < 0 || index >= this.length) return false;
+		if (this.trailStamps == null || this.trailStamps.length != this.length)
+			this.trailStamps = new int[this.length];
+		if (this.trailStamps[index] == stamp) return false;
+		this.trailStamps[index] = stamp;
+		return true;
+	}
+
+	/**
+	 * Restore an element that has been got by {@link #getElement(int)}. As the element has been
+	 * stored before, it is not checked for assignment compatibility again.
+	 *
+	 * @param index The index of the element.
+	 * @param element The element to restore.
+	 */
+	public void restoreElement(int index, Object element) {
+		if (this.generation != this.journal.generation) this.journal.recordWrite(this);
+		this.elements[index] = element;
+	}
+
 	/**
 	 * Put an element to this arrayref.
 	 * 
@@ -185,6 +230,7 @@ public class Arrayref implements ReferenceValue {
 			if (!ea.checkForAssignmentCompatibility((ReferenceValue) element, this))
 				throw new ArrayStoreException(((ReferenceValue) element).getName() + " 1is not assignment compatible with " + this.getName() + ".");
 		}
+		if (this.generation != this.journal.generation) this.journal.recordWrite(this);
 		this.elements[index] = element;
 	}
 
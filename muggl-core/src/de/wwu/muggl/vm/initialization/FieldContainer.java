@@ -1,18 +1,31 @@
 package de.wwu.muggl.vm.initialization;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
 import de.wwu.muggl.vm.classfile.structures.Field;
 
 /**
- * This abstract class is a container for fields; it offers a Hashtable that stores
- * instances of Field as well as their corresponding values. If also offers the
- * functionality to get values from fields and to put values to fields.<br />
+ * This abstract class is a container for fields; it stores the values of fields and
+ * offers the functionality to get values from fields and to put values to fields.<br />
  * <br />
  * It is extends by the concrete classes InitializedClass and Objectref; the first
  * offers access to static fields (and is responsible for the instructions getstatic
  * and putstatic), while the second one offers access to instance fields (and is
  * responsible for the instructions getfield and putfield).<br />
  * <br />
+ * Values are stored in a flat array. Each field has a slot in the field layout of the
+ * class that declares it (see {@link de.wwu.muggl.vm.classfile.ClassFile#getInstanceFieldLayout()}
+ * and {@link de.wwu.muggl.vm.classfile.ClassFile#getStaticFieldLayout()}); the slot is the
+ * index into the array. Fields that are not part of the layout of this container, which
+ * should not happen for correct byte code, are stored in a map that is only created if it
+ * is needed.<br />
+ * <br />
  * For getting fields, lazy initialization is implemented. When statically initializing
  * a class only those static fields are initialized that are explicitly put in the
  * static initializer (the &lt;clinit&gt; method). The same applies for instance
@@ -25,19 +38,51 @@ import de.wwu.muggl.vm.classfile.structures.Field;
  * their default values.
  *
  * @author Tim Majchrzak
- * @version 1.0.0, 2010-07-15
+ * @version 1.0.1, 2026-10-18
  */
 public abstract class FieldContainer {
+	// Marker for slots that have explicitly been set to null. Unset slots hold null.
+	private static final Object NULL_VALUE = new Object();
+
+	// The field layout and the values of the fields, indexed by their slot.
+	private final Field[] layout;
+	Object[] values;
+
+	// Values of fields without a slot in the layout. Only initialized if needed.
+	HashMap<Field, Object> otherFields;
+
+	// The journal of the heap of this container, and its generation this container has been
+	// created or journaled in.
+	private final HeapJournal journal;
+	int generation;
+
+	// The stamps of the trails the values of the slots have last been saved to. Only initialized if needed.
+	private int[] trailStamps;
+
 	/**
-	 * The assignment of fields to value i.e. object references.
+	 * Initialize the container for the fields of the supplied layout.
+	 *
+	 * @param layout The field layout. The slot of each field is its index in this array.
+	 * @param journal The journal of the heap the container belongs to, i.e. the one of the class
+	 *        loader of its class.
 	 */
-	protected HashMap<Field, Object> fields; // needs to be a hashMap to be able to put null values
+	public FieldContainer(Field[] layout, HeapJournal journal) {
+		this.layout = layout;
+		this.values = new Object[layout.length];
+		this.journal = journal;
+		this.generation = journal.generation;
+	}
 
 	/**
-	 * Just initialize the Hashtable.
+	 * Get the slot of a field in the layout of this container.
+	 *
+	 * @param field The field.
+	 * @return The slot of the field; or -1, if it has none in this container.
 	 */
-	public FieldContainer() {
-		this.fields = new HashMap<Field, Object>();
+	public int slotOf(Field field) {
+		int slot = field.getSlot();
+		if (slot >= 0 && slot < this.layout.length && this.layout[slot] == field) return slot;
+		return -1;
 	}
 
 	/**
@@ -50,17 +95,36 @@ public abstract class FieldContainer {
 		// TODOFirst step: does this field really belong to this ClassFile?
 		//if (!field.getClassFile().equals(getRepresentedClassFile())) throw new FieldAccessError("The field supplied does not belong to the class choosen.");
 
+		int slot = slotOf(field);
+		if (slot == -1) return getOtherField(field);
+
 		// Second step: has it been initialized already?
-		if (!this.fields.containsKey(field)) {
+		Object value = this.values[slot];
+		if (value == null) {
 			// Initialize the field to its default value - choose it according to its type.
-			Object value = StaticInitializationSupport.getInitializedPrimitiveTypeWrapper(field.getType(), false);
+			value = StaticInitializationSupport.getInitializedPrimitiveTypeWrapper(field.getType(), false);
 
 			// Set it for future use, if it is not null.
-			if (value != null) this.fields.put(field, value);
+			if (value != null) this.values[slot] = value;
+			return value;
 		}
 
 		// Third step: return the value;
-		return this.fields.get(field);
+		return value == NULL_VALUE ? null : value;
+	}
+
+	/**
+	 * Get a value from a Field that has no slot in the layout of this container.
+	 * @param field The Field to get the value from.
+	 * @return The value assigned to the Field.
+	 */
+	private Object getOtherField(Field field) {
+		if (this.otherFields == null) this.otherFields = new HashMap<Field, Object>();
+		if (!this.otherFields.containsKey(field)) {
+			Object value = StaticInitializationSupport.getInitializedPrimitiveTypeWrapper(field.getType(), false);
+			if (value != null) this.otherFields.put(field, value);
+		}
+		return this.otherFields.get(field);
 	}
 
 	/**
@@ -74,9 +138,54 @@ public abstract class FieldContainer {
 		//if (!field.getClassFile().equals(getRepresentedClassFile())) throw new FieldAccessError("The field supplied does not belong to the class choosen.");
 
 		// Second step: Put it! This will automatically overwrite old values.
-		this.fields.put(field, value);
+		if (this.generation != this.journal.generation) this.journal.recordWrite(this);
+		int slot = slotOf(field);
+		if (slot == -1) {
+			if (this.otherFields == null) this.otherFields = new HashMap<Field, Object>();
+			this.otherFields.put(field, value);
+		} else {
+			this.values[slot] = value == null ? NULL_VALUE : value;
+		}
 	}
-	
+
+	/**
+	 * Stamp a slot with the trail its value is about to be saved to. A search algorithm saving the
+	 * values of fields before they are modified only needs to save the first value per trail.
+	 *
+	 * @param slot The slot.
+	 * @param stamp The stamp of the trail. Must not be zero.
+	 * @return true, if the slot has not been stamped with this trail yet and its value has to be
+	 *         saved; false, if it has been saved already.
+	 */
+	public boolean stampSlot(int slot, int stamp) {
+		if (this.trailStamps == null) this.trailStamps = new int[this.values.length];
+		if (this.trailStamps[slot] == stamp) return false;
+		this.trailStamps[slot] = stamp;
+		return true;
+	}
+
+	/**
+	 * Get the raw value of a slot, to be restored by {@link #restoreSlotValue(int, Object)}. In
+	 * contrast to {@link #getField(Field)}, unset slots are not initialized.
+	 *
+	 * @param slot The slot.
+	 * @return The raw value of the slot.
+	 */
+	public Object getSlotValue(int slot) {
+		return this.values[slot];
+	}
+
+	/**
+	 * Restore the raw value of a slot that has been got by {@link #getSlotValue(int)}.
+	 *
+	 * @param slot The slot.
+	 * @param value The raw value of the slot.
+	 */
+	public void restoreSlotValue(int slot, Object value) {
+		if (this.generation != this.journal.generation) this.journal.recordWrite(this);
+		this.values[slot] = value;
+	}
+
 	/**
 	 * Check whether there is a value stored for the specified field.
 	 *
@@ -84,7 +193,235 @@ public abstract class FieldContainer {
 	 * @return true, if there is a value for the field, false otherwise.
 	 */
 	public boolean hasValueFor(Field field) {
-		return this.fields.containsKey(field);
+		int slot = slotOf(field);
+		if (slot == -1) return this.otherFields != null && this.otherFields.containsKey(field);
+		return this.values[slot] != null;
+	}
+
+	/**
+	 * Check whether there is a value stored for any field.
+	 *
+	 * @return true, if there is at least one value, false otherwise.
+	 */
+	public boolean hasValues() {
+		for (Object value : this.values) {
+			if (value != null) return true;
+		}
+		return this.otherFields != null && !this.otherFields.isEmpty();
+	}
+
+	/**
+	 * Get the number of fields a value is stored for.
+	 *
+	 * @return The number of fields a value is stored for.
+	 */
+	public int getNumberOfValues() {
+		int count = this.otherFields == null ? 0 : this.otherFields.size();
+		for (Object value : this.values) {
+			if (value != null) count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Give this container its own copy of the stored values. Containers are copied by
+	 * {@link Object#clone()}, which leaves the copy sharing the values with the original.
+	 */
+	protected void copyValues() {
+		this.values = this.values.clone();
+		if (this.otherFields != null)
+			this.otherFields = new HashMap<Field, Object>(this.otherFields);
+		this.generation = this.journal.generation;
+		this.trailStamps = null;
+	}
+
+	/**
+	 * Restore values journaled by a {@link HeapJournal}.
+	 *
+	 * @param values The values of the fields, indexed by their slot.
+	 * @param otherFields The values of fields without a slot in the layout; may be null.
+	 */
+	void restoreValues(Object[] values, HashMap<Field, Object> otherFields) {
+		this.values = values;
+		this.otherFields = otherFields;
+	}
+
+	/**
+	 * Check whether the same fields have values in this and the supplied container, and if
+	 * these values are equal.
+	 *
+	 * @param other The container to compare values with.
+	 * @return true, if the values are equal, false otherwise.
+	 */
+	protected boolean hasEqualValues(FieldContainer other) {
+		if (this.layout != other.layout || this.values.length != other.values.length) {
+			return getValueMap().equals(other.getValueMap());
+		}
+
+		for (int a = 0; a < this.values.length; a++) {
+			Object value = this.values[a];
+			Object otherValue = other.values[a];
+			if (value == null || otherValue == null) {
+				if (value != otherValue) return false;
+			} else if (!ObjectComparator.compareObjects(value == NULL_VALUE ? null : value,
+					otherValue == NULL_VALUE ? null : otherValue)) {
+				return false;
+			}
+		}
+
+		int size = this.otherFields == null ? 0 : this.otherFields.size();
+		int otherSize = other.otherFields == null ? 0 : other.otherFields.size();
+		if (size != otherSize) return false;
+		if (size == 0) return true;
+		for (Map.Entry<Field, Object> entry : this.otherFields.entrySet()) {
+			if (!other.otherFields.containsKey(entry.getKey())) return false;
+			if (!ObjectComparator.compareObjects(entry.getValue(), other.otherFields.get(entry.getKey())))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Get a map view of the stored values. The view is meant for code that needs to iterate
+	 * over the fields a value is stored for; it is backed by this container, so changes are
+	 * reflected in both directions. Putting values through the view is supported, removing
+	 * them is not. Getting a value through the view does not initialize it.
+	 *
+	 * @return A map view of the stored values.
+	 */
+	protected Map<Field, Object> getValueMap() {
+		return new ValueMap();
+	}
+
+	/**
+	 * The map view of the values stored in a FieldContainer.
+	 */
+	private class ValueMap extends AbstractMap<Field, Object> {
+
+		/**
+		 * Get the value stored for a field without initializing it.
+		 *
+		 * @param key The field.
+		 * @return The value; or null, if there is none or the field is unknown.
+		 */
+		@Override
+		public Object get(Object key) {
+			if (!(key instanceof Field)) return null;
+			Field field = (Field) key;
+			int slot = slotOf(field);
+			if (slot == -1)
+				return FieldContainer.this.otherFields == null ? null : FieldContainer.this.otherFields.get(field);
+			Object value = FieldContainer.this.values[slot];
+			return value == NULL_VALUE ? null : value;
+		}
+
+		/**
+		 * Check whether a value is stored for a field.
+		 *
+		 * @param key The field.
+		 * @return true, if a value is stored for the field, false otherwise.
+		 */
+		@Override
+		public boolean containsKey(Object key) {
+			return key instanceof Field && hasValueFor((Field) key);
+		}
+
+		/**
+		 * Store a value for a field.
+		 *
+		 * @param key The field.
+		 * @param value The value.
+		 * @return The previously stored value; or null, if there was none.
+		 */
+		@Override
+		public Object put(Field key, Object value) {
+			Object previous = get(key);
+			putField(key, value);
+			return previous;
+		}
+
+		/**
+		 * Get the number of fields a value is stored for.
+		 *
+		 * @return The number of fields a value is stored for.
+		 */
+		@Override
+		public int size() {
+			return getNumberOfValues();
+		}
+
+		/**
+		 * Get a set view of the mappings.
+		 *
+		 * @return A set view of the mappings.
+		 */
+		@Override
+		public Set<Map.Entry<Field, Object>> entrySet() {
+			return new AbstractSet<Map.Entry<Field, Object>>() {
+				@Override
+				public Iterator<Map.Entry<Field, Object>> iterator() {
+					return new ValueIterator();
+				}
+
+				@Override
+				public int size() {
+					return getNumberOfValues();
+				}
+			};
+		}
+	}
+
+	/**
+	 * Iterator over the values stored in a FieldContainer. Slots are visited first, then
+	 * fields without a slot.
+	 */
+	private class ValueIterator implements Iterator<Map.Entry<Field, Object>> {
+		// The next slot to check and the iterator over the fields without a slot.
+		private int slot;
+		private Iterator<Map.Entry<Field, Object>> others;
+
+		/**
+		 * Initialize the iterator.
+		 */
+		ValueIterator() {
+			this.slot = 0;
+			this.others = null;
+		}
+
+		/**
+		 * Check whether there is another mapping.
+		 *
+		 * @return true, if there is another mapping, false otherwise.
+		 */
+		@Override
+		public boolean hasNext() {
+			Object[] values = FieldContainer.this.values;
+			while (this.slot < values.length && values[this.slot] == null) {
+				this.slot++;
+			}
+			if (this.slot < values.length) return true;
+			if (this.others == null) {
+				if (FieldContainer.this.otherFields == null) return false;
+				this.others = FieldContainer.this.otherFields.entrySet().iterator();
+			}
+			return this.others.hasNext();
+		}
+
+		/**
+		 * Get the next mapping.
+		 *
+		 * @return The next mapping.
+		 * @throws NoSuchElementException If there are no more mappings.
+		 */
+		@Override
+		public Map.Entry<Field, Object> next() {
+			if (!hasNext()) throw new NoSuchElementException();
+			if (this.others != null) return this.others.next();
+			Object value = FieldContainer.this.values[this.slot];
+			Field field = FieldContainer.this.layout[this.slot++];
+			return new AbstractMap.SimpleImmutableEntry<Field, Object>(field, value == NULL_VALUE ? null
+					: value);
+		}
 	}
 
 }
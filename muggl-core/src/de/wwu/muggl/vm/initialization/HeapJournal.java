@@ -0,0 +1,201 @@
+package de.wwu.muggl.vm.initialization;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import org.apache.log4j.Level;
+
+import de.wwu.muggl.configuration.Globals;
+import de.wwu.muggl.vm.classfile.structures.Field;
+
+/**
+ * Journal of the first modification of objects that existed when the journal was started. It is
+ * used to capture the state of the heap at some point (e.g. after the universe genesis) and to
+ * restore it later without copying the whole heap up front: the values of a {@link FieldContainer}
+ * or the elements of an {@link Arrayref} are only copied when they are modified for the first time
+ * after the journal has been started or rolled back.<br />
+ * <br />
+ * Each {@link de.wwu.muggl.vm.loading.MugglClassLoader} has a journal of its own, covering the
+ * heap of the virtual machines using it: the initialized classes it caches and the objects and
+ * arrays of its classes. Objects keep a reference to the journal of the class loader of their
+ * class. Virtual machines with other class loaders, e.g. the workers of a parallel search, hence
+ * neither share nor disturb a journal.<br />
+ * <br />
+ * To find out cheaply whether an object has to be journaled, each object records the generation of
+ * its journal it has been created or journaled in. Starting, rolling back or stopping the journal
+ * begins a new generation, so any object of an older generation is journaled on its next
+ * modification. Objects created after the journal has been started never are.<br />
+ * <br />
+ * The journal holds a copy of each object modified since it has been started or rolled back. To
+ * bound the memory needed, it stops journaling once more than its maximum number of objects have
+ * been journaled. It cannot be rolled back then, until it is started again.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+public final class HeapJournal {
+	/**
+	 * The default maximum number of objects journaled between starting or rolling back the journal.
+	 */
+	public static final int DEFAULT_MAXIMUM_JOURNALED_OBJECTS = 100000;
+
+	// The maximum number of journaled objects.
+	private final int maximumJournaledObjects;
+
+	// The current generation, and whether modifications are journaled.
+	volatile int generation;
+	private boolean active;
+
+	// The journaled containers and the values they had when the generation began.
+	private final ArrayList<FieldContainer> containers;
+	private final ArrayList<Object[]> containerValues;
+	private final ArrayList<HashMap<Field, Object>> containerOtherFields;
+
+	// The journaled arrays and the elements they had when the generation began.
+	private final ArrayList<Arrayref> arrays;
+	private final ArrayList<Object[]> arrayElements;
+
+	/**
+	 * Initialize an empty, stopped journal with the default maximum number of journaled objects.
+	 */
+	public HeapJournal() {
+		this(DEFAULT_MAXIMUM_JOURNALED_OBJECTS);
+	}
+
+	/**
+	 * Initialize an empty, stopped journal.
+	 *
+	 * @param maximumJournaledObjects The maximum number of objects journaled between starting or
+	 *        rolling back the journal.
+	 * @throws IllegalArgumentException If the maximum is less than one.
+	 */
+	public HeapJournal(int maximumJournaledObjects) {
+		if (maximumJournaledObjects < 1)
+			throw new IllegalArgumentException("The maximum number of journaled objects must be at least one.");
+		this.maximumJournaledObjects = maximumJournaledObjects;
+		this.containers = new ArrayList<FieldContainer>();
+		this.containerValues = new ArrayList<Object[]>();
+		this.containerOtherFields = new ArrayList<HashMap<Field, Object>>();
+		this.arrays = new ArrayList<Arrayref>();
+		this.arrayElements = new ArrayList<Object[]>();
+	}
+
+	/**
+	 * Start journaling and begin a new generation. Any object existing at this time will be
+	 * journaled on its next modification. Objects journaled before are dropped.
+	 */
+	public synchronized void start() {
+		clear();
+		this.active = true;
+		this.generation++;
+	}
+
+	/**
+	 * Restore the journaled objects to the state they had when this journal has been started, and
+	 * begin a new generation. The journal is empty afterwards.
+	 *
+	 * @return true, if the objects have been restored; false, if the journal has been stopped or
+	 *         has journaled too many objects since it has been started, in which case the heap is
+	 *         left as it is.
+	 */
+	public synchronized boolean rollback() {
+		if (!this.active) return false;
+		for (int a = this.containers.size() - 1; a >= 0; a--) {
+			this.containers.get(a).restoreValues(this.containerValues.get(a),
+					this.containerOtherFields.get(a));
+		}
+		for (int a = this.arrays.size() - 1; a >= 0; a--) {
+			Arrayref arrayref = this.arrays.get(a);
+			arrayref.elements = this.arrayElements.get(a);
+		}
+		clear();
+		this.generation++;
+		return true;
+	}
+
+	/**
+	 * Stop journaling. Modifications of objects will not be journaled until the journal is started
+	 * again.
+	 */
+	public synchronized void stop() {
+		clear();
+		this.active = false;
+		this.generation++;
+	}
+
+	/**
+	 * Check whether modifications are journaled, i.e. whether the journal can be rolled back.
+	 *
+	 * @return true, if modifications are journaled, false otherwise.
+	 */
+	public synchronized boolean isActive() {
+		return this.active;
+	}
+
+	/**
+	 * Getter for the number of objects journaled since the journal has been started or rolled
+	 * back.
+	 *
+	 * @return The number of journaled objects.
+	 */
+	public synchronized int getNumberOfJournaledObjects() {
+		return this.containers.size() + this.arrays.size();
+	}
+
+	/**
+	 * Drop the journaled objects.
+	 */
+	private void clear() {
+		this.containers.clear();
+		this.containerValues.clear();
+		this.containerOtherFields.clear();
+		this.arrays.clear();
+		this.arrayElements.clear();
+	}
+
+	/**
+	 * Check whether another object may be journaled. If the maximum has been reached, journaling
+	 * is stopped.
+	 *
+	 * @return true, if the object is to be journaled, false otherwise.
+	 */
+	private boolean admit() {
+		if (!this.active) return false;
+		if (this.containers.size() + this.arrays.size() < this.maximumJournaledObjects) return true;
+		if (Globals.getInst().execLogger.isEnabledFor(Level.WARN))
+			Globals.getInst().execLogger.warn("More than " + this.maximumJournaledObjects
+					+ " objects have been modified since the heap was captured. Journaling is stopped.");
+		clear();
+		this.active = false;
+		return false;
+	}
+
+	/**
+	 * Journal a container of an older generation before it is modified.
+	 *
+	 * @param container The container that is about to be modified.
+	 */
+	synchronized void recordWrite(FieldContainer container) {
+		container.generation = this.generation;
+		if (admit()) {
+			this.containers.add(container);
+			this.containerValues.add(container.values.clone());
+			this.containerOtherFields.add(container.otherFields == null ? null
+					: new HashMap<Field, Object>(container.otherFields));
+		}
+	}
+
+	/**
+	 * Journal an array of an older generation before it is modified.
+	 *
+	 * @param arrayref The array that is about to be modified.
+	 */
+	synchronized void recordWrite(Arrayref arrayref) {
+		arrayref.generation = this.generation;
+		if (admit()) {
+			this.arrays.add(arrayref);
+			this.arrayElements.add(arrayref.elements.clone());
+		}
+	}
+
+}
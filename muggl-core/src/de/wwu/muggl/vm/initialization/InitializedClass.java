@@ -1,6 +1,6 @@
 package de.wwu.muggl.vm.initialization;
 
-import java.util.HashMap;
+import java.util.Map;
 
 import de.wwu.muggl.instructions.MethodResolutionError;
 import de.wwu.muggl.vm.VirtualMachine;
@@ -51,7 +51,8 @@ public class InitializedClass extends FieldContainer {
 	 */
 	public InitializedClass(ClassFile representedClassFile, VirtualMachine vm, boolean forceFrameIfCurrentNull) {
 		// Invoke the super constructor.
-		super();
+		super(representedClassFile.getStaticFieldLayout(),
+				representedClassFile.getClassLoader().getHeapJournal());
 				
 		// Set the represented ClassFile.
 		this.representedClassFile = representedClassFile;
@@ -135,8 +136,8 @@ public class InitializedClass extends FieldContainer {
 								.getClassAsClassFile("de.wwu.muggl.vm.execution.nativeWrapping.PrintStreamWrapper"));
 
 				// Put the wrapper.
-				this.fields.put(errField, wrapperForErr);
-				this.fields.put(outField, wrapperForOut);
+				putField(errField, wrapperForErr);
+				putField(outField, wrapperForOut);
 
 				/*
 				 * Set the special field of the wrapper to preserve the information whether err or
@@ -208,11 +209,12 @@ public class InitializedClass extends FieldContainer {
 	}
 
 	/**
-	 * Getter for the static fields.
+	 * Get a map view of the static fields that have a value. The values are stored by slot; the
+	 * view is backed by them.
 	 *
-	 * @return The static fields Hashtable.
+	 * @return A map view of the static fields.
 	 */
-	public HashMap<Field, Object> getStaticFields() {
-		return this.fields;
+	public Map<Field, Object> getStaticFields() {
+		return getValueMap();
 	}
 }
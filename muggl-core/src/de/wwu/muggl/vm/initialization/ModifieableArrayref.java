@@ -82,6 +82,7 @@ public class ModifieableArrayref extends Arrayref {
 		if (this.typeCheckingDisabled) {
 			// Proceed without type checking.
 			if (index < 0 || index >= this.length) throw new IndexOutOfBoundsException("Array index out of bounds");
+			if (this.generation != this.journal.generation) this.journal.recordWrite(this);
 			this.elements[index] = element;
 		} else {
 			// Call the super implementation.
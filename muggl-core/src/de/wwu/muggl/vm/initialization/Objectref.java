@@ -1,7 +1,7 @@
 package de.wwu.muggl.vm.initialization;
 
 import java.util.HashMap;
-import java.util.Map.Entry;
+import java.util.Map;
 
 import de.wwu.muggl.vm.Universe;
 import de.wwu.muggl.vm.VmSymbols;
@@ -30,8 +30,8 @@ public class Objectref extends FieldContainer implements ReferenceValue {
 	private boolean mirroredMugglIsArray = false; // if the "original" is being used in an array
 	private Arrayref mirroredMugglArray = null; 
 	
-	// could be the equivalence of jvm's internal address field purpose
-	private HashMap<String, Object> sysfields= new HashMap<>();
+	// could be the equivalence of jvm's internal address field purpose. Only initialized if needed.
+	private HashMap<String, Object> sysfields;
 	
 	public static final String SYSFIELDNAME_ARRAYCLASS="isClassForArray";
 	public static final String SYSFIELDNAME_ARRAYCLASS_COMPONENTTYPE = "ObjectrefClassComponentType";
@@ -50,6 +50,8 @@ public class Objectref extends FieldContainer implements ReferenceValue {
 	 * @param primitiveWrapper Toggles the usage of the Objectref as a wrapper for primitive types.
 	 */
 	public Objectref(InitializedClass staticReference, boolean primitiveWrapper) {
+		super(staticReference.getClassFile().getInstanceFieldLayout(),
+				staticReference.getClassFile().getClassLoader().getHeapJournal());
 		this.staticReference = staticReference;
 		this.primitiveWrapper = primitiveWrapper;
 		this.instantiationNumber = staticReference.getClassFile().getClassLoader()
@@ -81,7 +83,7 @@ public class Objectref extends FieldContainer implements ReferenceValue {
 	public String toString() {
 		String dbghint = (debugHelperString != null) ? " dbghint: " + this.debugHelperString : "";
 		if(this.staticReference.getClassFile().getName().equals("java.lang.String") && (dbghint.length()==0)) {
-			if (!this.fields.isEmpty()) {
+			if (hasValues()) {
 				dbghint = " val:" + NativeWrapper.stringObjectrefToString(this);;
 			}
 		}
@@ -169,26 +171,13 @@ public class Objectref extends FieldContainer implements ReferenceValue {
 		// First compare the ClassFile references.
 		if (this.staticReference.getClassFile() != objectref.staticReference.getClassFile()) return false;
 
-		// Then compare all static fields. First by size, the element by element.
-		if (this.staticReference.fields.size() != objectref.staticReference.fields.size())
+		// Then compare all static fields.
+		if (!this.staticReference.hasEqualValues(objectref.staticReference))
 			return false;
-		for (Entry<Field, Object> field : this.staticReference.fields.entrySet()) {
-			if (!objectref.staticReference.fields.containsKey(field.getKey()))
-				return false;
-			if (!(ObjectComparator.compareObjects(field.getValue(),
-					objectref.staticReference.fields.get(field.getKey()))))
-				return false;
-		}
 
 		// Finally compare all instance fields.
-		if (this.fields.size() != objectref.fields.size())
+		if (!hasEqualValues(objectref))
 			return false;
-		for (Entry<Field, Object> field : this.fields.entrySet()) {
-			if (!objectref.fields.containsKey(field.getKey()))
-				return false;
-			if (!(ObjectComparator.compareObjects(field.getValue(), objectref.fields.get(field.getKey()))))
-				return false;
-		}
 		
 		// Reaching this point means that the values are equal.
 		return true;
@@ -217,12 +206,13 @@ public class Objectref extends FieldContainer implements ReferenceValue {
 	}
 
 	/**
-	 * Getter for the fields.
+	 * Get a map view of the instance fields that have a value. The values are stored by slot;
+	 * the view is backed by them.
 	 *
-	 * @return The fields Hashtable.
+	 * @return A map view of the instance fields.
 	 */
-	public HashMap<Field, Object> getFields() {
-		return this.fields;
+	public Map<Field, Object> getFields() {
+		return getValueMap();
 	}
 
 	public String getDebugHelperString() {
@@ -244,7 +234,9 @@ public class Objectref extends FieldContainer implements ReferenceValue {
 	@SuppressWarnings("unchecked")
 	public Objectref clone() throws CloneNotSupportedException {
 		Objectref clone = (Objectref) super.clone();
-		clone.sysfields = (HashMap<String, Object>) this.sysfields.clone();
+		clone.copyValues();
+		if (this.sysfields != null)
+			clone.sysfields = (HashMap<String, Object>) this.sysfields.clone();
 		return clone;
 	}
 	
@@ -291,7 +283,24 @@ public class Objectref extends FieldContainer implements ReferenceValue {
 			return this.getInitializedClass().getClassFile().getMirrorJava();
 	}
 	
+	/**
+	 * Getter for the system fields. They are created when this method is called for the first
+	 * time; use {@link #getSysfield(String)} to read them without doing so.
+	 *
+	 * @return The system fields.
+	 */
 	public HashMap<String, Object> getSysfields() {
+		if (this.sysfields == null) this.sysfields = new HashMap<String, Object>();
 		return this.sysfields;
 	}
+
+	/**
+	 * Get the value of a system field.
+	 *
+	 * @param name The name of the system field.
+	 * @return The value of the system field; or null, if it has not been set.
+	 */
+	public Object getSysfield(String name) {
+		return this.sysfields == null ? null : this.sysfields.get(name);
+	}
 }
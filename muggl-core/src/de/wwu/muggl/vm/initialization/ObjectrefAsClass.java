@@ -89,10 +89,9 @@ public class ObjectrefAsClass {
 		if (this.isArray()) {
 			// directly "attached" to an arrayref
 			return ((Objectref) thiss.getMirroredMugglArray().getReferenceValue()).getMirrorJava();
-		} else if (thiss.getSysfields().containsKey(Objectref.SYSFIELDNAME_ARRAYCLASS)
-				&& (boolean) thiss.getSysfields().get(Objectref.SYSFIELDNAME_ARRAYCLASS)) {
+		} else if (Boolean.TRUE.equals(thiss.getSysfield(Objectref.SYSFIELDNAME_ARRAYCLASS))) {
 			// class representation (e.g. CONSTANT) for an array
-			return (Objectref) thiss.getSysfields().get(Objectref.SYSFIELDNAME_ARRAYCLASS_COMPONENTTYPE);
+			return (Objectref) thiss.getSysfield(Objectref.SYSFIELDNAME_ARRAYCLASS_COMPONENTTYPE);
 		}
 		return null;
 	}
@@ -154,6 +154,25 @@ public class StringCache {
 		this.root = new StringCacheEntry(this, provideStringReference(new char[0]));
 	}
 
+	/**
+	 * Construct a string cache for another virtual machine, caching the same String object
+	 * references as the supplied one. Strings cached by either of them afterwards are not visible
+	 * to the other one.
+	 *
+	 * @param vm The virtual machine this string cache belongs to.
+	 * @param stringCache The string cache to copy.
+	 */
+	public StringCache(VirtualMachine vm, StringCache stringCache) {
+		this.vm = vm;
+		this.stringClassFile = stringCache.stringClassFile;
+		this.characterClassFile = stringCache.characterClassFile;
+		this.stringCountField = stringCache.stringCountField;
+		this.stringHashField = stringCache.stringHashField;
+		this.stringOffsetField = stringCache.stringOffsetField;
+		this.stringValueField = stringCache.stringValueField;
+		this.root = new StringCacheEntry(this, stringCache.root);
+	}
+
 	/**
 	 * Get the String object reference for the specified String.
 	 *
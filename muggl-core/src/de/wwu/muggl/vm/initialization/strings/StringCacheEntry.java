@@ -108,6 +108,23 @@ final class StringCacheEntry {
 				.synchronizedMap(new HashMap<HashableCharacter, StringCacheEntry>());
 	}
 
+	/**
+	 * Construct a copy of an entry and, recursively, of its children for another string cache.
+	 *
+	 * @param stringCache A reference to the StringCache the copy belongs to.
+	 * @param entry The entry to copy.
+	 * @throws NullPointerException If the reference to the string cache is null.
+	 */
+	public StringCacheEntry(StringCache stringCache, StringCacheEntry entry) {
+		this(stringCache, entry.key, entry.stringObjectref);
+		this.isRoot = entry.isRoot;
+		synchronized (entry.children) {
+			for (Map.Entry<HashableCharacter, StringCacheEntry> child : entry.children.entrySet()) {
+				this.children.put(child.getKey(), new StringCacheEntry(stringCache, child.getValue()));
+			}
+		}
+	}
+
 	/**
 	 * Getter for the cached String object reference.
 	 *
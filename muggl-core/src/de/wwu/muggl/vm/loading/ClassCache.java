@@ -0,0 +1,735 @@
+package de.wwu.muggl.vm.loading;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import de.wwu.muggl.configuration.Globals;
+import de.wwu.muggl.vm.classfile.ClassFile;
+
+/**
+ * The cache of the classes loaded by a {@link MugglClassLoader}. It maps the names of classes to
+ * their class files and may be used by several threads, e.g. by virtual machines running
+ * concurrently with the same class loader. Looking up a class never blocks.<br />
+ * <br />
+ * The cache is unbounded unless a maximum number of entries or a maximum number of bytes is
+ * specified. A bounded cache evicts classes according to the W-TinyLFU policy: New classes enter
+ * a small window which is managed by LRU. Classes leaving the window are admitted to the main
+ * space only if they have been requested more frequently than the class the main space would
+ * evict for them. The main space is a segmented LRU with a probation and a protected segment;
+ * classes requested again while on probation are protected. The frequencies are estimated by a
+ * count-min sketch of four bit counters that are halved periodically, so classes requested
+ * frequently a long time ago do not stay forever.<br />
+ * <br />
+ * If a maximum number of bytes is given, each class weighs its byte length, otherwise each class
+ * weighs one. Classes that have been initialized, i.e. that have an
+ * {@link de.wwu.muggl.vm.initialization.InitializedClass}, are pinned: They are in use by a
+ * virtual machine, and evicting them would lose their static fields. Hence, a bounded cache may
+ * exceed its maximum if too many classes are initialized. Pinned classes found while looking for
+ * a class to evict are moved to a queue of their own, so they are not looked at again by later
+ * evictions. They still count towards the weighted size. Once classes are no longer initialized,
+ * {@link #unpinClasses()} returns them to the policy.<br />
+ * <br />
+ * Bounded caches keep their policy under a lock. Lookups only reorder the classes and record
+ * their frequency if the lock is free, as a lookup must not wait for a class being evicted;
+ * under contention, some accesses are therefore not taken into account.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+public class ClassCache {
+	// The queues of the policy an entry may be in.
+	private static final byte WINDOW = 0;
+	private static final byte PROBATION = 1;
+	private static final byte PROTECTED = 2;
+	private static final byte PINNED = 3;
+
+	// The cached entries by the names of their classes.
+	private final ConcurrentHashMap<String, Node> entries;
+	// The maximum number of entries (-1 for no maximum) and of bytes (0 or less for no maximum).
+	private final long maximumEntries;
+	private final long maximumBytes;
+	private final boolean bounded;
+
+	// The statistics.
+	private final LongAdder hits;
+	private final LongAdder misses;
+	private final LongAdder evictions;
+
+	// The policy of a bounded cache. All fields below are guarded by the lock.
+	private final ReentrantLock lock;
+	private final FrequencySketch sketch;
+	private final Queue window;
+	private final Queue probation;
+	private final Queue protectedQueue;
+	private final Queue pinned;
+	private final long maximumWeight;
+	private final long maximumWindowWeight;
+	private final long maximumProtectedWeight;
+	private long weight;
+	private long windowWeight;
+	private long protectedWeight;
+	private volatile long weightedSize;
+
+	/**
+	 * Initialize the cache.
+	 *
+	 * @param maximumEntries The maximum number of classes cached. -1 (or less) disables the
+	 *        maximum, 0 disables caching.
+	 * @param maximumBytes The maximum sum of the byte lengths of the classes cached. 0 (or less)
+	 *        disables the maximum.
+	 */
+	public ClassCache(long maximumEntries, long maximumBytes) {
+		this.entries = new ConcurrentHashMap<String, Node>();
+		this.maximumEntries = maximumEntries < 0 ? -1 : maximumEntries;
+		this.maximumBytes = maximumBytes > 0 ? maximumBytes : 0;
+		this.bounded = this.maximumEntries > -1 || this.maximumBytes > 0;
+		this.hits = new LongAdder();
+		this.misses = new LongAdder();
+		this.evictions = new LongAdder();
+		this.lock = new ReentrantLock();
+		this.window = new Queue();
+		this.probation = new Queue();
+		this.protectedQueue = new Queue();
+		this.pinned = new Queue();
+
+		if (this.bounded) {
+			// The byte length is the primary measure; the number of entries is checked in addition.
+			this.maximumWeight = this.maximumBytes > 0 ? this.maximumBytes : this.maximumEntries;
+			this.maximumWindowWeight = Math.max(1L, this.maximumWeight / 100L);
+			this.maximumProtectedWeight = (this.maximumWeight - this.maximumWindowWeight) * 4L / 5L;
+			// Estimate the number of entries for sizing the sketch, assuming 4 KB per class.
+			long expectedEntries = this.maximumEntries > -1 ? this.maximumEntries
+					: this.maximumBytes / 4096L;
+			this.sketch = new FrequencySketch(expectedEntries);
+		} else {
+			this.maximumWeight = 0L;
+			this.maximumWindowWeight = 0L;
+			this.maximumProtectedWeight = 0L;
+			this.sketch = null;
+		}
+	}
+
+	/**
+	 * Look up a class and record the access.
+	 *
+	 * @param name The name of the class.
+	 * @return The class file, or null if the class is not cached.
+	 */
+	public ClassFile get(String name) {
+		Node node = this.entries.get(name);
+		if (node == null) {
+			this.misses.increment();
+			return null;
+		}
+		this.hits.increment();
+		if (this.bounded && this.lock.tryLock()) {
+			try {
+				onAccess(node);
+			} finally {
+				this.lock.unlock();
+			}
+		}
+		return node.classFile;
+	}
+
+	/**
+	 * Check whether a class is cached, without recording an access.
+	 *
+	 * @param name The name of the class.
+	 * @return true, if the class is cached, false otherwise.
+	 */
+	public boolean contains(String name) {
+		return this.entries.containsKey(name);
+	}
+
+	/**
+	 * Cache a class file unless a class of the same name is cached already. If the cache is
+	 * bounded, classes may be evicted to make room for it, including the class file itself.
+	 *
+	 * @param classFile The class file.
+	 * @return The class file cached for its name, which is the class file cached before if there
+	 *         was one, and the specified class file otherwise.
+	 */
+	public ClassFile putIfAbsent(ClassFile classFile) {
+		String name = classFile.getName();
+		int weight = this.maximumBytes > 0 ? Math.max(1, classFile.getByteLength()) : 1;
+		Node node = new Node(name, classFile, weight);
+		if (!this.bounded) {
+			Node cached = this.entries.putIfAbsent(name, node);
+			return cached == null ? classFile : cached.classFile;
+		}
+		if (this.maximumEntries == 0) return classFile;
+
+		this.lock.lock();
+		try {
+			Node cached = this.entries.putIfAbsent(name, node);
+			if (cached != null) return cached.classFile;
+			this.sketch.increment(node.hash);
+			node.queue = WINDOW;
+			this.window.addLast(node);
+			this.windowWeight += node.weight;
+			this.weight += node.weight;
+			evict(node);
+			this.weightedSize = this.weight;
+		} finally {
+			this.lock.unlock();
+		}
+		return classFile;
+	}
+
+	/**
+	 * Remove a class from the cache.
+	 *
+	 * @param name The name of the class.
+	 * @return The class file removed, or null if the class was not cached.
+	 */
+	public ClassFile remove(String name) {
+		if (!this.bounded) {
+			Node node = this.entries.remove(name);
+			return node == null ? null : node.classFile;
+		}
+
+		this.lock.lock();
+		try {
+			Node node = this.entries.remove(name);
+			if (node == null) return null;
+			unlink(node);
+			this.weightedSize = this.weight;
+			return node.classFile;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Remove all classes from the cache. The statistics are kept.
+	 */
+	public void clear() {
+		this.lock.lock();
+		try {
+			this.entries.clear();
+			this.window.clear();
+			this.probation.clear();
+			this.protectedQueue.clear();
+			this.pinned.clear();
+			this.weight = 0L;
+			this.windowWeight = 0L;
+			this.protectedWeight = 0L;
+			this.weightedSize = 0L;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Return the pinned classes that are no longer initialized to the policy of a bounded cache,
+	 * and evict classes if it exceeds its maximum now. This should be done after unloading the
+	 * initialized classes, as such classes could not be evicted otherwise.
+	 */
+	public void unpinClasses() {
+		if (!this.bounded) return;
+
+		this.lock.lock();
+		try {
+			Node node = this.pinned.head.next;
+			while (node != this.pinned.head) {
+				Node next = node.next;
+				if (!node.isPinned()) unpin(node);
+				node = next;
+			}
+			evict(null);
+			this.weightedSize = this.weight;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Get the cached class files. The collection reflects the cache and may be iterated while
+	 * classes are loaded or evicted; the iteration will then reflect some of the changes.
+	 *
+	 * @return An unmodifiable view of the cached class files.
+	 */
+	public Collection<ClassFile> values() {
+		return new ClassFileView();
+	}
+
+	/**
+	 * Check whether the cache is unbounded, i.e. whether classes are only removed on request.
+	 *
+	 * @return true, if the cache is unbounded, false otherwise.
+	 */
+	public boolean isUnbounded() {
+		return !this.bounded;
+	}
+
+	/**
+	 * Getter for the number of cached classes.
+	 *
+	 * @return The number of cached classes.
+	 */
+	public int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Getter for the weighted size of a bounded cache, i.e. the sum of the byte lengths of the
+	 * cached classes if a maximum number of bytes is set, or their number otherwise.
+	 *
+	 * @return The weighted size, or 0 if the cache is unbounded.
+	 */
+	public long getWeightedSize() {
+		return this.weightedSize;
+	}
+
+	/**
+	 * Getter for the number of lookups that found a cached class.
+	 *
+	 * @return The number of hits.
+	 */
+	public long getHitCount() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * Getter for the number of lookups that did not find a cached class.
+	 *
+	 * @return The number of misses.
+	 */
+	public long getMissCount() {
+		return this.misses.sum();
+	}
+
+	/**
+	 * Getter for the number of classes evicted by the policy of a bounded cache. Classes removed
+	 * on request are not counted.
+	 *
+	 * @return The number of evictions.
+	 */
+	public long getEvictionCount() {
+		return this.evictions.sum();
+	}
+
+	/**
+	 * Reorder an entry after it has been accessed and record its frequency. The lock must be held.
+	 *
+	 * @param node The entry.
+	 */
+	private void onAccess(Node node) {
+		// The entry may have been removed since it has been looked up.
+		if (node.queue < 0) return;
+		this.sketch.increment(node.hash);
+		if (node.queue == PINNED) {
+			if (!node.isPinned()) unpin(node);
+		} else if (node.queue == WINDOW) {
+			this.window.moveToLast(node);
+		} else if (node.queue == PROBATION) {
+			this.probation.remove(node);
+			node.queue = PROTECTED;
+			this.protectedQueue.addLast(node);
+			this.protectedWeight += node.weight;
+			// Demote the least recently used protected entries if the segment is full.
+			while (this.protectedWeight > this.maximumProtectedWeight && this.protectedQueue.size > 1) {
+				Node demoted = this.protectedQueue.removeFirst();
+				this.protectedWeight -= demoted.weight;
+				demoted.queue = PROBATION;
+				this.probation.addLast(demoted);
+			}
+		} else {
+			this.protectedQueue.moveToLast(node);
+		}
+	}
+
+	/**
+	 * Move the entries exceeding the window to the main space and evict entries until the cache
+	 * does not exceed its maximum anymore, or only pinned entries are left. The entry just added
+	 * is not evicted: It is about to be used, but has not been initialized yet. The lock must be
+	 * held.
+	 *
+	 * @param added The entry just added, or null.
+	 */
+	private void evict(Node added) {
+		// Entries leaving the window become candidates on probation.
+		int candidates = 0;
+		while (this.windowWeight > this.maximumWindowWeight && this.window.size > 1) {
+			Node node = this.window.removeFirst();
+			this.windowWeight -= node.weight;
+			node.queue = PROBATION;
+			this.probation.addLast(node);
+			candidates++;
+		}
+
+		while (exceedsMaximum()) {
+			Node victim = firstUnpinned(this.probation, added, null);
+			Node candidate = candidates > 0 ? lastUnpinned(this.probation, added, victim) : null;
+			Node evicted;
+			if (victim == null) {
+				// The probation segment is pinned entirely. Evict from the other queues.
+				evicted = firstUnpinned(this.protectedQueue, added, null);
+				if (evicted == null) evicted = firstUnpinned(this.window, added, null);
+				if (evicted == null) {
+					if (Globals.getInst().logger.isDebugEnabled())
+						Globals.getInst().logger.debug("The class cache exceeds its maximum as "
+								+ this.pinned.size + " of the " + this.entries.size()
+								+ " classes cached are pinned.");
+					return;
+				}
+			} else if (candidate == null) {
+				evicted = victim;
+			} else {
+				// Admit the candidate only if it is requested more frequently than the victim.
+				candidates--;
+				evicted = this.sketch.frequency(candidate.hash) > this.sketch.frequency(victim.hash)
+						? victim : candidate;
+			}
+			this.entries.remove(evicted.name, evicted);
+			unlink(evicted);
+			this.evictions.increment();
+			if (Globals.getInst().logger.isTraceEnabled())
+				Globals.getInst().logger.trace("The cached class " + evicted.name
+						+ " has been unloaded due to caching restrictions.");
+		}
+	}
+
+	/**
+	 * Check whether the cache exceeds its maximum. The lock must be held.
+	 *
+	 * @return true, if there are more entries or a higher weight than allowed.
+	 */
+	private boolean exceedsMaximum() {
+		return this.weight > this.maximumWeight
+				|| (this.maximumEntries > -1 && this.entries.size() > this.maximumEntries);
+	}
+
+	/**
+	 * Find the least recently used entry of a queue that is not pinned. Pinned entries passed are
+	 * moved to the queue of pinned entries. The lock must be held.
+	 *
+	 * @param queue The queue.
+	 * @param excluded An entry not to return, or null.
+	 * @param alsoExcluded Another entry not to return, or null.
+	 * @return The entry, or null if all entries are pinned or excluded.
+	 */
+	private Node firstUnpinned(Queue queue, Node excluded, Node alsoExcluded) {
+		Node node = queue.head.next;
+		while (node != queue.head) {
+			Node next = node.next;
+			if (node.isPinned()) {
+				pin(node);
+			} else if (node != excluded && node != alsoExcluded) {
+				return node;
+			}
+			node = next;
+		}
+		return null;
+	}
+
+	/**
+	 * Find the most recently used entry of a queue that is not pinned. Pinned entries passed are
+	 * moved to the queue of pinned entries. The lock must be held.
+	 *
+	 * @param queue The queue.
+	 * @param excluded An entry not to return, or null.
+	 * @param alsoExcluded Another entry not to return, or null.
+	 * @return The entry, or null if all entries are pinned or excluded.
+	 */
+	private Node lastUnpinned(Queue queue, Node excluded, Node alsoExcluded) {
+		Node node = queue.head.previous;
+		while (node != queue.head) {
+			Node previous = node.previous;
+			if (node.isPinned()) {
+				pin(node);
+			} else if (node != excluded && node != alsoExcluded) {
+				return node;
+			}
+			node = previous;
+		}
+		return null;
+	}
+
+	/**
+	 * Move an entry whose class has been initialized to the queue of pinned entries. Its weight
+	 * is kept. The lock must be held.
+	 *
+	 * @param node The entry.
+	 */
+	private void pin(Node node) {
+		long weight = this.weight;
+		unlink(node);
+		this.weight = weight;
+		node.queue = PINNED;
+		this.pinned.addLast(node);
+	}
+
+	/**
+	 * Move an entry whose class is no longer initialized from the queue of pinned entries to the
+	 * probation segment. The lock must be held.
+	 *
+	 * @param node The entry.
+	 */
+	private void unpin(Node node) {
+		this.pinned.remove(node);
+		node.queue = PROBATION;
+		this.probation.addLast(node);
+	}
+
+	/**
+	 * Remove an entry from its queue and subtract its weight. The lock must be held.
+	 *
+	 * @param node The entry.
+	 */
+	private void unlink(Node node) {
+		if (node.queue == WINDOW) {
+			this.window.remove(node);
+			this.windowWeight -= node.weight;
+		} else if (node.queue == PROBATION) {
+			this.probation.remove(node);
+		} else if (node.queue == PROTECTED) {
+			this.protectedQueue.remove(node);
+			this.protectedWeight -= node.weight;
+		} else if (node.queue == PINNED) {
+			this.pinned.remove(node);
+		} else {
+			return;
+		}
+		node.queue = -1;
+		this.weight -= node.weight;
+	}
+
+	/**
+	 * A cached class. The links and the queue are guarded by the lock of the cache.
+	 */
+	private static final class Node {
+		final String name;
+		final ClassFile classFile;
+		final int weight;
+		final int hash;
+		byte queue;
+		Node previous;
+		Node next;
+
+		/**
+		 * Initialize the entry.
+		 *
+		 * @param name The name of the class.
+		 * @param classFile The class file.
+		 * @param weight The weight of the entry.
+		 */
+		Node(String name, ClassFile classFile, int weight) {
+			this.name = name;
+			this.classFile = classFile;
+			this.weight = weight;
+			int hash = name.hashCode() * 0x9E3779B9;
+			this.hash = hash ^ (hash >>> 16);
+			this.queue = -1;
+		}
+
+		/**
+		 * Check whether the entry may not be evicted, as its class has been initialized.
+		 *
+		 * @return true, if the entry is pinned, false otherwise.
+		 */
+		boolean isPinned() {
+			return this.classFile.getInitializedClass() != null;
+		}
+	}
+
+	/**
+	 * A doubly linked queue of entries in the order of their last access. It has a sentinel as its
+	 * head, so the least recently used entry follows it and the most recently used precedes it.
+	 */
+	private static final class Queue {
+		final Node head;
+		int size;
+
+		/**
+		 * Initialize an empty queue.
+		 */
+		Queue() {
+			this.head = new Node("", null, 0);
+			clear();
+		}
+
+		/**
+		 * Append an entry as the most recently used one.
+		 *
+		 * @param node The entry.
+		 */
+		void addLast(Node node) {
+			node.previous = this.head.previous;
+			node.next = this.head;
+			this.head.previous.next = node;
+			this.head.previous = node;
+			this.size++;
+		}
+
+		/**
+		 * Remove the least recently used entry.
+		 *
+		 * @return The entry.
+		 */
+		Node removeFirst() {
+			Node node = this.head.next;
+			remove(node);
+			return node;
+		}
+
+		/**
+		 * Remove an entry.
+		 *
+		 * @param node The entry.
+		 */
+		void remove(Node node) {
+			node.previous.next = node.next;
+			node.next.previous = node.previous;
+			node.previous = null;
+			node.next = null;
+			this.size--;
+		}
+
+		/**
+		 * Make an entry the most recently used one.
+		 *
+		 * @param node The entry.
+		 */
+		void moveToLast(Node node) {
+			if (this.head.previous == node) return;
+			remove(node);
+			addLast(node);
+		}
+
+		/**
+		 * Remove all entries.
+		 */
+		void clear() {
+			this.head.previous = this.head;
+			this.head.next = this.head;
+			this.size = 0;
+		}
+	}
+
+	/**
+	 * A count-min sketch estimating how frequently classes are requested. Each class is mapped to
+	 * four counters of four bits in a table of longs, each holding 16 counters. Its frequency is
+	 * the minimum of them. When the number of increments reaches ten times the size of the table,
+	 * all counters are halved.
+	 */
+	private static final class FrequencySketch {
+		// Seeds of the four hash functions.
+		private static final long[] SEEDS = { 0xC3A5C85C97CB3127L, 0xB492B66FBE98F273L,
+				0x9AE16A3B2F90404FL, 0xCBF29CE484222325L };
+		private static final long RESET_MASK = 0x7777777777777777L;
+
+		private final long[] table;
+		private final int tableMask;
+		private final int sampleSize;
+		private int increments;
+
+		/**
+		 * Initialize the sketch.
+		 *
+		 * @param expectedEntries The number of entries expected to be cached.
+		 */
+		FrequencySketch(long expectedEntries) {
+			int length = Integer.highestOneBit((int) Math.max(16L, Math.min(expectedEntries, 1L << 24)) - 1) << 1;
+			this.table = new long[length];
+			this.tableMask = length - 1;
+			this.sampleSize = 10 * length;
+		}
+
+		/**
+		 * Estimate the frequency of a class.
+		 *
+		 * @param hash The hash of the name of the class.
+		 * @return The estimated frequency, up to 15.
+		 */
+		int frequency(int hash) {
+			int start = (hash & 3) << 2;
+			int frequency = 15;
+			for (int a = 0; a < 4; a++) {
+				int count = (int) ((this.table[index(hash, a)] >>> ((start + a) << 2)) & 0xFL);
+				frequency = Math.min(frequency, count);
+			}
+			return frequency;
+		}
+
+		/**
+		 * Increment the counters of a class, unless they are saturated.
+		 *
+		 * @param hash The hash of the name of the class.
+		 */
+		void increment(int hash) {
+			int start = (hash & 3) << 2;
+			boolean incremented = false;
+			for (int a = 0; a < 4; a++) {
+				int index = index(hash, a);
+				int offset = (start + a) << 2;
+				if (((this.table[index] >>> offset) & 0xFL) != 0xFL) {
+					this.table[index] += 1L << offset;
+					incremented = true;
+				}
+			}
+			if (incremented && ++this.increments == this.sampleSize) {
+				for (int a = 0; a < this.table.length; a++) {
+					this.table[a] = (this.table[a] >>> 1) & RESET_MASK;
+				}
+				this.increments /= 2;
+			}
+		}
+
+		/**
+		 * Get the index of the long holding a counter of a class.
+		 *
+		 * @param hash The hash of the name of the class.
+		 * @param function The number of the hash function.
+		 * @return The index into the table.
+		 */
+		private int index(int hash, int function) {
+			long h = (hash + SEEDS[function]) * SEEDS[function];
+			h += h >>> 32;
+			return (int) h & this.tableMask;
+		}
+	}
+
+	/**
+	 * View of the class files of the cached entries.
+	 */
+	private final class ClassFileView extends AbstractCollection<ClassFile> {
+
+		/**
+		 * Get an iterator over the class files.
+		 *
+		 * @return The iterator.
+		 */
+		@Override
+		public Iterator<ClassFile> iterator() {
+			final Iterator<Node> nodes = ClassCache.this.entries.values().iterator();
+			return new Iterator<ClassFile>() {
+				@Override
+				public boolean hasNext() {
+					return nodes.hasNext();
+				}
+
+				@Override
+				public ClassFile next() {
+					return nodes.next().classFile;
+				}
+			};
+		}
+
+		/**
+		 * Get the number of class files.
+		 *
+		 * @return The number of cached classes.
+		 */
+		@Override
+		public int size() {
+			return ClassCache.this.entries.size();
+		}
+	}
+
+}
@@ -0,0 +1,362 @@
+package de.wwu.muggl.vm.loading;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+
+import org.apache.log4j.Level;
+
+import de.wwu.muggl.configuration.Globals;
+import de.wwu.muggl.vm.classfile.ClassFile;
+import de.wwu.muggl.vm.classfile.ClassFileException;
+import de.wwu.muggl.vm.classfile.ClassFileInput;
+
+/**
+ * Index of the class files on the class path of a {@link MugglClassLoader}. The class path is a
+ * list of roots, being jar files or directories. All of them are scanned in parallel when the
+ * index is built, and the names of the class files found are mapped to the first root containing
+ * them. Hence, looking up a class, whether it exists or not, is a single probe of a hash map.<br />
+ * <br />
+ * Jar files are opened once and kept open while any index uses them. They are shared by all
+ * indices, so class loaders with overlapping class paths, e.g. those of the workers of a parallel
+ * execution, do not open them again; a jar file is only reopened if it has been modified. The
+ * indices using a jar file are counted, and it is closed once the last of them has been
+ * released, see {@link #release()}. Directories are scanned recursively for each index. Class
+ * files added to them after the index has been built are not found until the class path of the
+ * class loader is updated.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+final class ClassPathIndex {
+	// The jar files opened by any index, by their canonical paths.
+	private static final Map<String, JarRoot> OPENED_JAR_FILES = new ConcurrentHashMap<String, JarRoot>();
+
+	// The roots of the class path that could be opened, in the order of their precedence.
+	private final List<Root> roots;
+	// The mapping of names of class files (e.g. java/lang/String.class) to their roots.
+	private final Map<String, Root> index;
+	private boolean released;
+
+	/**
+	 * Build the index of a class path.
+	 *
+	 * @param classPath The jar files and directories of the class path, in the order of their
+	 *        precedence. Entries that do not exist or cannot be read are skipped.
+	 */
+	ClassPathIndex(List<File> classPath) {
+		long start = System.nanoTime();
+		this.roots = classPath.parallelStream().map(ClassPathIndex::openRoot)
+				.filter(Objects::nonNull).collect(Collectors.toList());
+
+		int numberOfClassFiles = 0;
+		for (Root root : this.roots) {
+			numberOfClassFiles += root.names.length;
+		}
+		this.index = new HashMap<String, Root>(numberOfClassFiles * 4 / 3 + 1);
+		for (Root root : this.roots) {
+			for (String name : root.names) {
+				this.index.putIfAbsent(name, root);
+			}
+		}
+
+		if (Globals.getInst().logger.isDebugEnabled())
+			Globals.getInst().logger.debug("Indexed " + this.index.size() + " class files in "
+					+ this.roots.size() + " of " + classPath.size() + " class path entries in "
+					+ (System.nanoTime() - start) / 1000000L + " ms.");
+	}
+
+	/**
+	 * Load a class file from the first root of the class path that contains it.
+	 *
+	 * @param classLoader The MugglClassLoader the class is loaded by.
+	 * @param name The name of the class file, e.g. java/lang/String.class.
+	 * @return A ClassFile in case of success, null if the class path does not contain it.
+	 * @throws ClassFileException On fatal errors parsing the class file.
+	 * @throws IOException On fatal problems reading from the file system.
+	 */
+	ClassFile load(MugglClassLoader classLoader, String name) throws ClassFileException, IOException {
+		Root root = this.index.get(name);
+		if (root == null) return null;
+		return root.load(classLoader, name);
+	}
+
+	/**
+	 * Release the jar files of this index. A jar file is closed once no other index uses it. The
+	 * index must not be used afterwards. Releasing it again has no effect.
+	 */
+	synchronized void release() {
+		if (this.released) return;
+		this.released = true;
+		for (Root root : this.roots) {
+			if (root instanceof JarRoot) releaseJarFile((JarRoot) root);
+		}
+	}
+
+	/**
+	 * Getter for the number of class files on the class path.
+	 *
+	 * @return The number of distinct class files.
+	 */
+	int size() {
+		return this.index.size();
+	}
+
+	/**
+	 * Checks whether a file appears to be a jar file.
+	 *
+	 * @param filename The file to check.
+	 * @return true, if the file appears to be a jar file, false otherwise.
+	 */
+	static boolean isJarFile(String filename) {
+		if (!(filename.length() > 4)) {
+			return false;
+		}
+		String fn = filename.toLowerCase();
+		return fn.endsWith(".ear") || fn.endsWith(".jar") || fn.endsWith(".war");
+	}
+
+	/**
+	 * Open a root of the class path and list its class files.
+	 *
+	 * @param file The jar file or directory.
+	 * @return The root, or null if it does not exist or cannot be read.
+	 */
+	private static Root openRoot(File file) {
+		try {
+			if (file.isDirectory()) {
+				List<String> names = new ArrayList<String>();
+				listClassFiles(file, "", names);
+				return new DirectoryRoot(file, names.toArray(new String[names.size()]));
+			}
+			if (file.isFile() && isJarFile(file.getName())) {
+				return openJarFile(file);
+			}
+		} catch (IOException | UncheckedIOException e) {
+			if (Globals.getInst().logger.isEnabledFor(Level.WARN))
+				Globals.getInst().logger.warn("The class path entry " + file.getPath()
+						+ " cannot be read and will be skipped: " + e.getMessage());
+		}
+		return null;
+	}
+
+	/**
+	 * Get the shared root of a jar file, opening it if it has not been opened before or has been
+	 * modified since. The root is counted as used by one more index. A root replaced by reopening
+	 * the jar file stays open until the indices still using it have been released.
+	 *
+	 * @param file The jar file.
+	 * @return The root of the jar file.
+	 * @throws IOException If the jar file cannot be opened.
+	 */
+	private static JarRoot openJarFile(File file) throws IOException {
+		String path = file.getCanonicalPath();
+		long lastModified = file.lastModified();
+		long length = file.length();
+		return OPENED_JAR_FILES.compute(path, (key, opened) -> {
+			if (opened != null && opened.lastModified == lastModified && opened.length == length) {
+				opened.references++;
+				return opened;
+			}
+			try {
+				return new JarRoot(path, new JarFile(file), lastModified, length);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+
+	/**
+	 * Count a root of a jar file as used by one index less. It is closed if no index uses it
+	 * anymore.
+	 *
+	 * @param root The root of the jar file.
+	 */
+	private static void releaseJarFile(JarRoot root) {
+		OPENED_JAR_FILES.compute(root.path, (key, opened) -> {
+			if (--root.references > 0) return opened;
+			root.close();
+			return opened == root ? null : opened;
+		});
+	}
+
+	/**
+	 * List the class files in a directory and its sub-directories.
+	 *
+	 * @param directory The directory.
+	 * @param prefix The path of the directory relative to the root, ending with a slash unless it
+	 *        is the root itself.
+	 * @param names The list to add the names of the class files to.
+	 */
+	private static void listClassFiles(File directory, String prefix, List<String> names) {
+		File[] files = directory.listFiles();
+		if (files == null) return;
+		for (File file : files) {
+			String name = file.getName();
+			if (file.isDirectory()) {
+				listClassFiles(file, prefix + name + "/", names);
+			} else if (name.endsWith(".class")) {
+				names.add(prefix + name);
+			}
+		}
+	}
+
+	/**
+	 * A root of the class path.
+	 */
+	private abstract static class Root {
+		// The names of the class files of the root.
+		final String[] names;
+
+		/**
+		 * Initialize the root.
+		 *
+		 * @param names The names of the class files of the root.
+		 */
+		Root(String[] names) {
+			this.names = names;
+		}
+
+		/**
+		 * Load a class file of this root.
+		 *
+		 * @param classLoader The MugglClassLoader the class is loaded by.
+		 * @param name The name of the class file.
+		 * @return A ClassFile in case of success, null if the class file does not exist any more.
+		 * @throws ClassFileException On fatal errors parsing the class file.
+		 * @throws IOException On fatal problems reading from the file system.
+		 */
+		abstract ClassFile load(MugglClassLoader classLoader, String name)
+				throws ClassFileException, IOException;
+	}
+
+	/**
+	 * A jar file on the class path. It is kept open while any index uses it.
+	 */
+	private static final class JarRoot extends Root {
+		// The canonical path of the jar file, and the number of indices using it. The number is
+		// only changed while computing the entry of the path in OPENED_JAR_FILES.
+		final String path;
+		int references;
+		// The jar file, and the time of its last modification and its length when it was opened.
+		final JarFile jarFile;
+		final long lastModified;
+		final long length;
+
+		/**
+		 * Open the root of a jar file and list its class files. It is used by one index.
+		 *
+		 * @param path The canonical path of the jar file.
+		 * @param jarFile The jar file.
+		 * @param lastModified The time of the last modification of the jar file.
+		 * @param length The length of the jar file.
+		 */
+		JarRoot(String path, JarFile jarFile, long lastModified, long length) {
+			super(listClassFiles(jarFile));
+			this.path = path;
+			this.references = 1;
+			this.jarFile = jarFile;
+			this.lastModified = lastModified;
+			this.length = length;
+		}
+
+		/**
+		 * Close the jar file.
+		 */
+		void close() {
+			try {
+				this.jarFile.close();
+			} catch (IOException e) {
+				if (Globals.getInst().logger.isEnabledFor(Level.WARN))
+					Globals.getInst().logger.warn("The jar file " + this.path + " cannot be closed: "
+							+ e.getMessage());
+			}
+		}
+
+		/**
+		 * List the class files in a jar file.
+		 *
+		 * @param jarFile The jar file.
+		 * @return The names of the class files.
+		 */
+		private static String[] listClassFiles(JarFile jarFile) {
+			List<String> names = new ArrayList<String>();
+			Enumeration<JarEntry> entries = jarFile.entries();
+			while (entries.hasMoreElements()) {
+				String name = entries.nextElement().getName();
+				if (name.endsWith(".class")) names.add(name);
+			}
+			return names.toArray(new String[names.size()]);
+		}
+
+		/**
+		 * Load a class file of this jar file. The entry is read once into a buffer.
+		 *
+		 * @param classLoader The MugglClassLoader the class is loaded by.
+		 * @param name The name of the class file.
+		 * @return A ClassFile in case of success, null if the entry does not exist.
+		 * @throws ClassFileException On fatal errors parsing the class file.
+		 * @throws IOException On fatal problems reading from the jar file.
+		 */
+		@Override
+		ClassFile load(MugglClassLoader classLoader, String name) throws ClassFileException,
+				IOException {
+			JarEntry entry = this.jarFile.getJarEntry(name);
+			if (entry == null) return null;
+			ByteBuffer buffer;
+			try (InputStream is = this.jarFile.getInputStream(entry)) {
+				buffer = ClassFileInput.readStream(is, entry.getSize());
+			}
+			return new ClassFile(classLoader, buffer, this.jarFile.getName() + "|" + entry.getName());
+		}
+	}
+
+	/**
+	 * A directory on the class path.
+	 */
+	private static final class DirectoryRoot extends Root {
+		// The directory.
+		final File directory;
+
+		/**
+		 * Initialize the root of a directory.
+		 *
+		 * @param directory The directory.
+		 * @param names The names of its class files.
+		 */
+		DirectoryRoot(File directory, String[] names) {
+			super(names);
+			this.directory = directory;
+		}
+
+		/**
+		 * Load a class file of this directory.
+		 *
+		 * @param classLoader The MugglClassLoader the class is loaded by.
+		 * @param name The name of the class file.
+		 * @return A ClassFile in case of success, null if the file has been deleted.
+		 * @throws ClassFileException On fatal errors parsing the class file.
+		 * @throws IOException On fatal problems reading from the file system.
+		 */
+		@Override
+		ClassFile load(MugglClassLoader classLoader, String name) throws ClassFileException,
+				IOException {
+			File file = new File(this.directory, name);
+			if (!file.isFile()) return null;
+			return new ClassFile(classLoader, file);
+		}
+	}
+
+}
@@ -3,40 +3,46 @@ package de.wwu.muggl.vm.loading;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Enumeration;
-import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Set;
-import java.util.TreeMap;
-import java.util.jar.JarEntry;
-import java.util.jar.JarFile;
+import java.util.Objects;
 
 import de.wwu.muggl.configuration.Globals;
 import de.wwu.muggl.configuration.Options;
+import de.wwu.muggl.vm.UniverseSnapshot;
 import de.wwu.muggl.vm.classfile.ClassFile;
 import de.wwu.muggl.vm.classfile.ClassFileException;
 import de.wwu.muggl.vm.classfile.structures.Method;
+import de.wwu.muggl.vm.initialization.HeapJournal;
+import de.wwu.muggl.vm.initialization.InitializedClass;
 
 /**
  * The MuggleClassLoader replaces the standard java ClassLoader and loads any classes needed
- * within the virtual machine. It also caches.<br />
+ * within the virtual machine. It also caches them in a {@link ClassCache}, which may be bounded.
+ * The class loader may be shared by virtual machines running concurrently.<br />
  * <br />
- * There are four steps when loading a class:
+ * There are two steps when loading a class:
  * <ol>
  * <li>Try to fetch the class file from the already loaded classes. Loading a class requires file
  * system access, so its always worth searching through the list of loaded classes.</li>
- * <li>Try to find the class in the projects path. The projects path is stored in the first
- * entry of the class path. Any sub-directories are searched recursively.</li>
- * <li>Try to find the class in the java environment libraries. For this, all jar-files in the
- * /lib sub-directory of the java-home directory are opened and the desired class searched in
- * them. Sub-directories of /lib are not opened.</li>
- * <li>Search in the class path entries gradually. Class path entries may be both directories
- * as well as jar-files. If they are directories, the sub-directories of them are also opened
+ * <li>Look the class up in the index of the class path. It is built when the class loader is
+ * constructed or its class path is updated, see {@link ClassPathIndex}. It keeps the jar files of
+ * the class path open until the class loader is closed, see {@link #close()}. If a class is found
+ * in more than one of the following places, the first one takes precedence:
+ * <ol>
+ * <li>The projects path. It is stored in the first entry of the class path.</li>
+ * <li>The other class path entries, in their order. Class path entries may be both directories
+ * as well as jar-files. If they are directories, the sub-directories of them are also indexed
  * recursively.</li>
+ * <li>The java environment libraries. For this, all jar-files in the /lib sub-directory of the
+ * java-home directory are indexed. Sub-directories of /lib are not opened.</li>
+ * <li>Muggl's own class path.</li>
+ * </ol>
+ * </li>
  * </ol>
  * <br />
- * If the fourth step has been finished without a class being loaded, a ClassNotFoundException
+ * If the second step has been finished without a class being loaded, a ClassNotFoundException
  * is thrown. When executing a project thats class path has been set up correctly and has a
  * appropriate java-home directory specified, this should not happen if the project has been
  * compiled correctly.
@@ -44,22 +50,19 @@ import de.wwu.muggl.vm.classfile.structures.Method;
  * @author Tim Majchrzak
  * @version 1.0.0, 2010-03-18
  */
-public class MugglClassLoader extends ClassLoader {
+public class MugglClassLoader extends ClassLoader implements AutoCloseable {
 	// Fields.
 	/**
-	 * The mapping of class names to loaded class files.
+	 * The cache mapping class names to loaded class files.
 	 */
-	protected Map<String, ClassFile> loadedClasses;
-	private String[] classPathEntries;
+	protected final ClassCache loadedClasses;
+	private volatile String[] classPathEntries;
+	private volatile ClassPathIndex classPathIndex;
+	private volatile String indexedJavaHome;
 	private volatile long classesLoaded;
 	private volatile long classesInstantiated;
-	private boolean unlimitedCache;
-
-	// Optionally used fields.
-	private TreeMap<Long, ClassFile> classesAccessTime;
-	private long totalBytesUsedByClassFiles;
-	private long maximumClassLoaderCacheEntries;
-	private long maximumClassLoaderCacheByteSize;
+	private volatile UniverseSnapshot universeSnapshot;
+	private final HeapJournal heapJournal;
 
 	/**
 	 * Basic constructor.
@@ -73,20 +76,12 @@ public class MugglClassLoader extends ClassLoader {
 		}
 		
 		this.classPathEntries = classPathEntries;
-		this.loadedClasses = new HashMap<String, ClassFile>();
+		buildClassPathIndex();
+		this.loadedClasses = new ClassCache(Options.getInst().maximumClassLoaderCacheEntries,
+				Options.getInst().maximumClassLoaderCacheBytes);
 		this.classesLoaded = 0;
 		this.classesInstantiated = 0;
-
-		if (Options.getInst().maximumClassLoaderCacheEntries > -1
-				|| Options.getInst().maximumClassLoaderCacheBytes != 0) {
-			this.unlimitedCache = false;
-			this.classesAccessTime = new TreeMap<Long, ClassFile>();
-			this.totalBytesUsedByClassFiles = 0L;
-			this.maximumClassLoaderCacheEntries = Options.getInst().maximumClassLoaderCacheEntries;
-			this.maximumClassLoaderCacheByteSize = Options.getInst().maximumClassLoaderCacheBytes;
-		} else {
-			this.unlimitedCache = true;
-		}
+		this.heapJournal = new HeapJournal();
 	}
 
 	/**
@@ -199,12 +194,8 @@ public class MugglClassLoader extends ClassLoader {
 						Globals.getInst().logger.trace("The already cached class " + name
 								+ " will not be used and cleared from the cache.");
 					this.loadedClasses.remove(classFile.getName());
+					setUniverseSnapshot(null);
 				} else {
-					// Refresh the access setting if needed.
-					if (!this.unlimitedCache) {
-						this.classesAccessTime.put(System.nanoTime(), classFile);
-					}
-
 					// Do not add it - we already have it! It just has to be returned.
 					final String testfor = name;
 					Globals.getInst().logBasedOnWhiteBlacklist(testfor).ifPresent(x -> {
@@ -219,64 +210,12 @@ public class MugglClassLoader extends ClassLoader {
 			if (Globals.getInst().logger.isTraceEnabled())
 				Globals.getInst().logger.trace("The class loader is trying to load class " + name + ".");
 
-			// Splitting up the name...
-			String[] elements = name.replace(".", "/").split("/");
-			String[] path;
-			if (elements.length > 1) {
-				path = new String[elements.length - 1];
-				for (int a = 0; a < path.length; a++) {
-					path[a] = elements[a];
-				}
-			} else {
-				path = new String[0];
-			}
-			String className = elements[elements.length - 1] + ".class";
-
-			// Second attempt: find in the projects path
-			classFile = getClassFromProjectPath(name, path, className);
-			if (classFile != null) {
-				addToClassCache(classFile);
-				return classFile;
-			}
-			// FIXME: mxs done for overwriting system libs, switched positions
-			// Fourth attempt: find in the class path.
-			classFile = getClassFromClasspath(name, path, className);
-			if (classFile != null) {
-				addToClassCache(classFile);
-				return classFile;
-			}
-
-			// Third attempt: find in the java environments libraries.
-			classFile = getJavaEnvironmentClass(name.replace(".", "/") + ".class");
+			// Second attempt: find in the index of the class path.
+			classFile = getClassPathIndex().load(this, name.replace(".", "/") + ".class");
 			if (classFile != null) {
-				addToClassCache(classFile);
-				return classFile;
+				// Another thread might have loaded the class meanwhile. Its class file is used then.
+				return this.loadedClasses.putIfAbsent(classFile);
 			}
-
-
-			// Fifth attempt: find in Muggl's class path.
-			classFile = getClassFromMugglClasspath(name, path, className);
-			if (classFile != null) {
-				addToClassCache(classFile);
-				return classFile;
-			}
-
-			// Sixth attempt: Find in lib/solving.jar.
-//			try {
-//				File file = new File(Globals.BASE_DIRECTORY + "/lib/solving.jar");
-//				JarFile jarFile = new JarFile(file);
-//				String nameForJarFileSearch = name.replace(".", "/") + ".class";
-//				classFile = getFromJarFile(jarFile, nameForJarFileSearch);
-//				if (classFile != null) {
-//					addToClassCache(classFile);
-//					return classFile;
-//				}
-//			} catch (FileNotFoundException e) {
-//				throw new ClassFileException(
-//						"Loading of class " + name + " failed due to an Error on resolving "
-//						+ "the required library solving.jar from the /lib directory. The root cause is: "
-//						+ e.getMessage());
-//			}
 		} catch (ClassFileException e) {
 			throw new ClassFileException("Loading of class " + name
 					+ " failed due to an Error while parsing the file. The root cause is: "
@@ -359,9 +298,7 @@ public class MugglClassLoader extends ClassLoader {
 	 */
 	public boolean isClassLoaded(String name) {
 		name = prepareClassName(name);
-		if (findAlreadyLoadedClasses(name) != null)
-			return true;
-		return false;
+		return this.loadedClasses.contains(name);
 	}
 
 	/**
@@ -375,238 +312,83 @@ public class MugglClassLoader extends ClassLoader {
 	}
 
 	/**
-	 * Private method for the second attempt: finding a class in the project path.
-	 * @param name The full name of the class to find.
-	 * @param path String array holding the ordered names of the packages the class belongs to.
-	 * @param className The name of the class without any package information, but with a trailing ".class".
-	 * @return A ClassFile in case of success, null otherwise.
-	 * @throws ClassFileException Thrown on fatal errors loading or parsing a class file.
-	 * @throws IOException Thrown on fatal problems reading or writing to the file system.
+	 * Get the index of the class path. It is built again if it has been released.
+	 *
+	 * @return The index of the class path.
 	 */
-	private ClassFile getClassFromProjectPath(String name, String[] path, String className)
-			throws ClassFileException, IOException {
-		if (path.length == 0) {
-			path = new String[]{""};
-		}
-		
-		if (isJarFile(this.classPathEntries[0])) {
-			return getFromJarFile(new JarFile(new File(this.classPathEntries[0])),
-					name.replace(".", "/") + ".class");
+	private ClassPathIndex getClassPathIndex() {
+		ClassPathIndex classPathIndex = this.classPathIndex;
+		if (classPathIndex != null) return classPathIndex;
+		synchronized (this) {
+			if (this.classPathIndex == null) buildClassPathIndex();
+			return this.classPathIndex;
 		}
-		return searchClassInDirectory(new File(this.classPathEntries[0]), 0, path, className);
 	}
 
 	/**
-	 * Private method for the third attempt: finding a class in the libraries of the java environment.
-	 * @param name The full name of the class to find.
-	 * @return A ClassFile in case of success, null otherwise.
-	 * @throws ClassFileException Thrown on fatal errors loading or parsing a class file.
-	 * @throws IOException Thrown on fatal problems reading or writing to the file system.
+	 * Build the index of the class path. It consists of the class path entries, the libraries of
+	 * the java environment and Muggl's own class path, in the order of their precedence. The
+	 * previous index is released afterwards, so jar files still on the class path stay open.
 	 */
-	private ClassFile getJavaEnvironmentClass(String name) throws ClassFileException, IOException {
-		// list of all environment directories
-		ArrayList<File> javaHomeDirectories = new ArrayList<File>();
-		
-		// add Windows directory
-		javaHomeDirectories.add(new File(Options.getInst().javaHome + "/lib"));
-		// add OS X directory
-		javaHomeDirectories.add(new File(Options.getInst().javaHome + "/../Classes"));
+	private synchronized void buildClassPathIndex() {
+		List<File> classPath = new ArrayList<File>();
+		for (String classPathEntry : this.classPathEntries) {
+			classPath.add(new File(classPathEntry));
+		}
+
+		// Add the java environment libraries. Skip alternative libraries.
+		this.indexedJavaHome = Options.getInst().javaHome;
 		// TODO Linux? - find better solution for this
-				
-		ClassFile classFile = null;
-		File[] files;
-		
-		// try each directory
-		for (File javaHomeDirectory : javaHomeDirectories){
-			// try each file in directory
-			if (javaHomeDirectory.exists() && javaHomeDirectory.isDirectory()) {
-				files = javaHomeDirectory.listFiles();
-				for (int a = 0; a < files.length; a++) {
-					if (files[a].isFile()) {
-						// Skip alternative libraries
-						if (isJarFile(files[a].getName()) && !files[a].getName().startsWith("alt-")) {
-							classFile = getFromJarFile(new JarFile(files[a]), name);
-							if (classFile != null) break; 
-						}
-					}
+		File[] javaHomeDirectories = {
+				// Windows directory
+				new File(this.indexedJavaHome + "/lib"),
+				// OS X directory
+				new File(this.indexedJavaHome + "/../Classes") };
+		for (File javaHomeDirectory : javaHomeDirectories) {
+			File[] files = javaHomeDirectory.listFiles();
+			if (files == null) continue;
+			for (File file : files) {
+				if (file.isFile() && ClassPathIndex.isJarFile(file.getName())
+						&& !file.getName().startsWith("alt-")) {
+					classPath.add(file);
 				}
 			}
 		}
-		
-		return classFile;
-	}
 
-	/**
-	 * Private method for the fourth attempt: finding a class in the class path.
-	 *
-	 * @param name The full name of the class to find.
-	 * @param path String array holding the ordered names of the packages the class belongs to.
-	 * @param className The name of the class without any package information, but with a trailing
-	 *        ".class".
-	 * @return A ClassFile in case of success, null otherwise.
-	 * @throws ClassFileException Thrown on fatal errors loading or parsing a class file.
-	 * @throws IOException Thrown on fatal problems reading or writing to the file system.
-	 */
-	private ClassFile getClassFromClasspath(String name, String[] path, String className)
-			throws ClassFileException, IOException {
-		String nameForJarFileSearch = name.replace(".", "/") + ".class";
-		if (path.length == 0) {
-			path = new String[]{""};
-		}
-		for (int a = 1; a < this.classPathEntries.length; a++) {
-			if (isJarFile(this.classPathEntries[a])) {
-				ClassFile classFile = getFromJarFile(
-						new JarFile(new File(this.classPathEntries[a])), nameForJarFileSearch);
-				if (classFile != null) return classFile;
-			} else {
-				ClassFile classFile = searchClassInDirectory(new File(this.classPathEntries[a]), 0,
-						path, className);
-				if (classFile != null) return classFile;
-			}
+		/*
+		 * Add Muggl's running class path. Especially relevant for executing Newarray symbolically,
+		 * as it tries to resolve "de.wwu.muggl.solvers.expressions.Term", which is part of the
+		 * `solvers` subproject.
+		 */
+		for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+			if (!entry.isEmpty()) classPath.add(new File(entry));
 		}
-		return null;
-	}
 
-	/**
-	 * Private method for the fifth attempt: finding a class in Muggl's running class path.
-	 * Especially relevant for executing Newarray symbolically, as it tries to resolve "de.wwu.muggl.solvers.expressions.Term",
-	 * which is part of the `solvers` subproject.
-	 *
-	 * @param name The full name of the class to find.
-	 * @param path String array holding the ordered names of the packages the class belongs to.
-	 * @param className The name of the class without any package information, but with a trailing
-	 *        ".class".
-	 * @return A ClassFile in case of success, null otherwise.
-	 * @throws ClassFileException Thrown on fatal errors loading or parsing a class file.
-	 * @throws IOException Thrown on fatal problems reading or writing to the file system.
-	 */
-	private ClassFile getClassFromMugglClasspath(String name, String[] path, String className)
-			throws ClassFileException, IOException {
-		String nameForJarFileSearch = name.replace(".", "/") + ".class";
-		
-		String[] mugglClassPath = System.getProperty("java.class.path").split(":");
-		
-		for (String entry : mugglClassPath) {
-			if (isJarFile(entry)) {
-				ClassFile classFile = getFromJarFile(
-						new JarFile(new File(entry)), nameForJarFileSearch);
-				if (classFile != null) return classFile;
-			} else {
-				ClassFile classFile = searchClassInDirectory(new File(entry), 0,
-						path, className);
-				if (classFile != null) return classFile;
-			}
-		}
-		return null;
+		ClassPathIndex previousIndex = this.classPathIndex;
+		this.classPathIndex = new ClassPathIndex(classPath);
+		if (previousIndex != null) previousIndex.release();
 	}
 
 	/**
-	 * Browse a jar file for the desired class.
-	 * @param jarFile The jar file to browse.
-	 * @param name The full name of the class to find.
-	 * @return A ClassFile in case of success, null otherwise.
-	 * @throws ClassFileException Thrown on fatal errors loading or parsing a class file.
-	 * @throws IOException Thrown on fatal problems reading or writing to the file system.
+	 * Release the jar files of the class path. They are closed once no other class loader uses
+	 * them. This should be done as soon as the class loader is not needed anymore, e.g. when the
+	 * application it has been created for is cleaned up. If it is used nonetheless, the class path
+	 * is indexed again. Closing it again has no effect.
 	 */
-	private ClassFile getFromJarFile(JarFile jarFile, String name) throws ClassFileException, IOException {
-		Enumeration<JarEntry> entries = jarFile.entries();
-		while (entries.hasMoreElements()) {
-			/*
-			 * Just browse trough all entries, they probably will not be shown hierarchically or in
-			 * a sorted order.
-			 */
-			JarEntry entry = entries.nextElement();
-			if (entry != null && entry.getName().equals(name)) {
-				// Construct the full path to the class file.
-				String fullPath = jarFile.getName() + "|" + entry.getName();
-
-				// Return the ClassFile.
-				return new ClassFile(this, jarFile.getInputStream(entry), jarFile
-						.getInputStream(entry), entry.getSize(), fullPath);
-			}
-		}
-		return null;
-	}
-
-	/**
-	 * Checks whether a file appears to be a jar file.
-	 * @param filename The file to check.
-	 * @return true, if the file appears to be a jar file, false otherwise.
-	 */
-	private boolean isJarFile(String filename) {
-		if (!(filename.length() > 4 )) {
-			return false;
-		}
-		String fn = filename.toLowerCase();
-		return fn.endsWith(".ear") || fn.endsWith(".jar") || fn.endsWith(".war");
-	}
-
-	/**
-	 * Browse the specified directory for a class file.
-	 * @param directory The directory to browse.
-	 * @param pathPos The package that has to be matched in this attempt. Must be at least 0 and less than path.length.
-	 * @param path String array holding the ordered names of the packages the class belongs to.
-	 * @param className The name of the class without ay package information, but with a trailing ".class".
-	 * @return A ClassFile in case of success, null otherwise.
-	 * @throws ClassFileException Thrown on fatal errors loading or parsing a class file.
-	 * @throws IOException Thrown on fatal problems reading or writing to the file system.
-	 */
-	private ClassFile searchClassInDirectory(File directory, int pathPos, String[] path,
-			String className) throws ClassFileException, IOException {
-		if (directory == null || directory.listFiles() == null) return null;
-		File[] files = directory.listFiles();
-		for (int a = 0; a < files.length; a++) {
-			// No more deepening, we either get the file in this directory, or it is not there.
-			if (pathPos == path.length || path[pathPos].equals("")) {
-				if (files[a].isFile() && files[a].getName().equals(className)) return new ClassFile(this, files[a]);
-			} else if (files[a].isDirectory() && files[a].getName().equals(path[pathPos])) {
-				// recursive deepening
-				return searchClassInDirectory(files[a], pathPos + 1, path, className);
-			}
-		}
-		return null;
+	@Override
+	public synchronized void close() {
+		ClassPathIndex classPathIndex = this.classPathIndex;
+		this.classPathIndex = null;
+		if (classPathIndex != null) classPathIndex.release();
 	}
 
 	/**
-	 * Add a ClassFile to the cache of classes.
+	 * Getter for the class path entries.
 	 *
-	 * @param classFile The ClassFile to add.
-	 */
-	private void addToClassCache(ClassFile classFile) {
-		if (this.unlimitedCache) {
-			this.loadedClasses.put(classFile.getName(), classFile);
-		} else {
-			// Proceed at all?
-			if (this.maximumClassLoaderCacheEntries != 0) {
-				this.loadedClasses.put(classFile.getName(), classFile);
-
-				// Add to the access time cache.
-				this.classesAccessTime.put(System.nanoTime(), classFile);
-
-				// Count up the now used bytes.
-				this.totalBytesUsedByClassFiles += classFile.getByteLength();
-
-				/*
-				 * Check if the cache is full as too many bytes are used or the number of cached classes
-				 * is too high. Remove as many classes as needed to free it.
-				 */
-				while ((
-						(this.maximumClassLoaderCacheByteSize > 0 && this.totalBytesUsedByClassFiles > this.maximumClassLoaderCacheByteSize)
-						|| (this.maximumClassLoaderCacheEntries > -1 && this.loadedClasses.size() > this.maximumClassLoaderCacheEntries)
-						)
-						&& this.loadedClasses.size() > 0) {
-					Long key = this.classesAccessTime.firstKey();
-					ClassFile classFileToRemove = this.classesAccessTime.get(key);
-					this.loadedClasses.remove(classFileToRemove.getName());
-					this.classesAccessTime.remove(key);
-					this.totalBytesUsedByClassFiles -= classFileToRemove.getByteLength();
-					if (Globals.getInst().logger.isTraceEnabled())
-						Globals.getInst().logger.trace("The cached class "
-								+ classFileToRemove.getName()
-								+ " has been unloaded due to caching restrictions.");
-				}
-			}
-		}
+	 * @return The String array of class path entries.
+	 */
+	public String[] getClassPathEntries() {
+		return this.classPathEntries;
 	}
 
 	/**
@@ -637,8 +419,9 @@ public class MugglClassLoader extends ClassLoader {
 					}
 				}
 				// No mismatch and same number of entries?
-				if (!missmatch && classPathEntries.length == this.classPathEntries.length) {
-					// Everything is equal - no need to drop loaded classes!
+				if (!missmatch && classPathEntries.length == this.classPathEntries.length
+						&& Objects.equals(Options.getInst().javaHome, this.indexedJavaHome)) {
+					// Everything is equal - no need to drop loaded classes or to index the class path!
 					return;
 				}
 			} else {
@@ -649,37 +432,120 @@ public class MugglClassLoader extends ClassLoader {
 			if (missmatch) {
 				// Clear already loaded classes.
 				this.loadedClasses.clear();
+				setUniverseSnapshot(null);
 			}
 		}
 
-		// Set new classPathEntries.
+		// Set new classPathEntries and index them.
 		this.classPathEntries = classPathEntries;
+		buildClassPathIndex();
 	}
 
 	/**
 	 * Clear the cache of initialized classes.
 	 */
 	public void resetInitializedClassFileCache() {
-		Set<Entry<String, ClassFile>> entrySet = this.loadedClasses.entrySet();
-		for (Entry<String, ClassFile> entry : entrySet) {
-			entry.getValue().unloadInitializedClass();
+		for (ClassFile classFile : this.loadedClasses.values()) {
+			classFile.unloadInitializedClass();
+		}
+		this.loadedClasses.unpinClasses();
+	}
+
+	/**
+	 * Get a copy of the cache of initialized classes, e.g. to restore it later on.
+	 *
+	 * @return The mapping of loaded class files to their initialized classes. Class files that
+	 *         have not been initialized are not mapped.
+	 */
+	public Map<ClassFile, InitializedClass> getInitializedClassFileCache() {
+		Map<ClassFile, InitializedClass> initializedClasses = new IdentityHashMap<ClassFile, InitializedClass>();
+		for (ClassFile classFile : this.loadedClasses.values()) {
+			InitializedClass initializedClass = classFile.getInitializedClass();
+			if (initializedClass != null) initializedClasses.put(classFile, initializedClass);
 		}
+		return initializedClasses;
+	}
+
+	/**
+	 * Restore the cache of initialized classes. Loaded classes that are not mapped to an
+	 * initialized class are unloaded.
+	 *
+	 * @param initializedClasses The mapping of class files to their initialized classes.
+	 */
+	public void restoreInitializedClassFileCache(Map<ClassFile, InitializedClass> initializedClasses) {
+		for (ClassFile classFile : this.loadedClasses.values()) {
+			InitializedClass initializedClass = initializedClasses.get(classFile);
+			if (initializedClass == null) {
+				classFile.unloadInitializedClass();
+			} else {
+				classFile.putInitializedClass(initializedClass);
+			}
+		}
+		this.loadedClasses.unpinClasses();
+	}
+
+	/**
+	 * Getter for the journal of the heap of virtual machines using this class loader, i.e. of its
+	 * initialized classes and the objects and arrays of its classes.
+	 *
+	 * @return The heap journal.
+	 */
+	public HeapJournal getHeapJournal() {
+		return this.heapJournal;
+	}
+
+	/**
+	 * Getter for the snapshot of the universe of virtual machines using this class loader.
+	 *
+	 * @return The snapshot of the universe; or null, if there is none.
+	 */
+	public UniverseSnapshot getUniverseSnapshot() {
+		return this.universeSnapshot;
+	}
+
+	/**
+	 * Setter for the snapshot of the universe of virtual machines using this class loader. It is
+	 * dropped whenever loaded classes are removed from the cache. Dropping it stops the heap
+	 * journal.
+	 *
+	 * @param universeSnapshot The snapshot of the universe; or null, to drop it.
+	 */
+	public void setUniverseSnapshot(UniverseSnapshot universeSnapshot) {
+		this.universeSnapshot = universeSnapshot;
+		if (universeSnapshot == null) this.heapJournal.stop();
+	}
+
+	/**
+	 * Check whether the cache of loaded classes is unlimited, i.e. whether loaded classes are only
+	 * removed from it on request.
+	 *
+	 * @return true, if the cache is unlimited, false otherwise.
+	 */
+	public boolean hasUnlimitedCache() {
+		return this.loadedClasses.isUnbounded();
+	}
+
+	/**
+	 * Getter for the cache of loaded classes, e.g. to query its statistics.
+	 *
+	 * @return The cache of loaded classes.
+	 */
+	public ClassCache getClassCache() {
+		return this.loadedClasses;
 	}
 
 	/**
 	 * Undo any optimizations done at the level of class file structured, especially by replacing
-	 * byte code with optimized code. This operation is working in an own thread, yet it is blocking
-	 * the class cache. For a large number of classes loaded, it might take a while to complete.
+	 * byte code with optimized code. This operation is working in an own thread. For a large number
+	 * of classes loaded, it might take a while to complete.
 	 */
 	public void undoOptimizations() {
 		// Create the new Runnable...
 		Runnable runner = new Runnable() {
 			public void run() {
-				synchronized (MugglClassLoader.this.loadedClasses) {
-					for (ClassFile classFile : MugglClassLoader.this.loadedClasses.values()) {
-						for (Method method : classFile.getMethods()) {
-							method.resetReplacedInstructions();
-						}
+				for (ClassFile classFile : MugglClassLoader.this.loadedClasses.values()) {
+					for (Method method : classFile.getMethods()) {
+						method.resetReplacedInstructions();
 					}
 				}
 			}
@@ -692,19 +558,16 @@ public class MugglClassLoader extends ClassLoader {
 
 	/**
 	 * Unload any cached instructions from methods of class files. This should be done any time byte
-	 * code level optimization settings are changed. This operation is working in an own thread, yet
-	 * it is blocking the class cache. For a large number of classes loaded, it might take a while
-	 * to complete.
+	 * code level optimization settings are changed. This operation is working in an own thread. For
+	 * a large number of classes loaded, it might take a while to complete.
 	 */
 	public void unloadAllInstructions() {
 		// Create the new Runnable...
 		Runnable runner = new Runnable() {
 			public void run() {
-				synchronized (MugglClassLoader.this.loadedClasses) {
-					for (ClassFile classFile : MugglClassLoader.this.loadedClasses.values()) {
-						for (Method method : classFile.getMethods()) {
-							method.unloadInstructions();
-						}
+				for (ClassFile classFile : MugglClassLoader.this.loadedClasses.values()) {
+					for (Method method : classFile.getMethods()) {
+						method.unloadInstructions();
 					}
 				}
 			}
@@ -749,6 +612,16 @@ public class MugglClassLoader extends ClassLoader {
 		this.classesInstantiated = 0L;
 	}
 
+	/**
+	 * Set the number of instantiated classes. This should only be done when restoring the objects
+	 * instantiated up to that number, e.g. from a {@link UniverseSnapshot}.
+	 *
+	 * @param classesInstantiated The number of instantiated classes.
+	 */
+	public synchronized void restoreInstantiationNumber(long classesInstantiated) {
+		this.classesInstantiated = classesInstantiated;
+	}
+
 	/**
 	 * Getter for the number of classes loaded.
 	 * @return The number of classes loaded.
@@ -780,10 +653,9 @@ public class MugglClassLoader extends ClassLoader {
 		if (classFile.getClassLoader() != this)
 			throw new IllegalArgumentException(
 					"Only class files thats classloader is this can be added to the classes' cache.");
-		if (this.loadedClasses.containsKey(classFile.getName()))
+		if (this.loadedClasses.putIfAbsent(classFile) != classFile)
 			throw new IllegalArgumentException(
 					"The supplied class file has been loaded by this classloader. It cannot be overwritten.");
-		addToClassCache(classFile);
 	}
 
 }
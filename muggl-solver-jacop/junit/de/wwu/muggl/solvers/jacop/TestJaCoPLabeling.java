@@ -0,0 +1,119 @@
+package de.wwu.muggl.solvers.jacop;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import de.wwu.muggl.solvers.Solution;
+import de.wwu.muggl.solvers.expressions.ConstraintExpression;
+import de.wwu.muggl.solvers.expressions.Expression;
+import de.wwu.muggl.solvers.expressions.GreaterOrEqual;
+import de.wwu.muggl.solvers.expressions.IntConstant;
+import de.wwu.muggl.solvers.expressions.LessOrEqual;
+import de.wwu.muggl.solvers.expressions.NumericEqual;
+import de.wwu.muggl.solvers.expressions.NumericVariable;
+import de.wwu.muggl.solvers.expressions.Product;
+import de.wwu.muggl.solvers.expressions.Sum;
+
+/**
+ * Checks that deciding hasSolution() by a bounded labeling search gives the same answers as
+ * searching for a solution without a bound, that the witnesses found are reused by the levels
+ * above, and that a search cut off by its backtrack limit assumes a solution.
+ *
+ * @author agent
+ *
+ */
+public class TestJaCoPLabeling {
+	NumericVariable x;
+	NumericVariable y;
+
+	@Before
+	public void setUp() throws Exception {
+		x = new NumericVariable("x", Expression.INT, false);
+		y = new NumericVariable("y", Expression.INT, false);
+	}
+
+	@Test
+	public final void testLabelingMatchesSearch() throws Exception {
+		// Propagation alone does not find that x and y cannot both be equal and sum up to one.
+		List<ConstraintExpression> constraints = Arrays.asList(
+				GreaterOrEqual.newInstance(x, IntConstant.getInstance(0)),
+				LessOrEqual.newInstance(x, IntConstant.getInstance(1)),
+				GreaterOrEqual.newInstance(y, IntConstant.getInstance(0)),
+				LessOrEqual.newInstance(y, IntConstant.getInstance(1)),
+				NumericEqual.newInstance(Sum.newInstance(x, y), IntConstant.getInstance(1)),
+				NumericEqual.newInstance(x, y));
+
+		JaCoPSolverManager labeling = getSolverManager(true, 1000L);
+		for (int a = 0; a < constraints.size(); a++) {
+			labeling.addConstraint(constraints.get(a));
+			assertEquals(hasSolutionBySearch(constraints.subList(0, a + 1)), labeling.hasSolution());
+		}
+		assertFalse(labeling.hasSolution());
+
+		// After backtracking, the witness of a lower level decides the levels above it.
+		labeling.removeConstraint();
+		labeling.removeConstraint();
+		assertTrue(labeling.hasSolution());
+		long searches = labeling.getLabelingSearches();
+		labeling.addConstraint(GreaterOrEqual.newInstance(Sum.newInstance(x, y), IntConstant.getInstance(0)));
+		assertTrue(labeling.hasSolution());
+		assertEquals(searches, labeling.getLabelingSearches());
+		assertTrue(labeling.getWitnessesReused() > 0);
+	}
+
+	@Test
+	public final void testBacktrackLimit() throws Exception {
+		// 2x = 2y + 1 has no integer solution, which labeling finds by trying every value of x.
+		List<ConstraintExpression> constraints = Arrays.asList(
+				GreaterOrEqual.newInstance(x, IntConstant.getInstance(0)),
+				LessOrEqual.newInstance(x, IntConstant.getInstance(100)),
+				GreaterOrEqual.newInstance(y, IntConstant.getInstance(0)),
+				LessOrEqual.newInstance(y, IntConstant.getInstance(100)),
+				NumericEqual.newInstance(Product.newInstance(IntConstant.getInstance(2), x),
+						Sum.newInstance(Product.newInstance(IntConstant.getInstance(2), y),
+								IntConstant.getInstance(1))));
+		assertFalse(hasSolutionBySearch(constraints));
+
+		JaCoPSolverManager bounded = getSolverManager(true, 1000L);
+		JaCoPSolverManager cutOff = getSolverManager(true, 2L);
+		for (ConstraintExpression constraint : constraints) {
+			bounded.addConstraint(constraint);
+			cutOff.addConstraint(constraint);
+		}
+		assertFalse(bounded.hasSolution());
+		// Reaching the limit is not decisive, so a solution is assumed as without labeling.
+		assertTrue(cutOff.hasSolution());
+		assertEquals(1L, cutOff.getLabelingSearches());
+	}
+
+	/**
+	 * Search for a solution of the constraints without a bound, by a solver manager that decides
+	 * hasSolution() by propagation only.
+	 */
+	private boolean hasSolutionBySearch(List<ConstraintExpression> constraints) throws Exception {
+		JaCoPSolverManager solverManager = getSolverManager(false, 0L);
+		for (ConstraintExpression constraint : constraints) {
+			solverManager.addConstraint(constraint);
+		}
+		boolean solvable = !solverManager.getSolution().equals(Solution.NOSOLUTION);
+		// Labeling only adds to propagation.
+		if (solvable) assertTrue(solverManager.hasSolution());
+		assertEquals(0L, solverManager.getLabelingSearches());
+		return solvable;
+	}
+
+	private JaCoPSolverManager getSolverManager(boolean labeling, long labelingBacktracks) {
+		JaCoPSolverManager solverManager = new JaCoPSolverManager();
+		solverManager.labeling = labeling;
+		solverManager.labelingBacktracks = labelingBacktracks;
+		return solverManager;
+	}
+
+}
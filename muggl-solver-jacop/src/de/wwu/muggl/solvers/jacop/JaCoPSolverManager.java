@@ -1,5 +1,7 @@
 package de.wwu.muggl.solvers.jacop;
 
+import java.util.ArrayList;
+
 import org.apache.log4j.Logger;
 import org.jacop.core.Domain;
 import org.jacop.core.IntDomain;
@@ -57,6 +59,27 @@ public class JaCoPSolverManager implements SolverManager {
 
 	private long totalConstraintsChecked = 0L;
 
+	/**
+	 * Whether hasSolution() runs a bounded labeling search after propagation, and the maximum
+	 * number of backtracks of that search.
+	 */
+	protected boolean labeling;
+	protected long labelingBacktracks;
+
+	/**
+	 * The constraint imposed at each store level and the witness known for it, if any. The
+	 * entries for level n are stored at index n - 1. A witness is an assignment satisfying the
+	 * constraints up to its level.
+	 */
+	private ArrayList<ConstraintExpression> constraints;
+	private ArrayList<Solution> witnesses;
+
+	/**
+	 * Statistics of the bounded labeling.
+	 */
+	private long witnessesReused = 0L;
+	private long labelingSearches = 0L;
+
 	/**
 	 * Creates a new Solver Manager object and initializes it with a stream that
 	 * collects the logging informations if wanted.
@@ -72,6 +95,11 @@ public class JaCoPSolverManager implements SolverManager {
 
 		jacopStore = new JacopMugglStore();
 
+		labeling = solverConf.getJaCoPLabeling();
+		labelingBacktracks = solverConf.getJaCoPLabelingBacktracks();
+		constraints = new ArrayList<ConstraintExpression>();
+		witnesses = new ArrayList<Solution>();
+
 		listeners = new SolverManagerListenerList();
 		for (SolverManagerListener listener : solverConf.getListeners()) {
 			listeners.addListener(listener);
@@ -95,6 +123,8 @@ public class JaCoPSolverManager implements SolverManager {
 
 		jacopStore.setLevel(jacopStore.level + 1);
 		JaCoPTransformer.transformAndImpose(ce, jacopStore);
+		constraints.add(ce);
+		witnesses.add(null);
 
 		listeners.fireAddConstraint(this, ce, null);
 
@@ -108,11 +138,10 @@ public class JaCoPSolverManager implements SolverManager {
 	}
 
 	@Override
-	public void finalize() throws Throwable {
+	public void shutdown() throws Throwable {
 		listeners.fireFinalize(this);
 		finalized = true;
 		TesttoolConfig.getInstance().finalize();
-		super.finalize();
 	}
 
 	/**
@@ -194,23 +223,7 @@ public class JaCoPSolverManager implements SolverManager {
 			result = Solution.NOSOLUTION;
 		} else {
 			result = new Solution();
-			Domain[] solution = search.getSolution();
-			Var[] variables = search.getVariables();
-			for (int i = 0; i < solution.length; i++) {
-				Variable variable = jacopStore.getVariable(variables[i]);
-				if (variable == null) {
-					continue;
-				}
-
-				if (solution[i] instanceof IntDomain) {
-					result.addBinding(variable, NumericConstant.getInstance(
-						((IntDomain) solution[i]).min(), NumericConstant.INT));
-				} else {
-					result.addBinding(variable, DoubleConstant.getInstance(
-						((FloatDomain) solution[i]).min()));
-				}
-			}
-
+			addBindings(result, search);
 		}
 		listeners.fireGetSolutionFinished(this, result,
 				System.nanoTime() - startTime);
@@ -218,10 +231,40 @@ public class JaCoPSolverManager implements SolverManager {
 
 	}
 
+	/**
+	 * Adds the bindings of the last solution found by a search to a Muggl
+	 * solution. Variables without a Muggl correspondence are skipped.
+	 * 
+	 * @param result
+	 *            the solution to add the bindings to.
+	 * @param search
+	 *            the search that found a solution.
+	 */
+	private void addBindings(Solution result, Search<?> search) {
+		Domain[] solution = search.getSolution();
+		Var[] variables = search.getVariables();
+		for (int i = 0; i < solution.length; i++) {
+			Variable variable = jacopStore.getVariable(variables[i]);
+			if (variable == null) {
+				continue;
+			}
+
+			if (solution[i] instanceof IntDomain) {
+				result.addBinding(variable, NumericConstant.getInstance(
+					((IntDomain) solution[i]).min(), NumericConstant.INT));
+			} else {
+				result.addBinding(variable, DoubleConstant.getInstance(
+					((FloatDomain) solution[i]).min()));
+			}
+		}
+	}
+
 	/**
 	 * Checks whether a solution exists for the system of constraints stored in
 	 * the current constraint set by using the consistency() method of the
-	 * JaCoP store. 
+	 * JaCoP store. Propagation alone is not complete, so if bounded labeling
+	 * is enabled (see {@link SolverManagerConfig#getJaCoPLabeling()}), a
+	 * consistent store is checked by {@link #hasSolutionByLabeling()} as well.
 	 * 
 	 * @return <i>true</i> if a solution for the given problem exists,
 	 *         <i>false</i> if definitively no solution satisfies the
@@ -251,6 +294,9 @@ public class JaCoPSolverManager implements SolverManager {
 		// automatically mean
 		// that the store is consistent."(JaCoP Guide, Ch. 2, p. 12)
 		boolean result = jacopStore.consistency();
+		if (result && labeling) {
+			result = hasSolutionByLabeling();
+		}
 
 		listeners.fireHasSolutionFinished(this, result,
 				System.nanoTime() - startTime);
@@ -260,6 +306,100 @@ public class JaCoPSolverManager implements SolverManager {
 
 	}
 
+	/**
+	 * Decides whether the consistent store has a solution by a bounded
+	 * labeling search at the current level.
+	 * 
+	 * The witness of a lower level is reused if it satisfies the constraints
+	 * imposed above that level, which is the case for most branches. Otherwise,
+	 * a labeling search without assigning its solution is run. If it finds a
+	 * solution, it becomes the witness of the current level. If the search
+	 * reaches its backtrack limit, the store is assumed to have a solution, as
+	 * it would without labeling.
+	 * 
+	 * @return <i>false</i> if the labeling search proved that there is no
+	 *         solution, <i>true</i> otherwise.
+	 */
+	private boolean hasSolutionByLabeling() {
+		int level = constraints.size();
+
+		// Find the witness of the highest level and check the constraints imposed above it.
+		int witnessLevel = level;
+		while (witnessLevel > 0 && witnesses.get(witnessLevel - 1) == null) {
+			witnessLevel--;
+		}
+		if (witnessLevel > 0) {
+			Solution witness = witnesses.get(witnessLevel - 1);
+			int satisfiedLevel = witnessLevel;
+			while (satisfiedLevel < level && constraints.get(satisfiedLevel).verifySolution(witness)) {
+				satisfiedLevel++;
+			}
+			if (satisfiedLevel == level) {
+				for (int i = witnessLevel; i < level; i++) {
+					witnesses.set(i, witness);
+				}
+				witnessesReused++;
+				if (logger.isTraceEnabled())
+					logger.trace("hasSolution: reused the witness of level " + witnessLevel);
+				return true;
+			}
+		}
+
+		IntVar[] vars = jacopStore.getIntVariables();
+		FloatVar[] floatVars = jacopStore.getFloatVariables();
+		if (vars.length == 0 && floatVars.length == 0) {
+			// Propagation is decisive without variables.
+			return true;
+		}
+		labelingSearches++;
+
+		DepthFirstSearch<IntVar> labelInt = null;
+		DepthFirstSearch<FloatVar> labelFloat = null;
+		if (floatVars.length > 0) {
+			labelFloat = new DepthFirstSearch<FloatVar>();
+			labelFloat.setPrintInfo(false);
+			labelFloat.setAssignSolution(false);
+			labelFloat.setBacktracksOut(labelingBacktracks);
+		}
+		if (vars.length > 0) {
+			labelInt = new DepthFirstSearch<IntVar>();
+			labelInt.setPrintInfo(false);
+			labelInt.setAssignSolution(false);
+			labelInt.setBacktracksOut(labelingBacktracks);
+		}
+
+		boolean solutionFound;
+		if (labelInt != null) {
+			SelectChoicePoint<IntVar> select = new SimpleSelect<IntVar>(vars,
+					new SmallestDomain<IntVar>(), new IndomainMin<IntVar>());
+			if (labelFloat != null) {
+				// Sequential search, as in getSolution().
+				labelFloat.setSelectChoicePoint(new SplitSelectFloat<FloatVar>(
+						jacopStore, floatVars, new SmallestDomainFloat<FloatVar>()));
+				labelInt.addChildSearch(labelFloat);
+			}
+			solutionFound = labelInt.labeling(jacopStore, select);
+		} else {
+			solutionFound = labelFloat.labeling(jacopStore, new SplitSelectFloat<FloatVar>(
+					jacopStore, floatVars, new SmallestDomainFloat<FloatVar>()));
+		}
+
+		if (solutionFound) {
+			Solution witness = new Solution();
+			if (labelInt != null) addBindings(witness, labelInt);
+			if (labelFloat != null) addBindings(witness, labelFloat);
+			witnesses.set(level - 1, witness);
+			return true;
+		}
+
+		// Without a solution, the search is only decisive if it has not been cut off.
+		boolean cutOff = (labelInt != null && labelInt.getBacktracks() >= labelingBacktracks)
+				|| (labelFloat != null && labelFloat.getBacktracks() >= labelingBacktracks);
+		if (logger.isDebugEnabled())
+			logger.debug("hasSolution: labeling " + (cutOff ? "reached its backtrack limit" : "found no solution"));
+		return cutOff;
+	}
+
 	/**
 	 * Removes the lastly added constraint from the constraint stack.
 	 * Uses JaCoP's backtracking mechanism to achieve this.
@@ -271,6 +411,8 @@ public class JaCoPSolverManager implements SolverManager {
 		}
 		jacopStore.removeLevel(jacopStore.level);
 		jacopStore.setLevel(jacopStore.level - 1);
+		constraints.remove(constraints.size() - 1);
+		witnesses.remove(witnesses.size() - 1);
 
 		listeners.fireConstraintRemoved(this);
 
@@ -299,7 +441,11 @@ public class JaCoPSolverManager implements SolverManager {
 		// Assumption: Level is always raised before adding a constraint.
 		// Therefore, there are no constraints at level 0 that would need to be
 		// removed.
+		constraints.clear();
+		witnesses.clear();
 		totalConstraintsChecked = 0;
+		witnessesReused = 0;
+		labelingSearches = 0;
 	}
 
 	private void addShutdownHook() {
@@ -331,6 +477,25 @@ public class JaCoPSolverManager implements SolverManager {
 		return totalConstraintsChecked; //jacopStore.numberConstraints();
 	}
 
+	/**
+	 * Getter for the number of hasSolution() checks decided by reusing the
+	 * witness of a lower level instead of a labeling search.
+	 * 
+	 * @return The number of reused witnesses.
+	 */
+	public long getWitnessesReused() {
+		return witnessesReused;
+	}
+
+	/**
+	 * Getter for the number of labeling searches run by hasSolution().
+	 * 
+	 * @return The number of labeling searches.
+	 */
+	public long getLabelingSearches() {
+		return labelingSearches;
+	}
+
 	/**
 	 * Reset the statistical counter in this class. Added 2008.02.05
 	 */
@@ -0,0 +1,167 @@
+package de.wwu.testtool.solver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import de.wwu.muggl.solvers.Solution;
+import de.wwu.muggl.solvers.expressions.ConstraintExpression;
+import de.wwu.muggl.solvers.expressions.Difference;
+import de.wwu.muggl.solvers.expressions.Expression;
+import de.wwu.muggl.solvers.expressions.GreaterOrEqual;
+import de.wwu.muggl.solvers.expressions.IntConstant;
+import de.wwu.muggl.solvers.expressions.LessOrEqual;
+import de.wwu.muggl.solvers.expressions.NumericConstant;
+import de.wwu.muggl.solvers.expressions.NumericVariable;
+import de.wwu.muggl.solvers.expressions.Sum;
+import de.wwu.muggl.solvers.solver.constraints.SingleConstraint;
+import de.wwu.muggl.solvers.solver.tools.SubstitutionTable;
+
+/**
+ * Checks that the solver manager of muconst keeps solvers alive and only pushes and pops the
+ * constraints they differ in, that it caches the solutions of constraint sets, and that asking for
+ * the existence of a solution gives the same answers as building solutions, also after
+ * backtracking.
+ *
+ * @author agent
+ *
+ */
+public class TestOldSolverManagerSolver {
+	OldSolverManagerSolver solver;
+	SubstitutionTable substitutionTable;
+	NumericVariable x;
+	NumericVariable y;
+
+	@Before
+	public void setUp() throws Exception {
+		solver = new OldSolverManagerSolver(new SolverManagerNew());
+		solver.parallelComponents = false;
+		substitutionTable = new SubstitutionTable();
+		x = new NumericVariable("x", Expression.INT, false);
+		y = new NumericVariable("y", Expression.INT, false);
+	}
+
+	@Test
+	public final void testHasSolutionBuildsNoSolution() throws Exception {
+		addConstraint(GreaterOrEqual.newInstance(Sum.newInstance(x, y), IntConstant.getInstance(10)));
+		addConstraint(LessOrEqual.newInstance(Difference.newInstance(x, y), IntConstant.getInstance(2)));
+		assertTrue(solver.hasSolution());
+
+		// The simplex solver has only checked feasibility.
+		assertTrue(solver.componentCache.isEmpty());
+		assertEquals(1, solver.liveSolvers.size());
+		assertEquals(2, solver.liveSolvers.get(0).constraints.size());
+		assertFalse(solver.liveSolvers.get(0).inUse);
+
+		assertFalse(solver.getSolution().equals(Solution.NOSOLUTION));
+		assertEquals(1, solver.componentCache.size());
+	}
+
+	@Test
+	public final void testLiveSolverPushesAndPopsDelta() throws Exception {
+		addConstraint(GreaterOrEqual.newInstance(Sum.newInstance(x, y), IntConstant.getInstance(10)));
+		addConstraint(LessOrEqual.newInstance(Difference.newInstance(x, y), IntConstant.getInstance(2)));
+		assertTrue(solver.hasSolution());
+		OldSolverManagerSolver.LiveSolver liveSolver = solver.liveSolvers.get(0);
+
+		// One level deeper, the live solver is reused and only gets the new constraint.
+		addConstraint(GreaterOrEqual.newInstance(x, IntConstant.getInstance(7)));
+		assertTrue(solver.hasSolution());
+		assertEquals(1, solver.liveSolvers.size());
+		assertSame(liveSolver, solver.liveSolvers.get(0));
+		assertEquals(3, liveSolver.constraints.size());
+		SingleConstraint third = liveSolver.constraints.get(2);
+
+		// After backtracking to another branch, only the last constraint is replaced.
+		removeConstraint();
+		addConstraint(LessOrEqual.newInstance(x, IntConstant.getInstance(3)));
+		assertTrue(solver.hasSolution());
+		assertSame(liveSolver, solver.liveSolvers.get(0));
+		assertEquals(3, liveSolver.constraints.size());
+		assertFalse(third.equals(liveSolver.constraints.get(2)));
+	}
+
+	@Test
+	public final void testBacktrackAndRequery() throws Exception {
+		ConstraintExpression[] constraints = new ConstraintExpression[] {
+				GreaterOrEqual.newInstance(Sum.newInstance(x, y), IntConstant.getInstance(10)),
+				LessOrEqual.newInstance(Difference.newInstance(x, y), IntConstant.getInstance(2)),
+				LessOrEqual.newInstance(y, IntConstant.getInstance(3)),
+				GreaterOrEqual.newInstance(x, IntConstant.getInstance(0)) };
+		boolean[] expected = new boolean[] { true, true, false, false };
+		for (int a = 0; a < constraints.length; a++) {
+			addConstraint(constraints[a]);
+			assertEquals(expected[a], solver.hasSolution());
+			assertEquals(expected[a], !solver.getSolution().equals(Solution.NOSOLUTION));
+		}
+
+		// Backtrack and take the other branches, asking before building a solution.
+		for (int a = constraints.length - 1; a > 0; a--) {
+			removeConstraint();
+			assertEquals(expected[a - 1], solver.hasSolution());
+		}
+		addConstraint(GreaterOrEqual.newInstance(y, IntConstant.getInstance(4)));
+		assertTrue(solver.hasSolution());
+		Solution solution = solver.getSolution();
+		assertFalse(solution.equals(Solution.NOSOLUTION));
+		int valueOfX = ((NumericConstant) solution.getValue(x)).getIntValue();
+		int valueOfY = ((NumericConstant) solution.getValue(y)).getIntValue();
+		assertTrue(valueOfY >= 4);
+		assertTrue(valueOfX + valueOfY >= 10);
+	}
+
+	@Test
+	public final void testComponentCache() throws Exception {
+		ConstraintExpression first = GreaterOrEqual.newInstance(Sum.newInstance(x, y), IntConstant.getInstance(10));
+		ConstraintExpression second = GreaterOrEqual.newInstance(x, IntConstant.getInstance(7));
+		addConstraint(first);
+		addConstraint(second);
+		Solution solution = solver.getSolution();
+		assertEquals(1, solver.componentCache.size());
+
+		// The same set on another path is answered from the cache without any solver.
+		removeConstraint();
+		removeConstraint();
+		solver.liveSolvers.clear();
+		addConstraint(second);
+		addConstraint(first);
+		Solution cachedSolution = solver.getSolution();
+		assertTrue(solver.liveSolvers.isEmpty());
+		assertEquals(solution.toString(), cachedSolution.toString());
+		// Cached solutions are never handed out themselves.
+		assertNotSame(solution, cachedSolution);
+	}
+
+	@Test
+	public final void testContradictorySetCached() throws Exception {
+		ConstraintExpression contradiction = LessOrEqual.newInstance(y, IntConstant.getInstance(3));
+		addConstraint(GreaterOrEqual.newInstance(Sum.newInstance(x, y), IntConstant.getInstance(10)));
+		addConstraint(LessOrEqual.newInstance(Difference.newInstance(x, y), IntConstant.getInstance(2)));
+		addConstraint(contradiction);
+		assertFalse(solver.hasSolution());
+
+		// Taking the contradicting branch again needs no solver.
+		removeConstraint();
+		solver.liveSolvers.clear();
+		addConstraint(contradiction);
+		assertFalse(solver.hasSolution());
+		assertTrue(solver.liveSolvers.isEmpty());
+		assertEquals(Solution.NOSOLUTION, solver.getSolution());
+	}
+
+	private void addConstraint(ConstraintExpression constraintExpression) {
+		solver.addConstraint(constraintExpression.convertToComposedConstraint(substitutionTable));
+		substitutionTable.signalStackElementAdded();
+	}
+
+	private void removeConstraint() {
+		solver.removeConstraint();
+		substitutionTable.signalStackElementRemoved();
+	}
+
+}
@@ -0,0 +1,90 @@
+package de.wwu.testtool.solver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import de.wwu.muggl.solvers.Solution;
+import de.wwu.muggl.solvers.expressions.ConstraintExpression;
+import de.wwu.muggl.solvers.solver.tools.SubstitutionTable;
+import de.wwu.testtool.test.Constant;
+import de.wwu.testtool.test.DiplomaThesisProblems;
+import de.wwu.testtool.test.IneqType;
+import de.wwu.testtool.test.Variable;
+
+/**
+ * Checks that solving the variable-disjoint constraint sets of a constraint system in parallel
+ * yields the same solutions as solving them one by one. The systems interleave the random integer
+ * and double problems of DiplomaThesisProblems, which share no variables.
+ *
+ * @author agent
+ *
+ */
+public class TestParallelComponents {
+
+	@Test
+	public final void testParallelAndSequentialSolutionsMatch() throws Exception {
+		int solvable = 0;
+		for (long seed = 1; seed <= 5; seed++) {
+			for (IneqType ineqType : new IneqType[] { IneqType.WEAK, IneqType.STRICT }) {
+				List<ConstraintExpression> constraints = getProblem(seed, ineqType);
+				List<String> expected = solve(constraints, false);
+				assertEquals(expected, solve(constraints, true));
+				for (String solution : expected) {
+					if (!solution.equals(Solution.NOSOLUTION.toString())) solvable++;
+				}
+			}
+		}
+		// Make sure that not only contradictory systems have been compared.
+		assertTrue(solvable > 0);
+	}
+
+	/**
+	 * Interleave the random integer and double problems generated with the seed.
+	 */
+	private List<ConstraintExpression> getProblem(long seed, IneqType ineqType) {
+		DiplomaThesisProblems problems = new DiplomaThesisProblems(6, 3, seed);
+		List<ConstraintExpression> intConstraints = problems.getRandomConstraintExpressionProblem(
+				Constant.INT, Variable.INT, ineqType);
+		List<ConstraintExpression> doubleConstraints = problems.getRandomConstraintExpressionProblem(
+				Constant.DOUBLE, Variable.DOUBLE, ineqType);
+		List<ConstraintExpression> constraints = new ArrayList<ConstraintExpression>();
+		for (int a = 0; a < intConstraints.size(); a++) {
+			constraints.add(intConstraints.get(a));
+			constraints.add(doubleConstraints.get(a));
+		}
+		return constraints;
+	}
+
+	/**
+	 * Add the constraints one by one and remove them again, collecting the solution after each
+	 * step. The cached solutions of the sets are dropped before each step, so that both sets are
+	 * solved again and not just the one that has changed.
+	 */
+	private List<String> solve(List<ConstraintExpression> constraints, boolean parallel)
+			throws Exception {
+		OldSolverManagerSolver solver = new OldSolverManagerSolver(new SolverManagerNew());
+		solver.parallelComponents = parallel;
+		solver.parallelComponentsThreshold = 2;
+		SubstitutionTable substitutionTable = new SubstitutionTable();
+		List<String> solutions = new ArrayList<String>();
+		for (ConstraintExpression constraint : constraints) {
+			solver.addConstraint(constraint.convertToComposedConstraint(substitutionTable));
+			substitutionTable.signalStackElementAdded();
+			solver.componentCache.clear();
+			solutions.add(solver.getSolution().toString());
+		}
+		for (int a = 1; a < constraints.size(); a++) {
+			solver.removeConstraint();
+			substitutionTable.signalStackElementRemoved();
+			solver.componentCache.clear();
+			solutions.add(solver.getSolution().toString());
+		}
+		return solutions;
+	}
+
+}
@@ -0,0 +1,69 @@
+package de.wwu.testtool.solver.tsolver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import de.wwu.muggl.solvers.Solution;
+import de.wwu.muggl.solvers.expressions.ConstraintExpression;
+import de.wwu.muggl.solvers.expressions.Difference;
+import de.wwu.muggl.solvers.expressions.Expression;
+import de.wwu.muggl.solvers.expressions.GreaterOrEqual;
+import de.wwu.muggl.solvers.expressions.IntConstant;
+import de.wwu.muggl.solvers.expressions.LessOrEqual;
+import de.wwu.muggl.solvers.expressions.NumericVariable;
+import de.wwu.muggl.solvers.expressions.Sum;
+import de.wwu.muggl.solvers.solver.constraints.SingleConstraint;
+import de.wwu.muggl.solvers.solver.tools.SubstitutionTable;
+
+/**
+ * Checks that the exact simplex tableau of the simplex solver keeps a consistent assignment when
+ * constraints are removed, including those added without a snapshot of the assignment.
+ *
+ * @author agent
+ *
+ */
+public class TestSimplexSolver {
+	SimplexSolver solver;
+	NumericVariable x;
+	NumericVariable y;
+
+	@Before
+	public void setUp() throws Exception {
+		solver = new SimplexSolver();
+		solver.useSparseDoubleTableau(false);
+		x = new NumericVariable("x", Expression.INT, false);
+		y = new NumericVariable("y", Expression.INT, false);
+	}
+
+	@Test
+	public final void testRemoveConstraintKeepsAssignment() throws Exception {
+		// Added at once, only the first constraint is added with a snapshot of the assignment.
+		SingleConstraint c1 = addConstraint(GreaterOrEqual.newInstance(Sum.newInstance(x, y),
+				IntConstant.getInstance(10)));
+		SingleConstraint c2 = addConstraint(LessOrEqual.newInstance(Difference.newInstance(x, y),
+				IntConstant.getInstance(2)));
+		SingleConstraint c3 = addConstraint(GreaterOrEqual.newInstance(x, IntConstant.getInstance(7)));
+		addConstraint(LessOrEqual.newInstance(y, IntConstant.getInstance(20)));
+		Solution solution = solver.getSolution();
+		assertTrue(c1.validateSolution(solution));
+		assertTrue(c2.validateSolution(solution));
+		assertTrue(c3.validateSolution(solution));
+
+		// The assignment satisfies the remaining constraints, so it is kept.
+		solver.removeConstraint();
+		assertEquals(solution.toString(), solver.getSolution().toString());
+		solver.removeConstraint();
+		assertEquals(solution.toString(), solver.getSolution().toString());
+	}
+
+	private SingleConstraint addConstraint(ConstraintExpression constraintExpression) throws Exception {
+		SingleConstraint constraint = (SingleConstraint) constraintExpression
+				.convertToComposedConstraint(new SubstitutionTable());
+		solver.addConstraint(constraint);
+		return constraint;
+	}
+
+}
@@ -0,0 +1,118 @@
+package de.wwu.testtool.solver.tsolver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import de.wwu.muggl.solvers.Solution;
+import de.wwu.muggl.solvers.expressions.ConstraintExpression;
+import de.wwu.muggl.solvers.expressions.DoubleConstant;
+import de.wwu.muggl.solvers.expressions.Expression;
+import de.wwu.muggl.solvers.expressions.GreaterOrEqual;
+import de.wwu.muggl.solvers.expressions.GreaterThan;
+import de.wwu.muggl.solvers.expressions.IntConstant;
+import de.wwu.muggl.solvers.expressions.LessOrEqual;
+import de.wwu.muggl.solvers.expressions.LessThan;
+import de.wwu.muggl.solvers.expressions.NumericVariable;
+import de.wwu.muggl.solvers.expressions.Sum;
+import de.wwu.muggl.solvers.solver.constraints.SingleConstraint;
+import de.wwu.muggl.solvers.solver.tools.SubstitutionTable;
+import de.wwu.testtool.solver.tsolver.SparseDoubleSimplex.Result;
+
+/**
+ * Checks that the sparse double tableau only reports results it could verify exactly, and falls
+ * back to {@link Result#UNKNOWN} otherwise. Also checks that the simplex solver only maintains it
+ * while it is used.
+ *
+ * @author agent
+ *
+ */
+public class TestSparseDoubleSimplex {
+	SparseDoubleSimplex simplex;
+	NumericVariable x;
+	NumericVariable y;
+	NumericVariable d;
+
+	@Before
+	public void setUp() throws Exception {
+		simplex = new SparseDoubleSimplex();
+		x = new NumericVariable("x", Expression.INT, false);
+		y = new NumericVariable("y", Expression.INT, false);
+		d = new NumericVariable("d", Expression.DOUBLE, false);
+	}
+
+	@Test
+	public final void testSatisfiable() throws Exception {
+		SingleConstraint c1 = addConstraint(GreaterOrEqual.newInstance(Sum.newInstance(x, y),
+				IntConstant.getInstance(3)));
+		SingleConstraint c2 = addConstraint(LessOrEqual.newInstance(x, IntConstant.getInstance(1)));
+		SingleConstraint c3 = addConstraint(LessThan.newInstance(y, IntConstant.getInstance(5)));
+		assertEquals(Result.SATISFIABLE, simplex.check());
+		Solution witness = simplex.getWitness();
+		assertTrue(c1.validateSolution(witness));
+		assertTrue(c2.validateSolution(witness));
+		assertTrue(c3.validateSolution(witness));
+	}
+
+	@Test
+	public final void testUnsatisfiable() {
+		addConstraint(GreaterOrEqual.newInstance(Sum.newInstance(x, y), IntConstant.getInstance(5)));
+		addConstraint(LessOrEqual.newInstance(x, IntConstant.getInstance(2)));
+		addConstraint(LessThan.newInstance(y, IntConstant.getInstance(3)));
+		assertEquals(Result.UNSATISFIABLE, simplex.check());
+	}
+
+	@Test
+	public final void testRemoveConstraint() throws Exception {
+		addConstraint(GreaterOrEqual.newInstance(Sum.newInstance(x, y), IntConstant.getInstance(5)));
+		SingleConstraint c2 = addConstraint(LessOrEqual.newInstance(x, IntConstant.getInstance(2)));
+		addConstraint(LessThan.newInstance(y, IntConstant.getInstance(3)));
+		assertEquals(Result.UNSATISFIABLE, simplex.check());
+
+		simplex.removeConstraint();
+		assertEquals(Result.SATISFIABLE, simplex.check());
+		assertTrue(c2.validateSolution(simplex.getWitness()));
+	}
+
+	@Test
+	public final void testStrictMarginIsUnknown() {
+		// The interval is narrower than the margin kept to the bounds of strict inequations.
+		addConstraint(GreaterThan.newInstance(d, DoubleConstant.getInstance(0)));
+		addConstraint(LessThan.newInstance(d, DoubleConstant.getInstance(1E-9)));
+		assertEquals(Result.UNKNOWN, simplex.check());
+	}
+
+	@Test
+	public final void testSimplexSolverSwitchingToSparseTableau() throws Exception {
+		SimplexSolver solver = new SimplexSolver();
+		solver.useSparseDoubleTableau(false);
+		SingleConstraint c1 = toSingleConstraint(GreaterOrEqual.newInstance(Sum.newInstance(x, y),
+				IntConstant.getInstance(5)));
+		solver.addConstraint(c1);
+		solver.addConstraint(toSingleConstraint(LessOrEqual.newInstance(x, IntConstant.getInstance(2))));
+		solver.addConstraint(toSingleConstraint(LessThan.newInstance(y, IntConstant.getInstance(3))));
+		assertFalse(solver.hasSolution().hasSolution());
+
+		// The sparse tableau is built from the constraints added while it was not used.
+		solver.useSparseDoubleTableau(true);
+		assertFalse(solver.hasSolution().hasSolution());
+		solver.removeConstraint();
+		solver.removeConstraint();
+		assertTrue(solver.hasSolution().hasSolution());
+		assertTrue(c1.validateSolution(solver.getSolution()));
+	}
+
+	private SingleConstraint addConstraint(ConstraintExpression constraintExpression) {
+		SingleConstraint constraint = toSingleConstraint(constraintExpression);
+		simplex.addConstraint(constraint);
+		return constraint;
+	}
+
+	private SingleConstraint toSingleConstraint(ConstraintExpression constraintExpression) {
+		return (SingleConstraint) constraintExpression.convertToComposedConstraint(new SubstitutionTable());
+	}
+
+}
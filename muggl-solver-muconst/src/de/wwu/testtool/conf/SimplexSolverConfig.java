@@ -61,6 +61,13 @@ public class SimplexSolverConfig {
     
     private static boolean useIncrementalSolving = true;
     private static boolean useBacktracking = true;    
+
+    /**
+     * Try the sparse double tableau before the exact one. It is off by default, as it is
+     * new and only pays off for larger systems: whenever it cannot verify its answer, it
+     * has been tried in vain before the exact tableau decides.
+     */
+    private static boolean useSparseDoubleTableau = false;
     
     
     
@@ -95,6 +102,9 @@ public class SimplexSolverConfig {
 	    postSolvingRuns = Integer.parseInt(configReader.getTextContent(preString + "postSolvingRuns" + postString));
 	    useIncrementalSolving = Boolean.parseBoolean(configReader.getTextContent(preString + "useIncrementalSolving" + postString));
 	    useBacktracking = Boolean.parseBoolean(configReader.getTextContent(preString + "useBacktracking" + postString));
+	    Node sparseNode = configReader.getNode(preString + "useSparseDoubleTableau" + postString);
+	    if (sparseNode != null)
+		useSparseDoubleTableau = Boolean.parseBoolean(sparseNode.getTextContent());
 	    
 	} catch (XPathExpressionException xpee){
 	    throw new InternalError(xpee.toString());
@@ -187,4 +197,7 @@ public class SimplexSolverConfig {
     public boolean getUseBacktracking(){
 	return useBacktracking;
     }
+    public boolean getUseSparseDoubleTableau(){
+	return useSparseDoubleTableau;
+    }
 }
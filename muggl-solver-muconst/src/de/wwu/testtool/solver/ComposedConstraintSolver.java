@@ -43,6 +43,18 @@ public interface ComposedConstraintSolver {
      * @see de.wwu.muggl.solvers.Solution#NOSOLUTION
      */    
     public Solution getSolution() throws SolverUnableToDecideException, TimeoutException;
+
+    /**
+     * Checks whether a solution exists for the prior added constraints without
+     * constructing it.
+     * @return <i>true</i> if any solution exists, <i>false</i> if definitively
+     * no solution satisfies the constraints.
+     * @throws SolverUnableToDecideException if the given problem is too
+     * complicated for the solver to decide about the solvability of the problem.
+     * @throws TimeoutException if the algorithm stops because of reaching the
+     * timeout limit before being able to decide about the problem
+     */
+    public boolean hasSolution() throws SolverUnableToDecideException, TimeoutException;
         
     /**
      * Removes the lastly added constraint from the constraint stack.
@@ -21,6 +21,12 @@ public class ConjunctiveConstraintSolver implements ComposedConstraintSolver {
 	return null;
     }
 
+    @Override
+    public boolean hasSolution() throws SolverUnableToDecideException,
+	    TimeoutException {
+	return false;
+    }
+
     @Override
     public void removeConstraint() {
     }
@@ -23,6 +23,12 @@ public class DisjunctiveConstraintSolver implements ComposedConstraintSolver {
 	return null;
     }
 
+    @Override
+    public boolean hasSolution() throws SolverUnableToDecideException,
+	    TimeoutException {
+	return false;
+    }
+
     @Override
     public void removeConstraint() {
     }
@@ -1,5 +1,13 @@
 package de.wwu.testtool.solver;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
 import org.apache.log4j.Logger;
 
 import de.wwu.muggl.solvers.Solution;
@@ -21,6 +29,7 @@ import de.wwu.muggl.solvers.solver.constraints.SingleConstraintSet;
 import de.wwu.muggl.solvers.solver.listener.SolverManagerListener;
 import de.wwu.muggl.solvers.solver.listener.SolverManagerListenerList;
 import de.wwu.muggl.solvers.solver.tools.SubstitutionTable;
+import de.wwu.testtool.solver.tsolver.SimplexSolver;
 
 public class OldSolverManagerSolver implements ComposedConstraintSolver {
     
@@ -41,6 +50,39 @@ public class OldSolverManagerSolver implements ComposedConstraintSolver {
 
     protected SubstitutionTable substitutionTable;
 
+    /**
+     * The maximum number of solver instances kept alive between requests.
+     */
+    protected static final int MAX_LIVE_SOLVERS = 8;
+
+    /**
+     * Solver instances kept alive between requests. Each one still holds the
+     * constraints of the constraint set it has been used for lastly, so a request
+     * for a constraint set sharing a prefix with them, e.g. the same set one stack
+     * level deeper or after backtracking, only has to remove and add the delta.
+     */
+    protected ArrayList<LiveSolver> liveSolvers;
+
+    /**
+     * Counter used to find the least recently used live solver.
+     */
+    private long requests;
+
+    /**
+     * Solutions of single constraint sets, keyed by their canonical form and kept
+     * in least recently used order. As a solution only depends on the constraints
+     * of a set, the cache survives resets and backtracking.
+     */
+    protected LinkedHashMap<ComponentKey, Solution> componentCache;
+
+    /**
+     * Whether the variable-disjoint constraint sets of a constraint system are
+     * solved in parallel, and the minimum number of sets that have to be solved by
+     * a solver to do so. Both are read from the configuration.
+     */
+    protected boolean parallelComponents;
+    protected int parallelComponentsThreshold;
+
     /**
      * Creates a new Solver Manager object and initializes it with a stream that
      * collects the logging informations if wanted.
@@ -54,8 +96,20 @@ public class OldSolverManagerSolver implements ComposedConstraintSolver {
 	substitutionTable = new SubstitutionTable();
 	constraintStack = new ConstraintStack();
 	solverChooser = new SolverChooser(solverManager);
+	liveSolvers = new ArrayList<LiveSolver>();
 	
 	SolverManagerConfig solverConf = SolverManagerConfig.getInstance();
+	parallelComponents = solverConf.getParallelComponents();
+	parallelComponentsThreshold = solverConf.getParallelComponentsThreshold();
+	final int cacheSize = solverConf.getComponentCacheSize();
+	componentCache = new LinkedHashMap<ComponentKey, Solution>(16, 0.75f, true){
+	    private static final long serialVersionUID = 1L;
+
+	    @Override
+	    protected boolean removeEldestEntry(Map.Entry<ComponentKey, Solution> eldest){
+		return size() > cacheSize;
+	    }
+	};
 	listeners = new SolverManagerListenerList();
 	for (SolverManagerListener listener : solverConf.getListeners()){
 	    listeners.addListener(listener);
@@ -144,92 +198,375 @@ public class OldSolverManagerSolver implements ComposedConstraintSolver {
 	    solution = Solution.NOSOLUTION;
 	} else {
 	    try{
-		// a system has several variable-disjunct constraint sets
-		// thus each one is solved independently and solutions are joined afterwards
-		// to form a solution for the whole conjunctive constraint system
-		for (int i = 0; i < system.getConstraintSetCount(); i++){
+		solution = getSolution(system, startTime);
+	    } catch (IncorrectSolverException ise){
+		ise.printStackTrace();
+		return null;
+	    }
+	}
 
-		    SingleConstraintSet constraintSet = system.getConstraintSet(i);
-		    Solution newSolution = null;
-
-		    // if constraint set consists only of one assignment we already have solution
-		    if (constraintSet.getConstraintCount() == 1){
-			SingleConstraint constraint = constraintSet.getConstraint(0);
-			if (constraint instanceof Assignment){
-			    Assignment assignment = (Assignment) constraint;
-			    newSolution = new Solution();
-			    newSolution.addBinding(assignment.getVariable(), assignment.getValue());
-			}
-		    }
+	constraintStack.setSolution(idx, solution);
+	return solution;
+    }
 
-		    // otherwise try every solver that is able to handle the constraint set
-		    // and take the first solution found
-		    if (newSolution == null){
-			Solver[] solver = getSolver(constraintSet);
-			for (int solverNo = 0; solverNo < solver.length; solverNo++){
-			    if (newSolution != null) break;
+    /**
+     * Tries to find a solution for a constraint system. A system has several
+     * variable-disjoint constraint sets, thus each one is solved independently and
+     * the solutions are joined afterwards to form a solution for the whole
+     * conjunctive constraint system. Sets consisting of a single assignment or
+     * having a cached solution are not passed to a solver at all. If enough sets
+     * remain, they are solved in parallel.
+     * @param system the constraint system.
+     * @param startTime the time the request has been started at.
+     * @return a solution for the constraint system or Solution.NOSOLUTION if no
+     * such solution exists.
+     * @throws SolverUnableToDecideException if the used solvers are not able to
+     * decide whether a solution exists or not for one of the constraint sets.
+     * @throws TimeoutException if the used algorithms stop because of reaching
+     * the specified time limits.
+     * @throws IncorrectSolverException if a solver is not able to handle the
+     * constraints.
+     */
+    private Solution getSolution(ConstraintSystem system, long startTime) throws SolverUnableToDecideException, TimeoutException, IncorrectSolverException{
+	int setCount = system.getConstraintSetCount();
+	Solution[] solutions = new Solution[setCount];
+	ArrayList<SingleConstraintSet> openSets = new ArrayList<SingleConstraintSet>();
+	ArrayList<Integer> openIndices = new ArrayList<Integer>();
+	for (int i = 0; i < setCount; i++){
+	    SingleConstraintSet constraintSet = system.getConstraintSet(i);
+	    Solution knownSolution = getKnownSolution(constraintSet);
+
+	    // if one ConstraintSet is contradictory then the whole system has no solution
+	    if (knownSolution == Solution.NOSOLUTION)
+		return Solution.NOSOLUTION;
+	    if (knownSolution == null){
+		openSets.add(constraintSet);
+		openIndices.add(i);
+	    } else {
+		solutions[i] = knownSolution;
+	    }
+	}
 
-			    listeners.fireSolverGetSolutionStarted(solverManager, solver[solverNo], constraintSet);
+	if (parallelComponents && openSets.size() >= Math.max(2, parallelComponentsThreshold)){
+	    Solution[] openSolutions = getSolutionsInParallel(openSets, startTime);
+	    if (openSolutions == null)
+		return Solution.NOSOLUTION;
+	    for (int i = 0; i < openSolutions.length; i++)
+		solutions[openIndices.get(i)] = openSolutions[i];
+	} else {
+	    for (int i = 0; i < openSets.size(); i++){
+		Solution newSolution = getSolution(openSets.get(i), startTime, null);
+		if (newSolution.equals(Solution.NOSOLUTION))
+		    return Solution.NOSOLUTION;
+		solutions[openIndices.get(i)] = newSolution;
+	    }
+	}
 
-			    // if the last solver is unable to find a solution an exception is thrown
-			    try{
-				for (SingleConstraint constraint : constraintSet)
-				    solver[solverNo].addConstraint(constraint);
-				newSolution = solver[solverNo].getSolution();
-			    } catch (SolverUnableToDecideException sutde){
-				if (solverNo == solver.length - 1)
-				    throw sutde;
-			    } catch (TimeoutException te){
-				if (solverNo == solver.length -1)
-				    throw te;
-			    }
+	// join the sub solutions, starting with a new solution so cached ones are never handed out
+	Solution solution = new Solution();
+	for (int i = 0; i < setCount && !solution.equals(Solution.NOSOLUTION); i++)
+	    solution = solution.join(solutions[i]);
+	return solution;
+    }
 
-			    listeners.fireSolverGetSolutionFinished(solverManager, solver[solverNo], constraintSet, newSolution, System.nanoTime() - startTime);
-			}
-		    }
+    /**
+     * Gets the solution of a constraint set if it is known without asking a
+     * solver, i.e. if the set consists of a single assignment or if a solution for
+     * a set with the same constraints is cached.
+     * @param constraintSet the constraint set.
+     * @return the known solution, Solution.NOSOLUTION if the set is known to be
+     * contradictory or <i>null</i> if nothing is known about the set.
+     */
+    private Solution getKnownSolution(SingleConstraintSet constraintSet){
+	// if constraint set consists only of one assignment we already have solution
+	if (constraintSet.getConstraintCount() == 1){
+	    SingleConstraint constraint = constraintSet.getConstraint(0);
+	    if (constraint instanceof Assignment){
+		Assignment assignment = (Assignment) constraint;
+		Solution solution = new Solution();
+		solution.addBinding(assignment.getVariable(), assignment.getValue());
+		return solution;
+	    }
+	}
+	synchronized (componentCache){
+	    return componentCache.get(new ComponentKey(constraintSet));
+	}
+    }
 
+    /**
+     * Tries every solver that is able to handle the constraint set and takes the
+     * first solution found. The solution is stored in the component cache.
+     * @param constraintSet the constraint set.
+     * @param startTime the time the request has been started at.
+     * @param batch the batch the constraint set is solved in parallel with, or
+     * <i>null</i> if it is solved on its own.
+     * @return the solution found, Solution.NOSOLUTION if the set is contradictory
+     * or <i>null</i> if the batch became contradictory before a solution has
+     * been found.
+     * @throws SolverUnableToDecideException if the last solver is not able to
+     * decide whether a solution exists or not.
+     * @throws TimeoutException if the last solver stops because of reaching the
+     * specified time limits.
+     * @throws IncorrectSolverException if a solver is not able to handle the
+     * constraints.
+     */
+    private Solution getSolution(SingleConstraintSet constraintSet, long startTime, ComponentBatch batch) throws SolverUnableToDecideException, TimeoutException, IncorrectSolverException{
+	Solution newSolution = null;
+	Solver[] solver = getSolver(constraintSet);
+	for (int solverNo = 0; solverNo < solver.length; solverNo++){
+	    if (newSolution != null) break;
+	    // another set of the batch is contradictory, so this one does not matter any more
+	    if (batch != null && batch.isContradictory()) return null;
+
+	    fireSolverGetSolutionStarted(solver[solverNo], constraintSet);
+
+	    // if the last solver is unable to find a solution an exception is thrown
+	    LiveSolver liveSolver = null;
+	    try{
+		liveSolver = prepareSolver(solver[solverNo], constraintSet);
+		newSolution = liveSolver.solver.getSolution();
+	    } catch (SolverUnableToDecideException sutde){
+		discardSolver(liveSolver);
+		if (solverNo == solver.length - 1)
+		    throw sutde;
+	    } catch (TimeoutException te){
+		discardSolver(liveSolver);
+		if (solverNo == solver.length -1)
+		    throw te;
+	    } catch (IncorrectSolverException ise){
+		discardSolver(liveSolver);
+		throw ise;
+	    } finally {
+		releaseSolver(liveSolver);
+	    }
 
-		    // join the sub solutions found so far
-		    if (solution == null)
-			// if we are in the first iteration i.e. i==0 we start with a new solution
-			solution = newSolution;
-		    else
-			// otherwise we just join the new found solution with the previous one
-			solution = solution.join(newSolution);
+	    fireSolverGetSolutionFinished(solver[solverNo], constraintSet, newSolution, System.nanoTime() - startTime);
+	}
 
+	if (newSolution != null)
+	    putKnownSolution(constraintSet, newSolution);
+	return newSolution;
+    }
 
-		    // if one ConstraintSet is contradictory then the whole system has no solution
-		    // and we can stop here
-		    if (solution.equals(Solution.NOSOLUTION)){
-			break;
-//			constraintStack.setSolution(idx, Solution.NOSOLUTION);
-//			return Solution.NOSOLUTION;
-		    }
-		}
-	    } catch (IncorrectSolverException ise){
-		ise.printStackTrace();
-		return null;
+    /**
+     * Stores the solution of a constraint set in the component cache.
+     * @param constraintSet the constraint set.
+     * @param solution the solution of the set or Solution.NOSOLUTION if the set is
+     * contradictory.
+     */
+    private void putKnownSolution(SingleConstraintSet constraintSet, Solution solution){
+	synchronized (componentCache){
+	    componentCache.put(new ComponentKey(constraintSet), solution);
+	}
+    }
+
+    /**
+     * Solves constraint sets in parallel. All sets are forked to the common pool,
+     * which needs no shutdown, and joined before returning, so no solver is used after the request has
+     * been answered. As soon as one set turns out to be contradictory the sets not
+     * yet started are cancelled and the sets being solved are abandoned as soon as
+     * their current solver returns.
+     * @param constraintSets the constraint sets.
+     * @param startTime the time the request has been started at.
+     * @return the solutions of the sets in the order of the passed sets or
+     * <i>null</i> if one of them is contradictory.
+     * @throws SolverUnableToDecideException if the used solvers are not able to
+     * decide whether a solution exists or not for one of the constraint sets.
+     * @throws TimeoutException if the used algorithms stop because of reaching
+     * the specified time limits.
+     * @throws IncorrectSolverException if a solver is not able to handle the
+     * constraints.
+     */
+    private Solution[] getSolutionsInParallel(ArrayList<SingleConstraintSet> constraintSets, long startTime) throws SolverUnableToDecideException, TimeoutException, IncorrectSolverException{
+	final ComponentTask[] tasks = new ComponentTask[constraintSets.size()];
+	ComponentBatch batch = new ComponentBatch(tasks);
+	for (int i = 0; i < tasks.length; i++)
+	    tasks[i] = new ComponentTask(constraintSets.get(i), startTime, batch);
+
+	ForkJoinPool.commonPool().invoke(new RecursiveAction(){
+	    private static final long serialVersionUID = 1L;
+
+	    @Override
+	    protected void compute(){
+		for (int i = 1; i < tasks.length; i++)
+		    tasks[i].fork();
+		tasks[0].quietlyInvoke();
+		// cancelled tasks are completed, the others are waited for or run by this thread
+		for (int i = 1; i < tasks.length; i++)
+		    tasks[i].quietlyJoin();
 	    }
+	});
+
+	if (batch.isContradictory())
+	    return null;
+
+	// rethrow the failure of the first failed set, just like solving them one by one would
+	Solution[] solutions = new Solution[tasks.length];
+	for (int i = 0; i < tasks.length; i++){
+	    Throwable failure = tasks[i].failure;
+	    if (failure instanceof SolverUnableToDecideException)
+		throw (SolverUnableToDecideException) failure;
+	    if (failure instanceof TimeoutException)
+		throw (TimeoutException) failure;
+	    if (failure instanceof IncorrectSolverException)
+		throw (IncorrectSolverException) failure;
+	    if (failure instanceof RuntimeException)
+		throw (RuntimeException) failure;
+	    if (failure instanceof Error)
+		throw (Error) failure;
+	    solutions[i] = tasks[i].solution;
 	}
+	return solutions;
+    }
 
-	constraintStack.setSolution(idx, solution);
-	return solution;
+    /**
+     * Notifies the listeners that a solver has been started. Listeners are not
+     * expected to be thread safe, so they are notified one request at a time.
+     */
+    private void fireSolverGetSolutionStarted(Solver solver, SingleConstraintSet constraintSet){
+	synchronized (listeners){
+	    listeners.fireSolverGetSolutionStarted(solverManager, solver, constraintSet);
+	}
+    }
+
+    /**
+     * Notifies the listeners that a solver has finished. Listeners are not
+     * expected to be thread safe, so they are notified one request at a time.
+     */
+    private void fireSolverGetSolutionFinished(Solver solver, SingleConstraintSet constraintSet, Solution solution, long time){
+	synchronized (listeners){
+	    listeners.fireSolverGetSolutionFinished(solverManager, solver, constraintSet, solution, time);
+	}
     }
 
     /**
      * Tries to find a valid constraint solver for the given set of constraints.
      * @param constraintSet the system of constraints a dedicated solver should be
      * found for.
-     * @return the solver that should be able to handle the passed system of
-     * conatraints.
+     * @return the configured instances of the solvers that should be able to handle
+     * the passed system of conatraints. They have to be prepared by
+     * {@link #prepareSolver(Solver, SingleConstraintSet)} before being used.
      */
     private Solver[] getSolver(SingleConstraintSet constraintSet){
-	Solver[] result = solverChooser.getSolvers(constraintSet);
+	Solver[] result = solverChooser.getSolverPrototypes(constraintSet);
 	if (result == null || result.length == 0)
 	    throw new InternalError("No appropriate solver found!\n" + constraintSet);
 	return result;
     }
 
+    /**
+     * Checks whether instances of the passed solver can be kept alive between
+     * requests. This requires the solver to add and remove single constraints
+     * without rebuilding its internal state, as the simplex solver does when using
+     * incremental solving and backtracking.
+     * @param solver the configured solver instance.
+     * @return <i>true</i> if the solver can be kept alive, <i>false</i> otherwise.
+     */
+    private boolean isIncremental(Solver solver){
+	if (solver instanceof SimplexSolver){
+	    SimplexSolver simplexSolver = (SimplexSolver) solver;
+	    return simplexSolver.isUsingIncrementalSolving() && simplexSolver.isUsingBacktracking();
+	}
+	return false;
+    }
+
+    /**
+     * Gets a solver instance that holds exactly the constraints of the passed
+     * constraint set. For incremental solvers the live instance sharing the longest
+     * prefix of constraints with the set is chosen, and only the constraints beyond
+     * that prefix are removed from or added to it. Other solvers are reset and get
+     * all constraints of the set added. The returned solver is used exclusively by
+     * the caller until it is passed to {@link #releaseSolver(LiveSolver)}, so
+     * constraint sets can be solved in parallel.
+     * @param prototype the configured solver instance as returned by
+     * {@link #getSolver(SingleConstraintSet)}.
+     * @param constraintSet the constraint set to solve.
+     * @return the prepared solver.
+     * @throws IncorrectSolverException if the solver is not able to handle
+     * the constraints.
+     */
+    private LiveSolver prepareSolver(Solver prototype, SingleConstraintSet constraintSet) throws IncorrectSolverException{
+	if (!isIncremental(prototype)){
+	    LiveSolver liveSolver = new LiveSolver(prototype.reset());
+	    liveSolver.solver.addConstraintSet(constraintSet);
+	    return liveSolver;
+	}
+
+	LiveSolver best = null;
+	int bestPrefix = -1;
+	synchronized (liveSolvers){
+	    requests++;
+
+	    // find the idle live solver of this kind sharing the longest prefix with the set
+	    String name = prototype.getName();
+	    LiveSolver leastRecentlyUsed = null;
+	    for (LiveSolver liveSolver : liveSolvers){
+		if (liveSolver.inUse)
+		    continue;
+		if (leastRecentlyUsed == null || liveSolver.lastUsed < leastRecentlyUsed.lastUsed)
+		    leastRecentlyUsed = liveSolver;
+		if (!liveSolver.name.equals(name))
+		    continue;
+		int prefix = liveSolver.getCommonPrefix(constraintSet);
+		if (prefix > bestPrefix){
+		    best = liveSolver;
+		    bestPrefix = prefix;
+		}
+	    }
+
+	    // start a new one if nothing can be reused and there still is room for it
+	    if (best == null || (bestPrefix == 0 && liveSolvers.size() < MAX_LIVE_SOLVERS)){
+		best = new LiveSolver(prototype.reset());
+		bestPrefix = 0;
+		if (liveSolvers.size() >= MAX_LIVE_SOLVERS && leastRecentlyUsed != null)
+		    liveSolvers.remove(leastRecentlyUsed);
+		// if all live solvers are in use the new one is not kept alive
+		if (liveSolvers.size() < MAX_LIVE_SOLVERS)
+		    liveSolvers.add(best);
+	    }
+	    best.inUse = true;
+	    best.lastUsed = requests;
+	}
+
+	// push and pop the delta only
+	while (best.constraints.size() > bestPrefix){
+	    best.solver.removeConstraint();
+	    best.constraints.remove(best.constraints.size() - 1);
+	}
+	for (int i = bestPrefix; i < constraintSet.getConstraintCount(); i++){
+	    SingleConstraint constraint = constraintSet.getConstraint(i);
+	    best.solver.addConstraint(constraint);
+	    best.constraints.add(constraint);
+	}
+	return best;
+    }
+
+    /**
+     * Drops a live solver whose state cannot be trusted any more, e.g. because it
+     * has been interrupted by a timeout.
+     * @param liveSolver the solver to drop. May be <i>null</i>.
+     */
+    private void discardSolver(LiveSolver liveSolver){
+	if (liveSolver != null){
+	    synchronized (liveSolvers){
+		liveSolvers.remove(liveSolver);
+	    }
+	}
+    }
+
+    /**
+     * Makes a solver returned by {@link #prepareSolver(Solver, SingleConstraintSet)}
+     * available for further requests.
+     * @param liveSolver the solver. May be <i>null</i>.
+     */
+    private void releaseSolver(LiveSolver liveSolver){
+	if (liveSolver != null){
+	    synchronized (liveSolvers){
+		liveSolver.inUse = false;
+	    }
+	}
+    }
+
     /**
      * Checks whether a solution exists for the system of constraints stored in
      * the actual constraint stack by using the hasSolution methods of the
@@ -245,6 +582,7 @@ public class OldSolverManagerSolver implements ComposedConstraintSolver {
      * the specified time limits before being able to decide about the given
      * problem.
      */
+    @Override
     public boolean hasSolution() throws SolverUnableToDecideException, TimeoutException{
 	if (constraintStack.getSystemCount() == 0){
 	    return true;
@@ -266,7 +604,9 @@ public class OldSolverManagerSolver implements ComposedConstraintSolver {
      * the actual constraint stack at the position idx by using the hasSolution
      * methods of the constraint solvers. This method may be a little bit faster
      * when only an assertion about the solvability of a system of constraints
-     * should be calculated.
+     * should be calculated, as solvers able to check feasibility only do not
+     * build a solution. Contradictory sets and the solutions solvers have built
+     * anyway are stored in the component cache.
      * @param idx the index of the system of constraints the information about the
      * existence of a solution should be calculated for.
      * @return <i>true</i> if any solution for the given problem exists,
@@ -295,29 +635,43 @@ public class OldSolverManagerSolver implements ComposedConstraintSolver {
 		for (int i = 0; i < system.getConstraintSetCount(); i++){
 		    SingleConstraintSet constraintSet = system.getConstraintSet(i);
 
-		    if ( (constraintSet.getConstraintCount() != 1) || !(constraintSet.getConstraint(0) instanceof Assignment) ){
-			// if there is at least one non assignment constraint try to solve the set
+		    Solution knownSolution = getKnownSolution(constraintSet);
+		    if (knownSolution == Solution.NOSOLUTION){
+			result = false;
+		    } else if (knownSolution == null){
+			// if there is neither a single assignment nor a cached solution try to solve the set
 
 			Solver[] solver = getSolver(constraintSet);
 			for (int solverNo = 0; solverNo < solver.length && result; solverNo++){
 			    HasSolutionInformation intermediateResult = null;
+			    LiveSolver liveSolver = null;
 			    try {
-				for (SingleConstraint constraint : constraintSet)
-				    solver[solverNo].addConstraint(constraint);
-				intermediateResult = solver[solverNo].hasSolution();
+				liveSolver = prepareSolver(solver[solverNo], constraintSet);
+				intermediateResult = liveSolver.solver.hasSolution();
 				if (intermediateResult.hasSolution()){
+				    // keep a solution the solver has built anyway, e.g. if it cannot check feasibility only
+				    if (intermediateResult.getSolution() != null)
+					putKnownSolution(constraintSet, intermediateResult.getSolution());
 				    // solution for this constraint set is present -> skip to next set
 				    break;
 				} else {
+				    // the set stays contradictory, regardless of the other sets it is combined with
+				    putKnownSolution(constraintSet, Solution.NOSOLUTION);
 				    result = false;
 				}
 			    } catch (SolverUnableToDecideException sutde) {
+				discardSolver(liveSolver);
 				if (solverNo == solver.length - 1)
 				    throw sutde;
 			    } catch (TimeoutException te) {
+				discardSolver(liveSolver);
 				if (solverNo == solver.length -1)
 				    throw te;
+			    } catch (IncorrectSolverException ise) {
+				discardSolver(liveSolver);
+				throw ise;
 			    } finally {
+				releaseSolver(liveSolver);
 			    }
 			}
 		    }
@@ -349,6 +703,9 @@ public class OldSolverManagerSolver implements ComposedConstraintSolver {
     @Override
     public OldSolverManagerSolver reset(){
 	removeConstraints(constraintStack.getSize());
+	synchronized (liveSolvers){
+	    liveSolvers.clear();
+	}
 	return this;
     }
 
@@ -361,4 +718,199 @@ public class OldSolverManagerSolver implements ComposedConstraintSolver {
 	return constraintStack.verifySolution(solution);
     }
 
+    /**
+     * A solver instance together with the constraints that have been added to it.
+     */
+    protected static class LiveSolver {
+
+	/**
+	 * The solver.
+	 */
+	protected final Solver solver;
+
+	/**
+	 * The name of the solver.
+	 */
+	protected final String name;
+
+	/**
+	 * The constraints added to the solver, in the order of adding.
+	 */
+	protected final ArrayList<SingleConstraint> constraints;
+
+	/**
+	 * The request the solver has been used for lastly.
+	 */
+	protected long lastUsed;
+
+	/**
+	 * Whether the solver is currently used for a request.
+	 */
+	protected boolean inUse;
+
+	/**
+	 * Creates a new live solver without any constraints.
+	 * @param solver the freshly reset solver.
+	 */
+	protected LiveSolver(Solver solver){
+	    this.solver = solver;
+	    this.name = solver.getName();
+	    this.constraints = new ArrayList<SingleConstraint>();
+	}
+
+	/**
+	 * @param constraintSet the constraint set.
+	 * @return the number of leading constraints the solver and the passed
+	 * constraint set have in common.
+	 */
+	protected int getCommonPrefix(SingleConstraintSet constraintSet){
+	    int max = Math.min(constraints.size(), constraintSet.getConstraintCount());
+	    int prefix = 0;
+	    while (prefix < max && constraints.get(prefix).equals(constraintSet.getConstraint(prefix)))
+		prefix++;
+	    return prefix;
+	}
+    }
+
+    /**
+     * The canonical form of a constraint set, used as the key of the component
+     * cache. Two sets have the same canonical form if they consist of the same
+     * constraints, regardless of their order.
+     */
+    protected static final class ComponentKey {
+
+	/**
+	 * The constraints of the set.
+	 */
+	private final HashSet<SingleConstraint> constraints;
+
+	/**
+	 * The hash code of the constraints.
+	 */
+	private final int hashCode;
+
+	/**
+	 * Creates the canonical form of a constraint set.
+	 * @param constraintSet the constraint set.
+	 */
+	protected ComponentKey(SingleConstraintSet constraintSet){
+	    constraints = new HashSet<SingleConstraint>(constraintSet.getConstraints());
+	    hashCode = constraints.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj){
+	    if (this == obj)
+		return true;
+	    if (!(obj instanceof ComponentKey))
+		return false;
+	    ComponentKey other = (ComponentKey) obj;
+	    return hashCode == other.hashCode && constraints.equals(other.constraints);
+	}
+
+	@Override
+	public int hashCode(){
+	    return hashCode;
+	}
+    }
+
+    /**
+     * The state shared by the constraint sets of a system being solved in
+     * parallel.
+     */
+    protected static final class ComponentBatch {
+
+	/**
+	 * The tasks solving the sets.
+	 */
+	private final ComponentTask[] tasks;
+
+	/**
+	 * Whether one of the sets turned out to be contradictory.
+	 */
+	private volatile boolean contradictory;
+
+	/**
+	 * Creates a new batch.
+	 * @param tasks the tasks solving the sets. They may be created after the batch.
+	 */
+	protected ComponentBatch(ComponentTask[] tasks){
+	    this.tasks = tasks;
+	}
+
+	/**
+	 * @return <i>true</i> if one of the sets turned out to be contradictory.
+	 */
+	protected boolean isContradictory(){
+	    return contradictory;
+	}
+
+	/**
+	 * Signals that a set is contradictory and cancels the tasks not started yet.
+	 */
+	protected void setContradictory(){
+	    contradictory = true;
+	    for (ComponentTask task : tasks)
+		task.cancel(false);
+	}
+    }
+
+    /**
+     * Task solving a single constraint set of a batch.
+     */
+    protected final class ComponentTask extends RecursiveTask<Solution> {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The constraint set to solve.
+	 */
+	private final SingleConstraintSet constraintSet;
+
+	/**
+	 * The time the request has been started at.
+	 */
+	private final long startTime;
+
+	/**
+	 * The batch of the task.
+	 */
+	private final ComponentBatch batch;
+
+	/**
+	 * The solution found.
+	 */
+	protected volatile Solution solution;
+
+	/**
+	 * The exception or error the solving failed with.
+	 */
+	protected volatile Throwable failure;
+
+	/**
+	 * Creates a new task.
+	 * @param constraintSet the constraint set to solve.
+	 * @param startTime the time the request has been started at.
+	 * @param batch the batch of the task.
+	 */
+	protected ComponentTask(SingleConstraintSet constraintSet, long startTime, ComponentBatch batch){
+	    this.constraintSet = constraintSet;
+	    this.startTime = startTime;
+	    this.batch = batch;
+	}
+
+	@Override
+	protected Solution compute(){
+	    try {
+		if (!batch.isContradictory())
+		    solution = getSolution(constraintSet, startTime, batch);
+	    } catch (Throwable t){
+		failure = t;
+	    }
+	    if (solution == Solution.NOSOLUTION)
+		batch.setContradictory();
+	    return solution;
+	}
+    }
+
 }
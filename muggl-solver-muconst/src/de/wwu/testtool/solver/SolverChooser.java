@@ -105,16 +105,26 @@ public class SolverChooser {
      * @return solvers which are capable of solving the passed constraint set.
      */
     public Solver[] getSolvers(SingleConstraintSet constraints) {
+	return resetSolvers(getSolverPrototypes(constraints));
+    }
+
+    /**
+     * @param constraints
+     * @return the configured solver instances which are capable of solving the passed
+     * constraint set. They must not be used directly but only be reset to obtain new
+     * instances.
+     */
+    public Solver[] getSolverPrototypes(SingleConstraintSet constraints) {
 	if (constraints.isBoolean()) {
-	    return resetSolvers(booleanSolvers);
+	    return booleanSolvers;
 	}
 	if (constraints.isLinear()) {
 	    if (constraints.containsStrictInequations())
-		return resetSolvers(linearStrictInequalitiesSolvers);
+		return linearStrictInequalitiesSolvers;
 	    else
-		return resetSolvers(linearWeakInequalitiesSolvers);
+		return linearWeakInequalitiesSolvers;
 	} else {
-	    return resetSolvers(nonlinearSolvers);
+	    return nonlinearSolvers;
 	}
     }
 }
\ No newline at end of file
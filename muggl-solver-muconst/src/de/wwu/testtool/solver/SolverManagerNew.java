@@ -66,7 +66,7 @@ public class SolverManagerNew implements SolverManager, MuconstSolverManager {
     public boolean hasSolution() throws SolverUnableToDecideException, TimeoutException {
 	listeners.fireHasSolutionStarted(this);
 	long startTime = System.nanoTime();
-	Boolean hasSolution = composedConstraintSolver.getSolution() == null ? false: true;
+	boolean hasSolution = composedConstraintSolver.hasSolution();
 	listeners.fireHasSolutionFinished(this, hasSolution, System.nanoTime() - startTime);	
 	return hasSolution;
     }
@@ -96,7 +96,7 @@ public class SolverManagerNew implements SolverManager, MuconstSolverManager {
     public void resetCounter() {};
     
     @Override
-    public void finalize() throws Throwable{
+    public void shutdown() throws Throwable{
 	
     }
 
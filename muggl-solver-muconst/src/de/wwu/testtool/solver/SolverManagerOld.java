@@ -126,11 +126,10 @@ public class SolverManagerOld implements SolverManager, MuconstSolverManager {
 	}
 	
 	@Override
-	public void finalize() throws Throwable {
+	public void shutdown() throws Throwable {
 		listeners.fireFinalize(this);
 		finalized = true;
 		TesttoolConfig.getInstance().finalize();
-		super.finalize();
 	}
 
 	/**
@@ -66,6 +66,19 @@ public class SimplexSolver implements Solver {
      * The simplex tableau.
      */
     private SimplexTableau tableau = new SimplexTableau();
+
+    /**
+     * The constraints contained in the simplex tableau. It is only brought up to date
+     * with {@link #constraints} when it is needed.
+     * @see #syncTableau()
+     */
+    private Stack<SingleConstraint> tableauConstraints = new Stack<SingleConstraint>();
+
+    /**
+     * The sparse tableau working on doubles that is tried before the exact one. It only
+     * holds the constraints if it is used.
+     */
+    private SparseDoubleSimplex sparseTableau = new SparseDoubleSimplex();
     
     /**
      * Is the current system of constraints satisfiable?
@@ -127,6 +140,7 @@ public class SimplexSolver implements Solver {
 
     private boolean useIncrementalSolving;
     private boolean useBacktracking;
+    private boolean useSparseDoubleTableau;
     
     /**
      * Debugging constants.
@@ -145,6 +159,22 @@ public class SimplexSolver implements Solver {
     public void useGomoryCuts(boolean bool) {useGomoryCuts = bool;}
     public void useAdditionalVarPreferredForBranchAndBound(boolean bool) {useAdditionalVarPreferredForBranchAndBound = bool;}
     public void useDoubleWrapper(boolean bool) {useDoubleWrapper = bool;}
+    public void useSparseDoubleTableau(boolean bool) {
+	if (bool && !useSparseDoubleTableau){
+	    sparseTableau = new SparseDoubleSimplex();
+	    for (SingleConstraint constraint : constraints){
+		sparseTableau.addConstraint(constraint);
+	    }
+	}
+	useSparseDoubleTableau = bool;
+    }
+
+    /**
+     * Getters...
+     * @return
+     */
+    public boolean isUsingBacktracking() {return useBacktracking;}
+    public boolean isUsingIncrementalSolving() {return useIncrementalSolving;}
 
     /**
      * Temporary function to set logger for construction process.
@@ -179,6 +209,7 @@ public class SimplexSolver implements Solver {
 	timeout = SimplexSolverConfig.getInstance().getTimeout();	
 	useBacktracking = SimplexSolverConfig.getInstance().getUseBacktracking();
 	useIncrementalSolving = SimplexSolverConfig.getInstance().getUseIncrementalSolving();
+	useSparseDoubleTableau = SimplexSolverConfig.getInstance().getUseSparseDoubleTableau();
 	useAdditionalVarPreferredForBranchAndBound = SimplexSolverConfig.getInstance().getUseAdditionalVarPreferredForBranchAndBound();
 	useGomoryCuts = SimplexSolverConfig.getInstance().getUseGomoryCuts();
 		
@@ -232,32 +263,47 @@ public class SimplexSolver implements Solver {
 	if (logger.isDebugEnabled()) logger.debug("SimplexSolver: adding constraint " + constraint);
 	
 	constraints.add(constraint);
+	if (useSparseDoubleTableau)
+	    sparseTableau.addConstraint(constraint);
 	
-	try {
-	    if (useIncrementalSolving){
-		tableau.addConstraint(constraint);
-	    } else {
-		tableau = new SimplexTableau();
-		feasible = false;
-		allVarsInteger = false;
-		for (SingleConstraint sc : constraints){
-		    tableau.addConstraint(sc);
-		}
-	    }
-	} catch (SolverUnableToDecideException e) {
-	    // We ignore the exception here because it cannot be handled anyway and throwing
-	    // again would require a change in the Solver interface.
-	    // This is just for debugging anyway.
-	}
-	
+	// the exact tableau is updated lazily
+    }
 
-	feasible = false;
-	allVarsInteger = false;
+    /**
+     * Brings the exact tableau up to date with the constraints. Constraints added since
+     * the last update are added to it, constraints removed since then are removed. The
+     * tableau is built anew if incremental solving or backtracking are disabled.
+     * @throws SolverUnableToDecideException if removing a constraint fails due to
+     * numerical errors.
+     */
+    private void syncTableau() throws SolverUnableToDecideException {
+	int prefix = 0;
+	while (prefix < tableauConstraints.size() && prefix < constraints.size()
+		&& tableauConstraints.get(prefix) == constraints.get(prefix))
+	    prefix++;
+	if (prefix == tableauConstraints.size() && prefix == constraints.size())
+	    return;
 
-	/*
-	 * Gomory Cuts - Constraint is used as separator of cuts.
-	 */
-	tableau.constraintsGomoryCutsMap.put(constraint, new Stack<NumericVariable>());	    
+	if (!useIncrementalSolving || (!useBacktracking && prefix < tableauConstraints.size())){
+	    tableau = new SimplexTableau();
+	    tableauConstraints.clear();
+	    prefix = 0;
+	}
+	while (tableauConstraints.size() > prefix){
+	    tableau.removeConstraint(tableauConstraints.pop());
+	}
+	for (int i = prefix; i < constraints.size(); i++){
+	    SingleConstraint constraint = constraints.get(i);
+	    tableau.addConstraint(constraint);
+	    tableauConstraints.push(constraint);
+	    feasible = false;
+	    allVarsInteger = false;
+
+	    /*
+	     * Gomory Cuts - Constraint is used as separator of cuts.
+	     */
+	    tableau.constraintsGomoryCutsMap.put(constraint, new Stack<NumericVariable>());
+	}
     }
     
 
@@ -276,6 +322,15 @@ public class SimplexSolver implements Solver {
 
     @Override
     public Solution getSolution() throws TimeoutException, SolverUnableToDecideException {
+	if (useSparseDoubleTableau){
+	    SparseDoubleSimplex.Result result = sparseTableau.check();
+	    if (result == SparseDoubleSimplex.Result.SATISFIABLE)
+		return sparseTableau.getWitness();
+	    if (result == SparseDoubleSimplex.Result.UNSATISFIABLE)
+		return Solution.NOSOLUTION;
+	    if (logger.isDebugEnabled()) logger.debug("SimplexSolver: Sparse double tableau undecided. Using exact tableau.");
+	}
+	syncTableau();
 
 	if (timeout > 0){
 	    timer = new Timer(timeout);
@@ -955,30 +1010,39 @@ public class SimplexSolver implements Solver {
 
     @Override
     public HasSolutionInformation hasSolution() throws IncorrectSolverException, TimeoutException, SolverUnableToDecideException {
-	return new HasSolutionInformation(getSolution());
+	if (useSparseDoubleTableau){
+	    SparseDoubleSimplex.Result result = sparseTableau.check();
+	    if (result != SparseDoubleSimplex.Result.UNKNOWN)
+		return new HasSolutionInformation(result == SparseDoubleSimplex.Result.SATISFIABLE);
+	    if (logger.isDebugEnabled()) logger.debug("SimplexSolver: Sparse double tableau undecided. Using exact tableau.");
+	}
+	syncTableau();
+
+	if (timeout > 0){
+	    timer = new Timer(timeout);
+	    timer.run();
+	} else {
+	    timer = new Timer(0);
+	}
+
+	/*
+	 * Only feasibility is asked for, so neither post solving nor the
+	 * construction of a solution object is needed.
+	 */
+	stateIsBranchAndBound = false;
+	branchAndCut();
+	return new HasSolutionInformation(feasible);
     }
 
     @Override
     public void removeConstraint() {
 	if (logger.isDebugEnabled()) logger.debug("SimplexSolver: Removing Constraint: " + constraints.peek());
 	
-	SingleConstraint constraint = constraints.pop();
-		    
-	try {
-	    if (useBacktracking){
-		tableau.removeConstraint(constraint);
-	    } else {
-		tableau = new SimplexTableau();
-		for (SingleConstraint sc : constraints){
-		    tableau.addConstraint(sc);
-		}
-	    }
-	} catch (SolverUnableToDecideException e) {
-	    // We ignore the exception here because it cannot be handled anyway and throwing it
-	    // again would require a change in the Solver interface.
-	    // This is just for debugging anyway.
-	    throw new RuntimeException();
-	}	
+	constraints.pop();
+	if (useSparseDoubleTableau)
+	    sparseTableau.removeConstraint();
+
+	// the exact tableau is updated lazily
     }
 
     @Override
@@ -994,6 +1058,7 @@ public class SimplexSolver implements Solver {
     	newSolver.useGomoryCuts(useGomoryCuts);
     	newSolver.useAdditionalVarPreferredForBranchAndBound(useAdditionalVarPreferredForBranchAndBound);
     	newSolver.useDoubleWrapper(useDoubleWrapper);
+    	newSolver.useSparseDoubleTableau(useSparseDoubleTableau);
 	
     	newSolver.setDebugLogger(logger);
     	newSolver.setTimeout(timeout);
@@ -1238,7 +1303,7 @@ public class SimplexSolver implements Solver {
 			NumericVariable columnVar = columnVars.get(j);
 			NumberWrapper currentCoeff = matrix.get(i).get(j);
 			if (! currentCoeff.abs().lessThan(numberFactory.getInstance(zeroThreshold))){
-			    value.add(assignments.get(columnVar).mult(currentCoeff));
+			    value = value.add(assignments.get(columnVar).mult(currentCoeff));
 			}
 		    }
 		    oldAssignments.put(rowVar, value);
@@ -0,0 +1,669 @@
+package de.wwu.testtool.solver.tsolver;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import de.wwu.muggl.solvers.Solution;
+import de.wwu.muggl.solvers.exceptions.IncompleteSolutionException;
+import de.wwu.muggl.solvers.expressions.NumericVariable;
+import de.wwu.muggl.solvers.solver.constraints.Monomial;
+import de.wwu.muggl.solvers.solver.constraints.NumericConstraint;
+import de.wwu.muggl.solvers.solver.constraints.Polynomial;
+import de.wwu.muggl.solvers.solver.constraints.SingleConstraint;
+import de.wwu.muggl.solvers.solver.numbers.Fraction;
+import de.wwu.muggl.solvers.solver.numbers.NumberWrapper;
+
+/**
+ * Sparse simplex tableau working on primitive doubles. It is used by the
+ * {@link SimplexSolver} to decide the linear relaxation of a system of constraints
+ * before falling back to its exact tableau of {@link NumberWrapper} objects.
+ * <BR><BR>
+ * Like the exact tableau every constraint L + c &lt;&gt; 0 gets an additional variable
+ * s = L whose bounds are derived from the constant, problem variables are unbounded.
+ * Each row expresses a basic variable by the non-basic variables and only stores its
+ * non-zero coefficients, which keeps pivoting cheap for path conditions mentioning
+ * few variables per constraint. Constraints can be added and removed in stack order.
+ * <BR><BR>
+ * Pivoting in doubles is not exact, so a result is only reported if it can be
+ * verified exactly:
+ * <ul><li>
+ * a feasible assignment is rounded (integer variables to integers) and inserted into
+ * each constraint using exact arithmetic,
+ * </li><li>
+ * infeasibility is verified by rebuilding the conflicting row as a rational
+ * combination of the constraints whose bounds contradict each other.
+ * </li></ul>
+ * If verification fails the result is {@link Result#UNKNOWN} and the exact tableau
+ * has to decide.
+ *
+ * @author agent
+ * @version 1.0.0, 2026-10-18
+ */
+public class SparseDoubleSimplex {
+
+    /**
+     * Outcome of {@link SparseDoubleSimplex#check()}.
+     */
+    public enum Result {
+	/** A verified solution is available by {@link SparseDoubleSimplex#getWitness()}. */
+	SATISFIABLE,
+	/** The linear relaxation is verified to be infeasible. */
+	UNSATISFIABLE,
+	/** Nothing could be verified. */
+	UNKNOWN
+    }
+
+    /**
+     * Tolerance for bound violations of basic variables.
+     */
+    private static final double FEASIBILITY_TOLERANCE = 1E-9;
+
+    /**
+     * Coefficients of at most this magnitude are not used as pivot elements.
+     */
+    private static final double PIVOT_TOLERANCE = 1E-9;
+
+    /**
+     * Coefficients of at most this magnitude are dropped from the rows.
+     */
+    private static final double DROP_TOLERANCE = 1E-12;
+
+    /**
+     * Distance kept to the bound of strict inequations over non-integer variables.
+     */
+    private static final double STRICT_MARGIN = 1E-6;
+
+    /**
+     * Maximum denominator of the multipliers of an infeasibility certificate.
+     */
+    private static final long MAX_DENOMINATOR = 1L << 24;
+
+    /**
+     * The number of pivoting steps per row after which checking is given up.
+     */
+    private static final int MAX_PIVOTS_PER_ROW = 50;
+
+    /**
+     * Bounds and current values of the variables, indexed by variable id.
+     */
+    private double[] lower = new double[16];
+    private double[] upper = new double[16];
+    private double[] value = new double[16];
+
+    /**
+     * Row of the basic variables, -1 for non-basic variables.
+     */
+    private int[] basicRow = new int[16];
+
+    /**
+     * The number of constraints using a problem variable.
+     */
+    private int[] uses = new int[16];
+
+    /**
+     * Ids of problem variables.
+     */
+    private HashMap<NumericVariable, Integer> problemVariableIds = new HashMap<NumericVariable, Integer>();
+
+    /**
+     * Ids of removed additional variables that can be reused.
+     */
+    private int[] freeIds = new int[16];
+    private int freeIdCount;
+
+    /**
+     * The number of variable ids in use or free.
+     */
+    private int variableCount;
+
+    /**
+     * The rows of the tableau.
+     */
+    private ArrayList<Row> rows = new ArrayList<Row>();
+
+    /**
+     * The constraints in the order of adding, together with their additional
+     * variables and the exact bound of them: s &lt;= upperBound, or s = upperBound for
+     * equations. For strict inequations over integers the bound is already tightened.
+     */
+    private ArrayList<SingleConstraint> constraints = new ArrayList<SingleConstraint>();
+    private ArrayList<Integer> additionalVariables = new ArrayList<Integer>();
+    private ArrayList<NumberWrapper> upperBounds = new ArrayList<NumberWrapper>();
+    private ArrayList<Boolean> strictBounds = new ArrayList<Boolean>();
+
+    /**
+     * Index of each additional variable in the constraint lists.
+     */
+    private HashMap<Integer, Integer> constraintIndex = new HashMap<Integer, Integer>();
+
+    /**
+     * The verified solution of the last check.
+     */
+    private Solution witness;
+
+    /**
+     * Adds a linear constraint.
+     * @param constraint the constraint.
+     */
+    public void addConstraint(SingleConstraint constraint) {
+	Polynomial poly = ((NumericConstraint) constraint).getPolynomial();
+
+	/*
+	 * The exact bound of the additional variable.
+	 */
+	NumberWrapper bound = poly.getConstant() == null ? Fraction.ZERO : toFraction(poly.getConstant()).negate();
+	boolean strict = constraint.isStrictInequation();
+	if (strict && poly.isCompletelyInteger(false)) {
+	    // s is integral, so s < bound is s <= bound - 1
+	    bound = bound.sub(Fraction.ONE);
+	    strict = false;
+	}
+	double doubleBound = bound.doubleValue();
+
+	int s = newVariable(null);
+	upper[s] = strict ? doubleBound - STRICT_MARGIN * Math.max(1., Math.abs(doubleBound)) : doubleBound;
+	lower[s] = constraint.isEquation() ? doubleBound : Double.NEGATIVE_INFINITY;
+
+	/*
+	 * Build the row by substituting basic variables.
+	 */
+	Row row = new Row(s);
+	for (Monomial monomial : poly.getMonomials()) {
+	    NumericVariable var = monomial.getVariables().iterator().next();
+	    double coeff = poly.getCoefficient(monomial).doubleValue();
+	    int id = getProblemVariableId(var);
+	    uses[id]++;
+	    if (basicRow[id] >= 0) {
+		row.addMultiple(rows.get(basicRow[id]), coeff);
+	    } else {
+		row.set(id, row.get(id) + coeff);
+	    }
+	}
+	double sValue = 0.;
+	for (int k = 0; k < row.size; k++) {
+	    sValue += row.coeffs[k] * value[row.vars[k]];
+	}
+	value[s] = sValue;
+	basicRow[s] = rows.size();
+	rows.add(row);
+
+	constraintIndex.put(s, constraints.size());
+	constraints.add(constraint);
+	additionalVariables.add(s);
+	upperBounds.add(bound);
+	strictBounds.add(strict);
+    }
+
+    /**
+     * Removes the lastly added constraint. Its additional variable is made basic and
+     * its row is dropped afterwards.
+     */
+    public void removeConstraint() {
+	int index = constraints.size() - 1;
+	SingleConstraint constraint = constraints.remove(index);
+	int s = additionalVariables.remove(index);
+	upperBounds.remove(index);
+	strictBounds.remove(index);
+	constraintIndex.remove(s);
+
+	if (constraints.isEmpty()) {
+	    clear();
+	    return;
+	}
+
+	if (basicRow[s] < 0) {
+	    // pivot on the largest coefficient of s
+	    int pivotRow = -1;
+	    double max = 0.;
+	    for (int i = 0; i < rows.size(); i++) {
+		double coeff = Math.abs(rows.get(i).get(s));
+		if (coeff > max) {
+		    max = coeff;
+		    pivotRow = i;
+		}
+	    }
+	    if (pivotRow >= 0)
+		pivot(pivotRow, s);
+	}
+	if (basicRow[s] >= 0) {
+	    int row = basicRow[s];
+	    Row last = rows.remove(rows.size() - 1);
+	    if (row < rows.size()) {
+		rows.set(row, last);
+		basicRow[last.basic] = row;
+	    }
+	}
+	basicRow[s] = -1;
+	freeIds[freeIdCount++] = s;
+
+	for (Monomial monomial : ((NumericConstraint) constraint).getPolynomial().getMonomials()) {
+	    uses[problemVariableIds.get(monomial.getVariables().iterator().next())]--;
+	}
+    }
+
+    /**
+     * Checks the linear relaxation of the constraints by Bland's rule.
+     * @return the verified result.
+     */
+    public Result check() {
+	witness = null;
+	int maxPivots = MAX_PIVOTS_PER_ROW * (rows.size() + 1);
+	for (int pivots = 0; ; pivots++) {
+	    /*
+	     * Find the violating basic variable with the smallest id.
+	     */
+	    int violatingRow = -1;
+	    for (int i = 0; i < rows.size(); i++) {
+		int basic = rows.get(i).basic;
+		if ((value[basic] < lower[basic] - FEASIBILITY_TOLERANCE || value[basic] > upper[basic] + FEASIBILITY_TOLERANCE)
+			&& (violatingRow == -1 || basic < rows.get(violatingRow).basic)) {
+		    violatingRow = i;
+		}
+	    }
+	    if (violatingRow == -1)
+		return verifyAssignment();
+	    if (pivots >= maxPivots)
+		return Result.UNKNOWN;
+
+	    /*
+	     * Find the suitable non-basic variable with the smallest id.
+	     */
+	    Row row = rows.get(violatingRow);
+	    int basic = row.basic;
+	    boolean belowLower = value[basic] < lower[basic];
+	    double target = belowLower ? lower[basic] : upper[basic];
+	    int entering = -1;
+	    double enteringCoeff = 0.;
+	    for (int k = 0; k < row.size; k++) {
+		int var = row.vars[k];
+		double coeff = row.coeffs[k];
+		if (Math.abs(coeff) <= PIVOT_TOLERANCE || (entering != -1 && var > entering))
+		    continue;
+		boolean increase = belowLower == (coeff > 0.);
+		if (increase ? value[var] < upper[var] : value[var] > lower[var]) {
+		    entering = var;
+		    enteringCoeff = coeff;
+		}
+	    }
+	    if (entering == -1)
+		return verifyConflict(row, belowLower);
+
+	    /*
+	     * Update the assignment and pivot.
+	     */
+	    double theta = (target - value[basic]) / enteringCoeff;
+	    value[entering] += theta;
+	    for (Row other : rows) {
+		double coeff = other.get(entering);
+		if (coeff != 0.)
+		    value[other.basic] += coeff * theta;
+	    }
+	    value[basic] = target;
+	    pivot(violatingRow, entering);
+	}
+    }
+
+    /**
+     * @return the verified solution found by the last check, or <i>null</i> if the last
+     * check did not find any.
+     */
+    public Solution getWitness() {
+	return witness;
+    }
+
+    /**
+     * Rounds the current assignment of the problem variables and verifies that it
+     * satisfies each constraint exactly. Integer variables are rounded to integers,
+     * others to the closest fraction with a small denominator.
+     * @return {@link Result#SATISFIABLE} if it does, {@link Result#UNKNOWN} otherwise.
+     */
+    private Result verifyAssignment() {
+	HashMap<NumericVariable, NumberWrapper> assignment = new HashMap<NumericVariable, NumberWrapper>();
+	for (Map.Entry<NumericVariable, Integer> entry : problemVariableIds.entrySet()) {
+	    int id = entry.getValue();
+	    if (uses[id] == 0)
+		continue;
+	    NumericVariable var = entry.getKey();
+	    if (Double.isNaN(value[id]) || Double.isInfinite(value[id]))
+		return Result.UNKNOWN;
+	    NumberWrapper varValue = var.isInteger() ? null : rationalize(value[id]);
+	    if (varValue == null)
+		varValue = new Fraction(var.isInteger() ? Math.rint(value[id]) : value[id]);
+	    assignment.put(var, varValue);
+	}
+
+	try {
+	    for (SingleConstraint constraint : constraints) {
+		NumberWrapper result = ((NumericConstraint) constraint).getPolynomial().computeValue(assignment);
+		if (result == null)
+		    result = Fraction.ZERO;
+		boolean satisfied;
+		if (constraint.isEquation())
+		    satisfied = result.isZero();
+		else if (constraint.isStrictInequation())
+		    satisfied = result.isLessThanZero();
+		else
+		    satisfied = result.isLessOrEqualZero();
+		if (!satisfied)
+		    return Result.UNKNOWN;
+	    }
+	} catch (IncompleteSolutionException e) {
+	    return Result.UNKNOWN;
+	}
+
+	witness = new Solution();
+	for (Map.Entry<NumericVariable, NumberWrapper> entry : assignment.entrySet()) {
+	    witness.addBinding(entry.getKey(), entry.getValue().toNumericConstant(entry.getKey().getType()));
+	}
+	return Result.SATISFIABLE;
+    }
+
+    /**
+     * Verifies that the bounds of the variables of a row that cannot be repaired
+     * contradict each other. The row s = sum a_j * s_j is rebuilt exactly from the
+     * constraints with rationalized multipliers a_j; if the linear parts cancel out,
+     * the bounds of the s_j limit the sum to values outside of the bounds of s.
+     * @param row the conflicting row.
+     * @param belowLower whether the basic variable is below its lower bound.
+     * @return {@link Result#UNSATISFIABLE} if verified, {@link Result#UNKNOWN} otherwise.
+     */
+    private Result verifyConflict(Row row, boolean belowLower) {
+	Integer basicIndex = constraintIndex.get(row.basic);
+	if (basicIndex == null)
+	    return Result.UNKNOWN;
+	HashMap<NumericVariable, NumberWrapper> combination = new HashMap<NumericVariable, NumberWrapper>();
+	addLinearPart(combination, basicIndex, Fraction.ONE);
+
+	NumberWrapper sum = Fraction.ZERO;
+	boolean strict = false;
+	for (int k = 0; k < row.size; k++) {
+	    Integer index = constraintIndex.get(row.vars[k]);
+	    if (index == null)
+		// problem variables have to cancel out
+		continue;
+	    NumberWrapper multiplier = rationalize(row.coeffs[k]);
+	    if (multiplier == null)
+		return Result.UNKNOWN;
+	    if (multiplier.isZero())
+		continue;
+	    addLinearPart(combination, index, multiplier.negate());
+
+	    // the sum is bounded by the upper bound of s_j if it is increased by s_j
+	    boolean useUpper = belowLower == multiplier.isGreaterThanZero();
+	    if (!useUpper && !constraints.get(index).isEquation())
+		return Result.UNKNOWN;
+	    sum = sum.add(multiplier.mult(upperBounds.get(index)));
+	    if (useUpper && strictBounds.get(index))
+		strict = true;
+	}
+
+	for (NumberWrapper coeff : combination.values()) {
+	    if (!coeff.isZero())
+		return Result.UNKNOWN;
+	}
+
+	NumberWrapper bound = upperBounds.get(basicIndex);
+	if (belowLower) {
+	    if (!constraints.get(basicIndex).isEquation())
+		return Result.UNKNOWN;
+	    if (sum.lessThan(bound) || (strict && sum.equals(bound)))
+		return Result.UNSATISFIABLE;
+	} else {
+	    strict |= strictBounds.get(basicIndex);
+	    if (sum.greaterThan(bound) || (strict && sum.equals(bound)))
+		return Result.UNSATISFIABLE;
+	}
+	return Result.UNKNOWN;
+    }
+
+    /**
+     * Adds the linear part of a constraint multiplied by a factor to a combination.
+     * @param combination the coefficients of the combination.
+     * @param index the index of the constraint.
+     * @param factor the factor.
+     */
+    private void addLinearPart(HashMap<NumericVariable, NumberWrapper> combination, int index, NumberWrapper factor) {
+	Polynomial poly = ((NumericConstraint) constraints.get(index)).getPolynomial();
+	for (Monomial monomial : poly.getMonomials()) {
+	    NumericVariable var = monomial.getVariables().iterator().next();
+	    NumberWrapper coeff = toFraction(poly.getCoefficient(monomial)).mult(factor);
+	    NumberWrapper old = combination.get(var);
+	    combination.put(var, old == null ? coeff : old.add(coeff));
+	}
+    }
+
+    /**
+     * Pivots a non-basic variable into the basis.
+     * @param rowIndex the row of the leaving basic variable.
+     * @param entering the entering non-basic variable.
+     */
+    private void pivot(int rowIndex, int entering) {
+	Row row = rows.get(rowIndex);
+	int leaving = row.basic;
+
+	// b = a*e + rest  =>  e = b/a - rest/a
+	double coeff = row.get(entering);
+	row.remove(entering);
+	for (int k = 0; k < row.size; k++) {
+	    row.coeffs[k] = -row.coeffs[k] / coeff;
+	}
+	row.set(leaving, 1. / coeff);
+	row.basic = entering;
+	basicRow[entering] = rowIndex;
+	basicRow[leaving] = -1;
+
+	// substitute e in the other rows
+	for (Row other : rows) {
+	    if (other == row)
+		continue;
+	    double factor = other.get(entering);
+	    if (factor != 0.) {
+		other.remove(entering);
+		other.addMultiple(row, factor);
+	    }
+	}
+    }
+
+    /**
+     * Gets the id of a problem variable, adding it as a non-basic variable if needed.
+     * @param var the problem variable.
+     * @return its id.
+     */
+    private int getProblemVariableId(NumericVariable var) {
+	Integer id = problemVariableIds.get(var);
+	if (id == null) {
+	    id = newVariable(var);
+	    lower[id] = Double.NEGATIVE_INFINITY;
+	    upper[id] = Double.POSITIVE_INFINITY;
+	    problemVariableIds.put(var, id);
+	}
+	return id;
+    }
+
+    /**
+     * Allocates a new non-basic variable with value 0.
+     * @param var the problem variable, <i>null</i> for an additional variable.
+     * @return its id.
+     */
+    private int newVariable(NumericVariable var) {
+	int id;
+	if (var == null && freeIdCount > 0) {
+	    id = freeIds[--freeIdCount];
+	} else {
+	    id = variableCount++;
+	    if (id == value.length) {
+		int length = 2 * id;
+		lower = Arrays.copyOf(lower, length);
+		upper = Arrays.copyOf(upper, length);
+		value = Arrays.copyOf(value, length);
+		basicRow = Arrays.copyOf(basicRow, length);
+		uses = Arrays.copyOf(uses, length);
+		freeIds = Arrays.copyOf(freeIds, length);
+	    }
+	}
+	value[id] = 0.;
+	basicRow[id] = -1;
+	uses[id] = 0;
+	return id;
+    }
+
+    /**
+     * Drops all variables and rows once there are no constraints left.
+     */
+    private void clear() {
+	rows.clear();
+	problemVariableIds.clear();
+	variableCount = 0;
+	freeIdCount = 0;
+    }
+
+    /**
+     * Converts a number to a fraction.
+     * @param number the number.
+     * @return the number as a fraction.
+     */
+    private static NumberWrapper toFraction(NumberWrapper number) {
+	if (number instanceof Fraction)
+	    return number;
+	return new Fraction(number.doubleValue());
+    }
+
+    /**
+     * Finds the fraction with the smallest denominator approximating a double by
+     * continued fractions.
+     * @param x the double.
+     * @return the fraction, or <i>null</i> if there is none with a denominator up to
+     * {@link #MAX_DENOMINATOR}.
+     */
+    private static NumberWrapper rationalize(double x) {
+	double abs = Math.abs(x);
+	if (Double.isNaN(x) || Double.isInfinite(x) || abs >= Long.MAX_VALUE / MAX_DENOMINATOR)
+	    return null;
+	long h0 = 0, h1 = 1, k0 = 1, k1 = 0;
+	double rest = abs;
+	for (int i = 0; i < 64; i++) {
+	    long q = (long) Math.floor(rest);
+	    long h2 = q * h1 + h0;
+	    long k2 = q * k1 + k0;
+	    if (k2 > MAX_DENOMINATOR)
+		return null;
+	    h0 = h1; h1 = h2;
+	    k0 = k1; k1 = k2;
+	    if (Math.abs(abs - (double) h1 / k1) <= FEASIBILITY_TOLERANCE * Math.max(1., abs)) {
+		BigInteger numerator = BigInteger.valueOf(x < 0 ? -h1 : h1);
+		return new Fraction(numerator, BigInteger.valueOf(k1));
+	    }
+	    double fractionalPart = rest - q;
+	    if (fractionalPart <= 0.)
+		return null;
+	    rest = 1. / fractionalPart;
+	}
+	return null;
+    }
+
+    @Override
+    public String toString() {
+	StringBuffer string = new StringBuffer();
+	for (Row row : rows) {
+	    string.append(row.basic + "=" + value[row.basic] + ":");
+	    for (int k = 0; k < row.size; k++) {
+		string.append(" " + row.coeffs[k] + "*" + row.vars[k]);
+	    }
+	    string.append("\n");
+	}
+	return string.toString();
+    }
+
+    /**
+     * A sparse row expressing a basic variable by non-basic variables.
+     */
+    private static final class Row {
+
+	/**
+	 * The basic variable.
+	 */
+	int basic;
+
+	/**
+	 * The non-basic variables and their coefficients.
+	 */
+	int[] vars = new int[4];
+	double[] coeffs = new double[4];
+	int size;
+
+	/**
+	 * Creates an empty row.
+	 * @param basic the basic variable.
+	 */
+	Row(int basic) {
+	    this.basic = basic;
+	}
+
+	/**
+	 * @param var the variable.
+	 * @return its coefficient.
+	 */
+	double get(int var) {
+	    for (int k = 0; k < size; k++) {
+		if (vars[k] == var)
+		    return coeffs[k];
+	    }
+	    return 0.;
+	}
+
+	/**
+	 * Sets a coefficient, dropping it if it is about zero.
+	 * @param var the variable.
+	 * @param coeff the coefficient.
+	 */
+	void set(int var, double coeff) {
+	    if (Math.abs(coeff) <= DROP_TOLERANCE) {
+		remove(var);
+		return;
+	    }
+	    for (int k = 0; k < size; k++) {
+		if (vars[k] == var) {
+		    coeffs[k] = coeff;
+		    return;
+		}
+	    }
+	    if (size == vars.length) {
+		vars = Arrays.copyOf(vars, 2 * size);
+		coeffs = Arrays.copyOf(coeffs, 2 * size);
+	    }
+	    vars[size] = var;
+	    coeffs[size] = coeff;
+	    size++;
+	}
+
+	/**
+	 * Removes a coefficient.
+	 * @param var the variable.
+	 */
+	void remove(int var) {
+	    for (int k = 0; k < size; k++) {
+		if (vars[k] == var) {
+		    size--;
+		    vars[k] = vars[size];
+		    coeffs[k] = coeffs[size];
+		    return;
+		}
+	    }
+	}
+
+	/**
+	 * Adds a multiple of another row.
+	 * @param other the other row.
+	 * @param factor the factor.
+	 */
+	void addMultiple(Row other, double factor) {
+	    for (int k = 0; k < other.size; k++) {
+		set(other.vars[k], get(other.vars[k]) + factor * other.coeffs[k]);
+	    }
+	}
+    }
+
+}
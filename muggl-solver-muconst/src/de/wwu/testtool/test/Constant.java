@@ -0,0 +1,7 @@
+package de.wwu.testtool.test;
+
+/**
+ * The type of the coefficients of the generated problems.
+ * @see DiplomaThesisProblems
+ */
+public enum Constant {INT, DOUBLE}
@@ -20,11 +20,6 @@ import de.wwu.muggl.solvers.solver.constraints.SingleConstraint;
 import de.wwu.muggl.solvers.solver.constraints.SingleConstraintSet;
 import de.wwu.muggl.solvers.solver.tools.SubstitutionTable;
 
-// not made to inner classes of DiplomaThesisProblems out of convenience 
-enum Variable {INT, DOUBLE};
-enum Constant {INT, DOUBLE};
-enum IneqType {WEAK, STRICT}
-
 public class DiplomaThesisProblems {
     // randomly generated constraints need to use the same variables
     private ArrayList<NumericVariable> doubleVariables = new ArrayList<NumericVariable>(); 
@@ -125,6 +120,18 @@ public class DiplomaThesisProblems {
      * @return
      */
     private SingleConstraint getRandomLinearConstraint(Constant constType, Variable varType, IneqType ineqType, int length){
+	return toSingleConstraint(getRandomLinearConstraintExpression(constType, varType, ineqType, length));
+    }
+    
+    /**
+     * Produces a random linear constraint expression according to the options.
+     * @param constType the type of the coefficients
+     * @param varType the type of the variables
+     * @param ineqType the type of the inequation
+     * @param length the length of the linear term in the constraint
+     * @return
+     */
+    private ConstraintExpression getRandomLinearConstraintExpression(Constant constType, Variable varType, IneqType ineqType, int length){
 	if (length < 0) throw new ArrayIndexOutOfBoundsException("Only positive length supported.");
 	
 	Term term = getRandomConstant(constType);
@@ -144,8 +151,7 @@ public class DiplomaThesisProblems {
 	    ce = null;
 	}
 	
-	SingleConstraint sc = toSingleConstraint(ce);
-	return sc;
+	return ce;
     }
     
     /**
@@ -166,6 +172,26 @@ public class DiplomaThesisProblems {
 	return set;
     }
 
+    /**
+     * Random Linear Arithmetic Problem as constraint expressions, e.g. to be added
+     * to a solver manager one by one. The constraints are the same as those of
+     * getRandomSingleConstraintSetProblem for the same arguments.
+     * @return
+     */
+    public ArrayList<ConstraintExpression> getRandomConstraintExpressionProblem(Constant constType, Variable varType, IneqType ineqType ){
+	int count = RANDOM_CONSTRAINT_COUNT;
+	int length = RANDOM_CONSTRAINT_LENGTH;
+	
+	// reset generator to have reproducible results
+	generator = new Random(RANDOM_SEED);
+	
+	ArrayList<ConstraintExpression> expressions = new ArrayList<ConstraintExpression>();
+	for (int i = 0; i < count; ++i){
+	    expressions.add( getRandomLinearConstraintExpression(constType, varType, ineqType, length) );
+	}
+	return expressions;
+    }
+
     /**
      * The running example.
      * y <= x+3
@@ -0,0 +1,7 @@
+package de.wwu.testtool.test;
+
+/**
+ * The type of the inequations of the generated problems.
+ * @see DiplomaThesisProblems
+ */
+public enum IneqType {WEAK, STRICT}
@@ -0,0 +1,7 @@
+package de.wwu.testtool.test;
+
+/**
+ * The type of the variables of the generated problems.
+ * @see DiplomaThesisProblems
+ */
+public enum Variable {INT, DOUBLE}
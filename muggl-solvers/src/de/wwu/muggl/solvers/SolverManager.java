@@ -64,7 +64,13 @@ public interface SolverManager {
 
     public void reset();
 
-    public void finalize() throws Throwable;
+    /**
+     * Shuts the solver manager down once it is not needed anymore, e.g. to write
+     * and close the logs of the solvers. It has to be invoked explicitly, as it is
+     * not invoked by the garbage collector.
+     * @throws Throwable if shutting down fails.
+     */
+    public void shutdown() throws Throwable;
     
     /**
      * TODOME: put this into listeners.
@@ -6,6 +6,7 @@ import java.util.Set;
 
 import javax.xml.xpath.XPathExpressionException;
 
+import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
 import de.wwu.muggl.solvers.solver.SolverInfo;
@@ -20,6 +21,23 @@ public class SolverManagerConfig{
 
     private static SolverManagerConfig instance;
 
+    /**
+     * The default maximum number of backtracks of the bounded labeling search of the JaCoP
+     * solver manager.
+     */
+    public static final long DEFAULT_JACOP_LABELING_BACKTRACKS = 1000L;
+
+    /**
+     * The default minimum number of constraint sets of a constraint system that have to be
+     * solved before they are solved in parallel.
+     */
+    public static final int DEFAULT_PARALLEL_COMPONENTS_THRESHOLD = 2;
+
+    /**
+     * The default maximum number of solutions of single constraint sets that are cached.
+     */
+    public static final int DEFAULT_COMPONENT_CACHE_SIZE = 256;
+
     public static SolverManagerConfig getInstance(){
 	if (instance == null)
 	    instance = new SolverManagerConfig();
@@ -31,10 +49,30 @@ public class SolverManagerConfig{
     
     protected boolean precalculateSolutions;
     
+    protected boolean jacopLabeling;
+    protected long jacopLabelingBacktracks;
+
+    protected boolean parallelComponents;
+    protected int parallelComponentsThreshold;
+    protected int componentCacheSize;
+    
     private SolverManagerConfig(){
 	ConfigReader configReader = ConfigReader.getInstance();
 	try{	    
 	    precalculateSolutions = configReader.getTextContent("//TesttoolConfiguration/SolverSystem/General/SolutionPreCalculation/@enabled").equalsIgnoreCase("yes");
+	    Node jacopLabelingNode = configReader.getNode("//TesttoolConfiguration/SolverSystem/General/JaCoPLabeling");
+	    jacopLabeling = jacopLabelingNode != null && configReader.getTextContent("@enabled", jacopLabelingNode).equalsIgnoreCase("yes");
+	    jacopLabelingBacktracks = DEFAULT_JACOP_LABELING_BACKTRACKS;
+	    if (jacopLabelingNode != null && configReader.getNode("@backtracks", jacopLabelingNode) != null)
+		jacopLabelingBacktracks = Long.parseLong(configReader.getTextContent("@backtracks", jacopLabelingNode));
+	    Node parallelComponentsNode = configReader.getNode("//TesttoolConfiguration/SolverSystem/General/ParallelComponents");
+	    parallelComponents = parallelComponentsNode != null && configReader.getTextContent("@enabled", parallelComponentsNode).equalsIgnoreCase("yes");
+	    parallelComponentsThreshold = DEFAULT_PARALLEL_COMPONENTS_THRESHOLD;
+	    componentCacheSize = DEFAULT_COMPONENT_CACHE_SIZE;
+	    if (parallelComponentsNode != null && configReader.getNode("@threshold", parallelComponentsNode) != null)
+		parallelComponentsThreshold = Integer.parseInt(configReader.getTextContent("@threshold", parallelComponentsNode));
+	    if (parallelComponentsNode != null && configReader.getNode("@cacheSize", parallelComponentsNode) != null)
+		componentCacheSize = Integer.parseInt(configReader.getTextContent("@cacheSize", parallelComponentsNode));
 	    listenerNames = configReader.getTextContents("//TesttoolConfiguration/SolverSystem/General/SolverManagerListener[attribute::enabled='yes']/@class");
 	    
 	    
@@ -124,4 +162,40 @@ public class SolverManagerConfig{
     }
 
     public boolean getPrecalculateSolutions() { return precalculateSolutions; }
+
+    /**
+     * Returns whether the JaCoP solver manager decides hasSolution() by a bounded labeling
+     * search instead of propagation only.
+     * @return true if bounded labeling is enabled.
+     */
+    public boolean getJaCoPLabeling() { return jacopLabeling; }
+
+    /**
+     * Returns the maximum number of backtracks of the bounded labeling search of the JaCoP
+     * solver manager. If it is reached, the constraint system is assumed to be satisfiable.
+     * @return the maximum number of backtracks.
+     */
+    public long getJaCoPLabelingBacktracks() { return jacopLabelingBacktracks; }
+
+    /**
+     * Returns whether the variable-disjoint constraint sets of a constraint system are solved
+     * in parallel.
+     * @return true if the constraint sets are solved in parallel.
+     */
+    public boolean getParallelComponents() { return parallelComponents; }
+
+    /**
+     * Returns the minimum number of constraint sets of a constraint system that have to be
+     * solved by a solver before they are solved in parallel. Sets consisting of a single
+     * assignment or having a cached solution are not counted.
+     * @return the minimum number of constraint sets.
+     */
+    public int getParallelComponentsThreshold() { return parallelComponentsThreshold; }
+
+    /**
+     * Returns the maximum number of solutions of single constraint sets that are cached by the
+     * solver manager. Zero disables the cache.
+     * @return the maximum number of cached solutions.
+     */
+    public int getComponentCacheSize() { return componentCacheSize; }
 }
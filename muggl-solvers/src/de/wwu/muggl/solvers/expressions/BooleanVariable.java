@@ -19,6 +19,14 @@ public class BooleanVariable extends SingleConstraintExpression implements Varia
 
     protected static int internalIDcounter = 0;
 
+    /**
+     * Returns the next internal id in a thread safe way.
+     * @return the next internal id.
+     */
+    protected static synchronized int nextInternalID(){
+	return internalIDcounter++;
+    }
+
     protected int internalID;
 
     /**
@@ -32,7 +40,7 @@ public class BooleanVariable extends SingleConstraintExpression implements Varia
      */
     public BooleanVariable(String name) {
 	this.name = name;
-	internalID = internalIDcounter++;
+	internalID = nextInternalID();
     }
 
     /**
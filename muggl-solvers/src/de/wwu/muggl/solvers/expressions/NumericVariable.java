@@ -28,6 +28,16 @@ public class NumericVariable extends Term implements Variable, Comparable<Variab
 
     protected static int internalIDcounter;
 
+    /**
+     * Returns the next internal id. Variables may be created by several
+     * symbolic virtual machines running in parallel, so the counter is
+     * increased atomically.
+     * @return the next internal id.
+     */
+    protected static synchronized int nextInternalID(){
+	return internalIDcounter++;
+    }
+
     protected static String internalVariablesNamePostfix;
     protected static String internalVariablesNamePrefix;
 
@@ -43,7 +53,7 @@ public class NumericVariable extends Term implements Variable, Comparable<Variab
      * @param type the type the new internal variable should have.
      * @return the new internal variable.
      */
-    public static NumericVariable createInternalVariable(byte type){
+    public static synchronized NumericVariable createInternalVariable(byte type){
 	return new NumericVariable(internalVariablesNamePrefix + (counter++) + internalVariablesNamePostfix, type, true);
     }
 
@@ -94,7 +104,7 @@ public class NumericVariable extends Term implements Variable, Comparable<Variab
 	    throw new IllegalArgumentException("Type boolean is not allowed for NumericVariables");
 	this.name = name;
 	this.type = type;
-	this.internalID = internalIDcounter++;
+	this.internalID = nextInternalID();
 	this.isInternal = isInternal;
     }
 
@@ -123,7 +133,7 @@ public class NumericVariable extends Term implements Variable, Comparable<Variab
 	    throw new IllegalArgumentException("Type boolean is not allowed for NumericVariables");
 	this.name = name;
 	this.isInternal = isInternal;
-	this.internalID = internalIDcounter++;
+	this.internalID = nextInternalID();
 	if (type.equalsIgnoreCase("byte"))
 	    this.type = Expression.BYTE;
 	if (type.equalsIgnoreCase("short"))
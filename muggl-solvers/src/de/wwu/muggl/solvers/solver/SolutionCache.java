@@ -3,12 +3,31 @@ package de.wwu.muggl.solvers.solver;
 import java.util.TreeSet;
 
 import de.wwu.muggl.solvers.Solution;
+import de.wwu.muggl.solvers.exceptions.IncompleteSolutionException;
 import de.wwu.muggl.solvers.expressions.Variable;
 import de.wwu.muggl.solvers.solver.constraints.ConstraintStackElement;
-
+import de.wwu.muggl.solvers.solver.constraints.ConstraintSystem;
+
+/**
+ * Cache of the solutions of the systems of constraints of a ConstraintStackElement,
+ * indexed like the systems of the element.
+ * <br>
+ * Besides the solutions registered for an element, the model of the parent system
+ * is reused if it already satisfies the constraints added by the element: during
+ * depth first exploration, most branch conditions are satisfied by the model of the
+ * path leading to them, so no solver has to be invoked for them. The numbers of
+ * lookups answered and not answered are counted per cache.
+ */
 @SuppressWarnings("all")
 public class SolutionCache{
 
+    /**
+     * The number of lookups answered by the cache and the number of lookups that
+     * were not.
+     */
+    private long hits;
+    private long misses;
+
     static class CacheElement implements Comparable<CacheElement>{
 
 	protected int index;
@@ -59,7 +78,95 @@ public class SolutionCache{
 	return "SolutionCache" + elements.toString();
     }
 
+    /**
+     * Returns the solution of the system of constraints with the index <i>idx</i>
+     * if one is known. This is either a solution registered for the system, or the
+     * solution of the parent system if it satisfies the constraints added by the
+     * stack element. Solution.NOSOLUTION is returned if the parent system is known
+     * to have no solution.
+     * @param idx the index of the system of constraints.
+     * @return the known solution, Solution.NOSOLUTION, or <i>null</i> if no solution
+     * is known.
+     */
     public Solution getSolution(int idx){
-	return null;
+	Solution solution = lookup(idx);
+	if (solution == null)
+	    misses++;
+	else
+	    hits++;
+	return solution;
+    }
+
+    /**
+     * Looks up the solution of the system of constraints with the index <i>idx</i>
+     * without counting the lookup.
+     * @param idx the index of the system of constraints.
+     * @return the known solution, Solution.NOSOLUTION, or <i>null</i> if no solution
+     * is known.
+     */
+    private Solution lookup(int idx){
+	CacheElement element = elements.floor(new CacheElement(idx, null));
+	if (element != null && element.index == idx)
+	    return element.solution;
+
+	// try to reuse the solution of the parent system
+	ConstraintStackElement pred = stackElement.getPredecessor();
+	if (pred == null)
+	    return null;
+	int nodeSystemCount = stackElement.getNodeSystemCount();
+	int predIdx = idx / nodeSystemCount;
+	Solution predSolution;
+	if (predIdx < pred.getFirstNoncontradictorySystemIndex())
+	    predSolution = Solution.NOSOLUTION;
+	else
+	    predSolution = pred.getSolutionCache().lookup(predIdx);
+	if (predSolution == null || predSolution.equals(Solution.NOSOLUTION))
+	    return predSolution;
+	if (!satisfiesNodeSystem(predSolution, idx % nodeSystemCount))
+	    return null;
+
+	// the parent solution binds all variables of this system, so it can be cached as is
+	elements.add(new CacheElement(idx, predSolution));
+	return predSolution;
+    }
+
+    /**
+     * Checks whether a solution satisfies the constraints added by the stack
+     * element, i.e. the system with the index <i>nodeSystemIdx</i> is validated.
+     * The expression of the element is not evaluated instead, as solver managers
+     * may push a placeholder expression together with the composed constraint.
+     * @param solution the solution to check.
+     * @param nodeSystemIdx the index of the system of constraints of the element.
+     * @return <i>true</i> if the solution satisfies the constraints, <i>false</i>
+     * if it does not or if it does not bind all of their variables.
+     */
+    private boolean satisfiesNodeSystem(Solution solution, int nodeSystemIdx){
+	ConstraintSystem system = stackElement.getNodeSystem(nodeSystemIdx);
+	if (system.isContradictory())
+	    return false;
+	try {
+	    for (int i = 0; i < system.getConstraintSetCount(); i++)
+		if (!system.getConstraintSet(i).validateSolution(solution))
+		    return false;
+	} catch (IncompleteSolutionException ise){
+	    return false;
+	}
+	return true;
+    }
+
+    /**
+     * Returns the number of lookups answered by the cache.
+     * @return the number of cache hits.
+     */
+    public long getHits(){
+	return hits;
+    }
+
+    /**
+     * Returns the number of lookups not answered by the cache.
+     * @return the number of cache misses.
+     */
+    public long getMisses(){
+	return misses;
     }
 }
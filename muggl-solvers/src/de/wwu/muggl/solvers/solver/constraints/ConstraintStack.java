@@ -15,6 +15,7 @@ import de.wwu.muggl.solvers.conf.TesttoolConfig;
 import de.wwu.muggl.solvers.expressions.BooleanConstant;
 import de.wwu.muggl.solvers.expressions.ConstraintExpression;
 import de.wwu.muggl.solvers.expressions.Variable;
+import de.wwu.muggl.solvers.solver.SolutionCache;
 
 /**
  * TODOME: doc!
@@ -48,6 +49,13 @@ public class ConstraintStack {
      */
     protected ConstraintStackElement top;
 
+    /**
+     * The numbers of lookups answered and not answered by the solution caches of
+     * the elements already removed from the stack.
+     */
+    protected long removedSolutionCacheHits;
+    protected long removedSolutionCacheMisses;
+
     /**
      * Creates a new, emtpy Constraint stack.
      */
@@ -85,7 +93,8 @@ public class ConstraintStack {
     			bottom.transformNodeSystems(transformer);
     		top = bottom;
     	} else {
-    		if (containsExpression(ce))
+    		// BooleanConstant.TRUE is passed as a placeholder by solver managers only adding composed constraints
+    		if (ce != BooleanConstant.TRUE && containsExpression(ce))
     			top.next = new ConstraintStackElement(BooleanConstant.TRUE, BooleanConstant.TRUE, top);
     		else
     			top.next = new ConstraintStackElement(ce, cc, top);
@@ -212,6 +221,30 @@ public class ConstraintStack {
 	return result;
     }
 
+    /**
+     * Returns the number of lookups answered by the solution caches of the
+     * elements of this stack, including the elements removed from it.
+     * @return the number of cache hits.
+     */
+    public long getSolutionCacheHits(){
+	long hits = removedSolutionCacheHits;
+	for (ConstraintStackElement current = bottom; current != null; current = current.next)
+	    hits += current.getSolutionCache().getHits();
+	return hits;
+    }
+
+    /**
+     * Returns the number of lookups not answered by the solution caches of the
+     * elements of this stack, including the elements removed from it.
+     * @return the number of cache misses.
+     */
+    public long getSolutionCacheMisses(){
+	long misses = removedSolutionCacheMisses;
+	for (ConstraintStackElement current = bottom; current != null; current = current.next)
+	    misses += current.getSolutionCache().getMisses();
+	return misses;
+    }
+
     /**
      * Returns the number of disjunctive associated systems of constraints in the
      * disjunctive normal form of the constraints contained in this stach.
@@ -256,6 +289,7 @@ public class ConstraintStack {
 		    current = current.next;
 		}
 	    }
+	    solverLogger.debug("solution cache hits: " + getSolutionCacheHits() + ", misses: " + getSolutionCacheMisses());
 	}
     }
 
@@ -263,6 +297,9 @@ public class ConstraintStack {
      * Removes the lastly added constraint from the stack.
      */
     public void removeConstraint(){
+	SolutionCache solutionCache = top.getSolutionCache();
+	removedSolutionCacheHits += solutionCache.getHits();
+	removedSolutionCacheMisses += solutionCache.getMisses();
 	if (top.pred == null){
 	    bottom = null;
 	    top = null;
@@ -146,6 +146,32 @@ public class ConstraintStackElement{
 	return nodeSystems.length;
     }
 
+    /**
+     * Returns the expression the constraints of this element have been built from.
+     * @return the expression of this element.
+     */
+    public ConstraintExpression getExpression(){
+	return expression;
+    }
+
+    /**
+     * Returns the previously added element of the constraint stack.
+     * @return the previously added element or <i>null</i> if this element is the
+     * bottom of the stack.
+     */
+    public ConstraintStackElement getPredecessor(){
+	return pred;
+    }
+
+    /**
+     * Returns the cache of the solutions of the systems of constraints of this
+     * element.
+     * @return the solution cache of this element.
+     */
+    public SolutionCache getSolutionCache(){
+	return solutionCache;
+    }
+
     /**
      * Returns the solution registered to be a solution of the system of
      * constraints specified by the index <i>idx</i> if one was registered or
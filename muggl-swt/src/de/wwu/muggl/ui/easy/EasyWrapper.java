@@ -2,7 +2,6 @@ package de.wwu.muggl.ui.easy;
 
 import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.IOException;
@@ -82,8 +81,7 @@ public final class EasyWrapper extends Thread {
 		// Set up class loader and load the class file.
 		this.classLoader = new MugglClassLoader(StaticGuiSupport.arrayList2StringArray(Options.getInst().classPathEntries));
 		try {
-			this.initialClassFile = new ClassFile(this.classLoader, new FileInputStream(classFile),
-					new FileInputStream(classFile), classFile.length(), classFile.getPath());
+			this.initialClassFile = new ClassFile(this.classLoader, classFile);
 		} catch (ClassFileException e) {
 			throw new ClassFileException(
 					"The supplied class file seems to be broken. Parsing it was impossible.");
@@ -128,10 +126,12 @@ public final class EasyWrapper extends Thread {
 		} catch (ClassFileException e) {
 			this.errorMessage = "Parsing of a required class failed.";
 			this.errorOccured = true;
+			this.classLoader.close();
 			return;
 		} catch (InitializationException e) {
 			this.errorMessage = "Initializing a required object failed.";
 			this.errorOccured = true;
+			this.classLoader.close();
 			return;
 		}
 		
@@ -159,6 +159,9 @@ public final class EasyWrapper extends Thread {
 				// Do nothing.
 			}
 		}
+
+		// The class loader is not needed anymore. Its jar files are opened again if it is used.
+		this.classLoader.close();
 	}
 	
 	/**
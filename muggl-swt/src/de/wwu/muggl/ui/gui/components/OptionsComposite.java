@@ -129,6 +129,7 @@ public class OptionsComposite extends Composite {
 	private Combo iterativeDeepeningStartingDepthCombo;
 	private Label iterativeDeepeningDeepnessIncrementLabel;
 	private Combo iterativeDeepeningDeepnessIncrementCombo;
+	private Button bestFirstSearchButton;
 	Button multithreadingButton;
 	Combo numberOfSimultaneousThreadsCombo;
 	private Combo maximumLoopsCombo;
@@ -701,7 +702,6 @@ public class OptionsComposite extends Composite {
 		this.breadthFirstSearchButton = new Button(searchAlgorithmGroup, SWT.RADIO);
 		this.breadthFirstSearchButton.setText("&Breadth first");
 		this.breadthFirstSearchButton.setLayoutData(breadthFirstSearchButtonGridData);
-		this.breadthFirstSearchButton.setEnabled(false);
 
 		final GridData depthFirstSearchButtonGridData = new GridData();
 		depthFirstSearchButtonGridData.horizontalSpan = 4;
@@ -746,6 +746,13 @@ public class OptionsComposite extends Composite {
 		this.iterativeDeepeningDeepnessIncrementCombo.add("100");
 		this.iterativeDeepeningDeepnessIncrementCombo.add("200");
 
+		final GridData bestFirstSearchButtonGridData = new GridData();
+		bestFirstSearchButtonGridData.horizontalSpan = 4;
+
+		this.bestFirstSearchButton = new Button(searchAlgorithmGroup, SWT.RADIO);
+		this.bestFirstSearchButton.setText("Best first, &guided by the coverage");
+		this.bestFirstSearchButton.setLayoutData(bestFirstSearchButtonGridData);
+
 		final GridData searchAlgorithmNoteLabelGridData = new GridData();
 		searchAlgorithmNoteLabelGridData.horizontalSpan = 4;
 
@@ -1536,6 +1543,15 @@ public class OptionsComposite extends Composite {
 			}
 		});
 
+		this.bestFirstSearchButton.addSelectionListener(new SelectionListener() {
+			public void widgetDefaultSelected(SelectionEvent e) { }
+
+			public void widgetSelected(SelectionEvent e) {
+				somethingHasChanged();
+				setIterativeDeepeningSettingsStatus(false);
+			}
+		});
+
 		this.iterativeDeepeningStartingDepthCombo.addModifyListener(new SomethingHasChangedModifyListener());
 		this.iterativeDeepeningDeepnessIncrementCombo.addModifyListener(new SomethingHasChangedModifyListener());
 
@@ -1822,6 +1838,7 @@ public class OptionsComposite extends Composite {
 		this.breadthFirstSearchButton.addKeyListener(new EscKeyListener(parent));
 		this.depthFirstSearchButton.addKeyListener(new EscKeyListener(parent));
 		this.iterativeDeepeningButton.addKeyListener(new EscKeyListener(parent));
+		this.bestFirstSearchButton.addKeyListener(new EscKeyListener(parent));
 		this.iterativeDeepeningStartingDepthLabel.addKeyListener(new EscKeyListener(parent));
 		this.iterativeDeepeningStartingDepthCombo.addKeyListener(new EscKeyListener(parent));
 		this.iterativeDeepeningDeepnessIncrementLabel.addKeyListener(new EscKeyListener(parent));
@@ -2117,6 +2134,7 @@ public class OptionsComposite extends Composite {
 		this.breadthFirstSearchButton.setSelection(false);
 		this.depthFirstSearchButton.setSelection(false);
 		this.iterativeDeepeningButton.setSelection(false);
+		this.bestFirstSearchButton.setSelection(false);
 		setIterativeDeepeningSettingsStatus(false);
 		int symbolicSearchAlgorithm = options.searchAlgorithm;
 		if (symbolicSearchAlgorithm == 0) {
@@ -2125,6 +2143,9 @@ public class OptionsComposite extends Composite {
 		} else if (symbolicSearchAlgorithm == 1) {
 			this.depthFirstSearchButton.setSelection(true);
 			setIterativeDeepeningSettingsStatus(false);
+		} else if (symbolicSearchAlgorithm == 3) {
+			this.bestFirstSearchButton.setSelection(true);
+			setIterativeDeepeningSettingsStatus(false);
 		} else {
 			this.iterativeDeepeningButton.setSelection(true);
 			setIterativeDeepeningSettingsStatus(true);
@@ -2364,6 +2385,7 @@ public class OptionsComposite extends Composite {
 		// Save settings for the search algorithm.
 		if (this.breadthFirstSearchButton.getSelection()) options.searchAlgorithm = 0;
 		else if (this.depthFirstSearchButton.getSelection()) options.searchAlgorithm = 1;
+		else if (this.bestFirstSearchButton.getSelection()) options.searchAlgorithm = 3;
 		else {
 			options.searchAlgorithm = 2;
 			options.iterativeDeepeningStartingDepth = Integer.parseInt(this.iterativeDeepeningStartingDepthCombo.getText().replace(".", ""));
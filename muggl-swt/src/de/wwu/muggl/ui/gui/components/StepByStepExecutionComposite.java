@@ -1,9 +1,7 @@
 package de.wwu.muggl.ui.gui.components;
 
 import java.util.ArrayList;
-import java.util.ConcurrentModificationException;
 import java.util.Iterator;
-import java.util.Stack;
 
 import org.apache.log4j.Priority;
 import org.eclipse.swt.SWT;
@@ -1778,24 +1776,13 @@ public class StepByStepExecutionComposite extends Composite {
 	 * Display the elements of the current frames' operand stack.
 	 */
 	private void setOperandStack() {
-		try {
-			// Empty the list.
-			this.operandStackList.removeAll();
-			// Get and process the elements.
-			Stack<Object> operandStack = this.application.getVirtualMachine().getCurrentFrame().getOperandStack();
-			Iterator<Object> iterator = operandStack.iterator();
-			Object[] reversedOrder = new Object[operandStack.size()];
-			int a = operandStack.size() - 1;
-			while (iterator.hasNext()) {
-				reversedOrder[a] = iterator.next();
-				a--;
-			}
-			// Display them in reversed order, so the topmost element of the stack is actually the tompost element in the List.
-			for (a = 0; a < reversedOrder.length; a++) {
-				this.operandStackList.add(formatVMObject(reversedOrder[a]));
-			}
-		} catch (ConcurrentModificationException e) {
-			// This exception might occur when the automated execution of instruction is too fast. Just silently ignore it.
+		// Empty the list.
+		this.operandStackList.removeAll();
+		// Get and process the elements.
+		Object[] elements = this.application.getVirtualMachine().getCurrentFrame().getOperandStack().toArray();
+		// Display them in reversed order, so the topmost element of the stack is actually the tompost element in the List.
+		for (int a = elements.length - 1; a >= 0; a--) {
+			this.operandStackList.add(formatVMObject(elements[a]));
 		}
 	}
 
@@ -1806,17 +1793,10 @@ public class StepByStepExecutionComposite extends Composite {
 		// Empty the list.
 		this.virtualMachineStackList.removeAll();
 		// Get and process the elements.
-		Stack<Object> virtualMachineStack = this.application.getVirtualMachine().getStack();
-		Iterator<Object> iterator = virtualMachineStack.iterator();
-		Object[] reversedOrder = new Object[virtualMachineStack.size()];
-		int a = virtualMachineStack.size() - 1;
-		while (iterator.hasNext()) {
-			reversedOrder[a] = iterator.next();
-			a--;
-		}
+		Object[] elements = this.application.getVirtualMachine().getStack().toArray();
 		// Display them in reversed order, so the topmost element of the stack is actually the topmost element in the List.
-		for (a = 0; a < reversedOrder.length; a++) {
-			this.virtualMachineStackList.add(formatVMObject(reversedOrder[a]));
+		for (int a = elements.length - 1; a >= 0; a--) {
+			this.virtualMachineStackList.add(formatVMObject(elements[a]));
 		}
 	}
 